@@ -0,0 +1,393 @@
+/*
+ * Govinda ERP - camt.054 Reader
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.application;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.regex.Pattern;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import net.voytrex.govinda.billing.domain.model.IncomingPayment;
+import net.voytrex.govinda.common.domain.exception.BusinessRuleViolationException;
+import net.voytrex.govinda.common.domain.model.Rappen;
+import org.springframework.lang.Nullable;
+
+/**
+ * Streams the credit transactions of an ISO 20022 bank-to-customer
+ * debit/credit notification (camt.054) one at a time with StAX, so files of
+ * any size are read in constant memory.
+ *
+ * Elements are matched by local name, so the reader accepts the schema
+ * versions in use by Swiss banks (001.04 to 001.08). Every {@code TxDtls} of an
+ * entry is one payment; an entry without transaction details is one payment
+ * itself. Values missing on the transaction are taken from its entry. Debits
+ * are counted and skipped; invalid transactions are counted and skipped, and
+ * the first ones are reported. DTDs and external entities are rejected.
+ */
+final class Camt054Reader implements Closeable {
+    static final String NOTIFICATION = "BkToCstmrDbtCdtNtfctn";
+    private static final String MALFORMED = "Payment file must be a well-formed camt.054 notification";
+    private static final String ENTRY = "Ntry";
+    private static final String TRANSACTION = "TxDtls";
+    private static final String CREDIT = "CRDT";
+    private static final String DEBIT = "DBIT";
+    private static final Pattern CURRENCY = Pattern.compile("[A-Z]{3}");
+    private static final int MAX_BANK_REFERENCE_LENGTH = 100;
+    private static final int MAX_PAYMENT_REFERENCE_LENGTH = 35;
+    private static final int MAX_DEBTOR_NAME_LENGTH = 140;
+    private static final int DATE_LENGTH = 10;
+
+    private final InputStream input;
+    private final XMLStreamReader reader;
+    private final int maxReportedErrors;
+    private final List<String> errors = new ArrayList<>();
+    private final Deque<String> path = new ArrayDeque<>();
+    private final Fields entry = new Fields();
+    private final Fields transaction = new Fields();
+    private boolean notification;
+    @Nullable
+    private String messageId;
+    private long debits;
+    private long invalid;
+
+    private int entryNumber;
+    private boolean entryHasTransactions;
+    @Nullable
+    private String bookingDate;
+    @Nullable
+    private String valueDate;
+    @Nullable
+    private String reversal;
+
+    private int transactionNumber;
+    private boolean inTransaction;
+    @Nullable
+    private String paymentReference;
+    @Nullable
+    private String debtorName;
+
+    Camt054Reader(InputStream input, int maxReportedErrors) {
+        this.input = input;
+        this.maxReportedErrors = maxReportedErrors;
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        try {
+            this.reader = factory.createXMLStreamReader(input);
+        } catch (XMLStreamException ex) {
+            throw new BusinessRuleViolationException(MALFORMED, ex.getMessage());
+        }
+    }
+
+    /**
+     * Next valid credit, or {@code null} at the end of the file.
+     *
+     * @throws BusinessRuleViolationException if the XML is malformed or not a camt.054 notification
+     */
+    @Nullable
+    IncomingPayment next() {
+        try {
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    start(reader.getLocalName());
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    IncomingPayment payment = end(path.pop());
+                    if (payment != null) {
+                        return payment;
+                    }
+                }
+            }
+        } catch (XMLStreamException ex) {
+            throw new BusinessRuleViolationException(MALFORMED, ex.getMessage());
+        }
+        if (!notification) {
+            throw new BusinessRuleViolationException(MALFORMED, "no " + NOTIFICATION + " element");
+        }
+        return null;
+    }
+
+    /**
+     * Number of debit transactions skipped so far.
+     */
+    long debits() {
+        return debits;
+    }
+
+    /**
+     * Number of transactions rejected so far.
+     */
+    long invalid() {
+        return invalid;
+    }
+
+    List<String> errors() {
+        return List.copyOf(errors);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            reader.close();
+        } catch (XMLStreamException ex) {
+            throw new IOException(ex);
+        } finally {
+            input.close();
+        }
+    }
+
+    /**
+     * Handles a start tag: reads the text of the leaf elements of interest, or
+     * descends into the element.
+     */
+    private void start(String name) throws XMLStreamException {
+        String parent = path.peek();
+        switch (name) {
+            case NOTIFICATION -> notification = true;
+            case ENTRY -> startEntry();
+            case TRANSACTION -> startTransaction();
+            case "MsgId" -> {
+                if ("GrpHdr".equals(parent)) {
+                    messageId = text();
+                    return;
+                }
+            }
+            case "Amt" -> {
+                if (ENTRY.equals(parent)) {
+                    entry.amount(reader.getAttributeValue(null, "Ccy"), text());
+                    return;
+                }
+                if (inTransaction && (TRANSACTION.equals(parent) || "TxAmt".equals(parent))) {
+                    transaction.amount(reader.getAttributeValue(null, "Ccy"), text());
+                    return;
+                }
+            }
+            case "CdtDbtInd" -> {
+                if (ENTRY.equals(parent)) {
+                    entry.creditDebit = text();
+                    return;
+                }
+                if (TRANSACTION.equals(parent)) {
+                    transaction.creditDebit = text();
+                    return;
+                }
+            }
+            case "RvslInd" -> {
+                if (ENTRY.equals(parent)) {
+                    reversal = text();
+                    return;
+                }
+            }
+            case "Dt", "DtTm" -> {
+                if ("BookgDt".equals(parent)) {
+                    bookingDate = text();
+                    return;
+                }
+                if ("ValDt".equals(parent)) {
+                    valueDate = text();
+                    return;
+                }
+            }
+            case "AcctSvcrRef" -> {
+                if (ENTRY.equals(parent)) {
+                    entry.bankReference = text();
+                    return;
+                }
+                if (inTransaction && "Refs".equals(parent)) {
+                    transaction.bankReference = text();
+                    return;
+                }
+            }
+            case "Ref" -> {
+                if (inTransaction && "CdtrRefInf".equals(parent)) {
+                    paymentReference = text();
+                    return;
+                }
+            }
+            case "Nm" -> {
+                if (inTransaction && debtorName == null && path.contains("Dbtr")) {
+                    debtorName = text();
+                    return;
+                }
+            }
+            default -> {
+                // Structure elements are descended into
+            }
+        }
+        path.push(name);
+    }
+
+    @Nullable
+    private IncomingPayment end(String name) {
+        if (TRANSACTION.equals(name)) {
+            inTransaction = false;
+            entryHasTransactions = true;
+            return payment(true);
+        }
+        if (ENTRY.equals(name) && !entryHasTransactions) {
+            return payment(false);
+        }
+        return null;
+    }
+
+    private void startEntry() {
+        entryNumber++;
+        transactionNumber = 0;
+        entryHasTransactions = false;
+        entry.clear();
+        bookingDate = null;
+        valueDate = null;
+        reversal = null;
+    }
+
+    private void startTransaction() {
+        transactionNumber++;
+        inTransaction = true;
+        transaction.clear();
+        paymentReference = null;
+        debtorName = null;
+    }
+
+    /**
+     * Builds the credit of the current transaction, or of the entry if it has
+     * no transaction details.
+     *
+     * @return the credit, or {@code null} if it is a debit or was rejected
+     */
+    @Nullable
+    private IncomingPayment payment(boolean fromTransaction) {
+        String location = fromTransaction
+            ? "entry " + entryNumber + " transaction " + transactionNumber
+            : "entry " + entryNumber;
+        Fields fields = fromTransaction ? transaction : entry;
+        String creditDebit = fields.creditDebit != null ? fields.creditDebit : entry.creditDebit;
+        if (DEBIT.equals(creditDebit)) {
+            debits++;
+            return null;
+        }
+        if (!CREDIT.equals(creditDebit)) {
+            return reject(location, "credit/debit indicator must be " + CREDIT + " or " + DEBIT);
+        }
+        String amountText = fields.amount != null ? fields.amount : entry.amount;
+        String currency = fields.amount != null ? fields.currency : entry.currency;
+        if (amountText == null || currency == null || !CURRENCY.matcher(currency).matches()) {
+            return reject(location, "amount with currency is required");
+        }
+        String bankReference = bankReference(fromTransaction);
+        if (bankReference == null || bankReference.length() > MAX_BANK_REFERENCE_LENGTH) {
+            return reject(location, "bank reference or message id is required");
+        }
+        String reference = fromTransaction ? paymentReference : null;
+        if (reference != null && (reference.isEmpty() || reference.length() > MAX_PAYMENT_REFERENCE_LENGTH)) {
+            return reject(
+                location, "creditor reference must have 1 to " + MAX_PAYMENT_REFERENCE_LENGTH + " characters"
+            );
+        }
+        try {
+            long amount = Rappen.requireNumeric12x2(Rappen.fromDecimal(new BigDecimal(amountText)));
+            if (amount <= 0) {
+                return reject(location, "amount must be positive");
+            }
+            if (bookingDate == null) {
+                return reject(location, "booking date is required");
+            }
+            LocalDate booked = date(bookingDate);
+            String debtor = fromTransaction ? debtorName : null;
+            return new IncomingPayment(
+                bankReference,
+                reference,
+                amount,
+                currency,
+                booked,
+                valueDate != null ? date(valueDate) : booked,
+                debtor != null && debtor.length() > MAX_DEBTOR_NAME_LENGTH
+                    ? debtor.substring(0, MAX_DEBTOR_NAME_LENGTH)
+                    : debtor,
+                "true".equals(reversal)
+            );
+        } catch (NumberFormatException | DateTimeException | ArithmeticException ex) {
+            return reject(location, "invalid value: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Bank reference of the transaction, else of the entry with the transaction
+     * number, else derived from the message id and the position in the file.
+     */
+    @Nullable
+    private String bankReference(boolean fromTransaction) {
+        if (fromTransaction && transaction.bankReference != null) {
+            return transaction.bankReference;
+        }
+        String suffix = fromTransaction ? "/" + transactionNumber : "";
+        if (entry.bankReference != null) {
+            return entry.bankReference + suffix;
+        }
+        return messageId == null ? null : messageId + "/" + entryNumber + suffix;
+    }
+
+    /**
+     * Counts a rejected transaction and reports it while below the error limit.
+     *
+     * @return always {@code null}
+     */
+    @Nullable
+    private IncomingPayment reject(String location, String message) {
+        invalid++;
+        if (errors.size() < maxReportedErrors) {
+            errors.add(location + ": " + message);
+        }
+        return null;
+    }
+
+    private String text() throws XMLStreamException {
+        return reader.getElementText().strip();
+    }
+
+    /**
+     * Date of an ISO date or date-time.
+     */
+    private static LocalDate date(String value) {
+        return LocalDate.parse(value.length() > DATE_LENGTH ? value.substring(0, DATE_LENGTH) : value);
+    }
+
+    /**
+     * Values an entry and its transactions both may carry.
+     */
+    private static final class Fields {
+        @Nullable
+        private String amount;
+        @Nullable
+        private String currency;
+        @Nullable
+        private String creditDebit;
+        @Nullable
+        private String bankReference;
+
+        void amount(@Nullable String amountCurrency, String value) {
+            this.currency = amountCurrency;
+            this.amount = value;
+        }
+
+        void clear() {
+            amount = null;
+            currency = null;
+            creditDebit = null;
+            bankReference = null;
+        }
+    }
+}
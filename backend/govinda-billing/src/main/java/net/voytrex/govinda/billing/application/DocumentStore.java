@@ -0,0 +1,25 @@
+/*
+ * Govinda ERP - Document Store
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.application;
+
+import java.io.IOException;
+
+/**
+ * Storage of generated documents under keys derived from their content, so
+ * that a key always holds the same bytes.
+ */
+public interface DocumentStore {
+
+    /**
+     * Stores the first {@code length} bytes of {@code content} under a key
+     * unless the key exists. Content only becomes visible once it is
+     * completely written.
+     *
+     * @return {@code true} if the content was written, {@code false} if the key existed
+     */
+    boolean putIfAbsent(String key, byte[] content, int length) throws IOException;
+}
@@ -0,0 +1,272 @@
+/*
+ * Govinda ERP - Dunning Job
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.application;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import net.voytrex.govinda.billing.domain.model.DunningCounter;
+import net.voytrex.govinda.billing.domain.model.DunningItem;
+import net.voytrex.govinda.billing.domain.model.DunningLevel;
+import net.voytrex.govinda.billing.domain.model.DunningOutcome;
+import net.voytrex.govinda.billing.domain.model.DunningReport;
+import net.voytrex.govinda.billing.domain.model.DunningStep;
+import net.voytrex.govinda.billing.domain.repository.DunningRepository;
+import net.voytrex.govinda.common.infrastructure.batch.BatchRun;
+import net.voytrex.govinda.common.infrastructure.batch.BatchRunStore;
+import net.voytrex.govinda.common.infrastructure.batch.ChunkedBatchRunner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Nightly dunning run: escalates the unpaid invoices whose next dunning action
+ * is due through the {@link DunningLevel}s.
+ *
+ * Every sent invoice carries the date of its next dunning action, kept in a
+ * partial index of the unpaid invoices. A run reads the invoices due on its
+ * date with one range scan of that index, so it costs the due items, not the
+ * open ones. Each processed invoice gets a later date, or none once it is
+ * handed over to debt collection, and is not read again by the same run.
+ * An interrupted run is resumed by running the same date again.
+ *
+ * Due invoices are processed in chunks of about
+ * {@code govinda.billing.dunning.chunk-size} on virtual threads, at most
+ * {@code govinda.billing.dunning.parallelism} at a time. Chunks are cut
+ * between debtors, so a debtor's invoices and yearly counters are decided in
+ * one transaction: debt collection for premiums of mandatory health insurance
+ * is limited to {@value #KVG_DEBT_COLLECTIONS_PER_YEAR} proceedings per debtor
+ * and year (KVG Art. 64a), checked against the counter instead of counting
+ * past notices. Invoices over the limit are held until the next year.
+ */
+@Service
+public class DunningJob {
+    public static final String JOB_NAME = "DUNNING";
+    static final int KVG_DEBT_COLLECTIONS_PER_YEAR = 2;
+    private static final Logger LOGGER = LoggerFactory.getLogger(DunningJob.class);
+    private static final DunningOutcome[] OUTCOMES = DunningOutcome.values();
+
+    private final DunningRepository dunningRepository;
+    private final BatchRunStore batchRunStore;
+    private final ChunkedBatchRunner runner;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final int chunkSize;
+    private final int noticeIntervalDays;
+
+    // CHECKSTYLE:OFF: ParameterNumber - Spring constructor injection
+    public DunningJob(
+        DunningRepository dunningRepository,
+        BatchRunStore batchRunStore,
+        PlatformTransactionManager transactionManager,
+        @Value("${govinda.billing.dunning.parallelism:4}") int parallelism,
+        @Value("${govinda.billing.dunning.chunk-size:1000}") int chunkSize,
+        @Value("${govinda.billing.dunning.notice-interval-days:14}") int noticeIntervalDays
+    ) {
+        // CHECKSTYLE:ON: ParameterNumber
+        if (parallelism < 1 || chunkSize < 1 || noticeIntervalDays < 1) {
+            throw new IllegalArgumentException("parallelism, chunk size and notice interval must be positive");
+        }
+        this.dunningRepository = dunningRepository;
+        this.batchRunStore = batchRunStore;
+        this.runner = new ChunkedBatchRunner(batchRunStore, JOB_NAME, parallelism);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.chunkSize = chunkSize;
+        this.noticeIntervalDays = noticeIntervalDays;
+    }
+
+    /**
+     * Runs dunning for a date, resuming an unfinished run of the same date.
+     */
+    public DunningReport run(LocalDate date) {
+        DunningReport report = runner.run(date.toString(), run -> execute(run, date));
+        LOGGER.info(
+            "Dunning run {} for {}: {} due invoices in {} chunks, {} notices ({} debt collections), "
+                + "{} rescheduled, {} held in {} ms, {} invoices/s",
+            report.runId(),
+            date,
+            report.due(),
+            report.chunks(),
+            report.notices(),
+            report.debtCollections(),
+            report.rescheduled(),
+            report.held(),
+            report.elapsed().toMillis(),
+            Math.round(report.itemsPerSecond())
+        );
+        return report;
+    }
+
+    private DunningReport execute(BatchRun run, LocalDate date) throws IOException {
+        long started = System.nanoTime();
+        long[] outcomes = new long[OUTCOMES.length];
+        long[] debtCollections = new long[1];
+        int chunks = runner.<List<DunningItem>, ChunkResult>process(
+            sink -> {
+                List<DunningItem> chunk = new ArrayList<>(chunkSize);
+                int[] count = new int[1];
+                readOnlyTransactionTemplate.executeWithoutResult(status -> dunningRepository.streamDue(date, item -> {
+                    if (chunk.size() >= chunkSize && !chunk.getLast().debtorId().equals(item.debtorId())) {
+                        sink.submit("chunk-" + count[0]++, List.copyOf(chunk));
+                        chunk.clear();
+                    }
+                    chunk.add(item);
+                }));
+                if (!chunk.isEmpty()) {
+                    sink.submit("chunk-" + count[0], List.copyOf(chunk));
+                }
+            },
+            (key, items) -> process(run.id(), date, items),
+            result -> {
+                for (int i = 0; i < outcomes.length; i++) {
+                    outcomes[i] += result.outcomes()[i];
+                }
+                debtCollections[0] += result.debtCollections();
+            }
+        );
+
+        long due = 0;
+        for (long count : outcomes) {
+            due += count;
+        }
+        batchRunStore.complete(run.id(), due);
+        return new DunningReport(
+            run.id(),
+            date,
+            chunks,
+            due,
+            outcomes[DunningOutcome.ISSUED.ordinal()],
+            debtCollections[0],
+            outcomes[DunningOutcome.RESCHEDULED.ordinal()],
+            outcomes[DunningOutcome.HELD.ordinal()],
+            Duration.ofNanos(System.nanoTime() - started)
+        );
+    }
+
+    /**
+     * Decides and records the steps of a chunk's invoices that are still due,
+     * with the counters of their debtors, in one transaction.
+     */
+    private ChunkResult process(UUID runId, LocalDate date, List<DunningItem> items) {
+        return transactionTemplate.execute(status -> {
+            Set<UUID> locked = dunningRepository.lockDue(items.stream().map(DunningItem::invoiceId).toList(), date);
+            List<DunningItem> due = items.stream().filter(item -> locked.contains(item.invoiceId())).toList();
+            Map<UUID, DunningCounter> counters = dunningRepository.findCounters(
+                date.getYear(), due.stream().map(DunningItem::debtorId).distinct().toList()
+            );
+            List<DunningStep> steps = plan(due, date, counters, noticeIntervalDays);
+            long[] outcomes = new long[OUTCOMES.length];
+            long debtCollections = 0;
+            for (DunningStep step : steps) {
+                outcomes[step.outcome().ordinal()]++;
+                if (step.outcome() == DunningOutcome.ISSUED && step.level() == DunningLevel.DEBT_COLLECTION) {
+                    debtCollections++;
+                }
+            }
+            if (!steps.isEmpty()) {
+                dunningRepository.saveSteps(runId, date, steps);
+                Map<UUID, DunningCounter> increments = increments(steps);
+                if (!increments.isEmpty()) {
+                    dunningRepository.addCounters(date.getYear(), increments.values());
+                }
+            }
+            return new ChunkResult(outcomes, debtCollections);
+        });
+    }
+
+    /**
+     * Decides the next step of each due invoice. All due invoices of a debtor
+     * must be planned together: the first invoice escalated to debt
+     * collection for mandatory health insurance opens a proceeding if the
+     * debtor's counter allows it, the debtor's other such invoices of the day
+     * join that proceeding or are held with it.
+     *
+     * @param counters counters of the debtors in the year of {@code date}
+     */
+    static List<DunningStep> plan(
+        List<DunningItem> items,
+        LocalDate date,
+        Map<UUID, DunningCounter> counters,
+        int noticeIntervalDays
+    ) {
+        Map<UUID, Boolean> proceedings = new HashMap<>();
+        List<DunningStep> steps = new ArrayList<>(items.size());
+        for (DunningItem item : items) {
+            DunningLevel next = DunningLevel.after(item.level());
+            if (next == null) {
+                steps.add(new DunningStep(item, DunningOutcome.RESCHEDULED, item.level(), null));
+                continue;
+            }
+            LocalDate reached = item.dueDate().plusDays(next.daysAfterDue());
+            if (date.isBefore(reached)) {
+                steps.add(new DunningStep(item, DunningOutcome.RESCHEDULED, item.level(), reached));
+                continue;
+            }
+            if (next == DunningLevel.DEBT_COLLECTION && item.kvg()) {
+                boolean allowed = proceedings.computeIfAbsent(item.debtorId(), debtorId -> {
+                    DunningCounter counter = counters.get(debtorId);
+                    return counter == null || counter.kvgDebtCollections() < KVG_DEBT_COLLECTIONS_PER_YEAR;
+                });
+                if (!allowed) {
+                    LocalDate nextYear = LocalDate.of(date.getYear() + 1, 1, 1);
+                    steps.add(new DunningStep(item, DunningOutcome.HELD, item.level(), nextYear));
+                    continue;
+                }
+            }
+            DunningLevel following = DunningLevel.after(next);
+            LocalDate nextActionDate = null;
+            if (following != null) {
+                LocalDate scheduled = item.dueDate().plusDays(following.daysAfterDue());
+                LocalDate earliest = date.plusDays(noticeIntervalDays);
+                nextActionDate = scheduled.isAfter(earliest) ? scheduled : earliest;
+            }
+            steps.add(new DunningStep(item, DunningOutcome.ISSUED, next, nextActionDate));
+        }
+        return steps;
+    }
+
+    /**
+     * Counter increments of the issued steps per debtor: one per reminder and
+     * one per debtor with a debt collection for mandatory health insurance.
+     */
+    static Map<UUID, DunningCounter> increments(List<DunningStep> steps) {
+        Map<UUID, DunningCounter> increments = new LinkedHashMap<>();
+        for (DunningStep step : steps) {
+            if (step.outcome() != DunningOutcome.ISSUED) {
+                continue;
+            }
+            DunningItem item = step.item();
+            DunningCounter current = increments.getOrDefault(
+                item.debtorId(), new DunningCounter(item.tenantId(), item.debtorId(), 0, 0)
+            );
+            if (step.level() != DunningLevel.DEBT_COLLECTION) {
+                current = new DunningCounter(
+                    item.tenantId(), item.debtorId(), current.reminders() + 1, current.kvgDebtCollections()
+                );
+            } else if (item.kvg()) {
+                current = new DunningCounter(item.tenantId(), item.debtorId(), current.reminders(), 1);
+            }
+            increments.put(item.debtorId(), current);
+        }
+        return increments;
+    }
+
+    private record ChunkResult(long[] outcomes, long debtCollections) {
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Govinda ERP - Invoice Document Job
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.application;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import net.voytrex.govinda.billing.domain.model.BillingCreditor;
+import net.voytrex.govinda.billing.domain.model.InvoiceDocument;
+import net.voytrex.govinda.billing.domain.model.InvoiceDocumentReport;
+import net.voytrex.govinda.billing.domain.model.InvoiceDocumentSource;
+import net.voytrex.govinda.billing.domain.model.QrBill;
+import net.voytrex.govinda.billing.domain.repository.InvoiceDocumentRepository;
+import net.voytrex.govinda.billing.infrastructure.document.QrBillRenderer;
+import net.voytrex.govinda.billing.infrastructure.document.QrBillRendererPool;
+import net.voytrex.govinda.billing.infrastructure.document.RenderedDocument;
+import net.voytrex.govinda.common.domain.exception.BusinessRuleViolationException;
+import net.voytrex.govinda.common.infrastructure.batch.BatchRun;
+import net.voytrex.govinda.common.infrastructure.batch.BatchRunStore;
+import net.voytrex.govinda.common.infrastructure.batch.ChunkedBatchRunner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Invoice documents: renders the invoices of an invoice run as PDF documents
+ * with a QR-bill, stores them and registers them as portal documents.
+ *
+ * The invoices without a document are streamed with one cursor query in
+ * chunks of {@code govinda.billing.documents.chunk-size}. Each chunk is
+ * rendered on a virtual thread with a renderer from the
+ * {@link QrBillRendererPool}, whose templates were compiled per language at
+ * startup and whose buffers are reused from document to document. At most one
+ * chunk per renderer is in flight; the cursor waits for a free slot.
+ *
+ * Documents are stored under their SHA-256 content hash. Rendering is
+ * deterministic, so a document rendered again, e.g. after a failed chunk, maps
+ * to the same key and is not written twice. A chunk's portal documents are
+ * registered in one transaction, which also marks draft invoices as sent.
+ * Running the job again resumes it: invoices with a document are not read.
+ */
+@Service
+public class InvoiceDocumentJob {
+    public static final String JOB_NAME = "INVOICE_DOCUMENTS";
+    private static final Logger LOGGER = LoggerFactory.getLogger(InvoiceDocumentJob.class);
+
+    private final InvoiceDocumentRepository invoiceDocumentRepository;
+    private final DocumentStore documentStore;
+    private final QrBillRendererPool rendererPool;
+    private final BatchRunStore batchRunStore;
+    private final ChunkedBatchRunner runner;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final int chunkSize;
+
+    // CHECKSTYLE:OFF: ParameterNumber - Spring constructor injection
+    public InvoiceDocumentJob(
+        InvoiceDocumentRepository invoiceDocumentRepository,
+        DocumentStore documentStore,
+        QrBillRendererPool rendererPool,
+        BatchRunStore batchRunStore,
+        PlatformTransactionManager transactionManager,
+        @Value("${govinda.billing.documents.chunk-size:500}") int chunkSize
+    ) {
+        // CHECKSTYLE:ON: ParameterNumber
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunk size must be positive");
+        }
+        this.invoiceDocumentRepository = invoiceDocumentRepository;
+        this.documentStore = documentStore;
+        this.rendererPool = rendererPool;
+        this.batchRunStore = batchRunStore;
+        this.runner = new ChunkedBatchRunner(batchRunStore, JOB_NAME, rendererPool.size());
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Renders the documents of an invoice run, resuming an unfinished run.
+     *
+     * @throws BusinessRuleViolationException if a tenant of the run has no valid QR-IBAN or billing address
+     */
+    public InvoiceDocumentReport run(UUID invoiceRunId) {
+        InvoiceDocumentReport report = runner.run(invoiceRunId.toString(), run -> execute(run, invoiceRunId));
+        LOGGER.info(
+            "Invoice documents {} of invoice run {}: {} documents in {} chunks, {} stored ({} bytes) in {} ms, "
+                + "{} documents/s",
+            report.runId(),
+            invoiceRunId,
+            report.documents(),
+            report.chunks(),
+            report.stored(),
+            report.bytes(),
+            report.elapsed().toMillis(),
+            Math.round(report.documentsPerSecond())
+        );
+        return report;
+    }
+
+    private InvoiceDocumentReport execute(BatchRun run, UUID invoiceRunId) throws IOException {
+        long started = System.nanoTime();
+        Map<UUID, Creditor> creditors = loadCreditors(invoiceRunId);
+
+        ChunkResult[] total = {new ChunkResult(0, 0, 0)};
+        int chunks = runner.<List<InvoiceDocumentSource>, ChunkResult>process(
+            sink -> {
+                List<List<InvoiceDocumentSource>> chunk = new ArrayList<>(1);
+                chunk.add(new ArrayList<>(chunkSize));
+                int[] count = new int[1];
+                readOnlyTransactionTemplate.executeWithoutResult(status -> invoiceDocumentRepository.streamUndocumented(
+                    invoiceRunId,
+                    source -> {
+                        chunk.getFirst().add(source);
+                        if (chunk.getFirst().size() == chunkSize) {
+                            sink.submit("chunk-" + count[0]++, chunk.getFirst());
+                            chunk.set(0, new ArrayList<>(chunkSize));
+                        }
+                    }
+                ));
+                if (!chunk.getFirst().isEmpty()) {
+                    sink.submit("chunk-" + count[0], chunk.getFirst());
+                }
+            },
+            (key, sources) -> process(sources, creditors),
+            result -> total[0] = total[0].plus(result)
+        );
+
+        batchRunStore.complete(run.id(), total[0].documents());
+        return new InvoiceDocumentReport(
+            run.id(),
+            invoiceRunId,
+            chunks,
+            total[0].documents(),
+            total[0].stored(),
+            total[0].bytes(),
+            Duration.ofNanos(System.nanoTime() - started)
+        );
+    }
+
+    private Map<UUID, Creditor> loadCreditors(UUID invoiceRunId) {
+        List<BillingCreditor> found = readOnlyTransactionTemplate.execute(
+            status -> invoiceDocumentRepository.findCreditors(invoiceRunId)
+        );
+        Map<UUID, Creditor> creditors = new HashMap<>();
+        for (BillingCreditor creditor : found) {
+            if (!QrBill.isQrIban(creditor.account()) || creditor.address() == null) {
+                throw new BusinessRuleViolationException(
+                    "QR_BILL_CREDITOR",
+                    "Tenant " + creditor.tenantId() + " has no valid QR-IBAN and billing address"
+                );
+            }
+            creditors.put(
+                creditor.tenantId(),
+                new Creditor(creditor.account().replace(" ", "").toUpperCase(Locale.ROOT), creditor)
+            );
+        }
+        return creditors;
+    }
+
+    /**
+     * Renders and stores the documents of a chunk, then registers them.
+     */
+    private ChunkResult process(List<InvoiceDocumentSource> sources, Map<UUID, Creditor> creditors) {
+        List<InvoiceDocument> documents = new ArrayList<>(sources.size());
+        long stored = 0;
+        long bytes = 0;
+        QrBillRenderer renderer = rendererPool.acquire();
+        try {
+            for (InvoiceDocumentSource source : sources) {
+                Creditor creditor = creditors.get(source.tenantId());
+                RenderedDocument rendered = renderer.render(
+                    source, creditor.account(), creditor.creditor().address()
+                );
+                String key = storageKey(rendered.contentHash());
+                if (documentStore.putIfAbsent(key, rendered.content(), rendered.length())) {
+                    stored++;
+                    bytes += rendered.length();
+                }
+                documents.add(new InvoiceDocument(
+                    UUID.randomUUID(),
+                    source.invoiceId(),
+                    source.tenantId(),
+                    source.policyholderId(),
+                    rendered.title(),
+                    key
+                ));
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not store invoice document", ex);
+        } finally {
+            rendererPool.release(renderer);
+        }
+        List<InvoiceDocument> registered = transactionTemplate.execute(
+            status -> invoiceDocumentRepository.registerDocuments(documents)
+        );
+        return new ChunkResult(registered.size(), stored, bytes);
+    }
+
+    /**
+     * Storage key of a document, fanned out over directories by hash prefix.
+     */
+    static String storageKey(String contentHash) {
+        return "invoices/" + contentHash.substring(0, 2) + "/" + contentHash.substring(2, 4) + "/"
+            + contentHash + ".pdf";
+    }
+
+    private record Creditor(String account, BillingCreditor creditor) {
+    }
+
+    private record ChunkResult(long documents, long stored, long bytes) {
+
+        ChunkResult plus(ChunkResult other) {
+            return new ChunkResult(documents + other.documents, stored + other.stored, bytes + other.bytes);
+        }
+    }
+}
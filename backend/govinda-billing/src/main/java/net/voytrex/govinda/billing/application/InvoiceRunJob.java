@@ -0,0 +1,367 @@
+/*
+ * Govinda ERP - Invoice Run Job
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.application;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+import net.voytrex.govinda.billing.domain.model.BillableCoverage;
+import net.voytrex.govinda.billing.domain.model.BillingPeriod;
+import net.voytrex.govinda.billing.domain.model.Invoice;
+import net.voytrex.govinda.billing.domain.model.InvoiceLine;
+import net.voytrex.govinda.billing.domain.model.InvoicePartition;
+import net.voytrex.govinda.billing.domain.model.InvoiceRunReport;
+import net.voytrex.govinda.billing.domain.model.PaymentReference;
+import net.voytrex.govinda.billing.domain.repository.InvoiceRunRepository;
+import net.voytrex.govinda.common.domain.model.BillingFrequency;
+import net.voytrex.govinda.common.domain.model.Rappen;
+import net.voytrex.govinda.common.infrastructure.batch.BatchCheckpoint;
+import net.voytrex.govinda.common.infrastructure.batch.BatchRun;
+import net.voytrex.govinda.common.infrastructure.batch.BatchRunStore;
+import net.voytrex.govinda.common.infrastructure.batch.ChunkedBatchRunner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Monthly invoice run (INVOICE_RUN): invoices every active policy whose
+ * billing period starts in the month, e.g. all policies in January and only
+ * the monthly ones in February.
+ *
+ * Each coverage is billed its monthly premium for every month of the period
+ * it is in force on; the policy's frequency discount is deducted from the sum
+ * and the total is rounded to 5 Rappen. Every invoice gets a QR payment
+ * reference; reference numbers are reserved from the database in blocks of
+ * {@code chunk-size}.
+ *
+ * The policies of every tenant are split into
+ * {@code govinda.billing.invoice-run.slices} ranges of policy ids. Partitions
+ * run concurrently on virtual threads, at most
+ * {@code govinda.billing.invoice-run.parallelism} at a time. A partition
+ * streams its coverages through one cursor in a read-only transaction and
+ * commits the invoices of every {@code chunk-size} policies together with its
+ * checkpoint in a separate transaction, so each running partition holds two
+ * connections. Running the job again for the same month resumes an
+ * interrupted or failed run after the last committed policy; policies already
+ * invoiced for the period are never invoiced again.
+ */
+@Service
+public class InvoiceRunJob {
+    public static final String JOB_NAME = "INVOICE_RUN";
+    private static final Logger LOGGER = LoggerFactory.getLogger(InvoiceRunJob.class);
+    private static final DateTimeFormatter NUMBER_PERIOD = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final long BASIS_POINTS = 10_000L;
+
+    private final InvoiceRunRepository invoiceRunRepository;
+    private final BatchRunStore batchRunStore;
+    private final ChunkedBatchRunner runner;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate chunkTransaction;
+    private final int slices;
+    private final int chunkSize;
+    private final int paymentTermDays;
+
+    // CHECKSTYLE:OFF: ParameterNumber - Spring constructor injection
+    public InvoiceRunJob(
+        InvoiceRunRepository invoiceRunRepository,
+        BatchRunStore batchRunStore,
+        PlatformTransactionManager transactionManager,
+        @Value("${govinda.billing.invoice-run.parallelism:4}") int parallelism,
+        @Value("${govinda.billing.invoice-run.slices:16}") int slices,
+        @Value("${govinda.billing.invoice-run.chunk-size:1000}") int chunkSize,
+        @Value("${govinda.billing.invoice-run.payment-term-days:30}") int paymentTermDays
+    ) {
+        // CHECKSTYLE:ON: ParameterNumber
+        if (parallelism < 1 || slices < 1 || chunkSize < 1) {
+            throw new IllegalArgumentException("parallelism, slices and chunk size must be positive");
+        }
+        this.invoiceRunRepository = invoiceRunRepository;
+        this.batchRunStore = batchRunStore;
+        this.runner = new ChunkedBatchRunner(batchRunStore, JOB_NAME, parallelism);
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.slices = slices;
+        this.chunkSize = chunkSize;
+        this.paymentTermDays = paymentTermDays;
+    }
+
+    /**
+     * Creates the invoices of all billing periods starting in the month,
+     * resuming an unfinished run for that month.
+     *
+     * @param invoiceDate date printed on the invoices; the payment term counts from it
+     */
+    public InvoiceRunReport run(YearMonth month, LocalDate invoiceDate) {
+        InvoiceRunReport report = runner.run(month.toString(), run -> execute(run, month, invoiceDate));
+        LOGGER.info(
+            "Invoice run {} for {}: {} invoices with {} lines in {} partitions ({} skipped) in {} ms, "
+                + "{} invoices/s",
+            report.runId(),
+            month,
+            report.invoices(),
+            report.lines(),
+            report.partitions(),
+            report.skippedPartitions(),
+            report.elapsed().toMillis(),
+            Math.round(report.invoicesPerSecond())
+        );
+        return report;
+    }
+
+    private InvoiceRunReport execute(BatchRun run, YearMonth month, LocalDate invoiceDate) throws IOException {
+        long started = System.nanoTime();
+        List<BillingPeriod> periods = BillingPeriod.startingIn(month);
+        List<InvoicePartition> partitions = new ArrayList<>();
+        for (UUID tenantId : invoiceRunRepository.findTenants()) {
+            partitions.addAll(InvoicePartition.of(tenantId, slices));
+        }
+
+        long[] processed = new long[1];
+        int[] skipped = new int[1];
+        PartitionResult[] total = {new PartitionResult(0, 0, 0, 0)};
+        runner.<InvoicePartition, PartitionResult>process(
+            sink -> {
+                for (InvoicePartition partition : partitions) {
+                    BatchCheckpoint checkpoint = run.checkpoint(partition.key());
+                    if (checkpoint.completed()) {
+                        skipped[0]++;
+                        processed[0] += checkpoint.processed();
+                    } else {
+                        sink.submit(partition.key(), partition);
+                    }
+                }
+            },
+            (key, partition) -> process(run.checkpoint(key), partition, periods, invoiceDate),
+            result -> total[0] = total[0].plus(result)
+        );
+
+        batchRunStore.complete(run.id(), processed[0] + total[0].processed());
+        return new InvoiceRunReport(
+            run.id(),
+            month,
+            partitions.size(),
+            skipped[0],
+            total[0].invoices(),
+            total[0].lines(),
+            total[0].totalAmount(),
+            Duration.ofNanos(System.nanoTime() - started)
+        );
+    }
+
+    private PartitionResult process(
+        BatchCheckpoint start,
+        InvoicePartition partition,
+        List<BillingPeriod> periods,
+        LocalDate invoiceDate
+    ) {
+        PartitionRun partitionRun = new PartitionRun(partition, start, periods, invoiceDate);
+        readTransaction.executeWithoutResult(status -> invoiceRunRepository.streamCoverages(
+            partition, periods, start.lastKey(), partitionRun::accept
+        ));
+        return partitionRun.finish();
+    }
+
+    /**
+     * Builds the invoice of one policy for a period.
+     *
+     * @param coverages coverages of the policy, in line order
+     * @param referenceNumbers source of payment reference numbers, called once per invoice
+     * @return the invoice, or {@code null} if no coverage is in force during the period
+     */
+    // CHECKSTYLE:OFF: ParameterNumber - Invoice context is passed explicitly to keep the calculation pure
+    @Nullable
+    static Invoice invoice(
+        UUID tenantId,
+        BillingPeriod period,
+        List<BillableCoverage> coverages,
+        LocalDate invoiceDate,
+        LocalDate dueDate,
+        LongSupplier referenceNumbers
+    ) {
+        // CHECKSTYLE:ON: ParameterNumber
+        List<InvoiceLine> lines = new ArrayList<>(coverages.size());
+        long gross = 0;
+        for (BillableCoverage coverage : coverages) {
+            int months = period.billableMonths(coverage.effectiveDate(), coverage.terminationDate());
+            if (months == 0) {
+                continue;
+            }
+            long amount = Rappen.multiply(coverage.monthlyPremium(), months);
+            lines.add(new InvoiceLine(
+                lines.size() + 1,
+                coverage.coverageId(),
+                coverage.insuredPersonId(),
+                coverage.productId(),
+                months,
+                coverage.monthlyPremium(),
+                amount
+            ));
+            gross = Rappen.add(gross, amount);
+        }
+        if (lines.isEmpty()) {
+            return null;
+        }
+        long discountBasisPoints = period.frequency().getDiscountPercent().movePointRight(2).longValueExact();
+        long total = Rappen.roundTo5(
+            Rappen.subtract(gross, Rappen.multiply(gross, discountBasisPoints, BASIS_POINTS))
+        );
+        BillableCoverage policy = coverages.get(0);
+        return new Invoice(
+            UUID.randomUUID(),
+            tenantId,
+            policy.policyId(),
+            policy.policyholderId(),
+            policy.policyNumber() + "-" + NUMBER_PERIOD.format(period.start()),
+            PaymentReference.of(referenceNumbers.getAsLong()),
+            period,
+            invoiceDate,
+            dueDate,
+            gross,
+            Rappen.subtract(gross, total),
+            total,
+            lines
+        );
+    }
+
+    /**
+     * Due date of an invoice: the payment term after the invoice date, but not
+     * before the period starts, since premiums are payable in advance.
+     */
+    static LocalDate dueDate(BillingPeriod period, LocalDate invoiceDate, int paymentTermDays) {
+        LocalDate due = invoiceDate.plusDays(paymentTermDays);
+        return due.isBefore(period.start()) ? period.start() : due;
+    }
+
+    /**
+     * State of one partition while its cursor is read: collects the coverages
+     * of the current policy and the invoices of the current chunk.
+     */
+    private final class PartitionRun {
+        private final UUID runId;
+        private final UUID tenantId;
+        private final LocalDate invoiceDate;
+        private final Map<BillingFrequency, BillingPeriod> periods = new EnumMap<>(BillingFrequency.class);
+        private final Map<BillingFrequency, LocalDate> dueDates = new EnumMap<>(BillingFrequency.class);
+        private final List<BillableCoverage> policy = new ArrayList<>();
+        private final List<Invoice> chunk = new ArrayList<>();
+        private long[] referenceNumbers = new long[0];
+        private int nextReferenceNumber;
+        private BatchCheckpoint checkpoint;
+        @Nullable
+        private UUID lastPolicyId;
+        private int policies;
+        private long invoices;
+        private long lines;
+        private long totalAmount;
+
+        PartitionRun(
+            InvoicePartition partition,
+            BatchCheckpoint start,
+            List<BillingPeriod> periods,
+            LocalDate invoiceDate
+        ) {
+            this.runId = start.runId();
+            this.tenantId = partition.tenantId();
+            this.invoiceDate = invoiceDate;
+            this.checkpoint = start;
+            for (BillingPeriod period : periods) {
+                this.periods.put(period.frequency(), period);
+                this.dueDates.put(period.frequency(), dueDate(period, invoiceDate, paymentTermDays));
+            }
+        }
+
+        void accept(BillableCoverage coverage) {
+            if (!policy.isEmpty() && !policy.get(0).policyId().equals(coverage.policyId())) {
+                closePolicy();
+            }
+            policy.add(coverage);
+        }
+
+        PartitionResult finish() {
+            if (!policy.isEmpty()) {
+                closePolicy();
+            }
+            commit(true);
+            return new PartitionResult(checkpoint.processed(), invoices, lines, totalAmount);
+        }
+
+        private void closePolicy() {
+            BillingFrequency frequency = policy.get(0).frequency();
+            Invoice invoice = invoice(
+                tenantId, periods.get(frequency), policy, invoiceDate, dueDates.get(frequency), this::referenceNumber
+            );
+            if (invoice != null) {
+                chunk.add(invoice);
+            }
+            lastPolicyId = policy.get(0).policyId();
+            policy.clear();
+            if (++policies == chunkSize) {
+                commit(false);
+            }
+        }
+
+        private long referenceNumber() {
+            if (nextReferenceNumber == referenceNumbers.length) {
+                referenceNumbers = invoiceRunRepository.reserveReferenceNumbers(chunkSize);
+                nextReferenceNumber = 0;
+            }
+            return referenceNumbers[nextReferenceNumber++];
+        }
+
+        private void commit(boolean last) {
+            BatchCheckpoint next = policies == 0 || lastPolicyId == null
+                ? checkpoint
+                : checkpoint.advance(lastPolicyId, chunk.size());
+            if (last) {
+                next = next.complete();
+            }
+            BatchCheckpoint committed = next;
+            List<Invoice> created = List.copyOf(chunk);
+            chunkTransaction.executeWithoutResult(status -> {
+                if (!created.isEmpty()) {
+                    invoiceRunRepository.saveInvoices(runId, created);
+                }
+                batchRunStore.checkpoint(committed);
+            });
+            for (Invoice invoice : created) {
+                lines += invoice.lines().size();
+                totalAmount = Rappen.add(totalAmount, invoice.totalAmount());
+            }
+            invoices += created.size();
+            chunk.clear();
+            policies = 0;
+            checkpoint = committed;
+        }
+    }
+
+    private record PartitionResult(long processed, long invoices, long lines, long totalAmount) {
+
+        PartitionResult plus(PartitionResult other) {
+            return new PartitionResult(
+                processed + other.processed,
+                invoices + other.invoices,
+                lines + other.lines,
+                totalAmount + other.totalAmount
+            );
+        }
+    }
+}
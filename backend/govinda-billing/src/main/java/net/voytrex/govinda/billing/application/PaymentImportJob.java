@@ -0,0 +1,261 @@
+/*
+ * Govinda ERP - Payment Import Job
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.application;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import net.voytrex.govinda.billing.domain.model.IncomingPayment;
+import net.voytrex.govinda.billing.domain.model.MatchedPayment;
+import net.voytrex.govinda.billing.domain.model.OpenInvoiceIndex;
+import net.voytrex.govinda.billing.domain.model.PaymentImportReport;
+import net.voytrex.govinda.billing.domain.model.PaymentOutcome;
+import net.voytrex.govinda.billing.domain.repository.PaymentRepository;
+import net.voytrex.govinda.common.domain.exception.BusinessRuleViolationException;
+import net.voytrex.govinda.common.domain.model.Rappen;
+import net.voytrex.govinda.common.infrastructure.batch.BatchCheckpoint;
+import net.voytrex.govinda.common.infrastructure.batch.BatchRun;
+import net.voytrex.govinda.common.infrastructure.batch.BatchRunStore;
+import net.voytrex.govinda.common.infrastructure.batch.ChunkedBatchRunner;
+import net.voytrex.govinda.common.infrastructure.batch.RecordChunks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Incoming payment import: books the credits of a camt.054 bank notification
+ * against the open invoices of a tenant by their QR reference.
+ *
+ * Before the file is read, the references of all open invoices of the tenant
+ * are loaded with one cursor query into an {@link OpenInvoiceIndex}, so
+ * matching a payment is a hash lookup instead of a query. The file is then
+ * streamed in chunks of {@code govinda.billing.payments.chunk-size} payments,
+ * which are applied concurrently on virtual threads. At most
+ * {@code govinda.billing.payments.parallelism} chunks are in flight; the
+ * reader waits for a free slot, which bounds both memory and connections.
+ *
+ * A chunk's payments, the paid amounts of their invoices and its checkpoint
+ * are committed in one transaction. Payments without a matching open invoice
+ * go to the clarification queue. Importing the same file again resumes an
+ * interrupted or failed run, skipping the payments of committed chunks by
+ * their position in the file, also if the chunk size has changed in between;
+ * payments whose bank
+ * reference was recorded before, from any file, are counted as duplicates
+ * and not booked again.
+ */
+@Service
+public class PaymentImportJob {
+    public static final String JOB_NAME = "PAYMENT_IMPORT";
+    static final int MAX_REPORTED_ERRORS = 20;
+    static final String CURRENCY = "CHF";
+    private static final Logger LOGGER = LoggerFactory.getLogger(PaymentImportJob.class);
+    private static final PaymentOutcome[] OUTCOMES = PaymentOutcome.values();
+
+    private final PaymentRepository paymentRepository;
+    private final BatchRunStore batchRunStore;
+    private final ChunkedBatchRunner runner;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final int chunkSize;
+
+    // CHECKSTYLE:OFF: ParameterNumber - Spring constructor injection
+    public PaymentImportJob(
+        PaymentRepository paymentRepository,
+        BatchRunStore batchRunStore,
+        PlatformTransactionManager transactionManager,
+        @Value("${govinda.billing.payments.parallelism:4}") int parallelism,
+        @Value("${govinda.billing.payments.chunk-size:1000}") int chunkSize
+    ) {
+        // CHECKSTYLE:ON: ParameterNumber
+        if (parallelism < 1 || chunkSize < 1) {
+            throw new IllegalArgumentException("parallelism and chunk size must be positive");
+        }
+        this.paymentRepository = paymentRepository;
+        this.batchRunStore = batchRunStore;
+        this.runner = new ChunkedBatchRunner(batchRunStore, JOB_NAME, parallelism);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Imports a camt.054 file for a tenant, resuming an unfinished run of the
+     * same file. The stream is closed.
+     *
+     * @throws BusinessRuleViolationException if the file is not a well-formed camt.054 notification
+     * @throws UncheckedIOException           if the file cannot be read
+     */
+    public PaymentImportReport run(UUID tenantId, String fileName, InputStream input) {
+        PaymentImportReport report = runner.run(tenantId + "/" + fileName, run -> {
+            try (Camt054Reader reader = new Camt054Reader(input, MAX_REPORTED_ERRORS)) {
+                return execute(run, tenantId, fileName, reader);
+            }
+        });
+        LOGGER.info(
+            "Payment import {} of {}: {} payments in {} chunks ({} skipped), {} booked, {} to clarify, "
+                + "{} duplicates, {} invalid in {} ms, {} payments/s",
+            report.runId(),
+            fileName,
+            report.processed(),
+            report.chunks(),
+            report.skippedChunks(),
+            report.booked(),
+            report.clarifications(),
+            report.duplicates(),
+            report.invalid(),
+            report.elapsed().toMillis(),
+            Math.round(report.paymentsPerSecond())
+        );
+        return report;
+    }
+
+    private PaymentImportReport execute(
+        BatchRun run,
+        UUID tenantId,
+        String fileName,
+        Camt054Reader reader
+    ) throws IOException {
+        long started = System.nanoTime();
+        OpenInvoiceIndex invoices = loadOpenInvoices(tenantId);
+
+        long[] outcomes = new long[OUTCOMES.length];
+        long[] bookedAmount = new long[1];
+        long[] processed = new long[1];
+        RecordChunks<IncomingPayment> chunks = new RecordChunks<>(run, chunkSize, reader::next);
+        runner.<RecordChunks.Chunk<IncomingPayment>, ChunkResult>process(
+            chunks,
+            (key, chunk) -> apply(run.checkpoint(key), tenantId, fileName, chunk.records(), invoices),
+            result -> {
+                for (int i = 0; i < outcomes.length; i++) {
+                    outcomes[i] += result.outcomes()[i];
+                    processed[0] += result.outcomes()[i];
+                }
+                bookedAmount[0] += result.bookedAmount();
+            }
+        );
+
+        processed[0] += chunks.skippedRecords();
+        batchRunStore.complete(run.id(), processed[0]);
+        long clarifications = 0;
+        for (PaymentOutcome outcome : OUTCOMES) {
+            if (outcome.needsClarification()) {
+                clarifications += outcomes[outcome.ordinal()];
+            }
+        }
+        return new PaymentImportReport(
+            run.id(),
+            fileName,
+            chunks.chunks() + chunks.completedChunks(),
+            chunks.completedChunks(),
+            outcomes[PaymentOutcome.BOOKED.ordinal()],
+            bookedAmount[0],
+            clarifications,
+            outcomes[PaymentOutcome.DUPLICATE.ordinal()],
+            reader.debits(),
+            reader.invalid(),
+            reader.errors(),
+            Duration.ofNanos(System.nanoTime() - started)
+        );
+    }
+
+    private OpenInvoiceIndex loadOpenInvoices(UUID tenantId) {
+        OpenInvoiceIndex invoices = new OpenInvoiceIndex(0);
+        long[] ignored = new long[1];
+        readOnlyTransactionTemplate.executeWithoutResult(status -> paymentRepository.forEachOpenInvoice(
+            tenantId,
+            invoice -> {
+                if (!invoices.add(invoice)) {
+                    ignored[0]++;
+                }
+            }
+        ));
+        if (ignored[0] > 0) {
+            LOGGER.warn("Ignored {} open invoices of tenant {} with a foreign payment reference", ignored[0], tenantId);
+        }
+        return invoices;
+    }
+
+    // CHECKSTYLE:OFF: ParameterNumber - Chunk context is passed explicitly to the worker
+    private ChunkResult apply(
+        BatchCheckpoint start,
+        UUID tenantId,
+        String fileName,
+        List<IncomingPayment> payments,
+        OpenInvoiceIndex invoices
+    ) {
+        // CHECKSTYLE:ON: ParameterNumber
+        UUID runId = start.runId();
+        BatchCheckpoint checkpoint = new BatchCheckpoint(runId, start.partitionKey(), null, payments.size(), true);
+        return transactionTemplate.execute(status -> {
+            Set<String> recorded = paymentRepository.findRecorded(
+                tenantId, payments.stream().map(IncomingPayment::bankReference).toList()
+            );
+            Set<String> seen = new HashSet<>();
+            List<MatchedPayment> matched = new ArrayList<>(payments.size());
+            for (IncomingPayment payment : payments) {
+                if (!recorded.contains(payment.bankReference()) && seen.add(payment.bankReference())) {
+                    matched.add(match(payment, invoices));
+                }
+            }
+            List<MatchedPayment> saved = matched.isEmpty()
+                ? List.of()
+                : paymentRepository.savePayments(runId, tenantId, fileName, matched);
+
+            long[] outcomes = new long[OUTCOMES.length];
+            outcomes[PaymentOutcome.DUPLICATE.ordinal()] = payments.size() - saved.size();
+            Map<UUID, Long> paidAmounts = new HashMap<>();
+            long bookedAmount = 0;
+            for (MatchedPayment payment : saved) {
+                outcomes[payment.outcome().ordinal()]++;
+                if (payment.invoiceId() != null) {
+                    paidAmounts.merge(payment.invoiceId(), payment.payment().amount(), Rappen::add);
+                    bookedAmount = Rappen.add(bookedAmount, payment.payment().amount());
+                }
+            }
+            if (!paidAmounts.isEmpty()) {
+                paymentRepository.addPaidAmounts(paidAmounts);
+            }
+            batchRunStore.checkpoint(checkpoint);
+            return new ChunkResult(outcomes, bookedAmount);
+        });
+    }
+
+    /**
+     * Matches one payment to the open invoice with its reference.
+     */
+    static MatchedPayment match(IncomingPayment payment, OpenInvoiceIndex invoices) {
+        if (payment.reversal()) {
+            return new MatchedPayment(payment, PaymentOutcome.REVERSAL, null);
+        }
+        if (!CURRENCY.equals(payment.currency())) {
+            return new MatchedPayment(payment, PaymentOutcome.FOREIGN_CURRENCY, null);
+        }
+        String reference = payment.paymentReference();
+        if (reference == null) {
+            return new MatchedPayment(payment, PaymentOutcome.NO_REFERENCE, null);
+        }
+        UUID invoiceId = invoices.invoiceId(reference);
+        return invoiceId == null
+            ? new MatchedPayment(payment, PaymentOutcome.UNKNOWN_REFERENCE, null)
+            : new MatchedPayment(payment, PaymentOutcome.BOOKED, invoiceId);
+    }
+
+    private record ChunkResult(long[] outcomes, long bookedAmount) {
+    }
+}
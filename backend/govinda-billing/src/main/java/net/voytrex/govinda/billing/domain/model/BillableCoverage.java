@@ -0,0 +1,32 @@
+/*
+ * Govinda ERP - Billable Coverage
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.domain.model;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.BillingFrequency;
+import org.springframework.lang.Nullable;
+
+/**
+ * Coverage of an active policy as read by the invoice run, together with the
+ * policy fields the invoice needs.
+ *
+ * @param monthlyPremium premium in Rappen
+ */
+public record BillableCoverage(
+    UUID policyId,
+    String policyNumber,
+    UUID policyholderId,
+    BillingFrequency frequency,
+    UUID coverageId,
+    UUID insuredPersonId,
+    UUID productId,
+    LocalDate effectiveDate,
+    @Nullable LocalDate terminationDate,
+    long monthlyPremium
+) {
+}
@@ -0,0 +1,20 @@
+/*
+ * Govinda ERP - Billing Creditor
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.domain.model;
+
+import java.util.UUID;
+import org.springframework.lang.Nullable;
+
+/**
+ * Account and address a tenant's invoices are payable to, from the tenant's
+ * billing settings.
+ *
+ * @param account QR-IBAN, {@code null} if the tenant has none configured
+ * @param address creditor address, {@code null} if incomplete
+ */
+public record BillingCreditor(UUID tenantId, @Nullable String account, @Nullable QrBillAddress address) {
+}
@@ -0,0 +1,56 @@
+/*
+ * Govinda ERP - Billing Period
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.domain.model;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import net.voytrex.govinda.common.domain.model.BillingFrequency;
+import org.springframework.lang.Nullable;
+
+/**
+ * Months invoiced together for policies of one billing frequency.
+ *
+ * Periods are aligned to the calendar year: quarters start in January, April,
+ * July and October, half years in January and July, and annual periods in
+ * January.
+ */
+public record BillingPeriod(BillingFrequency frequency, LocalDate start, LocalDate end) {
+    private static final int MONTHS_PER_YEAR = 12;
+
+    /**
+     * Periods of all billing frequencies that start in the month, e.g. all four
+     * in January and only the monthly one in February.
+     */
+    public static List<BillingPeriod> startingIn(YearMonth month) {
+        List<BillingPeriod> periods = new ArrayList<>();
+        for (BillingFrequency frequency : BillingFrequency.values()) {
+            int months = MONTHS_PER_YEAR / frequency.getPeriodsPerYear();
+            if ((month.getMonthValue() - 1) % months == 0) {
+                periods.add(new BillingPeriod(frequency, month.atDay(1), month.plusMonths(months - 1).atEndOfMonth()));
+            }
+        }
+        return periods;
+    }
+
+    /**
+     * Number of months of the period a coverage is billed for: every month in
+     * which it is in force on at least one day.
+     *
+     * @param terminationDate last day of the coverage, or {@code null} if open-ended
+     */
+    public int billableMonths(LocalDate effectiveDate, @Nullable LocalDate terminationDate) {
+        LocalDate from = effectiveDate.isAfter(start) ? effectiveDate : start;
+        LocalDate to = terminationDate == null || terminationDate.isAfter(end) ? end : terminationDate;
+        if (from.isAfter(to)) {
+            return 0;
+        }
+        return (int) ChronoUnit.MONTHS.between(YearMonth.from(from), YearMonth.from(to)) + 1;
+    }
+}
@@ -0,0 +1,23 @@
+/*
+ * Govinda ERP - Dunning Counter
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.domain.model;
+
+import java.util.UUID;
+
+/**
+ * Dunning notices and debt collection proceedings of a debtor in one calendar
+ * year, kept as running counts so yearly limits need no aggregate query. Also
+ * used for the increments of a dunning run.
+ *
+ * @param reminders notices below debt collection
+ * @param kvgDebtCollections debt collection proceedings for mandatory health
+ *                           insurance premiums, which are limited per year; one
+ *                           proceeding covers all such invoices of the debtor
+ *                           escalated on the same day
+ */
+public record DunningCounter(UUID tenantId, UUID debtorId, int reminders, int kvgDebtCollections) {
+}
@@ -0,0 +1,31 @@
+/*
+ * Govinda ERP - Dunning Item
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.domain.model;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import org.springframework.lang.Nullable;
+
+/**
+ * Unpaid invoice whose next dunning action is due, as selected for a dunning run.
+ *
+ * @param debtorId policyholder owing the invoice
+ * @param level level reached so far, {@code null} if not dunned yet
+ * @param openAmount amount still open in Rappen
+ * @param kvg whether the invoice bills mandatory health insurance, whose debt
+ *            collections are limited per year
+ */
+public record DunningItem(
+    UUID invoiceId,
+    UUID tenantId,
+    UUID debtorId,
+    @Nullable DunningLevel level,
+    LocalDate dueDate,
+    long openAmount,
+    boolean kvg
+) {
+}
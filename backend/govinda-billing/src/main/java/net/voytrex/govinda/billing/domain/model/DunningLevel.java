@@ -0,0 +1,50 @@
+/*
+ * Govinda ERP - Dunning Level
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.domain.model;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Stages of the dunning process of an unpaid invoice, in escalation order,
+ * with the days after the due date from which each stage is reached.
+ */
+public enum DunningLevel {
+    /** First reminder (1. Mahnung) */
+    REMINDER_1(30),
+    /** Second reminder (2. Mahnung) */
+    REMINDER_2(45),
+    /** Final notice announcing debt collection (Letzte Mahnung) */
+    FINAL_NOTICE(60),
+    /** Debt collection proceeding (Betreibung); the case leaves the automatic process */
+    DEBT_COLLECTION(75);
+
+    private static final DunningLevel[] LEVELS = values();
+
+    private final int daysAfterDue;
+
+    DunningLevel(int daysAfterDue) {
+        this.daysAfterDue = daysAfterDue;
+    }
+
+    public int daysAfterDue() {
+        return daysAfterDue;
+    }
+
+    /**
+     * Level that follows an invoice's current level, {@code null} for an
+     * invoice that has not been dunned yet.
+     *
+     * @return the next level, or {@code null} after debt collection
+     */
+    @Nullable
+    public static DunningLevel after(@Nullable DunningLevel current) {
+        if (current == null) {
+            return REMINDER_1;
+        }
+        return current.ordinal() + 1 < LEVELS.length ? LEVELS[current.ordinal() + 1] : null;
+    }
+}
@@ -0,0 +1,19 @@
+/*
+ * Govinda ERP - Dunning Outcome
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.domain.model;
+
+/**
+ * What a dunning run did with one due invoice.
+ */
+public enum DunningOutcome {
+    /** Notice of the next level issued */
+    ISSUED,
+    /** Next level not reached yet; the invoice is looked at again on that date */
+    RESCHEDULED,
+    /** Debt collection limit of the year reached; held until the next year */
+    HELD
+}
@@ -0,0 +1,38 @@
+/*
+ * Govinda ERP - Dunning Report
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.domain.model;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Summary of one dunning run. Counts cover the invoices processed by this
+ * execution; those processed by an earlier, interrupted execution of the same
+ * date are no longer due and not counted again.
+ *
+ * @param notices notices issued, including debt collections
+ * @param debtCollections invoices escalated to debt collection
+ * @param held invoices held back by the yearly debt collection limit
+ */
+public record DunningReport(
+    UUID runId,
+    LocalDate runDate,
+    int chunks,
+    long due,
+    long notices,
+    long debtCollections,
+    long rescheduled,
+    long held,
+    Duration elapsed
+) {
+
+    public double itemsPerSecond() {
+        long millis = elapsed.toMillis();
+        return millis == 0 ? due * 1000.0 : due * 1000.0 / millis;
+    }
+}
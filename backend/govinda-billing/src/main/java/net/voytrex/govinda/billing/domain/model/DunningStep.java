@@ -0,0 +1,25 @@
+/*
+ * Govinda ERP - Dunning Step
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.domain.model;
+
+import java.time.LocalDate;
+import org.springframework.lang.Nullable;
+
+/**
+ * Decision of a dunning run for one invoice.
+ *
+ * @param level level of the invoice after the step; the issued level for {@link DunningOutcome#ISSUED}
+ * @param nextActionDate date the invoice is looked at again, {@code null} when
+ *                       it leaves the automatic process
+ */
+public record DunningStep(
+    DunningItem item,
+    DunningOutcome outcome,
+    @Nullable DunningLevel level,
+    @Nullable LocalDate nextActionDate
+) {
+}
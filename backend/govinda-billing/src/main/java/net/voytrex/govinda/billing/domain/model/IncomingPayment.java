@@ -0,0 +1,31 @@
+/*
+ * Govinda ERP - Incoming Payment
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.domain.model;
+
+import java.time.LocalDate;
+import org.springframework.lang.Nullable;
+
+/**
+ * Credit transaction of a bank notification (camt.054).
+ *
+ * @param bankReference unique reference of the transaction at the bank, or
+ *                      derived from the message id and position if the bank sent none
+ * @param paymentReference structured creditor reference (QR, ESR or ISO 11649), if any
+ * @param amount amount in Rappen (hundredths of the currency)
+ * @param reversal whether the bank reverses an earlier booking
+ */
+public record IncomingPayment(
+    String bankReference,
+    @Nullable String paymentReference,
+    long amount,
+    String currency,
+    LocalDate bookingDate,
+    LocalDate valueDate,
+    @Nullable String debtorName,
+    boolean reversal
+) {
+}
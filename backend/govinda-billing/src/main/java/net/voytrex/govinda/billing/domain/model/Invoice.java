@@ -0,0 +1,39 @@
+/*
+ * Govinda ERP - Invoice
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.domain.model;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Premium invoice of a policy for one billing period, as created by the
+ * invoice run. Amounts are in Rappen; the total is the gross amount less the
+ * frequency discount, rounded to 5 Rappen.
+ *
+ * @param paymentReference QR reference the policyholder pays with, see {@link PaymentReference}
+ */
+public record Invoice(
+    UUID id,
+    UUID tenantId,
+    UUID policyId,
+    UUID policyholderId,
+    String invoiceNumber,
+    String paymentReference,
+    BillingPeriod period,
+    LocalDate invoiceDate,
+    LocalDate dueDate,
+    long grossAmount,
+    long discountAmount,
+    long totalAmount,
+    List<InvoiceLine> lines
+) {
+
+    public Invoice {
+        lines = List.copyOf(lines);
+    }
+}
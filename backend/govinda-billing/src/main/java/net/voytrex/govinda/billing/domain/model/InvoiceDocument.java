@@ -0,0 +1,25 @@
+/*
+ * Govinda ERP - Invoice Document
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.domain.model;
+
+import java.util.UUID;
+
+/**
+ * Rendered invoice document, registered as a portal document of the policyholder.
+ *
+ * @param documentId id of the portal document
+ * @param storageKey key of the PDF in the document store, derived from its content hash
+ */
+public record InvoiceDocument(
+    UUID documentId,
+    UUID invoiceId,
+    UUID tenantId,
+    UUID policyholderId,
+    String title,
+    String storageKey
+) {
+}
@@ -0,0 +1,37 @@
+/*
+ * Govinda ERP - Invoice Document Report
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.domain.model;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Summary of rendering the documents of an invoice run.
+ *
+ * Counts cover this execution only; invoices documented by an earlier,
+ * interrupted execution are not read again.
+ *
+ * @param documents documents registered
+ * @param stored files written; lower than {@code documents} where identical
+ *               content was already stored
+ * @param bytes size of the rendered documents
+ */
+public record InvoiceDocumentReport(
+    UUID runId,
+    UUID invoiceRunId,
+    int chunks,
+    long documents,
+    long stored,
+    long bytes,
+    Duration elapsed
+) {
+
+    public double documentsPerSecond() {
+        long millis = elapsed.toMillis();
+        return millis == 0 ? documents * 1000.0 : documents * 1000.0 / millis;
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Govinda ERP - Invoice Document Source
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.domain.model;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.BillingFrequency;
+import net.voytrex.govinda.common.domain.model.Language;
+import org.springframework.lang.Nullable;
+
+/**
+ * Invoice with its policyholder, as read for rendering its QR-bill.
+ *
+ * @param language correspondence language of the policyholder
+ * @param totalAmount amount payable in Rappen
+ * @param debtor billing address of the policyholder, {@code null} if none is on record
+ */
+public record InvoiceDocumentSource(
+    UUID invoiceId,
+    UUID tenantId,
+    UUID policyholderId,
+    Language language,
+    String invoiceNumber,
+    String paymentReference,
+    BillingFrequency billingFrequency,
+    LocalDate periodStart,
+    LocalDate periodEnd,
+    LocalDate invoiceDate,
+    LocalDate dueDate,
+    long totalAmount,
+    String currency,
+    @Nullable QrBillAddress debtor
+) {
+}
@@ -0,0 +1,26 @@
+/*
+ * Govinda ERP - Invoice Line
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.domain.model;
+
+import java.util.UUID;
+
+/**
+ * Premium of one coverage on an invoice.
+ *
+ * @param monthlyPremium premium per month in Rappen
+ * @param amount premium for the billed months in Rappen
+ */
+public record InvoiceLine(
+    int lineNumber,
+    UUID coverageId,
+    UUID insuredPersonId,
+    UUID productId,
+    int months,
+    long monthlyPremium,
+    long amount
+) {
+}
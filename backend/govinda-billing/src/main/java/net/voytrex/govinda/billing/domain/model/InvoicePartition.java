@@ -0,0 +1,69 @@
+/*
+ * Govinda ERP - Invoice Partition
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.domain.model;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.lang.Nullable;
+
+/**
+ * Unit of parallel work of the invoice run: the policies of one tenant whose
+ * id falls into one of {@code slices} equal ranges of the UUID space.
+ *
+ * Bounds compare like PostgreSQL {@code uuid} values, i.e. as unsigned bytes.
+ */
+public record InvoicePartition(UUID tenantId, int slice, int slices) {
+    private static final BigInteger UUID_HIGH_RANGE = BigInteger.ONE.shiftLeft(Long.SIZE);
+
+    public InvoicePartition {
+        if (slices < 1 || slice < 0 || slice >= slices) {
+            throw new IllegalArgumentException("slice must be between 0 and " + (slices - 1));
+        }
+    }
+
+    /**
+     * All partitions of a tenant.
+     */
+    public static List<InvoicePartition> of(UUID tenantId, int slices) {
+        List<InvoicePartition> partitions = new ArrayList<>(slices);
+        for (int slice = 0; slice < slices; slice++) {
+            partitions.add(new InvoicePartition(tenantId, slice, slices));
+        }
+        return partitions;
+    }
+
+    /**
+     * Stable key used for checkpoints.
+     */
+    public String key() {
+        return tenantId + "/" + slice + "-" + slices;
+    }
+
+    /**
+     * Smallest policy id of the partition (inclusive).
+     */
+    public UUID lowerBound() {
+        return bound(slice);
+    }
+
+    /**
+     * Smallest policy id of the next partition (exclusive), or {@code null} for the last one.
+     */
+    @Nullable
+    public UUID upperBound() {
+        return slice == slices - 1 ? null : bound(slice + 1);
+    }
+
+    private UUID bound(int index) {
+        long high = UUID_HIGH_RANGE.multiply(BigInteger.valueOf(index))
+            .divide(BigInteger.valueOf(slices))
+            .longValue();
+        return new UUID(high, 0L);
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Govinda ERP - Invoice Run Report
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.domain.model;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.UUID;
+
+/**
+ * Summary of an invoice run.
+ *
+ * Counts and amounts cover the invoices created by this execution only;
+ * partitions completed by an earlier, interrupted execution are counted in
+ * {@code skippedPartitions}.
+ *
+ * @param totalAmount sum of the invoice totals in Rappen
+ */
+public record InvoiceRunReport(
+    UUID runId,
+    YearMonth month,
+    int partitions,
+    int skippedPartitions,
+    long invoices,
+    long lines,
+    long totalAmount,
+    Duration elapsed
+) {
+
+    public double invoicesPerSecond() {
+        long millis = elapsed.toMillis();
+        return millis == 0 ? invoices * 1000.0 : invoices * 1000.0 / millis;
+    }
+}
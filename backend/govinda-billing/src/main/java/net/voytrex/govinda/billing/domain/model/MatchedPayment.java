@@ -0,0 +1,18 @@
+/*
+ * Govinda ERP - Matched Payment
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.domain.model;
+
+import java.util.UUID;
+import org.springframework.lang.Nullable;
+
+/**
+ * Incoming payment with the result of matching it to an open invoice.
+ *
+ * @param invoiceId invoice the payment is booked against; {@code null} unless {@link PaymentOutcome#BOOKED}
+ */
+public record MatchedPayment(IncomingPayment payment, PaymentOutcome outcome, @Nullable UUID invoiceId) {
+}
@@ -0,0 +1,15 @@
+/*
+ * Govinda ERP - Open Invoice
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.domain.model;
+
+import java.util.UUID;
+
+/**
+ * Invoice that can still be paid, as loaded for payment matching.
+ */
+public record OpenInvoice(UUID invoiceId, String paymentReference) {
+}
@@ -0,0 +1,127 @@
+/*
+ * Govinda ERP - Open Invoice Index
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.domain.model;
+
+import java.util.Arrays;
+import java.util.UUID;
+import org.springframework.lang.Nullable;
+
+/**
+ * In-memory lookup of the open invoices of a tenant by payment reference, for
+ * matching incoming payments.
+ *
+ * References are keyed by their reference number
+ * ({@link PaymentReference#number(CharSequence)}) in an open-addressing hash
+ * table over primitive arrays, kept at most half full, so a tenant's open
+ * invoices fit in a few dozen bytes each and lookups neither box nor allocate.
+ * Filled by one thread, then shared read-only by the workers applying payment
+ * chunks.
+ */
+public final class OpenInvoiceIndex {
+    private static final long GOLDEN_RATIO = 0x9E37_79B9_7F4A_7C15L;
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private int[] slots;
+    private int shift;
+    private UUID[] invoiceIds;
+    private int size;
+
+    public OpenInvoiceIndex(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expected size must not be negative");
+        }
+        allocate(Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, expectedSize)) << 2));
+        invoiceIds = new UUID[Math.max(MIN_CAPACITY, expectedSize)];
+    }
+
+    /**
+     * Adds an open invoice.
+     *
+     * @return {@code false} if its reference was not created by the invoice run
+     *         or is already taken, and the invoice was ignored
+     */
+    public boolean add(OpenInvoice invoice) {
+        long number = PaymentReference.number(invoice.paymentReference());
+        if (number == PaymentReference.NONE) {
+            return false;
+        }
+        int mask = keys.length - 1;
+        int slot = slot(number);
+        while (keys[slot] != 0) {
+            if (keys[slot] == number) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (size == invoiceIds.length) {
+            invoiceIds = Arrays.copyOf(invoiceIds, size << 1);
+        }
+        invoiceIds[size] = invoice.invoiceId();
+        keys[slot] = number;
+        slots[slot] = size;
+        if (++size > keys.length >>> 1) {
+            rehash();
+        }
+        return true;
+    }
+
+    /**
+     * Open invoice with a payment reference (spaces are ignored), or {@code null}.
+     */
+    @Nullable
+    public UUID invoiceId(CharSequence paymentReference) {
+        long number = PaymentReference.number(paymentReference);
+        if (number == PaymentReference.NONE) {
+            return null;
+        }
+        int mask = keys.length - 1;
+        for (int slot = slot(number); ; slot = (slot + 1) & mask) {
+            long key = keys[slot];
+            if (key == number) {
+                return invoiceIds[slots[slot]];
+            }
+            if (key == 0) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Number of open invoices in the index.
+     */
+    public int size() {
+        return size;
+    }
+
+    private int slot(long number) {
+        return (int) ((number * GOLDEN_RATIO) >>> shift);
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        slots = new int[capacity];
+        shift = Long.numberOfLeadingZeros(capacity - 1L);
+    }
+
+    private void rehash() {
+        long[] oldKeys = keys;
+        int[] oldSlots = slots;
+        allocate(oldKeys.length << 1);
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = slot(oldKeys[i]);
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                slots[slot] = oldSlots[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Govinda ERP - Payment Import Report
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.domain.model;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Summary of importing one camt.054 payment notification.
+ *
+ * Outcome counts cover the payments applied by this execution only; chunks
+ * committed by an earlier, interrupted execution are counted in
+ * {@code skippedChunks}. Debits and invalid transactions are counted over the
+ * whole file.
+ *
+ * @param bookedAmount sum of the booked payments in Rappen
+ * @param errors first rejected transactions with their entry number
+ */
+public record PaymentImportReport(
+    UUID runId,
+    String fileName,
+    int chunks,
+    int skippedChunks,
+    long booked,
+    long bookedAmount,
+    long clarifications,
+    long duplicates,
+    long debits,
+    long invalid,
+    List<String> errors,
+    Duration elapsed
+) {
+
+    public long processed() {
+        return booked + clarifications + duplicates;
+    }
+
+    public double paymentsPerSecond() {
+        long millis = elapsed.toMillis();
+        return millis == 0 ? processed() * 1000.0 : processed() * 1000.0 / millis;
+    }
+}
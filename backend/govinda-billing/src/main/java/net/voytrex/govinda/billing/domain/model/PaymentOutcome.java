@@ -0,0 +1,33 @@
+/*
+ * Govinda ERP - Payment Outcome
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.domain.model;
+
+/**
+ * Result of matching one incoming payment. Payments that cannot be booked
+ * automatically are queued for clarification with the outcome as reason.
+ */
+public enum PaymentOutcome {
+    /** Booked against the open invoice with its reference */
+    BOOKED,
+    /** Reference is not that of an open invoice */
+    UNKNOWN_REFERENCE,
+    /** Payment carries no structured reference */
+    NO_REFERENCE,
+    /** Payment is not in CHF */
+    FOREIGN_CURRENCY,
+    /** Bank reverses an earlier booking */
+    REVERSAL,
+    /** Already recorded from an earlier file; not stored again */
+    DUPLICATE;
+
+    /**
+     * Whether the payment goes to the clarification queue.
+     */
+    public boolean needsClarification() {
+        return this != BOOKED && this != DUPLICATE;
+    }
+}
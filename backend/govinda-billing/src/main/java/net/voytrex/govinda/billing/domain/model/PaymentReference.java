@@ -0,0 +1,80 @@
+/*
+ * Govinda ERP - Payment Reference
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.domain.model;
+
+/**
+ * Swiss QR reference (formerly ESR reference) of an invoice: 26 digits holding
+ * the reference number, zero-padded, followed by a check digit computed with
+ * the recursive modulo 10 algorithm.
+ *
+ * Invoices are numbered from a database sequence, so every reference created
+ * here carries a positive {@code long}.
+ */
+public final class PaymentReference {
+    /** Returned by {@link #number(String)} for references that were not created here. */
+    public static final long NONE = -1L;
+    public static final int LENGTH = 27;
+    private static final int[] CARRY = {0, 9, 4, 6, 8, 2, 7, 1, 3, 5};
+    private static final int MAX_NUMBER_DIGITS = 18;
+
+    private PaymentReference() {
+    }
+
+    /**
+     * QR reference of a reference number.
+     */
+    public static String of(long number) {
+        if (number <= 0) {
+            throw new IllegalArgumentException("Reference number must be positive: " + number);
+        }
+        StringBuilder reference = new StringBuilder(LENGTH);
+        String digits = Long.toString(number);
+        reference.repeat('0', LENGTH - 1 - digits.length()).append(digits);
+        return reference.append(checkDigit(reference)).toString();
+    }
+
+    /**
+     * Reference number of a QR reference, ignoring spaces, or {@link #NONE} if
+     * the reference is malformed, has a wrong check digit or a number that
+     * cannot have been created by {@link #of(long)}.
+     */
+    public static long number(CharSequence reference) {
+        int digits = 0;
+        int carry = 0;
+        long number = 0;
+        for (int i = 0; i < reference.length(); i++) {
+            char c = reference.charAt(i);
+            if (c == ' ') {
+                continue;
+            }
+            if (c < '0' || c > '9' || ++digits > LENGTH) {
+                return NONE;
+            }
+            int digit = c - '0';
+            if (digits == LENGTH) {
+                return digit == (10 - carry) % 10 && number > 0 ? number : NONE;
+            }
+            carry = CARRY[(carry + digit) % 10];
+            if (digits <= LENGTH - 1 - MAX_NUMBER_DIGITS) {
+                if (digit != 0) {
+                    return NONE;
+                }
+            } else {
+                number = number * 10 + digit;
+            }
+        }
+        return NONE;
+    }
+
+    private static int checkDigit(CharSequence digits) {
+        int carry = 0;
+        for (int i = 0; i < digits.length(); i++) {
+            carry = CARRY[(carry + digits.charAt(i) - '0') % 10];
+        }
+        return (10 - carry) % 10;
+    }
+}
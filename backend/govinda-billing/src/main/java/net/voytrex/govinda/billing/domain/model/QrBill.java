@@ -0,0 +1,132 @@
+/*
+ * Govinda ERP - QR-Bill
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.domain.model;
+
+import net.voytrex.govinda.common.domain.model.Rappen;
+import org.springframework.lang.Nullable;
+
+/**
+ * Payment part of a Swiss QR-bill with a QR reference.
+ *
+ * {@link #payload()} is the content of the Swiss QR Code according to the
+ * Swiss Implementation Guidelines for the QR-bill, version 2.3 ({@code SPC},
+ * version {@code 0200}, structured addresses only).
+ *
+ * @param account QR-IBAN of the creditor, without spaces
+ * @param amount amount payable in Rappen
+ * @param debtor address of the payer, {@code null} to leave it to the payer
+ * @param reference 27-digit QR reference
+ * @param message unstructured message shown to the payer, if any
+ */
+public record QrBill(
+    String account,
+    QrBillAddress creditor,
+    long amount,
+    String currency,
+    @Nullable QrBillAddress debtor,
+    String reference,
+    @Nullable String message
+) {
+    static final int MAX_NAME_LENGTH = 70;
+    static final int MAX_STREET_LENGTH = 70;
+    static final int MAX_BUILDING_NUMBER_LENGTH = 16;
+    static final int MAX_POSTAL_CODE_LENGTH = 16;
+    static final int MAX_TOWN_LENGTH = 35;
+    static final int MAX_MESSAGE_LENGTH = 140;
+    private static final int IBAN_LENGTH = 21;
+    private static final int QR_IID_FIRST = 30_000;
+    private static final int QR_IID_LAST = 31_999;
+    private static final int ADDRESS_ELEMENTS = 7;
+    private static final int PAYLOAD_CAPACITY = 400;
+
+    /**
+     * Content of the Swiss QR Code, elements separated by line feeds.
+     */
+    public String payload() {
+        StringBuilder payload = new StringBuilder(PAYLOAD_CAPACITY);
+        payload.append("SPC\n0200\n1\n").append(account).append('\n');
+        address(payload, creditor);
+        // Ultimate creditor: reserved for future use and left empty
+        payload.repeat('\n', ADDRESS_ELEMENTS);
+        payload.append(Rappen.toPlainString(amount)).append('\n').append(currency).append('\n');
+        if (debtor != null) {
+            address(payload, debtor);
+        } else {
+            payload.repeat('\n', ADDRESS_ELEMENTS);
+        }
+        payload.append("QRR\n").append(reference).append('\n');
+        element(payload, message, MAX_MESSAGE_LENGTH);
+        return payload.append("EPD").toString();
+    }
+
+    /**
+     * Whether the account is a valid Swiss or Liechtenstein QR-IBAN, i.e. an
+     * IBAN whose institution id lies in the range reserved for QR references.
+     * Spaces are ignored.
+     */
+    public static boolean isQrIban(@Nullable String account) {
+        if (account == null) {
+            return false;
+        }
+        String iban = account.replace(" ", "");
+        if (iban.length() != IBAN_LENGTH || !(iban.startsWith("CH") || iban.startsWith("LI"))) {
+            return false;
+        }
+        for (int i = 2; i < IBAN_LENGTH; i++) {
+            char c = iban.charAt(i);
+            if (!(c >= '0' && c <= '9' || c >= 'A' && c <= 'Z')) {
+                return false;
+            }
+        }
+        int institution;
+        try {
+            institution = Integer.parseInt(iban.substring(4, 9));
+        } catch (NumberFormatException ex) {
+            return false;
+        }
+        return institution >= QR_IID_FIRST && institution <= QR_IID_LAST && mod97(iban) == 1;
+    }
+
+    /**
+     * ISO 7064 MOD 97-10 of an IBAN with its first four characters moved to the end.
+     */
+    private static int mod97(String iban) {
+        int remainder = 0;
+        for (int i = 0; i < iban.length(); i++) {
+            char c = iban.charAt((i + 4) % iban.length());
+            int value = c <= '9' ? c - '0' : c - 'A' + 10;
+            remainder = (value >= 10 ? remainder * 100 : remainder * 10) + value;
+            remainder %= 97;
+        }
+        return remainder;
+    }
+
+    private static void address(StringBuilder payload, QrBillAddress address) {
+        payload.append("S\n");
+        element(payload, address.name(), MAX_NAME_LENGTH);
+        element(payload, address.street(), MAX_STREET_LENGTH);
+        element(payload, address.buildingNumber(), MAX_BUILDING_NUMBER_LENGTH);
+        element(payload, address.postalCode(), MAX_POSTAL_CODE_LENGTH);
+        element(payload, address.town(), MAX_TOWN_LENGTH);
+        payload.append(address.country()).append('\n');
+    }
+
+    /**
+     * Appends an element cut to its maximum length, with line breaks replaced
+     * so the value cannot shift the following elements.
+     */
+    private static void element(StringBuilder payload, @Nullable String value, int maxLength) {
+        if (value != null) {
+            String text = value.strip();
+            for (int i = 0; i < Math.min(text.length(), maxLength); i++) {
+                char c = text.charAt(i);
+                payload.append(Character.isISOControl(c) ? ' ' : c);
+            }
+        }
+        payload.append('\n');
+    }
+}
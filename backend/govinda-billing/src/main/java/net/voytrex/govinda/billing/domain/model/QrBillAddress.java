@@ -0,0 +1,51 @@
+/*
+ * Govinda ERP - QR-Bill Address
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.domain.model;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Structured address (type {@code S}) of a creditor or debtor on a Swiss QR-bill.
+ *
+ * @param country ISO 3166-1 alpha-2 country code
+ */
+public record QrBillAddress(
+    String name,
+    @Nullable String street,
+    @Nullable String buildingNumber,
+    String postalCode,
+    String town,
+    String country
+) {
+
+    public QrBillAddress {
+        if (name.isBlank() || postalCode.isBlank() || town.isBlank()) {
+            throw new IllegalArgumentException("name, postal code and town must not be blank");
+        }
+        if (country.length() != 2) {
+            throw new IllegalArgumentException("country must be an ISO alpha-2 code: " + country);
+        }
+    }
+
+    /**
+     * Street and building number as printed, or {@code null} without a street.
+     */
+    @Nullable
+    public String streetLine() {
+        if (street == null || street.isBlank()) {
+            return null;
+        }
+        return buildingNumber == null || buildingNumber.isBlank() ? street : street + " " + buildingNumber;
+    }
+
+    /**
+     * Postal code and town as printed, with the country prefix outside Switzerland.
+     */
+    public String townLine() {
+        return ("CH".equals(country) ? "" : country + "-") + postalCode + " " + town;
+    }
+}
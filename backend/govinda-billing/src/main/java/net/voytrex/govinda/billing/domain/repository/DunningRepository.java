@@ -0,0 +1,57 @@
+/*
+ * Govinda ERP - Dunning Repository
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.domain.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import net.voytrex.govinda.billing.domain.model.DunningCounter;
+import net.voytrex.govinda.billing.domain.model.DunningItem;
+import net.voytrex.govinda.billing.domain.model.DunningStep;
+
+/**
+ * Bulk access to due dunning items, dunning notices and debtor counters for
+ * the dunning run.
+ */
+public interface DunningRepository {
+
+    /**
+     * Streams the unpaid invoices whose next dunning action is due on or before
+     * the date, grouped by debtor. Must be called inside a transaction, which
+     * lets the driver fetch the rows with a server-side cursor.
+     */
+    void streamDue(LocalDate date, Consumer<DunningItem> consumer);
+
+    /**
+     * Locks the given invoices that are still unpaid and due on the date.
+     * Invoices paid or processed in the meantime are left out.
+     *
+     * @return the ids of the locked invoices
+     */
+    Set<UUID> lockDue(Collection<UUID> invoiceIds, LocalDate date);
+
+    /**
+     * Counters of the debtors in a year; debtors without a counter are missing.
+     */
+    Map<UUID, DunningCounter> findCounters(int year, Collection<UUID> debtorIds);
+
+    /**
+     * Records the notices of the issued steps and moves every invoice to its
+     * new level and next action date. Invoices that get a notice become
+     * {@code OVERDUE}.
+     */
+    void saveSteps(UUID runId, LocalDate date, List<DunningStep> steps);
+
+    /**
+     * Adds increments to the debtors' counters of a year.
+     */
+    void addCounters(int year, Collection<DunningCounter> increments);
+}
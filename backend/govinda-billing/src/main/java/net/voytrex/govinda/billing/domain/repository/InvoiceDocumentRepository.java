@@ -0,0 +1,42 @@
+/*
+ * Govinda ERP - Invoice Document Repository
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.domain.repository;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import net.voytrex.govinda.billing.domain.model.BillingCreditor;
+import net.voytrex.govinda.billing.domain.model.InvoiceDocument;
+import net.voytrex.govinda.billing.domain.model.InvoiceDocumentSource;
+
+/**
+ * Bulk access to the invoices of an invoice run for rendering their documents.
+ */
+public interface InvoiceDocumentRepository {
+
+    /**
+     * Billing accounts of the tenants with invoices in the run.
+     */
+    List<BillingCreditor> findCreditors(UUID invoiceRunId);
+
+    /**
+     * Streams the invoices of the run that have a payment reference and no
+     * document yet, ordered by id. Must be called inside a transaction, which
+     * lets the driver fetch the rows with a server-side cursor.
+     */
+    void streamUndocumented(UUID invoiceRunId, Consumer<InvoiceDocumentSource> consumer);
+
+    /**
+     * Registers documents as portal documents of the policyholders and links
+     * them to their invoices. Draft invoices become {@code SENT} and are
+     * scheduled for dunning from their due date. Invoices that got a document
+     * in the meantime are left alone.
+     *
+     * @return the documents registered
+     */
+    List<InvoiceDocument> registerDocuments(List<InvoiceDocument> documents);
+}
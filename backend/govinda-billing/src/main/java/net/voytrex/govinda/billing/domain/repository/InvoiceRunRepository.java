@@ -0,0 +1,58 @@
+/*
+ * Govinda ERP - Invoice Run Repository
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.domain.repository;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import net.voytrex.govinda.billing.domain.model.BillableCoverage;
+import net.voytrex.govinda.billing.domain.model.BillingPeriod;
+import net.voytrex.govinda.billing.domain.model.Invoice;
+import net.voytrex.govinda.billing.domain.model.InvoicePartition;
+import org.springframework.lang.Nullable;
+
+/**
+ * Bulk access to policies, coverages and invoices for the invoice run.
+ */
+public interface InvoiceRunRepository {
+
+    /**
+     * Tenants with at least one active policy.
+     */
+    List<UUID> findTenants();
+
+    /**
+     * Streams the coverages to invoice for the periods, ordered by policy id and
+     * coverage id, so the coverages of a policy arrive one after the other.
+     *
+     * Only active policies with the billing frequency of one of the periods and
+     * without an invoice for the period yet are read; their coverages are read
+     * if in force on at least one day of the longest period and not suspended.
+     * Must be called inside a transaction, which lets the driver fetch the rows
+     * with a server-side cursor instead of loading the whole partition.
+     *
+     * @param periods periods starting on the same day, at most one per billing frequency
+     * @param afterPolicyId keyset position; {@code null} to read the partition from its start
+     */
+    void streamCoverages(
+        InvoicePartition partition,
+        List<BillingPeriod> periods,
+        @Nullable UUID afterPolicyId,
+        Consumer<BillableCoverage> consumer
+    );
+
+    /**
+     * Reserves numbers for {@link net.voytrex.govinda.billing.domain.model.PaymentReference payment references}.
+     * Numbers are never handed out twice; unused ones are simply skipped.
+     */
+    long[] reserveReferenceNumbers(int count);
+
+    /**
+     * Inserts invoices with their lines.
+     */
+    void saveInvoices(UUID runId, List<Invoice> invoices);
+}
@@ -0,0 +1,48 @@
+/*
+ * Govinda ERP - Payment Repository
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.domain.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import net.voytrex.govinda.billing.domain.model.MatchedPayment;
+import net.voytrex.govinda.billing.domain.model.OpenInvoice;
+
+/**
+ * Bulk access to open invoices and incoming payments for the payment import.
+ */
+public interface PaymentRepository {
+
+    /**
+     * Streams the invoices of the tenant that are neither paid nor cancelled.
+     * Must run in a transaction.
+     */
+    void forEachOpenInvoice(UUID tenantId, Consumer<OpenInvoice> action);
+
+    /**
+     * Bank references among the given ones that were recorded before.
+     */
+    Set<String> findRecorded(UUID tenantId, Collection<String> bankReferences);
+
+    /**
+     * Records payments of a file, booked ones with their invoice and the others
+     * in the clarification queue; payments recorded before are left unchanged.
+     *
+     * @return the payments actually recorded, i.e. without those recorded before
+     */
+    List<MatchedPayment> savePayments(UUID runId, UUID tenantId, String fileName, List<MatchedPayment> payments);
+
+    /**
+     * Adds paid amounts to invoices and marks them paid or partially paid.
+     *
+     * @param amounts amount in Rappen per invoice id
+     */
+    void addPaidAmounts(Map<UUID, Long> amounts);
+}
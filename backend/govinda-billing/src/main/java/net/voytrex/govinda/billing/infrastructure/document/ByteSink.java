@@ -0,0 +1,181 @@
+/*
+ * Govinda ERP - Byte Sink
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.infrastructure.document;
+
+import java.util.Arrays;
+import java.util.zip.Deflater;
+
+/**
+ * Growable byte buffer that is reset and reused for every document, with the
+ * encoders PDF content needs. Appending numbers and text does not allocate
+ * once the buffer has grown to its working size.
+ */
+final class ByteSink {
+    private static final double POINTS_PER_MM = 72 / 25.4;
+    private static final byte QUESTION_MARK = '?';
+
+    private byte[] bytes;
+    private int length;
+
+    ByteSink(int capacity) {
+        this.bytes = new byte[capacity];
+    }
+
+    void reset() {
+        length = 0;
+    }
+
+    byte[] bytes() {
+        return bytes;
+    }
+
+    int length() {
+        return length;
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(bytes, length);
+    }
+
+    ByteSink append(int value) {
+        ensureCapacity(1);
+        bytes[length++] = (byte) value;
+        return this;
+    }
+
+    ByteSink append(byte[] values) {
+        return append(values, 0, values.length);
+    }
+
+    ByteSink append(byte[] values, int offset, int count) {
+        ensureCapacity(count);
+        System.arraycopy(values, offset, bytes, length, count);
+        length += count;
+        return this;
+    }
+
+    /**
+     * Appends text of ASCII characters, e.g. PDF operators and names.
+     */
+    ByteSink ascii(CharSequence text) {
+        ensureCapacity(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            bytes[length++] = (byte) text.charAt(i);
+        }
+        return this;
+    }
+
+    ByteSink decimal(long value) {
+        if (value < 0) {
+            append('-');
+            value = -value;
+        }
+        long divisor = 1;
+        while (divisor <= value / 10) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            append('0' + (int) (value / divisor % 10));
+        }
+        return this;
+    }
+
+    /**
+     * Appends a length in millimetres as PDF points with two decimals.
+     */
+    ByteSink points(double millimetres) {
+        long hundredths = Math.round(millimetres * POINTS_PER_MM * 100);
+        decimal(hundredths / 100).append('.');
+        long fraction = Math.abs(hundredths % 100);
+        return append('0' + (int) (fraction / 10)).append('0' + (int) (fraction % 10));
+    }
+
+    /**
+     * Appends the inside of a PDF literal string in WinAnsiEncoding: the
+     * delimiters and backslash are escaped, characters outside the encoding
+     * become question marks.
+     */
+    ByteSink text(CharSequence text) {
+        ensureCapacity(text.length() * 2);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '(' || c == ')' || c == '\\') {
+                bytes[length++] = '\\';
+            }
+            bytes[length++] = winAnsi(c);
+        }
+        return this;
+    }
+
+    /**
+     * Appends text as UTF-8, which the QR-bill prescribes for the payload.
+     */
+    ByteSink utf8(CharSequence text) {
+        ensureCapacity(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                bytes[length++] = (byte) c;
+            } else if (c < 0x800) {
+                bytes[length++] = (byte) (0xC0 | c >>> 6);
+                bytes[length++] = (byte) (0x80 | c & 0x3F);
+            } else if (Character.isSurrogate(c)) {
+                // Outside the QR-bill character set
+                bytes[length++] = QUESTION_MARK;
+                if (Character.isHighSurrogate(c) && i + 1 < text.length()
+                    && Character.isLowSurrogate(text.charAt(i + 1))) {
+                    i++;
+                }
+            } else {
+                bytes[length++] = (byte) (0xE0 | c >>> 12);
+                bytes[length++] = (byte) (0x80 | c >>> 6 & 0x3F);
+                bytes[length++] = (byte) (0x80 | c & 0x3F);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Appends the deflated content of another sink.
+     */
+    ByteSink deflate(Deflater deflater, ByteSink input) {
+        deflater.reset();
+        deflater.setInput(input.bytes, 0, input.length);
+        deflater.finish();
+        while (!deflater.finished()) {
+            ensureCapacity(Math.max(input.length / 4, 1024));
+            length += deflater.deflate(bytes, length, bytes.length - length);
+        }
+        return this;
+    }
+
+    private void ensureCapacity(int additional) {
+        if (length + additional > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + additional));
+        }
+    }
+
+    /**
+     * WinAnsiEncoding byte of a character: Latin-1 plus the typographic
+     * characters of Windows-1252 likely to appear in names and labels.
+     */
+    private static byte winAnsi(char c) {
+        if (c < 0x7F || c >= 0xA0 && c <= 0xFF) {
+            return c < 0x20 ? (byte) ' ' : (byte) c;
+        }
+        return switch (c) {
+            case '\u20AC' -> (byte) 0x80;
+            case '\u2018' -> (byte) 0x91;
+            case '\u2019' -> (byte) 0x92;
+            case '\u201C' -> (byte) 0x93;
+            case '\u201D' -> (byte) 0x94;
+            case '\u2013' -> (byte) 0x96;
+            case '\u2014' -> (byte) 0x97;
+            default -> QUESTION_MARK;
+        };
+    }
+}
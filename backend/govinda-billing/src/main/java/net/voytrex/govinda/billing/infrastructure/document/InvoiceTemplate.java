@@ -0,0 +1,284 @@
+/*
+ * Govinda ERP - Invoice Template
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.infrastructure.document;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.voytrex.govinda.common.domain.model.Language;
+import net.voytrex.govinda.common.i18n.MessageCatalog;
+
+/**
+ * Page layout of a premium invoice with its QR-bill payment part, compiled
+ * for one language.
+ *
+ * Compiling resolves the labels and turns the whole layout into PDF content
+ * stream bytes, cut at the variable values. Rendering a document then only
+ * copies the literal segments and writes the values and QR code modules
+ * between them. Positions are in millimetres from the bottom left of an A4
+ * page; the payment part takes the bottom 105 mm, with the receipt on its left.
+ */
+final class InvoiceTemplate {
+    static final double PAGE_WIDTH = 210;
+    static final double PAGE_HEIGHT = 297;
+    private static final double PAYMENT_PART_HEIGHT = 105;
+    private static final double RECEIPT_WIDTH = 62;
+    private static final double QR_X = 67;
+    private static final double QR_Y = 42;
+    private static final double QR_SIZE = 46;
+    private static final double CROSS_SIZE = 7;
+    private static final double CROSS_BACKGROUND = 6;
+    private static final double CROSS_BAR_WIDTH = 1.17;
+    private static final double CROSS_BAR_LENGTH = 3.9;
+    private static final int QR_CODE = -1;
+    private static final String REGULAR = "/F1";
+    private static final String BOLD = "/F2";
+
+    /**
+     * Values written into the layout.
+     */
+    enum Field {
+        ACCOUNT,
+        CREDITOR_NAME,
+        CREDITOR_STREET,
+        CREDITOR_TOWN,
+        REFERENCE,
+        MESSAGE,
+        DEBTOR_NAME,
+        DEBTOR_STREET,
+        DEBTOR_TOWN,
+        CURRENCY,
+        AMOUNT,
+        INVOICE_NUMBER,
+        PERIOD,
+        INVOICE_DATE,
+        DUE_DATE,
+        TOTAL
+    }
+
+    private final byte[][] literals;
+    private final int[] slots;
+    private final String title;
+
+    private InvoiceTemplate(byte[][] literals, int[] slots, String title) {
+        this.literals = literals;
+        this.slots = slots;
+        this.title = title;
+    }
+
+    /**
+     * Compiles the layout with the labels of a language.
+     *
+     * @throws IllegalStateException if a label is missing from the catalog
+     */
+    static InvoiceTemplate compile(Language language, MessageCatalog catalog) {
+        Builder page = new Builder(language, catalog);
+
+        // Letter
+        page.field(BOLD, 10, 20, 277, Field.CREDITOR_NAME);
+        page.field(REGULAR, 10, 20, 272.5, Field.CREDITOR_STREET);
+        page.field(REGULAR, 10, 20, 268, Field.CREDITOR_TOWN);
+        page.field(REGULAR, 10, 120, 245, Field.DEBTOR_NAME);
+        page.field(REGULAR, 10, 120, 240.5, Field.DEBTOR_STREET);
+        page.field(REGULAR, 10, 120, 236, Field.DEBTOR_TOWN);
+        page.label(BOLD, 14, 20, 205, "invoice.document.title");
+        page.row(195, "invoice.document.invoice.number", Field.INVOICE_NUMBER);
+        page.row(189, "invoice.document.period", Field.PERIOD);
+        page.row(183, "invoice.document.invoice.date", Field.INVOICE_DATE);
+        page.row(177, "invoice.document.due.date", Field.DUE_DATE);
+        page.label(BOLD, 10, 20, 168, "invoice.document.total");
+        page.field(BOLD, 10, 75, 168, Field.TOTAL);
+
+        // Separation of the payment part and the receipt
+        page.literal("q 0.3 w [2 2] 0 d 0 ").points(PAYMENT_PART_HEIGHT).literal(" m ")
+            .points(PAGE_WIDTH).literal(" ").points(PAYMENT_PART_HEIGHT).literal(" l S ")
+            .points(RECEIPT_WIDTH).literal(" 0 m ").points(RECEIPT_WIDTH).literal(" ")
+            .points(PAYMENT_PART_HEIGHT).literal(" l S Q\n");
+
+        // Receipt
+        page.label(BOLD, 11, 5, 97, "invoice.document.receipt");
+        page.label(BOLD, 6, 5, 90, "invoice.document.account");
+        page.field(REGULAR, 8, 5, 86.8, Field.ACCOUNT);
+        page.field(REGULAR, 8, 5, 83.6, Field.CREDITOR_NAME);
+        page.field(REGULAR, 8, 5, 80.4, Field.CREDITOR_STREET);
+        page.field(REGULAR, 8, 5, 77.2, Field.CREDITOR_TOWN);
+        page.label(BOLD, 6, 5, 72.5, "invoice.document.reference");
+        page.field(REGULAR, 8, 5, 69.3, Field.REFERENCE);
+        page.label(BOLD, 6, 5, 64.6, "invoice.document.payable.by");
+        page.field(REGULAR, 8, 5, 61.4, Field.DEBTOR_NAME);
+        page.field(REGULAR, 8, 5, 58.2, Field.DEBTOR_STREET);
+        page.field(REGULAR, 8, 5, 55, Field.DEBTOR_TOWN);
+        page.label(BOLD, 6, 5, 38, "invoice.document.currency");
+        page.label(BOLD, 6, 20, 38, "invoice.document.amount");
+        page.field(REGULAR, 8, 5, 34.5, Field.CURRENCY);
+        page.field(REGULAR, 8, 20, 34.5, Field.AMOUNT);
+        page.label(BOLD, 6, 38, 20, "invoice.document.acceptance.point");
+
+        // Payment part
+        page.label(BOLD, 11, 67, 97, "invoice.document.payment.part");
+        page.qrCode();
+        page.label(BOLD, 8, 67, 33, "invoice.document.currency");
+        page.label(BOLD, 8, 85, 33, "invoice.document.amount");
+        page.field(REGULAR, 10, 67, 28.5, Field.CURRENCY);
+        page.field(REGULAR, 10, 85, 28.5, Field.AMOUNT);
+        page.label(BOLD, 8, 118, 97, "invoice.document.account");
+        page.field(REGULAR, 10, 118, 92.8, Field.ACCOUNT);
+        page.field(REGULAR, 10, 118, 88.6, Field.CREDITOR_NAME);
+        page.field(REGULAR, 10, 118, 84.4, Field.CREDITOR_STREET);
+        page.field(REGULAR, 10, 118, 80.2, Field.CREDITOR_TOWN);
+        page.label(BOLD, 8, 118, 75, "invoice.document.reference");
+        page.field(REGULAR, 10, 118, 70.8, Field.REFERENCE);
+        page.label(BOLD, 8, 118, 65.5, "invoice.document.additional.information");
+        page.field(REGULAR, 10, 118, 61.3, Field.MESSAGE);
+        page.label(BOLD, 8, 118, 56, "invoice.document.payable.by");
+        page.field(REGULAR, 10, 118, 51.8, Field.DEBTOR_NAME);
+        page.field(REGULAR, 10, 118, 47.6, Field.DEBTOR_STREET);
+        page.field(REGULAR, 10, 118, 43.4, Field.DEBTOR_TOWN);
+
+        return page.build(page.message("invoice.document.title"));
+    }
+
+    /**
+     * Title of the document in this template's language.
+     */
+    String title() {
+        return title;
+    }
+
+    /**
+     * Appends the page content with the values indexed by {@link Field} ordinal
+     * and the modules of the encoded QR code.
+     */
+    void render(ByteSink content, String[] values, QrCode qrCode) {
+        for (int i = 0; i < slots.length; i++) {
+            content.append(literals[i]);
+            if (slots[i] == QR_CODE) {
+                modules(content, qrCode);
+            } else {
+                content.text(values[slots[i]]);
+            }
+        }
+        content.append(literals[slots.length]);
+    }
+
+    /**
+     * Draws the dark modules of the QR code, one rectangle per horizontal run.
+     */
+    private static void modules(ByteSink content, QrCode qrCode) {
+        int size = qrCode.size();
+        double module = QR_SIZE / size;
+        content.ascii("q 0 g\n");
+        for (int y = 0; y < size; y++) {
+            double bottom = QR_Y + QR_SIZE - (y + 1) * module;
+            int x = 0;
+            while (x < size) {
+                if (!qrCode.isDark(x, y)) {
+                    x++;
+                    continue;
+                }
+                int start = x;
+                while (x < size && qrCode.isDark(x, y)) {
+                    x++;
+                }
+                content.points(QR_X + start * module).append(' ').points(bottom).append(' ')
+                    .points((x - start) * module).append(' ').points(module).ascii(" re\n");
+            }
+        }
+        content.ascii("f Q\n");
+    }
+
+    /**
+     * Collects the layout as literal segments separated by value slots.
+     */
+    private static final class Builder {
+        private final Language language;
+        private final MessageCatalog catalog;
+        private final List<byte[]> literals = new ArrayList<>();
+        private final List<Integer> slots = new ArrayList<>();
+        private ByteSink literal = new ByteSink(4096);
+
+        Builder(Language language, MessageCatalog catalog) {
+            this.language = language;
+            this.catalog = catalog;
+        }
+
+        Builder literal(String operators) {
+            literal.ascii(operators);
+            return this;
+        }
+
+        Builder points(double millimetres) {
+            literal.points(millimetres);
+            return this;
+        }
+
+        void label(String font, int fontSize, double x, double y, String key) {
+            startText(font, fontSize, x, y);
+            literal.text(message(key)).ascii(") Tj ET\n");
+        }
+
+        void field(String font, int fontSize, double x, double y, Field field) {
+            startText(font, fontSize, x, y);
+            slot(field.ordinal());
+            literal.ascii(") Tj ET\n");
+        }
+
+        void row(double y, String key, Field field) {
+            label(REGULAR, 10, 20, y, key);
+            field(REGULAR, 10, 75, y, field);
+        }
+
+        /**
+         * QR code with the Swiss cross on a white background in its centre.
+         */
+        void qrCode() {
+            slot(QR_CODE);
+            double centreX = QR_X + QR_SIZE / 2;
+            double centreY = QR_Y + QR_SIZE / 2;
+            literal("q 1 g ");
+            square(centreX, centreY, CROSS_SIZE, CROSS_SIZE);
+            literal("f 0 g ");
+            square(centreX, centreY, CROSS_BACKGROUND, CROSS_BACKGROUND);
+            literal("f 1 g ");
+            square(centreX, centreY, CROSS_BAR_WIDTH, CROSS_BAR_LENGTH);
+            square(centreX, centreY, CROSS_BAR_LENGTH, CROSS_BAR_WIDTH);
+            literal("f Q\n");
+        }
+
+        String message(String key) {
+            MessageCatalog.Message message = catalog.message(key);
+            if (message == null) {
+                throw new IllegalStateException("Missing message key: " + key);
+            }
+            return message.text(language);
+        }
+
+        InvoiceTemplate build(String title) {
+            literals.add(literal.toByteArray());
+            return new InvoiceTemplate(
+                literals.toArray(byte[][]::new),
+                slots.stream().mapToInt(Integer::intValue).toArray(),
+                title
+            );
+        }
+
+        private void square(double centreX, double centreY, double width, double height) {
+            points(centreX - width / 2).literal(" ").points(centreY - height / 2).literal(" ")
+                .points(width).literal(" ").points(height).literal(" re ");
+        }
+
+        private void startText(String font, int fontSize, double x, double y) {
+            literal.ascii("BT ").ascii(font).append(' ').decimal(fontSize).ascii(" Tf ")
+                .points(x).append(' ').points(y).ascii(" Td (");
+        }
+
+        private void slot(int slot) {
+            literals.add(literal.toByteArray());
+            slots.add(slot);
+            literal = new ByteSink(4096);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Govinda ERP - Local Document Store
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.infrastructure.document;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import net.voytrex.govinda.billing.application.DocumentStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Document store on the local file system, with one file per key below
+ * {@code govinda.billing.documents.directory}.
+ *
+ * Content is written to a hidden temporary file in the target directory and
+ * then renamed, so readers never see a partial document. Since keys are
+ * content hashes, a concurrent writer of the same key writes the same bytes
+ * and either rename wins.
+ */
+@Component
+public class LocalDocumentStore implements DocumentStore {
+    private final Path root;
+
+    public LocalDocumentStore(@Value("${govinda.billing.documents.directory:documents}") Path root) {
+        this.root = root;
+    }
+
+    @Override
+    public boolean putIfAbsent(String key, byte[] content, int length) throws IOException {
+        Path target = root.resolve(key).normalize();
+        if (!target.startsWith(root.normalize())) {
+            throw new IllegalArgumentException("Document key must stay within the store: " + key);
+        }
+        if (Files.exists(target)) {
+            return false;
+        }
+        Files.createDirectories(target.getParent());
+        Path temporary = Files.createTempFile(target.getParent(), "." + target.getFileName(), ".tmp");
+        try (OutputStream output = Files.newOutputStream(temporary)) {
+            output.write(content, 0, length);
+        } catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(temporary);
+            throw ex;
+        }
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return true;
+    }
+}
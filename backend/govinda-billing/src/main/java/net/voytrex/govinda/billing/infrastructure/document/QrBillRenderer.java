@@ -0,0 +1,207 @@
+/*
+ * Govinda ERP - QR-Bill Renderer
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.infrastructure.document;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.zip.Deflater;
+import net.voytrex.govinda.billing.domain.model.InvoiceDocumentSource;
+import net.voytrex.govinda.billing.domain.model.QrBill;
+import net.voytrex.govinda.billing.domain.model.QrBillAddress;
+import net.voytrex.govinda.common.domain.model.Rappen;
+import org.springframework.lang.Nullable;
+
+/**
+ * Renders premium invoices with their QR-bill as single-page PDF documents.
+ *
+ * A renderer owns all the buffers one document needs: the QR code encoder,
+ * the content stream, its compressor and the output. They are reset for each
+ * document and only grow, so a renderer reaches a steady state after a few
+ * invoices and then renders without allocating buffers. The document uses the
+ * standard Helvetica fonts and carries no timestamps, so the same invoice
+ * always renders to the same bytes. Renderers are not thread-safe; they are
+ * shared through the {@link QrBillRendererPool}.
+ */
+public final class QrBillRenderer implements AutoCloseable {
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("dd.MM.yyyy");
+    private static final byte[] HEADER;
+    private static final byte[] STREAM_START = ascii(" /Filter /FlateDecode >>\nstream\n");
+    private static final byte[] STREAM_END = ascii("\nendstream\nendobj\n");
+    private static final byte[] XREF;
+    private static final byte[] TRAILER_END = ascii("\n%%EOF\n");
+    private static final int OBJECTS = 6;
+
+    static {
+        // Catalog, page tree, page and fonts are the same for every document, so
+        // the file up to the content stream length and the cross-reference table
+        // are prepared once.
+        ByteSink header = new ByteSink(1024);
+        int[] offsets = new int[OBJECTS];
+        header.ascii("%PDF-1.4\n%").append(0xE2).append(0xE3).append(0xCF).append(0xD3).append('\n');
+        offsets[0] = header.length();
+        header.ascii("1 0 obj\n<< /Type /Catalog /Pages 2 0 R >>\nendobj\n");
+        offsets[1] = header.length();
+        header.ascii("2 0 obj\n<< /Type /Pages /Kids [3 0 R] /Count 1 >>\nendobj\n");
+        offsets[2] = header.length();
+        header.ascii("3 0 obj\n<< /Type /Page /Parent 2 0 R /MediaBox [0 0 ")
+            .points(InvoiceTemplate.PAGE_WIDTH).append(' ').points(InvoiceTemplate.PAGE_HEIGHT)
+            .ascii("] /Resources << /Font << /F1 4 0 R /F2 5 0 R >> >> /Contents 6 0 R >>\nendobj\n");
+        offsets[3] = header.length();
+        header.ascii("4 0 obj\n<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica")
+            .ascii(" /Encoding /WinAnsiEncoding >>\nendobj\n");
+        offsets[4] = header.length();
+        header.ascii("5 0 obj\n<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica-Bold")
+            .ascii(" /Encoding /WinAnsiEncoding >>\nendobj\n");
+        offsets[5] = header.length();
+        header.ascii("6 0 obj\n<< /Length ");
+        HEADER = header.toByteArray();
+
+        ByteSink xref = new ByteSink(256);
+        xref.ascii("xref\n0 ").decimal(OBJECTS + 1).ascii("\n0000000000 65535 f \n");
+        for (int offset : offsets) {
+            String digits = Integer.toString(offset);
+            xref.ascii("0".repeat(10 - digits.length())).ascii(digits).ascii(" 00000 n \n");
+        }
+        xref.ascii("trailer\n<< /Size ").decimal(OBJECTS + 1).ascii(" /Root 1 0 R >>\nstartxref\n");
+        XREF = xref.toByteArray();
+    }
+
+    private final InvoiceTemplate[] templates;
+    private final QrCode qrCode = new QrCode();
+    private final ByteSink payload = new ByteSink(1024);
+    private final ByteSink content = new ByteSink(64 * 1024);
+    private final ByteSink compressed = new ByteSink(16 * 1024);
+    private final ByteSink document = new ByteSink(32 * 1024);
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    private final MessageDigest digest;
+    private final String[] values = new String[InvoiceTemplate.Field.values().length];
+
+    /**
+     * @param templates compiled templates indexed by {@code Language} ordinal
+     */
+    QrBillRenderer(InvoiceTemplate[] templates) {
+        this.templates = templates;
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    /**
+     * Renders an invoice payable to a creditor's QR-IBAN.
+     *
+     * @param account QR-IBAN of the creditor, without spaces
+     */
+    public RenderedDocument render(InvoiceDocumentSource source, String account, QrBillAddress creditor) {
+        QrBill bill = new QrBill(
+            account,
+            creditor,
+            source.totalAmount(),
+            source.currency(),
+            source.debtor(),
+            source.paymentReference(),
+            source.invoiceNumber()
+        );
+        payload.reset();
+        payload.utf8(bill.payload());
+        qrCode.encode(payload.bytes(), payload.length());
+
+        String amount = amount(source.totalAmount());
+        QrBillAddress debtor = source.debtor();
+        set(InvoiceTemplate.Field.ACCOUNT, groups(account, 4, false));
+        set(InvoiceTemplate.Field.CREDITOR_NAME, creditor.name());
+        set(InvoiceTemplate.Field.CREDITOR_STREET, creditor.streetLine());
+        set(InvoiceTemplate.Field.CREDITOR_TOWN, creditor.townLine());
+        set(InvoiceTemplate.Field.REFERENCE, groups(source.paymentReference(), 5, true));
+        set(InvoiceTemplate.Field.MESSAGE, source.invoiceNumber());
+        set(InvoiceTemplate.Field.DEBTOR_NAME, debtor != null ? debtor.name() : null);
+        set(InvoiceTemplate.Field.DEBTOR_STREET, debtor != null ? debtor.streetLine() : null);
+        set(InvoiceTemplate.Field.DEBTOR_TOWN, debtor != null ? debtor.townLine() : null);
+        set(InvoiceTemplate.Field.CURRENCY, source.currency());
+        set(InvoiceTemplate.Field.AMOUNT, amount);
+        set(InvoiceTemplate.Field.INVOICE_NUMBER, source.invoiceNumber());
+        set(
+            InvoiceTemplate.Field.PERIOD,
+            DATE.format(source.periodStart()) + " \u2013 " + DATE.format(source.periodEnd())
+        );
+        set(InvoiceTemplate.Field.INVOICE_DATE, DATE.format(source.invoiceDate()));
+        set(InvoiceTemplate.Field.DUE_DATE, DATE.format(source.dueDate()));
+        set(InvoiceTemplate.Field.TOTAL, source.currency() + " " + amount);
+
+        InvoiceTemplate template = templates[source.language().ordinal()];
+        content.reset();
+        template.render(content, values, qrCode);
+        compressed.reset();
+        compressed.deflate(deflater, content);
+
+        document.reset();
+        document.append(HEADER).decimal(compressed.length()).append(STREAM_START)
+            .append(compressed.bytes(), 0, compressed.length()).append(STREAM_END);
+        int xref = document.length();
+        document.append(XREF).decimal(xref).append(TRAILER_END);
+
+        digest.reset();
+        digest.update(document.bytes(), 0, document.length());
+        return new RenderedDocument(
+            document.bytes(),
+            document.length(),
+            HexFormat.of().formatHex(digest.digest()),
+            template.title() + " " + source.invoiceNumber()
+        );
+    }
+
+    @Override
+    public void close() {
+        deflater.end();
+    }
+
+    private void set(InvoiceTemplate.Field field, @Nullable String value) {
+        values[field.ordinal()] = value != null ? value : "";
+    }
+
+    /**
+     * Amount as printed on the QR-bill, e.g. {@code 1 949.75}.
+     */
+    static String amount(long rappen) {
+        String plain = Rappen.toPlainString(rappen);
+        int sign = rappen < 0 ? 1 : 0;
+        int point = plain.indexOf('.');
+        StringBuilder formatted = new StringBuilder(plain.length() + point / 3);
+        formatted.append(plain, 0, sign);
+        for (int i = sign; i < plain.length(); i++) {
+            if (i > sign && i < point && (point - i) % 3 == 0) {
+                formatted.append(' ');
+            }
+            formatted.append(plain.charAt(i));
+        }
+        return formatted.toString();
+    }
+
+    /**
+     * Splits a value into blocks separated by spaces, counted from the start
+     * (IBAN) or from the end (QR reference).
+     */
+    static String groups(String value, int size, boolean fromEnd) {
+        StringBuilder grouped = new StringBuilder(value.length() + value.length() / size);
+        int offset = fromEnd ? value.length() % size : 0;
+        for (int i = 0; i < value.length(); i++) {
+            if (i > 0 && (i - offset) % size == 0) {
+                grouped.append(' ');
+            }
+            grouped.append(value.charAt(i));
+        }
+        return grouped.toString();
+    }
+
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Govinda ERP - QR-Bill Renderer Pool
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.infrastructure.document;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import net.voytrex.govinda.common.domain.model.Language;
+import net.voytrex.govinda.common.i18n.MessageCatalog;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fixed set of {@link QrBillRenderer}s, created at startup with the invoice
+ * template compiled once per {@link Language} and shared by all of them.
+ *
+ * The pool size, {@code govinda.billing.documents.parallelism}, bounds the
+ * number of documents rendered at the same time and with it the memory held
+ * by render buffers.
+ */
+@Component
+public class QrBillRendererPool implements AutoCloseable {
+    private final List<QrBillRenderer> renderers;
+    private final BlockingQueue<QrBillRenderer> idle;
+
+    public QrBillRendererPool(
+        MessageCatalog messageCatalog,
+        @Value("${govinda.billing.documents.parallelism:4}") int size
+    ) {
+        if (size < 1) {
+            throw new IllegalArgumentException("pool size must be positive");
+        }
+        InvoiceTemplate[] templates = new InvoiceTemplate[Language.values().length];
+        for (Language language : Language.values()) {
+            templates[language.ordinal()] = InvoiceTemplate.compile(language, messageCatalog);
+        }
+        this.renderers = new ArrayList<>(size);
+        this.idle = new ArrayBlockingQueue<>(size);
+        for (int i = 0; i < size; i++) {
+            QrBillRenderer renderer = new QrBillRenderer(templates);
+            renderers.add(renderer);
+            idle.add(renderer);
+        }
+    }
+
+    public int size() {
+        return renderers.size();
+    }
+
+    /**
+     * Takes a renderer, waiting until one is returned if all are in use.
+     */
+    public QrBillRenderer acquire() {
+        try {
+            return idle.take();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a renderer", ex);
+        }
+    }
+
+    public void release(QrBillRenderer renderer) {
+        idle.add(renderer);
+    }
+
+    @Override
+    public void close() {
+        renderers.forEach(QrBillRenderer::close);
+    }
+}
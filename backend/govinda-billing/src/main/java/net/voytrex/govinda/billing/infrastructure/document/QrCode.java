@@ -0,0 +1,500 @@
+/*
+ * Govinda ERP - QR Code Encoder
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.infrastructure.document;
+
+import java.util.Arrays;
+
+/**
+ * QR Code (ISO/IEC 18004) encoder for byte-mode data at error correction
+ * level M, the only level the Swiss QR-bill allows, up to version 25.
+ *
+ * An instance holds the working buffers of the largest symbol and reuses them
+ * for every {@link #encode}, so encoding allocates nothing. Instances are not
+ * thread-safe; each renderer owns one.
+ */
+public final class QrCode {
+    /** Largest version the Swiss QR-bill permits. */
+    public static final int MAX_VERSION = 25;
+    private static final int MAX_SIZE = MAX_VERSION * 4 + 17;
+    private static final int MAX_CODEWORDS = rawDataModules(MAX_VERSION) / 8;
+
+    /** Error correction codewords per block at level M, by version. */
+    private static final int[] ECC_PER_BLOCK = {
+        -1, 10, 16, 26, 18, 24, 16, 18, 22, 22, 26, 30, 22, 22, 24, 24, 28, 28, 26, 26, 26, 26, 28, 28, 28, 28,
+    };
+    /** Error correction blocks at level M, by version. */
+    private static final int[] BLOCKS = {
+        -1, 1, 1, 1, 2, 2, 4, 4, 4, 5, 5, 5, 8, 9, 9, 10, 10, 11, 13, 14, 16, 17, 17, 18, 20, 21,
+    };
+    /** Reed-Solomon generator polynomials, by degree. */
+    private static final byte[][] DIVISORS = new byte[31][];
+    /** Format information: level M indicator bits. */
+    private static final int FORMAT_LEVEL_M = 0;
+    private static final int PENALTY_N1 = 3;
+    private static final int PENALTY_N2 = 3;
+    private static final int PENALTY_N3 = 40;
+    private static final int PENALTY_N4 = 10;
+
+    static {
+        for (int degree : ECC_PER_BLOCK) {
+            if (degree > 0 && DIVISORS[degree] == null) {
+                DIVISORS[degree] = divisor(degree);
+            }
+        }
+    }
+
+    private final boolean[] modules = new boolean[MAX_SIZE * MAX_SIZE];
+    private final boolean[] function = new boolean[MAX_SIZE * MAX_SIZE];
+    private final byte[] data = new byte[MAX_CODEWORDS];
+    private final byte[] ecc = new byte[MAX_CODEWORDS];
+    private final byte[] codewords = new byte[MAX_CODEWORDS];
+    private final int[] runHistory = new int[7];
+    private final int[] alignmentPositions = new int[MAX_VERSION / 7 + 2];
+    private int version;
+    private int size;
+    private int mask;
+
+    /**
+     * Encodes {@code length} bytes in the smallest version that holds them.
+     *
+     * @return the number of modules per side
+     * @throws IllegalArgumentException if the data does not fit version 25
+     */
+    public int encode(byte[] bytes, int length) {
+        version = 0;
+        for (int candidate = 1; candidate <= MAX_VERSION; candidate++) {
+            if (4 + (candidate <= 9 ? 8 : 16) + length * 8 <= dataCodewords(candidate) * 8) {
+                version = candidate;
+                break;
+            }
+        }
+        if (version == 0) {
+            throw new IllegalArgumentException("Data too long for a QR code of version " + MAX_VERSION + ": " + length);
+        }
+        size = version * 4 + 17;
+        int dataLength = dataCodewords(version);
+        writeData(bytes, length, dataLength);
+        int total = interleave();
+
+        Arrays.fill(modules, 0, size * size, false);
+        Arrays.fill(function, 0, size * size, false);
+        drawFunctionPatterns();
+        drawCodewords(total);
+
+        int best = Integer.MAX_VALUE;
+        for (int candidate = 0; candidate < 8; candidate++) {
+            applyMask(candidate);
+            drawFormatBits(candidate);
+            int penalty = penalty();
+            if (penalty < best) {
+                best = penalty;
+                mask = candidate;
+            }
+            applyMask(candidate);
+        }
+        applyMask(mask);
+        drawFormatBits(mask);
+        return size;
+    }
+
+    public int version() {
+        return version;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int mask() {
+        return mask;
+    }
+
+    /**
+     * Whether the module at column {@code x} and row {@code y} of the last
+     * encoded symbol is dark; row 0 is the top.
+     */
+    public boolean isDark(int x, int y) {
+        return modules[y * size + x];
+    }
+
+    // --- Data and error correction codewords ---
+
+    /**
+     * Writes mode indicator, character count, data, terminator and padding
+     * into {@link #data}.
+     */
+    private void writeData(byte[] bytes, int length, int dataLength) {
+        Arrays.fill(data, 0, dataLength, (byte) 0);
+        int bit = appendBits(0, 0b0100, 4);
+        bit = appendBits(bit, length, version <= 9 ? 8 : 16);
+        for (int i = 0; i < length; i++) {
+            bit = appendBits(bit, bytes[i] & 0xFF, 8);
+        }
+        bit = Math.min(bit + 4, dataLength * 8);
+        for (int i = (bit + 7) >>> 3, pad = 0xEC; i < dataLength; i++, pad ^= 0xEC ^ 0x11) {
+            data[i] = (byte) pad;
+        }
+    }
+
+    private int appendBits(int position, int value, int count) {
+        for (int i = count - 1; i >= 0; i--, position++) {
+            if ((value >>> i & 1) != 0) {
+                data[position >>> 3] |= (byte) (0x80 >>> (position & 7));
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Splits the data into blocks, computes their error correction codewords
+     * and interleaves both into {@link #codewords}.
+     *
+     * @return the number of codewords
+     */
+    private int interleave() {
+        int blocks = BLOCKS[version];
+        int eccLength = ECC_PER_BLOCK[version];
+        int total = rawDataModules(version) / 8;
+        int shortBlocks = blocks - total % blocks;
+        int shortDataLength = total / blocks - eccLength;
+        byte[] divisor = DIVISORS[eccLength];
+
+        for (int block = 0, offset = 0; block < blocks; block++) {
+            int length = shortDataLength + (block < shortBlocks ? 0 : 1);
+            remainder(offset, length, divisor, block * eccLength);
+            offset += length;
+        }
+
+        int position = 0;
+        for (int i = 0; i <= shortDataLength; i++) {
+            for (int block = 0; block < blocks; block++) {
+                if (i < shortDataLength || block >= shortBlocks) {
+                    int start = block * shortDataLength + Math.max(0, block - shortBlocks);
+                    codewords[position++] = data[start + i];
+                }
+            }
+        }
+        for (int i = 0; i < eccLength; i++) {
+            for (int block = 0; block < blocks; block++) {
+                codewords[position++] = ecc[block * eccLength + i];
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Reed-Solomon remainder of a data block, written to {@link #ecc} at {@code target}.
+     */
+    private void remainder(int offset, int length, byte[] divisor, int target) {
+        int degree = divisor.length;
+        Arrays.fill(ecc, target, target + degree, (byte) 0);
+        for (int i = offset; i < offset + length; i++) {
+            int factor = (data[i] ^ ecc[target]) & 0xFF;
+            System.arraycopy(ecc, target + 1, ecc, target, degree - 1);
+            ecc[target + degree - 1] = 0;
+            for (int j = 0; j < degree; j++) {
+                ecc[target + j] ^= (byte) multiply(divisor[j] & 0xFF, factor);
+            }
+        }
+    }
+
+    static byte[] divisor(int degree) {
+        byte[] result = new byte[degree];
+        result[degree - 1] = 1;
+        int root = 1;
+        for (int i = 0; i < degree; i++) {
+            for (int j = 0; j < degree; j++) {
+                result[j] = (byte) multiply(result[j] & 0xFF, root);
+                if (j + 1 < degree) {
+                    result[j] ^= result[j + 1];
+                }
+            }
+            root = multiply(root, 0x02);
+        }
+        return result;
+    }
+
+    /**
+     * Product in GF(2^8) modulo x^8 + x^4 + x^3 + x^2 + 1.
+     */
+    private static int multiply(int x, int y) {
+        int z = 0;
+        for (int i = 7; i >= 0; i--) {
+            z = (z << 1) ^ ((z >>> 7) * 0x11D);
+            z ^= ((y >>> i) & 1) * x;
+        }
+        return z;
+    }
+
+    /**
+     * Modules available for data and error correction in a version.
+     */
+    static int rawDataModules(int version) {
+        int result = (16 * version + 128) * version + 64;
+        if (version >= 2) {
+            int alignments = version / 7 + 2;
+            result -= (25 * alignments - 10) * alignments - 55;
+            if (version >= 7) {
+                result -= 36;
+            }
+        }
+        return result;
+    }
+
+    static int dataCodewords(int version) {
+        return rawDataModules(version) / 8 - ECC_PER_BLOCK[version] * BLOCKS[version];
+    }
+
+    // --- Function patterns ---
+
+    private void drawFunctionPatterns() {
+        for (int i = 0; i < size; i++) {
+            setFunction(6, i, i % 2 == 0);
+            setFunction(i, 6, i % 2 == 0);
+        }
+        drawFinderPattern(3, 3);
+        drawFinderPattern(size - 4, 3);
+        drawFinderPattern(3, size - 4);
+
+        if (version >= 2) {
+            int alignments = version / 7 + 2;
+            int step = (version * 4 + alignments * 2 + 1) / (alignments * 2 - 2) * 2;
+            int[] positions = alignmentPositions;
+            positions[0] = 6;
+            for (int i = alignments - 1, position = size - 7; i >= 1; i--, position -= step) {
+                positions[i] = position;
+            }
+            for (int i = 0; i < alignments; i++) {
+                for (int j = 0; j < alignments; j++) {
+                    boolean finder = i == 0 && j == 0 || i == 0 && j == alignments - 1 || i == alignments - 1 && j == 0;
+                    if (!finder) {
+                        drawAlignmentPattern(positions[i], positions[j]);
+                    }
+                }
+            }
+        }
+
+        // Reserves the format areas; the bits are drawn once the mask is chosen
+        drawFormatBits(0);
+        drawVersion();
+    }
+
+    private void drawFinderPattern(int x, int y) {
+        for (int dy = -4; dy <= 4; dy++) {
+            for (int dx = -4; dx <= 4; dx++) {
+                int distance = Math.max(Math.abs(dx), Math.abs(dy));
+                int xx = x + dx;
+                int yy = y + dy;
+                if (xx >= 0 && xx < size && yy >= 0 && yy < size) {
+                    setFunction(xx, yy, distance != 2 && distance != 4);
+                }
+            }
+        }
+    }
+
+    private void drawAlignmentPattern(int x, int y) {
+        for (int dy = -2; dy <= 2; dy++) {
+            for (int dx = -2; dx <= 2; dx++) {
+                setFunction(x + dx, y + dy, Math.max(Math.abs(dx), Math.abs(dy)) != 1);
+            }
+        }
+    }
+
+    private void drawFormatBits(int maskPattern) {
+        int bits = formatBits(maskPattern);
+        for (int i = 0; i <= 5; i++) {
+            setFunction(8, i, bit(bits, i));
+        }
+        setFunction(8, 7, bit(bits, 6));
+        setFunction(8, 8, bit(bits, 7));
+        setFunction(7, 8, bit(bits, 8));
+        for (int i = 9; i < 15; i++) {
+            setFunction(14 - i, 8, bit(bits, i));
+        }
+        for (int i = 0; i < 8; i++) {
+            setFunction(size - 1 - i, 8, bit(bits, i));
+        }
+        for (int i = 8; i < 15; i++) {
+            setFunction(8, size - 15 + i, bit(bits, i));
+        }
+        setFunction(8, size - 8, true);
+    }
+
+    /**
+     * 15-bit format information: level and mask with BCH code, masked.
+     */
+    static int formatBits(int maskPattern) {
+        int data = FORMAT_LEVEL_M << 3 | maskPattern;
+        int remainder = data;
+        for (int i = 0; i < 10; i++) {
+            remainder = (remainder << 1) ^ ((remainder >>> 9) * 0x537);
+        }
+        return (data << 10 | remainder) ^ 0x5412;
+    }
+
+    private void drawVersion() {
+        if (version < 7) {
+            return;
+        }
+        int bits = versionBits(version);
+        for (int i = 0; i < 18; i++) {
+            boolean dark = bit(bits, i);
+            int a = size - 11 + i % 3;
+            int b = i / 3;
+            setFunction(a, b, dark);
+            setFunction(b, a, dark);
+        }
+    }
+
+    /**
+     * 18-bit version information with its BCH code.
+     */
+    static int versionBits(int version) {
+        int remainder = version;
+        for (int i = 0; i < 12; i++) {
+            remainder = (remainder << 1) ^ ((remainder >>> 11) * 0x1F25);
+        }
+        return version << 12 | remainder;
+    }
+
+    private void setFunction(int x, int y, boolean dark) {
+        modules[y * size + x] = dark;
+        function[y * size + x] = true;
+    }
+
+    // --- Codeword placement and masking ---
+
+    /**
+     * Places the codewords in the zigzag order of two-module columns, from the
+     * bottom right, skipping the vertical timing pattern.
+     */
+    private void drawCodewords(int total) {
+        int bits = total * 8;
+        int i = 0;
+        for (int right = size - 1; right >= 1; right -= 2) {
+            if (right == 6) {
+                right = 5;
+            }
+            boolean upward = ((right + 1) & 2) == 0;
+            for (int vertical = 0; vertical < size; vertical++) {
+                int y = upward ? size - 1 - vertical : vertical;
+                for (int j = 0; j < 2; j++) {
+                    int x = right - j;
+                    if (!function[y * size + x] && i < bits) {
+                        modules[y * size + x] = bit(codewords[i >>> 3], 7 - (i & 7));
+                        i++;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Inverts the data modules selected by a mask pattern; applying it twice undoes it.
+     */
+    private void applyMask(int maskPattern) {
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                boolean invert = switch (maskPattern) {
+                    case 0 -> (x + y) % 2 == 0;
+                    case 1 -> y % 2 == 0;
+                    case 2 -> x % 3 == 0;
+                    case 3 -> (x + y) % 3 == 0;
+                    case 4 -> (x / 3 + y / 2) % 2 == 0;
+                    case 5 -> x * y % 2 + x * y % 3 == 0;
+                    case 6 -> (x * y % 2 + x * y % 3) % 2 == 0;
+                    default -> ((x + y) % 2 + x * y % 3) % 2 == 0;
+                };
+                int index = y * size + x;
+                modules[index] ^= invert && !function[index];
+            }
+        }
+    }
+
+    /**
+     * Penalty score of the current symbol; the mask with the lowest score is used.
+     */
+    private int penalty() {
+        int result = 0;
+        for (int y = 0; y < size; y++) {
+            result += linePenalty(y, true);
+        }
+        for (int x = 0; x < size; x++) {
+            result += linePenalty(x, false);
+        }
+
+        int dark = 0;
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                boolean color = isDark(x, y);
+                if (color) {
+                    dark++;
+                }
+                if (x < size - 1 && y < size - 1
+                    && color == isDark(x + 1, y) && color == isDark(x, y + 1) && color == isDark(x + 1, y + 1)) {
+                    result += PENALTY_N2;
+                }
+            }
+        }
+        int total = size * size;
+        int k = (Math.abs(dark * 20 - total * 10) + total - 1) / total - 1;
+        return result + k * PENALTY_N4;
+    }
+
+    /**
+     * Penalty for runs of one color and finder-like patterns in a row or column.
+     */
+    private int linePenalty(int line, boolean row) {
+        int result = 0;
+        boolean runColor = false;
+        int run = 0;
+        Arrays.fill(runHistory, 0);
+        for (int i = 0; i < size; i++) {
+            boolean color = row ? isDark(i, line) : isDark(line, i);
+            if (color == runColor) {
+                run++;
+                if (run == 5) {
+                    result += PENALTY_N1;
+                } else if (run > 5) {
+                    result++;
+                }
+            } else {
+                addRunHistory(run);
+                if (!runColor) {
+                    result += finderPatterns() * PENALTY_N3;
+                }
+                runColor = color;
+                run = 1;
+            }
+        }
+        if (runColor) {
+            addRunHistory(run);
+            run = 0;
+        }
+        addRunHistory(run + size);
+        return result + finderPatterns() * PENALTY_N3;
+    }
+
+    private void addRunHistory(int run) {
+        // The light border before the first run counts as part of it
+        int length = runHistory[0] == 0 ? run + size : run;
+        System.arraycopy(runHistory, 0, runHistory, 1, runHistory.length - 1);
+        runHistory[0] = length;
+    }
+
+    private int finderPatterns() {
+        int n = runHistory[1];
+        boolean core = n > 0 && runHistory[2] == n && runHistory[3] == n * 3 && runHistory[4] == n
+            && runHistory[5] == n;
+        return (core && runHistory[0] >= n * 4 && runHistory[6] >= n ? 1 : 0)
+            + (core && runHistory[6] >= n * 4 && runHistory[0] >= n ? 1 : 0);
+    }
+
+    private static boolean bit(int value, int index) {
+        return (value >>> index & 1) != 0;
+    }
+}
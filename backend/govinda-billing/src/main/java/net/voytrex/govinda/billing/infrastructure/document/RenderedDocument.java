@@ -0,0 +1,18 @@
+/*
+ * Govinda ERP - Rendered Document
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.infrastructure.document;
+
+/**
+ * PDF produced by a {@link QrBillRenderer}.
+ *
+ * @param content buffer of the renderer holding the PDF in its first
+ *                {@code length} bytes; overwritten by the renderer's next document
+ * @param contentHash hex SHA-256 of the PDF
+ * @param title document title in the policyholder's language
+ */
+public record RenderedDocument(byte[] content, int length, String contentHash, String title) {
+}
@@ -0,0 +1,216 @@
+/*
+ * Govinda ERP - JDBC Dunning Repository
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.infrastructure.persistence;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import net.voytrex.govinda.billing.domain.model.DunningCounter;
+import net.voytrex.govinda.billing.domain.model.DunningItem;
+import net.voytrex.govinda.billing.domain.model.DunningLevel;
+import net.voytrex.govinda.billing.domain.model.DunningOutcome;
+import net.voytrex.govinda.billing.domain.model.DunningStep;
+import net.voytrex.govinda.billing.domain.repository.DunningRepository;
+import net.voytrex.govinda.common.domain.model.Rappen;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Plain JDBC implementation: due invoices are read with a range scan of the
+ * partial index {@code idx_invoice_dunning_due}, so a run costs the due items
+ * only. Notices, invoice updates and counter increments are written with one
+ * batch per statement and chunk; counters are upserted, never aggregated.
+ */
+@Repository
+public class JdbcDunningRepository implements DunningRepository {
+    static final int FETCH_SIZE = 5_000;
+    private static final String OPEN = "status NOT IN ('PAID', 'CANCELLED')";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcDunningRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void streamDue(LocalDate date, Consumer<DunningItem> consumer) {
+        jdbcTemplate.query(
+            connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                    """
+                    SELECT i.id, i.tenant_id, i.policyholder_id, i.dunning_level, i.due_date,
+                           i.total_amount - i.paid_amount AS open_amount,
+                           EXISTS (
+                               SELECT 1 FROM invoice_line l JOIN product p ON p.id = l.product_id
+                               WHERE l.invoice_id = i.id AND p.product_type = 'KVG'
+                           ) AS kvg
+                    FROM invoice i
+                    WHERE i.next_action_date IS NOT NULL AND i.next_action_date <= ?
+                    AND i.%s
+                    ORDER BY i.policyholder_id, i.id
+                    """.formatted(OPEN)
+                );
+                statement.setFetchSize(FETCH_SIZE);
+                statement.setDate(1, Date.valueOf(date));
+                return statement;
+            },
+            resultSet -> {
+                String level = resultSet.getString("dunning_level");
+                consumer.accept(new DunningItem(
+                    resultSet.getObject("id", UUID.class),
+                    resultSet.getObject("tenant_id", UUID.class),
+                    resultSet.getObject("policyholder_id", UUID.class),
+                    level == null ? null : DunningLevel.valueOf(level),
+                    resultSet.getDate("due_date").toLocalDate(),
+                    Rappen.fromDecimal(resultSet.getBigDecimal("open_amount")),
+                    resultSet.getBoolean("kvg")
+                ));
+            }
+        );
+    }
+
+    @Override
+    public Set<UUID> lockDue(Collection<UUID> invoiceIds, LocalDate date) {
+        if (invoiceIds.isEmpty()) {
+            return Set.of();
+        }
+        // Locked in id order so a concurrent payment import cannot deadlock with the run
+        Set<UUID> locked = new HashSet<>();
+        jdbcTemplate.query(
+            connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                    """
+                    SELECT id FROM invoice
+                    WHERE id = ANY (?) AND next_action_date <= ? AND %s
+                    ORDER BY id FOR UPDATE
+                    """.formatted(OPEN)
+                );
+                statement.setArray(1, connection.createArrayOf("uuid", invoiceIds.toArray()));
+                statement.setDate(2, Date.valueOf(date));
+                return statement;
+            },
+            resultSet -> {
+                locked.add(resultSet.getObject(1, UUID.class));
+            }
+        );
+        return locked;
+    }
+
+    @Override
+    public Map<UUID, DunningCounter> findCounters(int year, Collection<UUID> debtorIds) {
+        if (debtorIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, DunningCounter> counters = new HashMap<>();
+        jdbcTemplate.query(
+            connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                    """
+                    SELECT tenant_id, debtor_id, reminders, kvg_debt_collections FROM dunning_debtor_counter
+                    WHERE debtor_id = ANY (?) AND year = ?
+                    """
+                );
+                statement.setArray(1, connection.createArrayOf("uuid", debtorIds.toArray()));
+                statement.setInt(2, year);
+                return statement;
+            },
+            resultSet -> {
+                DunningCounter counter = new DunningCounter(
+                    resultSet.getObject("tenant_id", UUID.class),
+                    resultSet.getObject("debtor_id", UUID.class),
+                    resultSet.getInt("reminders"),
+                    resultSet.getInt("kvg_debt_collections")
+                );
+                counters.put(counter.debtorId(), counter);
+            }
+        );
+        return counters;
+    }
+
+    @Override
+    public void saveSteps(UUID runId, LocalDate date, List<DunningStep> steps) {
+        List<DunningStep> issued = steps.stream()
+            .filter(step -> step.outcome() == DunningOutcome.ISSUED)
+            .toList();
+        // At most one notice per invoice and level, whatever happened to the invoice since
+        jdbcTemplate.batchUpdate(
+            """
+            INSERT INTO dunning_notice (tenant_id, invoice_id, debtor_id, level, notice_date, open_amount, run_id)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (invoice_id, level) DO NOTHING
+            """,
+            issued,
+            issued.size(),
+            (statement, step) -> {
+                statement.setObject(1, step.item().tenantId());
+                statement.setObject(2, step.item().invoiceId());
+                statement.setObject(3, step.item().debtorId());
+                statement.setString(4, step.level().name());
+                statement.setDate(5, Date.valueOf(date));
+                statement.setBigDecimal(6, Rappen.toNumeric(step.item().openAmount()));
+                statement.setObject(7, runId);
+            }
+        );
+        List<DunningStep> sorted = steps.stream()
+            .sorted(Comparator.comparing(step -> step.item().invoiceId()))
+            .toList();
+        jdbcTemplate.batchUpdate(
+            """
+            UPDATE invoice
+            SET dunning_level = ?,
+                next_action_date = ?,
+                status = CASE WHEN ? AND status = 'SENT' THEN 'OVERDUE' ELSE status END,
+                updated_at = NOW(),
+                version = version + 1
+            WHERE id = ?
+            """,
+            sorted,
+            sorted.size(),
+            (statement, step) -> {
+                statement.setString(1, step.level() == null ? null : step.level().name());
+                statement.setDate(2, step.nextActionDate() == null ? null : Date.valueOf(step.nextActionDate()));
+                statement.setBoolean(3, step.outcome() == DunningOutcome.ISSUED);
+                statement.setObject(4, step.item().invoiceId());
+            }
+        );
+    }
+
+    @Override
+    public void addCounters(int year, Collection<DunningCounter> increments) {
+        List<DunningCounter> sorted = increments.stream()
+            .sorted(Comparator.comparing(DunningCounter::debtorId))
+            .toList();
+        jdbcTemplate.batchUpdate(
+            """
+            INSERT INTO dunning_debtor_counter (debtor_id, year, tenant_id, reminders, kvg_debt_collections)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (debtor_id, year) DO UPDATE
+            SET reminders = dunning_debtor_counter.reminders + EXCLUDED.reminders,
+                kvg_debt_collections = dunning_debtor_counter.kvg_debt_collections + EXCLUDED.kvg_debt_collections,
+                updated_at = NOW()
+            """,
+            sorted,
+            sorted.size(),
+            (statement, counter) -> {
+                statement.setObject(1, counter.debtorId());
+                statement.setInt(2, year);
+                statement.setObject(3, counter.tenantId());
+                statement.setInt(4, counter.reminders());
+                statement.setInt(5, counter.kvgDebtCollections());
+            }
+        );
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Govinda ERP - JDBC Invoice Document Repository
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.infrastructure.persistence;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import net.voytrex.govinda.billing.domain.model.BillingCreditor;
+import net.voytrex.govinda.billing.domain.model.InvoiceDocument;
+import net.voytrex.govinda.billing.domain.model.InvoiceDocumentSource;
+import net.voytrex.govinda.billing.domain.model.QrBillAddress;
+import net.voytrex.govinda.billing.domain.repository.InvoiceDocumentRepository;
+import net.voytrex.govinda.common.domain.model.BillingFrequency;
+import net.voytrex.govinda.common.domain.model.Language;
+import net.voytrex.govinda.common.domain.model.Rappen;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Plain JDBC implementation: the invoices of a run are streamed with their
+ * policyholder and current billing address through a server-side cursor over
+ * the partial index {@code idx_invoice_undocumented}; documents are registered
+ * with one batch per statement and chunk.
+ *
+ * The creditor of a tenant is read from its settings:
+ * {@code {"billing": {"qrIban", "street", "buildingNumber", "postalCode", "town", "country"}}},
+ * named after the tenant.
+ */
+@Repository
+public class JdbcInvoiceDocumentRepository implements InvoiceDocumentRepository {
+    static final int FETCH_SIZE = 2_000;
+    private static final String SELECT_UNDOCUMENTED = """
+        SELECT i.id, i.tenant_id, i.policyholder_id, i.invoice_number, i.payment_reference, i.billing_frequency,
+               i.period_start, i.period_end, i.invoice_date, i.due_date, i.total_amount, i.currency,
+               p.first_name, p.last_name, p.preferred_language,
+               a.street, a.house_number, a.postal_code, a.city, a.country
+        FROM invoice i
+        JOIN person p ON p.id = i.policyholder_id
+        LEFT JOIN LATERAL (
+            SELECT street, house_number, postal_code, city, country FROM address
+            WHERE person_id = i.policyholder_id AND superseded_at IS NULL
+            AND valid_from <= CURRENT_DATE AND (valid_to IS NULL OR valid_to >= CURRENT_DATE)
+            ORDER BY CASE address_type WHEN 'BILLING' THEN 0 WHEN 'CORRESPONDENCE' THEN 1 ELSE 2 END,
+                     valid_from DESC
+            LIMIT 1
+        ) a ON TRUE
+        WHERE i.run_id = ? AND i.portal_document_id IS NULL
+        AND i.payment_reference IS NOT NULL AND i.status <> 'CANCELLED'
+        ORDER BY i.id
+        """;
+    private static final Map<String, String> ALPHA2 = alpha2Codes();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcInvoiceDocumentRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<BillingCreditor> findCreditors(UUID invoiceRunId) {
+        return jdbcTemplate.query(
+            """
+            SELECT t.id, t.name,
+                   t.settings #>> '{billing,qrIban}' AS account,
+                   t.settings #>> '{billing,street}' AS street,
+                   t.settings #>> '{billing,buildingNumber}' AS building_number,
+                   t.settings #>> '{billing,postalCode}' AS postal_code,
+                   t.settings #>> '{billing,town}' AS town,
+                   COALESCE(t.settings #>> '{billing,country}', 'CH') AS country
+            FROM tenant t
+            WHERE t.id IN (SELECT DISTINCT tenant_id FROM invoice WHERE run_id = ?)
+            """,
+            (resultSet, row) -> new BillingCreditor(
+                resultSet.getObject("id", UUID.class),
+                resultSet.getString("account"),
+                address(
+                    resultSet.getString("name"),
+                    resultSet.getString("street"),
+                    resultSet.getString("building_number"),
+                    resultSet.getString("postal_code"),
+                    resultSet.getString("town"),
+                    resultSet.getString("country")
+                )
+            ),
+            invoiceRunId
+        );
+    }
+
+    @Override
+    public void streamUndocumented(UUID invoiceRunId, Consumer<InvoiceDocumentSource> consumer) {
+        jdbcTemplate.query(
+            connection -> {
+                PreparedStatement statement = connection.prepareStatement(SELECT_UNDOCUMENTED);
+                statement.setFetchSize(FETCH_SIZE);
+                statement.setObject(1, invoiceRunId);
+                return statement;
+            },
+            resultSet -> {
+                consumer.accept(source(resultSet));
+            }
+        );
+    }
+
+    @Override
+    public List<InvoiceDocument> registerDocuments(List<InvoiceDocument> documents) {
+        if (documents.isEmpty()) {
+            return List.of();
+        }
+        // Locked in id order so concurrent chunks cannot deadlock
+        Set<UUID> undocumented = new HashSet<>();
+        jdbcTemplate.query(
+            connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                    """
+                    SELECT id FROM invoice WHERE id = ANY (?) AND portal_document_id IS NULL
+                    ORDER BY id FOR UPDATE
+                    """
+                );
+                statement.setArray(
+                    1,
+                    connection.createArrayOf("uuid", documents.stream().map(InvoiceDocument::invoiceId).toArray())
+                );
+                return statement;
+            },
+            resultSet -> {
+                undocumented.add(resultSet.getObject(1, UUID.class));
+            }
+        );
+        List<InvoiceDocument> registered = documents.stream()
+            .filter(document -> undocumented.contains(document.invoiceId()))
+            .sorted(Comparator.comparing(InvoiceDocument::invoiceId))
+            .toList();
+        if (registered.isEmpty()) {
+            return registered;
+        }
+
+        jdbcTemplate.batchUpdate(
+            """
+            INSERT INTO portal_document
+                (id, tenant_id, person_id, type, status, title, storage_key, created_at, updated_at, version)
+            VALUES (?, ?, ?, 'INVOICE', 'AVAILABLE', ?, ?, NOW(), NOW(), 0)
+            """,
+            registered,
+            registered.size(),
+            (statement, document) -> {
+                statement.setObject(1, document.documentId());
+                statement.setObject(2, document.tenantId());
+                statement.setObject(3, document.policyholderId());
+                statement.setString(4, document.title());
+                statement.setString(5, document.storageKey());
+            }
+        );
+        jdbcTemplate.batchUpdate(
+            """
+            UPDATE invoice
+            SET portal_document_id = ?,
+                next_action_date = CASE WHEN status = 'DRAFT' THEN due_date ELSE next_action_date END,
+                status = CASE WHEN status = 'DRAFT' THEN 'SENT' ELSE status END,
+                updated_at = NOW(),
+                version = version + 1
+            WHERE id = ?
+            """,
+            registered,
+            registered.size(),
+            (statement, document) -> {
+                statement.setObject(1, document.documentId());
+                statement.setObject(2, document.invoiceId());
+            }
+        );
+        return registered;
+    }
+
+    private static InvoiceDocumentSource source(ResultSet resultSet) throws SQLException {
+        String name = resultSet.getString("first_name") + " " + resultSet.getString("last_name");
+        String country = ALPHA2.get(resultSet.getString("country"));
+        return new InvoiceDocumentSource(
+            resultSet.getObject("id", UUID.class),
+            resultSet.getObject("tenant_id", UUID.class),
+            resultSet.getObject("policyholder_id", UUID.class),
+            language(resultSet.getString("preferred_language")),
+            resultSet.getString("invoice_number"),
+            resultSet.getString("payment_reference"),
+            BillingFrequency.valueOf(resultSet.getString("billing_frequency")),
+            resultSet.getDate("period_start").toLocalDate(),
+            resultSet.getDate("period_end").toLocalDate(),
+            resultSet.getDate("invoice_date").toLocalDate(),
+            resultSet.getDate("due_date").toLocalDate(),
+            Rappen.fromDecimal(resultSet.getBigDecimal("total_amount")),
+            resultSet.getString("currency"),
+            country == null ? null : address(
+                name,
+                resultSet.getString("street"),
+                resultSet.getString("house_number"),
+                resultSet.getString("postal_code"),
+                resultSet.getString("city"),
+                country
+            )
+        );
+    }
+
+    /**
+     * Address if the mandatory parts are present, else {@code null}.
+     */
+    @Nullable
+    // CHECKSTYLE:OFF: ParameterNumber - One argument per address element
+    private static QrBillAddress address(
+        String name,
+        @Nullable String street,
+        @Nullable String buildingNumber,
+        @Nullable String postalCode,
+        @Nullable String town,
+        String country
+    ) {
+        // CHECKSTYLE:ON: ParameterNumber
+        if (postalCode == null || postalCode.isBlank() || town == null || town.isBlank() || country.length() != 2) {
+            return null;
+        }
+        return new QrBillAddress(name, street, buildingNumber, postalCode, town, country);
+    }
+
+    private static Language language(@Nullable String code) {
+        if (code != null) {
+            for (Language language : Language.values()) {
+                if (language.getCode().equalsIgnoreCase(code)) {
+                    return language;
+                }
+            }
+        }
+        return Language.DE;
+    }
+
+    /**
+     * Maps ISO 3166-1 alpha-3 country codes, as stored in addresses, to the
+     * alpha-2 codes of the QR-bill.
+     */
+    private static Map<String, String> alpha2Codes() {
+        Map<String, String> codes = new HashMap<>();
+        for (String alpha2 : Locale.getISOCountries()) {
+            codes.put(Locale.of("", alpha2).getISO3Country(), alpha2);
+        }
+        return Map.copyOf(codes);
+    }
+}
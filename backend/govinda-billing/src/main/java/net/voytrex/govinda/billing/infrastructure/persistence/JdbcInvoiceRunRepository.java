@@ -0,0 +1,223 @@
+/*
+ * Govinda ERP - JDBC Invoice Run Repository
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.infrastructure.persistence;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import net.voytrex.govinda.billing.domain.model.BillableCoverage;
+import net.voytrex.govinda.billing.domain.model.BillingPeriod;
+import net.voytrex.govinda.billing.domain.model.Invoice;
+import net.voytrex.govinda.billing.domain.model.InvoiceLine;
+import net.voytrex.govinda.billing.domain.model.InvoicePartition;
+import net.voytrex.govinda.billing.domain.repository.InvoiceRunRepository;
+import net.voytrex.govinda.common.domain.model.BillingFrequency;
+import net.voytrex.govinda.common.domain.model.Rappen;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Repository;
+
+/**
+ * PostgreSQL implementation: coverages are read with a single query per
+ * partition whose rows are fetched through a server-side cursor,
+ * {@code govinda.billing.invoice-run.fetch-size} at a time, and invoices and
+ * lines are written with {@code COPY ... FROM STDIN}, one buffer per table and
+ * chunk. Entities are not loaded, so memory stays flat however many invoices
+ * a run creates.
+ */
+@Repository
+public class JdbcInvoiceRunRepository implements InvoiceRunRepository {
+    private static final String SELECT_COVERAGES = """
+        SELECT po.id AS policy_id, po.policy_number, po.policyholder_id, po.billing_frequency,
+               c.id AS coverage_id, c.insured_person_id, c.product_id, c.effective_date, c.termination_date,
+               c.monthly_premium
+        FROM policy po
+        JOIN coverage c ON c.policy_id = po.id
+        WHERE po.tenant_id = ? AND po.status = 'ACTIVE'
+        AND po.billing_frequency = ANY (?)
+        AND po.id >= ? AND (CAST(? AS UUID) IS NULL OR po.id < CAST(? AS UUID))
+        AND po.id > COALESCE(CAST(? AS UUID), '00000000-0000-0000-0000-000000000000'::uuid)
+        AND NOT EXISTS (SELECT 1 FROM invoice i WHERE i.policy_id = po.id AND i.period_start = ?)
+        AND c.status <> 'SUSPENDED'
+        AND NOT (c.status = 'TERMINATED' AND c.termination_date IS NULL)
+        AND c.effective_date <= ?
+        AND (c.termination_date IS NULL OR c.termination_date >= ?)
+        ORDER BY po.id, c.id
+        """;
+    private static final String COPY_INVOICES = """
+        COPY invoice
+            (id, tenant_id, policy_id, policyholder_id, invoice_number, payment_reference, billing_frequency,
+             period_start, period_end, invoice_date, due_date, gross_amount, discount_amount, total_amount, run_id)
+        FROM STDIN
+        """;
+    private static final String COPY_LINES = """
+        COPY invoice_line
+            (invoice_id, line_number, coverage_id, insured_person_id, product_id, months, monthly_premium, amount)
+        FROM STDIN
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public JdbcInvoiceRunRepository(
+        JdbcTemplate jdbcTemplate,
+        @Value("${govinda.billing.invoice-run.fetch-size:5000}") int fetchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public List<UUID> findTenants() {
+        return jdbcTemplate.queryForList(
+            "SELECT DISTINCT tenant_id FROM policy WHERE status = 'ACTIVE' ORDER BY tenant_id",
+            UUID.class
+        );
+    }
+
+    @Override
+    public void streamCoverages(
+        InvoicePartition partition,
+        List<BillingPeriod> periods,
+        @Nullable UUID afterPolicyId,
+        Consumer<BillableCoverage> consumer
+    ) {
+        if (periods.isEmpty()) {
+            return;
+        }
+        LocalDate start = periods.get(0).start();
+        LocalDate end = periods.stream().map(BillingPeriod::end).max(LocalDate::compareTo).orElseThrow();
+        Object[] frequencies = periods.stream().map(period -> period.frequency().name()).toArray();
+        UUID upperBound = partition.upperBound();
+        jdbcTemplate.query(
+            connection -> {
+                PreparedStatement statement = connection.prepareStatement(SELECT_COVERAGES);
+                statement.setFetchSize(fetchSize);
+                statement.setObject(1, partition.tenantId());
+                statement.setArray(2, connection.createArrayOf("varchar", frequencies));
+                statement.setObject(3, partition.lowerBound());
+                statement.setObject(4, upperBound);
+                statement.setObject(5, upperBound);
+                statement.setObject(6, afterPolicyId);
+                statement.setDate(7, Date.valueOf(start));
+                statement.setDate(8, Date.valueOf(end));
+                statement.setDate(9, Date.valueOf(start));
+                return statement;
+            },
+            resultSet -> {
+                consumer.accept(new BillableCoverage(
+                    resultSet.getObject("policy_id", UUID.class),
+                    resultSet.getString("policy_number"),
+                    resultSet.getObject("policyholder_id", UUID.class),
+                    BillingFrequency.valueOf(resultSet.getString("billing_frequency")),
+                    resultSet.getObject("coverage_id", UUID.class),
+                    resultSet.getObject("insured_person_id", UUID.class),
+                    resultSet.getObject("product_id", UUID.class),
+                    resultSet.getObject("effective_date", LocalDate.class),
+                    resultSet.getObject("termination_date", LocalDate.class),
+                    Rappen.fromDecimal(resultSet.getBigDecimal("monthly_premium"))
+                ));
+            }
+        );
+    }
+
+    @Override
+    public long[] reserveReferenceNumbers(int count) {
+        return jdbcTemplate.queryForList(
+            "SELECT nextval('invoice_reference_seq') FROM generate_series(1, ?)",
+            Long.class,
+            count
+        ).stream().mapToLong(Long::longValue).toArray();
+    }
+
+    @Override
+    public void saveInvoices(UUID runId, List<Invoice> invoices) {
+        jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            StringBuilder rows = new StringBuilder(invoices.size() * 256);
+            for (Invoice invoice : invoices) {
+                appendInvoice(rows, runId, invoice);
+            }
+            copy(copyManager, COPY_INVOICES, rows);
+            rows.setLength(0);
+            for (Invoice invoice : invoices) {
+                for (InvoiceLine line : invoice.lines()) {
+                    appendLine(rows, invoice.id(), line);
+                }
+            }
+            return copy(copyManager, COPY_LINES, rows);
+        });
+    }
+
+    private static long copy(CopyManager copyManager, String sql, StringBuilder rows) throws SQLException {
+        CopyIn copy = copyManager.copyIn(sql);
+        try {
+            byte[] buffer = rows.toString().getBytes(StandardCharsets.UTF_8);
+            copy.writeToCopy(buffer, 0, buffer.length);
+            return copy.endCopy();
+        } finally {
+            if (copy.isActive()) {
+                cancel(copy);
+            }
+        }
+    }
+
+    private static void appendInvoice(StringBuilder rows, UUID runId, Invoice invoice) {
+        BillingPeriod period = invoice.period();
+        rows.append(invoice.id()).append('\t')
+            .append(invoice.tenantId()).append('\t')
+            .append(invoice.policyId()).append('\t')
+            .append(invoice.policyholderId()).append('\t')
+            .append(text(invoice.invoiceNumber())).append('\t')
+            .append(invoice.paymentReference()).append('\t')
+            .append(period.frequency().name()).append('\t')
+            .append(period.start()).append('\t')
+            .append(period.end()).append('\t')
+            .append(invoice.invoiceDate()).append('\t')
+            .append(invoice.dueDate()).append('\t')
+            .append(Rappen.toPlainString(Rappen.requireNumeric12x2(invoice.grossAmount()))).append('\t')
+            .append(Rappen.toPlainString(invoice.discountAmount())).append('\t')
+            .append(Rappen.toPlainString(invoice.totalAmount())).append('\t')
+            .append(runId).append('\n');
+    }
+
+    private static void appendLine(StringBuilder rows, UUID invoiceId, InvoiceLine line) {
+        rows.append(invoiceId).append('\t')
+            .append(line.lineNumber()).append('\t')
+            .append(line.coverageId()).append('\t')
+            .append(line.insuredPersonId()).append('\t')
+            .append(line.productId()).append('\t')
+            .append(line.months()).append('\t')
+            .append(Rappen.toPlainString(line.monthlyPremium())).append('\t')
+            .append(Rappen.toPlainString(Rappen.requireNumeric12x2(line.amount()))).append('\n');
+    }
+
+    /**
+     * Escapes a value for the COPY text format.
+     */
+    private static String text(String value) {
+        return value.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n").replace("\r", "\\r");
+    }
+
+    private static void cancel(CopyIn copy) {
+        try {
+            copy.cancelCopy();
+        } catch (SQLException ignored) {
+            // The original failure is more relevant than a failed cancel
+        }
+    }
+}
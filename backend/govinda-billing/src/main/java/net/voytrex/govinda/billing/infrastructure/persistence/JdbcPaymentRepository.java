@@ -0,0 +1,158 @@
+/*
+ * Govinda ERP - JDBC Payment Repository
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.infrastructure.persistence;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Consumer;
+import net.voytrex.govinda.billing.domain.model.IncomingPayment;
+import net.voytrex.govinda.billing.domain.model.MatchedPayment;
+import net.voytrex.govinda.billing.domain.model.OpenInvoice;
+import net.voytrex.govinda.billing.domain.model.PaymentOutcome;
+import net.voytrex.govinda.billing.domain.repository.PaymentRepository;
+import net.voytrex.govinda.common.domain.model.Rappen;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Plain JDBC implementation: open invoices are streamed with a cursor over the
+ * partial index {@code idx_invoice_open}, payments are inserted and invoices
+ * updated with one batch per chunk.
+ */
+@Repository
+public class JdbcPaymentRepository implements PaymentRepository {
+    static final int FETCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcPaymentRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void forEachOpenInvoice(UUID tenantId, Consumer<OpenInvoice> action) {
+        jdbcTemplate.query(
+            connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                    """
+                    SELECT id, payment_reference FROM invoice
+                    WHERE tenant_id = ? AND status NOT IN ('PAID', 'CANCELLED') AND payment_reference IS NOT NULL
+                    """
+                );
+                statement.setFetchSize(FETCH_SIZE);
+                statement.setObject(1, tenantId);
+                return statement;
+            },
+            resultSet -> {
+                action.accept(new OpenInvoice(
+                    resultSet.getObject("id", UUID.class),
+                    resultSet.getString("payment_reference")
+                ));
+            }
+        );
+    }
+
+    @Override
+    public Set<String> findRecorded(UUID tenantId, Collection<String> bankReferences) {
+        if (bankReferences.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> recorded = new HashSet<>();
+        jdbcTemplate.query(
+            connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                    "SELECT bank_reference FROM payment WHERE tenant_id = ? AND bank_reference = ANY (?)"
+                );
+                statement.setObject(1, tenantId);
+                statement.setArray(2, connection.createArrayOf("varchar", bankReferences.toArray()));
+                return statement;
+            },
+            resultSet -> {
+                recorded.add(resultSet.getString(1));
+            }
+        );
+        return recorded;
+    }
+
+    @Override
+    public List<MatchedPayment> savePayments(
+        UUID runId,
+        UUID tenantId,
+        String fileName,
+        List<MatchedPayment> payments
+    ) {
+        int[][] counts = jdbcTemplate.batchUpdate(
+            """
+            INSERT INTO payment
+                (tenant_id, invoice_id, bank_reference, payment_reference, amount, currency, booking_date,
+                 value_date, debtor_name, status, clarification_reason, source_file, run_id)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (tenant_id, bank_reference) DO NOTHING
+            """,
+            payments,
+            payments.size(),
+            (statement, matched) -> {
+                IncomingPayment payment = matched.payment();
+                boolean booked = matched.outcome() == PaymentOutcome.BOOKED;
+                statement.setObject(1, tenantId);
+                statement.setObject(2, matched.invoiceId());
+                statement.setString(3, payment.bankReference());
+                statement.setString(4, payment.paymentReference());
+                statement.setBigDecimal(5, Rappen.toNumeric(payment.amount()));
+                statement.setString(6, payment.currency());
+                statement.setDate(7, Date.valueOf(payment.bookingDate()));
+                statement.setDate(8, Date.valueOf(payment.valueDate()));
+                statement.setString(9, payment.debtorName());
+                statement.setString(10, booked ? "BOOKED" : "CLARIFICATION");
+                statement.setString(11, booked ? null : matched.outcome().name());
+                statement.setString(12, fileName);
+                statement.setObject(13, runId);
+            }
+        );
+        List<MatchedPayment> recorded = new ArrayList<>(payments.size());
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count != 0) {
+                    recorded.add(payments.get(index));
+                }
+                index++;
+            }
+        }
+        return recorded;
+    }
+
+    @Override
+    public void addPaidAmounts(Map<UUID, Long> amounts) {
+        // Sorted by id so concurrent chunks lock shared invoices in the same order
+        List<Object[]> updates = new ArrayList<>(amounts.size());
+        new TreeMap<>(amounts).forEach((invoiceId, amount) -> {
+            BigDecimal paid = Rappen.toNumeric(amount);
+            updates.add(new Object[] {paid, paid, invoiceId});
+        });
+        jdbcTemplate.batchUpdate(
+            """
+            UPDATE invoice
+            SET paid_amount = paid_amount + ?,
+                status = CASE WHEN paid_amount + ? >= total_amount THEN 'PAID' ELSE 'PARTIAL' END,
+                updated_at = NOW(),
+                version = version + 1
+            WHERE id = ?
+            """,
+            updates
+        );
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Govinda ERP - Invoice Migration
+ * Version: V050
+ * Description: Creates premium invoices and their line items
+ */
+
+-- ═══════════════════════════════════════════════════════════════
+-- INVOICE
+-- ═══════════════════════════════════════════════════════════════
+-- One row per policy and billing period, written in bulk by the invoice run.
+-- No foreign keys to policy and person: the run loads millions of rows per
+-- night with COPY and reads the keys from those tables itself.
+CREATE TABLE invoice (
+    id                  UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    tenant_id           UUID NOT NULL REFERENCES tenant(id),
+    policy_id           UUID NOT NULL,
+    policyholder_id     UUID NOT NULL,
+
+    invoice_number      VARCHAR(40) NOT NULL,
+    billing_frequency   VARCHAR(20) NOT NULL,
+    period_start        DATE NOT NULL,
+    period_end          DATE NOT NULL,
+    invoice_date        DATE NOT NULL,
+    due_date            DATE NOT NULL,
+
+    gross_amount        NUMERIC(12, 2) NOT NULL,
+    discount_amount     NUMERIC(12, 2) NOT NULL DEFAULT 0,
+    total_amount        NUMERIC(12, 2) NOT NULL,
+    currency            VARCHAR(3) NOT NULL DEFAULT 'CHF',
+    status              VARCHAR(20) NOT NULL DEFAULT 'DRAFT',
+    run_id              UUID REFERENCES batch_run(id) ON DELETE SET NULL,
+
+    -- Metadata
+    created_at          TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    updated_at          TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    version             BIGINT NOT NULL DEFAULT 0,
+
+    -- Also keeps a repeated invoice run from billing a period twice
+    CONSTRAINT uk_invoice_period UNIQUE (policy_id, period_start),
+    CONSTRAINT uk_invoice_number UNIQUE (tenant_id, invoice_number),
+    CONSTRAINT chk_invoice_billing CHECK (billing_frequency IN ('MONTHLY', 'QUARTERLY', 'SEMI_ANNUAL', 'ANNUAL')),
+    CONSTRAINT chk_invoice_status CHECK (status IN ('DRAFT', 'SENT', 'PAID', 'PARTIAL', 'OVERDUE', 'CANCELLED')),
+    CONSTRAINT chk_invoice_period CHECK (period_end >= period_start),
+    CONSTRAINT chk_invoice_amounts CHECK (total_amount = gross_amount - discount_amount)
+);
+
+CREATE INDEX idx_invoice_policyholder ON invoice(policyholder_id);
+
+COMMENT ON TABLE invoice IS 'Premium invoices per policy and billing period (Prämienrechnungen)';
+
+-- ═══════════════════════════════════════════════════════════════
+-- INVOICE LINE
+-- ═══════════════════════════════════════════════════════════════
+CREATE TABLE invoice_line (
+    invoice_id          UUID NOT NULL REFERENCES invoice(id) ON DELETE CASCADE,
+    line_number         SMALLINT NOT NULL,
+    coverage_id         UUID NOT NULL,
+    insured_person_id   UUID NOT NULL,
+    product_id          UUID NOT NULL,
+
+    months              SMALLINT NOT NULL,
+    monthly_premium     NUMERIC(12, 2) NOT NULL,
+    amount              NUMERIC(12, 2) NOT NULL,
+
+    PRIMARY KEY (invoice_id, line_number),
+    CONSTRAINT chk_invoice_line_months CHECK (months BETWEEN 1 AND 12)
+);
+
+COMMENT ON TABLE invoice_line IS 'Premium per coverage and invoice';
+
+-- Invoice run partitions: range scans of the active policies of a tenant
+CREATE INDEX idx_policy_billing ON policy(tenant_id, id) WHERE status = 'ACTIVE';
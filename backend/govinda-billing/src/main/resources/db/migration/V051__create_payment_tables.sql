@@ -0,0 +1,57 @@
+/*
+ * Govinda ERP - Payment Migration
+ * Version: V051
+ * Description: Adds payment references to invoices and creates incoming payments
+ */
+
+-- ═══════════════════════════════════════════════════════════════
+-- INVOICE PAYMENT REFERENCE
+-- ═══════════════════════════════════════════════════════════════
+-- Reference numbers of the QR references, reserved in blocks by the invoice run
+CREATE SEQUENCE invoice_reference_seq;
+
+ALTER TABLE invoice ADD COLUMN payment_reference VARCHAR(27);
+ALTER TABLE invoice ADD COLUMN paid_amount NUMERIC(12, 2) NOT NULL DEFAULT 0;
+ALTER TABLE invoice ADD CONSTRAINT uk_invoice_reference UNIQUE (payment_reference);
+
+-- Payment matching: loads the references of a tenant's open invoices with an index-only scan
+CREATE INDEX idx_invoice_open ON invoice(tenant_id) INCLUDE (id, payment_reference)
+    WHERE status NOT IN ('PAID', 'CANCELLED');
+
+-- ═══════════════════════════════════════════════════════════════
+-- PAYMENT
+-- ═══════════════════════════════════════════════════════════════
+-- One row per credit transaction of a bank notification (camt.054). Payments
+-- that could not be booked automatically form the clarification queue.
+CREATE TABLE payment (
+    id                  UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    tenant_id           UUID NOT NULL REFERENCES tenant(id),
+    invoice_id          UUID REFERENCES invoice(id),
+
+    bank_reference      VARCHAR(100) NOT NULL,
+    payment_reference   VARCHAR(35),
+    amount              NUMERIC(12, 2) NOT NULL,
+    currency            VARCHAR(3) NOT NULL,
+    booking_date        DATE NOT NULL,
+    value_date          DATE NOT NULL,
+    debtor_name         VARCHAR(140),
+
+    status              VARCHAR(20) NOT NULL,
+    clarification_reason VARCHAR(30),
+    source_file         VARCHAR(255) NOT NULL,
+    run_id              UUID REFERENCES batch_run(id) ON DELETE SET NULL,
+
+    created_at          TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    updated_at          TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+
+    -- Keeps a payment delivered again in a later file from being booked twice
+    CONSTRAINT uk_payment_bank_reference UNIQUE (tenant_id, bank_reference),
+    CONSTRAINT chk_payment_status CHECK (status IN ('BOOKED', 'CLARIFICATION', 'RESOLVED')),
+    CONSTRAINT chk_payment_booked CHECK (status <> 'BOOKED' OR invoice_id IS NOT NULL)
+);
+
+CREATE INDEX idx_payment_invoice ON payment(invoice_id);
+-- Clarification queue per tenant, oldest first
+CREATE INDEX idx_payment_clarification ON payment(tenant_id, booking_date) WHERE status = 'CLARIFICATION';
+
+COMMENT ON TABLE payment IS 'Incoming payments from bank notifications (Zahlungseingänge)';
@@ -0,0 +1,15 @@
+/*
+ * Govinda ERP - Invoice Document Migration
+ * Version: V052
+ * Description: Links invoices to their rendered QR-bill documents
+ */
+
+-- ═══════════════════════════════════════════════════════════════
+-- INVOICE DOCUMENT
+-- ═══════════════════════════════════════════════════════════════
+-- Set when the invoice's QR-bill PDF is registered as a portal document
+ALTER TABLE invoice ADD COLUMN portal_document_id UUID REFERENCES portal_document(id);
+
+-- Document rendering: reads the invoices of a run that still lack a document,
+-- which also makes resuming an interrupted rendering start where it stopped
+CREATE INDEX idx_invoice_undocumented ON invoice(run_id, id) WHERE portal_document_id IS NULL;
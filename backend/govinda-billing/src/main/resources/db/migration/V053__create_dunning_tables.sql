@@ -0,0 +1,67 @@
+/*
+ * Govinda ERP - Dunning Migration
+ * Version: V053
+ * Description: Schedules dunning per invoice and records notices and debtor counters
+ */
+
+-- ═══════════════════════════════════════════════════════════════
+-- INVOICE DUNNING
+-- ═══════════════════════════════════════════════════════════════
+-- Level reached and date of the next dunning action; set to the due date when
+-- the invoice is sent, cleared when the invoice leaves the automatic process
+ALTER TABLE invoice ADD COLUMN dunning_level VARCHAR(20);
+ALTER TABLE invoice ADD COLUMN next_action_date DATE;
+ALTER TABLE invoice ADD CONSTRAINT chk_invoice_dunning_level
+    CHECK (dunning_level IS NULL OR dunning_level IN ('REMINDER_1', 'REMINDER_2', 'FINAL_NOTICE', 'DEBT_COLLECTION'));
+
+UPDATE invoice SET next_action_date = due_date WHERE status IN ('SENT', 'PARTIAL', 'OVERDUE');
+
+-- Dunning run: range scan of the unpaid invoices due for their next action,
+-- so a run reads the due items only, not all open invoices
+CREATE INDEX idx_invoice_dunning_due ON invoice(next_action_date)
+    WHERE next_action_date IS NOT NULL AND status NOT IN ('PAID', 'CANCELLED');
+
+-- ═══════════════════════════════════════════════════════════════
+-- DUNNING NOTICE
+-- ═══════════════════════════════════════════════════════════════
+-- One row per reminder, final notice or debt collection of an invoice
+CREATE TABLE dunning_notice (
+    id                  UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    tenant_id           UUID NOT NULL REFERENCES tenant(id),
+    invoice_id          UUID NOT NULL REFERENCES invoice(id),
+    debtor_id           UUID NOT NULL,
+
+    level               VARCHAR(20) NOT NULL,
+    notice_date         DATE NOT NULL,
+    open_amount         NUMERIC(12, 2) NOT NULL,
+    run_id              UUID REFERENCES batch_run(id) ON DELETE SET NULL,
+
+    created_at          TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+
+    CONSTRAINT uk_dunning_notice_level UNIQUE (invoice_id, level),
+    CONSTRAINT chk_dunning_notice_level
+        CHECK (level IN ('REMINDER_1', 'REMINDER_2', 'FINAL_NOTICE', 'DEBT_COLLECTION'))
+);
+
+CREATE INDEX idx_dunning_notice_debtor ON dunning_notice(debtor_id);
+
+COMMENT ON TABLE dunning_notice IS 'Dunning notices per invoice (Mahnungen und Betreibungen)';
+
+-- ═══════════════════════════════════════════════════════════════
+-- DUNNING DEBTOR COUNTER
+-- ═══════════════════════════════════════════════════════════════
+-- Running counts per debtor and year, checked for the KVG limit of two debt
+-- collection proceedings per year for premiums (KVG Art. 64a)
+CREATE TABLE dunning_debtor_counter (
+    debtor_id           UUID NOT NULL,
+    year                SMALLINT NOT NULL,
+    tenant_id           UUID NOT NULL REFERENCES tenant(id),
+
+    reminders           INTEGER NOT NULL DEFAULT 0,
+    kvg_debt_collections INTEGER NOT NULL DEFAULT 0,
+    updated_at          TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+
+    PRIMARY KEY (debtor_id, year)
+);
+
+COMMENT ON TABLE dunning_debtor_counter IS 'Dunning notices and debt collections per debtor and year';
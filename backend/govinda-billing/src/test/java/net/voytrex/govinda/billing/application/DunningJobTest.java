@@ -0,0 +1,302 @@
+/*
+ * Govinda ERP - Dunning Job Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import net.voytrex.govinda.billing.domain.model.DunningCounter;
+import net.voytrex.govinda.billing.domain.model.DunningItem;
+import net.voytrex.govinda.billing.domain.model.DunningLevel;
+import net.voytrex.govinda.billing.domain.model.DunningOutcome;
+import net.voytrex.govinda.billing.domain.model.DunningReport;
+import net.voytrex.govinda.billing.domain.model.DunningStep;
+import net.voytrex.govinda.billing.domain.repository.DunningRepository;
+import net.voytrex.govinda.common.infrastructure.batch.BatchRunStore;
+import net.voytrex.govinda.common.infrastructure.batch.BatchRunStoreFixture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Tag("unit")
+@Tag("fast")
+class DunningJobTest {
+    private static final UUID TENANT_ID = UUID.randomUUID();
+    private static final UUID DEBTOR_A = new UUID(1, 0);
+    private static final UUID DEBTOR_B = new UUID(2, 0);
+    private static final LocalDate DUE = LocalDate.of(2027, 1, 31);
+    private static final int INTERVAL = 14;
+
+    private final UUID runId = UUID.randomUUID();
+    private final BatchRunStore batchRunStore = BatchRunStoreFixture.newRuns(runId);
+    private final InMemoryDunningRepository repository = new InMemoryDunningRepository();
+
+    @Nested
+    @DisplayName("Planning")
+    class Planning {
+
+        @Test
+        void shouldRescheduleInvoiceBeforeItsNextLevelIsReached() {
+            DunningItem item = item(1, DEBTOR_A, null, false);
+
+            DunningStep step = plan(List.of(item), DUE.plusDays(10), Map.of()).getFirst();
+
+            assertThat(step.outcome()).isEqualTo(DunningOutcome.RESCHEDULED);
+            assertThat(step.level()).isNull();
+            assertThat(step.nextActionDate()).isEqualTo(DUE.plusDays(30));
+        }
+
+        @Test
+        void shouldIssueFirstReminderAndScheduleTheSecond() {
+            DunningItem item = item(1, DEBTOR_A, null, false);
+
+            DunningStep step = plan(List.of(item), DUE.plusDays(30), Map.of()).getFirst();
+
+            assertThat(step.outcome()).isEqualTo(DunningOutcome.ISSUED);
+            assertThat(step.level()).isEqualTo(DunningLevel.REMINDER_1);
+            assertThat(step.nextActionDate()).isEqualTo(DUE.plusDays(45));
+        }
+
+        @Test
+        void shouldKeepTheNoticeIntervalWhenDunningLate() {
+            DunningItem item = item(1, DEBTOR_A, null, false);
+            LocalDate date = DUE.plusDays(40);
+
+            DunningStep step = plan(List.of(item), date, Map.of()).getFirst();
+
+            assertThat(step.level()).isEqualTo(DunningLevel.REMINDER_1);
+            assertThat(step.nextActionDate()).isEqualTo(date.plusDays(INTERVAL));
+        }
+
+        @Test
+        void shouldHoldKvgDebtCollectionUntilNextYearAtTheLimit() {
+            DunningItem item = item(1, DEBTOR_A, DunningLevel.FINAL_NOTICE, true);
+            LocalDate date = DUE.plusDays(75);
+
+            DunningStep step = plan(List.of(item), date, Map.of(DEBTOR_A, counter(DEBTOR_A, 2))).getFirst();
+
+            assertThat(step.outcome()).isEqualTo(DunningOutcome.HELD);
+            assertThat(step.level()).isEqualTo(DunningLevel.FINAL_NOTICE);
+            assertThat(step.nextActionDate()).isEqualTo(LocalDate.of(2028, 1, 1));
+        }
+
+        @Test
+        void shouldCollectADebtorsKvgInvoicesInOneProceeding() {
+            List<DunningItem> items = List.of(
+                item(1, DEBTOR_A, DunningLevel.FINAL_NOTICE, true),
+                item(2, DEBTOR_A, DunningLevel.FINAL_NOTICE, true),
+                item(3, DEBTOR_A, DunningLevel.REMINDER_1, false)
+            );
+
+            List<DunningStep> steps = plan(items, DUE.plusDays(75), Map.of(DEBTOR_A, counter(DEBTOR_A, 1)));
+
+            assertThat(steps).extracting(DunningStep::level).containsExactly(
+                DunningLevel.DEBT_COLLECTION, DunningLevel.DEBT_COLLECTION, DunningLevel.REMINDER_2
+            );
+            assertThat(steps.getFirst().nextActionDate()).isNull();
+            DunningCounter increment = DunningJob.increments(steps).get(DEBTOR_A);
+            assertThat(increment.kvgDebtCollections()).isEqualTo(1);
+            assertThat(increment.reminders()).isEqualTo(1);
+        }
+
+        @Test
+        void shouldNotLimitDebtCollectionOfSupplementaryInsurance() {
+            DunningItem item = item(1, DEBTOR_A, DunningLevel.FINAL_NOTICE, false);
+
+            List<DunningStep> steps = plan(List.of(item), DUE.plusDays(75), Map.of(DEBTOR_A, counter(DEBTOR_A, 2)));
+
+            assertThat(steps.getFirst().outcome()).isEqualTo(DunningOutcome.ISSUED);
+            assertThat(steps.getFirst().level()).isEqualTo(DunningLevel.DEBT_COLLECTION);
+            assertThat(DunningJob.increments(steps).get(DEBTOR_A).kvgDebtCollections()).isZero();
+        }
+
+        @Test
+        void shouldDropInvoiceAlreadyInDebtCollection() {
+            DunningItem item = item(1, DEBTOR_A, DunningLevel.DEBT_COLLECTION, true);
+
+            DunningStep step = plan(List.of(item), DUE.plusDays(100), Map.of()).getFirst();
+
+            assertThat(step.outcome()).isEqualTo(DunningOutcome.RESCHEDULED);
+            assertThat(step.nextActionDate()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Run")
+    class Run {
+
+        @Test
+        void shouldProcessDueInvoicesInChunksCutBetweenDebtors() {
+            repository.add(item(1, DEBTOR_A, null, false), DUE.plusDays(30));
+            repository.add(item(2, DEBTOR_A, null, true), DUE.plusDays(30));
+            repository.add(item(3, DEBTOR_A, DunningLevel.FINAL_NOTICE, true), DUE.plusDays(75));
+            repository.add(item(4, DEBTOR_B, null, false), DUE.plusDays(30));
+            repository.add(item(5, DEBTOR_B, null, false), DUE.plusDays(30));
+            repository.add(item(6, DEBTOR_B, null, false), DUE.plusDays(120));
+
+            DunningReport report = job(2).run(DUE.plusDays(75));
+
+            assertThat(report.chunks()).isEqualTo(2);
+            assertThat(report.due()).isEqualTo(5);
+            assertThat(report.notices()).isEqualTo(5);
+            assertThat(report.debtCollections()).isEqualTo(1);
+            assertThat(repository.chunks).containsExactly(3, 2);
+            assertThat(repository.counters.get(DEBTOR_A)).isEqualTo(new DunningCounter(TENANT_ID, DEBTOR_A, 2, 1));
+            assertThat(repository.counters.get(DEBTOR_B)).isEqualTo(new DunningCounter(TENANT_ID, DEBTOR_B, 2, 0));
+            assertThat(repository.notices).hasSize(5);
+            assertThat(repository.nextActionDates.get(new UUID(0, 3))).isNull();
+            assertThat(repository.nextActionDates.get(new UUID(0, 6))).isEqualTo(DUE.plusDays(120));
+            verify(batchRunStore).complete(runId, 5);
+        }
+
+        @Test
+        void shouldResumeWithTheInvoicesStillDue() {
+            repository.add(item(1, DEBTOR_A, null, false), DUE.plusDays(30));
+            repository.add(item(2, DEBTOR_B, null, false), DUE.plusDays(30));
+            repository.failingDebtor = DEBTOR_B;
+
+            assertThatThrownBy(() -> job(1).run(DUE.plusDays(30)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("database down");
+            verify(batchRunStore).fail(eq(runId), anyString());
+            verify(batchRunStore, never()).complete(any(), any(Long.class));
+            assertThat(repository.notices).hasSize(1);
+
+            repository.failingDebtor = null;
+            DunningReport report = job(1).run(DUE.plusDays(30));
+
+            assertThat(report.due()).isEqualTo(1);
+            assertThat(repository.notices).hasSize(2);
+            assertThat(job(1).run(DUE.plusDays(30)).due()).isZero();
+            assertThat(repository.counters.get(DEBTOR_A).reminders()).isEqualTo(1);
+        }
+    }
+
+    private DunningJob job(int chunkSize) {
+        return new DunningJob(
+            repository,
+            batchRunStore,
+            mock(PlatformTransactionManager.class),
+            2,
+            chunkSize,
+            INTERVAL
+        );
+    }
+
+    private static List<DunningStep> plan(List<DunningItem> items, LocalDate date, Map<UUID, DunningCounter> counters) {
+        return DunningJob.plan(items, date, counters, INTERVAL);
+    }
+
+    private static DunningItem item(int invoice, UUID debtorId, @Nullable DunningLevel level, boolean kvg) {
+        return new DunningItem(new UUID(0, invoice), TENANT_ID, debtorId, level, DUE, 10_000L * invoice, kvg);
+    }
+
+    private static DunningCounter counter(UUID debtorId, int kvgDebtCollections) {
+        return new DunningCounter(TENANT_ID, debtorId, 0, kvgDebtCollections);
+    }
+
+    /**
+     * Repository fake selecting due invoices like the {@code next_action_date} index.
+     */
+    private static final class InMemoryDunningRepository implements DunningRepository {
+        private final Map<UUID, DunningItem> items = new ConcurrentHashMap<>();
+        private final Map<UUID, LocalDate> nextActionDates = new ConcurrentHashMap<>();
+        private final Map<UUID, DunningCounter> counters = new ConcurrentHashMap<>();
+        private final Set<String> notices = ConcurrentHashMap.newKeySet();
+        private final List<Integer> chunks = new ArrayList<>();
+        @Nullable
+        private volatile UUID failingDebtor;
+
+        void add(DunningItem item, LocalDate nextActionDate) {
+            items.put(item.invoiceId(), item);
+            nextActionDates.put(item.invoiceId(), nextActionDate);
+        }
+
+        private boolean isDue(UUID invoiceId, LocalDate date) {
+            LocalDate next = nextActionDates.get(invoiceId);
+            return next != null && !next.isAfter(date);
+        }
+
+        @Override
+        public void streamDue(LocalDate date, Consumer<DunningItem> consumer) {
+            items.values().stream()
+                .filter(item -> isDue(item.invoiceId(), date))
+                .sorted(Comparator.comparing(DunningItem::debtorId).thenComparing(DunningItem::invoiceId))
+                .toList()
+                .forEach(consumer);
+        }
+
+        @Override
+        public synchronized Set<UUID> lockDue(Collection<UUID> invoiceIds, LocalDate date) {
+            chunks.add(invoiceIds.size());
+            Set<UUID> locked = new HashSet<>();
+            invoiceIds.stream().filter(id -> isDue(id, date)).forEach(locked::add);
+            return locked;
+        }
+
+        @Override
+        public Map<UUID, DunningCounter> findCounters(int year, Collection<UUID> debtorIds) {
+            Map<UUID, DunningCounter> found = new ConcurrentHashMap<>();
+            debtorIds.stream().filter(counters::containsKey).forEach(id -> found.put(id, counters.get(id)));
+            return found;
+        }
+
+        @Override
+        public void saveSteps(UUID runId, LocalDate date, List<DunningStep> steps) {
+            if (steps.stream().anyMatch(step -> step.item().debtorId().equals(failingDebtor))) {
+                throw new IllegalStateException("database down");
+            }
+            for (DunningStep step : steps) {
+                DunningItem item = step.item();
+                if (step.outcome() == DunningOutcome.ISSUED) {
+                    notices.add(item.invoiceId() + ":" + step.level());
+                }
+                items.put(item.invoiceId(), new DunningItem(
+                    item.invoiceId(), item.tenantId(), item.debtorId(), step.level(),
+                    item.dueDate(), item.openAmount(), item.kvg()
+                ));
+                if (step.nextActionDate() == null) {
+                    nextActionDates.remove(item.invoiceId());
+                } else {
+                    nextActionDates.put(item.invoiceId(), step.nextActionDate());
+                }
+            }
+        }
+
+        @Override
+        public void addCounters(int year, Collection<DunningCounter> increments) {
+            for (DunningCounter increment : increments) {
+                counters.merge(increment.debtorId(), increment, (current, added) -> new DunningCounter(
+                    current.tenantId(),
+                    current.debtorId(),
+                    current.reminders() + added.reminders(),
+                    current.kvgDebtCollections() + added.kvgDebtCollections()
+                ));
+            }
+        }
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Govinda ERP - Invoice Document Job Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import net.voytrex.govinda.billing.domain.model.BillingCreditor;
+import net.voytrex.govinda.billing.domain.model.InvoiceDocument;
+import net.voytrex.govinda.billing.domain.model.InvoiceDocumentReport;
+import net.voytrex.govinda.billing.domain.model.InvoiceDocumentSource;
+import net.voytrex.govinda.billing.domain.model.PaymentReference;
+import net.voytrex.govinda.billing.domain.model.QrBill;
+import net.voytrex.govinda.billing.domain.model.QrBillAddress;
+import net.voytrex.govinda.billing.domain.repository.InvoiceDocumentRepository;
+import net.voytrex.govinda.billing.infrastructure.document.LocalDocumentStore;
+import net.voytrex.govinda.billing.infrastructure.document.QrBillRendererPool;
+import net.voytrex.govinda.common.domain.exception.BusinessRuleViolationException;
+import net.voytrex.govinda.common.domain.model.BillingFrequency;
+import net.voytrex.govinda.common.domain.model.Language;
+import net.voytrex.govinda.common.i18n.MessageCatalog;
+import net.voytrex.govinda.common.infrastructure.batch.BatchRunStore;
+import net.voytrex.govinda.common.infrastructure.batch.BatchRunStoreFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Tag("unit")
+@Tag("fast")
+class InvoiceDocumentJobTest {
+    private static final UUID INVOICE_RUN_ID = UUID.randomUUID();
+    private static final UUID TENANT_ID = UUID.randomUUID();
+    private static final String ACCOUNT = "CH44 3199 9123 0008 8901 2";
+    private static final QrBillAddress CREDITOR =
+        new QrBillAddress("Govinda Krankenkasse AG", "Bahnhofstrasse", "1", "8001", "Zürich", "CH");
+    private static final QrBillAddress DEBTOR =
+        new QrBillAddress("Anna Rossi", "Via Nassa", "5", "6900", "Lugano", "CH");
+
+    private final UUID runId = UUID.randomUUID();
+    private final BatchRunStore batchRunStore = BatchRunStoreFixture.newRuns(runId);
+    private final InMemoryInvoiceDocumentRepository repository = new InMemoryInvoiceDocumentRepository();
+    private final QrBillRendererPool rendererPool = new QrBillRendererPool(MessageCatalog.load("messages"), 2);
+
+    @TempDir
+    private Path directory;
+
+    @BeforeEach
+    void setUp() {
+        repository.creditors.add(new BillingCreditor(TENANT_ID, ACCOUNT, CREDITOR));
+    }
+
+    @AfterEach
+    void tearDown() {
+        rendererPool.close();
+    }
+
+    @Nested
+    @DisplayName("QR-bill")
+    class Bill {
+
+        @Test
+        void shouldBuildSwissPaymentCodePayload() {
+            QrBill bill = new QrBill(
+                "CH4431999123000889012", CREDITOR, 194_975, "CHF", DEBTOR, PaymentReference.of(1), "INV\n1"
+            );
+
+            assertThat(bill.payload().split("\n", -1)).containsExactly(
+                "SPC", "0200", "1", "CH4431999123000889012",
+                "S", "Govinda Krankenkasse AG", "Bahnhofstrasse", "1", "8001", "Zürich", "CH",
+                "", "", "", "", "", "", "",
+                "1949.75", "CHF",
+                "S", "Anna Rossi", "Via Nassa", "5", "6900", "Lugano", "CH",
+                "QRR", PaymentReference.of(1), "INV 1", "EPD"
+            );
+        }
+
+        @Test
+        void shouldLeaveDebtorEmptyWhenUnknown() {
+            QrBill bill = new QrBill(
+                "CH4431999123000889012", CREDITOR, 100, "CHF", null, PaymentReference.of(1), null
+            );
+
+            assertThat(bill.payload()).contains("\nCHF\n\n\n\n\n\n\n\nQRR\n").endsWith("\n\nEPD");
+        }
+
+        @Test
+        void shouldAcceptOnlyQrIbans() {
+            assertThat(QrBill.isQrIban(ACCOUNT)).isTrue();
+            assertThat(QrBill.isQrIban("CH4431999123000889013")).isFalse();
+            assertThat(QrBill.isQrIban("CH9300762011623852957")).isFalse();
+            assertThat(QrBill.isQrIban("DE89370400440532013000")).isFalse();
+            assertThat(QrBill.isQrIban(null)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Documents")
+    class Documents {
+
+        @Test
+        void shouldStoreAndRegisterEveryInvoice() throws IOException {
+            repository.addInvoices(5);
+
+            InvoiceDocumentReport report = job(2).run(INVOICE_RUN_ID);
+
+            assertThat(report.chunks()).isEqualTo(3);
+            assertThat(report.documents()).isEqualTo(5);
+            assertThat(report.stored()).isEqualTo(5);
+            assertThat(repository.documents).hasSize(5);
+            for (InvoiceDocument document : repository.documents.values()) {
+                assertThat(document.storageKey()).matches("invoices/(..)/(..)/\\1\\2[0-9a-f]{60}\\.pdf");
+                assertThat(Files.readString(directory.resolve(document.storageKey()), StandardCharsets.ISO_8859_1))
+                    .startsWith("%PDF-1.4");
+                assertThat(document.title()).startsWith("Fattura dei premi INV-");
+            }
+            assertThat(storedFiles()).hasSize(5);
+            verify(batchRunStore).complete(runId, 5);
+        }
+
+        @Test
+        void shouldResumeWithInvoicesWithoutDocument() {
+            repository.addInvoices(4);
+            repository.failingInvoice = repository.sources.get(3).invoiceId();
+
+            assertThatThrownBy(() -> job(2).run(INVOICE_RUN_ID))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("database down");
+            verify(batchRunStore).fail(eq(runId), anyString());
+            verify(batchRunStore, never()).complete(any(), any(Long.class));
+            assertThat(repository.documents).hasSize(2);
+
+            repository.failingInvoice = null;
+            InvoiceDocumentReport report = job(2).run(INVOICE_RUN_ID);
+
+            assertThat(report.documents()).isEqualTo(2);
+            assertThat(report.stored()).isZero();
+            assertThat(repository.documents).hasSize(4);
+            assertThat(storedFiles()).hasSize(4);
+        }
+
+        @Test
+        void shouldRejectRunOfTenantWithoutQrIban() {
+            repository.addInvoices(1);
+            repository.creditors.set(0, new BillingCreditor(TENANT_ID, "CH9300762011623852957", CREDITOR));
+
+            assertThatThrownBy(() -> job(2).run(INVOICE_RUN_ID))
+                .isInstanceOf(BusinessRuleViolationException.class);
+            verify(batchRunStore).fail(eq(runId), anyString());
+            assertThat(repository.documents).isEmpty();
+        }
+
+        @Test
+        void shouldFanOutStorageKeysByHash() {
+            String hash = "ab" + "cd" + "0".repeat(60);
+
+            assertThat(InvoiceDocumentJob.storageKey(hash)).isEqualTo("invoices/ab/cd/" + hash + ".pdf");
+        }
+    }
+
+    private InvoiceDocumentJob job(int chunkSize) {
+        return new InvoiceDocumentJob(
+            repository,
+            new LocalDocumentStore(directory),
+            rendererPool,
+            batchRunStore,
+            mock(PlatformTransactionManager.class),
+            chunkSize
+        );
+    }
+
+    private List<Path> storedFiles() {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(Files::isRegularFile).toList();
+        } catch (IOException ex) {
+            throw new AssertionError(ex);
+        }
+    }
+
+    /**
+     * Repository fake registering documents like the {@code portal_document_id IS NULL} filter.
+     */
+    private static final class InMemoryInvoiceDocumentRepository implements InvoiceDocumentRepository {
+        private final List<BillingCreditor> creditors = new ArrayList<>();
+        private final List<InvoiceDocumentSource> sources = new ArrayList<>();
+        private final Map<UUID, InvoiceDocument> documents = new ConcurrentHashMap<>();
+        @Nullable
+        private volatile UUID failingInvoice;
+
+        void addInvoices(int count) {
+            for (int i = 1; i <= count; i++) {
+                sources.add(new InvoiceDocumentSource(
+                    new UUID(0, i),
+                    TENANT_ID,
+                    UUID.randomUUID(),
+                    Language.IT,
+                    "INV-2027-00000" + i,
+                    PaymentReference.of(i),
+                    BillingFrequency.MONTHLY,
+                    LocalDate.of(2027, 1, 1),
+                    LocalDate.of(2027, 1, 31),
+                    LocalDate.of(2026, 12, 1),
+                    LocalDate.of(2026, 12, 31),
+                    10_000L * i,
+                    "CHF",
+                    DEBTOR
+                ));
+            }
+        }
+
+        @Override
+        public List<BillingCreditor> findCreditors(UUID invoiceRunId) {
+            return List.copyOf(creditors);
+        }
+
+        @Override
+        public void streamUndocumented(UUID invoiceRunId, Consumer<InvoiceDocumentSource> consumer) {
+            sources.stream().filter(source -> !documents.containsKey(source.invoiceId())).forEach(consumer);
+        }
+
+        @Override
+        public List<InvoiceDocument> registerDocuments(List<InvoiceDocument> registered) {
+            if (registered.stream().anyMatch(document -> document.invoiceId().equals(failingInvoice))) {
+                throw new IllegalStateException("database down");
+            }
+            return registered.stream()
+                .filter(document -> documents.putIfAbsent(document.invoiceId(), document) == null)
+                .toList();
+        }
+    }
+}
@@ -0,0 +1,384 @@
+/*
+ * Govinda ERP - Invoice Run Job Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+import net.voytrex.govinda.billing.domain.model.BillableCoverage;
+import net.voytrex.govinda.billing.domain.model.BillingPeriod;
+import net.voytrex.govinda.billing.domain.model.Invoice;
+import net.voytrex.govinda.billing.domain.model.InvoicePartition;
+import net.voytrex.govinda.billing.domain.model.InvoiceRunReport;
+import net.voytrex.govinda.billing.domain.repository.InvoiceRunRepository;
+import net.voytrex.govinda.common.domain.model.BillingFrequency;
+import net.voytrex.govinda.common.infrastructure.batch.BatchCheckpoint;
+import net.voytrex.govinda.common.infrastructure.batch.BatchRun;
+import net.voytrex.govinda.common.infrastructure.batch.BatchRunStore;
+import net.voytrex.govinda.common.infrastructure.batch.BatchRunStoreFixture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Tag("unit")
+@Tag("fast")
+class InvoiceRunJobTest {
+    private static final UUID TENANT_ID = UUID.randomUUID();
+    private static final YearMonth JANUARY = YearMonth.of(2027, 1);
+    private static final YearMonth FEBRUARY = YearMonth.of(2027, 2);
+    private static final LocalDate INVOICE_DATE = LocalDate.of(2026, 12, 5);
+    private static final InvoicePartition LOWER = new InvoicePartition(TENANT_ID, 0, 2);
+    private static final InvoicePartition UPPER = new InvoicePartition(TENANT_ID, 1, 2);
+
+    private final UUID runId = UUID.randomUUID();
+    private final BatchRunStore batchRunStore = BatchRunStoreFixture.newRuns(runId);
+    private final InMemoryInvoiceRunRepository repository = new InMemoryInvoiceRunRepository();
+
+    @Nested
+    @DisplayName("Billing periods")
+    class Periods {
+
+        @Test
+        void shouldStartAllFrequenciesInJanuaryAndOnlyMonthlyInFebruary() {
+            assertThat(BillingPeriod.startingIn(JANUARY)).containsExactly(
+                new BillingPeriod(BillingFrequency.MONTHLY, date(2027, 1, 1), date(2027, 1, 31)),
+                new BillingPeriod(BillingFrequency.QUARTERLY, date(2027, 1, 1), date(2027, 3, 31)),
+                new BillingPeriod(BillingFrequency.SEMI_ANNUAL, date(2027, 1, 1), date(2027, 6, 30)),
+                new BillingPeriod(BillingFrequency.ANNUAL, date(2027, 1, 1), date(2027, 12, 31))
+            );
+            assertThat(BillingPeriod.startingIn(FEBRUARY)).extracting(BillingPeriod::frequency)
+                .containsExactly(BillingFrequency.MONTHLY);
+            assertThat(BillingPeriod.startingIn(YearMonth.of(2027, 7))).extracting(BillingPeriod::frequency)
+                .containsExactly(BillingFrequency.MONTHLY, BillingFrequency.QUARTERLY, BillingFrequency.SEMI_ANNUAL);
+        }
+
+        @Test
+        void shouldCountEveryMonthWithAtLeastOneDayInForce() {
+            BillingPeriod year = period(BillingFrequency.ANNUAL);
+
+            assertThat(year.billableMonths(date(2020, 1, 1), null)).isEqualTo(12);
+            assertThat(year.billableMonths(date(2027, 3, 15), null)).isEqualTo(10);
+            assertThat(year.billableMonths(date(2020, 1, 1), date(2027, 6, 1))).isEqualTo(6);
+            assertThat(year.billableMonths(date(2027, 5, 1), date(2027, 5, 31))).isEqualTo(1);
+            assertThat(year.billableMonths(date(2020, 1, 1), date(2026, 12, 31))).isZero();
+        }
+
+        @Test
+        void shouldSplitPolicyIdsIntoContiguousRanges() {
+            assertThat(LOWER.lowerBound()).isEqualTo(new UUID(0L, 0L));
+            assertThat(LOWER.upperBound()).isEqualTo(UUID.fromString("80000000-0000-0000-0000-000000000000"));
+            assertThat(UPPER.lowerBound()).isEqualTo(LOWER.upperBound());
+            assertThat(UPPER.upperBound()).isNull();
+            assertThat(InvoicePartition.of(TENANT_ID, 16)).hasSize(16)
+                .extracting(InvoicePartition::key).doesNotHaveDuplicates();
+        }
+    }
+
+    @Nested
+    @DisplayName("Amounts")
+    class Amounts {
+
+        @Test
+        void shouldBillInForceMonthsAndDeductFrequencyDiscount() {
+            UUID policyId = UUID.randomUUID();
+            BillableCoverage adult = coverage(policyId, BillingFrequency.ANNUAL, 40_000L, date(2020, 1, 1));
+            BillableCoverage newborn = coverage(policyId, BillingFrequency.ANNUAL, 25_035L, date(2027, 3, 15));
+
+            Invoice invoice = InvoiceRunJob.invoice(
+                TENANT_ID, period(BillingFrequency.ANNUAL), List.of(adult, newborn), INVOICE_DATE, date(2027, 1, 4),
+                () -> 42L
+            );
+
+            assertThat(invoice).isNotNull();
+            assertThat(invoice.lines())
+                .extracting(line -> line.lineNumber() + ":" + line.months() + ":" + line.amount())
+                .containsExactly("1:12:480000", "2:10:250350");
+            // 7303.50 less 2 % (146.07) is 7157.43, rounded to 7157.45
+            assertThat(invoice.grossAmount()).isEqualTo(730_350L);
+            assertThat(invoice.totalAmount()).isEqualTo(715_745L);
+            assertThat(invoice.discountAmount()).isEqualTo(14_605L);
+            assertThat(invoice.invoiceNumber()).isEqualTo(adult.policyNumber() + "-202701");
+            assertThat(invoice.paymentReference()).isEqualTo("000000000000000000000000420");
+        }
+
+        @Test
+        void shouldOnlyRoundMonthlyInvoices() {
+            UUID policyId = UUID.randomUUID();
+            BillableCoverage coverage = coverage(policyId, BillingFrequency.MONTHLY, 31_237L, date(2020, 1, 1));
+
+            Invoice invoice = InvoiceRunJob.invoice(
+                TENANT_ID, period(BillingFrequency.MONTHLY), List.of(coverage), INVOICE_DATE, date(2027, 1, 4),
+                () -> 42L
+            );
+
+            assertThat(invoice).isNotNull();
+            assertThat(invoice.totalAmount()).isEqualTo(31_235L);
+            assertThat(invoice.discountAmount()).isEqualTo(2L);
+        }
+
+        @Test
+        void shouldSkipPolicyWithoutCoverageInForce() {
+            BillableCoverage ended = new BillableCoverage(
+                UUID.randomUUID(), "P-1", UUID.randomUUID(), BillingFrequency.MONTHLY, UUID.randomUUID(),
+                UUID.randomUUID(), UUID.randomUUID(), date(2020, 1, 1), date(2026, 12, 31), 40_000L
+            );
+
+            assertThat(InvoiceRunJob.invoice(
+                TENANT_ID, period(BillingFrequency.MONTHLY), List.of(ended), INVOICE_DATE, date(2027, 1, 4),
+                () -> {
+                    throw new AssertionError("no reference for an empty invoice");
+                }
+            )).isNull();
+        }
+
+        @Test
+        void shouldDueAfterPaymentTermButNotBeforePeriodStart() {
+            BillingPeriod period = period(BillingFrequency.MONTHLY);
+
+            assertThat(InvoiceRunJob.dueDate(period, INVOICE_DATE, 30)).isEqualTo(date(2027, 1, 4));
+            assertThat(InvoiceRunJob.dueDate(period, date(2026, 11, 15), 30)).isEqualTo(date(2027, 1, 1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Chunks and checkpoints")
+    class Checkpoints {
+
+        @Test
+        void shouldInvoiceOnlyPoliciesWhosePeriodStartsInTheMonth() {
+            BillableCoverage monthly = coverage(policyIn(LOWER), BillingFrequency.MONTHLY, 40_000L, date(2020, 1, 1));
+            BillableCoverage annual = coverage(policyIn(UPPER), BillingFrequency.ANNUAL, 40_000L, date(2020, 1, 1));
+            repository.add(monthly, annual);
+
+            InvoiceRunReport report = job(10).run(FEBRUARY, date(2027, 1, 5));
+
+            assertThat(repository.invoices.keySet()).containsExactly(monthly.policyId());
+            assertThat(report.invoices()).isEqualTo(1);
+            assertThat(report.totalAmount()).isEqualTo(40_000L);
+            assertThat(report.partitions()).isEqualTo(2);
+            verify(batchRunStore).complete(runId, 1);
+        }
+
+        @Test
+        void shouldCommitCheckpointPerChunkOfPolicies() {
+            for (int i = 0; i < 5; i++) {
+                UUID policyId = policyIn(LOWER);
+                repository.add(
+                    coverage(policyId, BillingFrequency.QUARTERLY, 40_000L, date(2020, 1, 1)),
+                    coverage(policyId, BillingFrequency.QUARTERLY, 10_000L, date(2020, 1, 1))
+                );
+            }
+            repository.add(coverage(policyIn(UPPER), BillingFrequency.MONTHLY, 40_000L, date(2020, 1, 1)));
+
+            InvoiceRunReport report = job(2).run(JANUARY, INVOICE_DATE);
+
+            assertThat(report.invoices()).isEqualTo(6);
+            assertThat(report.lines()).isEqualTo(11);
+            assertThat(repository.invoices.values()).extracting(Invoice::paymentReference).doesNotHaveDuplicates();
+            assertThat(repository.chunks.get(LOWER.key())).isEqualTo(3);
+            List<UUID> lower = repository.policyIds(LOWER);
+            verify(batchRunStore).checkpoint(new BatchCheckpoint(runId, LOWER.key(), lower.get(1), 2, false));
+            verify(batchRunStore).checkpoint(new BatchCheckpoint(runId, LOWER.key(), lower.get(3), 4, false));
+            verify(batchRunStore).checkpoint(new BatchCheckpoint(runId, LOWER.key(), lower.get(4), 5, true));
+            verify(batchRunStore).complete(runId, 6);
+        }
+
+        @Test
+        void shouldResumeAfterLastCommittedPolicy() {
+            for (int i = 0; i < 4; i++) {
+                repository.add(coverage(policyIn(LOWER), BillingFrequency.MONTHLY, 40_000L, date(2020, 1, 1)));
+            }
+            repository.add(coverage(policyIn(UPPER), BillingFrequency.MONTHLY, 40_000L, date(2020, 1, 1)));
+            UUID resumeAfter = repository.policyIds(LOWER).get(1);
+            when(batchRunStore.startOrResume(InvoiceRunJob.JOB_NAME, JANUARY.toString())).thenReturn(
+                new BatchRun(runId, InvoiceRunJob.JOB_NAME, JANUARY.toString(), Map.of(
+                    UPPER.key(), new BatchCheckpoint(runId, UPPER.key(), repository.policyIds(UPPER).get(0), 1, true),
+                    LOWER.key(), new BatchCheckpoint(runId, LOWER.key(), resumeAfter, 2, false)
+                ))
+            );
+
+            InvoiceRunReport report = job(10).run(JANUARY, INVOICE_DATE);
+
+            assertThat(report.skippedPartitions()).isEqualTo(1);
+            assertThat(report.invoices()).isEqualTo(2);
+            assertThat(repository.invoices.keySet())
+                .containsExactlyInAnyOrderElementsOf(repository.policyIds(LOWER).subList(2, 4));
+            assertThat(repository.chunks).doesNotContainKey(UPPER.key());
+            verify(batchRunStore).complete(runId, 5);
+        }
+
+        @Test
+        void shouldNotInvoicePolicyTwiceForTheSamePeriod() {
+            BillableCoverage coverage = coverage(policyIn(LOWER), BillingFrequency.MONTHLY, 40_000L, date(2020, 1, 1));
+            repository.add(coverage);
+
+            job(10).run(JANUARY, INVOICE_DATE);
+            InvoiceRunReport second = job(10).run(JANUARY, INVOICE_DATE);
+
+            assertThat(second.invoices()).isZero();
+            assertThat(repository.invoices).hasSize(1);
+        }
+
+        @Test
+        void shouldMarkRunFailedButKeepCommittedPartitions() {
+            repository.add(coverage(policyIn(LOWER), BillingFrequency.MONTHLY, 40_000L, date(2020, 1, 1)));
+            BillableCoverage failing = coverage(policyIn(UPPER), BillingFrequency.MONTHLY, 40_000L, date(2020, 1, 1));
+            repository.add(failing);
+            repository.failingPolicy = failing.policyId();
+
+            assertThatThrownBy(() -> job(10).run(JANUARY, INVOICE_DATE))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("database down");
+
+            UUID lower = repository.policyIds(LOWER).get(0);
+            verify(batchRunStore).checkpoint(new BatchCheckpoint(runId, LOWER.key(), lower, 1, true));
+            verify(batchRunStore).fail(eq(runId), anyString());
+            verify(batchRunStore, never()).complete(any(), any(Long.class));
+        }
+    }
+
+
+    private InvoiceRunJob job(int chunkSize) {
+        return new InvoiceRunJob(
+            repository,
+            batchRunStore,
+            mock(PlatformTransactionManager.class),
+            2,
+            2,
+            chunkSize,
+            30
+        );
+    }
+
+    private static BillingPeriod period(BillingFrequency frequency) {
+        return BillingPeriod.startingIn(JANUARY).stream()
+            .filter(period -> period.frequency() == frequency)
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private static BillableCoverage coverage(
+        UUID policyId,
+        BillingFrequency frequency,
+        long monthlyPremium,
+        LocalDate effectiveDate
+    ) {
+        return new BillableCoverage(
+            policyId, "P-" + policyId.toString().substring(0, 8), UUID.randomUUID(), frequency, UUID.randomUUID(),
+            UUID.randomUUID(), UUID.randomUUID(), effectiveDate, null, monthlyPremium
+        );
+    }
+
+    /**
+     * Random policy id within the partition's range.
+     */
+    private static UUID policyIn(InvoicePartition partition) {
+        while (true) {
+            UUID id = UUID.randomUUID();
+            if (InMemoryInvoiceRunRepository.contains(partition, id)) {
+                return id;
+            }
+        }
+    }
+
+    private static LocalDate date(int year, int month, int day) {
+        return LocalDate.of(year, month, day);
+    }
+
+    /**
+     * Repository fake ordering UUIDs like PostgreSQL: as unsigned bytes, i.e. by their text form.
+     */
+    private static final class InMemoryInvoiceRunRepository implements InvoiceRunRepository {
+        private static final Comparator<UUID> POSTGRES_ORDER = Comparator.comparing(UUID::toString);
+        private final List<BillableCoverage> coverages = new CopyOnWriteArrayList<>();
+        private final Map<UUID, Invoice> invoices = new ConcurrentHashMap<>();
+        private final Map<String, Integer> chunks = new ConcurrentHashMap<>();
+        private final AtomicLong referenceNumbers = new AtomicLong();
+        @Nullable
+        private volatile UUID failingPolicy;
+
+        static boolean contains(InvoicePartition partition, UUID policyId) {
+            UUID upperBound = partition.upperBound();
+            return POSTGRES_ORDER.compare(policyId, partition.lowerBound()) >= 0
+                && (upperBound == null || POSTGRES_ORDER.compare(policyId, upperBound) < 0);
+        }
+
+        void add(BillableCoverage... added) {
+            coverages.addAll(List.of(added));
+        }
+
+        List<UUID> policyIds(InvoicePartition partition) {
+            return coverages.stream()
+                .map(BillableCoverage::policyId)
+                .filter(policyId -> contains(partition, policyId))
+                .distinct()
+                .sorted(POSTGRES_ORDER)
+                .toList();
+        }
+
+        @Override
+        public List<UUID> findTenants() {
+            return coverages.isEmpty() ? List.of() : List.of(TENANT_ID);
+        }
+
+        @Override
+        public void streamCoverages(
+            InvoicePartition partition,
+            List<BillingPeriod> periods,
+            @Nullable UUID afterPolicyId,
+            Consumer<BillableCoverage> consumer
+        ) {
+            Set<BillingFrequency> frequencies = Set.copyOf(periods.stream().map(BillingPeriod::frequency).toList());
+            coverages.stream()
+                .filter(coverage -> contains(partition, coverage.policyId()))
+                .filter(coverage -> afterPolicyId == null
+                    || POSTGRES_ORDER.compare(coverage.policyId(), afterPolicyId) > 0)
+                .filter(coverage -> frequencies.contains(coverage.frequency()))
+                .filter(coverage -> !invoices.containsKey(coverage.policyId()))
+                .sorted(Comparator.comparing(BillableCoverage::policyId, POSTGRES_ORDER)
+                    .thenComparing(BillableCoverage::coverageId, POSTGRES_ORDER))
+                .forEachOrdered(consumer);
+        }
+
+        @Override
+        public long[] reserveReferenceNumbers(int count) {
+            return LongStream.range(0, count).map(i -> referenceNumbers.incrementAndGet()).toArray();
+        }
+
+        @Override
+        public void saveInvoices(UUID runId, List<Invoice> saved) {
+            if (saved.stream().anyMatch(invoice -> invoice.policyId().equals(failingPolicy))) {
+                throw new IllegalStateException("database down");
+            }
+            saved.forEach(invoice -> invoices.put(invoice.policyId(), invoice));
+            InvoicePartition partition = contains(LOWER, saved.get(0).policyId()) ? LOWER : UPPER;
+            chunks.merge(partition.key(), 1, Integer::sum);
+        }
+    }
+}
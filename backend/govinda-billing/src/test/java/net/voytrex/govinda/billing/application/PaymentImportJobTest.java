@@ -0,0 +1,417 @@
+/*
+ * Govinda ERP - Payment Import Job Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import net.voytrex.govinda.billing.domain.model.IncomingPayment;
+import net.voytrex.govinda.billing.domain.model.MatchedPayment;
+import net.voytrex.govinda.billing.domain.model.OpenInvoice;
+import net.voytrex.govinda.billing.domain.model.OpenInvoiceIndex;
+import net.voytrex.govinda.billing.domain.model.PaymentImportReport;
+import net.voytrex.govinda.billing.domain.model.PaymentOutcome;
+import net.voytrex.govinda.billing.domain.model.PaymentReference;
+import net.voytrex.govinda.billing.domain.repository.PaymentRepository;
+import net.voytrex.govinda.common.domain.exception.BusinessRuleViolationException;
+import net.voytrex.govinda.common.infrastructure.batch.BatchCheckpoint;
+import net.voytrex.govinda.common.infrastructure.batch.BatchRun;
+import net.voytrex.govinda.common.infrastructure.batch.BatchRunStore;
+import net.voytrex.govinda.common.infrastructure.batch.BatchRunStoreFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Tag("unit")
+@Tag("fast")
+class PaymentImportJobTest {
+    private static final UUID TENANT_ID = UUID.randomUUID();
+    private static final String FILE = "camt054_20270120.xml";
+    private static final String RUN_KEY = TENANT_ID + "/" + FILE;
+
+    private final UUID runId = UUID.randomUUID();
+    private final BatchRunStore batchRunStore = BatchRunStoreFixture.newRuns(runId);
+    private final InMemoryPaymentRepository repository = new InMemoryPaymentRepository();
+    private final UUID invoiceA = UUID.randomUUID();
+    private final UUID invoiceB = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        repository.openInvoices.add(new OpenInvoice(invoiceA, PaymentReference.of(1)));
+        repository.openInvoices.add(new OpenInvoice(invoiceB, PaymentReference.of(2)));
+    }
+
+    @Nested
+    @DisplayName("QR references")
+    class References {
+
+        @Test
+        void shouldAppendCheckDigitAndReadNumberBack() {
+            assertThat(PaymentReference.of(42)).isEqualTo("000000000000000000000000420");
+            assertThat(PaymentReference.of(123_456_789L)).hasSize(PaymentReference.LENGTH);
+            assertThat(PaymentReference.number(PaymentReference.of(123_456_789L))).isEqualTo(123_456_789L);
+            assertThat(PaymentReference.number("00 00000 00000 00000 00000 00420")).isEqualTo(42L);
+        }
+
+        @Test
+        void shouldRejectMalformedReferences() {
+            assertThat(PaymentReference.number("000000000000000000000000421")).isEqualTo(PaymentReference.NONE);
+            assertThat(PaymentReference.number("00000000000000000000000042")).isEqualTo(PaymentReference.NONE);
+            assertThat(PaymentReference.number("RF18539007547034")).isEqualTo(PaymentReference.NONE);
+            assertThat(PaymentReference.number("000000000000000000000000000")).isEqualTo(PaymentReference.NONE);
+        }
+
+        @Test
+        void shouldIndexOpenInvoicesByReferenceNumber() {
+            OpenInvoiceIndex index = new OpenInvoiceIndex(0);
+            for (long number = 1; number <= 1000; number++) {
+                assertThat(index.add(new OpenInvoice(UUID.randomUUID(), PaymentReference.of(number)))).isTrue();
+            }
+            UUID invoiceId = UUID.randomUUID();
+            index.add(new OpenInvoice(invoiceId, PaymentReference.of(5000)));
+
+            assertThat(index.size()).isEqualTo(1001);
+            assertThat(index.invoiceId(PaymentReference.of(5000))).isEqualTo(invoiceId);
+            assertThat(index.invoiceId(PaymentReference.of(5001))).isNull();
+            assertThat(index.add(new OpenInvoice(UUID.randomUUID(), PaymentReference.of(5000)))).isFalse();
+            assertThat(index.add(new OpenInvoice(UUID.randomUUID(), "RF18539007547034"))).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("camt.054 reader")
+    class Reader {
+
+        @Test
+        void shouldReadEveryTransactionOfAnEntry() {
+            List<IncomingPayment> payments = read(camt(entry("E1", "CRDT", false,
+                transaction("T1", "100.00", "CHF", PaymentReference.of(1)),
+                transaction(null, "50.50", "CHF", null)
+            )));
+
+            assertThat(payments).containsExactly(
+                new IncomingPayment("T1", PaymentReference.of(1), 10_000L, "CHF",
+                    LocalDate.of(2027, 1, 20), LocalDate.of(2027, 1, 21), "Muster AG", false),
+                new IncomingPayment("E1/2", null, 5_050L, "CHF",
+                    LocalDate.of(2027, 1, 20), LocalDate.of(2027, 1, 21), "Muster AG", false)
+            );
+        }
+
+        @Test
+        void shouldReadEntryWithoutTransactionDetailsAsOnePayment() {
+            List<IncomingPayment> payments = read(camt(entry("E1", "CRDT", true)));
+
+            assertThat(payments).singleElement().satisfies(payment -> {
+                assertThat(payment.bankReference()).isEqualTo("E1");
+                assertThat(payment.paymentReference()).isNull();
+                assertThat(payment.amount()).isEqualTo(99_900L);
+                assertThat(payment.reversal()).isTrue();
+            });
+        }
+
+        @Test
+        void shouldSkipDebitsAndReportInvalidTransactions() {
+            String xml = camt(
+                entry("E1", "DBIT", false, transaction("T1", "10.00", "CHF", null)),
+                entry("E2", "CRDT", false,
+                    transaction("T2", "ten", "CHF", null),
+                    transaction("T3", "-5.00", "CHF", null),
+                    transaction("T4", "5.00", "CHF", null)
+                )
+            );
+
+            try (Camt054Reader reader = new Camt054Reader(stream(xml), 1)) {
+                assertThat(reader.next()).extracting(IncomingPayment::bankReference).isEqualTo("T4");
+                assertThat(reader.next()).isNull();
+                assertThat(reader.debits()).isEqualTo(1);
+                assertThat(reader.invalid()).isEqualTo(2);
+                assertThat(reader.errors()).singleElement().asString().startsWith("entry 2 transaction 1:");
+            } catch (IOException ex) {
+                throw new AssertionError(ex);
+            }
+        }
+
+        @Test
+        void shouldRejectFilesThatAreNotNotifications() {
+            assertThatThrownBy(() -> read("<Document><BkToCstmrStmt/></Document>"))
+                .isInstanceOf(BusinessRuleViolationException.class);
+            assertThatThrownBy(() -> read("<Document><BkToCstmrDbtCdtNtfctn>"))
+                .isInstanceOf(BusinessRuleViolationException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Matching")
+    class Matching {
+
+        @Test
+        void shouldBookMatchedPaymentsAndQueueTheRestForClarification() {
+            String xml = camt(
+                entry("E1", "CRDT", false,
+                    transaction("T1", "100.00", "CHF", PaymentReference.of(1)),
+                    transaction("T2", "50.00", "CHF", "00 00000 00000 00000 00000 00026"),
+                    transaction("T3", "10.00", "CHF", PaymentReference.of(3)),
+                    transaction("T4", "10.00", "EUR", PaymentReference.of(1)),
+                    transaction("T5", "10.00", "CHF", null)
+                ),
+                entry("E2", "CRDT", true)
+            );
+
+            PaymentImportReport report = job(1000).run(TENANT_ID, FILE, stream(xml));
+
+            assertThat(report.booked()).isEqualTo(2);
+            assertThat(report.bookedAmount()).isEqualTo(15_000L);
+            assertThat(report.clarifications()).isEqualTo(4);
+            assertThat(repository.outcomes()).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "T1", PaymentOutcome.BOOKED,
+                "T2", PaymentOutcome.BOOKED,
+                "T3", PaymentOutcome.UNKNOWN_REFERENCE,
+                "T4", PaymentOutcome.FOREIGN_CURRENCY,
+                "T5", PaymentOutcome.NO_REFERENCE,
+                "E2", PaymentOutcome.REVERSAL
+            ));
+            assertThat(repository.paidAmounts).containsExactlyInAnyOrderEntriesOf(Map.of(
+                invoiceA, 10_000L,
+                invoiceB, 5_000L
+            ));
+        }
+
+        @Test
+        void shouldAddPartialPaymentsOfAnInvoiceUp() {
+            String xml = camt(entry("E1", "CRDT", false,
+                transaction("T1", "100.00", "CHF", PaymentReference.of(1)),
+                transaction("T2", "25.55", "CHF", PaymentReference.of(1))
+            ));
+
+            job(1000).run(TENANT_ID, FILE, stream(xml));
+
+            assertThat(repository.paidAmounts).containsExactly(Map.entry(invoiceA, 12_555L));
+            assertThat(repository.paidAmountUpdates).isEqualTo(1);
+        }
+
+        @Test
+        void shouldNotBookPaymentTwice() {
+            String xml = camt(entry("E1", "CRDT", false,
+                transaction("T1", "100.00", "CHF", PaymentReference.of(1)),
+                transaction("T1", "100.00", "CHF", PaymentReference.of(1))
+            ));
+
+            PaymentImportReport first = job(1000).run(TENANT_ID, FILE, stream(xml));
+            PaymentImportReport second = job(1000).run(TENANT_ID, "camt054_20270121.xml", stream(xml));
+
+            assertThat(first.booked()).isEqualTo(1);
+            assertThat(first.duplicates()).isEqualTo(1);
+            assertThat(second.booked()).isZero();
+            assertThat(second.duplicates()).isEqualTo(2);
+            assertThat(repository.paidAmounts).containsExactly(Map.entry(invoiceA, 10_000L));
+        }
+    }
+
+    @Nested
+    @DisplayName("Checkpoints")
+    class Checkpoints {
+
+        @Test
+        void shouldCheckpointEveryChunk() {
+
+            PaymentImportReport report = job(2).run(TENANT_ID, FILE, stream(camt(fivePayments())));
+
+            assertThat(report.chunks()).isEqualTo(3);
+            assertThat(report.processed()).isEqualTo(5);
+            verify(batchRunStore).checkpoint(new BatchCheckpoint(runId, "records-1-2", null, 2, true));
+            verify(batchRunStore).checkpoint(new BatchCheckpoint(runId, "records-3-4", null, 2, true));
+            verify(batchRunStore).checkpoint(new BatchCheckpoint(runId, "records-5-5", null, 1, true));
+            verify(batchRunStore).complete(runId, 5);
+        }
+
+        @Test
+        void shouldSkipCommittedChunksOnResume() {
+            when(batchRunStore.startOrResume(PaymentImportJob.JOB_NAME, RUN_KEY)).thenReturn(
+                new BatchRun(runId, PaymentImportJob.JOB_NAME, RUN_KEY, Map.of(
+                    "records-1-2", new BatchCheckpoint(runId, "records-1-2", null, 2, true)
+                ))
+            );
+
+            PaymentImportReport report = job(2).run(TENANT_ID, FILE, stream(camt(fivePayments())));
+
+            assertThat(report.skippedChunks()).isEqualTo(1);
+            assertThat(repository.outcomes()).containsOnlyKeys("T3", "T4", "T5");
+            verify(batchRunStore).complete(runId, 5);
+        }
+
+        @Test
+        void shouldSkipCommittedPaymentsWhenTheChunkSizeChanged() {
+            when(batchRunStore.startOrResume(PaymentImportJob.JOB_NAME, RUN_KEY)).thenReturn(
+                new BatchRun(runId, PaymentImportJob.JOB_NAME, RUN_KEY, Map.of(
+                    "records-1-2", new BatchCheckpoint(runId, "records-1-2", null, 2, true),
+                    "records-3-4", new BatchCheckpoint(runId, "records-3-4", null, 2, false)
+                ))
+            );
+
+            PaymentImportReport report = job(3).run(TENANT_ID, FILE, stream(camt(fivePayments())));
+
+            assertThat(report.skippedChunks()).isEqualTo(1);
+            assertThat(repository.outcomes()).containsOnlyKeys("T3", "T4", "T5");
+            verify(batchRunStore).checkpoint(new BatchCheckpoint(runId, "records-3-5", null, 3, true));
+            verify(batchRunStore).complete(runId, 5);
+        }
+
+        @Test
+        void shouldMarkRunFailedButKeepCommittedChunks() {
+            repository.failingBankReference = "T5";
+
+            assertThatThrownBy(() -> job(2).run(TENANT_ID, FILE, stream(camt(fivePayments()))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("database down");
+
+            verify(batchRunStore).checkpoint(new BatchCheckpoint(runId, "records-1-2", null, 2, true));
+            verify(batchRunStore).fail(eq(runId), anyString());
+            verify(batchRunStore, never()).complete(any(), any(Long.class));
+        }
+    }
+
+
+    private PaymentImportJob job(int chunkSize) {
+        return new PaymentImportJob(repository, batchRunStore, mock(PlatformTransactionManager.class), 2, chunkSize);
+    }
+
+    private static String fivePayments() {
+        return entry("E1", "CRDT", false,
+            transaction("T1", "1.00", "CHF", PaymentReference.of(1)),
+            transaction("T2", "1.00", "CHF", PaymentReference.of(1)),
+            transaction("T3", "1.00", "CHF", PaymentReference.of(1)),
+            transaction("T4", "1.00", "CHF", PaymentReference.of(1)),
+            transaction("T5", "1.00", "CHF", PaymentReference.of(1))
+        );
+    }
+
+    private static List<IncomingPayment> read(String xml) {
+        List<IncomingPayment> payments = new ArrayList<>();
+        try (Camt054Reader reader = new Camt054Reader(stream(xml), PaymentImportJob.MAX_REPORTED_ERRORS)) {
+            for (IncomingPayment payment = reader.next(); payment != null; payment = reader.next()) {
+                payments.add(payment);
+            }
+        } catch (IOException ex) {
+            throw new AssertionError(ex);
+        }
+        return payments;
+    }
+
+    private static InputStream stream(String xml) {
+        return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String camt(String... entries) {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+            + "<Document xmlns=\"urn:iso:std:iso:20022:tech:xsd:camt.054.001.08\"><BkToCstmrDbtCdtNtfctn>"
+            + "<GrpHdr><MsgId>MSG-1</MsgId></GrpHdr><Ntfctn>" + String.join("", entries) + "</Ntfctn>"
+            + "</BkToCstmrDbtCdtNtfctn></Document>";
+    }
+
+    private static String entry(String bankReference, String indicator, boolean reversal, String... transactions) {
+        return "<Ntry><Amt Ccy=\"CHF\">999.00</Amt><CdtDbtInd>" + indicator + "</CdtDbtInd>"
+            + (reversal ? "<RvslInd>true</RvslInd>" : "")
+            + "<BookgDt><Dt>2027-01-20</Dt></BookgDt><ValDt><Dt>2027-01-21</Dt></ValDt>"
+            + "<AcctSvcrRef>" + bankReference + "</AcctSvcrRef>"
+            + (transactions.length == 0 ? "" : "<NtryDtls>" + String.join("", transactions) + "</NtryDtls>")
+            + "</Ntry>";
+    }
+
+    private static String transaction(
+        @Nullable String bankReference,
+        String amount,
+        String currency,
+        @Nullable String paymentReference
+    ) {
+        return "<TxDtls>"
+            + (bankReference == null ? "" : "<Refs><AcctSvcrRef>" + bankReference + "</AcctSvcrRef></Refs>")
+            + "<Amt Ccy=\"" + currency + "\">" + amount + "</Amt>"
+            + "<RltdPties><Dbtr><Pty><Nm>Muster AG</Nm></Pty></Dbtr></RltdPties>"
+            + (paymentReference == null
+                ? ""
+                : "<RmtInf><Strd><CdtrRefInf><Ref>" + paymentReference + "</Ref></CdtrRefInf></Strd></RmtInf>")
+            + "</TxDtls>";
+    }
+
+    /**
+     * Repository fake recording payments like the unique bank reference constraint.
+     */
+    private static final class InMemoryPaymentRepository implements PaymentRepository {
+        private final List<OpenInvoice> openInvoices = new CopyOnWriteArrayList<>();
+        private final Map<String, MatchedPayment> payments = new ConcurrentHashMap<>();
+        private final Map<UUID, Long> paidAmounts = new ConcurrentHashMap<>();
+        private volatile int paidAmountUpdates;
+        @Nullable
+        private volatile String failingBankReference;
+
+        @Override
+        public void forEachOpenInvoice(UUID tenantId, Consumer<OpenInvoice> action) {
+            openInvoices.forEach(action);
+        }
+
+        @Override
+        public Set<String> findRecorded(UUID tenantId, Collection<String> bankReferences) {
+            return bankReferences.stream().filter(payments::containsKey).collect(Collectors.toSet());
+        }
+
+        @Override
+        public List<MatchedPayment> savePayments(
+            UUID runId,
+            UUID tenantId,
+            String fileName,
+            List<MatchedPayment> matched
+        ) {
+            List<MatchedPayment> saved = new ArrayList<>();
+            for (MatchedPayment payment : matched) {
+                if (payment.payment().bankReference().equals(failingBankReference)) {
+                    throw new IllegalStateException("database down");
+                }
+                if (payments.putIfAbsent(payment.payment().bankReference(), payment) == null) {
+                    saved.add(payment);
+                }
+            }
+            return saved;
+        }
+
+        @Override
+        public synchronized void addPaidAmounts(Map<UUID, Long> amounts) {
+            paidAmountUpdates++;
+            amounts.forEach((invoiceId, amount) -> paidAmounts.merge(invoiceId, amount, Long::sum));
+        }
+
+        Map<String, PaymentOutcome> outcomes() {
+            return payments.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().outcome()));
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Govinda ERP - QR-Bill Renderer Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.infrastructure.document;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.UUID;
+import net.voytrex.govinda.billing.domain.model.InvoiceDocumentSource;
+import net.voytrex.govinda.billing.domain.model.QrBillAddress;
+import net.voytrex.govinda.common.domain.model.BillingFrequency;
+import net.voytrex.govinda.common.domain.model.Language;
+import net.voytrex.govinda.common.i18n.MessageCatalog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.lang.Nullable;
+
+@Tag("unit")
+@Tag("fast")
+class QrBillRendererTest {
+    private static final String ACCOUNT = "CH4431999123000889012";
+    private static final QrBillAddress CREDITOR =
+        new QrBillAddress("Govinda Krankenkasse AG", "Bahnhofstrasse", "1", "8001", "Zürich", "CH");
+    private static final QrBillAddress DEBTOR =
+        new QrBillAddress("Max Müller", "Musterweg", "12", "3000", "Bern", "CH");
+
+    private final QrBillRendererPool pool = new QrBillRendererPool(MessageCatalog.load("messages"), 1);
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    @Nested
+    @DisplayName("QR code")
+    class Code {
+
+        @Test
+        void shouldEncodeFormatAndVersionInformation() {
+            assertThat(QrCode.formatBits(0)).isEqualTo(0x5412);
+            assertThat(QrCode.formatBits(5)).isEqualTo(0x40CE);
+            assertThat(QrCode.versionBits(7)).isEqualTo(0x07C94);
+            assertThat(QrCode.versionBits(25)).isEqualTo(0x191E1);
+        }
+
+        @Test
+        void shouldUseReedSolomonGeneratorOfTheStandard() {
+            byte[] expected = {
+                (byte) 216, (byte) 194, (byte) 159, 111, (byte) 199, 94, 95, 113, (byte) 157, (byte) 193
+            };
+
+            assertThat(QrCode.divisor(10)).isEqualTo(expected);
+        }
+
+        @Test
+        void shouldSizeVersionsForLevelM() {
+            assertThat(QrCode.dataCodewords(1)).isEqualTo(16);
+            assertThat(QrCode.dataCodewords(10)).isEqualTo(216);
+            assertThat(QrCode.dataCodewords(QrCode.MAX_VERSION)).isEqualTo(1000);
+        }
+
+        @Test
+        void shouldChooseSmallestVersionAndDrawFunctionPatterns() {
+            QrCode code = new QrCode();
+            byte[] data = "HELLO WORLD".getBytes(StandardCharsets.US_ASCII);
+
+            assertThat(code.encode(data, data.length)).isEqualTo(21);
+            assertThat(code.version()).isEqualTo(1);
+            for (int[] corner : new int[][] {{0, 0}, {14, 0}, {0, 14}}) {
+                assertThat(code.isDark(corner[0], corner[1])).isTrue();
+                assertThat(code.isDark(corner[0] + 1, corner[1] + 1)).isFalse();
+                assertThat(code.isDark(corner[0] + 3, corner[1] + 3)).isTrue();
+            }
+            assertThat(code.isDark(8, 13)).isTrue();
+            assertThat(code.isDark(8, 6)).isTrue();
+            assertThat(code.isDark(9, 6)).isFalse();
+        }
+
+        @Test
+        void shouldFitQrBillPayloadsAndRejectLongerData() {
+            QrCode code = new QrCode();
+            byte[] data = new byte[997];
+            Arrays.fill(data, (byte) 'x');
+
+            assertThat(code.encode(data, data.length)).isEqualTo(117);
+            assertThatThrownBy(() -> code.encode(data, 998)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("PDF document")
+    class Document {
+
+        @Test
+        void shouldRenderTheSameInvoiceToTheSameBytes() {
+            RenderedDocument first = render(source(Language.DE, DEBTOR));
+            byte[] firstContent = Arrays.copyOf(first.content(), first.length());
+            render(source(Language.FR, null));
+            RenderedDocument again = render(source(Language.DE, DEBTOR));
+
+            assertThat(Arrays.copyOf(again.content(), again.length())).isEqualTo(firstContent);
+            assertThat(again.contentHash()).isEqualTo(first.contentHash()).hasSize(64);
+            assertThat(again.title()).isEqualTo("Prämienrechnung INV-2027-000001");
+        }
+
+        @Test
+        void shouldWriteWellFormedSinglePageDocument() {
+            RenderedDocument document = render(source(Language.IT, DEBTOR));
+            String text = new String(document.content(), 0, document.length(), StandardCharsets.ISO_8859_1);
+
+            assertThat(text).startsWith("%PDF-1.4\n").endsWith("%%EOF\n").contains("/Count 1", "/FlateDecode");
+            int startxref = text.lastIndexOf("startxref\n") + "startxref\n".length();
+            int xref = Integer.parseInt(text.substring(startxref, text.indexOf('\n', startxref)));
+            assertThat(text.substring(xref)).startsWith("xref\n0 7\n");
+            assertThat(text.indexOf("6 0 obj")).isEqualTo(offset(text, 6));
+            assertThat(text.indexOf("3 0 obj")).isEqualTo(offset(text, 3));
+            assertThat(document.title()).isEqualTo("Fattura dei premi INV-2027-000001");
+        }
+
+        @Test
+        void shouldFormatAmountsAndReferencesForPrinting() {
+            assertThat(QrBillRenderer.amount(194_975)).isEqualTo("1 949.75");
+            assertThat(QrBillRenderer.amount(123_456_789)).isEqualTo("1 234 567.89");
+            assertThat(QrBillRenderer.amount(5)).isEqualTo("0.05");
+            assertThat(QrBillRenderer.amount(-100_000)).isEqualTo("-1 000.00");
+            assertThat(QrBillRenderer.groups(ACCOUNT, 4, false)).isEqualTo("CH44 3199 9123 0008 8901 2");
+            assertThat(QrBillRenderer.groups("210000000003139471430009017", 5, true))
+                .isEqualTo("21 00000 00003 13947 14300 09017");
+        }
+    }
+
+    private RenderedDocument render(InvoiceDocumentSource source) {
+        QrBillRenderer renderer = pool.acquire();
+        try {
+            return renderer.render(source, ACCOUNT, CREDITOR);
+        } finally {
+            pool.release(renderer);
+        }
+    }
+
+    private static int offset(String text, int object) {
+        int entries = text.lastIndexOf("xref\n0 7\n") + "xref\n0 7\n".length();
+        return Integer.parseInt(text.substring(entries + object * 20, entries + object * 20 + 10));
+    }
+
+    private static InvoiceDocumentSource source(Language language, @Nullable QrBillAddress debtor) {
+        return new InvoiceDocumentSource(
+            UUID.fromString("00000000-0000-0000-0000-000000000001"),
+            UUID.fromString("00000000-0000-0000-0000-000000000002"),
+            UUID.fromString("00000000-0000-0000-0000-000000000003"),
+            language,
+            "INV-2027-000001",
+            "210000000003139471430009017",
+            BillingFrequency.MONTHLY,
+            LocalDate.of(2027, 1, 1),
+            LocalDate.of(2027, 1, 31),
+            LocalDate.of(2026, 12, 1),
+            LocalDate.of(2026, 12, 31),
+            194_975,
+            "CHF",
+            debtor
+        );
+    }
+}
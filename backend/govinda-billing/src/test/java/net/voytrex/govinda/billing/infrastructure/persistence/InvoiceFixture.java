@@ -0,0 +1,108 @@
+/*
+ * Govinda ERP - Invoice Fixture
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.infrastructure.persistence;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.UUID;
+import net.voytrex.govinda.billing.domain.model.PaymentReference;
+import net.voytrex.govinda.common.domain.model.InvoiceStatus;
+import net.voytrex.govinda.common.domain.model.Rappen;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.Nullable;
+
+/**
+ * Inserts monthly invoices of January 2027 with plain SQL, for the billing
+ * repository integration tests. Each invoice gets a policy id of its own and
+ * a payment reference from the invoice reference sequence.
+ */
+final class InvoiceFixture {
+    static final LocalDate PERIOD_START = LocalDate.of(2027, 1, 1);
+    static final LocalDate DUE_DATE = LocalDate.of(2027, 1, 31);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UUID tenantId;
+
+    InvoiceFixture(JdbcTemplate jdbcTemplate, UUID tenantId) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tenantId = tenantId;
+    }
+
+    UUID invoice(UUID policyholderId, InvoiceStatus status, long totalAmount) {
+        return invoice(policyholderId, status, totalAmount, null);
+    }
+
+    UUID invoice(UUID policyholderId, InvoiceStatus status, long totalAmount, @Nullable UUID runId) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update(
+            """
+            INSERT INTO invoice
+                (id, tenant_id, policy_id, policyholder_id, invoice_number, payment_reference, billing_frequency,
+                 period_start, period_end, invoice_date, due_date, gross_amount, total_amount, status, run_id)
+            VALUES (?, ?, ?, ?, ?, ?, 'MONTHLY', ?, ?, DATE '2026-12-01', ?, ?, ?, ?, ?)
+            """,
+            id,
+            tenantId,
+            UUID.randomUUID(),
+            policyholderId,
+            "INV-" + id.toString().substring(0, 13),
+            paymentReference(),
+            Date.valueOf(PERIOD_START),
+            Date.valueOf(PERIOD_START.withDayOfMonth(PERIOD_START.lengthOfMonth())),
+            Date.valueOf(DUE_DATE),
+            Rappen.toNumeric(totalAmount),
+            Rappen.toNumeric(totalAmount),
+            status.name(),
+            runId
+        );
+        return id;
+    }
+
+    /**
+     * Adds a line for one month of a coverage of the product.
+     */
+    void line(UUID invoiceId, int lineNumber, UUID productId, long amount) {
+        jdbcTemplate.update(
+            """
+            INSERT INTO invoice_line
+                (invoice_id, line_number, coverage_id, insured_person_id, product_id, months, monthly_premium, amount)
+            VALUES (?, ?, ?, ?, ?, 1, ?, ?)
+            """,
+            invoiceId,
+            lineNumber,
+            UUID.randomUUID(),
+            UUID.randomUUID(),
+            productId,
+            Rappen.toNumeric(amount),
+            Rappen.toNumeric(amount)
+        );
+    }
+
+    /**
+     * Schedules the next dunning step of an invoice.
+     */
+    void nextAction(UUID invoiceId, LocalDate nextActionDate) {
+        jdbcTemplate.update(
+            "UPDATE invoice SET next_action_date = ? WHERE id = ?",
+            Date.valueOf(nextActionDate),
+            invoiceId
+        );
+    }
+
+    String paymentReference(UUID invoiceId) {
+        return jdbcTemplate.queryForObject(
+            "SELECT payment_reference FROM invoice WHERE id = ?",
+            String.class,
+            invoiceId
+        );
+    }
+
+    private String paymentReference() {
+        Long number = jdbcTemplate.queryForObject("SELECT nextval('invoice_reference_seq')", Long.class);
+        return PaymentReference.of(number);
+    }
+}
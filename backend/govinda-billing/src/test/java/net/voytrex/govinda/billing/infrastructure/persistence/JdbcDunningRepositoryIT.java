@@ -0,0 +1,232 @@
+/*
+ * Govinda ERP - JDBC Dunning Repository Integration Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import net.voytrex.govinda.billing.application.DunningJob;
+import net.voytrex.govinda.billing.domain.model.DunningCounter;
+import net.voytrex.govinda.billing.domain.model.DunningItem;
+import net.voytrex.govinda.billing.domain.model.DunningLevel;
+import net.voytrex.govinda.billing.domain.model.DunningOutcome;
+import net.voytrex.govinda.billing.domain.model.DunningStep;
+import net.voytrex.govinda.common.domain.model.InvoiceStatus;
+import net.voytrex.govinda.common.domain.model.ProductType;
+import net.voytrex.govinda.contract.infrastructure.persistence.ContractFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@SuppressWarnings("resource")
+@Testcontainers(disabledWithoutDocker = true)
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = JdbcDunningRepository.class)
+@ActiveProfiles("test")
+@Tag("integration")
+@Tag("database")
+// CHECKSTYLE:OFF: MethodName - Test methods follow BDD naming convention (should_X_when_Y)
+class JdbcDunningRepositoryIT {
+    private static final LocalDate RUN_DATE = LocalDate.of(2027, 3, 2);
+
+    @Container
+    public static final PostgreSQLContainer<?> POSTGRES_CONTAINER = new PostgreSQLContainer<>("postgres:18-alpine")
+        .withDatabaseName("govinda")
+        .withUsername("govinda")
+        .withPassword("govinda")
+        .withReuse(true);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        // Always use Testcontainers-managed PostgreSQL for integration tests
+        registry.add("spring.datasource.url", POSTGRES_CONTAINER::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES_CONTAINER::getUsername);
+        registry.add("spring.datasource.password", POSTGRES_CONTAINER::getPassword);
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.flyway.locations", () -> "classpath:db/migration");
+        registry.add("spring.flyway.baseline-on-migrate", () -> "true");
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+    }
+
+    @Autowired
+    private JdbcDunningRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ContractFixture fixture;
+    private InvoiceFixture invoices;
+    private UUID debtorId;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new ContractFixture(jdbcTemplate);
+        invoices = new InvoiceFixture(jdbcTemplate, fixture.tenantId());
+        debtorId = fixture.person(LocalDate.of(1980, 5, 17));
+    }
+
+    @Nested
+    @DisplayName("Reading due invoices")
+    class ReadingDueInvoices {
+
+        @Test
+        @DisplayName("should stream open invoices whose next action is due with their open amount")
+        void should_streamOpenInvoices_when_nextActionIsDue() {
+            UUID basic = dueInvoice(InvoiceStatus.SENT, InvoiceFixture.DUE_DATE);
+            invoices.line(basic, 1, fixture.product(ProductType.KVG).productId(), 30_000);
+            invoices.line(basic, 2, fixture.product(ProductType.VVG).productId(), 10_000);
+            UUID supplementary = dueInvoice(InvoiceStatus.PARTIAL, RUN_DATE);
+            invoices.line(supplementary, 1, fixture.product(ProductType.VVG).productId(), 40_000);
+            jdbcTemplate.update(
+                "UPDATE invoice SET paid_amount = 100.00, dunning_level = 'REMINDER_1' WHERE id = ?",
+                supplementary
+            );
+            dueInvoice(InvoiceStatus.SENT, RUN_DATE.plusDays(1));
+            dueInvoice(InvoiceStatus.PAID, InvoiceFixture.DUE_DATE);
+            dueInvoice(InvoiceStatus.CANCELLED, InvoiceFixture.DUE_DATE);
+            invoices.invoice(debtorId, InvoiceStatus.DRAFT, 40_000);
+
+            assertThat(due()).containsExactlyInAnyOrder(
+                new DunningItem(basic, fixture.tenantId(), debtorId, null, InvoiceFixture.DUE_DATE, 40_000, true),
+                new DunningItem(
+                    supplementary,
+                    fixture.tenantId(),
+                    debtorId,
+                    DunningLevel.REMINDER_1,
+                    InvoiceFixture.DUE_DATE,
+                    30_000,
+                    false
+                )
+            );
+        }
+
+        @Test
+        @DisplayName("should lock only the invoices still due when the chunk is written")
+        void should_lockStillDueInvoices_when_othersWerePaidOrRescheduled() {
+            UUID due = dueInvoice(InvoiceStatus.SENT, RUN_DATE);
+            UUID paid = dueInvoice(InvoiceStatus.SENT, RUN_DATE);
+            jdbcTemplate.update("UPDATE invoice SET status = 'PAID' WHERE id = ?", paid);
+            UUID rescheduled = dueInvoice(InvoiceStatus.SENT, RUN_DATE);
+            invoices.nextAction(rescheduled, RUN_DATE.plusDays(15));
+
+            Set<UUID> locked = repository.lockDue(List.of(due, paid, rescheduled), RUN_DATE);
+
+            assertThat(locked).containsExactly(due);
+        }
+    }
+
+    @Nested
+    @DisplayName("Writing steps")
+    class WritingSteps {
+
+        @Test
+        @DisplayName("should record issued notices once and move sent invoices to overdue")
+        void should_recordNoticeAndAdvanceInvoice_when_stepIsIssued() {
+            UUID runId = fixture.batchRun(DunningJob.JOB_NAME);
+            UUID issued = dueInvoice(InvoiceStatus.SENT, InvoiceFixture.DUE_DATE);
+            UUID rescheduled = dueInvoice(InvoiceStatus.SENT, InvoiceFixture.DUE_DATE);
+            LocalDate nextAction = RUN_DATE.plusDays(15);
+            DunningStep issuedStep = new DunningStep(
+                item(issued), DunningOutcome.ISSUED, DunningLevel.REMINDER_1, nextAction
+            );
+            DunningStep rescheduledStep = new DunningStep(
+                item(rescheduled), DunningOutcome.RESCHEDULED, null, nextAction
+            );
+
+            repository.saveSteps(runId, RUN_DATE, List.of(issuedStep, rescheduledStep));
+            repository.saveSteps(runId, RUN_DATE, List.of(issuedStep));
+
+            assertThat(jdbcTemplate.queryForList(
+                "SELECT invoice_id, level, notice_date, open_amount, run_id FROM dunning_notice WHERE tenant_id = ?",
+                fixture.tenantId()
+            )).singleElement().satisfies(notice -> assertThat(notice)
+                .containsEntry("invoice_id", issued)
+                .containsEntry("level", "REMINDER_1")
+                .containsEntry("notice_date", Date.valueOf(RUN_DATE))
+                .containsEntry("open_amount", new BigDecimal("400.00"))
+                .containsEntry("run_id", runId));
+            assertThat(invoice(issued)).containsEntry("dunning_level", "REMINDER_1")
+                .containsEntry("next_action_date", Date.valueOf(nextAction))
+                .containsEntry("status", "OVERDUE");
+            assertThat(invoice(rescheduled)).containsEntry("dunning_level", null)
+                .containsEntry("next_action_date", Date.valueOf(nextAction))
+                .containsEntry("status", "SENT");
+        }
+
+        @Test
+        @DisplayName("should add increments to the counters of the year")
+        void should_accumulateCounters_when_addedTwice() {
+            UUID otherDebtorId = fixture.person(LocalDate.of(1975, 2, 3));
+            repository.addCounters(2027, List.of(
+                new DunningCounter(fixture.tenantId(), debtorId, 1, 0),
+                new DunningCounter(fixture.tenantId(), otherDebtorId, 1, 0)
+            ));
+            repository.addCounters(2027, List.of(new DunningCounter(fixture.tenantId(), debtorId, 1, 1)));
+            repository.addCounters(2026, List.of(new DunningCounter(fixture.tenantId(), debtorId, 4, 2)));
+
+            Map<UUID, DunningCounter> counters = repository.findCounters(2027, List.of(debtorId, otherDebtorId));
+
+            assertThat(counters).containsOnly(
+                Map.entry(debtorId, new DunningCounter(fixture.tenantId(), debtorId, 2, 1)),
+                Map.entry(otherDebtorId, new DunningCounter(fixture.tenantId(), otherDebtorId, 1, 0))
+            );
+        }
+
+        private DunningItem item(UUID invoiceId) {
+            return new DunningItem(
+                invoiceId, fixture.tenantId(), debtorId, null, InvoiceFixture.DUE_DATE, 40_000, true
+            );
+        }
+
+        private Map<String, Object> invoice(UUID id) {
+            return jdbcTemplate.queryForMap(
+                "SELECT dunning_level, next_action_date, status FROM invoice WHERE id = ?",
+                id
+            );
+        }
+    }
+
+    private UUID dueInvoice(InvoiceStatus status, LocalDate nextActionDate) {
+        UUID id = invoices.invoice(debtorId, status, 40_000);
+        invoices.nextAction(id, nextActionDate);
+        return id;
+    }
+
+    /**
+     * Due items of the test's tenant; the stream covers all tenants.
+     */
+    private List<DunningItem> due() {
+        List<DunningItem> items = new ArrayList<>();
+        repository.streamDue(RUN_DATE, item -> {
+            if (item.tenantId().equals(fixture.tenantId())) {
+                items.add(item);
+            }
+        });
+        return items;
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Govinda ERP - JDBC Invoice Document Repository Integration Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import net.voytrex.govinda.billing.application.InvoiceRunJob;
+import net.voytrex.govinda.billing.domain.model.BillingCreditor;
+import net.voytrex.govinda.billing.domain.model.InvoiceDocument;
+import net.voytrex.govinda.billing.domain.model.InvoiceDocumentSource;
+import net.voytrex.govinda.billing.domain.model.QrBillAddress;
+import net.voytrex.govinda.common.domain.model.InvoiceStatus;
+import net.voytrex.govinda.common.domain.model.Language;
+import net.voytrex.govinda.contract.infrastructure.persistence.ContractFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@SuppressWarnings("resource")
+@Testcontainers(disabledWithoutDocker = true)
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = JdbcInvoiceDocumentRepository.class)
+@ActiveProfiles("test")
+@Tag("integration")
+@Tag("database")
+// CHECKSTYLE:OFF: MethodName - Test methods follow BDD naming convention (should_X_when_Y)
+class JdbcInvoiceDocumentRepositoryIT {
+
+    @Container
+    public static final PostgreSQLContainer<?> POSTGRES_CONTAINER = new PostgreSQLContainer<>("postgres:18-alpine")
+        .withDatabaseName("govinda")
+        .withUsername("govinda")
+        .withPassword("govinda")
+        .withReuse(true);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        // Always use Testcontainers-managed PostgreSQL for integration tests
+        registry.add("spring.datasource.url", POSTGRES_CONTAINER::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES_CONTAINER::getUsername);
+        registry.add("spring.datasource.password", POSTGRES_CONTAINER::getPassword);
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.flyway.locations", () -> "classpath:db/migration");
+        registry.add("spring.flyway.baseline-on-migrate", () -> "true");
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+    }
+
+    @Autowired
+    private JdbcInvoiceDocumentRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ContractFixture fixture;
+    private InvoiceFixture invoices;
+    private UUID runId;
+    private UUID policyholderId;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new ContractFixture(jdbcTemplate);
+        invoices = new InvoiceFixture(jdbcTemplate, fixture.tenantId());
+        runId = fixture.batchRun(InvoiceRunJob.JOB_NAME);
+        policyholderId = fixture.person(LocalDate.of(1980, 5, 17));
+    }
+
+    @Nested
+    @DisplayName("Reading invoices")
+    class ReadingInvoices {
+
+        @Test
+        @DisplayName("should read the creditor of the run's tenants from the tenant settings")
+        void should_readCreditor_when_tenantHasBillingSettings() {
+            invoices.invoice(policyholderId, InvoiceStatus.DRAFT, 40_000, runId);
+            jdbcTemplate.update(
+                """
+                UPDATE tenant SET settings = CAST(? AS JSONB) WHERE id = ?
+                """,
+                """
+                {"billing": {"qrIban": "CH4431999123000889012", "street": "Bahnhofstrasse",
+                 "buildingNumber": "1", "postalCode": "8001", "town": "Zürich"}}
+                """,
+                fixture.tenantId()
+            );
+            String name = jdbcTemplate.queryForObject(
+                "SELECT name FROM tenant WHERE id = ?", String.class, fixture.tenantId()
+            );
+
+            assertThat(repository.findCreditors(runId)).containsExactly(new BillingCreditor(
+                fixture.tenantId(),
+                "CH4431999123000889012",
+                new QrBillAddress(name, "Bahnhofstrasse", "1", "8001", "Zürich", "CH")
+            ));
+        }
+
+        @Test
+        @DisplayName("should stream undocumented invoices of the run with the billing address of the policyholder")
+        void should_preferTheBillingAddress_when_streamingInvoices() {
+            jdbcTemplate.update("UPDATE person SET preferred_language = 'FR' WHERE id = ?", policyholderId);
+            address("MAIN", "Seestrasse", "8", "8002", "Zürich", false);
+            address("BILLING", "Postfach", null, "8021", "Zürich", false);
+            address("BILLING", "Alte Strasse", "3", "8000", "Zürich", true);
+            UUID invoiceId = invoices.invoice(policyholderId, InvoiceStatus.DRAFT, 41_255, runId);
+            invoices.invoice(policyholderId, InvoiceStatus.CANCELLED, 41_255, runId);
+            invoices.invoice(policyholderId, InvoiceStatus.DRAFT, 41_255, fixture.batchRun(InvoiceRunJob.JOB_NAME));
+
+            List<InvoiceDocumentSource> sources = undocumented();
+
+            assertThat(sources).singleElement().satisfies(source -> {
+                assertThat(source.invoiceId()).isEqualTo(invoiceId);
+                assertThat(source.language()).isEqualTo(Language.FR);
+                assertThat(source.totalAmount()).isEqualTo(41_255);
+                assertThat(source.paymentReference()).isEqualTo(invoices.paymentReference(invoiceId));
+                assertThat(source.debtor())
+                    .isEqualTo(new QrBillAddress("Anna Muster", "Postfach", null, "8021", "Zürich", "CH"));
+            });
+        }
+
+        @Test
+        @DisplayName("should stream an invoice without debtor address when the policyholder has none")
+        void should_returnNoDebtor_when_policyholderHasNoAddress() {
+            invoices.invoice(policyholderId, InvoiceStatus.DRAFT, 41_255, runId);
+
+            assertThat(undocumented()).singleElement()
+                .satisfies(source -> assertThat(source.debtor()).isNull());
+        }
+    }
+
+    @Nested
+    @DisplayName("Registering documents")
+    class RegisteringDocuments {
+
+        @Test
+        @DisplayName("should send draft invoices once their document is registered")
+        void should_linkDocumentAndSendInvoice_when_invoiceIsUndocumented() {
+            UUID draft = invoices.invoice(policyholderId, InvoiceStatus.DRAFT, 40_000, runId);
+            UUID partial = invoices.invoice(policyholderId, InvoiceStatus.PARTIAL, 40_000, runId);
+            InvoiceDocument draftDocument = document(draft);
+            InvoiceDocument partialDocument = document(partial);
+
+            List<InvoiceDocument> registered = repository.registerDocuments(List.of(partialDocument, draftDocument));
+
+            assertThat(registered).containsExactlyInAnyOrder(draftDocument, partialDocument);
+            assertThat(invoice(draft)).containsEntry("portal_document_id", draftDocument.documentId())
+                .containsEntry("status", "SENT")
+                .containsEntry("next_action_date", Date.valueOf(InvoiceFixture.DUE_DATE));
+            assertThat(invoice(partial)).containsEntry("portal_document_id", partialDocument.documentId())
+                .containsEntry("status", "PARTIAL")
+                .containsEntry("next_action_date", null);
+            assertThat(jdbcTemplate.queryForObject(
+                "SELECT type FROM portal_document WHERE id = ?", String.class, draftDocument.documentId()
+            )).isEqualTo("INVOICE");
+            assertThat(undocumented()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should not register a second document for an invoice")
+        void should_skipInvoice_when_alreadyDocumented() {
+            UUID invoiceId = invoices.invoice(policyholderId, InvoiceStatus.DRAFT, 40_000, runId);
+            InvoiceDocument first = document(invoiceId);
+            repository.registerDocuments(List.of(first));
+
+            List<InvoiceDocument> registered = repository.registerDocuments(List.of(document(invoiceId)));
+
+            assertThat(registered).isEmpty();
+            assertThat(invoice(invoiceId)).containsEntry("portal_document_id", first.documentId());
+            assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM portal_document WHERE person_id = ?", Long.class, policyholderId
+            )).isEqualTo(1L);
+        }
+
+        private InvoiceDocument document(UUID invoiceId) {
+            UUID documentId = UUID.randomUUID();
+            return new InvoiceDocument(
+                documentId,
+                invoiceId,
+                fixture.tenantId(),
+                policyholderId,
+                "Prämienrechnung Januar 2027",
+                "invoices/" + documentId + ".pdf"
+            );
+        }
+
+        private Map<String, Object> invoice(UUID id) {
+            return jdbcTemplate.queryForMap(
+                "SELECT portal_document_id, status, next_action_date FROM invoice WHERE id = ?",
+                id
+            );
+        }
+    }
+
+    private List<InvoiceDocumentSource> undocumented() {
+        List<InvoiceDocumentSource> sources = new ArrayList<>();
+        repository.streamUndocumented(runId, sources::add);
+        return sources;
+    }
+
+    private void address(
+        String type,
+        String street,
+        String houseNumber,
+        String postalCode,
+        String city,
+        boolean superseded
+    ) {
+        jdbcTemplate.update(
+            """
+            INSERT INTO address
+                (person_id, address_type, street, house_number, postal_code, city, canton, valid_from, superseded_at)
+            VALUES (?, ?, ?, ?, ?, ?, 'ZH', DATE '2020-01-01', CASE WHEN ? THEN NOW() END)
+            """,
+            policyholderId,
+            type,
+            street,
+            houseNumber,
+            postalCode,
+            city,
+            superseded
+        );
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Govinda ERP - JDBC Invoice Run Repository Integration Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import net.voytrex.govinda.billing.application.InvoiceRunJob;
+import net.voytrex.govinda.billing.domain.model.BillableCoverage;
+import net.voytrex.govinda.billing.domain.model.BillingPeriod;
+import net.voytrex.govinda.billing.domain.model.Invoice;
+import net.voytrex.govinda.billing.domain.model.InvoiceLine;
+import net.voytrex.govinda.billing.domain.model.InvoicePartition;
+import net.voytrex.govinda.billing.domain.model.PaymentReference;
+import net.voytrex.govinda.common.domain.model.BillingFrequency;
+import net.voytrex.govinda.common.domain.model.PolicyStatus;
+import net.voytrex.govinda.common.domain.model.ProductType;
+import net.voytrex.govinda.contract.infrastructure.persistence.ContractFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@SuppressWarnings("resource")
+@Testcontainers(disabledWithoutDocker = true)
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = JdbcInvoiceRunRepository.class)
+@ActiveProfiles("test")
+@Tag("integration")
+@Tag("database")
+// CHECKSTYLE:OFF: MethodName - Test methods follow BDD naming convention (should_X_when_Y)
+class JdbcInvoiceRunRepositoryIT {
+    private static final LocalDate JANUARY_FIRST = LocalDate.of(2027, 1, 1);
+    private static final List<BillingPeriod> PERIODS = BillingPeriod.startingIn(YearMonth.of(2027, 1));
+
+    @Container
+    public static final PostgreSQLContainer<?> POSTGRES_CONTAINER = new PostgreSQLContainer<>("postgres:18-alpine")
+        .withDatabaseName("govinda")
+        .withUsername("govinda")
+        .withPassword("govinda")
+        .withReuse(true);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        // Always use Testcontainers-managed PostgreSQL for integration tests
+        registry.add("spring.datasource.url", POSTGRES_CONTAINER::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES_CONTAINER::getUsername);
+        registry.add("spring.datasource.password", POSTGRES_CONTAINER::getPassword);
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.flyway.locations", () -> "classpath:db/migration");
+        registry.add("spring.flyway.baseline-on-migrate", () -> "true");
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        // Several round trips even for the few rows of a test
+        registry.add("govinda.billing.invoice-run.fetch-size", () -> "2");
+    }
+
+    @Autowired
+    private JdbcInvoiceRunRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ContractFixture fixture;
+    private ContractFixture.Product basicInsurance;
+    private UUID policyholderId;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new ContractFixture(jdbcTemplate);
+        basicInsurance = fixture.product(ProductType.KVG);
+        policyholderId = fixture.person(LocalDate.of(1980, 5, 17));
+    }
+
+    @Nested
+    @DisplayName("Reading coverages")
+    class ReadingCoverages {
+
+        @Test
+        @DisplayName("should stream the billable coverages of active policies due in the periods")
+        void should_streamBillableCoverages_when_policiesAreActive() {
+            UUID monthly = fixture.policy(policyholderId, PolicyStatus.ACTIVE, BillingFrequency.MONTHLY);
+            UUID billed = fixture.coverage(monthly, policyholderId, basicInsurance, JANUARY_FIRST, 40_000);
+            UUID suspended = fixture.coverage(monthly, policyholderId, basicInsurance, JANUARY_FIRST, 40_000);
+            jdbcTemplate.update("UPDATE coverage SET status = 'SUSPENDED' WHERE id = ?", suspended);
+            UUID annual = fixture.policy(policyholderId, PolicyStatus.ACTIVE, BillingFrequency.ANNUAL);
+            LocalDate lastYear = LocalDate.of(2026, 1, 1);
+            UUID endingInThePeriod = fixture.coverage(annual, policyholderId, basicInsurance, lastYear, 40_000);
+            fixture.terminate(endingInThePeriod, LocalDate.of(2027, 6, 30));
+            UUID ended = fixture.coverage(annual, policyholderId, basicInsurance, lastYear, 40_000);
+            fixture.terminate(ended, JANUARY_FIRST.minusDays(1));
+            UUID pending = fixture.policy(policyholderId, PolicyStatus.PENDING, BillingFrequency.MONTHLY);
+            fixture.coverage(pending, policyholderId, basicInsurance, JANUARY_FIRST, 40_000);
+
+            List<BillableCoverage> coverages = stream(null);
+
+            assertThat(coverages).extracting(BillableCoverage::coverageId, BillableCoverage::frequency)
+                .containsExactlyInAnyOrder(
+                    tuple(billed, BillingFrequency.MONTHLY),
+                    tuple(endingInThePeriod, BillingFrequency.ANNUAL)
+                );
+            assertThat(coverages).filteredOn(coverage -> coverage.coverageId().equals(endingInThePeriod))
+                .singleElement()
+                .satisfies(coverage -> {
+                    assertThat(coverage.terminationDate()).isEqualTo(LocalDate.of(2027, 6, 30));
+                    assertThat(coverage.monthlyPremium()).isEqualTo(40_000);
+                });
+        }
+
+        @Test
+        @DisplayName("should resume after the last policy of an interrupted chunk")
+        void should_skipPoliciesUpToTheLastOne_when_resuming() {
+            for (int i = 0; i < 3; i++) {
+                UUID policyId = fixture.policy(policyholderId, PolicyStatus.ACTIVE, BillingFrequency.MONTHLY);
+                fixture.coverage(policyId, policyholderId, basicInsurance, JANUARY_FIRST, 40_000);
+                fixture.coverage(policyId, policyholderId, basicInsurance, JANUARY_FIRST, 12_000);
+            }
+            List<UUID> policies = stream(null).stream().map(BillableCoverage::policyId).distinct().toList();
+
+            List<BillableCoverage> resumed = stream(policies.get(0));
+
+            assertThat(policies).hasSize(3);
+            assertThat(resumed).extracting(BillableCoverage::policyId)
+                .containsExactly(policies.get(1), policies.get(1), policies.get(2), policies.get(2));
+        }
+    }
+
+    @Nested
+    @DisplayName("Writing invoices")
+    class WritingInvoices {
+
+        @Test
+        @DisplayName("should copy invoices and their lines and bill a period only once")
+        void should_storeInvoicesAndSkipTheirPolicies_when_copied() {
+            UUID runId = fixture.batchRun(InvoiceRunJob.JOB_NAME);
+            UUID policyId = fixture.policy(policyholderId, PolicyStatus.ACTIVE, BillingFrequency.MONTHLY);
+            UUID coverageId = fixture.coverage(policyId, policyholderId, basicInsurance, JANUARY_FIRST, 41_255);
+            long[] references = repository.reserveReferenceNumbers(1);
+            Invoice invoice = new Invoice(
+                UUID.randomUUID(),
+                fixture.tenantId(),
+                policyId,
+                policyholderId,
+                "2027\t01\\" + references[0],
+                PaymentReference.of(references[0]),
+                PERIODS.get(0),
+                LocalDate.of(2026, 12, 1),
+                LocalDate.of(2027, 1, 31),
+                41_255,
+                0,
+                41_255,
+                List.of(new InvoiceLine(1, coverageId, policyholderId, basicInsurance.productId(), 1, 41_255, 41_255))
+            );
+
+            repository.saveInvoices(runId, List.of(invoice));
+
+            Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT invoice_number, payment_reference, total_amount, status, run_id FROM invoice WHERE id = ?",
+                invoice.id()
+            );
+            assertThat(row).containsEntry("invoice_number", invoice.invoiceNumber())
+                .containsEntry("payment_reference", invoice.paymentReference())
+                .containsEntry("total_amount", new BigDecimal("412.55"))
+                .containsEntry("status", "DRAFT")
+                .containsEntry("run_id", runId);
+            assertThat(jdbcTemplate.queryForList(
+                "SELECT coverage_id FROM invoice_line WHERE invoice_id = ?",
+                UUID.class,
+                invoice.id()
+            )).containsExactly(coverageId);
+            assertThat(stream(null)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should hand out distinct reference numbers")
+        void should_returnDistinctNumbers_when_reservingReferences() {
+            long[] first = repository.reserveReferenceNumbers(3);
+            long[] second = repository.reserveReferenceNumbers(2);
+
+            assertThat(first).hasSize(3).doesNotHaveDuplicates();
+            assertThat(second).hasSize(2).doesNotContain(first);
+        }
+
+        @Test
+        @DisplayName("should list tenants with active policies")
+        void should_findTheTenant_when_itHasAnActivePolicy() {
+            fixture.policy(policyholderId, PolicyStatus.ACTIVE, BillingFrequency.MONTHLY);
+
+            assertThat(repository.findTenants()).contains(fixture.tenantId());
+        }
+    }
+
+    private List<BillableCoverage> stream(UUID afterPolicyId) {
+        List<BillableCoverage> coverages = new ArrayList<>();
+        InvoicePartition partition = InvoicePartition.of(fixture.tenantId(), 1).get(0);
+        repository.streamCoverages(partition, PERIODS, afterPolicyId, coverages::add);
+        return coverages;
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Govinda ERP - JDBC Payment Repository Integration Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.billing.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import net.voytrex.govinda.billing.application.PaymentImportJob;
+import net.voytrex.govinda.billing.domain.model.IncomingPayment;
+import net.voytrex.govinda.billing.domain.model.MatchedPayment;
+import net.voytrex.govinda.billing.domain.model.OpenInvoice;
+import net.voytrex.govinda.billing.domain.model.PaymentOutcome;
+import net.voytrex.govinda.common.domain.model.InvoiceStatus;
+import net.voytrex.govinda.contract.infrastructure.persistence.ContractFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@SuppressWarnings("resource")
+@Testcontainers(disabledWithoutDocker = true)
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = JdbcPaymentRepository.class)
+@ActiveProfiles("test")
+@Tag("integration")
+@Tag("database")
+// CHECKSTYLE:OFF: MethodName - Test methods follow BDD naming convention (should_X_when_Y)
+class JdbcPaymentRepositoryIT {
+    private static final String FILE_NAME = "camt054-2027-02-03.xml";
+
+    @Container
+    public static final PostgreSQLContainer<?> POSTGRES_CONTAINER = new PostgreSQLContainer<>("postgres:18-alpine")
+        .withDatabaseName("govinda")
+        .withUsername("govinda")
+        .withPassword("govinda")
+        .withReuse(true);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        // Always use Testcontainers-managed PostgreSQL for integration tests
+        registry.add("spring.datasource.url", POSTGRES_CONTAINER::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES_CONTAINER::getUsername);
+        registry.add("spring.datasource.password", POSTGRES_CONTAINER::getPassword);
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.flyway.locations", () -> "classpath:db/migration");
+        registry.add("spring.flyway.baseline-on-migrate", () -> "true");
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+    }
+
+    @Autowired
+    private JdbcPaymentRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ContractFixture fixture;
+    private InvoiceFixture invoices;
+    private UUID policyholderId;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new ContractFixture(jdbcTemplate);
+        invoices = new InvoiceFixture(jdbcTemplate, fixture.tenantId());
+        policyholderId = fixture.person(LocalDate.of(1980, 5, 17));
+    }
+
+    @Nested
+    @DisplayName("Reading open invoices")
+    class ReadingOpenInvoices {
+
+        @Test
+        @DisplayName("should stream the invoices of the tenant that are not paid or cancelled")
+        void should_streamOpenInvoices_when_matchingPayments() {
+            UUID draft = invoices.invoice(policyholderId, InvoiceStatus.DRAFT, 40_000);
+            UUID sent = invoices.invoice(policyholderId, InvoiceStatus.SENT, 40_000);
+            UUID partial = invoices.invoice(policyholderId, InvoiceStatus.PARTIAL, 40_000);
+            invoices.invoice(policyholderId, InvoiceStatus.PAID, 40_000);
+            invoices.invoice(policyholderId, InvoiceStatus.CANCELLED, 40_000);
+            InvoiceFixture otherTenant = new InvoiceFixture(jdbcTemplate, new ContractFixture(jdbcTemplate).tenantId());
+            otherTenant.invoice(policyholderId, InvoiceStatus.SENT, 40_000);
+
+            List<OpenInvoice> open = new ArrayList<>();
+            repository.forEachOpenInvoice(fixture.tenantId(), open::add);
+
+            assertThat(open).containsExactlyInAnyOrder(
+                new OpenInvoice(draft, invoices.paymentReference(draft)),
+                new OpenInvoice(sent, invoices.paymentReference(sent)),
+                new OpenInvoice(partial, invoices.paymentReference(partial))
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Recording payments")
+    class RecordingPayments {
+
+        @Test
+        @DisplayName("should record each bank reference once and return the payments recorded now")
+        void should_skipPayment_when_bankReferenceIsRecorded() {
+            UUID invoiceId = invoices.invoice(policyholderId, InvoiceStatus.SENT, 40_000);
+            UUID firstRun = fixture.batchRun(PaymentImportJob.JOB_NAME);
+            UUID secondRun = fixture.batchRun(PaymentImportJob.JOB_NAME);
+            MatchedPayment booked = booked("BANK-1", invoiceId);
+            MatchedPayment unknown = clarify("BANK-2", PaymentOutcome.UNKNOWN_REFERENCE);
+            MatchedPayment later = clarify("BANK-3", PaymentOutcome.NO_REFERENCE);
+
+            List<MatchedPayment> first = repository.savePayments(
+                firstRun, fixture.tenantId(), FILE_NAME, List.of(booked, unknown)
+            );
+            List<MatchedPayment> second = repository.savePayments(
+                secondRun, fixture.tenantId(), FILE_NAME, List.of(booked, later)
+            );
+
+            assertThat(first).containsExactly(booked, unknown);
+            assertThat(second).containsExactly(later);
+            assertThat(repository.findRecorded(fixture.tenantId(), List.of("BANK-1", "BANK-3", "BANK-4")))
+                .containsExactlyInAnyOrder("BANK-1", "BANK-3");
+            assertThat(jdbcTemplate.queryForList(
+                """
+                SELECT bank_reference, invoice_id, status, clarification_reason FROM payment
+                WHERE tenant_id = ? ORDER BY bank_reference
+                """,
+                fixture.tenantId()
+            )).extracting(
+                row -> row.get("bank_reference"),
+                row -> row.get("invoice_id"),
+                row -> row.get("status"),
+                row -> row.get("clarification_reason")
+            ).containsExactly(
+                tuple("BANK-1", invoiceId, "BOOKED", null),
+                tuple("BANK-2", null, "CLARIFICATION", "UNKNOWN_REFERENCE"),
+                tuple("BANK-3", null, "CLARIFICATION", "NO_REFERENCE")
+            );
+        }
+
+        @Test
+        @DisplayName("should add paid amounts and settle invoices once fully paid")
+        void should_markInvoicePaid_when_paidAmountReachesTheTotal() {
+            UUID invoiceId = invoices.invoice(policyholderId, InvoiceStatus.SENT, 40_000);
+            UUID otherInvoiceId = invoices.invoice(policyholderId, InvoiceStatus.SENT, 20_000);
+
+            repository.addPaidAmounts(Map.of(invoiceId, 15_000L, otherInvoiceId, 20_000L));
+
+            assertThat(invoice(invoiceId)).containsEntry("paid_amount", new BigDecimal("150.00"))
+                .containsEntry("status", "PARTIAL");
+            assertThat(invoice(otherInvoiceId)).containsEntry("status", "PAID");
+
+            repository.addPaidAmounts(Map.of(invoiceId, 25_000L));
+
+            assertThat(invoice(invoiceId)).containsEntry("paid_amount", new BigDecimal("400.00"))
+                .containsEntry("status", "PAID")
+                .containsEntry("version", 2L);
+        }
+
+        private Map<String, Object> invoice(UUID id) {
+            return jdbcTemplate.queryForMap("SELECT paid_amount, status, version FROM invoice WHERE id = ?", id);
+        }
+    }
+
+    private static MatchedPayment booked(String bankReference, UUID invoiceId) {
+        return new MatchedPayment(payment(bankReference), PaymentOutcome.BOOKED, invoiceId);
+    }
+
+    private static MatchedPayment clarify(String bankReference, PaymentOutcome outcome) {
+        return new MatchedPayment(payment(bankReference), outcome, null);
+    }
+
+    private static IncomingPayment payment(String bankReference) {
+        return new IncomingPayment(
+            bankReference,
+            "210000000003139471430009017",
+            40_000,
+            "CHF",
+            LocalDate.of(2027, 2, 3),
+            LocalDate.of(2027, 2, 3),
+            "Anna Muster",
+            false
+        );
+    }
+}
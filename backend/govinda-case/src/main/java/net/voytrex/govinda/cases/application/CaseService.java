@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.UUID;
 import net.voytrex.govinda.cases.domain.model.Case;
 import net.voytrex.govinda.cases.domain.repository.CaseRepository;
+import net.voytrex.govinda.common.domain.model.EntityVersion;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,4 +38,12 @@ public class CaseService {
     public List<Case> listCases(UUID tenantId, UUID personId) {
         return caseRepository.findByTenantIdAndPersonId(tenantId, personId);
     }
+
+    /**
+     * Lists only ids and versions of a person's cases, for conditional requests.
+     */
+    @Transactional(readOnly = true)
+    public List<EntityVersion> listCaseVersions(UUID tenantId, UUID personId) {
+        return caseRepository.findVersionsByTenantIdAndPersonId(tenantId, personId);
+    }
 }
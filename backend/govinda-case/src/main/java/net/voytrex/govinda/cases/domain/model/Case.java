@@ -90,6 +90,10 @@ public class Case {
         this.id = id;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
     public UUID getTenantId() {
         return tenantId;
     }
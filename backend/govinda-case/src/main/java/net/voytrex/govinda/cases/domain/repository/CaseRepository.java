@@ -9,8 +9,10 @@ package net.voytrex.govinda.cases.domain.repository;
 import java.util.List;
 import java.util.UUID;
 import net.voytrex.govinda.cases.domain.model.Case;
+import net.voytrex.govinda.common.domain.model.EntityVersion;
 
 public interface CaseRepository {
     Case save(Case caseEntity);
     List<Case> findByTenantIdAndPersonId(UUID tenantId, UUID personId);
+    List<EntityVersion> findVersionsByTenantIdAndPersonId(UUID tenantId, UUID personId);
 }
@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.UUID;
 import net.voytrex.govinda.cases.domain.model.Case;
 import net.voytrex.govinda.cases.domain.repository.CaseRepository;
+import net.voytrex.govinda.common.domain.model.EntityVersion;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -29,4 +30,9 @@ public class JpaCaseRepositoryAdapter implements CaseRepository {
     public List<Case> findByTenantIdAndPersonId(UUID tenantId, UUID personId) {
         return caseRepository.findByTenantIdAndPersonId(tenantId, personId);
     }
+
+    @Override
+    public List<EntityVersion> findVersionsByTenantIdAndPersonId(UUID tenantId, UUID personId) {
+        return caseRepository.findVersionsByTenantIdAndPersonId(tenantId, personId);
+    }
 }
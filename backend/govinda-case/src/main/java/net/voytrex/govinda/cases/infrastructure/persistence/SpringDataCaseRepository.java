@@ -9,8 +9,14 @@ package net.voytrex.govinda.cases.infrastructure.persistence;
 import java.util.List;
 import java.util.UUID;
 import net.voytrex.govinda.cases.domain.model.Case;
+import net.voytrex.govinda.common.domain.model.EntityVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface SpringDataCaseRepository extends JpaRepository<Case, UUID> {
     List<Case> findByTenantIdAndPersonId(UUID tenantId, UUID personId);
+
+    /**
+     * Class-based projection: selects only id and version, without hydrating cases.
+     */
+    List<EntityVersion> findVersionsByTenantIdAndPersonId(UUID tenantId, UUID personId);
 }
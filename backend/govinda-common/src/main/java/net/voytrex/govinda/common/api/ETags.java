@@ -0,0 +1,130 @@
+/*
+ * Govinda ERP - Entity Tags
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.common.api;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.exception.PreconditionFailedException;
+import net.voytrex.govinda.common.domain.model.EntityVersion;
+import org.springframework.lang.Nullable;
+
+/**
+ * HTTP entity tags derived from optimistic-lock versions.
+ *
+ * A single entity is tagged as {@code "<id>-v<version>"}, so the tag changes
+ * exactly when JPA increments the {@code @Version} column. Collections are
+ * tagged with a digest over all (id, version) pairs, which also changes when
+ * an element is added or removed.
+ *
+ * Because the tags only depend on (id, version), controllers can answer
+ * {@code If-None-Match} from a version-only query without loading the entity.
+ */
+public final class ETags {
+    private static final String WILDCARD = "*";
+    private static final String WEAK_PREFIX = "W/";
+    private static final String VERSION_SEPARATOR = "-v";
+    private static final int DIGEST_BYTES = 16;
+
+    private ETags() {
+    }
+
+    /**
+     * Strong entity tag for a single entity.
+     */
+    public static String of(UUID id, long version) {
+        return "\"" + id + VERSION_SEPARATOR + version + "\"";
+    }
+
+    /**
+     * Strong entity tag for a single entity.
+     */
+    public static String of(EntityVersion entityVersion) {
+        return of(entityVersion.id(), entityVersion.version());
+    }
+
+    /**
+     * Entity tag for a collection, independent of element order.
+     */
+    public static String ofAll(Collection<EntityVersion> entityVersions) {
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = ByteBuffer.allocate(3 * Long.BYTES);
+        entityVersions.stream()
+            .sorted(Comparator.comparing(EntityVersion::id))
+            .forEach(entityVersion -> {
+                buffer.clear();
+                buffer.putLong(entityVersion.id().getMostSignificantBits());
+                buffer.putLong(entityVersion.id().getLeastSignificantBits());
+                buffer.putLong(entityVersion.version());
+                digest.update(buffer.array());
+            });
+        byte[] hash = digest.digest();
+        return "\"" + entityVersions.size() + "-" + HexFormat.of().formatHex(hash, 0, DIGEST_BYTES) + "\"";
+    }
+
+    /**
+     * Evaluates an {@code If-None-Match} header against the current tag.
+     *
+     * Uses weak comparison as required for GET, so {@code W/"x"} matches {@code "x"}.
+     *
+     * @return true if the client's representation is current and 304 may be returned
+     */
+    public static boolean matchesAny(@Nullable String ifNoneMatch, String currentTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String current = stripWeak(currentTag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (WILDCARD.equals(tag) || stripWeak(tag).equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Extracts the version a client expects from an {@code If-Match} header.
+     *
+     * @return the expected version, or null if the header is absent or {@code *}
+     * @throws PreconditionFailedException if the header does not carry a strong tag for the entity
+     */
+    @Nullable
+    public static Long expectedVersion(@Nullable String ifMatch, UUID id) {
+        if (ifMatch == null || ifMatch.isBlank() || WILDCARD.equals(ifMatch.trim())) {
+            return null;
+        }
+        String prefix = "\"" + id + VERSION_SEPARATOR;
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith(prefix) && tag.endsWith("\"") && tag.length() > prefix.length() + 1) {
+                try {
+                    return Long.parseLong(tag.substring(prefix.length(), tag.length() - 1));
+                } catch (NumberFormatException e) {
+                    break;
+                }
+            }
+        }
+        throw new PreconditionFailedException("If-Match does not match the current representation of " + id);
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -20,13 +20,17 @@ import net.voytrex.govinda.common.domain.exception.EntityNotFoundException;
 import net.voytrex.govinda.common.domain.exception.InvalidAhvNumberException;
 import net.voytrex.govinda.common.domain.exception.InvalidMutationException;
 import net.voytrex.govinda.common.domain.exception.PolicyValidationException;
+import net.voytrex.govinda.common.domain.exception.PreconditionFailedException;
 import net.voytrex.govinda.common.domain.exception.PremiumCalculationException;
+import net.voytrex.govinda.common.domain.exception.ServiceOverloadedException;
 import net.voytrex.govinda.common.domain.exception.TariffNotFoundException;
 import net.voytrex.govinda.common.domain.exception.TenantNotFoundException;
 import net.voytrex.govinda.common.domain.exception.UnauthorizedTenantAccessException;
+import net.voytrex.govinda.common.i18n.MessageCatalog;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.MessageSource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -41,7 +45,8 @@ import org.springframework.web.servlet.resource.NoResourceFoundException;
  * Global exception handler for REST API.
  *
  * Translates domain exceptions to appropriate HTTP responses.
- * All error messages are internationalized using MessageSource.
+ * All error messages are internationalized using MessageSource, which is
+ * the compiled {@link MessageCatalog} in the application context.
  */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -59,9 +64,7 @@ public class GlobalExceptionHandler {
     }
 
     private String translateError(String errorCode, HttpServletRequest request, Object... args) {
-        String key = "error." + errorCode.toLowerCase(Locale.ROOT).replace("_", ".");
-        Locale locale = getLocale(request);
-        return messageSource.getMessage(key, args, locale);
+        return messageSource.getMessage(MessageCatalog.errorKey(errorCode), args, getLocale(request));
     }
 
     @ExceptionHandler({EntityNotFoundException.class, EntityNotFoundByFieldException.class})
@@ -219,6 +222,37 @@ public class GlobalExceptionHandler {
             ));
     }
 
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailed(
+        PreconditionFailedException ex,
+        HttpServletRequest request
+    ) {
+        LOGGER.debug("Precondition failed: {}", ex.getMessage());
+        return ResponseEntity
+            .status(HttpStatus.PRECONDITION_FAILED)
+            .body(new ErrorResponse(
+                ex.getErrorCode(),
+                translateError("PRECONDITION_FAILED", request),
+                request.getRequestURI()
+            ));
+    }
+
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handleServiceOverloaded(
+        ServiceOverloadedException ex,
+        HttpServletRequest request
+    ) {
+        LOGGER.debug("Service overloaded: {}", ex.getMessage());
+        return ResponseEntity
+            .status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+            .body(new ErrorResponse(
+                ex.getErrorCode(),
+                translateError("SERVICE_OVERLOADED", request),
+                request.getRequestURI()
+            ));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleMethodArgumentNotValid(
         MethodArgumentNotValidException ex,
@@ -25,7 +25,9 @@ public sealed class DomainException extends RuntimeException
             TenantNotFoundException,
             UnauthorizedTenantAccessException,
             ConcurrentModificationException,
+            PreconditionFailedException,
             BusinessRuleViolationException,
+            ServiceOverloadedException,
             AuthenticationException {
     private final String errorCode;
 
@@ -0,0 +1,27 @@
+/*
+ * Govinda ERP - Precondition Failed Exception
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.common.domain.exception;
+
+import java.util.UUID;
+
+/**
+ * Thrown when a client-supplied expected version (If-Match) no longer
+ * matches the stored entity.
+ */
+public final class PreconditionFailedException extends DomainException {
+    public PreconditionFailedException(String entityType, UUID id, long expectedVersion, long actualVersion) {
+        super(
+            entityType + " with id " + id + " is at version " + actualVersion
+                + ", expected " + expectedVersion,
+            "PRECONDITION_FAILED"
+        );
+    }
+
+    public PreconditionFailedException(String message) {
+        super(message, "PRECONDITION_FAILED");
+    }
+}
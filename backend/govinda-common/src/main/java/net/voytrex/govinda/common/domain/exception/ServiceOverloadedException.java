@@ -0,0 +1,24 @@
+/*
+ * Govinda ERP - Service Overloaded Exception
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.common.domain.exception;
+
+/**
+ * Rejects work that a service cannot accept right now; the client should
+ * retry after the given number of seconds.
+ */
+public final class ServiceOverloadedException extends DomainException {
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String service, long retryAfterSeconds) {
+        super(service + " is overloaded, retry in " + retryAfterSeconds + " s", "SERVICE_OVERLOADED");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Govinda ERP - AHV Index
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.common.domain.model;
+
+/**
+ * Hash index from packed AHV numbers ({@link AhvNumber#pack(CharSequence)}) to
+ * int values, usually row numbers into columnar arrays.
+ *
+ * Open addressing with linear probing over two primitive arrays, kept at most
+ * half full, so lookups of several hundred thousand numbers neither box nor
+ * allocate. Packed AHV numbers are never 0, which marks empty slots.
+ *
+ * Not thread-safe while being filled; once filled and safely published it can
+ * be read by any number of threads.
+ */
+public final class AhvIndex {
+    public static final int NOT_FOUND = -1;
+    private static final long GOLDEN_RATIO = 0x9E37_79B9_7F4A_7C15L;
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+    private int shift;
+
+    public AhvIndex(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expected size must not be negative");
+        }
+        allocate(Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, expectedSize)) << 2));
+    }
+
+    /**
+     * Number of AHV numbers in the index.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Value of an AHV number, or {@link #NOT_FOUND}. {@link AhvNumber#INVALID} is never found.
+     */
+    public int get(long ahv) {
+        if (ahv <= 0) {
+            return NOT_FOUND;
+        }
+        int mask = keys.length - 1;
+        for (int slot = slot(ahv); ; slot = (slot + 1) & mask) {
+            long key = keys[slot];
+            if (key == ahv) {
+                return values[slot];
+            }
+            if (key == 0) {
+                return NOT_FOUND;
+            }
+        }
+    }
+
+    /**
+     * Adds an AHV number unless present.
+     *
+     * @return the value already stored for the number, or {@link #NOT_FOUND} if it was added
+     * @throws IllegalArgumentException if the number is not a packed AHV number
+     */
+    public int putIfAbsent(long ahv, int value) {
+        if (ahv <= 0) {
+            throw new IllegalArgumentException("Not a packed AHV number: " + ahv);
+        }
+        int mask = keys.length - 1;
+        int slot = slot(ahv);
+        while (keys[slot] != 0) {
+            if (keys[slot] == ahv) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = ahv;
+        values[slot] = value;
+        if (++size > keys.length >>> 1) {
+            rehash();
+        }
+        return NOT_FOUND;
+    }
+
+    private int slot(long ahv) {
+        return (int) ((ahv * GOLDEN_RATIO) >>> shift);
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        shift = Long.numberOfLeadingZeros(capacity - 1L);
+    }
+
+    private void rehash() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(oldKeys.length << 1);
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = slot(oldKeys[i]);
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
@@ -23,6 +23,10 @@ import java.util.regex.Pattern;
  */
 @Embeddable
 public class AhvNumber {
+    /**
+     * Result of {@link #pack(CharSequence)} for a value that is not an AHV number.
+     */
+    public static final long INVALID = -1;
     private static final Pattern FORMAT_REGEX = Pattern.compile("756\\.\\d{4}\\.\\d{4}\\.\\d{2}");
 
     @Column(name = "ahv_nr", length = 16)
@@ -89,6 +93,44 @@ public class AhvNumber {
         return new AhvNumber(formatted);
     }
 
+    /**
+     * Returns the 13 digits as a number, for compact indexes keyed by AHV number.
+     */
+    public long toPacked() {
+        return pack(value);
+    }
+
+    /**
+     * Packs a formatted ({@code 756.XXXX.XXXX.XX}) or unformatted (13 digits) AHV
+     * number into a long without allocating.
+     *
+     * @return the 13 digits as a number, or {@link #INVALID} if the value is neither
+     */
+    public static long pack(CharSequence value) {
+        if (value == null) {
+            return INVALID;
+        }
+        int length = value.length();
+        boolean formatted = length == 16;
+        if (!formatted && length != 13) {
+            return INVALID;
+        }
+        long packed = 0;
+        for (int i = 0; i < length; i++) {
+            char ch = value.charAt(i);
+            if (formatted && (i == 3 || i == 8 || i == 13)) {
+                if (ch != '.') {
+                    return INVALID;
+                }
+            } else if (ch >= '0' && ch <= '9') {
+                packed = packed * 10 + (ch - '0');
+            } else {
+                return INVALID;
+            }
+        }
+        return packed / 10_000_000_000L == 756 ? packed : INVALID;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (this == other) {
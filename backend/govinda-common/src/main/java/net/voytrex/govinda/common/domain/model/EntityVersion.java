@@ -0,0 +1,17 @@
+/*
+ * Govinda ERP - Entity Version
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.common.domain.model;
+
+import java.util.UUID;
+
+/**
+ * Identity and optimistic-lock version of a persisted entity.
+ *
+ * Loaded by version-only queries so that callers can tell whether an
+ * entity changed without hydrating it.
+ */
+public record EntityVersion(UUID id, long version) { }
@@ -6,8 +6,11 @@
 
 package net.voytrex.govinda.common.domain.model;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * KVG franchise options (Jahresfranchise).
@@ -41,6 +44,28 @@ public enum Franchise {
     /** CHF 2500 - Maximum, adults only */
     CHF_2500(2500, false, true);
 
+    private static final List<Franchise> CHILD_OPTIONS;
+    private static final List<Franchise> ADULT_OPTIONS;
+    private static final Set<Franchise> CHILD_SET;
+    private static final Set<Franchise> ADULT_SET;
+
+    static {
+        List<Franchise> children = new ArrayList<>();
+        List<Franchise> adults = new ArrayList<>();
+        for (Franchise franchise : values()) {
+            if (franchise.forChildren) {
+                children.add(franchise);
+            }
+            if (franchise.forAdults) {
+                adults.add(franchise);
+            }
+        }
+        CHILD_OPTIONS = List.copyOf(children);
+        ADULT_OPTIONS = List.copyOf(adults);
+        CHILD_SET = Collections.unmodifiableSet(EnumSet.copyOf(children));
+        ADULT_SET = Collections.unmodifiableSet(EnumSet.copyOf(adults));
+    }
+
     private final int amount;
     private final boolean forChildren;
     private final boolean forAdults;
@@ -64,13 +89,25 @@ public enum Franchise {
     }
 
     /**
-     * Returns valid franchise options for the given age group.
+     * Whether the franchise may be chosen in the given age group.
+     */
+    public boolean isAllowedFor(AgeGroup ageGroup) {
+        return ageGroup == AgeGroup.CHILD ? forChildren : forAdults;
+    }
+
+    /**
+     * Returns valid franchise options for the given age group, in ascending
+     * order. The lists are built once and shared.
      */
     public static List<Franchise> forAgeGroup(AgeGroup ageGroup) {
-        return switch (ageGroup) {
-            case CHILD -> Arrays.stream(values()).filter(Franchise::isForChildren).toList();
-            case YOUNG_ADULT, ADULT -> Arrays.stream(values()).filter(Franchise::isForAdults).toList();
-        };
+        return ageGroup == AgeGroup.CHILD ? CHILD_OPTIONS : ADULT_OPTIONS;
+    }
+
+    /**
+     * Valid franchise options for the given age group as a shared, unmodifiable set.
+     */
+    public static Set<Franchise> allowedFor(AgeGroup ageGroup) {
+        return ageGroup == AgeGroup.CHILD ? CHILD_SET : ADULT_SET;
     }
 
     /**
@@ -16,11 +16,13 @@ import java.util.Objects;
  * Money value object with currency.
  *
  * Supports Swiss Rappen rounding (to 5 centimes).
+ * For allocation-free arithmetic in hot loops, see {@link Rappen}.
  */
 @Embeddable
 public class Money implements Comparable<Money> {
     public static final Money ZERO = new Money(BigDecimal.ZERO, Currency.CHF);
     private static final int SCALE = 2;
+    private static final BigDecimal RAPPEN_STEPS_PER_UNIT = BigDecimal.valueOf(20);
 
     @Column(name = "amount", precision = 12, scale = 2)
     private BigDecimal amount;
@@ -73,9 +75,9 @@ public class Money implements Comparable<Money> {
      */
     public Money roundToRappen() {
         BigDecimal rounded = amount
-            .multiply(new BigDecimal("20"))
+            .multiply(RAPPEN_STEPS_PER_UNIT)
             .setScale(0, RoundingMode.HALF_UP)
-            .divide(new BigDecimal("20"), SCALE, RoundingMode.HALF_UP);
+            .divide(RAPPEN_STEPS_PER_UNIT, SCALE, RoundingMode.HALF_UP);
         return new Money(rounded, currency);
     }
 
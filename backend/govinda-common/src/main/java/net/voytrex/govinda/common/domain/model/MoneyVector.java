@@ -0,0 +1,262 @@
+/*
+ * Govinda ERP - Money Vector
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.common.domain.model;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Columnar, single-currency sequence of money amounts for aggregations.
+ *
+ * Amounts are stored as Rappen in a primitive {@code long[]} (see {@link Rappen}),
+ * so summing hundreds of thousands of premiums or open items neither allocates
+ * nor re-checks the currency per element. The currency is checked once, when
+ * amounts are appended.
+ *
+ * Every amount must fit a {@code NUMERIC(12,2)} column. This bounds a block of
+ * {@value #BLOCK_SIZE} amounts well below {@code Long.MAX_VALUE}, so blocks are
+ * summed with plain additions and only the block totals are combined with
+ * overflow checks.
+ *
+ * Instances are not thread-safe while being filled; read operations may run
+ * concurrently once filling is complete.
+ */
+public final class MoneyVector {
+    static final int BLOCK_SIZE = 4096;
+    /**
+     * Sequential cutoff of {@link #parallelSum()}: smaller vectors are summed
+     * sequentially, and no fork-join task sums a slice larger than this.
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Currency currency;
+    private long[] rappen;
+    private int size;
+
+    public MoneyVector(Currency currency) {
+        this(currency, INITIAL_CAPACITY);
+    }
+
+    public MoneyVector(Currency currency, int initialCapacity) {
+        this.currency = currency;
+        this.rappen = new long[Math.max(initialCapacity, 1)];
+    }
+
+    /**
+     * Creates a vector from Rappen amounts.
+     */
+    public static MoneyVector ofRappen(Currency currency, long... amounts) {
+        MoneyVector vector = new MoneyVector(currency, amounts.length);
+        for (long amount : amounts) {
+            vector.addRappen(amount);
+        }
+        return vector;
+    }
+
+    /**
+     * Creates a vector from {@link Money} values, which must all be in {@code currency}.
+     */
+    public static MoneyVector of(Currency currency, Collection<Money> amounts) {
+        MoneyVector vector = new MoneyVector(currency, amounts.size());
+        for (Money amount : amounts) {
+            vector.add(amount);
+        }
+        return vector;
+    }
+
+    public MoneyVector add(Money amount) {
+        if (amount.getCurrency() != currency) {
+            throw new IllegalArgumentException("Cannot operate on different currencies");
+        }
+        return addRappen(Rappen.of(amount));
+    }
+
+    public MoneyVector addRappen(long amount) {
+        Rappen.requireNumeric12x2(amount);
+        if (size == rappen.length) {
+            rappen = Arrays.copyOf(rappen, Math.max(size * 2, INITIAL_CAPACITY));
+        }
+        rappen[size++] = amount;
+        return this;
+    }
+
+    public Currency getCurrency() {
+        return currency;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long getRappen(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return rappen[index];
+    }
+
+    /**
+     * Sum of all amounts, in Rappen.
+     */
+    public long sum() {
+        return sumRange(rappen, 0, size);
+    }
+
+    public Money sumAsMoney() {
+        return Rappen.toMoney(sum(), currency);
+    }
+
+    /**
+     * Sum of all amounts using the common fork-join pool for large vectors.
+     */
+    public long parallelSum() {
+        return parallelSum(ForkJoinPool.commonPool());
+    }
+
+    public long parallelSum(ForkJoinPool pool) {
+        if (size < PARALLEL_THRESHOLD) {
+            return sum();
+        }
+        return pool.invoke(new SumTask(rappen, 0, size));
+    }
+
+    public long min() {
+        requireNotEmpty();
+        long min = rappen[0];
+        for (int i = 1; i < size; i++) {
+            min = Math.min(min, rappen[i]);
+        }
+        return min;
+    }
+
+    public long max() {
+        requireNotEmpty();
+        long max = rappen[0];
+        for (int i = 1; i < size; i++) {
+            max = Math.max(max, rappen[i]);
+        }
+        return max;
+    }
+
+    /**
+     * Nearest-rank percentile, e.g. {@code percentile(50)} for the median.
+     */
+    public long percentile(double percent) {
+        return percentiles(percent)[0];
+    }
+
+    /**
+     * Nearest-rank percentiles, sorting a copy of the amounts once.
+     */
+    public long[] percentiles(double... percents) {
+        requireNotEmpty();
+        long[] sorted = Arrays.copyOf(rappen, size);
+        Arrays.sort(sorted);
+        long[] result = new long[percents.length];
+        for (int i = 0; i < percents.length; i++) {
+            double percent = percents[i];
+            if (percent <= 0 || percent > 100) {
+                throw new IllegalArgumentException("Percentile must be in (0, 100]: " + percent);
+            }
+            int rank = (int) Math.ceil(percent / 100.0 * size);
+            result[i] = sorted[rank - 1];
+        }
+        return result;
+    }
+
+    /**
+     * Sums amounts per dense group key, e.g. {@code Canton.ordinal()}.
+     *
+     * @param keys group key per element, in {@code [0, groupCount)}
+     * @return sums indexed by group key, in Rappen
+     */
+    public long[] sumByGroup(int[] keys, int groupCount) {
+        if (keys.length < size) {
+            throw new IllegalArgumentException("Expected " + size + " keys, got " + keys.length);
+        }
+        long[] sums = new long[groupCount];
+        for (int i = 0; i < size; i++) {
+            int key = keys[i];
+            sums[key] = Math.addExact(sums[key], rappen[i]);
+        }
+        return sums;
+    }
+
+    /**
+     * Sums amounts per arbitrary group key.
+     *
+     * @param keys group key per element
+     * @return sums per key, in Rappen
+     */
+    public <K> Map<K, Long> sumByGroup(List<K> keys) {
+        if (keys.size() < size) {
+            throw new IllegalArgumentException("Expected " + size + " keys, got " + keys.size());
+        }
+        Map<K, long[]> sums = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            long[] sum = sums.computeIfAbsent(keys.get(i), key -> new long[1]);
+            sum[0] = Math.addExact(sum[0], rappen[i]);
+        }
+        Map<K, Long> result = new HashMap<>(sums.size() * 2);
+        sums.forEach((key, sum) -> result.put(key, sum[0]));
+        return result;
+    }
+
+    private void requireNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("MoneyVector is empty");
+        }
+    }
+
+    static long sumRange(long[] values, int from, int to) {
+        long total = 0;
+        for (int blockStart = from; blockStart < to; blockStart += BLOCK_SIZE) {
+            int blockEnd = Math.min(blockStart + BLOCK_SIZE, to);
+            long blockSum = 0;
+            for (int i = blockStart; i < blockEnd; i++) {
+                blockSum += values[i];
+            }
+            total = Math.addExact(total, blockSum);
+        }
+        return total;
+    }
+
+    private static final class SumTask extends RecursiveTask<Long> {
+        private final long[] values;
+        private final int from;
+        private final int to;
+
+        SumTask(long[] values, int from, int to) {
+            this.values = values;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                return sumRange(values, from, to);
+            }
+            int middle = (from + to) >>> 1;
+            SumTask left = new SumTask(values, from, middle);
+            left.fork();
+            long right = new SumTask(values, middle, to).compute();
+            return Math.addExact(left.join(), right);
+        }
+    }
+}
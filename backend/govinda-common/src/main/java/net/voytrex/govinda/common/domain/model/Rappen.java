@@ -0,0 +1,148 @@
+/*
+ * Govinda ERP - Rappen Arithmetic
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.common.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Allocation-free money arithmetic on primitive {@code long} amounts in
+ * Rappen (hundredths of the currency unit).
+ *
+ * Intended for hot loops in premium and billing runs, where {@link Money}
+ * would allocate a {@code BigDecimal} per operation. The currency is not
+ * carried; callers keep it alongside the amounts (typically CHF).
+ *
+ * All operations produce exactly the same result as the corresponding
+ * {@link Money} operation:
+ * <ul>
+ *   <li>{@link #roundTo5(long)} matches {@link Money#roundToRappen()}
+ *       (HALF_UP, i.e. ties away from zero)</li>
+ *   <li>{@link #multiply(long, long, long)} matches
+ *       {@link Money#multiply(BigDecimal)} when the factor equals {@code numerator / denominator},
+ *       e.g. 0.98 as 98/100</li>
+ * </ul>
+ *
+ * Arithmetic throws {@link ArithmeticException} on overflow instead of wrapping.
+ */
+public final class Rappen {
+    /** Largest absolute amount that fits a {@code NUMERIC(12,2)} column, in Rappen. */
+    public static final long NUMERIC_12_2_MAX = 999_999_999_999L;
+    private static final int SCALE = 2;
+    private static final long ROUNDING_STEP = 5L;
+
+    private Rappen() {
+    }
+
+    /**
+     * Converts a {@link Money} amount to Rappen.
+     */
+    public static long of(Money money) {
+        return fromDecimal(money.getAmount());
+    }
+
+    /**
+     * Converts Rappen to a {@link Money} with scale 2.
+     */
+    public static Money toMoney(long rappen, Currency currency) {
+        return new Money(BigDecimal.valueOf(rappen, SCALE), currency);
+    }
+
+    /**
+     * Converts a decimal with at most 2 fraction digits (e.g. from {@code ResultSet.getBigDecimal})
+     * to Rappen.
+     *
+     * @throws ArithmeticException if the value has more than 2 fraction digits or does not fit a long
+     */
+    public static long fromDecimal(BigDecimal amount) {
+        return amount.movePointRight(SCALE).longValueExact();
+    }
+
+    /**
+     * Converts Rappen to a {@code NUMERIC(12,2)} column value.
+     *
+     * @throws ArithmeticException if the amount exceeds the column precision
+     */
+    public static BigDecimal toNumeric(long rappen) {
+        return BigDecimal.valueOf(requireNumeric12x2(rappen), SCALE);
+    }
+
+    /**
+     * Verifies that an amount fits a {@code NUMERIC(12,2)} column.
+     */
+    public static long requireNumeric12x2(long rappen) {
+        if (rappen > NUMERIC_12_2_MAX || rappen < -NUMERIC_12_2_MAX) {
+            throw new ArithmeticException("Amount exceeds NUMERIC(12,2): " + rappen);
+        }
+        return rappen;
+    }
+
+    public static long add(long a, long b) {
+        return Math.addExact(a, b);
+    }
+
+    public static long subtract(long a, long b) {
+        return Math.subtractExact(a, b);
+    }
+
+    public static long multiply(long rappen, long factor) {
+        return Math.multiplyExact(rappen, factor);
+    }
+
+    /**
+     * Multiplies by {@code numerator / denominator} and rounds HALF_UP to whole Rappen.
+     *
+     * For example a 2% discount is {@code multiply(amount, 2, 100)}.
+     */
+    public static long multiply(long rappen, long numerator, long denominator) {
+        return divideHalfUp(Math.multiplyExact(rappen, numerator), denominator);
+    }
+
+    /**
+     * Rounds to Swiss 5-Rappen increments, ties away from zero.
+     */
+    public static long roundTo5(long rappen) {
+        long quotient = rappen / ROUNDING_STEP;
+        long remainder = rappen % ROUNDING_STEP;
+        if (remainder >= 3) {
+            quotient++;
+        } else if (remainder <= -3) {
+            quotient--;
+        }
+        return Math.multiplyExact(quotient, ROUNDING_STEP);
+    }
+
+    /**
+     * Divides and rounds HALF_UP (ties away from zero), like {@code BigDecimal} with
+     * {@link java.math.RoundingMode#HALF_UP}.
+     */
+    public static long divideHalfUp(long dividend, long divisor) {
+        if (divisor == 0) {
+            throw new ArithmeticException("Division by zero");
+        }
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder == 0) {
+            return quotient;
+        }
+        // Compare 2*|remainder| with |divisor| without overflowing
+        long absRemainder = Math.abs(remainder);
+        long absDivisor = Math.absExact(divisor);
+        if (absRemainder >= absDivisor - absRemainder) {
+            return (dividend < 0) == (divisor < 0) ? Math.addExact(quotient, 1) : Math.subtractExact(quotient, 1);
+        }
+        return quotient;
+    }
+
+    /**
+     * Formats like {@code Money.getAmount().toPlainString()} with scale 2, e.g. {@code -12.05}.
+     */
+    public static String toPlainString(long rappen) {
+        long abs = Math.absExact(rappen);
+        long fraction = abs % 100;
+        return (rappen < 0 ? "-" : "") + (abs / 100) + (fraction < 10 ? ".0" : ".") + fraction;
+    }
+}
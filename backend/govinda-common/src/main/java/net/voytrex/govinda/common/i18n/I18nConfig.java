@@ -8,10 +8,8 @@ package net.voytrex.govinda.common.i18n;
 
 import java.util.List;
 import java.util.Locale;
-import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.support.ResourceBundleMessageSource;
 import org.springframework.web.servlet.LocaleResolver;
 import org.springframework.web.servlet.i18n.AcceptHeaderLocaleResolver;
 
@@ -25,16 +23,12 @@ import org.springframework.web.servlet.i18n.AcceptHeaderLocaleResolver;
 public class I18nConfig {
 
     /**
-     * Configures MessageSource for translation lookup.
+     * Configures the MessageSource for translation lookup as a catalog
+     * compiled once from the {@code messages*.properties} bundles.
      */
     @Bean
-    public MessageSource messageSource() {
-        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
-        messageSource.setBasename("messages");
-        messageSource.setDefaultEncoding("UTF-8");
-        messageSource.setFallbackToSystemLocale(false);
-        messageSource.setUseCodeAsDefaultMessage(true);
-        return messageSource;
+    public MessageCatalog messageSource() {
+        return MessageCatalog.load("messages");
     }
 
     /**
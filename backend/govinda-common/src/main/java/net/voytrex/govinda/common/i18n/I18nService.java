@@ -6,9 +6,12 @@
 
 package net.voytrex.govinda.common.i18n;
 
-import java.util.Locale;
+import java.util.function.Function;
+import net.voytrex.govinda.common.domain.model.Canton;
+import net.voytrex.govinda.common.domain.model.InsuranceModel;
 import net.voytrex.govinda.common.domain.model.Language;
-import org.springframework.context.MessageSource;
+import net.voytrex.govinda.common.domain.model.ProductCategory;
+import net.voytrex.govinda.common.domain.model.ProductType;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 
@@ -16,14 +19,26 @@ import org.springframework.stereotype.Service;
  * Service for internationalization and translation.
  *
  * Provides methods to translate enum codes and error messages
- * based on the user's language preference.
+ * based on the user's language preference. Enum translations are resolved
+ * to compiled {@link MessageCatalog.Message} handles once, so rendering lists
+ * and invoices costs an array load per value.
+ *
+ * <p>A {@code null} language falls back to English.</p>
  */
 @Service
 public class I18nService {
-    private final MessageSource messageSource;
+    private final MessageCatalog catalog;
+    private final MessageCatalog.Message[] cantons;
+    private final MessageCatalog.Message[] insuranceModels;
+    private final MessageCatalog.Message[] productCategories;
+    private final MessageCatalog.Message[] productTypes;
 
-    public I18nService(MessageSource messageSource) {
-        this.messageSource = messageSource;
+    public I18nService(MessageCatalog catalog) {
+        this.catalog = catalog;
+        this.cantons = compile("canton.", Canton.values(), Canton::getCode);
+        this.insuranceModels = compile("insurance.model.", InsuranceModel.values(), InsuranceModel::getCode);
+        this.productCategories = compile("product.category.", ProductCategory.values(), ProductCategory::getCode);
+        this.productTypes = compile("product.type.", ProductType.values(), ProductType::getCode);
     }
 
     /**
@@ -34,10 +49,8 @@ public class I18nService {
      * @param args optional arguments for message formatting
      * @return the translated message
      */
-    public String translate(String key, Language language, Object... args) {
-        Locale locale = toLocale(language);
-        String message = messageSource.getMessage(key, args, locale);
-        return message;
+    public String translate(String key, @Nullable Language language, Object... args) {
+        return catalog.translate(key, language, args);
     }
 
     /**
@@ -47,10 +60,17 @@ public class I18nService {
      * @param language the target language
      * @return the translated canton name
      */
-    public String translateCanton(String cantonCode, Language language) {
+    public String translateCanton(String cantonCode, @Nullable Language language) {
         return translate("canton." + cantonCode, language);
     }
 
+    /**
+     * Translates a canton to its display name without a key lookup.
+     */
+    public String translate(Canton canton, @Nullable Language language) {
+        return cantons[canton.ordinal()].text(language);
+    }
+
     /**
      * Translates an insurance model code to its display name in the specified language.
      *
@@ -58,10 +78,17 @@ public class I18nService {
      * @param language the target language
      * @return the translated insurance model name
      */
-    public String translateInsuranceModel(String modelCode, Language language) {
+    public String translateInsuranceModel(String modelCode, @Nullable Language language) {
         return translate("insurance.model." + modelCode, language);
     }
 
+    /**
+     * Translates an insurance model to its display name without a key lookup.
+     */
+    public String translate(InsuranceModel model, @Nullable Language language) {
+        return insuranceModels[model.ordinal()].text(language);
+    }
+
     /**
      * Translates a product category code to its display name in the specified language.
      *
@@ -69,10 +96,17 @@ public class I18nService {
      * @param language the target language
      * @return the translated product category name
      */
-    public String translateProductCategory(String categoryCode, Language language) {
+    public String translateProductCategory(String categoryCode, @Nullable Language language) {
         return translate("product.category." + categoryCode, language);
     }
 
+    /**
+     * Translates a product category to its display name without a key lookup.
+     */
+    public String translate(ProductCategory category, @Nullable Language language) {
+        return productCategories[category.ordinal()].text(language);
+    }
+
     /**
      * Translates a product type code to its display name in the specified language.
      *
@@ -80,10 +114,17 @@ public class I18nService {
      * @param language the target language
      * @return the translated product type name
      */
-    public String translateProductType(String typeCode, Language language) {
+    public String translateProductType(String typeCode, @Nullable Language language) {
         return translate("product.type." + typeCode, language);
     }
 
+    /**
+     * Translates a product type to its display name without a key lookup.
+     */
+    public String translate(ProductType type, @Nullable Language language) {
+        return productTypes[type.ordinal()].text(language);
+    }
+
     /**
      * Translates a language code to its display name in the specified language.
      *
@@ -91,7 +132,7 @@ public class I18nService {
      * @param targetLanguage the target language for the display name
      * @return the translated language display name
      */
-    public String translateLanguage(String languageCode, Language targetLanguage) {
+    public String translateLanguage(String languageCode, @Nullable Language targetLanguage) {
         return translate("language." + languageCode, targetLanguage);
     }
 
@@ -103,25 +144,24 @@ public class I18nService {
      * @param args optional arguments for message formatting
      * @return the translated error message
      */
-    public String translateError(String errorCode, Language language, Object... args) {
-        String key = "error." + errorCode.toLowerCase(Locale.ROOT).replace("_", ".");
-        return translate(key, language, args);
+    public String translateError(String errorCode, @Nullable Language language, Object... args) {
+        return translate(MessageCatalog.errorKey(errorCode), language, args);
     }
 
-    /**
-     * Converts a Language enum to a Java Locale.
-     *
-     * <p>If {@code language} is {@code null}, English is used as a safe fallback.</p>
-     */
-    private Locale toLocale(@Nullable Language language) {
-        if (language == null) {
-            return Locale.ENGLISH;
+    private <E extends Enum<E>> MessageCatalog.Message[] compile(
+        String prefix,
+        E[] values,
+        Function<E, String> code
+    ) {
+        MessageCatalog.Message[] compiled = new MessageCatalog.Message[values.length];
+        for (E value : values) {
+            String key = prefix + code.apply(value);
+            MessageCatalog.Message message = catalog.message(key);
+            if (message == null) {
+                throw new IllegalStateException("Missing message key: " + key);
+            }
+            compiled[value.ordinal()] = message;
         }
-        return switch (language) {
-            case DE -> Locale.GERMAN;
-            case FR -> Locale.FRENCH;
-            case IT -> Locale.ITALIAN;
-            case EN -> Locale.ENGLISH;
-        };
+        return compiled;
     }
 }
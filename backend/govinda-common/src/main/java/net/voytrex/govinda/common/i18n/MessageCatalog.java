@@ -0,0 +1,261 @@
+/*
+ * Govinda ERP - Compiled Message Catalog
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.common.i18n;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import net.voytrex.govinda.common.domain.model.Language;
+import org.springframework.context.MessageSource;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Message source that loads {@code messages*.properties} once at startup.
+ *
+ * Every key is compiled into a {@link Message} holding one text per
+ * {@link Language} (indexed by ordinal) plus the base-file text for locales
+ * outside the supported languages. Missing translations fall back to the base
+ * file, exactly like {@code ResourceBundleMessageSource}. Templates that need
+ * {@link MessageFormat} are parsed once; messages requested without arguments
+ * are returned as stored, so translating a canton or error code is a map
+ * lookup plus an array load.
+ *
+ * Semantics match the previous {@code ResourceBundleMessageSource}
+ * configuration: UTF-8 files, no system-locale fallback, the code is returned
+ * for unknown keys, and {@code MessageFormat} is only applied when arguments
+ * are given.
+ */
+public final class MessageCatalog implements MessageSource {
+    private static final int BASE = Language.values().length;
+    private static final Map<String, String> ERROR_KEYS = new ConcurrentHashMap<>();
+
+    private final Map<String, Message> messages;
+
+    private MessageCatalog(Map<String, Message> messages) {
+        this.messages = messages;
+    }
+
+    /**
+     * Loads {@code <basename>.properties} and {@code <basename>_<language>.properties}
+     * for every {@link Language} from the classpath.
+     */
+    public static MessageCatalog load(String basename) {
+        ClassLoader classLoader = MessageCatalog.class.getClassLoader();
+        Properties base = read(classLoader, basename + ".properties");
+        Properties[] translations = new Properties[BASE];
+        Set<String> keys = new HashSet<>(base.stringPropertyNames());
+        for (Language language : Language.values()) {
+            Properties properties = read(classLoader, basename + "_" + language.getCode() + ".properties");
+            translations[language.ordinal()] = properties;
+            keys.addAll(properties.stringPropertyNames());
+        }
+
+        Map<String, Message> messages = new HashMap<>(keys.size() * 2);
+        for (String key : keys) {
+            String[] texts = new String[BASE + 1];
+            texts[BASE] = base.getProperty(key);
+            for (Language language : Language.values()) {
+                String text = translations[language.ordinal()].getProperty(key);
+                texts[language.ordinal()] = text != null ? text : texts[BASE];
+            }
+            messages.put(key, new Message(key, texts));
+        }
+        return new MessageCatalog(messages);
+    }
+
+    /**
+     * Returns the compiled message for a key, or {@code null} if no file defines it.
+     * Callers translating the same key repeatedly can keep the handle.
+     */
+    @Nullable
+    public Message message(String key) {
+        return messages.get(key);
+    }
+
+    /**
+     * Translates a key, returning the key itself if it is unknown.
+     *
+     * @param language target language; {@code null} selects English
+     */
+    public String translate(String key, @Nullable Language language, @Nullable Object... args) {
+        Message message = messages.get(key);
+        if (message == null) {
+            return key;
+        }
+        return message.format(language != null ? language.ordinal() : Language.EN.ordinal(), args);
+    }
+
+    /**
+     * Maps an error code to its message key, e.g. {@code ENTITY_NOT_FOUND} to
+     * {@code error.entity.not.found}. Error codes are a small fixed set, so the
+     * mapping is computed once per code.
+     */
+    public static String errorKey(String errorCode) {
+        return ERROR_KEYS.computeIfAbsent(
+            errorCode,
+            code -> "error." + code.toLowerCase(Locale.ROOT).replace("_", ".")
+        );
+    }
+
+    @Override
+    @Nullable
+    public String getMessage(String code, @Nullable Object[] args, @Nullable String defaultMessage, Locale locale) {
+        Message message = messages.get(code);
+        if (message != null) {
+            return message.format(slot(locale), resolveArguments(args, locale));
+        }
+        if (defaultMessage == null || args == null || args.length == 0) {
+            return defaultMessage;
+        }
+        return new MessageFormat(defaultMessage, locale).format(resolveArguments(args, locale));
+    }
+
+    @Override
+    public String getMessage(String code, @Nullable Object[] args, Locale locale) {
+        Message message = messages.get(code);
+        if (message == null) {
+            return code;
+        }
+        return message.format(slot(locale), resolveArguments(args, locale));
+    }
+
+    @Override
+    public String getMessage(MessageSourceResolvable resolvable, Locale locale) {
+        String[] codes = resolvable.getCodes();
+        Object[] args = resolveArguments(resolvable.getArguments(), locale);
+        if (codes != null) {
+            for (String code : codes) {
+                Message message = messages.get(code);
+                if (message != null) {
+                    return message.format(slot(locale), args);
+                }
+            }
+        }
+        String defaultMessage = resolvable.getDefaultMessage();
+        if (defaultMessage != null) {
+            return args == null || args.length == 0
+                ? defaultMessage
+                : new MessageFormat(defaultMessage, locale).format(args);
+        }
+        if (codes != null && codes.length > 0) {
+            return codes[0];
+        }
+        throw new NoSuchMessageException("", locale);
+    }
+
+    @Nullable
+    private Object[] resolveArguments(@Nullable Object[] args, Locale locale) {
+        if (args == null || args.length == 0) {
+            return args;
+        }
+        Object[] resolved = null;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] instanceof MessageSourceResolvable resolvable) {
+                if (resolved == null) {
+                    resolved = args.clone();
+                }
+                resolved[i] = getMessage(resolvable, locale);
+            }
+        }
+        return resolved != null ? resolved : args;
+    }
+
+    private static int slot(@Nullable Locale locale) {
+        if (locale == null) {
+            return BASE;
+        }
+        return switch (locale.getLanguage()) {
+            case "de" -> Language.DE.ordinal();
+            case "fr" -> Language.FR.ordinal();
+            case "it" -> Language.IT.ordinal();
+            case "en" -> Language.EN.ordinal();
+            default -> BASE;
+        };
+    }
+
+    private static Properties read(ClassLoader classLoader, String resource) {
+        Properties properties = new Properties();
+        try (InputStream in = classLoader.getResourceAsStream(resource)) {
+            if (in != null) {
+                try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                    properties.load(reader);
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to load " + resource, ex);
+        }
+        return properties;
+    }
+
+    /**
+     * A compiled message: one text and, where needed, one parsed template per language.
+     */
+    public static final class Message {
+        private final String key;
+        private final String[] texts;
+        /** Parsed templates; {@code null} where formatting cannot change the text. */
+        private final MessageFormat[] formats;
+
+        private Message(String key, String[] texts) {
+            this.key = key;
+            this.texts = texts;
+            this.formats = new MessageFormat[texts.length];
+            for (int i = 0; i < texts.length; i++) {
+                String text = texts[i];
+                if (text != null && (text.indexOf('{') >= 0 || text.indexOf('\'') >= 0)) {
+                    Locale locale = i == BASE ? Locale.ROOT : Locale.of(Language.values()[i].getCode());
+                    formats[i] = new MessageFormat(text, locale);
+                }
+            }
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        /**
+         * Text for a language without formatting; {@code null} selects English.
+         */
+        public String text(@Nullable Language language) {
+            return text(language != null ? language.ordinal() : Language.EN.ordinal());
+        }
+
+        /**
+         * Text for a language formatted with {@code args}; {@code null} selects English.
+         */
+        public String format(@Nullable Language language, @Nullable Object... args) {
+            return format(language != null ? language.ordinal() : Language.EN.ordinal(), args);
+        }
+
+        private String text(int slot) {
+            String text = texts[slot];
+            return text != null ? text : key;
+        }
+
+        private String format(int slot, @Nullable Object[] args) {
+            MessageFormat format = formats[slot];
+            if (format == null || args == null || args.length == 0) {
+                return text(slot);
+            }
+            // MessageFormat is not thread-safe; cloning is far cheaper than re-parsing.
+            return ((MessageFormat) format.clone()).format(args);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Govinda ERP - Batch Checkpoint
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.common.infrastructure.batch;
+
+import java.util.UUID;
+import org.springframework.lang.Nullable;
+
+/**
+ * Progress of one partition of a batch run.
+ *
+ * @param lastKey   id of the last processed row; {@code null} before the first chunk
+ * @param processed rows processed in this partition so far
+ * @param completed whether the partition has been fully processed
+ */
+public record BatchCheckpoint(
+    UUID runId,
+    String partitionKey,
+    @Nullable UUID lastKey,
+    long processed,
+    boolean completed
+) {
+
+    public static BatchCheckpoint start(UUID runId, String partitionKey) {
+        return new BatchCheckpoint(runId, partitionKey, null, 0, false);
+    }
+
+    /**
+     * Checkpoint after another committed chunk.
+     */
+    public BatchCheckpoint advance(UUID newLastKey, int chunkSize) {
+        return new BatchCheckpoint(runId, partitionKey, newLastKey, processed + chunkSize, false);
+    }
+
+    public BatchCheckpoint complete() {
+        return new BatchCheckpoint(runId, partitionKey, lastKey, processed, true);
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Govinda ERP - Batch Run
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.common.infrastructure.batch;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * An execution of a batch job together with the checkpoints of earlier attempts.
+ *
+ * @param checkpoints checkpoints by partition key; empty for a new run
+ */
+public record BatchRun(UUID id, String jobName, String runKey, Map<String, BatchCheckpoint> checkpoints) {
+
+    public boolean isResumed() {
+        return !checkpoints.isEmpty();
+    }
+
+    /**
+     * Checkpoint of a partition, or a fresh one if the partition was never started.
+     */
+    public BatchCheckpoint checkpoint(String partitionKey) {
+        BatchCheckpoint checkpoint = checkpoints.get(partitionKey);
+        return checkpoint != null ? checkpoint : BatchCheckpoint.start(id, partitionKey);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Govinda ERP - Batch Run Store
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.common.infrastructure.batch;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Persists batch runs and their partition checkpoints.
+ *
+ * A job calls {@link #startOrResume(String, String)} once, then
+ * {@link #checkpoint(BatchCheckpoint)} in the same transaction that writes the
+ * results of a chunk. A run that crashed or failed is therefore resumed from
+ * its last committed chunk instead of starting over; the partial unique index
+ * on {@code batch_run} keeps a second node from starting the same run.
+ */
+@Component
+public class BatchRunStore {
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BatchRunStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Returns the unfinished run of a job for a key with its checkpoints, or
+     * starts a new run if there is none.
+     */
+    @Transactional
+    public BatchRun startOrResume(String jobName, String runKey) {
+        List<UUID> open = jdbcTemplate.queryForList(
+            "SELECT id FROM batch_run WHERE job_name = ? AND run_key = ? AND status <> 'COMPLETED' FOR UPDATE",
+            UUID.class,
+            jobName,
+            runKey
+        );
+        if (open.isEmpty()) {
+            UUID runId = UUID.randomUUID();
+            jdbcTemplate.update(
+                "INSERT INTO batch_run (id, job_name, run_key, status) VALUES (?, ?, ?, 'RUNNING')",
+                runId,
+                jobName,
+                runKey
+            );
+            return new BatchRun(runId, jobName, runKey, Map.of());
+        }
+        UUID runId = open.get(0);
+        jdbcTemplate.update(
+            "UPDATE batch_run SET status = 'RUNNING', error_message = NULL, finished_at = NULL WHERE id = ?",
+            runId
+        );
+        return new BatchRun(runId, jobName, runKey, checkpoints(runId));
+    }
+
+    /**
+     * Writes a partition checkpoint; call it inside the transaction of the chunk it covers.
+     */
+    public void checkpoint(BatchCheckpoint checkpoint) {
+        jdbcTemplate.update(
+            """
+            INSERT INTO batch_checkpoint (run_id, partition_key, last_key, processed, completed, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (run_id, partition_key) DO UPDATE
+            SET last_key = EXCLUDED.last_key,
+                processed = EXCLUDED.processed,
+                completed = EXCLUDED.completed,
+                updated_at = EXCLUDED.updated_at
+            """,
+            checkpoint.runId(),
+            checkpoint.partitionKey(),
+            checkpoint.lastKey(),
+            checkpoint.processed(),
+            checkpoint.completed(),
+            Timestamp.from(Instant.now())
+        );
+    }
+
+    public void complete(UUID runId, long processed) {
+        jdbcTemplate.update(
+            "UPDATE batch_run SET status = 'COMPLETED', processed = ?, finished_at = NOW() WHERE id = ?",
+            processed,
+            runId
+        );
+    }
+
+    public void fail(UUID runId, String errorMessage) {
+        String message = errorMessage.length() > MAX_ERROR_LENGTH
+            ? errorMessage.substring(0, MAX_ERROR_LENGTH)
+            : errorMessage;
+        jdbcTemplate.update(
+            "UPDATE batch_run SET status = 'FAILED', error_message = ?, finished_at = NOW() WHERE id = ?",
+            message,
+            runId
+        );
+    }
+
+    private Map<String, BatchCheckpoint> checkpoints(UUID runId) {
+        Map<String, BatchCheckpoint> checkpoints = new HashMap<>();
+        jdbcTemplate.query(
+            "SELECT partition_key, last_key, processed, completed FROM batch_checkpoint WHERE run_id = ?",
+            resultSet -> {
+                String partitionKey = resultSet.getString("partition_key");
+                checkpoints.put(partitionKey, new BatchCheckpoint(
+                    runId,
+                    partitionKey,
+                    resultSet.getObject("last_key", UUID.class),
+                    resultSet.getLong("processed"),
+                    resultSet.getBoolean("completed")
+                ));
+            },
+            runId
+        );
+        return checkpoints;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Govinda ERP - Chunked Batch Runner
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.common.infrastructure.batch;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs a batch job whose work is split into chunks processed concurrently on
+ * virtual threads.
+ *
+ * {@link #run(String, BatchJob)} starts or resumes the run of a key and marks
+ * it failed if the job throws. {@link #process(ChunkSource, ChunkProcessor,
+ * Consumer)} submits the chunks a source produces; at most
+ * {@code parallelism} chunks are in flight and the source waits for a free
+ * slot, which bounds the connections used and the chunk input held in
+ * memory. The result of every chunk is kept until the source is exhausted
+ * and then merged in submission order on the calling thread, so results
+ * should be small summaries such as counts, not the processed records. A
+ * failed chunk does not cancel the others, so every chunk that can commit
+ * does and a rerun resumes after them; the first failure is rethrown.
+ *
+ * Jobs supply only where their chunks come from, how one is processed and
+ * how the results add up; checkpoints stay with the chunk processor, which
+ * writes them in the transaction of its chunk.
+ */
+public final class ChunkedBatchRunner {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChunkedBatchRunner.class);
+
+    private final BatchRunStore batchRunStore;
+    private final String jobName;
+    private final int parallelism;
+
+    public ChunkedBatchRunner(BatchRunStore batchRunStore, String jobName, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        this.batchRunStore = batchRunStore;
+        this.jobName = jobName;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Executes the job for the unfinished run of a key, or a new run.
+     *
+     * @throws UncheckedIOException if the job could not read its input; the run is marked failed
+     */
+    public <T> T run(String runKey, BatchJob<T> job) {
+        BatchRun run = batchRunStore.startOrResume(jobName, runKey);
+        try {
+            return job.execute(run);
+        } catch (IOException ex) {
+            batchRunStore.fail(run.id(), String.valueOf(ex.getMessage()));
+            throw new UncheckedIOException("Could not read input of " + jobName + " " + runKey, ex);
+        } catch (RuntimeException ex) {
+            batchRunStore.fail(run.id(), String.valueOf(ex.getMessage()));
+            throw ex;
+        }
+    }
+
+    /**
+     * Processes every chunk of the source and merges the results.
+     *
+     * @param merge receives the result of each chunk, in submission order
+     * @return the number of chunks processed
+     * @throws IOException if the source could not be read; submitted chunks are finished first
+     */
+    public <C, R> int process(
+        ChunkSource<C> source,
+        ChunkProcessor<C, R> processor,
+        Consumer<? super R> merge
+    ) throws IOException {
+        Map<String, Future<R>> pending = new LinkedHashMap<>();
+        Semaphore permits = new Semaphore(parallelism);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            source.read((key, chunk) -> {
+                acquire(permits);
+                pending.put(key, executor.submit(() -> {
+                    try {
+                        return processor.process(key, chunk);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            });
+
+            RuntimeException failure = null;
+            for (Map.Entry<String, Future<R>> entry : pending.entrySet()) {
+                try {
+                    merge.accept(entry.getValue().get());
+                } catch (ExecutionException ex) {
+                    LOGGER.error("{} {} failed", jobName, entry.getKey(), ex.getCause());
+                    if (failure == null) {
+                        failure = ex.getCause() instanceof RuntimeException cause
+                            ? cause
+                            : new IllegalStateException("Chunk " + entry.getKey() + " failed", ex.getCause());
+                    }
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(jobName + " interrupted", ex);
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+        return pending.size();
+    }
+
+    private void acquire(Semaphore permits) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(jobName + " interrupted", ex);
+        }
+    }
+
+    /**
+     * Body of a batch run.
+     */
+    @FunctionalInterface
+    public interface BatchJob<T> {
+        T execute(BatchRun run) throws IOException;
+    }
+
+    /**
+     * Produces the chunks of a run, each under a key unique within the run.
+     */
+    @FunctionalInterface
+    public interface ChunkSource<C> {
+        void read(ChunkSink<C> sink) throws IOException;
+    }
+
+    /**
+     * Accepts chunks for processing; blocks while all slots are taken.
+     */
+    @FunctionalInterface
+    public interface ChunkSink<C> {
+        void submit(String key, C chunk);
+    }
+
+    /**
+     * Processes one chunk on a worker thread.
+     */
+    @FunctionalInterface
+    public interface ChunkProcessor<C, R> {
+        R process(String key, C chunk);
+    }
+}
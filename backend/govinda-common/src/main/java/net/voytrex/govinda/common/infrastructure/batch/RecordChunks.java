@@ -0,0 +1,164 @@
+/*
+ * Govinda ERP - Record Chunks
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.common.infrastructure.batch;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Chunk source over a sequential input such as an import file, for the
+ * {@link ChunkedBatchRunner}.
+ *
+ * Records are numbered from 1 in reading order. Each chunk is checkpointed
+ * under the range of record numbers it covers, see {@link #key(long, long)},
+ * not under its position. A resumed run skips exactly the records inside
+ * completed ranges, so changing the chunk size between a failed run and its
+ * resume neither skips records that were never applied nor applies
+ * committed ones again. Chunks never span a completed range.
+ */
+public final class RecordChunks<T> implements ChunkedBatchRunner.ChunkSource<RecordChunks.Chunk<T>> {
+    private static final String KEY_PREFIX = "records-";
+
+    private final RecordReader<T> reader;
+    private final int chunkSize;
+    /** Completed ranges as inclusive record numbers, sorted and merged. */
+    private final long[] completedFrom;
+    private final long[] completedTo;
+    private final int completedChunks;
+    private int chunks;
+    private long skippedRecords;
+
+    public RecordChunks(BatchRun run, int chunkSize, RecordReader<T> reader) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunk size must be positive");
+        }
+        this.reader = reader;
+        this.chunkSize = chunkSize;
+        List<long[]> ranges = new ArrayList<>();
+        for (BatchCheckpoint checkpoint : run.checkpoints().values()) {
+            long[] range = range(checkpoint);
+            if (range != null) {
+                ranges.add(range);
+            }
+        }
+        ranges.sort(Comparator.comparingLong(range -> range[0]));
+        long[] from = new long[ranges.size()];
+        long[] to = new long[ranges.size()];
+        int merged = 0;
+        for (long[] range : ranges) {
+            if (merged > 0 && range[0] <= to[merged - 1] + 1) {
+                to[merged - 1] = Math.max(to[merged - 1], range[1]);
+            } else {
+                from[merged] = range[0];
+                to[merged] = range[1];
+                merged++;
+            }
+        }
+        this.completedFrom = Arrays.copyOf(from, merged);
+        this.completedTo = Arrays.copyOf(to, merged);
+        this.completedChunks = ranges.size();
+    }
+
+    /**
+     * Checkpoint key of the chunk holding records {@code firstRecord} to
+     * {@code lastRecord}, both inclusive.
+     */
+    public static String key(long firstRecord, long lastRecord) {
+        return KEY_PREFIX + firstRecord + "-" + lastRecord;
+    }
+
+    @Override
+    public void read(ChunkedBatchRunner.ChunkSink<Chunk<T>> sink) throws IOException {
+        int range = 0;
+        long recordNumber = 0;
+        long firstRecord = 0;
+        List<T> chunk = new ArrayList<>(chunkSize);
+        for (T record = reader.next(); record != null; record = reader.next()) {
+            recordNumber++;
+            while (range < completedTo.length && completedTo[range] < recordNumber) {
+                range++;
+            }
+            if (range < completedFrom.length && completedFrom[range] <= recordNumber) {
+                skippedRecords++;
+                chunk = submit(sink, firstRecord, chunk);
+                continue;
+            }
+            if (chunk.isEmpty()) {
+                firstRecord = recordNumber;
+            }
+            chunk.add(record);
+            if (chunk.size() == chunkSize) {
+                chunk = submit(sink, firstRecord, chunk);
+            }
+        }
+        submit(sink, firstRecord, chunk);
+    }
+
+    /**
+     * Chunks submitted by {@link #read(ChunkedBatchRunner.ChunkSink)}.
+     */
+    public int chunks() {
+        return chunks;
+    }
+
+    /**
+     * Chunks committed by earlier attempts of the run.
+     */
+    public int completedChunks() {
+        return completedChunks;
+    }
+
+    /**
+     * Records skipped because earlier attempts committed them.
+     */
+    public long skippedRecords() {
+        return skippedRecords;
+    }
+
+    private List<T> submit(ChunkedBatchRunner.ChunkSink<Chunk<T>> sink, long firstRecord, List<T> chunk) {
+        if (chunk.isEmpty()) {
+            return chunk;
+        }
+        chunks++;
+        sink.submit(key(firstRecord, firstRecord + chunk.size() - 1), new Chunk<>(firstRecord, chunk));
+        return new ArrayList<>(chunkSize);
+    }
+
+    @Nullable
+    private static long[] range(BatchCheckpoint checkpoint) {
+        String key = checkpoint.partitionKey();
+        int separator = key.indexOf('-', KEY_PREFIX.length());
+        if (!checkpoint.completed() || !key.startsWith(KEY_PREFIX) || separator < 0) {
+            return null;
+        }
+        return new long[] {
+            Long.parseLong(key.substring(KEY_PREFIX.length(), separator)),
+            Long.parseLong(key.substring(separator + 1))
+        };
+    }
+
+    /**
+     * Records of one chunk.
+     *
+     * @param firstRecord number of the first record, counted from 1
+     */
+    public record Chunk<T>(long firstRecord, List<T> records) {
+    }
+
+    /**
+     * Reads the next record, or {@code null} at the end of the input.
+     */
+    @FunctionalInterface
+    public interface RecordReader<T> {
+        @Nullable
+        T next() throws IOException;
+    }
+}
@@ -0,0 +1,6 @@
+@NonNullApi
+@NonNullFields
+package net.voytrex.govinda.common.infrastructure.batch;
+
+import org.springframework.lang.NonNullApi;
+import org.springframework.lang.NonNullFields;
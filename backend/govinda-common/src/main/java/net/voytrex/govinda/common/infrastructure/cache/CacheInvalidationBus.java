@@ -0,0 +1,144 @@
+/*
+ * Govinda ERP - Cache Invalidation Bus
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.common.infrastructure.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps {@link LocalCache} instances and other {@link CacheInvalidationTarget}s
+ * coherent across application nodes.
+ *
+ * Invalidations are sent with {@code pg_notify} on the caller's connection.
+ * PostgreSQL only delivers notifications when the surrounding transaction
+ * commits, so other nodes never evict for a write that was rolled back.
+ * The local eviction is deferred to after commit for the same reason.
+ *
+ * Remote messages arrive through {@link CacheInvalidationListener}.
+ */
+@Component
+public class CacheInvalidationBus {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String channel;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, CacheInvalidationTarget> caches = new ConcurrentHashMap<>();
+
+    public CacheInvalidationBus(
+        JdbcTemplate jdbcTemplate,
+        @Value("${govinda.cache.invalidation.channel:govinda_cache_invalidation}") String channel
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.channel = CacheInvalidationListener.requireValidChannel(channel);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    /**
+     * Registers a cache so that it receives local and remote invalidations.
+     */
+    public <T extends CacheInvalidationTarget> T register(T cache) {
+        CacheInvalidationTarget existing = caches.putIfAbsent(cache.getName(), cache);
+        if (existing != null && existing != cache) {
+            throw new IllegalStateException("Cache already registered: " + cache.getName());
+        }
+        return cache;
+    }
+
+    /**
+     * Evicts one entry on every node once the current transaction commits.
+     */
+    public void invalidate(String cacheName, Object key) {
+        publish(new CacheInvalidationMessage(nodeId, cacheName, key.toString()));
+    }
+
+    /**
+     * Evicts all entries of a cache on every node once the current transaction commits.
+     */
+    public void invalidateAll(String cacheName) {
+        publish(new CacheInvalidationMessage(nodeId, cacheName, null));
+    }
+
+    /**
+     * Applies a notification received from the database.
+     *
+     * Messages sent by this node are ignored; they were applied locally after commit.
+     */
+    public void onNotification(@Nullable String payload) {
+        CacheInvalidationMessage.parse(payload).ifPresentOrElse(
+            message -> {
+                if (!nodeId.equals(message.nodeId())) {
+                    evictLocally(message);
+                }
+            },
+            () -> LOGGER.warn("Ignoring malformed cache invalidation payload: {}", payload)
+        );
+    }
+
+    /**
+     * Clears every registered cache, e.g. after the listener lost its connection
+     * and may have missed notifications.
+     */
+    public void evictAllLocally() {
+        caches.values().forEach(CacheInvalidationTarget::evictAll);
+    }
+
+    private void publish(CacheInvalidationMessage message) {
+        CacheInvalidationMessage effective = message;
+        if (message.toPayload().getBytes(StandardCharsets.UTF_8).length > CacheInvalidationMessage.MAX_PAYLOAD_BYTES) {
+            effective = new CacheInvalidationMessage(nodeId, message.cacheName(), null);
+        }
+        String payload = effective.toPayload();
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", resultSet -> null, channel, payload);
+
+        CacheInvalidationMessage toEvict = effective;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictLocally(toEvict);
+                }
+            });
+        } else {
+            evictLocally(toEvict);
+        }
+    }
+
+    private void evictLocally(CacheInvalidationMessage message) {
+        CacheInvalidationTarget cache = caches.get(message.cacheName());
+        if (cache == null) {
+            return;
+        }
+        if (message.isEvictAll()) {
+            cache.evictAll();
+        } else {
+            try {
+                cache.evictSerializedKey(message.key());
+            } catch (RuntimeException e) {
+                LOGGER.warn("Could not parse key '{}' for cache {}, evicting all", message.key(), cache.getName());
+                cache.evictAll();
+            }
+        }
+    }
+}
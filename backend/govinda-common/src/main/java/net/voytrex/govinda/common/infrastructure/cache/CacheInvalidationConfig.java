@@ -0,0 +1,40 @@
+/*
+ * Govinda ERP - Cache Invalidation Configuration
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.common.infrastructure.cache;
+
+import java.sql.DriverManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Starts the cross-node cache invalidation listener.
+ *
+ * Disable with {@code govinda.cache.invalidation.enabled=false}, e.g. for
+ * single-node setups without PostgreSQL.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "govinda.cache.invalidation", name = "enabled", havingValue = "true",
+    matchIfMissing = true)
+public class CacheInvalidationConfig {
+
+    @Bean
+    public CacheInvalidationListener cacheInvalidationListener(
+        CacheInvalidationBus cacheInvalidationBus,
+        DataSourceProperties dataSourceProperties
+    ) {
+        return new CacheInvalidationListener(
+            cacheInvalidationBus,
+            () -> DriverManager.getConnection(
+                dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword()
+            )
+        );
+    }
+}
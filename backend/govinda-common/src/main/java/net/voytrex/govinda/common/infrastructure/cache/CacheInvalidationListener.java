@@ -0,0 +1,129 @@
+/*
+ * Govinda ERP - Cache Invalidation Listener
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.common.infrastructure.cache;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.regex.Pattern;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Listens for cache invalidations on a dedicated PostgreSQL connection.
+ *
+ * The connection is opened outside the connection pool because it stays
+ * in LISTEN mode for the lifetime of the application. If it drops, all
+ * registered caches are cleared after reconnecting, since notifications
+ * sent in the meantime are lost.
+ */
+public class CacheInvalidationListener implements SmartLifecycle {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CacheInvalidationListener.class);
+    private static final Pattern CHANNEL_PATTERN = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+    private static final int POLL_TIMEOUT_MILLIS = 500;
+    private static final long MAX_BACKOFF_MILLIS = 30_000L;
+
+    private final CacheInvalidationBus bus;
+    private final ConnectionFactory connectionFactory;
+    private volatile boolean running;
+    private Thread worker;
+
+    /**
+     * Opens the dedicated listener connection.
+     */
+    @FunctionalInterface
+    public interface ConnectionFactory {
+        Connection connect() throws SQLException;
+    }
+
+    public CacheInvalidationListener(CacheInvalidationBus bus, ConnectionFactory connectionFactory) {
+        this.bus = bus;
+        this.connectionFactory = connectionFactory;
+    }
+
+    /**
+     * Channel names are interpolated into {@code LISTEN}, so only plain identifiers are accepted.
+     */
+    static String requireValidChannel(String channel) {
+        if (channel == null || !CHANNEL_PATTERN.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid cache invalidation channel: " + channel);
+        }
+        return channel;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker = Thread.ofPlatform()
+            .name("cache-invalidation-listener")
+            .daemon(true)
+            .start(this::listenLoop);
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(POLL_TIMEOUT_MILLIS * 4L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            worker = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listenLoop() {
+        long backoff = POLL_TIMEOUT_MILLIS;
+        while (running) {
+            try (Connection connection = connectionFactory.connect()) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + bus.getChannel());
+                }
+                LOGGER.info("Listening for cache invalidations on channel {}", bus.getChannel());
+                bus.evictAllLocally();
+                backoff = POLL_TIMEOUT_MILLIS;
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            bus.onNotification(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                LOGGER.warn("Cache invalidation listener disconnected, retrying in {} ms: {}", backoff, e.getMessage());
+                sleepQuietly(backoff);
+                backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Govinda ERP - Cache Invalidation Message
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.common.infrastructure.cache;
+
+import java.util.Optional;
+import org.springframework.lang.Nullable;
+
+/**
+ * Payload sent over the PostgreSQL notification channel.
+ *
+ * Wire format: {@code nodeId|cacheName|key}. A {@code null} key means
+ * the whole cache is evicted and is encoded as {@value #ALL_KEYS}.
+ */
+public record CacheInvalidationMessage(String nodeId, String cacheName, @Nullable String key) {
+    public static final char SEPARATOR = '|';
+    public static final String ALL_KEYS = "*";
+
+    /**
+     * PostgreSQL rejects NOTIFY payloads of 8000 bytes or more.
+     */
+    public static final int MAX_PAYLOAD_BYTES = 7999;
+
+    public boolean isEvictAll() {
+        return key == null;
+    }
+
+    public String toPayload() {
+        return nodeId + SEPARATOR + cacheName + SEPARATOR + (key == null ? ALL_KEYS : key);
+    }
+
+    /**
+     * Parses a notification payload; malformed payloads yield an empty result.
+     */
+    public static Optional<CacheInvalidationMessage> parse(@Nullable String payload) {
+        if (payload == null) {
+            return Optional.empty();
+        }
+        int first = payload.indexOf(SEPARATOR);
+        int second = first < 0 ? -1 : payload.indexOf(SEPARATOR, first + 1);
+        if (first <= 0 || second <= first + 1 || second == payload.length() - 1) {
+            return Optional.empty();
+        }
+        String key = payload.substring(second + 1);
+        return Optional.of(new CacheInvalidationMessage(
+            payload.substring(0, first),
+            payload.substring(first + 1, second),
+            ALL_KEYS.equals(key) ? null : key
+        ));
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Govinda ERP - Cache Invalidation Target
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.common.infrastructure.cache;
+
+/**
+ * Anything holding derived state that the {@link CacheInvalidationBus} can evict.
+ *
+ * {@link LocalCache} is the usual implementation; components with their own
+ * read-optimized structures implement it directly.
+ */
+public interface CacheInvalidationTarget {
+
+    /**
+     * Name the invalidations are addressed to; unique per bus.
+     */
+    String getName();
+
+    /**
+     * Evicts the state derived for a key in its string form.
+     */
+    void evictSerializedKey(String serializedKey);
+
+    void evictAll();
+}
@@ -0,0 +1,131 @@
+/*
+ * Govinda ERP - Local Cache
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.common.infrastructure.cache;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.springframework.lang.Nullable;
+
+/**
+ * In-process cache that can be invalidated across nodes.
+ *
+ * Keys travel between nodes in their string form, so every cache
+ * needs a parser that turns the string back into a key.
+ *
+ * Register instances with {@link CacheInvalidationBus#register(CacheInvalidationTarget)}
+ * so that writes on any node evict the entry everywhere.
+ *
+ * Every eviction advances a generation. A value loaded on a miss is only
+ * kept if no eviction happened while it was loaded, since the loader may
+ * have read the state before the write that caused the eviction.
+ */
+public class LocalCache<K, V> implements CacheInvalidationTarget {
+    private final String name;
+    private final Function<String, K> keyParser;
+    private final ConcurrentMap<K, V> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public LocalCache(String name, Function<String, K> keyParser) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Cache name must not be blank");
+        }
+        if (name.indexOf(CacheInvalidationMessage.SEPARATOR) >= 0) {
+            throw new IllegalArgumentException("Cache name must not contain '" + CacheInvalidationMessage.SEPARATOR + "'");
+        }
+        this.name = name;
+        this.keyParser = Objects.requireNonNull(keyParser, "Key parser must not be null");
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the cached value, loading it on a miss.
+     *
+     * The loader may return {@code null}; such results are not cached.
+     * Neither are results loaded while an eviction arrived: they are returned
+     * to the caller, and the next call loads again.
+     */
+    @Nullable
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V cached = entries.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        long loadedGeneration = generation.get();
+        V loaded = loader.apply(key);
+        if (loaded != null && entries.putIfAbsent(key, loaded) == null && generation.get() != loadedGeneration) {
+            // An eviction may have run between the check and the put
+            entries.remove(key, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Current eviction generation. Callers that load values themselves, e.g.
+     * in bulk, take it before reading and pass it to {@link #putLoaded}.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Caches a value read after {@code loadedGeneration} was taken, unless an
+     * eviction arrived since.
+     *
+     * @return whether the value was cached
+     */
+    public boolean putLoaded(K key, V value, long loadedGeneration) {
+        if (generation.get() != loadedGeneration) {
+            return false;
+        }
+        entries.put(key, value);
+        if (generation.get() != loadedGeneration) {
+            entries.remove(key, value);
+            return false;
+        }
+        return true;
+    }
+
+    @Nullable
+    public V getIfPresent(K key) {
+        return entries.get(key);
+    }
+
+    public void put(K key, V value) {
+        entries.put(key, value);
+    }
+
+    public void evict(K key) {
+        generation.incrementAndGet();
+        entries.remove(key);
+    }
+
+    /**
+     * Evicts the entry for a key received from another node.
+     */
+    @Override
+    public void evictSerializedKey(String serializedKey) {
+        generation.incrementAndGet();
+        entries.remove(keyParser.apply(serializedKey));
+    }
+
+    @Override
+    public void evictAll() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+}
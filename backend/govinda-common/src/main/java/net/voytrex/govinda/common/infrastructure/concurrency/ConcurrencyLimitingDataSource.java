@@ -0,0 +1,150 @@
+/*
+ * Govinda ERP - Concurrency Limiting DataSource
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.common.infrastructure.concurrency;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Bounds the number of threads that may hold a database connection at once.
+ *
+ * With virtual threads, the request count is no longer capped by the Tomcat
+ * pool, so thousands of requests can reach the connection pool at the same
+ * time. Instead of letting all of them contend inside Hikari until its
+ * connection timeout fires, callers wait in a fair semaphore sized to the
+ * pool. A permit is held from {@code getConnection()} until the returned
+ * connection is closed.
+ */
+public class ConcurrencyLimitingDataSource extends DelegatingDataSource {
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final Duration acquireTimeout;
+    private final LongAdder rejected = new LongAdder();
+
+    public ConcurrencyLimitingDataSource(DataSource target, int maxPermits, Duration acquireTimeout) {
+        super(target);
+        if (maxPermits < 1) {
+            throw new IllegalArgumentException("maxPermits must be positive: " + maxPermits);
+        }
+        this.maxPermits = maxPermits;
+        this.permits = new Semaphore(maxPermits, true);
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return guard(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return guard(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public int getMaxPermits() {
+        return maxPermits;
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int getQueueLength() {
+        return permits.getQueueLength();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    private void acquire() throws SQLException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database permit", e);
+        }
+        if (!acquired) {
+            rejected.increment();
+            throw new SQLTransientConnectionException(
+                "No database permit available within " + acquireTimeout.toMillis() + " ms ("
+                    + maxPermits + " permits, " + permits.getQueueLength() + " waiting)"
+            );
+        }
+    }
+
+    private Connection guard(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+            ConcurrencyLimitingDataSource.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            new PermitReleasingHandler(connection)
+        );
+    }
+
+    /**
+     * Releases the permit exactly once when the connection is closed.
+     */
+    private final class PermitReleasingHandler implements InvocationHandler {
+        private final Connection target;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        PermitReleasingHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if ("close".equals(name)) {
+                try {
+                    target.close();
+                } finally {
+                    if (released.compareAndSet(false, true)) {
+                        permits.release();
+                    }
+                }
+                return null;
+            }
+            if ("equals".equals(name)) {
+                return proxy == args[0];
+            }
+            if ("hashCode".equals(name)) {
+                return System.identityHashCode(proxy);
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
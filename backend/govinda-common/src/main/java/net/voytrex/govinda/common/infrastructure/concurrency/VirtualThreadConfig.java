@@ -0,0 +1,135 @@
+/*
+ * Govinda ERP - Virtual Thread Configuration
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.common.infrastructure.concurrency;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.SQLException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.Nullable;
+
+/**
+ * Virtual-thread execution mode.
+ *
+ * Enabled with {@code spring.threads.virtual.enabled=true}, which makes
+ * Spring Boot run Tomcat requests and the application task executor on
+ * virtual threads. Because requests are then no longer limited by the
+ * servlet thread pool, this configuration adds a database concurrency
+ * limiter in front of the connection pool and a monitor for carrier
+ * thread pinning.
+ *
+ * Only the primary pool (bean {@code dataSource} by default) is limited.
+ * The limiter is a {@code DelegatingDataSource}, which Spring Boot's
+ * {@code DataSourceUnwrapper} sees through, so Hikari metrics and health
+ * still bind to the pool behind it.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor concurrencyLimitingDataSourcePostProcessor(
+        @Value("${govinda.datasource.concurrency-limit.bean-name:dataSource}") String beanName,
+        @Value("${govinda.datasource.concurrency-limit.permits:0}") int permits,
+        @Value("${govinda.datasource.concurrency-limit.acquire-timeout:30s}") Duration acquireTimeout
+    ) {
+        return new ConcurrencyLimitingPostProcessor(beanName, permits, acquireTimeout);
+    }
+
+    @Bean
+    public MeterBinder concurrencyLimitingDataSourceMetrics(DataSource dataSource) {
+        return registry -> {
+            ConcurrencyLimitingDataSource limiter = unwrapLimiter(dataSource);
+            if (limiter == null) {
+                return;
+            }
+            Gauge.builder("govinda.datasource.permits.available", limiter,
+                    ConcurrencyLimitingDataSource::getAvailablePermits)
+                .description("Database permits currently available")
+                .register(registry);
+            Gauge.builder("govinda.datasource.permits.waiting", limiter,
+                    ConcurrencyLimitingDataSource::getQueueLength)
+                .description("Threads waiting for a database permit")
+                .register(registry);
+            FunctionCounter.builder("govinda.datasource.permits.rejected", limiter,
+                    ConcurrencyLimitingDataSource::getRejectedCount)
+                .description("Requests that timed out waiting for a database permit")
+                .register(registry);
+        };
+    }
+
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+        ObjectProvider<MeterRegistry> meterRegistry,
+        @Value("${govinda.virtual-threads.pinning-threshold:20ms}") Duration threshold
+    ) {
+        return new VirtualThreadPinningMonitor(meterRegistry.getIfAvailable(SimpleMeterRegistry::new), threshold);
+    }
+
+    static int resolvePermits(DataSource dataSource, int configuredPermits) {
+        if (configuredPermits > 0) {
+            return configuredPermits;
+        }
+        if (dataSource instanceof HikariDataSource hikari) {
+            return hikari.getMaximumPoolSize();
+        }
+        throw new IllegalStateException(
+            "Cannot derive the pool size of " + dataSource.getClass().getName()
+                + "; set govinda.datasource.concurrency-limit.permits"
+        );
+    }
+
+    @Nullable
+    private static ConcurrencyLimitingDataSource unwrapLimiter(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(ConcurrencyLimitingDataSource.class)
+                ? dataSource.unwrap(ConcurrencyLimitingDataSource.class)
+                : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Wraps the primary pool in a {@link ConcurrencyLimitingDataSource},
+     * leaving other data sources alone.
+     */
+    static final class ConcurrencyLimitingPostProcessor implements BeanPostProcessor {
+        private final String beanName;
+        private final int permits;
+        private final Duration acquireTimeout;
+
+        ConcurrencyLimitingPostProcessor(String beanName, int permits, Duration acquireTimeout) {
+            this.beanName = beanName;
+            this.permits = permits;
+            this.acquireTimeout = acquireTimeout;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String name) {
+            if (beanName.equals(name) && bean instanceof DataSource dataSource
+                && !(bean instanceof ConcurrencyLimitingDataSource)) {
+                return new ConcurrencyLimitingDataSource(
+                    dataSource, resolvePermits(dataSource, permits), acquireTimeout
+                );
+            }
+            return bean;
+        }
+    }
+}
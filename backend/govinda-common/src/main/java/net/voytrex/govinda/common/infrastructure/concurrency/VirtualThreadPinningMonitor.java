@@ -0,0 +1,122 @@
+/*
+ * Govinda ERP - Virtual Thread Pinning Monitor
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.common.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Reports virtual threads that stay pinned to their carrier thread.
+ *
+ * A virtual thread that blocks inside a {@code synchronized} block or a
+ * native frame cannot unmount, so it occupies one of the few carrier threads.
+ * This monitor subscribes to the JFR {@code jdk.VirtualThreadPinned} event
+ * and records each occurrence above the threshold as
+ * {@code govinda.virtual-threads.pinned}, tagged with the first Govinda frame
+ * on the stack. Each new site is logged once with its stack.
+ */
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+    static final String EVENT_NAME = "jdk.VirtualThreadPinned";
+    static final String METER_NAME = "govinda.virtual-threads.pinned";
+    static final String UNKNOWN_SITE = "unknown";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String APPLICATION_PACKAGE = "net.voytrex.govinda.";
+    private static final int LOGGED_FRAMES = 12;
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry, Duration threshold) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (stream != null) {
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(EVENT_NAME).withThreshold(threshold).withStackTrace();
+        stream.onEvent(EVENT_NAME, this::onPinned);
+        stream.startAsync();
+        LOGGER.info("Virtual thread pinning monitor started (threshold {} ms)", threshold.toMillis());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return stream != null;
+    }
+
+    void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        String site = applicationSite(stackTrace);
+        recordPinning(site, event.getDuration());
+        if (reportedSites.add(site)) {
+            LOGGER.warn("Virtual thread pinned for {} ms at {}{}",
+                event.getDuration().toMillis(), site, formatStack(stackTrace));
+        }
+    }
+
+    void recordPinning(String site, Duration duration) {
+        Timer.builder(METER_NAME)
+            .description("Virtual threads pinned to their carrier thread longer than the threshold")
+            .tag("site", site)
+            .register(meterRegistry)
+            .record(duration);
+    }
+
+    static String applicationSite(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return UNKNOWN_SITE;
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith(APPLICATION_PACKAGE) && !type.startsWith(VirtualThreadPinningMonitor.class.getPackageName())) {
+                return type.substring(type.lastIndexOf('.') + 1) + "." + frame.getMethod().getName();
+            }
+        }
+        return UNKNOWN_SITE;
+    }
+
+    private static String formatStack(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder();
+        stackTrace.getFrames().stream().limit(LOGGED_FRAMES).forEach(frame -> builder
+            .append(System.lineSeparator())
+            .append("    at ")
+            .append(frame.getMethod().getType().getName())
+            .append('.')
+            .append(frame.getMethod().getName())
+            .append(':')
+            .append(frame.getLineNumber()));
+        return builder.toString();
+    }
+}
@@ -24,35 +24,33 @@ import org.springframework.stereotype.Service;
 @Service
 public class JwtTokenService {
     private static final int MIN_SECRET_LENGTH = 32;
-    private final String secret;
     private final long expirationSeconds;
-    private volatile SecretKey secretKey;
+    private final SecretKey secretKey;
 
     public JwtTokenService(
         @Value("${govinda.jwt.secret:default-secret-key-change-in-production-min-256-bits}") String secret,
         @Value("${govinda.jwt.expiration-seconds:3600}") long expirationSeconds
     ) {
-        this.secret = secret;
         this.expirationSeconds = expirationSeconds;
+        this.secretKey = deriveSecretKey(secret);
     }
 
-    private SecretKey getSecretKey() {
-        if (secretKey == null) {
-            synchronized (this) {
-                if (secretKey == null) {
-                    byte[] keyBytes;
-                    if (secret.length() < MIN_SECRET_LENGTH) {
-                        keyBytes = String.format("%1$-" + MIN_SECRET_LENGTH + "s", secret)
-                            .replace(' ', '0')
-                            .getBytes(StandardCharsets.UTF_8);
-                    } else {
-                        keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-                    }
-                    secretKey = Keys.hmacShaKeyFor(keyBytes);
-                }
-            }
+    /**
+     * Derives the signing key once at construction.
+     *
+     * The key used to be created lazily under a {@code synchronized} block,
+     * which pins virtual threads to their carrier while they wait.
+     */
+    private static SecretKey deriveSecretKey(String secret) {
+        byte[] keyBytes;
+        if (secret.length() < MIN_SECRET_LENGTH) {
+            keyBytes = String.format("%1$-" + MIN_SECRET_LENGTH + "s", secret)
+                .replace(' ', '0')
+                .getBytes(StandardCharsets.UTF_8);
+        } else {
+            keyBytes = secret.getBytes(StandardCharsets.UTF_8);
         }
-        return secretKey;
+        return Keys.hmacShaKeyFor(keyBytes);
     }
 
     /**
@@ -69,7 +67,7 @@ public class JwtTokenService {
             .claim("permissions", permissions)
             .issuedAt(Date.from(now))
             .expiration(Date.from(expiration))
-            .signWith(getSecretKey())
+            .signWith(secretKey)
             .compact();
     }
 
@@ -79,7 +77,7 @@ public class JwtTokenService {
     public Claims validateToken(String token) {
         try {
             return Jwts.parser()
-                .verifyWith(getSecretKey())
+                .verifyWith(secretKey)
                 .build()
                 .parseSignedClaims(token)
                 .getPayload();
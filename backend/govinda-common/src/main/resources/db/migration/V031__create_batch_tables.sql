@@ -0,0 +1,43 @@
+/*
+ * Govinda ERP - Batch Run Tables Migration
+ * Version: V031
+ * Description: Creates batch run and checkpoint tables for restartable batch jobs
+ */
+
+-- ═══════════════════════════════════════════════════════════════
+-- BATCH RUN
+-- ═══════════════════════════════════════════════════════════════
+CREATE TABLE batch_run (
+    id                  UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    job_name            VARCHAR(50) NOT NULL,
+    run_key             VARCHAR(100) NOT NULL,   -- e.g. target date of the run
+    status              VARCHAR(20) NOT NULL DEFAULT 'RUNNING',
+    processed           BIGINT NOT NULL DEFAULT 0,
+    error_message       VARCHAR(1000),
+
+    started_at          TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    finished_at         TIMESTAMP WITH TIME ZONE,
+
+    CONSTRAINT chk_batch_run_status CHECK (status IN ('RUNNING', 'COMPLETED', 'FAILED'))
+);
+
+-- At most one unfinished run per job and key; a failed run is resumed, not duplicated
+CREATE UNIQUE INDEX uk_batch_run_open ON batch_run(job_name, run_key) WHERE status <> 'COMPLETED';
+
+COMMENT ON TABLE batch_run IS 'Executions of restartable batch jobs';
+
+-- ═══════════════════════════════════════════════════════════════
+-- BATCH CHECKPOINT
+-- ═══════════════════════════════════════════════════════════════
+CREATE TABLE batch_checkpoint (
+    run_id              UUID NOT NULL REFERENCES batch_run(id) ON DELETE CASCADE,
+    partition_key       VARCHAR(100) NOT NULL,
+    last_key            UUID,                    -- last processed row (keyset position)
+    processed           BIGINT NOT NULL DEFAULT 0,
+    completed           BOOLEAN NOT NULL DEFAULT FALSE,
+    updated_at          TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+
+    PRIMARY KEY (run_id, partition_key)
+);
+
+COMMENT ON TABLE batch_checkpoint IS 'Progress per partition of a batch run, written with each committed chunk';
@@ -0,0 +1,102 @@
+/*
+ * Govinda ERP - Entity Tag Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.common.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.exception.PreconditionFailedException;
+import net.voytrex.govinda.common.domain.model.EntityVersion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@Tag("fast")
+class ETagsTest {
+
+    private final UUID id = UUID.randomUUID();
+
+    @Nested
+    @DisplayName("If-None-Match")
+    class IfNoneMatch {
+
+        @Test
+        void should_match_when_tagIsCurrent() {
+            assertThat(ETags.matchesAny(ETags.of(id, 3), ETags.of(id, 3))).isTrue();
+        }
+
+        @Test
+        void should_matchWeakly_when_clientSendsWeakTag() {
+            assertThat(ETags.matchesAny("W/" + ETags.of(id, 3), ETags.of(id, 3))).isTrue();
+        }
+
+        @Test
+        void should_matchAnyTagInList() {
+            String header = "\"other\", " + ETags.of(id, 3);
+
+            assertThat(ETags.matchesAny(header, ETags.of(id, 3))).isTrue();
+            assertThat(ETags.matchesAny("*", ETags.of(id, 3))).isTrue();
+        }
+
+        @Test
+        void should_notMatch_when_versionChanged() {
+            assertThat(ETags.matchesAny(ETags.of(id, 3), ETags.of(id, 4))).isFalse();
+            assertThat(ETags.matchesAny(null, ETags.of(id, 4))).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("If-Match")
+    class IfMatch {
+
+        @Test
+        void should_returnExpectedVersion_when_tagMatchesEntity() {
+            assertThat(ETags.expectedVersion(ETags.of(id, 7), id)).isEqualTo(7L);
+        }
+
+        @Test
+        void should_returnNull_when_headerAbsentOrWildcard() {
+            assertThat(ETags.expectedVersion(null, id)).isNull();
+            assertThat(ETags.expectedVersion("*", id)).isNull();
+        }
+
+        @Test
+        void should_fail_when_tagBelongsToOtherEntityOrIsWeak() {
+            assertThatThrownBy(() -> ETags.expectedVersion(ETags.of(UUID.randomUUID(), 7), id))
+                .isInstanceOf(PreconditionFailedException.class);
+            assertThatThrownBy(() -> ETags.expectedVersion("W/" + ETags.of(id, 7), id))
+                .isInstanceOf(PreconditionFailedException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Collections")
+    class Collections {
+
+        @Test
+        void should_ignoreOrder() {
+            var first = new EntityVersion(UUID.randomUUID(), 1);
+            var second = new EntityVersion(UUID.randomUUID(), 2);
+
+            assertThat(ETags.ofAll(List.of(first, second))).isEqualTo(ETags.ofAll(List.of(second, first)));
+        }
+
+        @Test
+        void should_change_when_elementVersionChangesOrElementRemoved() {
+            var first = new EntityVersion(UUID.randomUUID(), 1);
+            var second = new EntityVersion(UUID.randomUUID(), 2);
+            String tag = ETags.ofAll(List.of(first, second));
+
+            assertThat(ETags.ofAll(List.of(first, new EntityVersion(second.id(), 3)))).isNotEqualTo(tag);
+            assertThat(ETags.ofAll(List.of(first))).isNotEqualTo(tag);
+        }
+    }
+}
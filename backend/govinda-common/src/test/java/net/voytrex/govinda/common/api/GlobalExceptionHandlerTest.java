@@ -17,6 +17,8 @@ import net.voytrex.govinda.common.domain.exception.ConcurrentModificationExcepti
 import net.voytrex.govinda.common.domain.exception.DuplicateEntityException;
 import net.voytrex.govinda.common.domain.exception.EntityNotFoundException;
 import net.voytrex.govinda.common.domain.exception.InvalidMutationException;
+import net.voytrex.govinda.common.domain.exception.PreconditionFailedException;
+import net.voytrex.govinda.common.domain.exception.ServiceOverloadedException;
 import net.voytrex.govinda.common.domain.exception.TariffNotFoundException;
 import net.voytrex.govinda.common.domain.exception.TenantNotFoundException;
 import net.voytrex.govinda.common.domain.exception.UnauthorizedTenantAccessException;
@@ -26,6 +28,7 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.context.MessageSource;
 import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -165,6 +168,36 @@ class GlobalExceptionHandlerTest {
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
             assertThat(response.getBody().errorCode()).isEqualTo("CONCURRENT_MODIFICATION");
         }
+
+        @Test
+        void shouldHandleServiceOverloadWithRetryAfter() {
+            GlobalExceptionHandler handler = new GlobalExceptionHandler(messageSource, new FixedLocaleResolver(Locale.ENGLISH));
+            MockHttpServletRequest request = request("/api/v1/contracts/change-requests");
+
+            ResponseEntity<ErrorResponse> response = handler.handleServiceOverloaded(
+                new ServiceOverloadedException("Change request intake", 5),
+                request
+            );
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+            assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("5");
+            assertThat(response.getBody().errorCode()).isEqualTo("SERVICE_OVERLOADED");
+        }
+
+        @Test
+        void shouldTranslatePreconditionFailureWithoutExposingVersions() {
+            GlobalExceptionHandler handler = new GlobalExceptionHandler(messageSource, new FixedLocaleResolver(Locale.GERMAN));
+            MockHttpServletRequest request = request("/api/portal/v1/profile");
+
+            ResponseEntity<ErrorResponse> response = handler.handlePreconditionFailed(
+                new PreconditionFailedException("Person", UUID.randomUUID(), 2L, 5L),
+                request
+            );
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+            assertThat(response.getBody().errorCode()).isEqualTo("PRECONDITION_FAILED");
+            assertThat(response.getBody().message()).isEqualTo("Vorbedingung fehlgeschlagen");
+        }
     }
 
     @Nested
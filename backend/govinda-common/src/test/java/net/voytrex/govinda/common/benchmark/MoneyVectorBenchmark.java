@@ -0,0 +1,89 @@
+/*
+ * Govinda ERP - Money Vector Benchmark
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.common.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import net.voytrex.govinda.common.domain.model.Currency;
+import net.voytrex.govinda.common.domain.model.Money;
+import net.voytrex.govinda.common.domain.model.MoneyVector;
+import net.voytrex.govinda.common.domain.model.Rappen;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Portfolio-wide sum of premiums: {@code Money.add} chain versus
+ * {@link MoneyVector} sequential and fork-join sums.
+ *
+ * Run like {@link RappenBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MoneyVectorBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    private List<Money> monies;
+    private MoneyVector vector;
+
+    @Setup
+    public void setUp() {
+        var random = new SplittableRandom(2026);
+        monies = new ArrayList<>(size);
+        vector = new MoneyVector(Currency.CHF, size);
+        for (int i = 0; i < size; i++) {
+            long amount = random.nextLong(5_000, 150_000);
+            vector.addRappen(amount);
+            monies.add(Rappen.toMoney(amount, Currency.CHF));
+        }
+        if (!vector.sumAsMoney().equals(money())) {
+            throw new IllegalStateException("MoneyVector sum differs from Money sum");
+        }
+    }
+
+    @Benchmark
+    public Money money() {
+        Money total = Money.chf(0);
+        for (Money premium : monies) {
+            total = total.add(premium);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long vectorSum() {
+        return vector.sum();
+    }
+
+    @Benchmark
+    public long vectorParallelSum() {
+        return vector.parallelSum();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MoneyVectorBenchmark.class.getSimpleName()).build()).run();
+    }
+}
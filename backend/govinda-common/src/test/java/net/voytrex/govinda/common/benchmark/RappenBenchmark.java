@@ -0,0 +1,111 @@
+/*
+ * Govinda ERP - Rappen vs Money Benchmark
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.common.benchmark;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import net.voytrex.govinda.common.domain.model.Currency;
+import net.voytrex.govinda.common.domain.model.Money;
+import net.voytrex.govinda.common.domain.model.Rappen;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares a typical premium pipeline (discount, 5-Rappen rounding, sum)
+ * on {@link Money} and on {@link Rappen}.
+ *
+ * The setup verifies that both pipelines produce identical results for every
+ * element before measuring, so a run fails rather than reporting numbers for
+ * diverging implementations.
+ *
+ * Run from {@code backend/}:
+ * <pre>
+ * mvn -pl govinda-common test-compile
+ * java -cp "govinda-common/target/test-classes:govinda-common/target/classes:$(mvn -q -pl govinda-common \
+ *     dependency:build-classpath -Dmdep.outputFile=/dev/stdout -Dmdep.includeScope=test)" \
+ *     net.voytrex.govinda.common.benchmark.RappenBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RappenBenchmark {
+    /** 2% annual-payment discount, as in {@code BillingFrequency.YEARLY}. */
+    private static final long DISCOUNT_NUMERATOR = 98;
+    private static final long DISCOUNT_DENOMINATOR = 100;
+    private static final BigDecimal DISCOUNT_FACTOR = new BigDecimal("0.98");
+
+    @Param({"10000"})
+    private int size;
+
+    private Money[] monies;
+    private long[] rappen;
+
+    @Setup
+    public void setUp() {
+        var random = new SplittableRandom(2026);
+        monies = new Money[size];
+        rappen = new long[size];
+        for (int i = 0; i < size; i++) {
+            long amount = random.nextLong(5_000, 150_000);
+            rappen[i] = amount;
+            monies[i] = Rappen.toMoney(amount, Currency.CHF);
+        }
+        verifyEquivalence();
+    }
+
+    @Benchmark
+    public Money money() {
+        Money total = Money.chf(0);
+        for (Money premium : monies) {
+            total = total.add(premium.multiply(DISCOUNT_FACTOR).roundToRappen());
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long rappen() {
+        long total = 0;
+        for (long premium : rappen) {
+            total = Rappen.add(total, Rappen.roundTo5(Rappen.multiply(premium, DISCOUNT_NUMERATOR, DISCOUNT_DENOMINATOR)));
+        }
+        return total;
+    }
+
+    private void verifyEquivalence() {
+        for (int i = 0; i < size; i++) {
+            Money expected = monies[i].multiply(DISCOUNT_FACTOR).roundToRappen();
+            long actual = Rappen.roundTo5(Rappen.multiply(rappen[i], DISCOUNT_NUMERATOR, DISCOUNT_DENOMINATOR));
+            if (!expected.equals(Rappen.toMoney(actual, Currency.CHF))) {
+                throw new IllegalStateException("Mismatch for " + monies[i] + ": " + expected + " vs " + actual);
+            }
+        }
+        if (!money().equals(Rappen.toMoney(rappen(), Currency.CHF))) {
+            throw new IllegalStateException("Totals differ: " + money() + " vs " + rappen());
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(RappenBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Govinda ERP - AHV Index Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.common.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class AhvIndexTest {
+    private static final long FIRST_AHV = 7_560_000_000_000L;
+
+    @Test
+    void shouldFindAddedNumbersAcrossRehashes() {
+        AhvIndex index = new AhvIndex(0);
+        Map<Long, Integer> expected = new HashMap<>();
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < 100_000; i++) {
+            long ahv = FIRST_AHV + random.nextLong(10_000_000_000L);
+            if (!expected.containsKey(ahv)) {
+                expected.put(ahv, i);
+                assertThat(index.putIfAbsent(ahv, i)).isEqualTo(AhvIndex.NOT_FOUND);
+            }
+        }
+
+        assertThat(index.size()).isEqualTo(expected.size());
+        expected.forEach((ahv, value) -> assertThat(index.get(ahv)).isEqualTo(value));
+    }
+
+    @Test
+    void shouldKeepFirstValueOfDuplicateNumber() {
+        AhvIndex index = new AhvIndex(4);
+        long ahv = AhvNumber.pack("756.1234.5678.97");
+
+        index.putIfAbsent(ahv, 1);
+
+        assertThat(index.putIfAbsent(ahv, 2)).isEqualTo(1);
+        assertThat(index.get(ahv)).isEqualTo(1);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotFindUnknownOrInvalidNumbers() {
+        AhvIndex index = new AhvIndex(4);
+        index.putIfAbsent(FIRST_AHV + 1, 0);
+
+        assertThat(index.get(FIRST_AHV + 2)).isEqualTo(AhvIndex.NOT_FOUND);
+        assertThat(index.get(AhvNumber.INVALID)).isEqualTo(AhvIndex.NOT_FOUND);
+        assertThatThrownBy(() -> index.putIfAbsent(AhvNumber.INVALID, 1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -116,6 +116,24 @@ class AhvNumberTest {
         }
     }
 
+    @Nested
+    @DisplayName("Packing")
+    class Packing {
+
+        @Test
+        void shouldPackFormattedAndUnformattedToSameNumber() {
+            assertThat(AhvNumber.pack("756.1234.5678.90")).isEqualTo(7_561_234_567_890L);
+            assertThat(AhvNumber.pack("7561234567890")).isEqualTo(7_561_234_567_890L);
+            assertThat(new AhvNumber("756.1234.5678.90").toPacked()).isEqualTo(7_561_234_567_890L);
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"", "756.1234.5678.9", "756-1234-5678-90", "7561234567A90", "1231234567890"})
+        void shouldReturnInvalidForMalformedValues(String value) {
+            assertThat(AhvNumber.pack(value)).isEqualTo(AhvNumber.INVALID);
+        }
+    }
+
     @Nested
     @DisplayName("Format Validation")
     class FormatValidation {
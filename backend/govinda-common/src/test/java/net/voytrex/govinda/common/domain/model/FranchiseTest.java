@@ -53,6 +53,18 @@ class FranchiseTest {
 
             assertThat(youngAdultFranchises).isEqualTo(adultFranchises);
         }
+
+        @Test
+        void shouldShareOptionsBetweenCallsAndMatchTheAllowedSets() {
+            for (AgeGroup ageGroup : AgeGroup.values()) {
+                assertThat(Franchise.forAgeGroup(ageGroup)).isSameAs(Franchise.forAgeGroup(ageGroup));
+                assertThat(Franchise.allowedFor(ageGroup)).containsExactlyElementsOf(Franchise.forAgeGroup(ageGroup));
+                for (Franchise franchise : Franchise.values()) {
+                    assertThat(franchise.isAllowedFor(ageGroup))
+                        .isEqualTo(Franchise.allowedFor(ageGroup).contains(franchise));
+                }
+            }
+        }
     }
 
     @Nested
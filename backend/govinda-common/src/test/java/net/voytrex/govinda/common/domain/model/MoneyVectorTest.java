@@ -0,0 +1,123 @@
+/*
+ * Govinda ERP - Money Vector Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.common.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class MoneyVectorTest {
+
+    @Nested
+    @DisplayName("Sum")
+    class Sum {
+
+        @Test
+        void shouldMatchMoneyAdditionAcrossBlocks() {
+            var random = new SplittableRandom(3);
+            var vector = new MoneyVector(Currency.CHF);
+            Money expected = Money.chf(0);
+            for (int i = 0; i < MoneyVector.BLOCK_SIZE * 3 + 17; i++) {
+                Money amount = Rappen.toMoney(random.nextLong(-100_000, 1_000_000), Currency.CHF);
+                vector.add(amount);
+                expected = expected.add(amount);
+            }
+
+            assertThat(vector.sumAsMoney()).isEqualTo(expected);
+        }
+
+        @Test
+        void shouldComputeSameParallelSumAsSequential() {
+            var random = new SplittableRandom(5);
+            var vector = new MoneyVector(Currency.CHF, MoneyVector.PARALLEL_THRESHOLD * 4);
+            for (int i = 0; i < MoneyVector.PARALLEL_THRESHOLD * 4 + 3; i++) {
+                vector.addRappen(random.nextLong(0, Rappen.NUMERIC_12_2_MAX));
+            }
+
+            assertThat(vector.parallelSum()).isEqualTo(vector.sum());
+        }
+
+        @Test
+        void shouldThrowOnOverflowInsteadOfWrapping() {
+            long[] values = new long[MoneyVector.BLOCK_SIZE + 1];
+            values[0] = Long.MAX_VALUE;
+            values[MoneyVector.BLOCK_SIZE] = 1;
+
+            assertThat(MoneyVector.sumRange(values, 0, MoneyVector.BLOCK_SIZE)).isEqualTo(Long.MAX_VALUE);
+            assertThatThrownBy(() -> MoneyVector.sumRange(values, 0, values.length))
+                .isInstanceOf(ArithmeticException.class);
+        }
+
+        @Test
+        void shouldRejectOtherCurrencyAndOutOfRangeAmounts() {
+            var vector = new MoneyVector(Currency.CHF);
+
+            assertThatThrownBy(() -> vector.add(new Money(Money.chf(1).getAmount(), Currency.EUR)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("different currencies");
+            assertThatThrownBy(() -> vector.addRappen(Rappen.NUMERIC_12_2_MAX + 1))
+                .isInstanceOf(ArithmeticException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Statistics")
+    class Statistics {
+
+        private final MoneyVector vector = MoneyVector.ofRappen(Currency.CHF, 500, -200, 900, 100, 300);
+
+        @Test
+        void shouldFindMinAndMax() {
+            assertThat(vector.min()).isEqualTo(-200);
+            assertThat(vector.max()).isEqualTo(900);
+        }
+
+        @Test
+        void shouldComputeNearestRankPercentiles() {
+            assertThat(vector.percentile(50)).isEqualTo(300);
+            assertThat(vector.percentiles(20, 100)).containsExactly(-200, 900);
+        }
+
+        @Test
+        void shouldRejectStatisticsOnEmptyVector() {
+            assertThatThrownBy(() -> new MoneyVector(Currency.CHF).max())
+                .isInstanceOf(NoSuchElementException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Group by")
+    class GroupBy {
+
+        @Test
+        void shouldSumByDenseKey() {
+            var vector = MoneyVector.ofRappen(Currency.CHF, 100, 200, 300, 400);
+            int[] cantons = {Canton.ZH.ordinal(), Canton.BE.ordinal(), Canton.ZH.ordinal(), Canton.GE.ordinal()};
+
+            long[] sums = vector.sumByGroup(cantons, Canton.values().length);
+
+            assertThat(sums[Canton.ZH.ordinal()]).isEqualTo(400);
+            assertThat(sums[Canton.BE.ordinal()]).isEqualTo(200);
+            assertThat(sums[Canton.GE.ordinal()]).isEqualTo(400);
+        }
+
+        @Test
+        void shouldSumByArbitraryKey() {
+            var vector = MoneyVector.ofRappen(Currency.CHF, 100, 200, 300);
+
+            assertThat(vector.sumByGroup(List.of("A", "B", "A")))
+                .containsEntry("A", 400L)
+                .containsEntry("B", 200L);
+        }
+    }
+}
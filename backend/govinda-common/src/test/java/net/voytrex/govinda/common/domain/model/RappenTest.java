@@ -0,0 +1,128 @@
+/*
+ * Govinda ERP - Rappen Arithmetic Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.common.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class RappenTest {
+    private static final int SAMPLES = 200_000;
+    private static final long MAX_SAMPLE = 1_000_000_000L;
+
+    @Nested
+    @DisplayName("Equivalence with Money")
+    class EquivalenceWithMoney {
+
+        @Test
+        void shouldRoundLikeMoneyForAllSamples() {
+            var random = new SplittableRandom(42);
+            for (int i = 0; i < SAMPLES; i++) {
+                long rappen = random.nextLong(-MAX_SAMPLE, MAX_SAMPLE);
+                Money expected = Rappen.toMoney(rappen, Currency.CHF).roundToRappen();
+
+                assertThat(Rappen.toMoney(Rappen.roundTo5(rappen), Currency.CHF)).isEqualTo(expected);
+            }
+        }
+
+        @Test
+        void shouldMultiplyLikeMoneyForAllSamples() {
+            var random = new SplittableRandom(7);
+            for (int i = 0; i < SAMPLES; i++) {
+                long rappen = random.nextLong(-MAX_SAMPLE, MAX_SAMPLE);
+                long basisPoints = random.nextLong(-20_000, 20_000);
+                Money expected = Rappen.toMoney(rappen, Currency.CHF).multiply(BigDecimal.valueOf(basisPoints, 4));
+
+                assertThat(Rappen.toMoney(Rappen.multiply(rappen, basisPoints, 10_000), Currency.CHF))
+                    .isEqualTo(expected);
+            }
+        }
+
+        @Test
+        void shouldAddAndSubtractLikeMoneyForAllSamples() {
+            var random = new SplittableRandom(11);
+            for (int i = 0; i < SAMPLES; i++) {
+                long a = random.nextLong(-MAX_SAMPLE, MAX_SAMPLE);
+                long b = random.nextLong(-MAX_SAMPLE, MAX_SAMPLE);
+                Money moneyA = Rappen.toMoney(a, Currency.CHF);
+                Money moneyB = Rappen.toMoney(b, Currency.CHF);
+
+                assertThat(Rappen.toMoney(Rappen.add(a, b), Currency.CHF)).isEqualTo(moneyA.add(moneyB));
+                assertThat(Rappen.toMoney(Rappen.subtract(a, b), Currency.CHF)).isEqualTo(moneyA.subtract(moneyB));
+            }
+        }
+
+        @ParameterizedTest
+        @CsvSource({
+            "0.12, 0.10",
+            "0.13, 0.15",
+            "0.125, 0.15",
+            "-0.13, -0.15",
+            "-0.12, -0.10",
+            "1.975, 2.00"
+        })
+        void shouldRoundKnownValues(String amount, String expected) {
+            long rappen = Rappen.fromDecimal(new BigDecimal(amount).setScale(2, RoundingMode.HALF_UP));
+
+            assertThat(Rappen.toNumeric(Rappen.roundTo5(rappen))).isEqualTo(new BigDecimal(expected));
+        }
+    }
+
+    @Nested
+    @DisplayName("Conversion")
+    class Conversion {
+
+        @Test
+        void shouldConvertMoneyLosslessly() {
+            Money money = Money.chf("1234.05");
+
+            assertThat(Rappen.of(money)).isEqualTo(123_405L);
+            assertThat(Rappen.toMoney(Rappen.of(money), Currency.CHF)).isEqualTo(money);
+        }
+
+        @Test
+        void shouldRejectValuesBeyondNumeric12x2() {
+            assertThat(Rappen.toNumeric(Rappen.NUMERIC_12_2_MAX)).isEqualTo(new BigDecimal("9999999999.99"));
+            assertThatThrownBy(() -> Rappen.toNumeric(Rappen.NUMERIC_12_2_MAX + 1))
+                .isInstanceOf(ArithmeticException.class);
+        }
+
+        @Test
+        void shouldRejectDecimalsWithMoreThanTwoFractionDigits() {
+            assertThatThrownBy(() -> Rappen.fromDecimal(new BigDecimal("1.005")))
+                .isInstanceOf(ArithmeticException.class);
+        }
+
+        @Test
+        void shouldFormatLikeBigDecimal() {
+            assertThat(Rappen.toPlainString(-1205)).isEqualTo("-12.05");
+            assertThat(Rappen.toPlainString(5)).isEqualTo("0.05");
+            assertThat(Rappen.toPlainString(123_450)).isEqualTo("1234.50");
+        }
+    }
+
+    @Nested
+    @DisplayName("Overflow")
+    class Overflow {
+
+        @Test
+        void shouldThrowInsteadOfWrapping() {
+            assertThatThrownBy(() -> Rappen.add(Long.MAX_VALUE, 1)).isInstanceOf(ArithmeticException.class);
+            assertThatThrownBy(() -> Rappen.multiply(Long.MAX_VALUE / 2, 3)).isInstanceOf(ArithmeticException.class);
+            assertThatThrownBy(() -> Rappen.multiply(Long.MAX_VALUE / 2, 3, 4))
+                .isInstanceOf(ArithmeticException.class);
+        }
+    }
+}
@@ -10,7 +10,6 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Locale;
 import org.junit.jupiter.api.Test;
-import org.springframework.context.support.ResourceBundleMessageSource;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.web.servlet.i18n.AcceptHeaderLocaleResolver;
 
@@ -22,10 +21,9 @@ class I18nConfigTest {
 
         var messageSource = config.messageSource();
 
-        assertThat(messageSource).isInstanceOf(ResourceBundleMessageSource.class);
-        ResourceBundleMessageSource bundle = (ResourceBundleMessageSource) messageSource;
-        assertThat(bundle.getBasenameSet()).containsExactly("messages");
-        assertThat(bundle.getMessage("unknown.key", null, Locale.GERMAN)).isEqualTo("unknown.key");
+        assertThat(messageSource.getMessage("error.internal", null, Locale.GERMAN))
+            .isEqualTo("Ein interner Fehler ist aufgetreten");
+        assertThat(messageSource.getMessage("unknown.key", null, Locale.GERMAN)).isEqualTo("unknown.key");
     }
 
     @Test
@@ -8,19 +8,21 @@ package net.voytrex.govinda.common.i18n;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import net.voytrex.govinda.common.domain.model.Canton;
+import net.voytrex.govinda.common.domain.model.InsuranceModel;
 import net.voytrex.govinda.common.domain.model.Language;
+import net.voytrex.govinda.common.domain.model.ProductCategory;
+import net.voytrex.govinda.common.domain.model.ProductType;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
-import org.springframework.context.MessageSource;
-import org.springframework.context.support.ResourceBundleMessageSource;
 
 @Tag("unit")
 @Tag("fast")
 class I18nServiceTest {
 
-    private final I18nService service = new I18nService(messageSource());
+    private final I18nService service = new I18nService(MessageCatalog.load("messages"));
 
     @Nested
     @DisplayName("Enum translations")
@@ -51,6 +53,28 @@ class I18nServiceTest {
         void shouldTranslateLanguageDisplayName() {
             assertThat(service.translateLanguage("DE", Language.FR)).isEqualTo("Allemand");
         }
+
+        @Test
+        void shouldTranslateEnumsLikeTheirCodes() {
+            for (Language language : Language.values()) {
+                for (Canton canton : Canton.values()) {
+                    assertThat(service.translate(canton, language))
+                        .isEqualTo(service.translateCanton(canton.getCode(), language));
+                }
+                for (InsuranceModel model : InsuranceModel.values()) {
+                    assertThat(service.translate(model, language))
+                        .isEqualTo(service.translateInsuranceModel(model.getCode(), language));
+                }
+                for (ProductCategory category : ProductCategory.values()) {
+                    assertThat(service.translate(category, language))
+                        .isEqualTo(service.translateProductCategory(category.getCode(), language));
+                }
+                for (ProductType type : ProductType.values()) {
+                    assertThat(service.translate(type, language))
+                        .isEqualTo(service.translateProductType(type.getCode(), language));
+                }
+            }
+        }
     }
 
     @Nested
@@ -61,6 +85,12 @@ class I18nServiceTest {
         void shouldTranslateErrorCodeToMessage() {
             assertThat(service.translateError("ENTITY_NOT_FOUND", Language.IT)).isEqualTo("Entità non trovata");
         }
+
+        @Test
+        void shouldFormatErrorArguments() {
+            assertThat(service.translateError("RESOURCE_NOT_FOUND", Language.DE, "/api/x"))
+                .isEqualTo("Ressource nicht gefunden: /api/x");
+        }
     }
 
     @Nested
@@ -72,13 +102,4 @@ class I18nServiceTest {
             assertThat(service.translateError("ENTITY_NOT_FOUND", null)).isEqualTo("Entity not found");
         }
     }
-
-    private MessageSource messageSource() {
-        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
-        messageSource.setBasename("messages");
-        messageSource.setDefaultEncoding("UTF-8");
-        messageSource.setFallbackToSystemLocale(false);
-        messageSource.setUseCodeAsDefaultMessage(true);
-        return messageSource;
-    }
 }
@@ -0,0 +1,103 @@
+/*
+ * Govinda ERP - Message Catalog Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.common.i18n;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.ResourceBundle;
+import net.voytrex.govinda.common.domain.model.Language;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.context.support.ResourceBundleMessageSource;
+
+@Tag("unit")
+@Tag("fast")
+class MessageCatalogTest {
+    private static final List<Locale> LOCALES = List.of(
+        Locale.GERMAN, Locale.FRENCH, Locale.ITALIAN, Locale.ENGLISH,
+        Locale.forLanguageTag("de-CH"), Locale.forLanguageTag("es")
+    );
+
+    private final MessageCatalog catalog = MessageCatalog.load("messages");
+    private final ResourceBundleMessageSource bundle = bundle();
+
+    @Nested
+    @DisplayName("Equivalence with ResourceBundleMessageSource")
+    class Equivalence {
+
+        @Test
+        void shouldResolveEveryKeyLikeTheBundle() {
+            for (String key : ResourceBundle.getBundle("messages", Locale.ROOT).keySet()) {
+                for (Locale locale : LOCALES) {
+                    assertThat(catalog.getMessage(key, null, locale))
+                        .as("%s in %s", key, locale)
+                        .isEqualTo(bundle.getMessage(key, null, locale));
+                    assertThat(catalog.getMessage(key, new Object[]{"/x"}, locale))
+                        .as("%s in %s with arguments", key, locale)
+                        .isEqualTo(bundle.getMessage(key, new Object[]{"/x"}, locale));
+                }
+            }
+        }
+
+        @Test
+        void shouldReturnCodeForUnknownKeys() {
+            assertThat(catalog.getMessage("unknown.key", null, Locale.FRENCH)).isEqualTo("unknown.key");
+            assertThat(catalog.translate("unknown.key", Language.FR)).isEqualTo("unknown.key");
+        }
+
+        @Test
+        void shouldResolveResolvablesWithDefaultMessage() {
+            var resolvable = new DefaultMessageSourceResolvable(
+                new String[]{"unknown.key", "error.internal"}, null, "fallback"
+            );
+            var unresolvable = new DefaultMessageSourceResolvable(new String[]{"unknown.key"}, null, "fallback");
+
+            assertThat(catalog.getMessage(resolvable, Locale.ITALIAN))
+                .isEqualTo(bundle.getMessage(resolvable, Locale.ITALIAN));
+            assertThat(catalog.getMessage(unresolvable, Locale.ITALIAN)).isEqualTo("fallback");
+        }
+    }
+
+    @Nested
+    @DisplayName("Compiled messages")
+    class CompiledMessages {
+
+        @Test
+        void shouldKeepQuotesWhenFormattedWithoutArguments() {
+            MessageCatalog.Message message = catalog.message("error.authentication.failed");
+
+            assertThat(message).isNotNull();
+            assertThat(message.text(Language.FR)).isEqualTo("Échec de l'authentification");
+            assertThat(message.format(Language.FR)).isEqualTo("Échec de l'authentification");
+        }
+
+        @Test
+        void shouldFallBackToEnglish_when_languageIsNull() {
+            assertThat(catalog.translate("canton.ZH", null)).isEqualTo("Zurich");
+        }
+
+        @Test
+        void shouldCacheErrorKeys() {
+            assertThat(MessageCatalog.errorKey("ENTITY_NOT_FOUND")).isEqualTo("error.entity.not.found");
+            assertThat(MessageCatalog.errorKey("ENTITY_NOT_FOUND")).isSameAs(MessageCatalog.errorKey("ENTITY_NOT_FOUND"));
+        }
+    }
+
+    private static ResourceBundleMessageSource bundle() {
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("messages");
+        messageSource.setDefaultEncoding("UTF-8");
+        messageSource.setFallbackToSystemLocale(false);
+        messageSource.setUseCodeAsDefaultMessage(true);
+        return messageSource;
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Govinda ERP - Batch Run Store Fixture
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.common.infrastructure.batch;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Mocked {@link BatchRunStore} for batch job tests, shared through the test jar.
+ */
+public final class BatchRunStoreFixture {
+
+    private BatchRunStoreFixture() {
+    }
+
+    /**
+     * A store that starts a new run with the given id for every job and key.
+     * Stub {@code startOrResume} for a key to resume a run instead; verify
+     * checkpoints, completion and failure on the returned mock.
+     */
+    public static BatchRunStore newRuns(UUID runId) {
+        BatchRunStore batchRunStore = mock(BatchRunStore.class);
+        when(batchRunStore.startOrResume(anyString(), anyString())).thenAnswer(
+            invocation -> new BatchRun(runId, invocation.getArgument(0), invocation.getArgument(1), Map.of())
+        );
+        return batchRunStore;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Govinda ERP - Chunked Batch Runner Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.common.infrastructure.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@Tag("fast")
+class ChunkedBatchRunnerTest {
+    private static final String JOB_NAME = "TEST_JOB";
+
+    private final UUID runId = UUID.randomUUID();
+    private final BatchRunStore batchRunStore = BatchRunStoreFixture.newRuns(runId);
+    private final ChunkedBatchRunner runner = new ChunkedBatchRunner(batchRunStore, JOB_NAME, 2);
+
+    @Nested
+    @DisplayName("Chunks")
+    class Chunks {
+
+        @Test
+        void shouldMergeResultsInSubmissionOrderWithBoundedConcurrency() throws IOException {
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger maxRunning = new AtomicInteger();
+            List<Integer> merged = new ArrayList<>();
+
+            int chunks = runner.<Integer, Integer>process(
+                sink -> {
+                    for (int i = 0; i < 10; i++) {
+                        sink.submit("chunk-" + i, i);
+                    }
+                },
+                (key, chunk) -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(5);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    running.decrementAndGet();
+                    return chunk * 10;
+                },
+                merged::add
+            );
+
+            assertThat(chunks).isEqualTo(10);
+            assertThat(merged).containsExactly(0, 10, 20, 30, 40, 50, 60, 70, 80, 90);
+            assertThat(maxRunning.get()).isBetween(1, 2);
+        }
+
+        @Test
+        void shouldFinishOtherChunksBeforeRethrowingTheFirstFailure() {
+            Set<String> processed = ConcurrentHashMap.newKeySet();
+
+            assertThatThrownBy(() -> runner.<Integer, Integer>process(
+                sink -> {
+                    for (int i = 0; i < 4; i++) {
+                        sink.submit("chunk-" + i, i);
+                    }
+                },
+                (key, chunk) -> {
+                    if (chunk == 1) {
+                        throw new IllegalStateException("database down");
+                    }
+                    processed.add(key);
+                    return chunk;
+                },
+                result -> { }
+            )).isInstanceOf(IllegalStateException.class).hasMessage("database down");
+
+            assertThat(processed).containsExactlyInAnyOrder("chunk-0", "chunk-2", "chunk-3");
+        }
+    }
+
+    @Nested
+    @DisplayName("Runs")
+    class Runs {
+
+        @Test
+        void shouldRunTheJobForTheStartedRun() {
+            UUID executed = runner.run("2027-01", BatchRun::id);
+
+            assertThat(executed).isEqualTo(runId);
+            verify(batchRunStore).startOrResume(JOB_NAME, "2027-01");
+            verify(batchRunStore, never()).fail(any(), any());
+        }
+
+        @Test
+        void shouldFailTheRunWhenTheJobFails() {
+            assertThatThrownBy(() -> runner.run("2027-01", run -> {
+                throw new IllegalStateException("database down");
+            })).hasMessage("database down");
+
+            verify(batchRunStore).fail(runId, "database down");
+            verify(batchRunStore, never()).complete(any(), anyLong());
+        }
+
+        @Test
+        void shouldFailTheRunWhenTheInputCannotBeRead() {
+            assertThatThrownBy(() -> runner.run("file.csv", run -> {
+                throw new IOException("disk gone");
+            })).isInstanceOf(UncheckedIOException.class).hasMessageContaining("file.csv");
+
+            verify(batchRunStore).fail(runId, "disk gone");
+        }
+    }
+}
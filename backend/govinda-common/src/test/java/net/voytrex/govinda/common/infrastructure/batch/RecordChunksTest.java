@@ -0,0 +1,95 @@
+/*
+ * Govinda ERP - Record Chunks Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.common.infrastructure.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@Tag("fast")
+class RecordChunksTest {
+    private final UUID runId = UUID.randomUUID();
+
+    @Test
+    void shouldKeyChunksByTheirRecordRange() throws IOException {
+        RecordChunks<Integer> chunks = new RecordChunks<>(run(), 2, reader(5));
+
+        Map<String, List<Integer>> submitted = read(chunks);
+
+        assertThat(submitted).containsExactly(
+            Map.entry("records-1-2", List.of(1, 2)),
+            Map.entry("records-3-4", List.of(3, 4)),
+            Map.entry("records-5-5", List.of(5))
+        );
+        assertThat(chunks.chunks()).isEqualTo(3);
+        assertThat(chunks.completedChunks()).isZero();
+        assertThat(chunks.skippedRecords()).isZero();
+    }
+
+    @Test
+    void shouldSkipCompletedRecordsWhenTheChunkSizeChanged() throws IOException {
+        BatchRun run = run(
+            completed(RecordChunks.key(1, 2)),
+            completed(RecordChunks.key(3, 4)),
+            new BatchCheckpoint(runId, RecordChunks.key(5, 6), null, 0, false),
+            completed(RecordChunks.key(7, 8))
+        );
+        RecordChunks<Integer> chunks = new RecordChunks<>(run, 3, reader(10));
+
+        Map<String, List<Integer>> submitted = read(chunks);
+
+        assertThat(submitted).containsExactly(
+            Map.entry("records-5-6", List.of(5, 6)),
+            Map.entry("records-9-10", List.of(9, 10))
+        );
+        assertThat(chunks.completedChunks()).isEqualTo(3);
+        assertThat(chunks.skippedRecords()).isEqualTo(6);
+    }
+
+    @Test
+    void shouldIgnoreCheckpointsOfOtherKeys() throws IOException {
+        RecordChunks<Integer> chunks = new RecordChunks<>(run(completed("chunk-0")), 5, reader(3));
+
+        assertThat(read(chunks)).containsOnlyKeys("records-1-3");
+        assertThat(chunks.completedChunks()).isZero();
+    }
+
+    private BatchCheckpoint completed(String key) {
+        return new BatchCheckpoint(runId, key, null, 2, true);
+    }
+
+    private BatchRun run(BatchCheckpoint... checkpoints) {
+        Map<String, BatchCheckpoint> byKey = new LinkedHashMap<>();
+        for (BatchCheckpoint checkpoint : checkpoints) {
+            byKey.put(checkpoint.partitionKey(), checkpoint);
+        }
+        return new BatchRun(runId, "TEST_JOB", "file.csv", byKey);
+    }
+
+    private static RecordChunks.RecordReader<Integer> reader(int records) {
+        Iterator<Integer> iterator = IntStream.rangeClosed(1, records).iterator();
+        return () -> iterator.hasNext() ? iterator.next() : null;
+    }
+
+    private static Map<String, List<Integer>> read(RecordChunks<Integer> chunks) throws IOException {
+        Map<String, List<Integer>> submitted = new LinkedHashMap<>();
+        chunks.read((key, chunk) -> {
+            assertThat(chunk.firstRecord()).isEqualTo(chunk.records().get(0).longValue());
+            submitted.put(key, chunk.records());
+        });
+        return submitted;
+    }
+}
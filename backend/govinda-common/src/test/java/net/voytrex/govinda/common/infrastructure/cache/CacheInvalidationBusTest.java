@@ -0,0 +1,144 @@
+/*
+ * Govinda ERP - Cache Invalidation Bus Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.common.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Tag("unit")
+@Tag("fast")
+class CacheInvalidationBusTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final CacheInvalidationBus bus = new CacheInvalidationBus(jdbcTemplate, "govinda_cache_invalidation");
+    private final LocalCache<UUID, String> cache = bus.register(new LocalCache<>("tenants", UUID::fromString));
+    private final UUID key = UUID.randomUUID();
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Nested
+    @DisplayName("Publishing")
+    class Publishing {
+
+        @Test
+        void should_notifyAndEvictImmediately_when_noTransactionActive() {
+            cache.put(key, "value");
+
+            bus.invalidate("tenants", key);
+
+            verify(jdbcTemplate).query(
+                eq("SELECT pg_notify(?, ?)"),
+                any(ResultSetExtractor.class),
+                eq("govinda_cache_invalidation"),
+                eq(bus.getNodeId() + "|tenants|" + key)
+            );
+            assertThat(cache.getIfPresent(key)).isNull();
+        }
+
+        @Test
+        void should_deferLocalEviction_until_transactionCommits() {
+            cache.put(key, "value");
+            TransactionSynchronizationManager.initSynchronization();
+
+            bus.invalidate("tenants", key);
+
+            assertThat(cache.getIfPresent(key)).isEqualTo("value");
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(cache.getIfPresent(key)).isNull();
+        }
+
+        @Test
+        void should_encodeEvictAll_when_invalidatingWholeCache() {
+            bus.invalidateAll("tenants");
+
+            verify(jdbcTemplate).query(
+                eq("SELECT pg_notify(?, ?)"),
+                any(ResultSetExtractor.class),
+                eq("govinda_cache_invalidation"),
+                eq(bus.getNodeId() + "|tenants|*")
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Receiving")
+    class Receiving {
+
+        @Test
+        void should_evictEntry_when_messageFromOtherNode() {
+            cache.put(key, "value");
+
+            bus.onNotification("other-node|tenants|" + key);
+
+            assertThat(cache.getIfPresent(key)).isNull();
+        }
+
+        @Test
+        void should_ignoreMessage_when_sentByThisNode() {
+            cache.put(key, "value");
+
+            bus.onNotification(bus.getNodeId() + "|tenants|" + key);
+
+            assertThat(cache.getIfPresent(key)).isEqualTo("value");
+        }
+
+        @Test
+        void should_evictAll_when_keyCannotBeParsed() {
+            cache.put(key, "value");
+
+            bus.onNotification("other-node|tenants|not-a-uuid");
+
+            assertThat(cache.size()).isZero();
+        }
+
+        @Test
+        void should_ignoreMalformedPayload() {
+            cache.put(key, "value");
+
+            bus.onNotification("garbage");
+
+            assertThat(cache.getIfPresent(key)).isEqualTo("value");
+        }
+    }
+
+    @Nested
+    @DisplayName("Configuration")
+    class Configuration {
+
+        @Test
+        void should_rejectDuplicateCacheNames() {
+            assertThatThrownBy(() -> bus.register(new LocalCache<>("tenants", UUID::fromString)))
+                .isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        void should_rejectChannelNamesThatAreNotIdentifiers() {
+            assertThatThrownBy(() -> new CacheInvalidationBus(jdbcTemplate, "bad; DROP TABLE x"))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Govinda ERP - Local Cache Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.common.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@Tag("fast")
+class LocalCacheTest {
+
+    private final LocalCache<Integer, String> cache = new LocalCache<>("numbers", Integer::valueOf);
+
+    @Test
+    void should_loadOnce_when_valueRequestedTwice() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1, key -> "one-" + loads.incrementAndGet());
+        String second = cache.get(1, key -> "one-" + loads.incrementAndGet());
+
+        assertThat(second).isEqualTo("one-1");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void should_notCacheNull_when_loaderReturnsNull() {
+        assertThat(cache.get(1, key -> null)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void should_notCacheLoadedValue_when_evictedWhileLoading() {
+        String loaded = cache.get(1, key -> {
+            cache.evictSerializedKey("1");
+            return "stale";
+        });
+
+        assertThat(loaded).isEqualTo("stale");
+        assertThat(cache.getIfPresent(1)).isNull();
+        assertThat(cache.get(1, key -> "fresh")).isEqualTo("fresh");
+        assertThat(cache.getIfPresent(1)).isEqualTo("fresh");
+    }
+
+    @Test
+    void should_rejectBulkLoadedValue_when_evictedSinceGenerationTaken() {
+        long generation = cache.generation();
+        assertThat(cache.putLoaded(1, "one", generation)).isTrue();
+
+        cache.evict(2);
+
+        assertThat(cache.putLoaded(3, "stale", generation)).isFalse();
+        assertThat(cache.getIfPresent(3)).isNull();
+        assertThat(cache.getIfPresent(1)).isEqualTo("one");
+    }
+
+    @Test
+    void should_evictBySerializedKey() {
+        cache.put(42, "answer");
+
+        cache.evictSerializedKey("42");
+
+        assertThat(cache.getIfPresent(42)).isNull();
+    }
+
+    @Test
+    void should_parseMessagesWithAndWithoutKey() {
+        assertThat(CacheInvalidationMessage.parse("n1|grants|abc"))
+            .contains(new CacheInvalidationMessage("n1", "grants", "abc"));
+        assertThat(CacheInvalidationMessage.parse("n1|grants|*").orElseThrow().isEvictAll()).isTrue();
+        assertThat(CacheInvalidationMessage.parse("n1|grants|")).isEmpty();
+        assertThat(CacheInvalidationMessage.parse(null)).isEmpty();
+    }
+
+    @Test
+    void should_rejectNamesContainingSeparator() {
+        assertThatThrownBy(() -> new LocalCache<>("a|b", Integer::valueOf))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
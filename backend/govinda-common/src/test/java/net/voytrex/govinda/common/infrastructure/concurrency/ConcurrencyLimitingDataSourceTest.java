@@ -0,0 +1,158 @@
+/*
+ * Govinda ERP - Concurrency Limiting DataSource Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.common.infrastructure.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+
+@Tag("unit")
+@Tag("fast")
+class ConcurrencyLimitingDataSourceTest {
+
+    private final DataSource target = mock(DataSource.class);
+    private ConcurrencyLimitingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        dataSource = new ConcurrencyLimitingDataSource(target, 2, Duration.ofMillis(50));
+    }
+
+    @Nested
+    @DisplayName("Permits")
+    class Permits {
+
+        @Test
+        void should_holdPermit_until_connectionClosed() throws SQLException {
+            Connection connection = dataSource.getConnection();
+            assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+
+            connection.close();
+
+            assertThat(dataSource.getAvailablePermits()).isEqualTo(2);
+        }
+
+        @Test
+        void should_releaseOnce_when_connectionClosedTwice() throws SQLException {
+            Connection connection = dataSource.getConnection();
+
+            connection.close();
+            connection.close();
+
+            assertThat(dataSource.getAvailablePermits()).isEqualTo(2);
+        }
+
+        @Test
+        void should_timeOut_when_allPermitsHeld() throws SQLException {
+            dataSource.getConnection();
+            dataSource.getConnection();
+
+            assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class);
+            assertThat(dataSource.getRejectedCount()).isEqualTo(1);
+        }
+
+        @Test
+        void should_releasePermit_when_targetFails() throws SQLException {
+            when(target.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+            assertThatThrownBy(() -> dataSource.getConnection()).isInstanceOf(SQLException.class);
+
+            assertThat(dataSource.getAvailablePermits()).isEqualTo(2);
+        }
+
+        @Test
+        void should_delegateCallsToTargetConnection() throws SQLException {
+            Connection targetConnection = mock(Connection.class);
+            when(target.getConnection()).thenReturn(targetConnection);
+
+            dataSource.getConnection().setAutoCommit(false);
+
+            verify(targetConnection).setAutoCommit(false);
+        }
+    }
+
+    @Nested
+    @DisplayName("Configuration")
+    class Configuration {
+
+        @Test
+        void should_preferConfiguredPermits() {
+            assertThat(VirtualThreadConfig.resolvePermits(target, 7)).isEqualTo(7);
+        }
+
+        @Test
+        void should_fail_when_poolSizeCannotBeDerived() {
+            assertThatThrownBy(() -> VirtualThreadConfig.resolvePermits(target, 0))
+                .isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        void should_wrapOnlyThePrimaryPool() {
+            var postProcessor = new VirtualThreadConfig.ConcurrencyLimitingPostProcessor(
+                "dataSource", 0, Duration.ofSeconds(1)
+            );
+            try (HikariDataSource pool = new HikariDataSource()) {
+                pool.setMaximumPoolSize(5);
+
+                Object primary = postProcessor.postProcessAfterInitialization(pool, "dataSource");
+                Object other = postProcessor.postProcessAfterInitialization(pool, "reportingDataSource");
+
+                assertThat(primary).isInstanceOf(ConcurrencyLimitingDataSource.class);
+                assertThat(((ConcurrencyLimitingDataSource) primary).getMaxPermits()).isEqualTo(5);
+                assertThat(DataSourceUnwrapper.unwrap((DataSource) primary, HikariConfigMXBean.class,
+                    HikariDataSource.class)).isSameAs(pool);
+                assertThat(other).isSameAs(pool);
+            }
+        }
+
+        @Test
+        void should_countRejectedPermits() throws SQLException {
+            var registry = new SimpleMeterRegistry();
+            new VirtualThreadConfig().concurrencyLimitingDataSourceMetrics(dataSource).bindTo(registry);
+            dataSource.getConnection();
+            dataSource.getConnection();
+
+            assertThatThrownBy(() -> dataSource.getConnection()).isInstanceOf(SQLException.class);
+
+            assertThat(registry.get("govinda.datasource.permits.rejected").functionCounter().count())
+                .isEqualTo(1.0);
+        }
+
+        @Test
+        void should_recordPinningPerSite() {
+            var registry = new SimpleMeterRegistry();
+            var monitor = new VirtualThreadPinningMonitor(registry, Duration.ofMillis(20));
+
+            monitor.recordPinning("JwtTokenService.validateToken", Duration.ofMillis(35));
+            monitor.recordPinning("JwtTokenService.validateToken", Duration.ofMillis(40));
+
+            assertThat(registry.get(VirtualThreadPinningMonitor.METER_NAME)
+                .tag("site", "JwtTokenService.validateToken")
+                .timer()
+                .count()).isEqualTo(2);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Govinda ERP - Change Request REST Controller
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.net.URI;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.Money;
+import net.voytrex.govinda.contract.application.ChangeRequestIntake;
+import net.voytrex.govinda.contract.application.SubmitChangeRequestCommand;
+import net.voytrex.govinda.contract.domain.model.ChangeRequestChannel;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/contracts/change-requests")
+@Tag(name = "Change Requests", description = "Franchise and model change requests (Mutationsanträge)")
+public class ChangeRequestController {
+    private static final String BASE_PATH = "/api/v1/contracts/change-requests/";
+    private static final String BEARER_AUTH = "bearerAuth";
+    private static final String TENANT_HEADER = "X-Tenant-Id";
+    private static final String READ_AUTHORITY = "hasAuthority('contract:read')";
+    private static final String WRITE_AUTHORITY = "hasAuthority('contract:write')";
+    private static final long POLL_AFTER_SECONDS = 2;
+
+    private final ChangeRequestIntake intake;
+
+    public ChangeRequestController(ChangeRequestIntake intake) {
+        this.intake = intake;
+    }
+
+    @PostMapping
+    @Operation(
+        summary = "Submit change request",
+        description = "Queues a franchise or model change and returns 202 with the request to poll. "
+            + "The requested value is the franchise, or for a model change the id of the target product; "
+            + "both need the quoted premium. Returns 503 with Retry-After while the intake is saturated.",
+        security = @SecurityRequirement(name = BEARER_AUTH)
+    )
+    @PreAuthorize(WRITE_AUTHORITY)
+    public ResponseEntity<ChangeRequestResponse> submit(
+        @RequestHeader(TENANT_HEADER) UUID tenantId,
+        @RequestHeader("X-User-Id") UUID userId,
+        @Valid @RequestBody SubmitChangeRequest request
+    ) {
+        var command = new SubmitChangeRequestCommand(
+            tenantId,
+            request.coverageId(),
+            request.requestType(),
+            request.requestedValue(),
+            request.quotedMonthlyPremium() != null ? new Money(request.quotedMonthlyPremium()) : null,
+            request.effectiveDate(),
+            request.channel() != null ? request.channel() : ChangeRequestChannel.PORTAL,
+            userId
+        );
+        var received = intake.submit(command);
+        return ResponseEntity
+            .accepted()
+            .location(URI.create(BASE_PATH + received.id()))
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(POLL_AFTER_SECONDS))
+            .body(ChangeRequestResponse.from(received));
+    }
+
+    @GetMapping("/{id}")
+    @Operation(
+        summary = "Get change request",
+        description = "Returns the processing state of a change request",
+        security = @SecurityRequirement(name = BEARER_AUTH)
+    )
+    @PreAuthorize(READ_AUTHORITY)
+    public ChangeRequestResponse getChangeRequest(
+        @RequestHeader(TENANT_HEADER) UUID tenantId,
+        @PathVariable UUID id
+    ) {
+        return ChangeRequestResponse.from(intake.status(tenantId, id));
+    }
+}
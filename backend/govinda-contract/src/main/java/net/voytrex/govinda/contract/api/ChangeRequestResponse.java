@@ -0,0 +1,49 @@
+/*
+ * Govinda ERP - Change Request Response
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.api;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+import net.voytrex.govinda.contract.domain.model.ChangeRequest;
+import net.voytrex.govinda.contract.domain.model.ChangeRequestChannel;
+import net.voytrex.govinda.contract.domain.model.ChangeRequestStatus;
+import net.voytrex.govinda.contract.domain.model.CoverageMutationType;
+import org.springframework.lang.Nullable;
+
+public record ChangeRequestResponse(
+    UUID id,
+    UUID coverageId,
+    CoverageMutationType requestType,
+    String requestedValue,
+    @Nullable BigDecimal quotedMonthlyPremium,
+    LocalDate effectiveDate,
+    ChangeRequestChannel channel,
+    ChangeRequestStatus status,
+    @Nullable String rejectionReason,
+    @Nullable UUID mutationId,
+    Instant submittedAt,
+    @Nullable Instant processedAt
+) {
+    public static ChangeRequestResponse from(ChangeRequest request) {
+        return new ChangeRequestResponse(
+            request.id(),
+            request.coverageId(),
+            request.requestType(),
+            request.requestedValue(),
+            request.quotedMonthlyPremium() != null ? request.quotedMonthlyPremium().getAmount() : null,
+            request.effectiveDate(),
+            request.channel(),
+            request.status(),
+            request.rejectionReason(),
+            request.mutationId(),
+            request.submittedAt(),
+            request.processedAt()
+        );
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Govinda ERP - Submit Change Request
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.api;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+import net.voytrex.govinda.contract.domain.model.ChangeRequestChannel;
+import net.voytrex.govinda.contract.domain.model.CoverageMutationType;
+
+public record SubmitChangeRequest(
+    @NotNull(message = "Coverage is required")
+    UUID coverageId,
+    @NotNull(message = "Request type is required")
+    CoverageMutationType requestType,
+    @NotBlank(message = "Requested value is required")
+    String requestedValue,
+    @DecimalMin(value = "0.00", message = "Quoted premium must not be negative")
+    BigDecimal quotedMonthlyPremium,
+    @NotNull(message = "Effective date is required")
+    @Future(message = "Effective date must be in the future")
+    LocalDate effectiveDate,
+    ChangeRequestChannel channel
+) { }
@@ -0,0 +1,277 @@
+/*
+ * Govinda ERP - Change Request Handler
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.List;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.exception.CoverageValidationException;
+import net.voytrex.govinda.common.domain.model.CoverageStatus;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.common.domain.model.ProductType;
+import net.voytrex.govinda.contract.domain.model.ChangeRequest;
+import net.voytrex.govinda.contract.domain.model.Coverage;
+import net.voytrex.govinda.contract.domain.model.CoverageMutation;
+import net.voytrex.govinda.contract.domain.model.CoverageMutationType;
+import net.voytrex.govinda.contract.domain.model.MutationStatus;
+import net.voytrex.govinda.contract.domain.repository.ChangeRequestRepository;
+import net.voytrex.govinda.contract.domain.repository.CoverageRepository;
+import net.voytrex.govinda.contract.domain.repository.MutationRepository;
+import net.voytrex.govinda.product.domain.model.Tariff;
+import net.voytrex.govinda.product.domain.repository.TariffRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Validates received change requests against their coverage and records the
+ * accepted ones as coverage mutations. A model change names the product to
+ * move to; it is recorded with that product's tariff valid on the effective
+ * date, which the quoted premium is based on.
+ *
+ * Each request is handled in its own transaction, so one slow or failing
+ * request does not hold back the others. A request whose transaction fails
+ * stays PROCESSING and is claimed again once its claim is older than
+ * {@code govinda.contract.change-requests.claim-timeout}, up to
+ * {@code max-attempts} claims in all; after that it is marked FAILED for
+ * manual follow-up instead of being retried forever. Outcomes are counted
+ * only once their transaction has committed.
+ */
+@Service
+public class ChangeRequestHandler {
+    static final String PROCESSED_METER = "govinda.contract.change-requests.processed";
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChangeRequestHandler.class);
+    private static final MonthDay ANNUAL_CHANGE_DAY = MonthDay.of(1, 1);
+
+    private final ChangeRequestRepository changeRequestRepository;
+    private final CoverageRepository coverageRepository;
+    private final MutationRepository mutationRepository;
+    private final TariffRepository tariffRepository;
+    private final MutationScheduler mutationScheduler;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration claimTimeout;
+    private final int maxAttempts;
+    private final Counter acceptedCounter;
+    private final Counter rejectedCounter;
+    private final Counter failedCounter;
+
+    // CHECKSTYLE:OFF: ParameterNumber - Spring constructor injection
+    public ChangeRequestHandler(
+        ChangeRequestRepository changeRequestRepository,
+        CoverageRepository coverageRepository,
+        MutationRepository mutationRepository,
+        TariffRepository tariffRepository,
+        MutationScheduler mutationScheduler,
+        PlatformTransactionManager transactionManager,
+        ObjectProvider<MeterRegistry> meterRegistry,
+        @Value("${govinda.contract.change-requests.claim-timeout:5m}") Duration claimTimeout,
+        @Value("${govinda.contract.change-requests.max-attempts:5}") int maxAttempts
+    ) {
+        // CHECKSTYLE:ON: ParameterNumber
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("max-attempts must be positive");
+        }
+        this.changeRequestRepository = changeRequestRepository;
+        this.coverageRepository = coverageRepository;
+        this.mutationRepository = mutationRepository;
+        this.tariffRepository = tariffRepository;
+        this.mutationScheduler = mutationScheduler;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.claimTimeout = claimTimeout;
+        this.maxAttempts = maxAttempts;
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        this.acceptedCounter = Counter.builder(PROCESSED_METER)
+            .description("Change requests validated")
+            .tag("outcome", "accepted")
+            .register(registry);
+        this.rejectedCounter = Counter.builder(PROCESSED_METER)
+            .description("Change requests validated")
+            .tag("outcome", "rejected")
+            .register(registry);
+        this.failedCounter = Counter.builder(PROCESSED_METER)
+            .description("Change requests validated")
+            .tag("outcome", "failed")
+            .register(registry);
+    }
+
+    /**
+     * Claims up to {@code limit} open requests for this node, oldest first,
+     * after failing abandoned claims that have no attempts left.
+     */
+    public List<ChangeRequest> claim(int limit) {
+        return transactionTemplate.execute(status -> {
+            Instant staleBefore = Instant.now().minus(claimTimeout);
+            int failed = changeRequestRepository.failStale(
+                staleBefore, maxAttempts, "Abandoned after " + maxAttempts + " attempts"
+            );
+            if (failed > 0) {
+                LOGGER.error("{} change requests failed after {} abandoned attempts", failed, maxAttempts);
+                failedCounter.increment(failed);
+            }
+            return changeRequestRepository.claim(limit, staleBefore, maxAttempts);
+        });
+    }
+
+    /**
+     * Validates a claimed request, then records it as a mutation or rejects it.
+     * If processing fails on the request's last attempt, the request is marked
+     * FAILED; otherwise the failure is rethrown and the request retried later.
+     */
+    public void handle(ChangeRequest request) {
+        Boolean accepted;
+        try {
+            accepted = transactionTemplate.execute(status -> process(request));
+        } catch (RuntimeException e) {
+            failIfExhausted(request, e);
+            return;
+        }
+        if (Boolean.TRUE.equals(accepted)) {
+            acceptedCounter.increment();
+        } else {
+            rejectedCounter.increment();
+        }
+    }
+
+    private boolean process(ChangeRequest request) {
+        try {
+            Coverage coverage = validate(request);
+            CoverageMutation mutation = mutationScheduler.schedule(toMutation(request, coverage));
+            changeRequestRepository.accept(request.id(), mutation.getId());
+            return true;
+        } catch (CoverageValidationException | IllegalArgumentException e) {
+            LOGGER.debug("Change request {} rejected: {}", request.id(), e.getMessage());
+            changeRequestRepository.reject(request.id(), String.valueOf(e.getMessage()));
+            return false;
+        }
+    }
+
+    private CoverageMutation toMutation(ChangeRequest request, Coverage coverage) {
+        String reason = "Change request " + request.id() + " via " + request.channel();
+        if (request.requestType() == CoverageMutationType.MODEL_CHANGE) {
+            Tariff tariff = modelTariff(coverage, UUID.fromString(request.requestedValue()), request.effectiveDate());
+            return CoverageMutation.modelChange(
+                coverage,
+                request.effectiveDate(),
+                tariff.getProduct().getId(),
+                tariff.getId(),
+                request.quotedMonthlyPremium(),
+                reason,
+                request.submittedBy()
+            );
+        }
+        return new CoverageMutation(
+            coverage,
+            request.requestType(),
+            request.effectiveDate(),
+            request.requestedValue(),
+            request.quotedMonthlyPremium(),
+            reason,
+            request.submittedBy()
+        );
+    }
+
+    private void failIfExhausted(ChangeRequest request, RuntimeException cause) {
+        String reason = "Processing failed: " + cause.getMessage();
+        boolean failed;
+        try {
+            failed = Boolean.TRUE.equals(transactionTemplate.execute(
+                status -> changeRequestRepository.failIfExhausted(request.id(), maxAttempts, reason)
+            ));
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+            throw cause;
+        }
+        if (!failed) {
+            throw cause;
+        }
+        LOGGER.error("Change request {} failed after {} attempts", request.id(), maxAttempts, cause);
+        failedCounter.increment();
+    }
+
+    private Coverage validate(ChangeRequest request) {
+        Coverage coverage = coverageRepository.findById(request.coverageId())
+            .filter(found -> found.getTenantId().equals(request.tenantId()))
+            .orElseThrow(() -> new CoverageValidationException("Coverage " + request.coverageId() + " not found"));
+        LocalDate effectiveDate = request.effectiveDate();
+        if (!effectiveDate.isAfter(LocalDate.now()) || effectiveDate.getDayOfMonth() != 1) {
+            throw new CoverageValidationException("Changes take effect on the first of a future month");
+        }
+        if (coverage.getStatus() == CoverageStatus.TERMINATED || !coverage.isActiveOn(effectiveDate)) {
+            throw new CoverageValidationException("Coverage is not in force on " + effectiveDate);
+        }
+        if (request.requestType() == CoverageMutationType.FRANCHISE_CHANGE) {
+            validateFranchise(coverage, Franchise.valueOf(request.requestedValue()), effectiveDate);
+        } else {
+            validateModelChange(coverage, effectiveDate);
+        }
+        boolean duplicate = mutationRepository.findByCoverageId(coverage.getId()).stream().anyMatch(mutation ->
+            mutation.getStatus() == MutationStatus.PENDING
+                && mutation.getMutationType() == request.requestType()
+                && mutation.getEffectiveDate().equals(effectiveDate)
+        );
+        if (duplicate) {
+            throw new CoverageValidationException(
+                request.requestType() + " on " + effectiveDate + " is already pending for this coverage"
+            );
+        }
+        return coverage;
+    }
+
+    private static void validateFranchise(Coverage coverage, Franchise franchise, LocalDate effectiveDate) {
+        if (coverage.getFranchise() == null) {
+            throw new CoverageValidationException("Coverage has no franchise");
+        }
+        if (coverage.getFranchise() == franchise) {
+            throw new CoverageValidationException("Coverage already has franchise " + franchise);
+        }
+        if (!MonthDay.from(effectiveDate).equals(ANNUAL_CHANGE_DAY)) {
+            throw new CoverageValidationException("Franchise changes take effect on 1 January");
+        }
+        if (!franchise.isAllowedFor(coverage.getAgeGroup())) {
+            throw new CoverageValidationException(franchise + " is not available for " + coverage.getAgeGroup());
+        }
+    }
+
+    private static void validateModelChange(Coverage coverage, LocalDate effectiveDate) {
+        if (coverage.getFranchise() == null) {
+            throw new CoverageValidationException("Model changes apply to basic insurance only");
+        }
+        if (!MonthDay.from(effectiveDate).equals(ANNUAL_CHANGE_DAY)) {
+            throw new CoverageValidationException("Model changes take effect on 1 January");
+        }
+    }
+
+    /**
+     * Tariff of the requested basic insurance product valid on the effective date.
+     */
+    private Tariff modelTariff(Coverage coverage, UUID productId, LocalDate effectiveDate) {
+        if (productId.equals(coverage.getProductId())) {
+            throw new CoverageValidationException("Coverage already has product " + productId);
+        }
+        List<Tariff> tariffs = tariffRepository.findActiveOn(coverage.getTenantId(), ProductType.KVG, effectiveDate)
+            .stream()
+            .filter(tariff -> tariff.getProduct().getId().equals(productId))
+            .toList();
+        if (tariffs.size() != 1) {
+            throw new CoverageValidationException(tariffs.isEmpty()
+                ? "Product " + productId + " has no basic insurance tariff on " + effectiveDate
+                : "Product " + productId + " has more than one tariff on " + effectiveDate);
+        }
+        return tariffs.get(0);
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Govinda ERP - Change Request Intake
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import net.voytrex.govinda.common.domain.exception.EntityNotFoundException;
+import net.voytrex.govinda.common.domain.exception.InvalidMutationException;
+import net.voytrex.govinda.common.domain.exception.ServiceOverloadedException;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.contract.domain.model.ChangeRequest;
+import net.voytrex.govinda.contract.domain.model.CoverageMutationType;
+import net.voytrex.govinda.contract.domain.repository.ChangeRequestRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Accepts franchise and model change requests for asynchronous processing.
+ *
+ * Submitting checks only the shape of a request and stores it with one
+ * insert, so its latency does not depend on coverage validation, which
+ * {@link ChangeRequestHandler} does later. At most
+ * {@code govinda.contract.change-requests.max-concurrent-submits} inserts run
+ * at once; beyond that, and while the queue holds more than
+ * {@code max-open} requests, submissions are rejected with
+ * {@link ServiceOverloadedException} so clients back off and retry.
+ *
+ * The queue size is counted locally per submit and recounted from the
+ * database at most every {@code open-refresh-interval}, on a background
+ * thread started by a submit, so nodes that only serve requests see the queue
+ * drain even though they run no workers.
+ */
+@Service
+public class ChangeRequestIntake {
+    static final String SUBMITTED_METER = "govinda.contract.change-requests.submitted";
+    static final String OPEN_METER = "govinda.contract.change-requests.open";
+    private static final String SERVICE_NAME = "Change request intake";
+    private static final long RETRY_AFTER_SECONDS = 5;
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChangeRequestIntake.class);
+
+    private final ChangeRequestRepository changeRequestRepository;
+    private final Semaphore permits;
+    private final long acquireTimeoutMillis;
+    private final long maxOpen;
+    private final long openRefreshNanos;
+    private final AtomicLong open = new AtomicLong();
+    private final AtomicLong nextRefreshNanos = new AtomicLong(System.nanoTime());
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final Counter submittedCounter;
+
+    // CHECKSTYLE:OFF: ParameterNumber - Spring constructor injection
+    public ChangeRequestIntake(
+        ChangeRequestRepository changeRequestRepository,
+        ObjectProvider<MeterRegistry> meterRegistry,
+        @Value("${govinda.contract.change-requests.max-concurrent-submits:32}") int maxConcurrentSubmits,
+        @Value("${govinda.contract.change-requests.acquire-timeout:200ms}") Duration acquireTimeout,
+        @Value("${govinda.contract.change-requests.max-open:1000000}") long maxOpen,
+        @Value("${govinda.contract.change-requests.open-refresh-interval:10s}") Duration openRefreshInterval
+    ) {
+        // CHECKSTYLE:ON: ParameterNumber
+        if (maxConcurrentSubmits < 1 || maxOpen < 1) {
+            throw new IllegalArgumentException("submit limits must be positive");
+        }
+        this.changeRequestRepository = changeRequestRepository;
+        this.permits = new Semaphore(maxConcurrentSubmits, true);
+        this.acquireTimeoutMillis = acquireTimeout.toMillis();
+        this.maxOpen = maxOpen;
+        this.openRefreshNanos = openRefreshInterval.toNanos();
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        this.submittedCounter = Counter.builder(SUBMITTED_METER)
+            .description("Change requests accepted into the intake queue")
+            .register(registry);
+        Gauge.builder(OPEN_METER, open, AtomicLong::get)
+            .description("Change requests received or being processed")
+            .register(registry);
+    }
+
+    /**
+     * Stores a request as RECEIVED.
+     *
+     * @throws InvalidMutationException   if the request is malformed
+     * @throws ServiceOverloadedException if the intake is saturated
+     */
+    public ChangeRequest submit(SubmitChangeRequestCommand command) {
+        requireWellFormed(command);
+        refreshOpenIfDue();
+        if (open.get() >= maxOpen) {
+            throw new ServiceOverloadedException(SERVICE_NAME, RETRY_AFTER_SECONDS);
+        }
+        ChangeRequest request = ChangeRequest.received(
+            command.tenantId(),
+            command.coverageId(),
+            command.requestType(),
+            command.requestedValue(),
+            command.quotedMonthlyPremium(),
+            command.effectiveDate(),
+            command.channel(),
+            command.submittedBy()
+        );
+        acquire();
+        try {
+            changeRequestRepository.insert(request);
+        } finally {
+            permits.release();
+        }
+        open.incrementAndGet();
+        submittedCounter.increment();
+        return request;
+    }
+
+    /**
+     * Current state of a request, for clients polling its outcome.
+     */
+    public ChangeRequest status(UUID tenantId, UUID id) {
+        return changeRequestRepository.findById(tenantId, id)
+            .orElseThrow(() -> new EntityNotFoundException("ChangeRequest", id));
+    }
+
+    /**
+     * Refreshes the number of open requests from the queue now, postponing
+     * the next background refresh.
+     */
+    public void sampleOpen() {
+        open.set(changeRequestRepository.countOpen());
+        nextRefreshNanos.set(System.nanoTime() + openRefreshNanos);
+    }
+
+    private void refreshOpenIfDue() {
+        if (System.nanoTime() - nextRefreshNanos.get() < 0 || !refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        Thread.ofVirtual().name("change-request-open-count").start(() -> {
+            try {
+                sampleOpen();
+            } catch (RuntimeException e) {
+                nextRefreshNanos.set(System.nanoTime() + openRefreshNanos);
+                LOGGER.warn("Counting open change requests failed: {}", e.getMessage());
+            } finally {
+                refreshing.set(false);
+            }
+        });
+    }
+
+    private void acquire() {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new ServiceOverloadedException(SERVICE_NAME, RETRY_AFTER_SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceOverloadedException(SERVICE_NAME, RETRY_AFTER_SECONDS);
+        }
+    }
+
+    private static void requireWellFormed(SubmitChangeRequestCommand command) {
+        if (!ChangeRequest.REQUESTABLE.contains(command.requestType())) {
+            throw new InvalidMutationException(command.requestType() + " cannot be requested");
+        }
+        try {
+            if (command.requestType() == CoverageMutationType.FRANCHISE_CHANGE) {
+                Franchise.valueOf(command.requestedValue());
+            } else {
+                UUID.fromString(command.requestedValue());
+            }
+        } catch (IllegalArgumentException e) {
+            throw new InvalidMutationException("Invalid requested value " + command.requestedValue());
+        }
+        if (command.quotedMonthlyPremium() == null || command.quotedMonthlyPremium().isNegative()) {
+            throw new InvalidMutationException(command.requestType() + " requires the quoted premium");
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Govinda ERP - Change Request Workers
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.application;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import net.voytrex.govinda.contract.domain.model.ChangeRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background workers validating queued change requests.
+ *
+ * A poller claims open requests and hands each to {@link ChangeRequestHandler}
+ * on a virtual thread. It only claims as many requests as there are free
+ * permits, so at most {@code govinda.contract.change-requests.concurrency}
+ * requests per node are validated at once however large the queue grows, and
+ * a burst of submissions is worked off at a steady rate instead of competing
+ * with the submissions for database connections.
+ *
+ * Disable with {@code govinda.contract.change-requests.enabled=false}, e.g. on
+ * nodes that should only serve requests.
+ */
+@Component
+@ConditionalOnProperty(prefix = "govinda.contract.change-requests", name = "enabled", havingValue = "true",
+    matchIfMissing = true)
+public class ChangeRequestWorkers implements SmartLifecycle {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChangeRequestWorkers.class);
+    private static final long MAX_BACKOFF_MILLIS = 60_000L;
+    private static final long JOIN_TIMEOUT_MILLIS = 10_000L;
+
+    private final ChangeRequestHandler handler;
+    private final int concurrency;
+    private final Duration pollDelay;
+    private final Semaphore permits;
+    @Nullable
+    private ExecutorService executor;
+    @Nullable
+    private Thread poller;
+    private volatile boolean running;
+
+    public ChangeRequestWorkers(
+        ChangeRequestHandler handler,
+        @Value("${govinda.contract.change-requests.concurrency:8}") int concurrency,
+        @Value("${govinda.contract.change-requests.poll-delay:500ms}") Duration pollDelay
+    ) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency must be positive");
+        }
+        this.handler = handler;
+        this.concurrency = concurrency;
+        this.pollDelay = pollDelay;
+        this.permits = new Semaphore(concurrency);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("change-request-", 0).factory());
+        poller = Thread.ofPlatform()
+            .name("change-request-poller")
+            .daemon(true)
+            .start(this::pollLoop);
+        LOGGER.info("Change request workers started with concurrency {}", concurrency);
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (poller != null) {
+            poller.interrupt();
+            try {
+                poller.join(JOIN_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            poller = null;
+        }
+        if (executor != null) {
+            executor.close();
+            executor = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void pollLoop() {
+        long backoff = pollDelay.toMillis();
+        while (running) {
+            try {
+                permits.acquire();
+                int free = 1 + permits.drainPermits();
+                List<ChangeRequest> claimed = claim(free);
+                permits.release(free - claimed.size());
+                claimed.forEach(this::dispatch);
+                backoff = pollDelay.toMillis();
+                if (claimed.isEmpty()) {
+                    sleepQuietly(pollDelay.toMillis());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                LOGGER.warn("Claiming change requests failed, retrying in {} ms: {}", backoff, e.getMessage());
+                sleepQuietly(backoff);
+                backoff = Math.min(Math.max(backoff, 1) * 2, MAX_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    private List<ChangeRequest> claim(int free) {
+        try {
+            return handler.claim(free);
+        } catch (RuntimeException e) {
+            permits.release(free);
+            throw e;
+        }
+    }
+
+    private void dispatch(ChangeRequest request) {
+        ExecutorService current = executor;
+        if (current == null) {
+            permits.release();
+            return;
+        }
+        current.execute(() -> {
+            try {
+                handler.handle(request);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Change request {} failed, retrying after the claim timeout: {}",
+                    request.id(), e.getMessage());
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Govinda ERP - Coverage Timeline Index
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.application;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import net.voytrex.govinda.common.domain.model.InsuranceModel;
+import net.voytrex.govinda.common.infrastructure.cache.CacheInvalidationBus;
+import net.voytrex.govinda.common.infrastructure.cache.LocalCache;
+import net.voytrex.govinda.contract.domain.model.Coverage;
+import net.voytrex.govinda.contract.domain.model.CoverageMutation;
+import net.voytrex.govinda.contract.domain.model.CoverageSpan;
+import net.voytrex.govinda.contract.domain.model.CoverageTimeline;
+import net.voytrex.govinda.contract.domain.repository.CoverageRepository;
+import net.voytrex.govinda.contract.domain.repository.MutationRepository;
+import net.voytrex.govinda.product.domain.model.Product;
+import net.voytrex.govinda.product.domain.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+/**
+ * In-memory {@link CoverageTimeline}s of insured persons, for as-of checks
+ * such as "which coverage, franchise and model applied on the service date"
+ * during claims adjudication and billing.
+ *
+ * Timelines are loaded on first use, from the coverages and their processed
+ * mutations, and then answer point and range queries without SQL. Batches
+ * should call {@link #timelines(Collection)} with all persons of a chunk, which
+ * loads the missing ones with two queries. When the mutation processor changes
+ * coverages, the timelines of the affected persons are evicted on every node
+ * through the {@link CacheInvalidationBus} and reloaded on next use; timelines
+ * read while an eviction arrived are returned but not kept. Once more
+ * than {@code govinda.contract.coverage-timeline.max-entries} timelines are
+ * held, the index is cleared and refills with the persons in use.
+ */
+@Service
+public class CoverageTimelineIndex {
+    static final String NAME = "contract.coverage-timeline";
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    private final CoverageRepository coverageRepository;
+    private final MutationRepository mutationRepository;
+    private final ProductRepository productRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final LocalCache<UUID, CoverageTimeline> timelines;
+    private final Map<UUID, Optional<InsuranceModel>> productModels = new ConcurrentHashMap<>();
+    private final int maxEntries;
+
+    public CoverageTimelineIndex(
+        CoverageRepository coverageRepository,
+        MutationRepository mutationRepository,
+        ProductRepository productRepository,
+        CacheInvalidationBus cacheInvalidationBus,
+        @Value("${govinda.contract.coverage-timeline.max-entries:500000}") int maxEntries
+    ) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("max entries must be positive");
+        }
+        this.coverageRepository = coverageRepository;
+        this.mutationRepository = mutationRepository;
+        this.productRepository = productRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.timelines = cacheInvalidationBus.register(new LocalCache<>(NAME, UUID::fromString));
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Coverage timeline of a person; empty if the person has no coverages.
+     */
+    public CoverageTimeline timeline(UUID insuredPersonId) {
+        CoverageTimeline cached = timelines.getIfPresent(insuredPersonId);
+        return cached != null ? cached : timelines(List.of(insuredPersonId)).get(insuredPersonId);
+    }
+
+    /**
+     * Coverage timelines of several persons, loading the missing ones in bulk.
+     */
+    public Map<UUID, CoverageTimeline> timelines(Collection<UUID> insuredPersonIds) {
+        Map<UUID, CoverageTimeline> found = new HashMap<>();
+        List<UUID> missing = new ArrayList<>();
+        for (UUID personId : new LinkedHashSet<>(insuredPersonIds)) {
+            CoverageTimeline cached = timelines.getIfPresent(personId);
+            if (cached != null) {
+                found.put(personId, cached);
+            } else {
+                missing.add(personId);
+            }
+        }
+        for (int from = 0; from < missing.size(); from += LOAD_CHUNK_SIZE) {
+            found.putAll(load(missing.subList(from, Math.min(from + LOAD_CHUNK_SIZE, missing.size()))));
+        }
+        return found;
+    }
+
+    /**
+     * Evicts the timelines of persons whose coverages changed, on every node
+     * once the current transaction commits.
+     */
+    public void invalidate(Collection<UUID> insuredPersonIds) {
+        for (UUID personId : new LinkedHashSet<>(insuredPersonIds)) {
+            cacheInvalidationBus.invalidate(NAME, personId);
+        }
+    }
+
+    /**
+     * Number of timelines held in memory.
+     */
+    public int size() {
+        return timelines.size();
+    }
+
+    private Map<UUID, CoverageTimeline> load(List<UUID> personIds) {
+        if (timelines.size() + personIds.size() > maxEntries) {
+            timelines.evictAll();
+        }
+        long generation = timelines.generation();
+        List<Coverage> coverages = coverageRepository.findByInsuredPersonIds(personIds);
+        Map<UUID, List<CoverageMutation>> mutationsByCoverage = new HashMap<>();
+        if (!coverages.isEmpty()) {
+            List<UUID> coverageIds = coverages.stream().map(Coverage::getId).toList();
+            for (CoverageMutation mutation : mutationRepository.findProcessedByCoverageIds(coverageIds)) {
+                mutationsByCoverage.computeIfAbsent(mutation.getCoverageId(), id -> new ArrayList<>()).add(mutation);
+            }
+        }
+        Map<UUID, List<CoverageSpan>> spansByPerson = new HashMap<>();
+        for (Coverage coverage : coverages) {
+            spansByPerson.computeIfAbsent(coverage.getInsuredPersonId(), id -> new ArrayList<>())
+                .addAll(CoverageTimeline.spansOf(
+                    coverage,
+                    mutationsByCoverage.getOrDefault(coverage.getId(), List.of()),
+                    insuranceModel(coverage)
+                ));
+        }
+
+        Map<UUID, CoverageTimeline> loaded = new HashMap<>();
+        for (UUID personId : personIds) {
+            CoverageTimeline timeline = CoverageTimeline.of(personId, spansByPerson.getOrDefault(personId, List.of()));
+            timelines.putLoaded(personId, timeline, generation);
+            loaded.put(personId, timeline);
+        }
+        return loaded;
+    }
+
+    @Nullable
+    private InsuranceModel insuranceModel(Coverage coverage) {
+        return productModels.computeIfAbsent(coverage.getProductId(), productId ->
+            productRepository.findByIdAndTenantId(productId, coverage.getTenantId()).map(Product::getInsuranceModel)
+        ).orElse(null);
+    }
+}
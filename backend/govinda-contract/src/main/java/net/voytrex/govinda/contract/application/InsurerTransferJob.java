@@ -0,0 +1,293 @@
+/*
+ * Govinda ERP - Insurer Transfer Job
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.application;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.exception.BusinessRuleViolationException;
+import net.voytrex.govinda.common.infrastructure.batch.BatchCheckpoint;
+import net.voytrex.govinda.common.infrastructure.batch.BatchRun;
+import net.voytrex.govinda.common.infrastructure.batch.BatchRunStore;
+import net.voytrex.govinda.common.infrastructure.batch.ChunkedBatchRunner;
+import net.voytrex.govinda.common.infrastructure.batch.RecordChunks;
+import net.voytrex.govinda.contract.domain.model.InsurerTransfer;
+import net.voytrex.govinda.contract.domain.model.TransferImportReport;
+import net.voytrex.govinda.contract.domain.model.TransferMessage;
+import net.voytrex.govinda.contract.domain.model.TransferOutcome;
+import net.voytrex.govinda.contract.domain.model.TransferPartyIndex;
+import net.voytrex.govinda.contract.domain.model.TransferType;
+import net.voytrex.govinda.contract.domain.repository.InsurerTransferRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * SASIS insurer transfer import: applies the TRANSFER_IN and TRANSFER_OUT
+ * messages of a batch file to the tenant's policies and basic coverages.
+ *
+ * An entry activates the person's pending application whose basic coverage
+ * starts on the effective date; an exit terminates the person's basic
+ * coverages on the day before. Before the file is read, every person of the
+ * tenant is loaded with one cursor query into a {@link TransferPartyIndex}
+ * keyed by packed AHV number, so matching a message is a hash lookup instead
+ * of a query. The file is then streamed in chunks of
+ * {@code govinda.contract.transfers.chunk-size} messages, which are applied
+ * concurrently on virtual threads; at most
+ * {@code govinda.contract.transfers.parallelism} chunks are in flight.
+ *
+ * The transfers of a chunk, their coverage and policy changes and the chunk
+ * checkpoint are committed in one transaction. Importing the same file again
+ * resumes an interrupted or failed run, skipping the messages of committed
+ * chunks by their position in the file, also if the chunk size has changed
+ * in between; a message
+ * id that was recorded before, from this file or another, or that repeats
+ * within a chunk, is counted as a duplicate and not applied again.
+ */
+@Service
+public class InsurerTransferJob {
+    public static final String JOB_NAME = "SASIS_TRANSFER_IMPORT";
+    static final int MAX_REPORTED_ERRORS = 20;
+    static final String REPLY_HEADER = "messageId;status;reason";
+    private static final Logger LOGGER = LoggerFactory.getLogger(InsurerTransferJob.class);
+    private static final TransferOutcome[] OUTCOMES = TransferOutcome.values();
+
+    private final InsurerTransferRepository transferRepository;
+    private final BatchRunStore batchRunStore;
+    private final ChunkedBatchRunner runner;
+    private final CoverageTimelineIndex timelineIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final int chunkSize;
+
+    // CHECKSTYLE:OFF: ParameterNumber - Spring constructor injection
+    public InsurerTransferJob(
+        InsurerTransferRepository transferRepository,
+        BatchRunStore batchRunStore,
+        CoverageTimelineIndex timelineIndex,
+        PlatformTransactionManager transactionManager,
+        @Value("${govinda.contract.transfers.parallelism:4}") int parallelism,
+        @Value("${govinda.contract.transfers.chunk-size:1000}") int chunkSize
+    ) {
+        // CHECKSTYLE:ON: ParameterNumber
+        if (parallelism < 1 || chunkSize < 1) {
+            throw new IllegalArgumentException("parallelism and chunk size must be positive");
+        }
+        this.transferRepository = transferRepository;
+        this.batchRunStore = batchRunStore;
+        this.runner = new ChunkedBatchRunner(batchRunStore, JOB_NAME, parallelism);
+        this.timelineIndex = timelineIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Imports a transfer file (UTF-8 CSV) for a tenant, resuming an unfinished
+     * run of the same file. The stream is closed.
+     *
+     * @throws BusinessRuleViolationException if the header is invalid
+     * @throws UncheckedIOException           if the file cannot be read
+     */
+    public TransferImportReport run(UUID tenantId, String fileName, InputStream input) {
+        TransferImportReport report = runner.run(tenantId + "/" + fileName, run -> {
+            try (TransferMessageReader reader = new TransferMessageReader(input, MAX_REPORTED_ERRORS)) {
+                return execute(run, tenantId, fileName, reader);
+            }
+        });
+        LOGGER.info(
+            "Transfer import {} of {}: {} messages in {} chunks ({} skipped), {} completed, {} duplicates, "
+                + "{} invalid in {} ms, {} messages/s",
+            report.runId(),
+            fileName,
+            report.processed(),
+            report.chunks(),
+            report.skippedChunks(),
+            report.completed(),
+            report.duplicates(),
+            report.invalid(),
+            report.elapsed().toMillis(),
+            Math.round(report.messagesPerSecond())
+        );
+        return report;
+    }
+
+    /**
+     * Writes the reply to an imported file: one line per recorded message in
+     * file order with its status and, for rejected transfers, the reason.
+     * Messages that were duplicates of earlier files were answered with those.
+     */
+    public void writeReply(UUID tenantId, String fileName, Writer writer) {
+        readOnlyTransactionTemplate.executeWithoutResult(status -> {
+            try {
+                writer.write(REPLY_HEADER);
+                writer.write('\n');
+                transferRepository.forEachReply(tenantId, fileName, reply -> {
+                    try {
+                        writer.write(reply.messageId());
+                        writer.write(';');
+                        writer.write(reply.status().name());
+                        writer.write(';');
+                        writer.write(reply.reason() != null ? reply.reason() : "");
+                        writer.write('\n');
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+                writer.flush();
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Could not write reply to transfer file " + fileName, ex);
+            }
+        });
+    }
+
+    private TransferImportReport execute(
+        BatchRun run,
+        UUID tenantId,
+        String fileName,
+        TransferMessageReader reader
+    ) throws IOException {
+        long started = System.nanoTime();
+        TransferPartyIndex parties = loadParties(tenantId);
+
+        long[] outcomes = new long[OUTCOMES.length];
+        long[] processed = new long[1];
+        RecordChunks<TransferMessage> chunks = new RecordChunks<>(run, chunkSize, reader::next);
+        runner.<RecordChunks.Chunk<TransferMessage>, long[]>process(
+            chunks,
+            (key, chunk) -> apply(run.checkpoint(key), tenantId, fileName, chunk, parties),
+            result -> {
+                for (int i = 0; i < outcomes.length; i++) {
+                    outcomes[i] += result[i];
+                    processed[0] += result[i];
+                }
+            }
+        );
+
+        processed[0] += chunks.skippedRecords();
+        batchRunStore.complete(run.id(), processed[0]);
+        return new TransferImportReport(
+            run.id(),
+            fileName,
+            chunks.chunks() + chunks.completedChunks(),
+            chunks.completedChunks(),
+            outcomes[TransferOutcome.COMPLETED.ordinal()],
+            outcomes[TransferOutcome.UNKNOWN_PERSON.ordinal()],
+            outcomes[TransferOutcome.NO_APPLICATION.ordinal()],
+            outcomes[TransferOutcome.NO_COVERAGE.ordinal()],
+            outcomes[TransferOutcome.DUPLICATE.ordinal()],
+            reader.invalid(),
+            reader.errors(),
+            Duration.ofNanos(System.nanoTime() - started)
+        );
+    }
+
+    private TransferPartyIndex loadParties(UUID tenantId) {
+        TransferPartyIndex parties = new TransferPartyIndex(0);
+        long[] malformed = new long[1];
+        readOnlyTransactionTemplate.executeWithoutResult(status -> transferRepository.forEachParty(
+            tenantId,
+            party -> {
+                if (!parties.add(party)) {
+                    malformed[0]++;
+                }
+            }
+        ));
+        if (malformed[0] > 0) {
+            LOGGER.warn("Ignored {} persons of tenant {} with malformed AHV number", malformed[0], tenantId);
+        }
+        return parties;
+    }
+
+    // CHECKSTYLE:OFF: ParameterNumber - Chunk context is passed explicitly to the worker
+    private long[] apply(
+        BatchCheckpoint start,
+        UUID tenantId,
+        String fileName,
+        RecordChunks.Chunk<TransferMessage> chunk,
+        TransferPartyIndex parties
+    ) {
+        // CHECKSTYLE:ON: ParameterNumber
+        UUID runId = start.runId();
+        List<TransferMessage> messages = chunk.records();
+        int firstRecord = Math.toIntExact(chunk.firstRecord());
+        List<InsurerTransfer> resolved = new ArrayList<>(messages.size());
+        List<String> messageIds = new ArrayList<>(messages.size());
+        for (int i = 0; i < messages.size(); i++) {
+            resolved.add(resolve(messages.get(i), firstRecord + i, parties));
+            messageIds.add(messages.get(i).messageId());
+        }
+        BatchCheckpoint checkpoint = new BatchCheckpoint(runId, start.partitionKey(), null, messages.size(), true);
+        return transactionTemplate.execute(status -> {
+            Set<String> recorded = new HashSet<>(transferRepository.findRecorded(tenantId, messageIds));
+            long[] outcomes = new long[OUTCOMES.length];
+            List<InsurerTransfer> transfers = new ArrayList<>(resolved.size());
+            List<InsurerTransfer> exits = new ArrayList<>();
+            List<UUID> policies = new ArrayList<>();
+            List<UUID> changedPersons = new ArrayList<>();
+            for (InsurerTransfer transfer : resolved) {
+                if (!recorded.add(transfer.message().messageId())) {
+                    outcomes[TransferOutcome.DUPLICATE.ordinal()]++;
+                    continue;
+                }
+                outcomes[transfer.outcome().ordinal()]++;
+                transfers.add(transfer);
+                if (transfer.outcome() != TransferOutcome.COMPLETED) {
+                    continue;
+                }
+                if (transfer.message().type() == TransferType.EXIT) {
+                    exits.add(transfer);
+                } else {
+                    policies.add(transfer.policyId());
+                }
+                changedPersons.add(transfer.personId());
+            }
+            if (!transfers.isEmpty()) {
+                transferRepository.saveTransfers(runId, tenantId, fileName, transfers);
+                transferRepository.terminateCoverages(exits);
+                transferRepository.activatePolicies(policies);
+                timelineIndex.invalidate(changedPersons);
+            }
+            batchRunStore.checkpoint(checkpoint);
+            return outcomes;
+        });
+    }
+
+    /**
+     * Matches a message to its person and finds the changes it causes.
+     */
+    InsurerTransfer resolve(TransferMessage message, int recordNumber, TransferPartyIndex parties) {
+        int person = parties.person(message.ahvNumber());
+        if (person == TransferPartyIndex.NONE) {
+            return InsurerTransfer.rejected(message, recordNumber, TransferOutcome.UNKNOWN_PERSON, null);
+        }
+        UUID personId = parties.personId(person);
+        if (message.type() == TransferType.ENTRY) {
+            UUID policyId = parties.pendingPolicy(person, message.effectiveDate());
+            if (policyId == null) {
+                return InsurerTransfer.rejected(message, recordNumber, TransferOutcome.NO_APPLICATION, personId);
+            }
+            return new InsurerTransfer(message, recordNumber, TransferOutcome.COMPLETED, personId, policyId, List.of());
+        }
+        List<UUID> coverages = parties.coveragesInForceAfter(person, message.lastDayWithPreviousInsurer());
+        if (coverages.isEmpty()) {
+            return InsurerTransfer.rejected(message, recordNumber, TransferOutcome.NO_COVERAGE, personId);
+        }
+        return new InsurerTransfer(message, recordNumber, TransferOutcome.COMPLETED, personId, null, coverages);
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Govinda ERP - Insurer Transfer Poller
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.application;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import net.voytrex.govinda.common.domain.exception.BusinessRuleViolationException;
+import net.voytrex.govinda.contract.domain.model.TransferImportReport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background thread importing the transfer files delivered to the
+ * {@link SasisMailbox}, oldest first.
+ *
+ * Each file is imported by {@link InsurerTransferJob}, answered with a reply
+ * file and then archived. A file that fails is left in the inbox and retried
+ * with backoff; the retry resumes the run from its last committed chunk. A
+ * file whose header is invalid is moved aside without a reply.
+ *
+ * Enable with {@code govinda.contract.transfers.enabled=true} on the node that
+ * has access to the exchange directory.
+ */
+@Component
+@ConditionalOnProperty(prefix = "govinda.contract.transfers", name = "enabled", havingValue = "true")
+public class InsurerTransferPoller implements SmartLifecycle {
+    private static final Logger LOGGER = LoggerFactory.getLogger(InsurerTransferPoller.class);
+    private static final long MAX_BACKOFF_MILLIS = 60_000L;
+    private static final long JOIN_TIMEOUT_MILLIS = 10_000L;
+
+    private final SasisMailbox mailbox;
+    private final InsurerTransferJob job;
+    private final Duration pollInterval;
+    private volatile boolean running;
+    @Nullable
+    private Thread thread;
+
+    public InsurerTransferPoller(
+        SasisMailbox mailbox,
+        InsurerTransferJob job,
+        @Value("${govinda.contract.transfers.poll-interval:30s}") Duration pollInterval
+    ) {
+        this.mailbox = mailbox;
+        this.job = job;
+        this.pollInterval = pollInterval;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = Thread.ofPlatform()
+            .name("sasis-transfer-poller")
+            .daemon(true)
+            .start(this::pollLoop);
+        LOGGER.info("SASIS transfer poller started");
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (thread == null) {
+            return;
+        }
+        thread.interrupt();
+        try {
+            thread.join(JOIN_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        thread = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Imports, answers and archives every file waiting in the mailbox.
+     *
+     * @return number of files handled
+     */
+    int pollOnce() throws IOException {
+        int handled = 0;
+        for (SasisFile file : mailbox.receive()) {
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+            TransferImportReport report;
+            try (InputStream input = mailbox.open(file)) {
+                report = job.run(file.tenantId(), file.name(), input);
+            } catch (BusinessRuleViolationException e) {
+                LOGGER.error(
+                    "Rejected transfer file {} of tenant {}: {}", file.name(), file.tenantId(), e.getMessage()
+                );
+                mailbox.reject(file);
+                handled++;
+                continue;
+            }
+            if (report.invalid() > 0) {
+                LOGGER.warn("Transfer file {} had {} invalid records: {}", file.name(), report.invalid(),
+                    report.errors());
+            }
+            mailbox.reply(file, writer -> job.writeReply(file.tenantId(), file.name(), writer));
+            mailbox.archive(file);
+            handled++;
+        }
+        return handled;
+    }
+
+    private void pollLoop() {
+        long backoff = pollInterval.toMillis();
+        while (running) {
+            try {
+                pollOnce();
+                backoff = pollInterval.toMillis();
+                sleepQuietly(pollInterval.toMillis());
+            } catch (IOException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                LOGGER.warn("SASIS transfer import failed, retrying in {} ms: {}", backoff, e.getMessage());
+                sleepQuietly(backoff);
+                backoff = Math.min(Math.max(backoff, 1) * 2, MAX_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
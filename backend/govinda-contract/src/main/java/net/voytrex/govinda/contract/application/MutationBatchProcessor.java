@@ -0,0 +1,184 @@
+/*
+ * Govinda ERP - Mutation Batch Processor
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import net.voytrex.govinda.common.domain.exception.DomainException;
+import net.voytrex.govinda.contract.domain.model.Coverage;
+import net.voytrex.govinda.contract.domain.model.CoverageMutation;
+import net.voytrex.govinda.contract.domain.repository.CoverageRepository;
+import net.voytrex.govinda.contract.domain.repository.MutationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Applies due coverage mutations, one partition batch per transaction.
+ *
+ * A batch locks one partition row with {@code SKIP LOCKED}, so concurrent
+ * workers on any node each take a different partition. Since all mutations of
+ * a policy share a partition, they are applied by one worker at a time in
+ * effective-date and recording order. The coverages of a batch are loaded in
+ * one query and written together with the mutations when the transaction
+ * commits, which also evicts the coverage timelines of the affected persons
+ * from the {@link CoverageTimelineIndex}. A mutation that cannot be applied is
+ * marked FAILED without affecting the rest of the batch; database errors roll
+ * back the batch, which is retried later.
+ *
+ * Metrics: {@code govinda.contract.mutations.processed} (by outcome),
+ * {@code govinda.contract.mutations.batch} (batch duration), and the gauges
+ * {@code govinda.contract.mutations.backlog} and
+ * {@code govinda.contract.mutations.lag} (seconds the oldest due mutation has
+ * been waiting), refreshed by {@link #sampleBacklog(LocalDate)}.
+ */
+@Service
+public class MutationBatchProcessor {
+    static final String PROCESSED_METER = "govinda.contract.mutations.processed";
+    static final String BATCH_METER = "govinda.contract.mutations.batch";
+    static final String BACKLOG_METER = "govinda.contract.mutations.backlog";
+    static final String LAG_METER = "govinda.contract.mutations.lag";
+    private static final Logger LOGGER = LoggerFactory.getLogger(MutationBatchProcessor.class);
+
+    private final MutationRepository mutationRepository;
+    private final CoverageRepository coverageRepository;
+    private final CoverageTimelineIndex timelineIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Counter processedCounter;
+    private final Counter failedCounter;
+    private final Timer batchTimer;
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    // CHECKSTYLE:OFF: ParameterNumber - Spring constructor injection
+    public MutationBatchProcessor(
+        MutationRepository mutationRepository,
+        CoverageRepository coverageRepository,
+        CoverageTimelineIndex timelineIndex,
+        PlatformTransactionManager transactionManager,
+        ObjectProvider<MeterRegistry> meterRegistry,
+        @Value("${govinda.contract.mutations.batch-size:500}") int batchSize
+    ) {
+        // CHECKSTYLE:ON: ParameterNumber
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batch size must be positive");
+        }
+        this.mutationRepository = mutationRepository;
+        this.coverageRepository = coverageRepository;
+        this.timelineIndex = timelineIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        this.processedCounter = Counter.builder(PROCESSED_METER)
+            .description("Coverage mutations applied or failed")
+            .tag("outcome", "processed")
+            .register(registry);
+        this.failedCounter = Counter.builder(PROCESSED_METER)
+            .description("Coverage mutations applied or failed")
+            .tag("outcome", "failed")
+            .register(registry);
+        this.batchTimer = Timer.builder(BATCH_METER)
+            .description("Duration of mutation batch transactions")
+            .register(registry);
+        Gauge.builder(BACKLOG_METER, backlog, AtomicLong::get)
+            .description("Pending coverage mutations that are due")
+            .register(registry);
+        Gauge.builder(LAG_METER, lagSeconds, AtomicLong::get)
+            .description("Seconds the oldest due coverage mutation has been waiting")
+            .baseUnit("seconds")
+            .register(registry);
+    }
+
+    /**
+     * Applies the due mutations of the next free partition.
+     *
+     * @return number of mutations handled, {@code 0} if no partition had work
+     */
+    public int processNextBatch(LocalDate today) {
+        long started = System.nanoTime();
+        int[] outcome = transactionTemplate.execute(status -> processPartition(today));
+        if (outcome == null || outcome[0] + outcome[1] == 0) {
+            return 0;
+        }
+        batchTimer.record(Duration.ofNanos(System.nanoTime() - started));
+        processedCounter.increment(outcome[0]);
+        failedCounter.increment(outcome[1]);
+        return outcome[0] + outcome[1];
+    }
+
+    /**
+     * Refreshes the backlog and lag gauges.
+     */
+    public void sampleBacklog(LocalDate today) {
+        backlog.set(mutationRepository.countDue(today));
+        lagSeconds.set(mutationRepository.findOldestDueSince(today)
+            .map(since -> Math.max(0, Duration.between(since, Instant.now()).toSeconds()))
+            .orElse(0L));
+    }
+
+    private int[] processPartition(LocalDate today) {
+        OptionalInt partition = mutationRepository.lockNextPartition(today);
+        if (partition.isEmpty()) {
+            return new int[2];
+        }
+        List<CoverageMutation> due = mutationRepository.findDue(partition.getAsInt(), today, batchSize);
+        Set<UUID> coverageIds = new HashSet<>();
+        for (CoverageMutation mutation : due) {
+            coverageIds.add(mutation.getCoverageId());
+        }
+        Map<UUID, Coverage> coverages = new HashMap<>();
+        for (Coverage coverage : coverageRepository.findAllById(coverageIds)) {
+            coverages.put(coverage.getId(), coverage);
+        }
+
+        int processed = 0;
+        int failed = 0;
+        Set<Coverage> changed = new HashSet<>();
+        for (CoverageMutation mutation : due) {
+            Coverage coverage = coverages.get(mutation.getCoverageId());
+            try {
+                if (coverage == null) {
+                    throw new IllegalStateException("Coverage " + mutation.getCoverageId() + " not found");
+                }
+                mutation.process(coverage, null);
+                changed.add(coverage);
+                processed++;
+            } catch (DomainException | IllegalStateException | IllegalArgumentException ex) {
+                LOGGER.warn("Coverage mutation {} ({}) failed: {}", mutation.getId(), mutation.getMutationType(),
+                    ex.getMessage());
+                mutation.fail(String.valueOf(ex.getMessage()));
+                failed++;
+            }
+        }
+        coverageRepository.saveAll(new ArrayList<>(changed));
+        timelineIndex.invalidate(changed.stream().map(Coverage::getInsuredPersonId).toList());
+        mutationRepository.saveAll(due);
+        mutationRepository.markPartitionProcessed(partition.getAsInt());
+        return new int[] {processed, failed};
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Govinda ERP - Mutation Processor
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.application;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background workers draining the coverage mutation queue.
+ *
+ * Idle workers ask the {@link MutationScheduler} whether mutations are due,
+ * which needs no database access until a cutoff makes scheduled mutations
+ * due. A worker then processes partition batches through
+ * {@link MutationBatchProcessor} back to back until no free partition has due
+ * mutations, so a backlog is drained at full speed. Workers of all nodes share
+ * the queue; up to {@code CoverageMutation.PARTITIONS} workers in total can
+ * make progress at once. A separate thread periodically rebuilds the schedule
+ * from the queue, which picks up mutations recorded on other nodes, and
+ * refreshes the backlog and lag gauges.
+ *
+ * Disable with {@code govinda.contract.mutations.enabled=false}, e.g. on nodes
+ * that should only serve requests.
+ */
+@Component
+@ConditionalOnProperty(prefix = "govinda.contract.mutations", name = "enabled", havingValue = "true",
+    matchIfMissing = true)
+public class MutationProcessor implements SmartLifecycle {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MutationProcessor.class);
+    private static final long MAX_BACKOFF_MILLIS = 60_000L;
+    private static final long JOIN_TIMEOUT_MILLIS = 10_000L;
+
+    private final MutationBatchProcessor batchProcessor;
+    private final MutationScheduler scheduler;
+    private final int workers;
+    private final Duration idleDelay;
+    private final Duration refreshInterval;
+    private final List<Thread> threads = new ArrayList<>();
+    private volatile boolean running;
+
+    // CHECKSTYLE:OFF: ParameterNumber - Spring constructor injection
+    public MutationProcessor(
+        MutationBatchProcessor batchProcessor,
+        MutationScheduler scheduler,
+        @Value("${govinda.contract.mutations.workers:4}") int workers,
+        @Value("${govinda.contract.mutations.idle-delay:1s}") Duration idleDelay,
+        @Value("${govinda.contract.mutations.refresh-interval:15s}") Duration refreshInterval
+    ) {
+        // CHECKSTYLE:ON: ParameterNumber
+        if (workers < 1) {
+            throw new IllegalArgumentException("workers must be positive");
+        }
+        this.batchProcessor = batchProcessor;
+        this.scheduler = scheduler;
+        this.workers = workers;
+        this.idleDelay = idleDelay;
+        this.refreshInterval = refreshInterval;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < workers; i++) {
+            threads.add(Thread.ofPlatform()
+                .name("mutation-worker-" + i)
+                .daemon(true)
+                .start(this::workLoop));
+        }
+        threads.add(Thread.ofPlatform()
+            .name("mutation-schedule-refresh")
+            .daemon(true)
+            .start(this::refreshLoop));
+        LOGGER.info("Coverage mutation processor started with {} workers", workers);
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        threads.forEach(Thread::interrupt);
+        for (Thread thread : threads) {
+            try {
+                thread.join(JOIN_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        threads.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void workLoop() {
+        long backoff = idleDelay.toMillis();
+        boolean busy = false;
+        while (running) {
+            try {
+                LocalDate today = LocalDate.now();
+                if (busy || scheduler.hasDue(today)) {
+                    int handled = batchProcessor.processNextBatch(today);
+                    busy = handled > 0;
+                    if (busy) {
+                        scheduler.completed(handled);
+                        backoff = idleDelay.toMillis();
+                        continue;
+                    }
+                    scheduler.drained();
+                }
+                sleepQuietly(idleDelay.toMillis());
+                backoff = idleDelay.toMillis();
+            } catch (RuntimeException e) {
+                busy = false;
+                if (!running) {
+                    return;
+                }
+                LOGGER.warn("Coverage mutation batch failed, retrying in {} ms: {}", backoff, e.getMessage());
+                sleepQuietly(backoff);
+                backoff = Math.min(Math.max(backoff, 1) * 2, MAX_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    private void refreshLoop() {
+        while (running) {
+            try {
+                LocalDate today = LocalDate.now();
+                scheduler.refresh(today);
+                batchProcessor.sampleBacklog(today);
+            } catch (RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                LOGGER.warn("Refreshing the coverage mutation schedule failed: {}", e.getMessage());
+            }
+            sleepQuietly(refreshInterval.toMillis());
+        }
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Govinda ERP - Mutation Scheduler
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.application;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import net.voytrex.govinda.contract.domain.model.Coverage;
+import net.voytrex.govinda.contract.domain.model.CoverageMutation;
+import net.voytrex.govinda.contract.domain.model.CoverageMutationType;
+import net.voytrex.govinda.contract.domain.model.MutationTimingWheel;
+import net.voytrex.govinda.contract.domain.repository.MutationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Schedules future-dated coverage mutations, such as 1 January franchise
+ * changes, suspensions during military service and terminations.
+ *
+ * Scheduled mutations wait in the mutation queue, indexed by effective date.
+ * The scheduler keeps the upcoming dates in a {@link MutationTimingWheel}, so
+ * idle workers learn from memory whether anything is due and only query the
+ * queue once a cutoff has made mutations due. The wheel is rebuilt from the
+ * queue with one range scan by {@link #refresh(LocalDate)}.
+ */
+@Service
+public class MutationScheduler {
+    private final MutationRepository mutationRepository;
+    private final MutationTimingWheel wheel;
+    private final int horizonDays;
+
+    public MutationScheduler(
+        MutationRepository mutationRepository,
+        @Value("${govinda.contract.mutations.horizon-days:400}") int horizonDays
+    ) {
+        this.mutationRepository = mutationRepository;
+        this.wheel = new MutationTimingWheel(horizonDays, LocalDate.now());
+        this.horizonDays = horizonDays;
+    }
+
+    /**
+     * Records a mutation for its effective date.
+     */
+    @Transactional
+    public CoverageMutation schedule(CoverageMutation mutation) {
+        CoverageMutation saved = mutationRepository.save(mutation);
+        wheel.schedule(saved.getEffectiveDate());
+        return saved;
+    }
+
+    /**
+     * Suspends a coverage for a period, e.g. military service of more than 60
+     * days; the coverage is reactivated on the day after the last suspended day.
+     *
+     * @return the suspension and the reactivation
+     */
+    @Transactional
+    public List<CoverageMutation> scheduleSuspension(
+        Coverage coverage,
+        LocalDate firstDay,
+        LocalDate lastDay,
+        @Nullable String reason,
+        UUID createdBy
+    ) {
+        if (lastDay.isBefore(firstDay)) {
+            throw new IllegalArgumentException("Last suspended day must not be before the first");
+        }
+        CoverageMutation suspension = schedule(new CoverageMutation(
+            coverage, CoverageMutationType.SUSPENSION, firstDay, null, null, reason, createdBy
+        ));
+        CoverageMutation reactivation = schedule(new CoverageMutation(
+            coverage, CoverageMutationType.REACTIVATION, lastDay.plusDays(1), null, null, reason, createdBy
+        ));
+        return List.of(suspension, reactivation);
+    }
+
+    /**
+     * Rebuilds the wheel from the pending mutations up to the end of the horizon.
+     */
+    @Transactional(readOnly = true)
+    public void refresh(LocalDate today) {
+        wheel.reset(today, mutationRepository.countPendingByDate(today.plusDays(horizonDays - 1L)));
+    }
+
+    /**
+     * Whether mutations are due on a day, advancing the wheel to it.
+     */
+    public boolean hasDue(LocalDate today) {
+        return wheel.advanceTo(today) > 0;
+    }
+
+    /**
+     * Counts mutations handled by a batch.
+     */
+    public void completed(int handled) {
+        wheel.completed(handled);
+    }
+
+    /**
+     * Notes that the queue had no due mutations left for this node to take.
+     */
+    public void drained() {
+        wheel.drained();
+    }
+
+    /**
+     * Next day with scheduled mutations within the horizon, or {@code null}.
+     */
+    @Nullable
+    public LocalDate nextDate() {
+        return wheel.nextDate();
+    }
+}
@@ -0,0 +1,17 @@
+/*
+ * Govinda ERP - SASIS File
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.application;
+
+import java.util.UUID;
+
+/**
+ * A batch file delivered by SASIS to the mailbox of a tenant.
+ *
+ * @param name file name, unique within the tenant's inbox
+ */
+public record SasisFile(UUID tenantId, String name) {
+}
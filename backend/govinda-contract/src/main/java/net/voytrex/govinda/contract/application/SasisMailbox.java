@@ -0,0 +1,45 @@
+/*
+ * Govinda ERP - SASIS Mailbox
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.application;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * File exchange with SASIS: batch files arrive in an inbox per tenant and
+ * replies are delivered to an outbox.
+ */
+public interface SasisMailbox {
+
+    /**
+     * Complete files waiting in the inboxes, oldest first.
+     */
+    List<SasisFile> receive() throws IOException;
+
+    InputStream open(SasisFile file) throws IOException;
+
+    /**
+     * Delivers the reply to a file; the reply only becomes visible once it is
+     * completely written.
+     *
+     * @param content writes the reply; may throw {@link java.io.UncheckedIOException}
+     */
+    void reply(SasisFile file, Consumer<Writer> content) throws IOException;
+
+    /**
+     * Removes a processed file from the inbox, keeping it for reference.
+     */
+    void archive(SasisFile file) throws IOException;
+
+    /**
+     * Removes a file that cannot be processed from the inbox.
+     */
+    void reject(SasisFile file) throws IOException;
+}
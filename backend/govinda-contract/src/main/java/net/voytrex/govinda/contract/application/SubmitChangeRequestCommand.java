@@ -0,0 +1,25 @@
+/*
+ * Govinda ERP - Submit Change Request Command
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.application;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.Money;
+import net.voytrex.govinda.contract.domain.model.ChangeRequestChannel;
+import net.voytrex.govinda.contract.domain.model.CoverageMutationType;
+import org.springframework.lang.Nullable;
+
+public record SubmitChangeRequestCommand(
+    UUID tenantId,
+    UUID coverageId,
+    CoverageMutationType requestType,
+    String requestedValue,
+    @Nullable Money quotedMonthlyPremium,
+    LocalDate effectiveDate,
+    ChangeRequestChannel channel,
+    UUID submittedBy
+) { }
@@ -0,0 +1,175 @@
+/*
+ * Govinda ERP - Transfer Message Reader
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.application;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import net.voytrex.govinda.common.domain.exception.BusinessRuleViolationException;
+import net.voytrex.govinda.common.domain.model.AhvNumber;
+import net.voytrex.govinda.contract.domain.model.TransferMessage;
+import net.voytrex.govinda.contract.domain.model.TransferType;
+import org.springframework.lang.Nullable;
+
+/**
+ * Streams the messages of a SASIS transfer file one at a time, so files of any
+ * size are read in constant memory.
+ *
+ * The file is UTF-8 CSV with a header naming the columns
+ * {@code messageId, messageType, ahvNumber, effectiveDate, insurerCode} in any
+ * order, separated by semicolons or commas. The message type is
+ * {@code TRANSFER_IN} or {@code TRANSFER_OUT}. Blank lines are skipped; invalid
+ * records are counted and skipped, and the first ones are reported.
+ */
+final class TransferMessageReader implements Closeable {
+    static final String MESSAGE_ID = "messageId";
+    static final String MESSAGE_TYPE = "messageType";
+    static final String AHV_NUMBER = "ahvNumber";
+    static final String EFFECTIVE_DATE = "effectiveDate";
+    static final String INSURER_CODE = "insurerCode";
+    static final List<String> REQUIRED = List.of(MESSAGE_ID, MESSAGE_TYPE, AHV_NUMBER, EFFECTIVE_DATE, INSURER_CODE);
+    private static final String INVALID_HEADER = "Transfer file header must be valid";
+    private static final int MAX_MESSAGE_ID_LENGTH = 50;
+    private static final int MAX_INSURER_CODE_LENGTH = 10;
+
+    private final BufferedReader reader;
+    private final Pattern separator;
+    private final Map<String, Integer> header = new HashMap<>();
+    private final int maxReportedErrors;
+    private final List<String> errors = new ArrayList<>();
+    private long lineNumber = 1;
+    private long invalid;
+
+    TransferMessageReader(InputStream input, int maxReportedErrors) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        this.maxReportedErrors = maxReportedErrors;
+        String headerLine = readLine();
+        if (headerLine == null || headerLine.isBlank()) {
+            throw new BusinessRuleViolationException(INVALID_HEADER, "file is empty");
+        }
+        String separatorChar = headerLine.indexOf(';') >= 0 && headerLine.indexOf(',') < 0 ? ";" : ",";
+        this.separator = Pattern.compile(Pattern.quote(separatorChar));
+        String[] names = separator.split(headerLine.strip(), -1);
+        for (int i = 0; i < names.length; i++) {
+            if (header.put(names[i].strip(), i) != null) {
+                throw new BusinessRuleViolationException(INVALID_HEADER, "duplicate column " + names[i].strip());
+            }
+        }
+        for (String column : REQUIRED) {
+            if (!header.containsKey(column)) {
+                throw new BusinessRuleViolationException(INVALID_HEADER, "missing column " + column);
+            }
+        }
+    }
+
+    /**
+     * Next valid message, or {@code null} at the end of the file.
+     */
+    @Nullable
+    TransferMessage next() {
+        for (String line = readLine(); line != null; line = readLine()) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            String[] fields = separator.split(line, -1);
+            if (fields.length != header.size()) {
+                reject("expected " + header.size() + " columns but found " + fields.length);
+                continue;
+            }
+            TransferMessage message = message(fields);
+            if (message != null) {
+                return message;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Number of records rejected so far.
+     */
+    long invalid() {
+        return invalid;
+    }
+
+    List<String> errors() {
+        return List.copyOf(errors);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    @Nullable
+    private TransferMessage message(String[] fields) {
+        try {
+            String messageId = field(fields, MESSAGE_ID);
+            if (messageId.isEmpty() || messageId.length() > MAX_MESSAGE_ID_LENGTH) {
+                return reject("message id must have 1 to " + MAX_MESSAGE_ID_LENGTH + " characters");
+            }
+            TransferType type = switch (field(fields, MESSAGE_TYPE)) {
+                case "TRANSFER_IN" -> TransferType.ENTRY;
+                case "TRANSFER_OUT" -> TransferType.EXIT;
+                default -> null;
+            };
+            if (type == null) {
+                return reject("message type must be TRANSFER_IN or TRANSFER_OUT");
+            }
+            String ahvNumber = field(fields, AHV_NUMBER);
+            if (AhvNumber.pack(ahvNumber) == AhvNumber.INVALID) {
+                return reject("invalid AHV number " + ahvNumber);
+            }
+            String insurerCode = field(fields, INSURER_CODE);
+            if (insurerCode.isEmpty() || insurerCode.length() > MAX_INSURER_CODE_LENGTH) {
+                return reject("insurer code must have 1 to " + MAX_INSURER_CODE_LENGTH + " characters");
+            }
+            LocalDate effectiveDate = LocalDate.parse(field(fields, EFFECTIVE_DATE));
+            return new TransferMessage(messageId, type, ahvNumber, effectiveDate, insurerCode);
+        } catch (DateTimeException ex) {
+            return reject("invalid value: " + ex.getMessage());
+        }
+    }
+
+    private String field(String[] fields, String name) {
+        return fields[header.get(name)].strip();
+    }
+
+    /**
+     * Counts a rejected record and reports it while below the error limit.
+     *
+     * @return always {@code null}
+     */
+    @Nullable
+    private TransferMessage reject(String message) {
+        invalid++;
+        if (errors.size() < maxReportedErrors) {
+            errors.add("line " + lineNumber + ": " + message);
+        }
+        return null;
+    }
+
+    @Nullable
+    private String readLine() {
+        try {
+            return reader.readLine();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not read transfer file", ex);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Govinda ERP - Change Request
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.domain.model;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.Money;
+import org.springframework.lang.Nullable;
+
+/**
+ * Franchise or model change requested for a coverage, e.g. before the
+ * 30 November deadline for changes on 1 January.
+ *
+ * Requests are stored as RECEIVED and validated asynchronously; an accepted
+ * request is recorded as a {@link CoverageMutation} whose id is kept here.
+ *
+ * @param requestedValue        franchise name, or id of the product with the requested insurance model
+ * @param quotedMonthlyPremium  premium the client was quoted for the change
+ */
+public record ChangeRequest(
+    UUID id,
+    UUID tenantId,
+    UUID coverageId,
+    CoverageMutationType requestType,
+    String requestedValue,
+    @Nullable Money quotedMonthlyPremium,
+    LocalDate effectiveDate,
+    ChangeRequestChannel channel,
+    ChangeRequestStatus status,
+    @Nullable String rejectionReason,
+    @Nullable UUID mutationId,
+    UUID submittedBy,
+    Instant submittedAt,
+    @Nullable Instant processedAt
+) {
+    /**
+     * Mutation types that can be requested.
+     */
+    public static final Set<CoverageMutationType> REQUESTABLE =
+        EnumSet.of(CoverageMutationType.FRANCHISE_CHANGE, CoverageMutationType.MODEL_CHANGE);
+
+    public ChangeRequest {
+        if (!REQUESTABLE.contains(requestType)) {
+            throw new IllegalArgumentException(requestType + " cannot be requested");
+        }
+    }
+
+    // CHECKSTYLE:OFF: ParameterNumber - A request carries the full change
+    /**
+     * New request as submitted by a client.
+     */
+    public static ChangeRequest received(
+        UUID tenantId,
+        UUID coverageId,
+        CoverageMutationType requestType,
+        String requestedValue,
+        @Nullable Money quotedMonthlyPremium,
+        LocalDate effectiveDate,
+        ChangeRequestChannel channel,
+        UUID submittedBy
+    ) {
+        // CHECKSTYLE:ON: ParameterNumber
+        return new ChangeRequest(
+            UUID.randomUUID(),
+            tenantId,
+            coverageId,
+            requestType,
+            requestedValue,
+            quotedMonthlyPremium,
+            effectiveDate,
+            channel,
+            ChangeRequestStatus.RECEIVED,
+            null,
+            null,
+            submittedBy,
+            Instant.now(),
+            null
+        );
+    }
+}
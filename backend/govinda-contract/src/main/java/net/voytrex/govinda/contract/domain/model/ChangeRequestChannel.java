@@ -0,0 +1,17 @@
+/*
+ * Govinda ERP - Change Request Channel
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.domain.model;
+
+/**
+ * Where a {@link ChangeRequest} was submitted.
+ */
+public enum ChangeRequestChannel {
+    /** Customer portal. */
+    PORTAL,
+    /** Back office of the insurer. */
+    BACK_OFFICE
+}
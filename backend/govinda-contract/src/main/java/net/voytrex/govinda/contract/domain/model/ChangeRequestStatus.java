@@ -0,0 +1,30 @@
+/*
+ * Govinda ERP - Change Request Status
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.domain.model;
+
+/**
+ * Processing status of a {@link ChangeRequest}.
+ */
+public enum ChangeRequestStatus {
+    /** Stored and waiting for validation. */
+    RECEIVED,
+    /** Claimed by a worker for validation. */
+    PROCESSING,
+    /** Valid; recorded as a coverage mutation. */
+    ACCEPTED,
+    /** Invalid; see the rejection reason. */
+    REJECTED,
+    /** Processing kept failing; see the rejection reason for the last error. */
+    FAILED;
+
+    /**
+     * Whether processing has finished.
+     */
+    public boolean isFinal() {
+        return this == ACCEPTED || this == REJECTED || this == FAILED;
+    }
+}
@@ -0,0 +1,338 @@
+/*
+ * Govinda ERP - Coverage Entity
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.domain.model;
+
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.AttributeOverrides;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.AgeGroup;
+import net.voytrex.govinda.common.domain.model.CoverageStatus;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.common.domain.model.Money;
+import org.springframework.lang.Nullable;
+
+/**
+ * Insurance protection of one person under one product of a policy.
+ *
+ * Holds the premium parameters (tariff, region, age group, franchise,
+ * accident cover) together with the resulting monthly premium. The tenant is
+ * copied from the policy so that batch jobs can partition coverages without
+ * joining policies.
+ */
+@Entity
+@Table(name = "coverage")
+public class Coverage {
+    @Id
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id = UUID.randomUUID();
+
+    @Column(name = "tenant_id", updatable = false, nullable = false)
+    private UUID tenantId;
+
+    @Column(name = "policy_id", updatable = false, nullable = false)
+    private UUID policyId;
+
+    @Column(name = "insured_person_id", updatable = false, nullable = false)
+    private UUID insuredPersonId;
+
+    @Column(name = "product_id", nullable = false)
+    private UUID productId;
+
+    @Column(name = "tariff_id", nullable = false)
+    private UUID tariffId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private CoverageStatus status = CoverageStatus.ACTIVE;
+
+    @Column(name = "effective_date", nullable = false)
+    private LocalDate effectiveDate;
+
+    @Nullable
+    @Column(name = "termination_date")
+    private LocalDate terminationDate;
+
+    @Nullable
+    @Enumerated(EnumType.STRING)
+    @Column(name = "franchise", length = 10)
+    private Franchise franchise;
+
+    @Nullable
+    @Column(name = "with_accident")
+    private Boolean withAccident;
+
+    @Column(name = "premium_region_id", nullable = false)
+    private UUID premiumRegionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "age_group", length = 20, nullable = false)
+    private AgeGroup ageGroup;
+
+    @Embedded
+    @AttributeOverrides({
+        @AttributeOverride(name = "amount", column = @Column(name = "monthly_premium", precision = 12, scale = 2)),
+        @AttributeOverride(name = "currency", column = @Column(name = "currency", length = 3))
+    })
+    private Money monthlyPremium;
+
+    @Column(name = "created_at", updatable = false, nullable = false)
+    private Instant createdAt = Instant.now();
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt = Instant.now();
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version = 0L;
+
+    protected Coverage() {
+    }
+
+    // CHECKSTYLE:OFF: ParameterNumber - Coverage carries the full premium key
+    public Coverage(
+        UUID tenantId,
+        UUID policyId,
+        UUID insuredPersonId,
+        UUID productId,
+        UUID tariffId,
+        LocalDate effectiveDate,
+        UUID premiumRegionId,
+        AgeGroup ageGroup,
+        @Nullable Franchise franchise,
+        @Nullable Boolean withAccident,
+        Money monthlyPremium
+    ) {
+        // CHECKSTYLE:ON: ParameterNumber
+        requireNotNegative(monthlyPremium);
+        this.tenantId = tenantId;
+        this.policyId = policyId;
+        this.insuredPersonId = insuredPersonId;
+        this.productId = productId;
+        this.tariffId = tariffId;
+        this.effectiveDate = effectiveDate;
+        this.premiumRegionId = premiumRegionId;
+        this.ageGroup = ageGroup;
+        this.franchise = franchise;
+        this.withAccident = withAccident;
+        this.monthlyPremium = monthlyPremium;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getTenantId() {
+        return tenantId;
+    }
+
+    public UUID getPolicyId() {
+        return policyId;
+    }
+
+    public UUID getInsuredPersonId() {
+        return insuredPersonId;
+    }
+
+    public UUID getProductId() {
+        return productId;
+    }
+
+    public UUID getTariffId() {
+        return tariffId;
+    }
+
+    public CoverageStatus getStatus() {
+        return status;
+    }
+
+    public LocalDate getEffectiveDate() {
+        return effectiveDate;
+    }
+
+    @Nullable
+    public LocalDate getTerminationDate() {
+        return terminationDate;
+    }
+
+    @Nullable
+    public Franchise getFranchise() {
+        return franchise;
+    }
+
+    @Nullable
+    public Boolean getWithAccident() {
+        return withAccident;
+    }
+
+    public UUID getPremiumRegionId() {
+        return premiumRegionId;
+    }
+
+    public AgeGroup getAgeGroup() {
+        return ageGroup;
+    }
+
+    public Money getMonthlyPremium() {
+        return monthlyPremium;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Whether the coverage is in force on a date.
+     */
+    public boolean isActiveOn(LocalDate date) {
+        if (status == CoverageStatus.TERMINATED && terminationDate == null) {
+            return false;
+        }
+        return !date.isBefore(effectiveDate) && (terminationDate == null || !date.isAfter(terminationDate));
+    }
+
+    /**
+     * Applies a recalculated premium, e.g. from the annual premium update.
+     */
+    public void reprice(UUID newTariffId, AgeGroup newAgeGroup, Money newMonthlyPremium) {
+        requireNotNegative(newMonthlyPremium);
+        if (status == CoverageStatus.TERMINATED) {
+            throw new IllegalStateException("Cannot reprice terminated coverage " + id);
+        }
+        this.tariffId = newTariffId;
+        this.ageGroup = newAgeGroup;
+        this.monthlyPremium = newMonthlyPremium;
+        this.updatedAt = Instant.now();
+    }
+
+    /**
+     * Changes the KVG franchise together with the premium quoted for it.
+     */
+    public void changeFranchise(Franchise newFranchise, Money newMonthlyPremium) {
+        requireNotNegative(newMonthlyPremium);
+        if (franchise == null) {
+            throw new IllegalStateException("Coverage " + id + " has no franchise");
+        }
+        requireNotTerminated("change the franchise of");
+        this.franchise = newFranchise;
+        this.monthlyPremium = newMonthlyPremium;
+        this.updatedAt = Instant.now();
+    }
+
+    /**
+     * Moves the coverage to another product, e.g. after a change of the
+     * insurance model, priced by a tariff of that product.
+     */
+    public void changeProduct(UUID newProductId, UUID newTariffId, Money newMonthlyPremium) {
+        requireNotNegative(newMonthlyPremium);
+        requireNotTerminated("change the product of");
+        this.productId = newProductId;
+        this.tariffId = newTariffId;
+        this.monthlyPremium = newMonthlyPremium;
+        this.updatedAt = Instant.now();
+    }
+
+    /**
+     * Moves the coverage to another premium region, e.g. after an address change.
+     */
+    public void changePremiumRegion(UUID newPremiumRegionId, Money newMonthlyPremium) {
+        requireNotNegative(newMonthlyPremium);
+        requireNotTerminated("change the premium region of");
+        this.premiumRegionId = newPremiumRegionId;
+        this.monthlyPremium = newMonthlyPremium;
+        this.updatedAt = Instant.now();
+    }
+
+    public void suspend() {
+        if (status != CoverageStatus.ACTIVE) {
+            throw new IllegalStateException("Only ACTIVE coverages can be suspended");
+        }
+        changeStatus(CoverageStatus.SUSPENDED);
+    }
+
+    public void reactivate() {
+        if (status != CoverageStatus.SUSPENDED) {
+            throw new IllegalStateException("Only SUSPENDED coverages can be reactivated");
+        }
+        changeStatus(CoverageStatus.ACTIVE);
+    }
+
+    /**
+     * Terminates the coverage; the termination date is the last covered day.
+     */
+    public void terminate(LocalDate lastDay) {
+        if (status == CoverageStatus.TERMINATED) {
+            throw new IllegalStateException("Coverage " + id + " is already terminated");
+        }
+        if (lastDay.isBefore(effectiveDate)) {
+            throw new IllegalArgumentException("Termination date must not be before effective date");
+        }
+        this.terminationDate = lastDay;
+        changeStatus(CoverageStatus.TERMINATED);
+    }
+
+    private void changeStatus(CoverageStatus newStatus) {
+        this.status = newStatus;
+        this.updatedAt = Instant.now();
+    }
+
+    private void requireNotTerminated(String action) {
+        if (status == CoverageStatus.TERMINATED) {
+            throw new IllegalStateException("Cannot " + action + " terminated coverage " + id);
+        }
+    }
+
+    private static void requireNotNegative(Money premium) {
+        if (premium.isNegative()) {
+            throw new IllegalArgumentException("Premium must not be negative");
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        Coverage coverage = (Coverage) other;
+        return Objects.equals(id, coverage.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "Coverage(id=" + id + ", productId=" + productId + ", status=" + status + ")";
+    }
+}
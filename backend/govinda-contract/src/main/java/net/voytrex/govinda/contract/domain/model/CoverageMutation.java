@@ -0,0 +1,430 @@
+/*
+ * Govinda ERP - Coverage Mutation Entity
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.exception.BusinessRuleViolationException;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.common.domain.model.Money;
+import org.hibernate.annotations.Generated;
+import org.springframework.lang.Nullable;
+
+/**
+ * Change to a coverage that takes effect on a date (Mutation).
+ *
+ * Mutations are queued as PENDING and applied by the mutation processor once
+ * their effective date is reached. Mutations of one policy share a partition
+ * derived from the policy id and are applied in the order they were recorded;
+ * the premium for the changed coverage is quoted when the mutation is recorded.
+ */
+@Entity
+@Table(name = "coverage_mutation")
+public class CoverageMutation {
+    /**
+     * Number of processing partitions; matches the rows of {@code mutation_partition}.
+     */
+    public static final int PARTITIONS = 64;
+    private static final int MAX_FAILURE_REASON_LENGTH = 1000;
+
+    @Id
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id = UUID.randomUUID();
+
+    @Generated
+    @Column(name = "sequence_number", insertable = false, updatable = false)
+    private Long sequenceNumber;
+
+    @Column(name = "tenant_id", updatable = false, nullable = false)
+    private UUID tenantId;
+
+    @Column(name = "policy_id", updatable = false, nullable = false)
+    private UUID policyId;
+
+    @Column(name = "coverage_id", updatable = false, nullable = false)
+    private UUID coverageId;
+
+    @Column(name = "partition_key", updatable = false, nullable = false)
+    private short partitionKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "mutation_type", length = 30, updatable = false, nullable = false)
+    private CoverageMutationType mutationType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private MutationStatus status = MutationStatus.PENDING;
+
+    @Column(name = "effective_date", updatable = false, nullable = false)
+    private LocalDate effectiveDate;
+
+    @Nullable
+    @Column(name = "previous_value", length = 100, updatable = false)
+    private String previousValue;
+
+    @Nullable
+    @Column(name = "new_value", length = 100, updatable = false)
+    private String newValue;
+
+    @Nullable
+    @Column(name = "new_monthly_premium", precision = 12, scale = 2, updatable = false)
+    private BigDecimal newMonthlyPremium;
+
+    @Nullable
+    @Column(name = "new_tariff_id", updatable = false)
+    private UUID newTariffId;
+
+    @Nullable
+    @Column(name = "mutation_reason", length = 500)
+    private String mutationReason;
+
+    @Nullable
+    @Column(name = "failure_reason", length = 1000)
+    private String failureReason;
+
+    @Column(name = "created_by", updatable = false, nullable = false)
+    private UUID createdBy;
+
+    @Nullable
+    @Column(name = "processed_by")
+    private UUID processedBy;
+
+    @Column(name = "created_at", updatable = false, nullable = false)
+    private Instant createdAt = Instant.now();
+
+    @Nullable
+    @Column(name = "processed_at")
+    private Instant processedAt;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version = 0L;
+
+    protected CoverageMutation() {
+    }
+
+    // CHECKSTYLE:OFF: ParameterNumber - A mutation records the change together with its quoted premium
+    /**
+     * Records a change of a coverage; the previous value is taken from the coverage.
+     * Model changes also need the tariff of the new product, see {@link #modelChange}.
+     *
+     * @param newValue          franchise name, premium region id or tariff id, depending on the type
+     * @param newMonthlyPremium premium quoted for the changed coverage; required if there is a new value
+     */
+    public CoverageMutation(
+        Coverage coverage,
+        CoverageMutationType mutationType,
+        LocalDate effectiveDate,
+        @Nullable String newValue,
+        @Nullable Money newMonthlyPremium,
+        @Nullable String mutationReason,
+        UUID createdBy
+    ) {
+        // CHECKSTYLE:ON: ParameterNumber
+        this(coverage, mutationType, effectiveDate, newValue, null, newMonthlyPremium, mutationReason, createdBy);
+    }
+
+    // CHECKSTYLE:OFF: ParameterNumber - A mutation records the change together with its quoted premium
+    private CoverageMutation(
+        Coverage coverage,
+        CoverageMutationType mutationType,
+        LocalDate effectiveDate,
+        @Nullable String newValue,
+        @Nullable UUID newTariffId,
+        @Nullable Money newMonthlyPremium,
+        @Nullable String mutationReason,
+        UUID createdBy
+    ) {
+        // CHECKSTYLE:ON: ParameterNumber
+        this.tenantId = coverage.getTenantId();
+        this.policyId = coverage.getPolicyId();
+        this.coverageId = coverage.getId();
+        this.partitionKey = (short) partitionOf(policyId);
+        this.mutationType = mutationType;
+        this.effectiveDate = effectiveDate;
+        this.previousValue = currentValue(coverage, mutationType);
+        this.newValue = newValue;
+        this.newTariffId = newTariffId;
+        this.newMonthlyPremium = newMonthlyPremium != null ? newMonthlyPremium.getAmount() : null;
+        this.mutationReason = mutationReason;
+        this.createdBy = createdBy;
+        requireValidChange();
+    }
+
+    // CHECKSTYLE:OFF: ParameterNumber - A mutation records the change together with its quoted premium
+    /**
+     * Records a change of the insurance model, which moves the coverage to a
+     * product with that model; the previous value is the current product id.
+     *
+     * @param newTariffId tariff of the new product the premium was quoted with
+     */
+    public static CoverageMutation modelChange(
+        Coverage coverage,
+        LocalDate effectiveDate,
+        UUID newProductId,
+        UUID newTariffId,
+        Money newMonthlyPremium,
+        @Nullable String mutationReason,
+        UUID createdBy
+    ) {
+        // CHECKSTYLE:ON: ParameterNumber
+        return new CoverageMutation(
+            coverage,
+            CoverageMutationType.MODEL_CHANGE,
+            effectiveDate,
+            newProductId.toString(),
+            newTariffId,
+            newMonthlyPremium,
+            mutationReason,
+            createdBy
+        );
+    }
+
+    /**
+     * Partition of the mutations of a policy.
+     */
+    public static int partitionOf(UUID policyId) {
+        return Math.floorMod(policyId.hashCode(), PARTITIONS);
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    /**
+     * Position in the processing order, assigned by the database on insert.
+     */
+    @Nullable
+    public Long getSequenceNumber() {
+        return sequenceNumber;
+    }
+
+    public UUID getTenantId() {
+        return tenantId;
+    }
+
+    public UUID getPolicyId() {
+        return policyId;
+    }
+
+    public UUID getCoverageId() {
+        return coverageId;
+    }
+
+    public int getPartitionKey() {
+        return partitionKey;
+    }
+
+    public CoverageMutationType getMutationType() {
+        return mutationType;
+    }
+
+    public MutationStatus getStatus() {
+        return status;
+    }
+
+    public LocalDate getEffectiveDate() {
+        return effectiveDate;
+    }
+
+    @Nullable
+    public String getPreviousValue() {
+        return previousValue;
+    }
+
+    @Nullable
+    public String getNewValue() {
+        return newValue;
+    }
+
+    /**
+     * Tariff of the new product of a MODEL_CHANGE.
+     */
+    @Nullable
+    public UUID getNewTariffId() {
+        return newTariffId;
+    }
+
+    @Nullable
+    public Money getNewMonthlyPremium() {
+        return newMonthlyPremium != null ? new Money(newMonthlyPremium) : null;
+    }
+
+    @Nullable
+    public String getMutationReason() {
+        return mutationReason;
+    }
+
+    @Nullable
+    public String getFailureReason() {
+        return failureReason;
+    }
+
+    public UUID getCreatedBy() {
+        return createdBy;
+    }
+
+    @Nullable
+    public UUID getProcessedBy() {
+        return processedBy;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    @Nullable
+    public Instant getProcessedAt() {
+        return processedAt;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Applies the change to its coverage and marks the mutation PROCESSED.
+     *
+     * @param processedBy user who triggered processing, or {@code null} for the mutation processor
+     * @throws BusinessRuleViolationException if the type must be applied manually
+     * @throws IllegalStateException          if the coverage does not allow the change
+     */
+    public void process(Coverage coverage, @Nullable UUID processedBy) {
+        requirePending();
+        if (!coverage.getId().equals(coverageId)) {
+            throw new IllegalArgumentException("Mutation " + id + " does not belong to coverage " + coverage.getId());
+        }
+        switch (mutationType) {
+            case NEW -> {
+            }
+            case FRANCHISE_CHANGE -> coverage.changeFranchise(Franchise.valueOf(newValue), requirePremium());
+            case MODEL_CHANGE -> coverage.changeProduct(UUID.fromString(newValue), requireTariff(), requirePremium());
+            case ADDRESS_CHANGE -> coverage.changePremiumRegion(UUID.fromString(newValue), requirePremium());
+            case PREMIUM_UPDATE ->
+                coverage.reprice(UUID.fromString(newValue), coverage.getAgeGroup(), requirePremium());
+            case TERMINATION -> coverage.terminate(effectiveDate);
+            case SUSPENSION -> coverage.suspend();
+            case REACTIVATION -> coverage.reactivate();
+            case CORRECTION ->
+                throw new BusinessRuleViolationException("Mutation must be applied manually", mutationType.name());
+        }
+        finish(MutationStatus.PROCESSED, processedBy);
+    }
+
+    /**
+     * Marks the mutation FAILED, keeping the coverage unchanged.
+     */
+    public void fail(String reason) {
+        requirePending();
+        this.failureReason = reason.length() > MAX_FAILURE_REASON_LENGTH
+            ? reason.substring(0, MAX_FAILURE_REASON_LENGTH)
+            : reason;
+        finish(MutationStatus.FAILED, null);
+    }
+
+    /**
+     * Withdraws the mutation before it is applied.
+     */
+    public void cancel(UUID cancelledBy) {
+        requirePending();
+        finish(MutationStatus.CANCELLED, cancelledBy);
+    }
+
+    private void finish(MutationStatus newStatus, @Nullable UUID by) {
+        this.status = newStatus;
+        this.processedBy = by;
+        this.processedAt = Instant.now();
+    }
+
+    private void requirePending() {
+        if (status != MutationStatus.PENDING) {
+            throw new IllegalStateException("Mutation " + id + " is already " + status);
+        }
+    }
+
+    private Money requirePremium() {
+        Money premium = getNewMonthlyPremium();
+        if (premium == null) {
+            throw new IllegalStateException("Mutation " + id + " has no quoted premium");
+        }
+        return premium;
+    }
+
+    private UUID requireTariff() {
+        if (newTariffId == null) {
+            throw new IllegalStateException("Mutation " + id + " has no tariff for the new product");
+        }
+        return newTariffId;
+    }
+
+    private void requireValidChange() {
+        if (newMonthlyPremium != null && newMonthlyPremium.signum() < 0) {
+            throw new IllegalArgumentException("Premium must not be negative");
+        }
+        boolean carriesValue = switch (mutationType) {
+            case FRANCHISE_CHANGE, MODEL_CHANGE, ADDRESS_CHANGE, PREMIUM_UPDATE -> true;
+            default -> false;
+        };
+        if (!carriesValue) {
+            return;
+        }
+        if (newValue == null || newMonthlyPremium == null) {
+            throw new IllegalArgumentException(mutationType + " requires a new value and a quoted premium");
+        }
+        if (mutationType == CoverageMutationType.MODEL_CHANGE && newTariffId == null) {
+            throw new IllegalArgumentException("MODEL_CHANGE requires the tariff of the new product");
+        }
+        if (mutationType == CoverageMutationType.FRANCHISE_CHANGE) {
+            Franchise.valueOf(newValue);
+        } else {
+            UUID.fromString(newValue);
+        }
+    }
+
+    @Nullable
+    private static String currentValue(Coverage coverage, CoverageMutationType mutationType) {
+        return switch (mutationType) {
+            case FRANCHISE_CHANGE -> coverage.getFranchise() != null ? coverage.getFranchise().name() : null;
+            case MODEL_CHANGE -> coverage.getProductId().toString();
+            case ADDRESS_CHANGE -> coverage.getPremiumRegionId().toString();
+            case PREMIUM_UPDATE -> coverage.getTariffId().toString();
+            default -> null;
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        CoverageMutation mutation = (CoverageMutation) other;
+        return Objects.equals(id, mutation.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "CoverageMutation(id=" + id + ", type=" + mutationType + ", status=" + status + ")";
+    }
+}
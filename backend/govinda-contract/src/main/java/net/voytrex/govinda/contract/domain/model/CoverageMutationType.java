@@ -0,0 +1,31 @@
+/*
+ * Govinda ERP - Coverage Mutation Type
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.domain.model;
+
+/**
+ * Kind of change recorded by a {@link CoverageMutation}.
+ */
+public enum CoverageMutationType {
+    /** New coverage; recorded for the history, nothing to apply. */
+    NEW,
+    /** Franchise change; the new value is the {@link net.voytrex.govinda.common.domain.model.Franchise} name. */
+    FRANCHISE_CHANGE,
+    /** Change of the insurance model (HMO, telmed, ...); the new value is the id of a product with that model. */
+    MODEL_CHANGE,
+    /** Move to another premium region; the new value is the region id. */
+    ADDRESS_CHANGE,
+    /** New tariff, e.g. from the annual premium update; the new value is the tariff id. */
+    PREMIUM_UPDATE,
+    /** Termination; the effective date is the last covered day. */
+    TERMINATION,
+    /** Suspension, e.g. during military service; ended by a REACTIVATION. */
+    SUSPENSION,
+    /** Reactivation of a suspended coverage. */
+    REACTIVATION,
+    /** Retroactive correction; applied manually. */
+    CORRECTION
+}
@@ -0,0 +1,58 @@
+/*
+ * Govinda ERP - Coverage Span
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.domain.model;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.common.domain.model.InsuranceModel;
+import org.springframework.lang.Nullable;
+
+/**
+ * Period during which a coverage was in force with unchanged terms.
+ *
+ * @param franchise      franchise in the period; {@code null} for supplementary (VVG) coverages
+ * @param insuranceModel insurance model of the product; {@code null} for supplementary coverages
+ * @param to             last day of the period, or {@code null} if open-ended
+ */
+public record CoverageSpan(
+    UUID coverageId,
+    UUID policyId,
+    UUID productId,
+    @Nullable Franchise franchise,
+    @Nullable InsuranceModel insuranceModel,
+    LocalDate from,
+    @Nullable LocalDate to
+) {
+    public CoverageSpan {
+        if (to != null && to.isBefore(from)) {
+            throw new IllegalArgumentException("Span must not end before it starts");
+        }
+    }
+
+    /**
+     * Whether this is a basic (KVG) coverage, i.e. one with a franchise.
+     */
+    public boolean isBasic() {
+        return franchise != null;
+    }
+
+    public boolean contains(LocalDate date) {
+        return !date.isBefore(from) && (to == null || !date.isAfter(to));
+    }
+
+    long startDay() {
+        return from.toEpochDay();
+    }
+
+    /**
+     * Day after the span as epoch day, {@link Long#MAX_VALUE} if open-ended.
+     */
+    long endDayExclusive() {
+        return to != null ? to.toEpochDay() + 1 : Long.MAX_VALUE;
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Govinda ERP - Coverage Timeline
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.domain.model;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.LongStream;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.common.domain.model.InsuranceModel;
+import org.springframework.lang.Nullable;
+
+/**
+ * Coverage history of one insured person, answering which coverages,
+ * franchise and model applied on a date without database access.
+ *
+ * The spans are cut at every start and end into disjoint segments, each
+ * holding the spans in force throughout it. A point query is one binary
+ * search over the segment starts; a range query reads the consecutive
+ * segments it overlaps. Instances are immutable and safe to share between
+ * threads.
+ */
+public final class CoverageTimeline {
+    private static final CoverageSpan[] NONE = new CoverageSpan[0];
+
+    private final UUID insuredPersonId;
+    private final List<CoverageSpan> spans;
+    private final long[] segmentStarts;
+    private final CoverageSpan[][] segments;
+
+    private CoverageTimeline(UUID insuredPersonId, List<CoverageSpan> spans) {
+        this.insuredPersonId = insuredPersonId;
+        this.spans = List.copyOf(spans);
+        this.segmentStarts = spans.stream()
+            .flatMapToLong(span -> LongStream.of(span.startDay(), span.endDayExclusive()))
+            .filter(day -> day != Long.MAX_VALUE)
+            .sorted()
+            .distinct()
+            .toArray();
+        this.segments = new CoverageSpan[segmentStarts.length][];
+        for (int i = 0; i < segmentStarts.length; i++) {
+            long day = segmentStarts[i];
+            segments[i] = spans.stream()
+                .filter(span -> span.startDay() <= day && span.endDayExclusive() > day)
+                .toArray(CoverageSpan[]::new);
+        }
+    }
+
+    public static CoverageTimeline of(UUID insuredPersonId, List<CoverageSpan> spans) {
+        List<CoverageSpan> sorted = new ArrayList<>(spans);
+        sorted.sort(Comparator.comparing(CoverageSpan::from));
+        return new CoverageTimeline(insuredPersonId, sorted);
+    }
+
+    /**
+     * Spans of a coverage, derived from its current state and its processed
+     * mutations: franchise changes start a new span, suspensions leave a gap
+     * until the reactivation.
+     *
+     * @param mutations      mutations of the coverage; only processed ones are considered
+     * @param insuranceModel insurance model of the coverage's product
+     */
+    public static List<CoverageSpan> spansOf(
+        Coverage coverage,
+        List<CoverageMutation> mutations,
+        @Nullable InsuranceModel insuranceModel
+    ) {
+        List<CoverageMutation> events = mutations.stream()
+            .filter(mutation -> mutation.getStatus() == MutationStatus.PROCESSED)
+            .filter(mutation -> mutation.getCoverageId().equals(coverage.getId()))
+            .filter(mutation -> switch (mutation.getMutationType()) {
+                case FRANCHISE_CHANGE, SUSPENSION, REACTIVATION -> true;
+                default -> false;
+            })
+            .sorted(Comparator.comparing(CoverageMutation::getEffectiveDate)
+                .thenComparing(CoverageMutation::getSequenceNumber, Comparator.nullsLast(Comparator.naturalOrder())))
+            .toList();
+
+        Franchise franchise = events.stream()
+            .filter(mutation -> mutation.getMutationType() == CoverageMutationType.FRANCHISE_CHANGE)
+            .findFirst()
+            .map(mutation -> parseFranchise(mutation.getPreviousValue()))
+            .orElse(coverage.getFranchise());
+        LocalDate lastDay = coverage.getTerminationDate();
+        LocalDate cursor = coverage.getEffectiveDate();
+        boolean suspended = false;
+        List<CoverageSpan> spans = new ArrayList<>();
+        for (CoverageMutation event : events) {
+            LocalDate date = event.getEffectiveDate();
+            if (date.isAfter(cursor)) {
+                if (!suspended) {
+                    addSpan(spans, coverage, franchise, insuranceModel, cursor, date.minusDays(1), lastDay);
+                }
+                cursor = date;
+            }
+            switch (event.getMutationType()) {
+                case FRANCHISE_CHANGE -> franchise = Franchise.valueOf(event.getNewValue());
+                case SUSPENSION -> suspended = true;
+                default -> suspended = false;
+            }
+        }
+        if (!suspended) {
+            addSpan(spans, coverage, franchise, insuranceModel, cursor, lastDay, lastDay);
+        }
+        return spans;
+    }
+
+    public UUID getInsuredPersonId() {
+        return insuredPersonId;
+    }
+
+    /**
+     * All spans, ordered by start.
+     */
+    public List<CoverageSpan> getSpans() {
+        return spans;
+    }
+
+    /**
+     * Spans in force on a date.
+     */
+    public List<CoverageSpan> on(LocalDate date) {
+        return List.of(segmentOn(date.toEpochDay()));
+    }
+
+    /**
+     * Basic (KVG) coverage in force on a date, with its franchise and model.
+     */
+    public Optional<CoverageSpan> basicOn(LocalDate date) {
+        for (CoverageSpan span : segmentOn(date.toEpochDay())) {
+            if (span.isBasic()) {
+                return Optional.of(span);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Spans in force on any day from {@code from} to {@code to}, inclusive.
+     */
+    public List<CoverageSpan> between(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Range must not end before it starts");
+        }
+        Set<CoverageSpan> found = new LinkedHashSet<>(Arrays.asList(segmentOn(from.toEpochDay())));
+        int next = firstSegmentAfter(from.toEpochDay());
+        long end = to.toEpochDay();
+        for (int i = next; i < segmentStarts.length && segmentStarts[i] <= end; i++) {
+            found.addAll(Arrays.asList(segments[i]));
+        }
+        return List.copyOf(found);
+    }
+
+    /**
+     * Whether a basic (KVG) coverage was in force on every day from {@code from} to {@code to}, inclusive.
+     */
+    public boolean isBasicCoveredThroughout(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Range must not end before it starts");
+        }
+        if (!hasBasic(segmentOn(from.toEpochDay()))) {
+            return false;
+        }
+        long end = to.toEpochDay();
+        for (int i = firstSegmentAfter(from.toEpochDay()); i < segmentStarts.length && segmentStarts[i] <= end; i++) {
+            if (!hasBasic(segments[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private CoverageSpan[] segmentOn(long day) {
+        int index = Arrays.binarySearch(segmentStarts, day);
+        if (index < 0) {
+            index = -index - 2;
+        }
+        return index < 0 ? NONE : segments[index];
+    }
+
+    private int firstSegmentAfter(long day) {
+        int index = Arrays.binarySearch(segmentStarts, day);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    @Nullable
+    private static Franchise parseFranchise(@Nullable String value) {
+        return value != null ? Franchise.valueOf(value) : null;
+    }
+
+    private static boolean hasBasic(CoverageSpan[] segment) {
+        for (CoverageSpan span : segment) {
+            if (span.isBasic()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // CHECKSTYLE:OFF: ParameterNumber - A span is cut from the coverage's terms and period
+    private static void addSpan(
+        List<CoverageSpan> spans,
+        Coverage coverage,
+        @Nullable Franchise franchise,
+        @Nullable InsuranceModel insuranceModel,
+        LocalDate from,
+        @Nullable LocalDate to,
+        @Nullable LocalDate lastDay
+    ) {
+        // CHECKSTYLE:ON: ParameterNumber
+        LocalDate end = lastDay != null && (to == null || to.isAfter(lastDay)) ? lastDay : to;
+        if (end != null && end.isBefore(from)) {
+            return;
+        }
+        spans.add(new CoverageSpan(
+            coverage.getId(),
+            coverage.getPolicyId(),
+            coverage.getProductId(),
+            franchise,
+            insuranceModel,
+            from,
+            end
+        ));
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Govinda ERP - Insurer Transfer
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.domain.model;
+
+import java.util.List;
+import java.util.UUID;
+import org.springframework.lang.Nullable;
+
+/**
+ * A processed transfer message together with the changes it causes.
+ *
+ * @param recordNumber position of the message in its file, starting at 1
+ * @param personId     matched person, {@code null} if unknown
+ * @param policyId     pending policy activated by an entry
+ * @param coverageIds  basic coverages terminated by an exit
+ */
+public record InsurerTransfer(
+    TransferMessage message,
+    int recordNumber,
+    TransferOutcome outcome,
+    @Nullable UUID personId,
+    @Nullable UUID policyId,
+    List<UUID> coverageIds
+) {
+
+    public InsurerTransfer {
+        coverageIds = List.copyOf(coverageIds);
+    }
+
+    /**
+     * A transfer that changes nothing.
+     */
+    public static InsurerTransfer rejected(
+        TransferMessage message,
+        int recordNumber,
+        TransferOutcome outcome,
+        @Nullable UUID personId
+    ) {
+        return new InsurerTransfer(message, recordNumber, outcome, personId, null, List.of());
+    }
+
+    public TransferStatus status() {
+        return outcome.status();
+    }
+}
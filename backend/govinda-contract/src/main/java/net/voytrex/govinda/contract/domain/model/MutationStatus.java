@@ -0,0 +1,21 @@
+/*
+ * Govinda ERP - Mutation Status
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.domain.model;
+
+/**
+ * Processing status of a {@link CoverageMutation}.
+ */
+public enum MutationStatus {
+    /** Waiting for its effective date or for the mutation processor. */
+    PENDING,
+    /** Applied to the coverage. */
+    PROCESSED,
+    /** Withdrawn before it was applied. */
+    CANCELLED,
+    /** Could not be applied; see the failure reason. */
+    FAILED
+}
@@ -0,0 +1,140 @@
+/*
+ * Govinda ERP - Mutation Timing Wheel
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.domain.model;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * In-memory calendar of pending coverage mutations: one slot per day for a
+ * fixed horizon, holding the number of mutations taking effect on that day.
+ *
+ * Advancing the wheel to a new day moves the counts of the passed slots into
+ * the due count, so the cost of a cutoff depends on the days passed, not on the
+ * number of coverages or mutations. The counts are a hint for when to look
+ * at the queue; the queue itself stays the source of truth and the wheel is
+ * rebuilt from it periodically, which also picks up mutations recorded on
+ * other nodes and mutations that moved into the horizon.
+ */
+public final class MutationTimingWheel {
+    private final long[] slots;
+    private long currentDay;
+    private long due;
+    private long beyondHorizon;
+
+    public MutationTimingWheel(int horizonDays, LocalDate today) {
+        if (horizonDays < 1) {
+            throw new IllegalArgumentException("horizon must be positive");
+        }
+        this.slots = new long[horizonDays];
+        this.currentDay = today.toEpochDay();
+    }
+
+    /**
+     * Replaces the contents with the pending mutations of the queue.
+     */
+    public synchronized void reset(LocalDate today, List<ScheduledMutations> pending) {
+        Arrays.fill(slots, 0L);
+        currentDay = today.toEpochDay();
+        due = 0;
+        beyondHorizon = 0;
+        for (ScheduledMutations scheduled : pending) {
+            add(scheduled.effectiveDate().toEpochDay(), scheduled.count());
+        }
+    }
+
+    /**
+     * Counts a newly recorded mutation.
+     */
+    public synchronized void schedule(LocalDate effectiveDate) {
+        add(effectiveDate.toEpochDay(), 1);
+    }
+
+    /**
+     * Moves the wheel to a day, making the mutations of the passed days due.
+     *
+     * @return number of due mutations
+     */
+    public synchronized long advanceTo(LocalDate today) {
+        long day = today.toEpochDay();
+        long steps = Math.min(day - currentDay, slots.length);
+        for (long i = 1; i <= steps; i++) {
+            int slot = slot(currentDay + i);
+            due += slots[slot];
+            slots[slot] = 0;
+        }
+        if (day > currentDay) {
+            currentDay = day;
+        }
+        return due;
+    }
+
+    /**
+     * Counts mutations that were applied or failed.
+     */
+    public synchronized void completed(long count) {
+        due = Math.max(0, due - count);
+    }
+
+    /**
+     * Clears the due count after the queue had no due mutations left to take.
+     */
+    public synchronized void drained() {
+        due = 0;
+    }
+
+    public synchronized long due() {
+        return due;
+    }
+
+    /**
+     * Mutations scheduled after today within the horizon.
+     */
+    public synchronized long upcoming() {
+        long upcoming = 0;
+        for (long count : slots) {
+            upcoming += count;
+        }
+        return upcoming;
+    }
+
+    /**
+     * Mutations scheduled after the horizon, not yet in a slot.
+     */
+    public synchronized long beyondHorizon() {
+        return beyondHorizon;
+    }
+
+    /**
+     * First day after today with scheduled mutations, or {@code null} if none within the horizon.
+     */
+    @Nullable
+    public synchronized LocalDate nextDate() {
+        for (long day = currentDay + 1; day < currentDay + slots.length; day++) {
+            if (slots[slot(day)] > 0) {
+                return LocalDate.ofEpochDay(day);
+            }
+        }
+        return null;
+    }
+
+    private void add(long day, long count) {
+        if (day <= currentDay) {
+            due += count;
+        } else if (day - currentDay < slots.length) {
+            slots[slot(day)] += count;
+        } else {
+            beyondHorizon += count;
+        }
+    }
+
+    private int slot(long day) {
+        return (int) Math.floorMod(day, (long) slots.length);
+    }
+}
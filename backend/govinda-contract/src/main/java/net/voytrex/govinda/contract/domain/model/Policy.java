@@ -0,0 +1,213 @@
+/*
+ * Govinda ERP - Policy Entity
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.BillingFrequency;
+import net.voytrex.govinda.common.domain.model.Language;
+import net.voytrex.govinda.common.domain.model.PolicyStatus;
+import org.springframework.lang.Nullable;
+
+/**
+ * Insurance contract between the insurer and a policyholder.
+ *
+ * Coverages reference their policy by id and are loaded through
+ * {@link net.voytrex.govinda.contract.domain.repository.CoverageRepository}.
+ */
+@Entity
+@Table(name = "policy")
+public class Policy {
+    @Id
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id = UUID.randomUUID();
+
+    @Column(name = "tenant_id", updatable = false, nullable = false)
+    private UUID tenantId;
+
+    @Column(name = "policy_number", length = 30, updatable = false, nullable = false)
+    private String policyNumber;
+
+    @Column(name = "policyholder_id", nullable = false)
+    private UUID policyholderId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private PolicyStatus status = PolicyStatus.QUOTE;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "billing_frequency", length = 20, nullable = false)
+    private BillingFrequency billingFrequency = BillingFrequency.MONTHLY;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "preferred_language", length = 2, nullable = false)
+    private Language preferredLanguage = Language.DE;
+
+    @Nullable
+    @Column(name = "activated_at")
+    private Instant activatedAt;
+
+    @Column(name = "created_at", updatable = false, nullable = false)
+    private Instant createdAt = Instant.now();
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt = Instant.now();
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version = 0L;
+
+    protected Policy() {
+    }
+
+    public Policy(UUID tenantId, String policyNumber, UUID policyholderId) {
+        if (policyNumber == null || policyNumber.isBlank()) {
+            throw new IllegalArgumentException("Policy number must not be blank");
+        }
+        this.tenantId = tenantId;
+        this.policyNumber = policyNumber;
+        this.policyholderId = policyholderId;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getTenantId() {
+        return tenantId;
+    }
+
+    public String getPolicyNumber() {
+        return policyNumber;
+    }
+
+    public UUID getPolicyholderId() {
+        return policyholderId;
+    }
+
+    public PolicyStatus getStatus() {
+        return status;
+    }
+
+    public BillingFrequency getBillingFrequency() {
+        return billingFrequency;
+    }
+
+    public void setBillingFrequency(BillingFrequency billingFrequency) {
+        this.billingFrequency = billingFrequency;
+        this.updatedAt = Instant.now();
+    }
+
+    public Language getPreferredLanguage() {
+        return preferredLanguage;
+    }
+
+    public void setPreferredLanguage(Language preferredLanguage) {
+        this.preferredLanguage = preferredLanguage;
+        this.updatedAt = Instant.now();
+    }
+
+    @Nullable
+    public Instant getActivatedAt() {
+        return activatedAt;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public boolean isActive() {
+        return status == PolicyStatus.ACTIVE;
+    }
+
+    /**
+     * Submits an accepted quote for review.
+     */
+    public void submit() {
+        requireStatus(PolicyStatus.QUOTE, "submitted");
+        changeStatus(PolicyStatus.PENDING);
+    }
+
+    /**
+     * Activates a pending policy after underwriting.
+     */
+    public void activate() {
+        requireStatus(PolicyStatus.PENDING, "activated");
+        changeStatus(PolicyStatus.ACTIVE);
+        this.activatedAt = updatedAt;
+    }
+
+    public void suspend() {
+        requireStatus(PolicyStatus.ACTIVE, "suspended");
+        changeStatus(PolicyStatus.SUSPENDED);
+    }
+
+    public void reactivate() {
+        requireStatus(PolicyStatus.SUSPENDED, "reactivated");
+        changeStatus(PolicyStatus.ACTIVE);
+    }
+
+    public void cancel() {
+        if (status == PolicyStatus.CANCELLED) {
+            return;
+        }
+        changeStatus(PolicyStatus.CANCELLED);
+    }
+
+    private void requireStatus(PolicyStatus expected, String action) {
+        if (status != expected) {
+            throw new IllegalStateException("Only " + expected + " policies can be " + action);
+        }
+    }
+
+    private void changeStatus(PolicyStatus newStatus) {
+        this.status = newStatus;
+        this.updatedAt = Instant.now();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        Policy policy = (Policy) other;
+        return Objects.equals(id, policy.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "Policy(id=" + id + ", policyNumber='" + policyNumber + "', status=" + status + ")";
+    }
+}
@@ -0,0 +1,15 @@
+/*
+ * Govinda ERP - Scheduled Mutations
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * Number of pending coverage mutations taking effect on a date.
+ */
+public record ScheduledMutations(LocalDate effectiveDate, long count) {
+}
@@ -0,0 +1,45 @@
+/*
+ * Govinda ERP - Transfer Import Report
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.domain.model;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Summary of importing one SASIS transfer file.
+ *
+ * Outcome counts cover the messages processed by this execution only; chunks
+ * committed by an earlier, interrupted execution are counted in
+ * {@code skippedChunks}. Invalid records are counted over the whole file.
+ *
+ * @param errors first rejected records with their line number
+ */
+public record TransferImportReport(
+    UUID runId,
+    String fileName,
+    int chunks,
+    int skippedChunks,
+    long completed,
+    long unknownPersons,
+    long withoutApplication,
+    long withoutCoverage,
+    long duplicates,
+    long invalid,
+    List<String> errors,
+    Duration elapsed
+) {
+
+    public long processed() {
+        return completed + unknownPersons + withoutApplication + withoutCoverage + duplicates;
+    }
+
+    public double messagesPerSecond() {
+        long millis = elapsed.toMillis();
+        return millis == 0 ? processed() * 1000.0 : processed() * 1000.0 / millis;
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Govinda ERP - Transfer Message
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * Insurer transfer message from a SASIS batch file.
+ *
+ * @param messageId     SASIS message id, unique per insurer
+ * @param effectiveDate first day with the new insurer
+ * @param insurerCode   BAG number of the other insurer: the previous one for entries, the next one for exits
+ */
+public record TransferMessage(
+    String messageId,
+    TransferType type,
+    String ahvNumber,
+    LocalDate effectiveDate,
+    String insurerCode
+) {
+
+    /**
+     * Last day covered by the previous insurer.
+     */
+    public LocalDate lastDayWithPreviousInsurer() {
+        return effectiveDate.minusDays(1);
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Govinda ERP - Transfer Outcome
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.domain.model;
+
+/**
+ * Result of processing one transfer message.
+ */
+public enum TransferOutcome {
+    /** Policy activated (entry) or basic coverages terminated (exit). */
+    COMPLETED,
+    /** No person of the tenant has the AHV number. */
+    UNKNOWN_PERSON,
+    /** Entry without a pending application starting on the effective date. */
+    NO_APPLICATION,
+    /** Exit without basic coverage in force before the effective date. */
+    NO_COVERAGE,
+    /** The message was processed before and is ignored. */
+    DUPLICATE;
+
+    /**
+     * Status recorded for the transfer.
+     */
+    public TransferStatus status() {
+        return this == COMPLETED ? TransferStatus.COMPLETED : TransferStatus.REJECTED;
+    }
+}
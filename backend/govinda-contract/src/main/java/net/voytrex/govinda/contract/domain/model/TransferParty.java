@@ -0,0 +1,31 @@
+/*
+ * Govinda ERP - Transfer Party
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.domain.model;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.PolicyStatus;
+import org.springframework.lang.Nullable;
+
+/**
+ * A person of the tenant that may be named in a transfer message, with one of
+ * their basic (KVG) coverages that is not terminated.
+ *
+ * @param coverageId   {@code null} if the person has no such coverage; then
+ *                     the other coverage fields are {@code null} as well
+ * @param policyStatus status of the coverage's policy
+ */
+public record TransferParty(
+    String ahvNumber,
+    UUID personId,
+    @Nullable UUID coverageId,
+    @Nullable UUID policyId,
+    @Nullable PolicyStatus policyStatus,
+    @Nullable LocalDate effectiveDate,
+    @Nullable LocalDate terminationDate
+) {
+}
@@ -0,0 +1,170 @@
+/*
+ * Govinda ERP - Transfer Party Index
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.domain.model;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.AhvIndex;
+import net.voytrex.govinda.common.domain.model.AhvNumber;
+import net.voytrex.govinda.common.domain.model.PolicyStatus;
+import org.springframework.lang.Nullable;
+
+/**
+ * In-memory lookup of the persons of a tenant by AHV number, with their basic
+ * coverages that are not terminated, for resolving transfer messages.
+ *
+ * Persons and coverages are stored column-wise in primitive arrays addressed
+ * by int handles; a person's coverages form a linked list, in the order they
+ * were added. Dates are stored as epoch days. Filled by one thread, then
+ * shared read-only by the workers resolving message chunks.
+ */
+public final class TransferPartyIndex {
+    public static final int NONE = -1;
+    private static final int OPEN_END = Integer.MAX_VALUE;
+
+    private final AhvIndex persons;
+    private UUID[] personIds;
+    private int[] firstCoverage;
+    private int[] lastCoverage;
+    private int personCount;
+    private UUID[] coverageIds;
+    private UUID[] policyIds;
+    private byte[] policyStatuses;
+    private int[] startDays;
+    private int[] endDays;
+    private int[] next;
+    private int coverageCount;
+
+    public TransferPartyIndex(int expectedPersons) {
+        int capacity = Math.max(16, expectedPersons);
+        this.persons = new AhvIndex(capacity);
+        this.personIds = new UUID[capacity];
+        this.firstCoverage = new int[capacity];
+        this.lastCoverage = new int[capacity];
+        this.coverageIds = new UUID[capacity];
+        this.policyIds = new UUID[capacity];
+        this.policyStatuses = new byte[capacity];
+        this.startDays = new int[capacity];
+        this.endDays = new int[capacity];
+        this.next = new int[capacity];
+    }
+
+    /**
+     * Adds a party row; rows of the same person add further coverages.
+     *
+     * @return {@code false} if the AHV number is malformed and the row was ignored
+     */
+    public boolean add(TransferParty party) {
+        long ahv = AhvNumber.pack(party.ahvNumber());
+        if (ahv == AhvNumber.INVALID) {
+            return false;
+        }
+        int person = persons.putIfAbsent(ahv, personCount);
+        if (person == AhvIndex.NOT_FOUND) {
+            person = addPerson(party.personId());
+        }
+        if (party.coverageId() != null && party.policyId() != null && party.policyStatus() != null
+            && party.effectiveDate() != null) {
+            addCoverage(person, party);
+        }
+        return true;
+    }
+
+    /**
+     * Handle of the person with an AHV number (formatted or not), or {@link #NONE}.
+     */
+    public int person(String ahvNumber) {
+        int person = persons.get(AhvNumber.pack(ahvNumber));
+        return person == AhvIndex.NOT_FOUND ? NONE : person;
+    }
+
+    public UUID personId(int person) {
+        return personIds[person];
+    }
+
+    /**
+     * Policy of the person's pending application whose basic coverage starts
+     * on a date, or {@code null}.
+     */
+    @Nullable
+    public UUID pendingPolicy(int person, LocalDate effectiveDate) {
+        int day = Math.toIntExact(effectiveDate.toEpochDay());
+        for (int coverage = firstCoverage[person]; coverage != NONE; coverage = next[coverage]) {
+            if (policyStatuses[coverage] == PolicyStatus.PENDING.ordinal() && startDays[coverage] == day) {
+                return policyIds[coverage];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Basic coverages of active or suspended policies that are in force on a
+     * day and not already ending on it.
+     */
+    public List<UUID> coveragesInForceAfter(int person, LocalDate lastDay) {
+        int day = Math.toIntExact(lastDay.toEpochDay());
+        List<UUID> coverages = new ArrayList<>(1);
+        for (int coverage = firstCoverage[person]; coverage != NONE; coverage = next[coverage]) {
+            byte status = policyStatuses[coverage];
+            boolean inForce = status == PolicyStatus.ACTIVE.ordinal() || status == PolicyStatus.SUSPENDED.ordinal();
+            if (inForce && startDays[coverage] <= day && endDays[coverage] > day) {
+                coverages.add(coverageIds[coverage]);
+            }
+        }
+        return coverages;
+    }
+
+    public int persons() {
+        return personCount;
+    }
+
+    public int coverages() {
+        return coverageCount;
+    }
+
+    private int addPerson(UUID personId) {
+        if (personCount == personIds.length) {
+            int capacity = personCount << 1;
+            personIds = Arrays.copyOf(personIds, capacity);
+            firstCoverage = Arrays.copyOf(firstCoverage, capacity);
+            lastCoverage = Arrays.copyOf(lastCoverage, capacity);
+        }
+        personIds[personCount] = personId;
+        firstCoverage[personCount] = NONE;
+        lastCoverage[personCount] = NONE;
+        return personCount++;
+    }
+
+    private void addCoverage(int person, TransferParty party) {
+        if (coverageCount == coverageIds.length) {
+            int capacity = coverageCount << 1;
+            coverageIds = Arrays.copyOf(coverageIds, capacity);
+            policyIds = Arrays.copyOf(policyIds, capacity);
+            policyStatuses = Arrays.copyOf(policyStatuses, capacity);
+            startDays = Arrays.copyOf(startDays, capacity);
+            endDays = Arrays.copyOf(endDays, capacity);
+            next = Arrays.copyOf(next, capacity);
+        }
+        coverageIds[coverageCount] = party.coverageId();
+        policyIds[coverageCount] = party.policyId();
+        policyStatuses[coverageCount] = (byte) party.policyStatus().ordinal();
+        startDays[coverageCount] = Math.toIntExact(party.effectiveDate().toEpochDay());
+        endDays[coverageCount] = party.terminationDate() != null
+            ? Math.toIntExact(party.terminationDate().toEpochDay())
+            : OPEN_END;
+        next[coverageCount] = NONE;
+        if (firstCoverage[person] == NONE) {
+            firstCoverage[person] = coverageCount;
+        } else {
+            next[lastCoverage[person]] = coverageCount;
+        }
+        lastCoverage[person] = coverageCount++;
+    }
+}
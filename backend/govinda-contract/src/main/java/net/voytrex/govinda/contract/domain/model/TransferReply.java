@@ -0,0 +1,17 @@
+/*
+ * Govinda ERP - Transfer Reply
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.domain.model;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Answer to one transfer message, as sent back to SASIS.
+ *
+ * @param reason outcome of a rejected transfer, {@code null} otherwise
+ */
+public record TransferReply(String messageId, TransferStatus status, @Nullable String reason) {
+}
@@ -0,0 +1,25 @@
+/*
+ * Govinda ERP - Transfer Status
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.domain.model;
+
+/**
+ * Status of an insurer transfer.
+ */
+public enum TransferStatus {
+    /** Transfer initiated. */
+    PENDING,
+    /** Waiting for the other insurer. */
+    AWAITING_RESPONSE,
+    /** Confirmed by the other insurer. */
+    CONFIRMED,
+    /** Could not be applied; see the rejection reason. */
+    REJECTED,
+    /** Applied to the coverages of the person. */
+    COMPLETED,
+    /** Withdrawn. */
+    CANCELLED
+}
@@ -0,0 +1,17 @@
+/*
+ * Govinda ERP - Transfer Type
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.domain.model;
+
+/**
+ * Direction of an insurer transfer (Kassenwechsel) for basic insurance.
+ */
+public enum TransferType {
+    /** The person joins from another insurer (TRANSFER_IN). */
+    ENTRY,
+    /** The person leaves for another insurer (TRANSFER_OUT). */
+    EXIT
+}
@@ -0,0 +1,57 @@
+/*
+ * Govinda ERP - Change Request Repository
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.domain.repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import net.voytrex.govinda.contract.domain.model.ChangeRequest;
+
+/**
+ * Repository interface for the change request intake queue.
+ */
+public interface ChangeRequestRepository {
+    /**
+     * Stores a new request with a single insert.
+     */
+    void insert(ChangeRequest request);
+
+    Optional<ChangeRequest> findById(UUID tenantId, UUID id);
+
+    /**
+     * Marks the oldest open requests PROCESSING, counting an attempt, and
+     * returns them, skipping rows locked by other workers. Requests claimed
+     * before {@code staleBefore} and never finished, e.g. by a node that
+     * stopped, are claimed again while they have attempts left.
+     */
+    List<ChangeRequest> claim(int limit, Instant staleBefore, int maxAttempts);
+
+    void accept(UUID id, UUID mutationId);
+
+    void reject(UUID id, String reason);
+
+    /**
+     * Marks a claimed request FAILED if it has used up its attempts.
+     *
+     * @return whether the request was marked FAILED
+     */
+    boolean failIfExhausted(UUID id, int maxAttempts, String reason);
+
+    /**
+     * Marks requests FAILED whose last attempt was claimed before
+     * {@code staleBefore} and never finished.
+     *
+     * @return the number of requests marked FAILED
+     */
+    int failStale(Instant staleBefore, int maxAttempts, String reason);
+
+    /**
+     * Number of requests received or being processed.
+     */
+    long countOpen();
+}
@@ -0,0 +1,26 @@
+/*
+ * Govinda ERP - Coverage Repository
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.domain.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import net.voytrex.govinda.contract.domain.model.Coverage;
+
+/**
+ * Repository interface for Coverage entities.
+ */
+public interface CoverageRepository {
+    Coverage save(Coverage coverage);
+    List<Coverage> saveAll(List<Coverage> coverages);
+    Optional<Coverage> findById(UUID id);
+    List<Coverage> findAllById(Collection<UUID> ids);
+    List<Coverage> findByPolicyId(UUID policyId);
+    List<Coverage> findByInsuredPersonId(UUID insuredPersonId);
+    List<Coverage> findByInsuredPersonIds(Collection<UUID> insuredPersonIds);
+}
@@ -0,0 +1,56 @@
+/*
+ * Govinda ERP - Insurer Transfer Repository
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.domain.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import net.voytrex.govinda.contract.domain.model.InsurerTransfer;
+import net.voytrex.govinda.contract.domain.model.TransferParty;
+import net.voytrex.govinda.contract.domain.model.TransferReply;
+
+/**
+ * Bulk access to transfer parties, received transfer messages and the
+ * coverage and policy changes they cause.
+ */
+public interface InsurerTransferRepository {
+
+    /**
+     * Streams every person of the tenant, once per basic coverage that is not
+     * terminated, or once without coverage. Must run in a transaction.
+     */
+    void forEachParty(UUID tenantId, Consumer<TransferParty> action);
+
+    /**
+     * Message ids among the given ones that were recorded before.
+     */
+    Set<String> findRecorded(UUID tenantId, Collection<String> messageIds);
+
+    /**
+     * Records transfers of a file; messages recorded before are left unchanged.
+     */
+    void saveTransfers(UUID runId, UUID tenantId, String fileName, List<InsurerTransfer> transfers);
+
+    /**
+     * Terminates the coverages of completed exits on the last day before their
+     * effective date, unless already terminated.
+     */
+    void terminateCoverages(List<InsurerTransfer> exits);
+
+    /**
+     * Activates pending policies.
+     */
+    void activatePolicies(Collection<UUID> policyIds);
+
+    /**
+     * Streams the replies to the messages recorded from a file in record order.
+     * Must run in a transaction.
+     */
+    void forEachReply(UUID tenantId, String fileName, Consumer<TransferReply> action);
+}
@@ -0,0 +1,66 @@
+/*
+ * Govinda ERP - Mutation Repository
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.domain.repository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.UUID;
+import net.voytrex.govinda.contract.domain.model.CoverageMutation;
+import net.voytrex.govinda.contract.domain.model.ScheduledMutations;
+
+/**
+ * Repository interface for CoverageMutation entities and the processing partitions of their queue.
+ */
+public interface MutationRepository {
+    CoverageMutation save(CoverageMutation mutation);
+    List<CoverageMutation> saveAll(List<CoverageMutation> mutations);
+    Optional<CoverageMutation> findById(UUID id);
+    List<CoverageMutation> findByCoverageId(UUID coverageId);
+
+    /**
+     * Processed mutations of several coverages, by effective date, then in recording order.
+     */
+    List<CoverageMutation> findProcessedByCoverageIds(Collection<UUID> coverageIds);
+
+    /**
+     * Locks the least recently processed partition with mutations due on a date,
+     * skipping partitions locked by other workers. The lock is held until the
+     * current transaction ends.
+     *
+     * @return the partition, or empty if no unlocked partition has due mutations
+     */
+    OptionalInt lockNextPartition(LocalDate dueDate);
+
+    /**
+     * Pending mutations of a partition due on a date, in processing order:
+     * by effective date, then in the order they were recorded.
+     */
+    List<CoverageMutation> findDue(int partition, LocalDate dueDate, int limit);
+
+    void markPartitionProcessed(int partition);
+
+    /**
+     * Number of pending mutations due on a date.
+     */
+    long countDue(LocalDate dueDate);
+
+    /**
+     * Since when the oldest pending mutation due on a date has been waiting:
+     * its creation or the start of its effective date, whichever is later.
+     */
+    Optional<Instant> findOldestDueSince(LocalDate dueDate);
+
+    /**
+     * Pending mutations per effective date, up to and including a date, read with
+     * one range scan over the schedule index.
+     */
+    List<ScheduledMutations> countPendingByDate(LocalDate until);
+}
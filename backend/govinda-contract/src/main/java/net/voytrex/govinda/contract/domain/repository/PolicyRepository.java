@@ -0,0 +1,20 @@
+/*
+ * Govinda ERP - Policy Repository
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.domain.repository;
+
+import java.util.Optional;
+import java.util.UUID;
+import net.voytrex.govinda.contract.domain.model.Policy;
+
+/**
+ * Repository interface for Policy entities.
+ */
+public interface PolicyRepository {
+    Policy save(Policy policy);
+    Optional<Policy> findByIdAndTenantId(UUID id, UUID tenantId);
+    Optional<Policy> findByPolicyNumberAndTenantId(String policyNumber, UUID tenantId);
+}
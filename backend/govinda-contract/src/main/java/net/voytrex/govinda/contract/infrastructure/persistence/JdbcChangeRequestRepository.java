@@ -0,0 +1,187 @@
+/*
+ * Govinda ERP - JDBC Change Request Repository
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.infrastructure.persistence;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.Money;
+import net.voytrex.govinda.contract.domain.model.ChangeRequest;
+import net.voytrex.govinda.contract.domain.model.ChangeRequestChannel;
+import net.voytrex.govinda.contract.domain.model.ChangeRequestStatus;
+import net.voytrex.govinda.contract.domain.model.CoverageMutationType;
+import net.voytrex.govinda.contract.domain.repository.ChangeRequestRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Plain JDBC implementation, so that submitting a request costs exactly one
+ * INSERT and claiming a batch one UPDATE ... RETURNING.
+ */
+@Repository
+public class JdbcChangeRequestRepository implements ChangeRequestRepository {
+    private static final int MAX_REASON_LENGTH = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcChangeRequestRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insert(ChangeRequest request) {
+        jdbcTemplate.update(
+            """
+            INSERT INTO change_request
+                (id, tenant_id, coverage_id, request_type, requested_value, quoted_monthly_premium,
+                 effective_date, channel, status, submitted_by, submitted_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """,
+            request.id(),
+            request.tenantId(),
+            request.coverageId(),
+            request.requestType().name(),
+            request.requestedValue(),
+            request.quotedMonthlyPremium() != null ? request.quotedMonthlyPremium().getAmount() : null,
+            Date.valueOf(request.effectiveDate()),
+            request.channel().name(),
+            request.status().name(),
+            request.submittedBy(),
+            Timestamp.from(request.submittedAt())
+        );
+    }
+
+    @Override
+    public Optional<ChangeRequest> findById(UUID tenantId, UUID id) {
+        return jdbcTemplate.query(
+            "SELECT * FROM change_request WHERE id = ? AND tenant_id = ?",
+            JdbcChangeRequestRepository::map,
+            id,
+            tenantId
+        ).stream().findFirst();
+    }
+
+    @Override
+    public List<ChangeRequest> claim(int limit, Instant staleBefore, int maxAttempts) {
+        List<ChangeRequest> claimed = jdbcTemplate.query(
+            """
+            UPDATE change_request SET status = 'PROCESSING', claimed_at = NOW(), attempts = attempts + 1
+            WHERE id IN (
+                SELECT id FROM change_request
+                WHERE status = 'RECEIVED' OR (status = 'PROCESSING' AND claimed_at < ? AND attempts < ?)
+                ORDER BY submitted_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING *
+            """,
+            JdbcChangeRequestRepository::map,
+            Timestamp.from(staleBefore),
+            maxAttempts,
+            limit
+        );
+        return claimed.stream().sorted(Comparator.comparing(ChangeRequest::submittedAt)).toList();
+    }
+
+    @Override
+    public void accept(UUID id, UUID mutationId) {
+        jdbcTemplate.update(
+            """
+            UPDATE change_request SET status = 'ACCEPTED', mutation_id = ?, processed_at = NOW()
+            WHERE id = ? AND status = 'PROCESSING'
+            """,
+            mutationId,
+            id
+        );
+    }
+
+    @Override
+    public void reject(UUID id, String reason) {
+        jdbcTemplate.update(
+            """
+            UPDATE change_request SET status = 'REJECTED', rejection_reason = ?, processed_at = NOW()
+            WHERE id = ? AND status = 'PROCESSING'
+            """,
+            truncate(reason),
+            id
+        );
+    }
+
+    @Override
+    public boolean failIfExhausted(UUID id, int maxAttempts, String reason) {
+        return jdbcTemplate.update(
+            """
+            UPDATE change_request SET status = 'FAILED', rejection_reason = ?, processed_at = NOW()
+            WHERE id = ? AND status = 'PROCESSING' AND attempts >= ?
+            """,
+            truncate(reason),
+            id,
+            maxAttempts
+        ) > 0;
+    }
+
+    @Override
+    public int failStale(Instant staleBefore, int maxAttempts, String reason) {
+        return jdbcTemplate.update(
+            """
+            UPDATE change_request SET status = 'FAILED', rejection_reason = ?, processed_at = NOW()
+            WHERE status = 'PROCESSING' AND claimed_at < ? AND attempts >= ?
+            """,
+            truncate(reason),
+            Timestamp.from(staleBefore),
+            maxAttempts
+        );
+    }
+
+    @Override
+    public long countOpen() {
+        Long open = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM change_request WHERE status IN ('RECEIVED', 'PROCESSING')",
+            Long.class
+        );
+        return open != null ? open : 0;
+    }
+
+    private static ChangeRequest map(ResultSet resultSet, int row) throws SQLException {
+        BigDecimal premium = resultSet.getBigDecimal("quoted_monthly_premium");
+        return new ChangeRequest(
+            resultSet.getObject("id", UUID.class),
+            resultSet.getObject("tenant_id", UUID.class),
+            resultSet.getObject("coverage_id", UUID.class),
+            CoverageMutationType.valueOf(resultSet.getString("request_type")),
+            resultSet.getString("requested_value"),
+            premium != null ? new Money(premium) : null,
+            resultSet.getObject("effective_date", LocalDate.class),
+            ChangeRequestChannel.valueOf(resultSet.getString("channel")),
+            ChangeRequestStatus.valueOf(resultSet.getString("status")),
+            resultSet.getString("rejection_reason"),
+            resultSet.getObject("mutation_id", UUID.class),
+            resultSet.getObject("submitted_by", UUID.class),
+            instant(resultSet.getObject("submitted_at", OffsetDateTime.class)),
+            instant(resultSet.getObject("processed_at", OffsetDateTime.class))
+        );
+    }
+
+    private static String truncate(String reason) {
+        return reason.length() > MAX_REASON_LENGTH ? reason.substring(0, MAX_REASON_LENGTH) : reason;
+    }
+
+    @Nullable
+    private static Instant instant(@Nullable OffsetDateTime timestamp) {
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+}
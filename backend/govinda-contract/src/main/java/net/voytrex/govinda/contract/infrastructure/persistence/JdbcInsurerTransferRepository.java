@@ -0,0 +1,200 @@
+/*
+ * Govinda ERP - JDBC Insurer Transfer Repository
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.infrastructure.persistence;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import net.voytrex.govinda.common.domain.model.PolicyStatus;
+import net.voytrex.govinda.contract.domain.model.InsurerTransfer;
+import net.voytrex.govinda.contract.domain.model.TransferParty;
+import net.voytrex.govinda.contract.domain.model.TransferReply;
+import net.voytrex.govinda.contract.domain.model.TransferStatus;
+import net.voytrex.govinda.contract.domain.model.TransferType;
+import net.voytrex.govinda.contract.domain.repository.InsurerTransferRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Plain JDBC implementation: parties and replies are read in one query
+ * through a server-side cursor ({@value #FETCH_SIZE} rows per round trip);
+ * transfers and their coverage and policy changes are written with one
+ * batched statement each per chunk.
+ */
+@Repository
+public class JdbcInsurerTransferRepository implements InsurerTransferRepository {
+    static final int FETCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcInsurerTransferRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void forEachParty(UUID tenantId, Consumer<TransferParty> action) {
+        jdbcTemplate.query(
+            connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                    """
+                    SELECT p.id, p.ahv_nr, c.id AS coverage_id, c.policy_id, c.effective_date,
+                           c.termination_date, po.status AS policy_status
+                    FROM person p
+                    LEFT JOIN coverage c ON c.insured_person_id = p.id
+                        AND c.status <> 'TERMINATED'
+                        AND EXISTS (
+                            SELECT 1 FROM product pr WHERE pr.id = c.product_id AND pr.product_type = 'KVG'
+                        )
+                    LEFT JOIN policy po ON po.id = c.policy_id
+                    WHERE p.tenant_id = ?
+                    """
+                );
+                statement.setFetchSize(FETCH_SIZE);
+                statement.setObject(1, tenantId);
+                return statement;
+            },
+            resultSet -> {
+                String policyStatus = resultSet.getString("policy_status");
+                action.accept(new TransferParty(
+                    resultSet.getString("ahv_nr"),
+                    resultSet.getObject("id", UUID.class),
+                    resultSet.getObject("coverage_id", UUID.class),
+                    resultSet.getObject("policy_id", UUID.class),
+                    policyStatus != null ? PolicyStatus.valueOf(policyStatus) : null,
+                    resultSet.getObject("effective_date", LocalDate.class),
+                    resultSet.getObject("termination_date", LocalDate.class)
+                ));
+            }
+        );
+    }
+
+    @Override
+    public Set<String> findRecorded(UUID tenantId, Collection<String> messageIds) {
+        if (messageIds.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> recorded = new HashSet<>();
+        jdbcTemplate.query(
+            connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                    "SELECT sasis_message_id FROM insurer_transfer WHERE tenant_id = ? AND sasis_message_id = ANY (?)"
+                );
+                statement.setObject(1, tenantId);
+                statement.setArray(2, connection.createArrayOf("varchar", messageIds.toArray()));
+                return statement;
+            },
+            resultSet -> {
+                recorded.add(resultSet.getString(1));
+            }
+        );
+        return recorded;
+    }
+
+    @Override
+    public void saveTransfers(UUID runId, UUID tenantId, String fileName, List<InsurerTransfer> transfers) {
+        jdbcTemplate.batchUpdate(
+            """
+            INSERT INTO insurer_transfer
+                (tenant_id, person_id, policy_id, transfer_type, effective_date, previous_insurer_code,
+                 next_insurer_code, status, rejection_reason, sasis_message_id, source_file, record_number,
+                 run_id)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (tenant_id, sasis_message_id) DO NOTHING
+            """,
+            transfers,
+            transfers.size(),
+            (statement, transfer) -> {
+                boolean entry = transfer.message().type() == TransferType.ENTRY;
+                boolean completed = transfer.status() == TransferStatus.COMPLETED;
+                statement.setObject(1, tenantId);
+                statement.setObject(2, transfer.personId());
+                statement.setObject(3, transfer.policyId());
+                statement.setString(4, transfer.message().type().name());
+                statement.setDate(5, Date.valueOf(transfer.message().effectiveDate()));
+                statement.setString(6, entry ? transfer.message().insurerCode() : null);
+                statement.setString(7, entry ? null : transfer.message().insurerCode());
+                statement.setString(8, transfer.status().name());
+                statement.setString(9, completed ? null : transfer.outcome().name());
+                statement.setString(10, transfer.message().messageId());
+                statement.setString(11, fileName);
+                statement.setInt(12, transfer.recordNumber());
+                statement.setObject(13, runId);
+            }
+        );
+    }
+
+    @Override
+    public void terminateCoverages(List<InsurerTransfer> exits) {
+        List<Object[]> terminations = new ArrayList<>();
+        for (InsurerTransfer exit : exits) {
+            Date lastDay = Date.valueOf(exit.message().lastDayWithPreviousInsurer());
+            for (UUID coverageId : exit.coverageIds()) {
+                terminations.add(new Object[] {lastDay, coverageId, lastDay});
+            }
+        }
+        if (terminations.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+            """
+            UPDATE coverage
+            SET status = 'TERMINATED', termination_date = ?, updated_at = NOW(), version = version + 1
+            WHERE id = ? AND status <> 'TERMINATED' AND effective_date <= ?
+            """,
+            terminations
+        );
+    }
+
+    @Override
+    public void activatePolicies(Collection<UUID> policyIds) {
+        if (policyIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+            """
+            UPDATE policy
+            SET status = 'ACTIVE', activated_at = NOW(), updated_at = NOW(), version = version + 1
+            WHERE id = ? AND status = 'PENDING'
+            """,
+            policyIds.stream().map(policyId -> new Object[] {policyId}).toList()
+        );
+    }
+
+    @Override
+    public void forEachReply(UUID tenantId, String fileName, Consumer<TransferReply> action) {
+        jdbcTemplate.query(
+            connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                    """
+                    SELECT sasis_message_id, status, rejection_reason
+                    FROM insurer_transfer
+                    WHERE tenant_id = ? AND source_file = ?
+                    ORDER BY record_number
+                    """
+                );
+                statement.setFetchSize(FETCH_SIZE);
+                statement.setObject(1, tenantId);
+                statement.setString(2, fileName);
+                return statement;
+            },
+            resultSet -> {
+                action.accept(new TransferReply(
+                    resultSet.getString("sasis_message_id"),
+                    TransferStatus.valueOf(resultSet.getString("status")),
+                    resultSet.getString("rejection_reason")
+                ));
+            }
+        );
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Govinda ERP - JPA Coverage Repository Implementation
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.infrastructure.persistence;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import net.voytrex.govinda.contract.domain.model.Coverage;
+import net.voytrex.govinda.contract.domain.repository.CoverageRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class JpaCoverageRepositoryAdapter implements CoverageRepository {
+    private final SpringDataCoverageRepository jpaCoverageRepository;
+
+    public JpaCoverageRepositoryAdapter(SpringDataCoverageRepository jpaCoverageRepository) {
+        this.jpaCoverageRepository = jpaCoverageRepository;
+    }
+
+    @Override
+    public Coverage save(Coverage coverage) {
+        return jpaCoverageRepository.save(coverage);
+    }
+
+    @Override
+    public List<Coverage> saveAll(List<Coverage> coverages) {
+        return jpaCoverageRepository.saveAll(coverages);
+    }
+
+    @Override
+    public Optional<Coverage> findById(UUID id) {
+        return jpaCoverageRepository.findById(id);
+    }
+
+    @Override
+    public List<Coverage> findAllById(Collection<UUID> ids) {
+        return jpaCoverageRepository.findAllById(ids);
+    }
+
+    @Override
+    public List<Coverage> findByPolicyId(UUID policyId) {
+        return jpaCoverageRepository.findByPolicyId(policyId);
+    }
+
+    @Override
+    public List<Coverage> findByInsuredPersonId(UUID insuredPersonId) {
+        return jpaCoverageRepository.findByInsuredPersonId(insuredPersonId);
+    }
+
+    @Override
+    public List<Coverage> findByInsuredPersonIds(Collection<UUID> insuredPersonIds) {
+        return jpaCoverageRepository.findByInsuredPersonIdIn(insuredPersonIds);
+    }
+}
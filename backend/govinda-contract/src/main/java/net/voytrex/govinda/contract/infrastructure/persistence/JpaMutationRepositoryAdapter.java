@@ -0,0 +1,86 @@
+/*
+ * Govinda ERP - JPA Mutation Repository Implementation
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.infrastructure.persistence;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.UUID;
+import net.voytrex.govinda.contract.domain.model.CoverageMutation;
+import net.voytrex.govinda.contract.domain.model.ScheduledMutations;
+import net.voytrex.govinda.contract.domain.repository.MutationRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class JpaMutationRepositoryAdapter implements MutationRepository {
+    private final SpringDataMutationRepository jpaMutationRepository;
+
+    public JpaMutationRepositoryAdapter(SpringDataMutationRepository jpaMutationRepository) {
+        this.jpaMutationRepository = jpaMutationRepository;
+    }
+
+    @Override
+    public CoverageMutation save(CoverageMutation mutation) {
+        return jpaMutationRepository.save(mutation);
+    }
+
+    @Override
+    public List<CoverageMutation> saveAll(List<CoverageMutation> mutations) {
+        return jpaMutationRepository.saveAll(mutations);
+    }
+
+    @Override
+    public Optional<CoverageMutation> findById(UUID id) {
+        return jpaMutationRepository.findById(id);
+    }
+
+    @Override
+    public List<CoverageMutation> findByCoverageId(UUID coverageId) {
+        return jpaMutationRepository.findByCoverageIdOrderBySequenceNumber(coverageId);
+    }
+
+    @Override
+    public List<CoverageMutation> findProcessedByCoverageIds(Collection<UUID> coverageIds) {
+        return jpaMutationRepository.findProcessedByCoverageIds(coverageIds);
+    }
+
+    @Override
+    public OptionalInt lockNextPartition(LocalDate dueDate) {
+        return jpaMutationRepository.lockNextPartition(dueDate)
+            .map(OptionalInt::of)
+            .orElseGet(OptionalInt::empty);
+    }
+
+    @Override
+    public List<CoverageMutation> findDue(int partition, LocalDate dueDate, int limit) {
+        return jpaMutationRepository.findDue((short) partition, dueDate, Limit.of(limit));
+    }
+
+    @Override
+    public void markPartitionProcessed(int partition) {
+        jpaMutationRepository.markPartitionProcessed((short) partition);
+    }
+
+    @Override
+    public long countDue(LocalDate dueDate) {
+        return jpaMutationRepository.countDue(dueDate);
+    }
+
+    @Override
+    public Optional<Instant> findOldestDueSince(LocalDate dueDate) {
+        return jpaMutationRepository.findOldestDueEpochSecond(dueDate).map(Instant::ofEpochSecond);
+    }
+
+    @Override
+    public List<ScheduledMutations> countPendingByDate(LocalDate until) {
+        return jpaMutationRepository.countPendingByDate(until);
+    }
+}
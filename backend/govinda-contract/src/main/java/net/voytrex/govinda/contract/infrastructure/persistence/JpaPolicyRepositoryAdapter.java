@@ -0,0 +1,37 @@
+/*
+ * Govinda ERP - JPA Policy Repository Implementation
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.infrastructure.persistence;
+
+import java.util.Optional;
+import java.util.UUID;
+import net.voytrex.govinda.contract.domain.model.Policy;
+import net.voytrex.govinda.contract.domain.repository.PolicyRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class JpaPolicyRepositoryAdapter implements PolicyRepository {
+    private final SpringDataPolicyRepository jpaPolicyRepository;
+
+    public JpaPolicyRepositoryAdapter(SpringDataPolicyRepository jpaPolicyRepository) {
+        this.jpaPolicyRepository = jpaPolicyRepository;
+    }
+
+    @Override
+    public Policy save(Policy policy) {
+        return jpaPolicyRepository.save(policy);
+    }
+
+    @Override
+    public Optional<Policy> findByIdAndTenantId(UUID id, UUID tenantId) {
+        return jpaPolicyRepository.findByIdAndTenantId(id, tenantId);
+    }
+
+    @Override
+    public Optional<Policy> findByPolicyNumberAndTenantId(String policyNumber, UUID tenantId) {
+        return jpaPolicyRepository.findByPolicyNumberAndTenantId(policyNumber, tenantId);
+    }
+}
@@ -0,0 +1,19 @@
+/*
+ * Govinda ERP - Spring Data Coverage Repository
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.infrastructure.persistence;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import net.voytrex.govinda.contract.domain.model.Coverage;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface SpringDataCoverageRepository extends JpaRepository<Coverage, UUID> {
+    List<Coverage> findByPolicyId(UUID policyId);
+    List<Coverage> findByInsuredPersonId(UUID insuredPersonId);
+    List<Coverage> findByInsuredPersonIdIn(Collection<UUID> insuredPersonIds);
+}
@@ -0,0 +1,98 @@
+/*
+ * Govinda ERP - Spring Data Mutation Repository
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.infrastructure.persistence;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import net.voytrex.govinda.contract.domain.model.CoverageMutation;
+import net.voytrex.govinda.contract.domain.model.ScheduledMutations;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SpringDataMutationRepository extends JpaRepository<CoverageMutation, UUID> {
+    List<CoverageMutation> findByCoverageIdOrderBySequenceNumber(UUID coverageId);
+
+    @Query("""
+        SELECT m FROM CoverageMutation m
+        WHERE m.coverageId IN :coverageIds
+          AND m.status = net.voytrex.govinda.contract.domain.model.MutationStatus.PROCESSED
+        ORDER BY m.effectiveDate, m.sequenceNumber
+        """)
+    List<CoverageMutation> findProcessedByCoverageIds(@Param("coverageIds") Collection<UUID> coverageIds);
+
+    @Query(
+        value = """
+            SELECT CAST(p.partition_key AS INTEGER)
+            FROM mutation_partition p
+            WHERE EXISTS (
+                SELECT 1 FROM coverage_mutation m
+                WHERE m.partition_key = p.partition_key
+                  AND m.status = 'PENDING'
+                  AND m.effective_date <= :dueDate
+            )
+            ORDER BY p.last_processed_at NULLS FIRST
+            LIMIT 1
+            FOR UPDATE OF p SKIP LOCKED
+            """,
+        nativeQuery = true
+    )
+    Optional<Integer> lockNextPartition(@Param("dueDate") LocalDate dueDate);
+
+    @Query("""
+        SELECT m FROM CoverageMutation m
+        WHERE m.partitionKey = :partition
+          AND m.status = net.voytrex.govinda.contract.domain.model.MutationStatus.PENDING
+          AND m.effectiveDate <= :dueDate
+        ORDER BY m.effectiveDate, m.sequenceNumber
+        """)
+    List<CoverageMutation> findDue(
+        @Param("partition") short partition,
+        @Param("dueDate") LocalDate dueDate,
+        Limit limit
+    );
+
+    @Modifying
+    @Query(
+        value = "UPDATE mutation_partition SET last_processed_at = NOW() WHERE partition_key = :partition",
+        nativeQuery = true
+    )
+    void markPartitionProcessed(@Param("partition") short partition);
+
+    @Query("""
+        SELECT COUNT(m) FROM CoverageMutation m
+        WHERE m.status = net.voytrex.govinda.contract.domain.model.MutationStatus.PENDING
+          AND m.effectiveDate <= :dueDate
+        """)
+    long countDue(@Param("dueDate") LocalDate dueDate);
+
+    @Query(
+        value = """
+            SELECT CAST(EXTRACT(EPOCH FROM MIN(
+                GREATEST(created_at, CAST(effective_date AS TIMESTAMP WITH TIME ZONE))
+            )) AS BIGINT)
+            FROM coverage_mutation
+            WHERE status = 'PENDING' AND effective_date <= :dueDate
+            """,
+        nativeQuery = true
+    )
+    Optional<Long> findOldestDueEpochSecond(@Param("dueDate") LocalDate dueDate);
+
+    @Query("""
+        SELECT new net.voytrex.govinda.contract.domain.model.ScheduledMutations(m.effectiveDate, COUNT(m))
+        FROM CoverageMutation m
+        WHERE m.status = net.voytrex.govinda.contract.domain.model.MutationStatus.PENDING
+          AND m.effectiveDate <= :until
+        GROUP BY m.effectiveDate
+        """)
+    List<ScheduledMutations> countPendingByDate(@Param("until") LocalDate until);
+}
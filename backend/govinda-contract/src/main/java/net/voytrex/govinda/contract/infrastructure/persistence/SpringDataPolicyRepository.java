@@ -0,0 +1,17 @@
+/*
+ * Govinda ERP - Spring Data Policy Repository
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.infrastructure.persistence;
+
+import java.util.Optional;
+import java.util.UUID;
+import net.voytrex.govinda.contract.domain.model.Policy;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface SpringDataPolicyRepository extends JpaRepository<Policy, UUID> {
+    Optional<Policy> findByIdAndTenantId(UUID id, UUID tenantId);
+    Optional<Policy> findByPolicyNumberAndTenantId(String policyNumber, UUID tenantId);
+}
@@ -0,0 +1,151 @@
+/*
+ * Govinda ERP - Directory SASIS Mailbox
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.infrastructure.sasis;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.function.Consumer;
+import net.voytrex.govinda.contract.application.SasisFile;
+import net.voytrex.govinda.contract.application.SasisMailbox;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Local stand-in for the SASIS file exchange, based on a directory shared with
+ * the delivering system.
+ *
+ * Files are expected in {@code inbox/<tenant id>/}; only {@code .csv} files
+ * whose name does not start with a dot are taken, so deliveries should be
+ * written under a hidden name and renamed when complete. Replies are written
+ * the same way to {@code outbox/<tenant id>/<name>.reply.csv}. Processed files
+ * move to {@code archive/<tenant id>/}, unusable ones to
+ * {@code rejected/<tenant id>/}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "govinda.contract.transfers", name = "enabled", havingValue = "true")
+public class DirectorySasisMailbox implements SasisMailbox {
+    static final String INBOX = "inbox";
+    static final String OUTBOX = "outbox";
+    static final String ARCHIVE = "archive";
+    static final String REJECTED = "rejected";
+    static final String REPLY_SUFFIX = ".reply.csv";
+    private static final String FILE_SUFFIX = ".csv";
+
+    private final Path root;
+
+    public DirectorySasisMailbox(@Value("${govinda.contract.transfers.directory:sasis}") Path root) {
+        this.root = root;
+    }
+
+    @Override
+    public List<SasisFile> receive() throws IOException {
+        Path inbox = root.resolve(INBOX);
+        if (!Files.isDirectory(inbox)) {
+            return List.of();
+        }
+        List<Delivery> deliveries = new ArrayList<>();
+        try (DirectoryStream<Path> tenants = Files.newDirectoryStream(inbox, Files::isDirectory)) {
+            for (Path tenantDirectory : tenants) {
+                UUID tenantId = tenantId(tenantDirectory);
+                if (tenantId == null) {
+                    continue;
+                }
+                try (DirectoryStream<Path> files =
+                    Files.newDirectoryStream(tenantDirectory, DirectorySasisMailbox::isDelivery)) {
+                    for (Path file : files) {
+                        deliveries.add(new Delivery(
+                            new SasisFile(tenantId, file.getFileName().toString()),
+                            Files.getLastModifiedTime(file)
+                        ));
+                    }
+                }
+            }
+        }
+        return deliveries.stream()
+            .sorted(Comparator.comparing(Delivery::modified).thenComparing(delivery -> delivery.file().name()))
+            .map(Delivery::file)
+            .toList();
+    }
+
+    @Override
+    public InputStream open(SasisFile file) throws IOException {
+        return Files.newInputStream(path(INBOX, file));
+    }
+
+    @Override
+    public void reply(SasisFile file, Consumer<Writer> content) throws IOException {
+        Path target = path(OUTBOX, file).resolveSibling(replyName(file.name()));
+        Files.createDirectories(target.getParent());
+        Path temporary = target.resolveSibling("." + target.getFileName() + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+            content.accept(writer);
+        } catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(temporary);
+            throw ex;
+        }
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    public void archive(SasisFile file) throws IOException {
+        move(file, ARCHIVE);
+    }
+
+    @Override
+    public void reject(SasisFile file) throws IOException {
+        move(file, REJECTED);
+    }
+
+    static String replyName(String fileName) {
+        String name = fileName.toLowerCase(Locale.ROOT).endsWith(FILE_SUFFIX)
+            ? fileName.substring(0, fileName.length() - FILE_SUFFIX.length())
+            : fileName;
+        return name + REPLY_SUFFIX;
+    }
+
+    private void move(SasisFile file, String folder) throws IOException {
+        Path target = path(folder, file);
+        Files.createDirectories(target.getParent());
+        Files.move(path(INBOX, file), target, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private Path path(String folder, SasisFile file) {
+        return root.resolve(folder).resolve(file.tenantId().toString()).resolve(file.name());
+    }
+
+    private static boolean isDelivery(Path file) {
+        String name = file.getFileName().toString();
+        return Files.isRegularFile(file) && !name.startsWith(".")
+            && name.toLowerCase(Locale.ROOT).endsWith(FILE_SUFFIX);
+    }
+
+    @Nullable
+    private static UUID tenantId(Path tenantDirectory) {
+        try {
+            return UUID.fromString(tenantDirectory.getFileName().toString());
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private record Delivery(SasisFile file, FileTime modified) {
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Govinda ERP - Contract Tables Migration
+ * Version: V040
+ * Description: Creates policy and coverage tables
+ */
+
+-- ═══════════════════════════════════════════════════════════════
+-- POLICY
+-- ═══════════════════════════════════════════════════════════════
+CREATE TABLE policy (
+    id                  UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    tenant_id           UUID NOT NULL REFERENCES tenant(id),
+
+    policy_number       VARCHAR(30) NOT NULL,
+    policyholder_id     UUID NOT NULL REFERENCES person(id),
+    status              VARCHAR(20) NOT NULL DEFAULT 'QUOTE',
+    billing_frequency   VARCHAR(20) NOT NULL DEFAULT 'MONTHLY',
+    preferred_language  VARCHAR(2) NOT NULL DEFAULT 'DE',
+    activated_at        TIMESTAMP WITH TIME ZONE,
+
+    -- Metadata
+    created_at          TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    updated_at          TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    version             BIGINT NOT NULL DEFAULT 0,
+
+    CONSTRAINT uk_policy_number UNIQUE (tenant_id, policy_number),
+    CONSTRAINT chk_policy_status CHECK (status IN ('QUOTE', 'PENDING', 'ACTIVE', 'SUSPENDED', 'CANCELLED')),
+    CONSTRAINT chk_policy_billing CHECK (billing_frequency IN ('MONTHLY', 'QUARTERLY', 'SEMI_ANNUAL', 'ANNUAL')),
+    CONSTRAINT chk_policy_language CHECK (preferred_language IN ('DE', 'FR', 'IT', 'EN'))
+);
+
+CREATE INDEX idx_policy_policyholder ON policy(policyholder_id);
+
+COMMENT ON TABLE policy IS 'Insurance contracts (Policen)';
+
+-- ═══════════════════════════════════════════════════════════════
+-- COVERAGE
+-- ═══════════════════════════════════════════════════════════════
+CREATE TABLE coverage (
+    id                  UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    -- Denormalized from policy for tenant-scoped batch partitioning
+    tenant_id           UUID NOT NULL REFERENCES tenant(id),
+    policy_id           UUID NOT NULL REFERENCES policy(id) ON DELETE CASCADE,
+    insured_person_id   UUID NOT NULL REFERENCES person(id),
+    product_id          UUID NOT NULL REFERENCES product(id),
+    tariff_id           UUID NOT NULL REFERENCES tariff(id),
+
+    status              VARCHAR(20) NOT NULL DEFAULT 'ACTIVE',
+    effective_date      DATE NOT NULL,
+    termination_date    DATE,
+
+    franchise           VARCHAR(10),        -- KVG only
+    with_accident       BOOLEAN,            -- KVG only
+    premium_region_id   UUID NOT NULL REFERENCES premium_region(id),
+    age_group           VARCHAR(20) NOT NULL,
+
+    monthly_premium     NUMERIC(12, 2) NOT NULL,
+    currency            VARCHAR(3) NOT NULL DEFAULT 'CHF',
+
+    -- Metadata
+    created_at          TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    updated_at          TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    version             BIGINT NOT NULL DEFAULT 0,
+
+    CONSTRAINT chk_coverage_status CHECK (status IN ('ACTIVE', 'SUSPENDED', 'TERMINATED')),
+    CONSTRAINT chk_coverage_age CHECK (age_group IN ('CHILD', 'YOUNG_ADULT', 'ADULT')),
+    CONSTRAINT chk_coverage_dates CHECK (termination_date IS NULL OR termination_date >= effective_date),
+    CONSTRAINT chk_coverage_premium CHECK (monthly_premium >= 0)
+);
+
+CREATE INDEX idx_coverage_policy ON coverage(policy_id);
+CREATE INDEX idx_coverage_person ON coverage(insured_person_id);
+-- Batch partitions: keyset scans per tenant and premium region
+CREATE INDEX idx_coverage_partition ON coverage(tenant_id, premium_region_id, id) WHERE status <> 'TERMINATED';
+
+COMMENT ON TABLE coverage IS 'Insured person, product and premium parameters per policy (Deckungen)';
@@ -0,0 +1,67 @@
+/*
+ * Govinda ERP - Coverage Mutation Migration
+ * Version: V041
+ * Description: Creates the coverage mutation queue and its processing partitions
+ */
+
+-- ═══════════════════════════════════════════════════════════════
+-- COVERAGE MUTATION
+-- ═══════════════════════════════════════════════════════════════
+-- Changes to coverages, applied on their effective date. partition_key is a
+-- hash of the policy, so all mutations of a policy are processed by the
+-- worker holding that partition, in sequence order.
+CREATE TABLE coverage_mutation (
+    id                  UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    sequence_number     BIGINT GENERATED ALWAYS AS IDENTITY,
+    tenant_id           UUID NOT NULL REFERENCES tenant(id),
+    policy_id           UUID NOT NULL REFERENCES policy(id) ON DELETE CASCADE,
+    coverage_id         UUID NOT NULL REFERENCES coverage(id) ON DELETE CASCADE,
+    partition_key       SMALLINT NOT NULL,
+
+    mutation_type       VARCHAR(30) NOT NULL,
+    status              VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    effective_date      DATE NOT NULL,
+    previous_value      VARCHAR(100),
+    new_value           VARCHAR(100),
+    new_monthly_premium NUMERIC(12, 2),
+    mutation_reason     VARCHAR(500),
+    failure_reason      VARCHAR(1000),
+
+    created_by          UUID NOT NULL,
+    processed_by        UUID,
+    created_at          TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    processed_at        TIMESTAMP WITH TIME ZONE,
+    version             BIGINT NOT NULL DEFAULT 0,
+
+    CONSTRAINT uk_coverage_mutation_sequence UNIQUE (sequence_number),
+    CONSTRAINT chk_mutation_type CHECK (mutation_type IN (
+        'NEW', 'FRANCHISE_CHANGE', 'MODEL_CHANGE', 'ADDRESS_CHANGE', 'PREMIUM_UPDATE',
+        'TERMINATION', 'REACTIVATION', 'CORRECTION'
+    )),
+    CONSTRAINT chk_mutation_status CHECK (status IN ('PENDING', 'PROCESSED', 'CANCELLED', 'FAILED')),
+    CONSTRAINT chk_mutation_premium CHECK (new_monthly_premium IS NULL OR new_monthly_premium >= 0),
+    CONSTRAINT chk_mutation_partition CHECK (partition_key >= 0 AND partition_key < 64)
+);
+
+-- Processing queue: due mutations of a partition in order; stays small as processed rows drop out
+CREATE INDEX idx_mutation_queue ON coverage_mutation(partition_key, effective_date, sequence_number)
+    WHERE status = 'PENDING';
+CREATE INDEX idx_mutation_coverage ON coverage_mutation(coverage_id, effective_date);
+
+COMMENT ON TABLE coverage_mutation IS 'Scheduled and applied changes to coverages (Mutationen)';
+
+-- ═══════════════════════════════════════════════════════════════
+-- MUTATION PARTITION
+-- ═══════════════════════════════════════════════════════════════
+-- One row per partition. A worker locks a row (FOR UPDATE SKIP LOCKED) for the
+-- duration of a batch, so a partition is never processed by two workers or
+-- nodes at once while other partitions proceed in parallel.
+CREATE TABLE mutation_partition (
+    partition_key       SMALLINT PRIMARY KEY,
+    last_processed_at   TIMESTAMP WITH TIME ZONE
+);
+
+INSERT INTO mutation_partition (partition_key)
+SELECT generate_series(0, 63);
+
+COMMENT ON TABLE mutation_partition IS 'Processing leases of the coverage mutation queue';
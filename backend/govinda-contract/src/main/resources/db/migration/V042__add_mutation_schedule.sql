@@ -0,0 +1,21 @@
+/*
+ * Govinda ERP - Mutation Schedule Migration
+ * Version: V042
+ * Description: Adds suspensions and a date index over pending coverage mutations
+ */
+
+-- ═══════════════════════════════════════════════════════════════
+-- COVERAGE MUTATION
+-- ═══════════════════════════════════════════════════════════════
+-- Suspension of a coverage, e.g. during military service; the matching
+-- REACTIVATION is scheduled for the day after the last suspended day.
+ALTER TABLE coverage_mutation DROP CONSTRAINT chk_mutation_type;
+ALTER TABLE coverage_mutation ADD CONSTRAINT chk_mutation_type CHECK (mutation_type IN (
+    'NEW', 'FRANCHISE_CHANGE', 'MODEL_CHANGE', 'ADDRESS_CHANGE', 'PREMIUM_UPDATE',
+    'TERMINATION', 'SUSPENSION', 'REACTIVATION', 'CORRECTION'
+));
+
+-- Schedule: pending mutations by effective date, for loading the upcoming
+-- dates into the in-memory timing wheel with one range scan
+CREATE INDEX idx_mutation_schedule ON coverage_mutation(effective_date)
+    WHERE status = 'PENDING';
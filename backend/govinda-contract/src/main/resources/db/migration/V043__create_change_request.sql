@@ -0,0 +1,41 @@
+/*
+ * Govinda ERP - Change Request Migration
+ * Version: V043
+ * Description: Creates the intake queue for franchise and model change requests
+ */
+
+-- ═══════════════════════════════════════════════════════════════
+-- CHANGE REQUEST
+-- ═══════════════════════════════════════════════════════════════
+-- Submitted changes, stored with one insert and validated asynchronously.
+-- No foreign keys: the coverage is checked by the validation, which keeps
+-- the insert cheap under peak load. Accepted requests become coverage
+-- mutations.
+CREATE TABLE change_request (
+    id                      UUID PRIMARY KEY,
+    tenant_id               UUID NOT NULL,
+    coverage_id             UUID NOT NULL,
+    request_type            VARCHAR(30) NOT NULL,
+    requested_value         VARCHAR(100) NOT NULL,
+    quoted_monthly_premium  NUMERIC(12, 2),
+    effective_date          DATE NOT NULL,
+    channel                 VARCHAR(20) NOT NULL,
+    status                  VARCHAR(20) NOT NULL DEFAULT 'RECEIVED',
+    rejection_reason        VARCHAR(1000),
+    mutation_id             UUID,
+
+    submitted_by            UUID NOT NULL,
+    submitted_at            TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    claimed_at              TIMESTAMP WITH TIME ZONE,
+    processed_at            TIMESTAMP WITH TIME ZONE,
+
+    CONSTRAINT chk_change_request_type CHECK (request_type IN ('FRANCHISE_CHANGE', 'MODEL_CHANGE')),
+    CONSTRAINT chk_change_request_channel CHECK (channel IN ('PORTAL', 'BACK_OFFICE')),
+    CONSTRAINT chk_change_request_status CHECK (status IN ('RECEIVED', 'PROCESSING', 'ACCEPTED', 'REJECTED'))
+);
+
+-- Work queue: received and claimed requests in arrival order; finished requests drop out
+CREATE INDEX idx_change_request_queue ON change_request(submitted_at)
+    WHERE status IN ('RECEIVED', 'PROCESSING');
+
+COMMENT ON TABLE change_request IS 'Intake queue of franchise and model change requests (Änderungsanträge)';
@@ -0,0 +1,45 @@
+/*
+ * Govinda ERP - Insurer Transfer Migration
+ * Version: V044
+ * Description: Creates the log of insurer transfer messages received from SASIS
+ */
+
+-- ═══════════════════════════════════════════════════════════════
+-- INSURER TRANSFER
+-- ═══════════════════════════════════════════════════════════════
+-- One row per received transfer message (Kassenwechsel), written in bulk by
+-- the transfer import together with the coverage and policy changes it
+-- causes. The SASIS message id is unique per tenant, so a message delivered
+-- again is recognised and not applied twice. Replies are generated from the
+-- rows of a file in record order.
+CREATE TABLE insurer_transfer (
+    id                      UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    tenant_id               UUID NOT NULL REFERENCES tenant(id),
+    person_id               UUID,
+    policy_id               UUID,
+
+    transfer_type           VARCHAR(10) NOT NULL,
+    effective_date          DATE NOT NULL,
+    previous_insurer_code   VARCHAR(10),        -- BAG number, entries only
+    next_insurer_code       VARCHAR(10),        -- BAG number, exits only
+    status                  VARCHAR(20) NOT NULL,
+    rejection_reason        VARCHAR(100),
+
+    sasis_message_id        VARCHAR(50) NOT NULL,
+    source_file             VARCHAR(255) NOT NULL,
+    record_number           INTEGER NOT NULL,
+    run_id                  UUID REFERENCES batch_run(id) ON DELETE SET NULL,
+
+    created_at              TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+
+    CONSTRAINT uk_insurer_transfer_message UNIQUE (tenant_id, sasis_message_id),
+    CONSTRAINT chk_insurer_transfer_type CHECK (transfer_type IN ('ENTRY', 'EXIT')),
+    CONSTRAINT chk_insurer_transfer_status CHECK (status IN (
+        'PENDING', 'AWAITING_RESPONSE', 'CONFIRMED', 'REJECTED', 'COMPLETED', 'CANCELLED'
+    ))
+);
+
+CREATE INDEX idx_insurer_transfer_file ON insurer_transfer(tenant_id, source_file, record_number);
+CREATE INDEX idx_insurer_transfer_person ON insurer_transfer(person_id);
+
+COMMENT ON TABLE insurer_transfer IS 'Insurer transfer messages (Kassenwechsel) received from SASIS';
@@ -0,0 +1,19 @@
+/*
+ * Govinda ERP - Change Request Attempts Migration
+ * Version: V054
+ * Description: Counts processing attempts of change requests and adds the FAILED status
+ */
+
+-- ═══════════════════════════════════════════════════════════════
+-- CHANGE REQUEST ATTEMPTS
+-- ═══════════════════════════════════════════════════════════════
+-- Every claim counts as an attempt. A request still failing after the
+-- configured number of attempts becomes FAILED instead of being claimed
+-- again forever; failed requests drop out of the work queue index.
+ALTER TABLE change_request ADD COLUMN attempts INT NOT NULL DEFAULT 0;
+
+ALTER TABLE change_request DROP CONSTRAINT chk_change_request_status;
+ALTER TABLE change_request ADD CONSTRAINT chk_change_request_status
+    CHECK (status IN ('RECEIVED', 'PROCESSING', 'ACCEPTED', 'REJECTED', 'FAILED'));
+
+COMMENT ON COLUMN change_request.attempts IS 'Number of times the request was claimed for processing';
@@ -0,0 +1,15 @@
+/*
+ * Govinda ERP - Mutation Tariff Migration
+ * Version: V055
+ * Description: Stores the tariff of the new product on model change mutations
+ */
+
+-- ═══════════════════════════════════════════════════════════════
+-- COVERAGE MUTATION
+-- ═══════════════════════════════════════════════════════════════
+-- A model change moves the coverage to another product; new_value holds the
+-- product and new_tariff_id the tariff its quoted premium is based on, so the
+-- mutation processor can apply it like any other priced change.
+ALTER TABLE coverage_mutation ADD COLUMN new_tariff_id UUID REFERENCES tariff(id);
+
+COMMENT ON COLUMN coverage_mutation.new_tariff_id IS 'Tariff of the new product of a MODEL_CHANGE';
@@ -0,0 +1,494 @@
+/*
+ * Govinda ERP - Change Request Intake Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import net.voytrex.govinda.common.domain.exception.EntityNotFoundException;
+import net.voytrex.govinda.common.domain.exception.InvalidMutationException;
+import net.voytrex.govinda.common.domain.exception.ServiceOverloadedException;
+import net.voytrex.govinda.common.domain.model.AgeGroup;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.common.domain.model.InsuranceModel;
+import net.voytrex.govinda.common.domain.model.LocalizedText;
+import net.voytrex.govinda.common.domain.model.Money;
+import net.voytrex.govinda.common.domain.model.ProductType;
+import net.voytrex.govinda.contract.domain.model.ChangeRequest;
+import net.voytrex.govinda.contract.domain.model.ChangeRequestChannel;
+import net.voytrex.govinda.contract.domain.model.ChangeRequestStatus;
+import net.voytrex.govinda.contract.domain.model.Coverage;
+import net.voytrex.govinda.contract.domain.model.CoverageMutation;
+import net.voytrex.govinda.contract.domain.model.CoverageMutationType;
+import net.voytrex.govinda.contract.domain.model.MutationStatus;
+import net.voytrex.govinda.contract.domain.repository.ChangeRequestRepository;
+import net.voytrex.govinda.contract.domain.repository.CoverageRepository;
+import net.voytrex.govinda.contract.domain.repository.MutationRepository;
+import net.voytrex.govinda.product.domain.model.Product;
+import net.voytrex.govinda.product.domain.model.Tariff;
+import net.voytrex.govinda.product.domain.repository.TariffRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Tag("unit")
+@Tag("fast")
+class ChangeRequestIntakeTest {
+    private static final UUID TENANT_ID = UUID.randomUUID();
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final LocalDate NEXT_YEAR = LocalDate.now().plusYears(1).withDayOfYear(1);
+    private static final int MAX_ATTEMPTS = 2;
+
+    private final InMemoryChangeRequestRepository requests = new InMemoryChangeRequestRepository();
+    private final CoverageRepository coverages = mock(CoverageRepository.class);
+    private final MutationRepository mutations = mock(MutationRepository.class);
+    private final TariffRepository tariffs = mock(TariffRepository.class);
+    private final List<CoverageMutation> recorded = new ArrayList<>();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ChangeRequestIntake intake = intake(10, Duration.ofHours(1));
+    private final ChangeRequestHandler handler = handler(mock(PlatformTransactionManager.class), Duration.ofMinutes(5));
+
+    @Nested
+    @DisplayName("Submitting")
+    class Submitting {
+
+        @Test
+        void shouldQueueWellFormedRequests() {
+            ChangeRequest request = intake.submit(franchiseChange(UUID.randomUUID(), "CHF_2500"));
+
+            assertThat(request.status()).isEqualTo(ChangeRequestStatus.RECEIVED);
+            assertThat(intake.status(TENANT_ID, request.id())).isEqualTo(request);
+            assertThat(registry.get(ChangeRequestIntake.SUBMITTED_METER).counter().count()).isEqualTo(1);
+            assertThat(registry.get(ChangeRequestIntake.OPEN_METER).gauge().value()).isEqualTo(1);
+        }
+
+        @Test
+        void shouldRejectMalformedRequestsWithoutQueueingThem() {
+            assertThatThrownBy(() -> intake.submit(franchiseChange(UUID.randomUUID(), "CHF_42")))
+                .isInstanceOf(InvalidMutationException.class);
+            assertThatThrownBy(() -> intake.submit(command(CoverageMutationType.TERMINATION, "x", null)))
+                .isInstanceOf(InvalidMutationException.class);
+            assertThatThrownBy(() -> intake.submit(command(CoverageMutationType.FRANCHISE_CHANGE, "CHF_500", null)))
+                .isInstanceOf(InvalidMutationException.class);
+            assertThatThrownBy(() -> intake.submit(command(CoverageMutationType.MODEL_CHANGE, "HMO", Money.chf(280))))
+                .isInstanceOf(InvalidMutationException.class);
+            assertThatThrownBy(() -> intake.submit(
+                command(CoverageMutationType.MODEL_CHANGE, UUID.randomUUID().toString(), null)
+            )).isInstanceOf(InvalidMutationException.class);
+
+            assertThat(requests.rows).isEmpty();
+        }
+
+        @Test
+        void shouldShedLoadOnceTheQueueIsFull() {
+            ChangeRequestIntake small = intake(1, Duration.ofHours(1));
+            small.submit(franchiseChange(UUID.randomUUID(), "CHF_500"));
+
+            assertThatThrownBy(() -> small.submit(franchiseChange(UUID.randomUUID(), "CHF_500")))
+                .isInstanceOfSatisfying(ServiceOverloadedException.class,
+                    e -> assertThat(e.getRetryAfterSeconds()).isPositive());
+
+            requests.rows.clear();
+            small.sampleOpen();
+            assertThat(small.submit(franchiseChange(UUID.randomUUID(), "CHF_500")).status())
+                .isEqualTo(ChangeRequestStatus.RECEIVED);
+        }
+
+        @Test
+        void shouldNoticeTheDrainedQueueWithoutWorkers() throws InterruptedException {
+            ChangeRequestIntake small = intake(1, Duration.ZERO);
+            small.submit(franchiseChange(UUID.randomUUID(), "CHF_500"));
+            requests.rows.clear();
+
+            ChangeRequest accepted = null;
+            for (int attempt = 0; accepted == null && attempt < 200; attempt++) {
+                try {
+                    accepted = small.submit(franchiseChange(UUID.randomUUID(), "CHF_500"));
+                } catch (ServiceOverloadedException e) {
+                    Thread.sleep(10);
+                }
+            }
+
+            assertThat(accepted).isNotNull();
+        }
+
+        @Test
+        void shouldReportUnknownRequests() {
+            ChangeRequest request = intake.submit(franchiseChange(UUID.randomUUID(), "CHF_500"));
+
+            assertThatThrownBy(() -> intake.status(UUID.randomUUID(), request.id()))
+                .isInstanceOf(EntityNotFoundException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Processing")
+    class Processing {
+
+        @Test
+        void shouldRecordValidRequestsAsMutations() {
+            Coverage coverage = coverage(AgeGroup.ADULT);
+            ChangeRequest submitted = intake.submit(franchiseChange(coverage.getId(), "CHF_2500"));
+
+            List<ChangeRequest> claimed = handler.claim(10);
+            claimed.forEach(handler::handle);
+
+            assertThat(claimed).extracting(ChangeRequest::id).containsExactly(submitted.id());
+            ChangeRequest accepted = intake.status(TENANT_ID, submitted.id());
+            assertThat(accepted.status()).isEqualTo(ChangeRequestStatus.ACCEPTED);
+            assertThat(recorded).singleElement().satisfies(mutation -> {
+                assertThat(mutation.getId()).isEqualTo(accepted.mutationId());
+                assertThat(mutation.getNewValue()).isEqualTo("CHF_2500");
+                assertThat(mutation.getPreviousValue()).isEqualTo("CHF_300");
+                assertThat(mutation.getNewMonthlyPremium()).isEqualTo(Money.chf(280));
+                assertThat(mutation.getEffectiveDate()).isEqualTo(NEXT_YEAR);
+            });
+            assertThat(handler.claim(10)).isEmpty();
+        }
+
+        @Test
+        void shouldRejectRequestsTheCoverageDoesNotAllow() {
+            Coverage child = coverage(AgeGroup.CHILD);
+            ChangeRequest adultFranchise = intake.submit(franchiseChange(child.getId(), "CHF_2500"));
+            ChangeRequest unchanged = intake.submit(franchiseChange(coverage(AgeGroup.ADULT).getId(), "CHF_300"));
+            ChangeRequest unknownCoverage = intake.submit(franchiseChange(UUID.randomUUID(), "CHF_500"));
+
+            handler.claim(10).forEach(handler::handle);
+
+            assertThat(List.of(adultFranchise, unchanged, unknownCoverage))
+                .map(request -> intake.status(TENANT_ID, request.id()).status())
+                .containsOnly(ChangeRequestStatus.REJECTED);
+            assertThat(intake.status(TENANT_ID, adultFranchise.id()).rejectionReason()).contains("CHILD");
+            assertThat(recorded).isEmpty();
+            assertThat(registry.get(ChangeRequestHandler.PROCESSED_METER).tag("outcome", "rejected").counter().count())
+                .isEqualTo(3);
+        }
+
+        @Test
+        void shouldRejectFranchiseChangesOutsideTheYearEnd() {
+            Coverage coverage = coverage(AgeGroup.ADULT);
+            ChangeRequest midYear = intake.submit(command(
+                CoverageMutationType.FRANCHISE_CHANGE,
+                "CHF_1000",
+                Money.chf(300),
+                coverage.getId(),
+                NEXT_YEAR.plusMonths(3)
+            ));
+
+            handler.claim(10).forEach(handler::handle);
+
+            assertThat(intake.status(TENANT_ID, midYear.id()).status()).isEqualTo(ChangeRequestStatus.REJECTED);
+        }
+
+        @Test
+        void shouldApplyModelChangesFromSubmitThroughTheMutationProcessor() {
+            Coverage coverage = coverage(AgeGroup.ADULT);
+            Tariff hmo = tariff(InsuranceModel.HMO);
+            when(tariffs.findActiveOn(TENANT_ID, ProductType.KVG, NEXT_YEAR)).thenReturn(List.of(hmo));
+            ChangeRequest submitted = intake.submit(command(
+                CoverageMutationType.MODEL_CHANGE, hmo.getProduct().getId().toString(), Money.chf(260),
+                coverage.getId(), NEXT_YEAR
+            ));
+
+            handler.claim(10).forEach(handler::handle);
+
+            assertThat(intake.status(TENANT_ID, submitted.id()).status()).isEqualTo(ChangeRequestStatus.ACCEPTED);
+            CoverageMutation mutation = recorded.getFirst();
+            assertThat(mutation.getNewTariffId()).isEqualTo(hmo.getId());
+            when(mutations.lockNextPartition(NEXT_YEAR))
+                .thenReturn(OptionalInt.of(mutation.getPartitionKey()), OptionalInt.empty());
+            when(mutations.findDue(mutation.getPartitionKey(), NEXT_YEAR, 10)).thenReturn(List.of(mutation));
+            when(coverages.findAllById(Set.of(coverage.getId()))).thenReturn(List.of(coverage));
+
+            assertThat(processor().processNextBatch(NEXT_YEAR)).isEqualTo(1);
+
+            assertThat(mutation.getStatus()).isEqualTo(MutationStatus.PROCESSED);
+            assertThat(coverage.getProductId()).isEqualTo(hmo.getProduct().getId());
+            assertThat(coverage.getTariffId()).isEqualTo(hmo.getId());
+            assertThat(coverage.getMonthlyPremium()).isEqualTo(Money.chf(260));
+        }
+
+        @Test
+        void shouldRejectModelChangesWithoutATariffOfTheProduct() {
+            Coverage coverage = coverage(AgeGroup.ADULT);
+            Tariff telmed = tariff(InsuranceModel.TELMED);
+            when(tariffs.findActiveOn(TENANT_ID, ProductType.KVG, NEXT_YEAR)).thenReturn(List.of(telmed));
+            ChangeRequest unknownProduct = intake.submit(command(
+                CoverageMutationType.MODEL_CHANGE, UUID.randomUUID().toString(), Money.chf(260),
+                coverage.getId(), NEXT_YEAR
+            ));
+            ChangeRequest sameProduct = intake.submit(command(
+                CoverageMutationType.MODEL_CHANGE, coverage.getProductId().toString(), Money.chf(260),
+                coverage.getId(), NEXT_YEAR
+            ));
+            ChangeRequest midYear = intake.submit(command(
+                CoverageMutationType.MODEL_CHANGE, telmed.getProduct().getId().toString(), Money.chf(260),
+                coverage.getId(), NEXT_YEAR.plusMonths(3)
+            ));
+
+            handler.claim(10).forEach(handler::handle);
+
+            assertThat(intake.status(TENANT_ID, unknownProduct.id()).rejectionReason()).contains("no basic insurance");
+            assertThat(intake.status(TENANT_ID, sameProduct.id()).rejectionReason()).contains("already has");
+            assertThat(intake.status(TENANT_ID, midYear.id()).rejectionReason()).contains("1 January");
+            assertThat(recorded).isEmpty();
+        }
+
+        @Test
+        void shouldFailRequestsThatKeepFailing() {
+            ChangeRequestHandler retrying = handler(mock(PlatformTransactionManager.class), Duration.ZERO);
+            UUID coverageId = UUID.randomUUID();
+            when(coverages.findById(coverageId)).thenThrow(new IllegalStateException("database down"));
+            ChangeRequest submitted = intake.submit(franchiseChange(coverageId, "CHF_2500"));
+
+            for (int attempt = 1; attempt < MAX_ATTEMPTS; attempt++) {
+                retrying.claim(10).forEach(request -> assertThatThrownBy(() -> retrying.handle(request))
+                    .hasMessage("database down"));
+                assertThat(intake.status(TENANT_ID, submitted.id()).status())
+                    .isEqualTo(ChangeRequestStatus.PROCESSING);
+            }
+            retrying.claim(10).forEach(retrying::handle);
+
+            ChangeRequest failed = intake.status(TENANT_ID, submitted.id());
+            assertThat(failed.status()).isEqualTo(ChangeRequestStatus.FAILED);
+            assertThat(failed.rejectionReason()).contains("database down");
+            assertThat(retrying.claim(10)).isEmpty();
+            assertThat(registry.get(ChangeRequestHandler.PROCESSED_METER).tag("outcome", "failed").counter().count())
+                .isEqualTo(1);
+        }
+
+        @Test
+        void shouldFailAbandonedRequestsWithoutAttemptsLeft() {
+            ChangeRequestHandler retrying = handler(mock(PlatformTransactionManager.class), Duration.ZERO);
+            ChangeRequest submitted = intake.submit(franchiseChange(UUID.randomUUID(), "CHF_2500"));
+
+            for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+                assertThat(retrying.claim(10)).hasSize(1);
+            }
+
+            assertThat(retrying.claim(10)).isEmpty();
+            assertThat(intake.status(TENANT_ID, submitted.id()).status()).isEqualTo(ChangeRequestStatus.FAILED);
+        }
+
+        @Test
+        void shouldCountOutcomesOnlyOnceCommitted() {
+            PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+            doAnswer(invocation -> {
+                throw new IllegalStateException("commit failed");
+            }).when(transactionManager).commit(any());
+            ChangeRequestHandler failingCommits = handler(transactionManager, Duration.ofMinutes(5));
+            Coverage coverage = coverage(AgeGroup.ADULT);
+            intake.submit(franchiseChange(coverage.getId(), "CHF_2500"));
+            List<ChangeRequest> claimed = handler.claim(10);
+
+            assertThatThrownBy(() -> failingCommits.handle(claimed.getFirst())).hasMessage("commit failed");
+            assertThat(registry.get(ChangeRequestHandler.PROCESSED_METER).tag("outcome", "accepted").counter().count())
+                .isZero();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private ChangeRequestIntake intake(long maxOpen, Duration openRefreshInterval) {
+        ObjectProvider<MeterRegistry> meterRegistry = mock(ObjectProvider.class);
+        when(meterRegistry.getIfAvailable(any())).thenReturn(registry);
+        ChangeRequestIntake created = new ChangeRequestIntake(
+            requests, meterRegistry, 4, Duration.ofMillis(50), maxOpen, openRefreshInterval
+        );
+        created.sampleOpen();
+        return created;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ChangeRequestHandler handler(PlatformTransactionManager transactionManager, Duration claimTimeout) {
+        ObjectProvider<MeterRegistry> meterRegistry = mock(ObjectProvider.class);
+        when(meterRegistry.getIfAvailable(any())).thenReturn(registry);
+        doAnswer(invocation -> {
+            CoverageMutation mutation = invocation.getArgument(0);
+            recorded.add(mutation);
+            return mutation;
+        }).when(mutations).save(any());
+        doAnswer(invocation -> recorded.stream()
+            .filter(mutation -> mutation.getCoverageId().equals(invocation.getArgument(0)))
+            .toList()).when(mutations).findByCoverageId(any());
+        return new ChangeRequestHandler(
+            requests,
+            coverages,
+            mutations,
+            tariffs,
+            new MutationScheduler(mutations, 400),
+            transactionManager,
+            meterRegistry,
+            claimTimeout,
+            MAX_ATTEMPTS
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private MutationBatchProcessor processor() {
+        ObjectProvider<MeterRegistry> meterRegistry = mock(ObjectProvider.class);
+        when(meterRegistry.getIfAvailable(any())).thenReturn(registry);
+        return new MutationBatchProcessor(
+            mutations, coverages, mock(CoverageTimelineIndex.class), mock(PlatformTransactionManager.class),
+            meterRegistry, 10
+        );
+    }
+
+    private static Tariff tariff(InsuranceModel model) {
+        LocalizedText name = new LocalizedText("Modell", "Modèle", "Modello", "Model");
+        Product product = new Product(TENANT_ID, "KVG_" + model, ProductType.KVG, model, name);
+        return new Tariff(product, "2027-" + model, NEXT_YEAR, NEXT_YEAR.withMonth(12).withDayOfMonth(31));
+    }
+
+    private Coverage coverage(AgeGroup ageGroup) {
+        Coverage coverage = new Coverage(
+            TENANT_ID,
+            UUID.randomUUID(),
+            UUID.randomUUID(),
+            UUID.randomUUID(),
+            UUID.randomUUID(),
+            LocalDate.of(2026, 1, 1),
+            UUID.randomUUID(),
+            ageGroup,
+            ageGroup == AgeGroup.CHILD ? Franchise.CHF_0 : Franchise.CHF_300,
+            false,
+            Money.chf(350)
+        );
+        when(coverages.findById(coverage.getId())).thenReturn(Optional.of(coverage));
+        return coverage;
+    }
+
+    private static SubmitChangeRequestCommand franchiseChange(UUID coverageId, String franchise) {
+        return command(CoverageMutationType.FRANCHISE_CHANGE, franchise, Money.chf(280), coverageId, NEXT_YEAR);
+    }
+
+    private static SubmitChangeRequestCommand command(CoverageMutationType type, String value, Money premium) {
+        return command(type, value, premium, UUID.randomUUID(), NEXT_YEAR);
+    }
+
+    private static SubmitChangeRequestCommand command(
+        CoverageMutationType type,
+        String value,
+        Money premium,
+        UUID coverageId,
+        LocalDate effectiveDate
+    ) {
+        return new SubmitChangeRequestCommand(
+            TENANT_ID, coverageId, type, value, premium, effectiveDate, ChangeRequestChannel.PORTAL, USER_ID
+        );
+    }
+
+    /**
+     * Intake queue keyed by id, with the attempts and claim time of each request.
+     */
+    private static final class InMemoryChangeRequestRepository implements ChangeRequestRepository {
+        private final Map<UUID, ChangeRequest> rows = new ConcurrentHashMap<>();
+        private final Map<UUID, Integer> attempts = new ConcurrentHashMap<>();
+        private final Map<UUID, Instant> claimedAt = new ConcurrentHashMap<>();
+
+        @Override
+        public void insert(ChangeRequest request) {
+            rows.put(request.id(), request);
+        }
+
+        @Override
+        public Optional<ChangeRequest> findById(UUID tenantId, UUID id) {
+            return Optional.ofNullable(rows.get(id)).filter(request -> request.tenantId().equals(tenantId));
+        }
+
+        @Override
+        public List<ChangeRequest> claim(int limit, Instant staleBefore, int maxAttempts) {
+            List<ChangeRequest> claimed = rows.values().stream()
+                .filter(request -> request.status() == ChangeRequestStatus.RECEIVED
+                    || isStale(request, staleBefore) && attempts.get(request.id()) < maxAttempts)
+                .sorted(Comparator.comparing(ChangeRequest::submittedAt))
+                .limit(limit)
+                .map(request -> update(request, ChangeRequestStatus.PROCESSING, null, null))
+                .toList();
+            claimed.forEach(request -> {
+                rows.put(request.id(), request);
+                attempts.merge(request.id(), 1, Integer::sum);
+                claimedAt.put(request.id(), Instant.now());
+            });
+            return claimed;
+        }
+
+        @Override
+        public void accept(UUID id, UUID mutationId) {
+            rows.put(id, update(rows.get(id), ChangeRequestStatus.ACCEPTED, null, mutationId));
+        }
+
+        @Override
+        public void reject(UUID id, String reason) {
+            rows.put(id, update(rows.get(id), ChangeRequestStatus.REJECTED, reason, null));
+        }
+
+        @Override
+        public boolean failIfExhausted(UUID id, int maxAttempts, String reason) {
+            ChangeRequest request = rows.get(id);
+            if (request.status() != ChangeRequestStatus.PROCESSING || attempts.get(id) < maxAttempts) {
+                return false;
+            }
+            rows.put(id, update(request, ChangeRequestStatus.FAILED, reason, null));
+            return true;
+        }
+
+        @Override
+        public int failStale(Instant staleBefore, int maxAttempts, String reason) {
+            List<ChangeRequest> exhausted = rows.values().stream()
+                .filter(request -> isStale(request, staleBefore) && attempts.get(request.id()) >= maxAttempts)
+                .toList();
+            exhausted.forEach(request ->
+                rows.put(request.id(), update(request, ChangeRequestStatus.FAILED, reason, null))
+            );
+            return exhausted.size();
+        }
+
+        @Override
+        public long countOpen() {
+            return rows.values().stream().filter(request -> !request.status().isFinal()).count();
+        }
+
+        private boolean isStale(ChangeRequest request, Instant staleBefore) {
+            return request.status() == ChangeRequestStatus.PROCESSING
+                && !claimedAt.get(request.id()).isAfter(staleBefore);
+        }
+
+        private static ChangeRequest update(
+            ChangeRequest request,
+            ChangeRequestStatus status,
+            String reason,
+            UUID mutationId
+        ) {
+            return new ChangeRequest(
+                request.id(), request.tenantId(), request.coverageId(), request.requestType(), request.requestedValue(),
+                request.quotedMonthlyPremium(), request.effectiveDate(), request.channel(), status, reason, mutationId,
+                request.submittedBy(), request.submittedAt(), status.isFinal() ? Instant.now() : null
+            );
+        }
+    }
+}
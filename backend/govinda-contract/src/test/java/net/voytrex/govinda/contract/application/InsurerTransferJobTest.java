@@ -0,0 +1,367 @@
+/*
+ * Govinda ERP - Insurer Transfer Job Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import net.voytrex.govinda.common.domain.exception.BusinessRuleViolationException;
+import net.voytrex.govinda.common.domain.model.PolicyStatus;
+import net.voytrex.govinda.common.infrastructure.batch.BatchCheckpoint;
+import net.voytrex.govinda.common.infrastructure.batch.BatchRun;
+import net.voytrex.govinda.common.infrastructure.batch.BatchRunStore;
+import net.voytrex.govinda.common.infrastructure.batch.BatchRunStoreFixture;
+import net.voytrex.govinda.contract.domain.model.InsurerTransfer;
+import net.voytrex.govinda.contract.domain.model.TransferImportReport;
+import net.voytrex.govinda.contract.domain.model.TransferMessage;
+import net.voytrex.govinda.contract.domain.model.TransferParty;
+import net.voytrex.govinda.contract.domain.model.TransferReply;
+import net.voytrex.govinda.contract.domain.model.TransferStatus;
+import net.voytrex.govinda.contract.domain.model.TransferType;
+import net.voytrex.govinda.contract.domain.repository.InsurerTransferRepository;
+import net.voytrex.govinda.contract.infrastructure.sasis.DirectorySasisMailbox;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Tag("unit")
+@Tag("fast")
+class InsurerTransferJobTest {
+    private static final UUID TENANT_ID = UUID.randomUUID();
+    private static final LocalDate NEW_YEAR = LocalDate.of(2027, 1, 1);
+    private static final String HEADER = "messageId;messageType;ahvNumber;effectiveDate;insurerCode";
+
+    private final UUID runId = UUID.randomUUID();
+    private final BatchRunStore batchRunStore = BatchRunStoreFixture.newRuns(runId);
+    private final CoverageTimelineIndex timelineIndex = mock(CoverageTimelineIndex.class);
+    private final InMemoryTransferRepository repository = new InMemoryTransferRepository();
+
+    @Nested
+    @DisplayName("Transfer files")
+    class TransferFiles {
+
+        @Test
+        void shouldStreamMessagesAndReportInvalidLines() throws Exception {
+            String csv = HEADER + "\n"
+                + "M-1;TRANSFER_IN;756.0000.0000.01;2027-01-01;1560\n"
+                + "\n"
+                + "M-2;TRANSFER_OUT;7560000000002;2027-01-01;0032\n"
+                + "M-3;TRANSFER_SIDEWAYS;756.0000.0000.03;2027-01-01;0032\n"
+                + "M-4;TRANSFER_OUT;756.1111;2027-01-01;0032\n"
+                + "M-5;TRANSFER_OUT;756.0000.0000.05;2027-13-01;0032\n";
+
+            try (TransferMessageReader reader = new TransferMessageReader(stream(csv), 2)) {
+                TransferMessage entry = reader.next();
+                TransferMessage exit = reader.next();
+
+                assertThat(entry.type()).isEqualTo(TransferType.ENTRY);
+                assertThat(entry.insurerCode()).isEqualTo("1560");
+                assertThat(exit.type()).isEqualTo(TransferType.EXIT);
+                assertThat(exit.lastDayWithPreviousInsurer()).isEqualTo(LocalDate.of(2026, 12, 31));
+                assertThat(reader.next()).isNull();
+                assertThat(reader.invalid()).isEqualTo(3);
+                assertThat(reader.errors()).containsExactly(
+                    "line 5: message type must be TRANSFER_IN or TRANSFER_OUT",
+                    "line 6: invalid AHV number 756.1111"
+                );
+            }
+        }
+
+        @Test
+        void shouldRejectInvalidHeaders() {
+            assertThatThrownBy(() -> new TransferMessageReader(stream(""), 10))
+                .isInstanceOf(BusinessRuleViolationException.class);
+            assertThatThrownBy(() -> new TransferMessageReader(stream("messageId;messageType\n"), 10))
+                .isInstanceOf(BusinessRuleViolationException.class)
+                .hasMessageContaining("missing column ahvNumber");
+        }
+    }
+
+    @Nested
+    @DisplayName("Import runs")
+    class ImportRuns {
+
+        @Test
+        void shouldActivateApplicationsAndTerminateCoveragesByAhvNumber() {
+            UUID joining = repository.person("756.0000.0000.01", PolicyStatus.PENDING, NEW_YEAR, null);
+            UUID leaving = repository.person("756.0000.0000.02", PolicyStatus.ACTIVE, LocalDate.of(2020, 1, 1), null);
+            repository.person("756.0000.0000.03", PolicyStatus.ACTIVE, LocalDate.of(2020, 1, 1),
+                LocalDate.of(2026, 6, 30));
+            repository.person("756.0000.0000.04", PolicyStatus.PENDING, NEW_YEAR.plusMonths(1), null);
+            String csv = HEADER + "\n"
+                + "M-1;TRANSFER_IN;756.0000.0000.01;2027-01-01;1560\n"
+                + "M-2;TRANSFER_OUT;756.0000.0000.02;2027-01-01;0032\n"
+                + "M-3;TRANSFER_OUT;756.0000.0000.03;2027-01-01;0032\n"
+                + "M-4;TRANSFER_IN;756.0000.0000.04;2027-01-01;1560\n"
+                + "M-9;TRANSFER_IN;756.0000.0000.09;2027-01-01;1560\n";
+
+            TransferImportReport report = job(2).run(TENANT_ID, "sasis.csv", stream(csv));
+
+            assertThat(report.chunks()).isEqualTo(3);
+            assertThat(report.completed()).isEqualTo(2);
+            assertThat(report.withoutCoverage()).isEqualTo(1);
+            assertThat(report.withoutApplication()).isEqualTo(1);
+            assertThat(report.unknownPersons()).isEqualTo(1);
+            assertThat(repository.activatedPolicies).containsExactly(repository.policyOf(joining));
+            assertThat(repository.terminations).containsExactly(
+                Map.entry(repository.coverageOf(leaving), LocalDate.of(2026, 12, 31))
+            );
+            assertThat(replies("sasis.csv")).containsExactly(
+                "messageId;status;reason",
+                "M-1;COMPLETED;",
+                "M-2;COMPLETED;",
+                "M-3;REJECTED;NO_COVERAGE",
+                "M-4;REJECTED;NO_APPLICATION",
+                "M-9;REJECTED;UNKNOWN_PERSON"
+            );
+            verify(timelineIndex).invalidate(List.of(joining, leaving));
+            verify(batchRunStore).checkpoint(new BatchCheckpoint(runId, "records-5-5", null, 1, true));
+            verify(batchRunStore).complete(runId, 5);
+        }
+
+        @Test
+        void shouldNotApplyMessagesTwice() {
+            UUID leaving = repository.person("756.0000.0000.02", PolicyStatus.ACTIVE, LocalDate.of(2020, 1, 1), null);
+            String csv = HEADER + "\n"
+                + "M-2;TRANSFER_OUT;756.0000.0000.02;2027-01-01;0032\n"
+                + "M-2;TRANSFER_OUT;756.0000.0000.02;2027-01-01;0032\n";
+
+            TransferImportReport first = job(10).run(TENANT_ID, "first.csv", stream(csv));
+            TransferImportReport second = job(10).run(TENANT_ID, "second.csv", stream(csv));
+
+            assertThat(first.completed()).isEqualTo(1);
+            assertThat(first.duplicates()).isEqualTo(1);
+            assertThat(second.duplicates()).isEqualTo(2);
+            assertThat(repository.terminations).containsOnlyKeys(repository.coverageOf(leaving));
+            assertThat(replies("second.csv")).containsExactly(InsurerTransferJob.REPLY_HEADER);
+        }
+
+        @Test
+        void shouldSkipChunksCommittedByUnfinishedRun() {
+            repository.person("756.0000.0000.01", PolicyStatus.PENDING, NEW_YEAR, null);
+            repository.person("756.0000.0000.02", PolicyStatus.PENDING, NEW_YEAR, null);
+            String runKey = TENANT_ID + "/sasis.csv";
+            when(batchRunStore.startOrResume(InsurerTransferJob.JOB_NAME, runKey)).thenReturn(
+                new BatchRun(runId, InsurerTransferJob.JOB_NAME, runKey, Map.of(
+                    "records-1-1", new BatchCheckpoint(runId, "records-1-1", null, 1, true)
+                ))
+            );
+            String csv = HEADER + "\n"
+                + "M-1;TRANSFER_IN;756.0000.0000.01;2027-01-01;1560\n"
+                + "M-2;TRANSFER_IN;756.0000.0000.02;2027-01-01;1560\n";
+
+            TransferImportReport report = job(1).run(TENANT_ID, "sasis.csv", stream(csv));
+
+            assertThat(report.skippedChunks()).isEqualTo(1);
+            assertThat(report.completed()).isEqualTo(1);
+            assertThat(repository.transfers.values()).singleElement()
+                .satisfies(transfer -> assertThat(transfer.recordNumber()).isEqualTo(2));
+            verify(batchRunStore).complete(runId, 2);
+        }
+
+        @Test
+        void shouldSkipCommittedMessagesWhenTheChunkSizeChanged() {
+            repository.person("756.0000.0000.01", PolicyStatus.PENDING, NEW_YEAR, null);
+            repository.person("756.0000.0000.02", PolicyStatus.PENDING, NEW_YEAR, null);
+            repository.person("756.0000.0000.03", PolicyStatus.PENDING, NEW_YEAR, null);
+            String runKey = TENANT_ID + "/sasis.csv";
+            when(batchRunStore.startOrResume(InsurerTransferJob.JOB_NAME, runKey)).thenReturn(
+                new BatchRun(runId, InsurerTransferJob.JOB_NAME, runKey, Map.of(
+                    "records-1-2", new BatchCheckpoint(runId, "records-1-2", null, 2, true)
+                ))
+            );
+            String csv = HEADER + "\n"
+                + "M-1;TRANSFER_IN;756.0000.0000.01;2027-01-01;1560\n"
+                + "M-2;TRANSFER_IN;756.0000.0000.02;2027-01-01;1560\n"
+                + "M-3;TRANSFER_IN;756.0000.0000.03;2027-01-01;1560\n";
+
+            TransferImportReport report = job(10).run(TENANT_ID, "sasis.csv", stream(csv));
+
+            assertThat(report.skippedChunks()).isEqualTo(1);
+            assertThat(report.completed()).isEqualTo(1);
+            assertThat(repository.transfers.values()).singleElement()
+                .satisfies(transfer -> assertThat(transfer.recordNumber()).isEqualTo(3));
+            verify(batchRunStore).checkpoint(new BatchCheckpoint(runId, "records-3-3", null, 1, true));
+            verify(batchRunStore).complete(runId, 3);
+        }
+
+        @Test
+        void shouldMarkRunFailedWhenChunkCannotBeStored() {
+            repository.person("756.0000.0000.02", PolicyStatus.ACTIVE, LocalDate.of(2020, 1, 1), null);
+            repository.failing = true;
+            String csv = HEADER + "\nM-2;TRANSFER_OUT;756.0000.0000.02;2027-01-01;0032\n";
+
+            assertThatThrownBy(() -> job(10).run(TENANT_ID, "sasis.csv", stream(csv)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("database down");
+
+            verify(batchRunStore).fail(any(), any());
+            verify(batchRunStore, never()).complete(any(), any(Long.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Directory exchange")
+    class DirectoryExchange {
+
+        @Test
+        void shouldImportAnswerAndArchiveDeliveredFiles(@TempDir Path root) throws Exception {
+            repository.person("756.0000.0000.01", PolicyStatus.PENDING, NEW_YEAR, null);
+            Path inbox = Files.createDirectories(root.resolve("inbox").resolve(TENANT_ID.toString()));
+            Files.writeString(
+                inbox.resolve("sasis.csv"),
+                HEADER + "\nM-1;TRANSFER_IN;756.0000.0000.01;2027-01-01;1560\n"
+            );
+            Files.writeString(inbox.resolve("broken.csv"), "messageId\n");
+            Files.writeString(inbox.resolve(".partial.csv"), HEADER + "\n");
+            InsurerTransferPoller poller = new InsurerTransferPoller(
+                new DirectorySasisMailbox(root), job(10), Duration.ofSeconds(1)
+            );
+
+            assertThat(poller.pollOnce()).isEqualTo(2);
+
+            Path outbox = root.resolve("outbox").resolve(TENANT_ID.toString());
+            assertThat(Files.readAllLines(outbox.resolve("sasis.reply.csv")))
+                .containsExactly(InsurerTransferJob.REPLY_HEADER, "M-1;COMPLETED;");
+            assertThat(outbox.resolve("broken.reply.csv")).doesNotExist();
+            assertThat(root.resolve("archive").resolve(TENANT_ID.toString()).resolve("sasis.csv")).exists();
+            assertThat(root.resolve("rejected").resolve(TENANT_ID.toString()).resolve("broken.csv")).exists();
+            assertThat(inbox.resolve(".partial.csv")).exists();
+            assertThat(poller.pollOnce()).isZero();
+        }
+    }
+
+
+    private InsurerTransferJob job(int chunkSize) {
+        return new InsurerTransferJob(
+            repository,
+            batchRunStore,
+            timelineIndex,
+            mock(PlatformTransactionManager.class),
+            2,
+            chunkSize
+        );
+    }
+
+    private List<String> replies(String fileName) {
+        StringWriter writer = new StringWriter();
+        job(10).writeReply(TENANT_ID, fileName, writer);
+        return writer.toString().lines().toList();
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final class InMemoryTransferRepository implements InsurerTransferRepository {
+        private final List<TransferParty> parties = new ArrayList<>();
+        private final Map<String, InsurerTransfer> transfers = new ConcurrentHashMap<>();
+        private final Map<String, String> sourceFiles = new ConcurrentHashMap<>();
+        private final Map<UUID, LocalDate> terminations = new ConcurrentHashMap<>();
+        private final Set<UUID> activatedPolicies = ConcurrentHashMap.newKeySet();
+        private volatile boolean failing;
+
+        UUID person(String ahvNumber, PolicyStatus policyStatus, LocalDate from, @Nullable LocalDate to) {
+            UUID personId = UUID.randomUUID();
+            parties.add(new TransferParty(
+                ahvNumber, personId, UUID.randomUUID(), UUID.randomUUID(), policyStatus, from, to
+            ));
+            return personId;
+        }
+
+        UUID coverageOf(UUID personId) {
+            return party(personId).coverageId();
+        }
+
+        UUID policyOf(UUID personId) {
+            return party(personId).policyId();
+        }
+
+        private TransferParty party(UUID personId) {
+            return parties.stream().filter(party -> party.personId().equals(personId)).findFirst().orElseThrow();
+        }
+
+        @Override
+        public void forEachParty(UUID tenantId, Consumer<TransferParty> action) {
+            parties.forEach(action);
+        }
+
+        @Override
+        public Set<String> findRecorded(UUID tenantId, Collection<String> messageIds) {
+            Set<String> recorded = new HashSet<>(messageIds);
+            recorded.retainAll(transfers.keySet());
+            return recorded;
+        }
+
+        @Override
+        public void saveTransfers(UUID runId, UUID tenantId, String fileName, List<InsurerTransfer> chunk) {
+            if (failing) {
+                throw new IllegalStateException("database down");
+            }
+            for (InsurerTransfer transfer : chunk) {
+                if (transfers.putIfAbsent(transfer.message().messageId(), transfer) == null) {
+                    sourceFiles.put(transfer.message().messageId(), fileName);
+                }
+            }
+        }
+
+        @Override
+        public void terminateCoverages(List<InsurerTransfer> exits) {
+            for (InsurerTransfer exit : exits) {
+                exit.coverageIds().forEach(coverageId ->
+                    terminations.putIfAbsent(coverageId, exit.message().lastDayWithPreviousInsurer())
+                );
+            }
+        }
+
+        @Override
+        public void activatePolicies(Collection<UUID> policyIds) {
+            activatedPolicies.addAll(policyIds);
+        }
+
+        @Override
+        public void forEachReply(UUID tenantId, String fileName, Consumer<TransferReply> action) {
+            transfers.values().stream()
+                .filter(transfer -> fileName.equals(sourceFiles.get(transfer.message().messageId())))
+                .sorted(Comparator.comparingInt(InsurerTransfer::recordNumber))
+                .forEach(transfer -> action.accept(new TransferReply(
+                    transfer.message().messageId(),
+                    transfer.status(),
+                    transfer.status() == TransferStatus.COMPLETED
+                        ? null
+                        : transfer.outcome().name()
+                )));
+        }
+    }
+}
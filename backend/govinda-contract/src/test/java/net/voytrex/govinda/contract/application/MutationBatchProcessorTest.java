@@ -0,0 +1,430 @@
+/*
+ * Govinda ERP - Mutation Batch Processor Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.AgeGroup;
+import net.voytrex.govinda.common.domain.model.CoverageStatus;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.common.domain.model.Money;
+import net.voytrex.govinda.contract.domain.model.Coverage;
+import net.voytrex.govinda.contract.domain.model.CoverageMutation;
+import net.voytrex.govinda.contract.domain.model.CoverageMutationType;
+import net.voytrex.govinda.contract.domain.model.MutationStatus;
+import net.voytrex.govinda.contract.domain.model.ScheduledMutations;
+import net.voytrex.govinda.contract.domain.repository.CoverageRepository;
+import net.voytrex.govinda.contract.domain.repository.MutationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Tag("unit")
+@Tag("fast")
+class MutationBatchProcessorTest {
+    private static final LocalDate TODAY = LocalDate.of(2027, 1, 1);
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    private final InMemoryMutationRepository mutations = new InMemoryMutationRepository();
+    private final InMemoryCoverageRepository coverages = new InMemoryCoverageRepository();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MutationBatchProcessor processor = processor(500);
+
+    @Nested
+    @DisplayName("Ordering")
+    class Ordering {
+
+        @Test
+        void shouldApplyMutationsOfAPolicyInEffectiveDateAndRecordingOrder() {
+            Coverage coverage = coverage(UUID.randomUUID());
+            CoverageMutation later = record(coverage, CoverageMutationType.FRANCHISE_CHANGE, TODAY, "CHF_1000", 310);
+            CoverageMutation first =
+                record(coverage, CoverageMutationType.FRANCHISE_CHANGE, TODAY.minusMonths(1), "CHF_2500", 280);
+            CoverageMutation future =
+                record(coverage, CoverageMutationType.FRANCHISE_CHANGE, TODAY.plusDays(1), "CHF_500", 330);
+
+            assertThat(processor.processNextBatch(TODAY)).isEqualTo(2);
+
+            assertThat(mutations.applied).containsExactly(first, later);
+            assertThat(coverage.getFranchise()).isEqualTo(Franchise.CHF_1000);
+            assertThat(coverage.getMonthlyPremium()).isEqualTo(Money.chf(310));
+            assertThat(first.getPreviousValue()).isEqualTo("CHF_300");
+            assertThat(later.getStatus()).isEqualTo(MutationStatus.PROCESSED);
+            assertThat(future.getStatus()).isEqualTo(MutationStatus.PENDING);
+            assertThat(processor.processNextBatch(TODAY)).isZero();
+        }
+
+        @Test
+        void shouldMoveTheCoverageToTheProductOfAModelChange() {
+            Coverage coverage = coverage(UUID.randomUUID());
+            UUID previousProductId = coverage.getProductId();
+            UUID hmoProductId = UUID.randomUUID();
+            UUID hmoTariffId = UUID.randomUUID();
+            CoverageMutation modelChange = mutations.save(CoverageMutation.modelChange(
+                coverage, TODAY, hmoProductId, hmoTariffId, Money.chf(290), null, USER_ID
+            ));
+
+            assertThat(processor.processNextBatch(TODAY)).isEqualTo(1);
+
+            assertThat(modelChange.getStatus()).isEqualTo(MutationStatus.PROCESSED);
+            assertThat(modelChange.getPreviousValue()).isEqualTo(previousProductId.toString());
+            assertThat(coverage.getProductId()).isEqualTo(hmoProductId);
+            assertThat(coverage.getTariffId()).isEqualTo(hmoTariffId);
+            assertThat(coverage.getMonthlyPremium()).isEqualTo(Money.chf(290));
+            assertThat(coverage.getFranchise()).isEqualTo(Franchise.CHF_300);
+        }
+
+        @Test
+        void shouldLimitBatchesAndRotatePartitions() {
+            MutationBatchProcessor small = processor(1);
+            Coverage first = coverage(UUID.randomUUID());
+            Coverage second = coverage(policyInOtherPartition(first.getPolicyId()));
+            record(first, CoverageMutationType.ADDRESS_CHANGE, TODAY, UUID.randomUUID().toString(), 400);
+            record(first, CoverageMutationType.TERMINATION, TODAY, null, 0);
+            record(second, CoverageMutationType.TERMINATION, TODAY, null, 0);
+
+            assertThat(small.processNextBatch(TODAY)).isEqualTo(1);
+            assertThat(small.processNextBatch(TODAY)).isEqualTo(1);
+            assertThat(small.processNextBatch(TODAY)).isEqualTo(1);
+
+            assertThat(mutations.partitionsProcessed)
+                .containsExactly(partition(first), partition(second), partition(first));
+        }
+
+        @Test
+        void shouldSkipPartitionsLockedByOtherWorkers() {
+            Coverage locked = coverage(UUID.randomUUID());
+            Coverage free = coverage(policyInOtherPartition(locked.getPolicyId()));
+            record(locked, CoverageMutationType.TERMINATION, TODAY, null, 0);
+            CoverageMutation freeMutation = record(free, CoverageMutationType.TERMINATION, TODAY, null, 0);
+            mutations.lockedByOthers.add(partition(locked));
+
+            assertThat(processor.processNextBatch(TODAY)).isEqualTo(1);
+            assertThat(processor.processNextBatch(TODAY)).isZero();
+
+            assertThat(mutations.applied).containsExactly(freeMutation);
+            assertThat(locked.getStatus()).isEqualTo(CoverageStatus.ACTIVE);
+            assertThat(free.getStatus()).isEqualTo(CoverageStatus.TERMINATED);
+        }
+    }
+
+    @Nested
+    @DisplayName("Failures")
+    class Failures {
+
+        @Test
+        void shouldFailMutationsThatCannotBeAppliedAndContinueTheBatch() {
+            Coverage coverage = coverage(UUID.randomUUID());
+            CoverageMutation correction = record(coverage, CoverageMutationType.CORRECTION, TODAY, null, 0);
+            CoverageMutation termination = record(coverage, CoverageMutationType.TERMINATION, TODAY, null, 0);
+            CoverageMutation reactivation = record(coverage, CoverageMutationType.REACTIVATION, TODAY, null, 0);
+
+            assertThat(processor.processNextBatch(TODAY)).isEqualTo(3);
+
+            assertThat(correction.getStatus()).isEqualTo(MutationStatus.FAILED);
+            assertThat(correction.getFailureReason()).contains("applied manually");
+            assertThat(termination.getStatus()).isEqualTo(MutationStatus.PROCESSED);
+            assertThat(reactivation.getStatus()).isEqualTo(MutationStatus.FAILED);
+            assertThat(coverage.getStatus()).isEqualTo(CoverageStatus.TERMINATED);
+            assertThat(coverage.getTerminationDate()).isEqualTo(TODAY);
+            assertThat(coverages.saved).containsExactly(coverage);
+            assertThat(registry.get(MutationBatchProcessor.PROCESSED_METER).tag("outcome", "processed")
+                .counter().count()).isEqualTo(1);
+            assertThat(registry.get(MutationBatchProcessor.PROCESSED_METER).tag("outcome", "failed")
+                .counter().count()).isEqualTo(2);
+            assertThat(registry.get(MutationBatchProcessor.BATCH_METER).timer().count()).isEqualTo(1);
+        }
+
+        @Test
+        void shouldRejectChangesWithoutQuotedPremium() {
+            Coverage coverage = coverage(UUID.randomUUID());
+
+            assertThatThrownBy(() -> new CoverageMutation(
+                coverage, CoverageMutationType.FRANCHISE_CHANGE, TODAY, "CHF_1000", null, null, USER_ID
+            )).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new CoverageMutation(
+                coverage, CoverageMutationType.FRANCHISE_CHANGE, TODAY, "CHF_42", Money.chf(300), null, USER_ID
+            )).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new CoverageMutation(
+                coverage, CoverageMutationType.MODEL_CHANGE, TODAY, UUID.randomUUID().toString(), Money.chf(300), null,
+                USER_ID
+            )).hasMessageContaining("tariff");
+        }
+
+        @Test
+        void shouldNotProcessCancelledMutations() {
+            Coverage coverage = coverage(UUID.randomUUID());
+            CoverageMutation cancelled = record(coverage, CoverageMutationType.TERMINATION, TODAY, null, 0);
+            cancelled.cancel(USER_ID);
+
+            assertThat(processor.processNextBatch(TODAY)).isZero();
+            assertThat(coverage.getStatus()).isEqualTo(CoverageStatus.ACTIVE);
+            assertThatThrownBy(() -> cancelled.process(coverage, USER_ID)).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    void shouldSuspendAndReactivateOnScheduledDates() {
+        MutationScheduler scheduler = new MutationScheduler(mutations, 400);
+        Coverage coverage = coverage(UUID.randomUUID());
+        LocalDate lastDay = TODAY.plusDays(89);
+
+        scheduler.scheduleSuspension(coverage, TODAY, lastDay, "Military service", USER_ID);
+
+        assertThat(scheduler.hasDue(TODAY.minusDays(1))).isFalse();
+        assertThat(scheduler.hasDue(TODAY)).isTrue();
+        assertThat(processor.processNextBatch(TODAY)).isEqualTo(1);
+        scheduler.completed(1);
+        assertThat(coverage.getStatus()).isEqualTo(CoverageStatus.SUSPENDED);
+        assertThat(scheduler.hasDue(lastDay)).isFalse();
+        assertThat(scheduler.nextDate()).isEqualTo(lastDay.plusDays(1));
+
+        scheduler.refresh(lastDay.plusDays(1));
+        assertThat(scheduler.hasDue(lastDay.plusDays(1))).isTrue();
+        assertThat(processor.processNextBatch(lastDay.plusDays(1))).isEqualTo(1);
+        assertThat(coverage.getStatus()).isEqualTo(CoverageStatus.ACTIVE);
+    }
+
+    @Test
+    void shouldReportBacklogAndLag() {
+        Coverage coverage = coverage(UUID.randomUUID());
+        record(coverage, CoverageMutationType.TERMINATION, TODAY, null, 0);
+        record(coverage, CoverageMutationType.REACTIVATION, TODAY.plusDays(1), null, 0);
+        mutations.oldestDueSince = Instant.now().minus(Duration.ofMinutes(5));
+
+        processor.sampleBacklog(TODAY);
+
+        assertThat(registry.get(MutationBatchProcessor.BACKLOG_METER).gauge().value()).isEqualTo(1);
+        assertThat(registry.get(MutationBatchProcessor.LAG_METER).gauge().value()).isBetween(300.0, 310.0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private MutationBatchProcessor processor(int batchSize) {
+        ObjectProvider<MeterRegistry> meterRegistry = mock(ObjectProvider.class);
+        when(meterRegistry.getIfAvailable(any())).thenReturn(registry);
+        return new MutationBatchProcessor(
+            mutations,
+            coverages,
+            mock(CoverageTimelineIndex.class),
+            mock(PlatformTransactionManager.class),
+            meterRegistry,
+            batchSize
+        );
+    }
+
+    private Coverage coverage(UUID policyId) {
+        Coverage coverage = new Coverage(
+            UUID.randomUUID(),
+            policyId,
+            UUID.randomUUID(),
+            UUID.randomUUID(),
+            UUID.randomUUID(),
+            LocalDate.of(2026, 1, 1),
+            UUID.randomUUID(),
+            AgeGroup.ADULT,
+            Franchise.CHF_300,
+            false,
+            Money.chf(350)
+        );
+        return coverages.save(coverage);
+    }
+
+    private CoverageMutation record(
+        Coverage coverage,
+        CoverageMutationType type,
+        LocalDate effectiveDate,
+        String newValue,
+        double premium
+    ) {
+        Money quoted = newValue != null ? Money.chf(premium) : null;
+        return mutations.save(new CoverageMutation(coverage, type, effectiveDate, newValue, quoted, null, USER_ID));
+    }
+
+    private static int partition(Coverage coverage) {
+        return CoverageMutation.partitionOf(coverage.getPolicyId());
+    }
+
+    private static UUID policyInOtherPartition(UUID policyId) {
+        UUID other = UUID.randomUUID();
+        while (CoverageMutation.partitionOf(other) == CoverageMutation.partitionOf(policyId)) {
+            other = UUID.randomUUID();
+        }
+        return other;
+    }
+
+    /**
+     * Mutation queue in recording order, with partition locks held by other workers.
+     */
+    private static final class InMemoryMutationRepository implements MutationRepository {
+        private final List<CoverageMutation> queue = new ArrayList<>();
+        private final Map<Integer, Integer> lastProcessed = new HashMap<>();
+        private final Set<Integer> lockedByOthers = new HashSet<>();
+        private final List<CoverageMutation> applied = new ArrayList<>();
+        private final List<Integer> partitionsProcessed = new ArrayList<>();
+        private Instant oldestDueSince;
+
+        @Override
+        public CoverageMutation save(CoverageMutation mutation) {
+            if (!queue.contains(mutation)) {
+                queue.add(mutation);
+            }
+            return mutation;
+        }
+
+        @Override
+        public List<CoverageMutation> saveAll(List<CoverageMutation> mutations) {
+            for (CoverageMutation mutation : mutations) {
+                if (mutation.getStatus() == MutationStatus.PROCESSED) {
+                    applied.add(mutation);
+                }
+            }
+            return mutations;
+        }
+
+        @Override
+        public Optional<CoverageMutation> findById(UUID id) {
+            return queue.stream().filter(mutation -> mutation.getId().equals(id)).findFirst();
+        }
+
+        @Override
+        public List<CoverageMutation> findByCoverageId(UUID coverageId) {
+            return queue.stream().filter(mutation -> mutation.getCoverageId().equals(coverageId)).toList();
+        }
+
+        @Override
+        public List<CoverageMutation> findProcessedByCoverageIds(Collection<UUID> coverageIds) {
+            return queue.stream()
+                .filter(mutation -> coverageIds.contains(mutation.getCoverageId()))
+                .filter(mutation -> mutation.getStatus() == MutationStatus.PROCESSED)
+                .toList();
+        }
+
+        @Override
+        public OptionalInt lockNextPartition(LocalDate dueDate) {
+            return queue.stream()
+                .filter(mutation -> isDue(mutation, dueDate))
+                .map(CoverageMutation::getPartitionKey)
+                .filter(partition -> !lockedByOthers.contains(partition))
+                .distinct()
+                .min(Comparator.comparingInt(partition -> lastProcessed.getOrDefault(partition, -1)))
+                .map(OptionalInt::of)
+                .orElseGet(OptionalInt::empty);
+        }
+
+        @Override
+        public List<CoverageMutation> findDue(int partition, LocalDate dueDate, int limit) {
+            return queue.stream()
+                .filter(mutation -> mutation.getPartitionKey() == partition && isDue(mutation, dueDate))
+                .sorted(Comparator.comparing(CoverageMutation::getEffectiveDate))
+                .limit(limit)
+                .toList();
+        }
+
+        @Override
+        public void markPartitionProcessed(int partition) {
+            lastProcessed.put(partition, partitionsProcessed.size());
+            partitionsProcessed.add(partition);
+        }
+
+        @Override
+        public List<ScheduledMutations> countPendingByDate(LocalDate until) {
+            Map<LocalDate, Long> counts = new TreeMap<>();
+            for (CoverageMutation mutation : queue) {
+                if (isDue(mutation, until)) {
+                    counts.merge(mutation.getEffectiveDate(), 1L, Long::sum);
+                }
+            }
+            return counts.entrySet().stream()
+                .map(entry -> new ScheduledMutations(entry.getKey(), entry.getValue()))
+                .toList();
+        }
+
+        @Override
+        public long countDue(LocalDate dueDate) {
+            return queue.stream().filter(mutation -> isDue(mutation, dueDate)).count();
+        }
+
+        @Override
+        public Optional<Instant> findOldestDueSince(LocalDate dueDate) {
+            return Optional.ofNullable(oldestDueSince);
+        }
+
+        private static boolean isDue(CoverageMutation mutation, LocalDate dueDate) {
+            return mutation.getStatus() == MutationStatus.PENDING && !mutation.getEffectiveDate().isAfter(dueDate);
+        }
+    }
+
+    private static final class InMemoryCoverageRepository implements CoverageRepository {
+        private final Map<UUID, Coverage> coverages = new HashMap<>();
+        private final List<Coverage> saved = new ArrayList<>();
+
+        @Override
+        public Coverage save(Coverage coverage) {
+            coverages.put(coverage.getId(), coverage);
+            return coverage;
+        }
+
+        @Override
+        public List<Coverage> saveAll(List<Coverage> changed) {
+            saved.addAll(changed);
+            return changed;
+        }
+
+        @Override
+        public Optional<Coverage> findById(UUID id) {
+            return Optional.ofNullable(coverages.get(id));
+        }
+
+        @Override
+        public List<Coverage> findAllById(Collection<UUID> ids) {
+            return ids.stream().map(coverages::get).filter(coverage -> coverage != null).toList();
+        }
+
+        @Override
+        public List<Coverage> findByPolicyId(UUID policyId) {
+            return coverages.values().stream().filter(coverage -> coverage.getPolicyId().equals(policyId)).toList();
+        }
+
+        @Override
+        public List<Coverage> findByInsuredPersonId(UUID insuredPersonId) {
+            return coverages.values().stream()
+                .filter(coverage -> coverage.getInsuredPersonId().equals(insuredPersonId))
+                .toList();
+        }
+
+        @Override
+        public List<Coverage> findByInsuredPersonIds(Collection<UUID> insuredPersonIds) {
+            return coverages.values().stream()
+                .filter(coverage -> insuredPersonIds.contains(coverage.getInsuredPersonId()))
+                .toList();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Govinda ERP - Coverage Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.AgeGroup;
+import net.voytrex.govinda.common.domain.model.CoverageStatus;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.common.domain.model.Money;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@Tag("fast")
+class CoverageTest {
+
+    private static Coverage coverage() {
+        return new Coverage(
+            UUID.randomUUID(),
+            UUID.randomUUID(),
+            UUID.randomUUID(),
+            UUID.randomUUID(),
+            UUID.randomUUID(),
+            LocalDate.of(2026, 1, 1),
+            UUID.randomUUID(),
+            AgeGroup.YOUNG_ADULT,
+            Franchise.CHF_300,
+            false,
+            Money.chf(350)
+        );
+    }
+
+    @Test
+    void shouldBeActiveUntilTerminationDateInclusive() {
+        Coverage coverage = coverage();
+        coverage.terminate(LocalDate.of(2026, 6, 30));
+
+        assertThat(coverage.getStatus()).isEqualTo(CoverageStatus.TERMINATED);
+        assertThat(coverage.isActiveOn(LocalDate.of(2025, 12, 31))).isFalse();
+        assertThat(coverage.isActiveOn(LocalDate.of(2026, 6, 30))).isTrue();
+        assertThat(coverage.isActiveOn(LocalDate.of(2026, 7, 1))).isFalse();
+        assertThatThrownBy(() -> coverage.terminate(LocalDate.of(2026, 7, 31)))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldSuspendAndReactivate() {
+        Coverage coverage = coverage();
+
+        coverage.suspend();
+        assertThatThrownBy(coverage::suspend).isInstanceOf(IllegalStateException.class);
+        coverage.reactivate();
+
+        assertThat(coverage.getStatus()).isEqualTo(CoverageStatus.ACTIVE);
+    }
+
+    @Test
+    void shouldRepriceWithNewTariffAndAgeGroup() {
+        Coverage coverage = coverage();
+        UUID newTariffId = UUID.randomUUID();
+
+        coverage.reprice(newTariffId, AgeGroup.ADULT, Money.chf(420));
+
+        assertThat(coverage.getTariffId()).isEqualTo(newTariffId);
+        assertThat(coverage.getAgeGroup()).isEqualTo(AgeGroup.ADULT);
+        assertThat(coverage.getMonthlyPremium()).isEqualTo(Money.chf(420));
+        assertThatThrownBy(() -> coverage.reprice(newTariffId, AgeGroup.ADULT, Money.chf(-1)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldChangeFranchiseAndRegionUntilTerminated() {
+        Coverage coverage = coverage();
+        UUID newRegionId = UUID.randomUUID();
+
+        coverage.changeFranchise(Franchise.CHF_2500, Money.chf(280));
+        coverage.changePremiumRegion(newRegionId, Money.chf(300));
+        coverage.terminate(LocalDate.of(2026, 12, 31));
+
+        assertThat(coverage.getFranchise()).isEqualTo(Franchise.CHF_2500);
+        assertThat(coverage.getPremiumRegionId()).isEqualTo(newRegionId);
+        assertThat(coverage.getMonthlyPremium()).isEqualTo(Money.chf(300));
+        assertThatThrownBy(() -> coverage.changeFranchise(Franchise.CHF_300, Money.chf(350)))
+            .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Govinda ERP - Coverage Timeline Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.AgeGroup;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.common.domain.model.InsuranceModel;
+import net.voytrex.govinda.common.domain.model.Money;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@Tag("fast")
+class CoverageTimelineTest {
+    private static final UUID PERSON_ID = UUID.randomUUID();
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    @Test
+    void shouldReconstructFranchiseChangesAndSuspensionsFromProcessedMutations() {
+        Coverage basic = coverage(LocalDate.of(2025, 1, 1), Franchise.CHF_300);
+        List<CoverageMutation> mutations = new ArrayList<>();
+        mutations.add(apply(basic, CoverageMutationType.FRANCHISE_CHANGE, LocalDate.of(2026, 1, 1), "CHF_2500"));
+        mutations.add(apply(basic, CoverageMutationType.SUSPENSION, LocalDate.of(2026, 3, 1), null));
+        mutations.add(apply(basic, CoverageMutationType.REACTIVATION, LocalDate.of(2026, 6, 1), null));
+        mutations.add(new CoverageMutation(
+            basic, CoverageMutationType.TERMINATION, LocalDate.of(2027, 12, 31), null, null, null, USER_ID
+        ));
+
+        List<CoverageSpan> spans = CoverageTimeline.spansOf(basic, mutations, InsuranceModel.HMO);
+
+        assertThat(spans).extracting(CoverageSpan::franchise, CoverageSpan::from, CoverageSpan::to).containsExactly(
+            tuple(Franchise.CHF_300, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31)),
+            tuple(Franchise.CHF_2500, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 2, 28)),
+            tuple(Franchise.CHF_2500, LocalDate.of(2026, 6, 1), null)
+        );
+        assertThat(spans).allSatisfy(span -> assertThat(span.insuranceModel()).isEqualTo(InsuranceModel.HMO));
+    }
+
+    @Test
+    void shouldAnswerPointAndRangeQueries() {
+        Coverage basic = coverage(LocalDate.of(2025, 1, 1), Franchise.CHF_300);
+        List<CoverageSpan> spans = new ArrayList<>(CoverageTimeline.spansOf(basic, List.of(
+            apply(basic, CoverageMutationType.FRANCHISE_CHANGE, LocalDate.of(2026, 1, 1), "CHF_2500"),
+            apply(basic, CoverageMutationType.SUSPENSION, LocalDate.of(2026, 3, 1), null),
+            apply(basic, CoverageMutationType.REACTIVATION, LocalDate.of(2026, 6, 1), null)
+        ), InsuranceModel.STANDARD));
+        Coverage supplementary = coverage(LocalDate.of(2025, 7, 1), null);
+        supplementary.terminate(LocalDate.of(2026, 12, 31));
+        spans.addAll(CoverageTimeline.spansOf(supplementary, List.of(), null));
+
+        CoverageTimeline timeline = CoverageTimeline.of(PERSON_ID, spans);
+
+        assertThat(timeline.on(LocalDate.of(2024, 12, 31))).isEmpty();
+        assertThat(timeline.basicOn(LocalDate.of(2025, 6, 30)))
+            .hasValueSatisfying(span -> assertThat(span.franchise()).isEqualTo(Franchise.CHF_300));
+        assertThat(timeline.on(LocalDate.of(2025, 8, 1))).hasSize(2);
+        assertThat(timeline.basicOn(LocalDate.of(2026, 4, 15))).isEmpty();
+        assertThat(timeline.on(LocalDate.of(2026, 4, 15)))
+            .singleElement()
+            .satisfies(span -> assertThat(span.coverageId()).isEqualTo(supplementary.getId()));
+        assertThat(timeline.on(LocalDate.of(2027, 1, 1)))
+            .singleElement()
+            .satisfies(span -> assertThat(span.franchise()).isEqualTo(Franchise.CHF_2500));
+
+        assertThat(timeline.between(LocalDate.of(2025, 12, 15), LocalDate.of(2026, 1, 15))).hasSize(3);
+        assertThat(timeline.between(LocalDate.of(2020, 1, 1), LocalDate.of(2024, 12, 31))).isEmpty();
+        assertThat(timeline.isBasicCoveredThroughout(LocalDate.of(2025, 2, 1), LocalDate.of(2026, 2, 28))).isTrue();
+        assertThat(timeline.isBasicCoveredThroughout(LocalDate.of(2025, 2, 1), LocalDate.of(2026, 3, 1))).isFalse();
+        assertThat(timeline.isBasicCoveredThroughout(LocalDate.of(2026, 6, 1), LocalDate.of(2040, 1, 1))).isTrue();
+    }
+
+    private static Coverage coverage(LocalDate effectiveDate, Franchise franchise) {
+        return new Coverage(
+            UUID.randomUUID(),
+            UUID.randomUUID(),
+            PERSON_ID,
+            UUID.randomUUID(),
+            UUID.randomUUID(),
+            effectiveDate,
+            UUID.randomUUID(),
+            AgeGroup.ADULT,
+            franchise,
+            franchise != null ? false : null,
+            Money.chf(350)
+        );
+    }
+
+    private static CoverageMutation apply(
+        Coverage coverage,
+        CoverageMutationType type,
+        LocalDate effectiveDate,
+        String newValue
+    ) {
+        Money premium = newValue != null ? Money.chf(300) : null;
+        CoverageMutation mutation =
+            new CoverageMutation(coverage, type, effectiveDate, newValue, premium, null, USER_ID);
+        mutation.process(coverage, null);
+        return mutation;
+    }
+}
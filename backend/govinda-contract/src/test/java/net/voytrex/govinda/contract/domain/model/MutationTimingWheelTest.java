@@ -0,0 +1,57 @@
+/*
+ * Govinda ERP - Mutation Timing Wheel Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@Tag("fast")
+class MutationTimingWheelTest {
+    private static final LocalDate TODAY = LocalDate.of(2026, 12, 30);
+
+    @Test
+    void shouldMakeMutationsDueAtTheirCutoff() {
+        MutationTimingWheel wheel = new MutationTimingWheel(30, TODAY);
+        wheel.schedule(LocalDate.of(2027, 1, 1));
+        wheel.schedule(LocalDate.of(2027, 1, 1));
+        wheel.schedule(LocalDate.of(2027, 1, 15));
+
+        assertThat(wheel.advanceTo(TODAY.plusDays(1))).isZero();
+        assertThat(wheel.nextDate()).isEqualTo(LocalDate.of(2027, 1, 1));
+        assertThat(wheel.advanceTo(LocalDate.of(2027, 1, 1))).isEqualTo(2);
+        assertThat(wheel.upcoming()).isEqualTo(1);
+
+        wheel.completed(5);
+        assertThat(wheel.due()).isZero();
+        assertThat(wheel.advanceTo(LocalDate.of(2027, 1, 20))).isEqualTo(1);
+        assertThat(wheel.nextDate()).isNull();
+    }
+
+    @Test
+    void shouldCountPastMutationsAsDueAndKeepLaterOnesBeyondTheHorizon() {
+        MutationTimingWheel wheel = new MutationTimingWheel(10, TODAY);
+
+        wheel.reset(TODAY, List.of(
+            new ScheduledMutations(TODAY.minusDays(3), 4),
+            new ScheduledMutations(TODAY, 1),
+            new ScheduledMutations(TODAY.plusDays(9), 2),
+            new ScheduledMutations(TODAY.plusDays(10), 7)
+        ));
+
+        assertThat(wheel.due()).isEqualTo(5);
+        assertThat(wheel.upcoming()).isEqualTo(2);
+        assertThat(wheel.beyondHorizon()).isEqualTo(7);
+        wheel.drained();
+        assertThat(wheel.advanceTo(TODAY.minusDays(1))).isZero();
+        assertThat(wheel.advanceTo(TODAY.plusDays(100))).isEqualTo(2);
+    }
+}
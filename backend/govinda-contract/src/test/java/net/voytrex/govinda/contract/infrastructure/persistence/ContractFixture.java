@@ -0,0 +1,190 @@
+/*
+ * Govinda ERP - Contract Fixture
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.infrastructure.persistence;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import net.voytrex.govinda.common.domain.model.BillingFrequency;
+import net.voytrex.govinda.common.domain.model.PolicyStatus;
+import net.voytrex.govinda.common.domain.model.ProductType;
+import net.voytrex.govinda.common.domain.model.Rappen;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Inserts persons, products, policies and coverages of a tenant of its own
+ * with plain SQL, for the JDBC repository integration tests of the modules
+ * reading the contract tables; shared through the test jar.
+ *
+ * Every fixture creates a new tenant, so queries scoped to it only see the
+ * rows of the test, even when other tests committed theirs.
+ */
+public final class ContractFixture {
+    /** Premium region Zürich 1, seeded by the base migrations. */
+    public static final UUID ZURICH_REGION_1 = UUID.fromString("10000000-0001-0001-0001-000000000001");
+    /** Premium region Zürich 2, seeded by the base migrations. */
+    public static final UUID ZURICH_REGION_2 = UUID.fromString("10000000-0001-0001-0002-000000000001");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UUID tenantId = UUID.randomUUID();
+
+    public ContractFixture(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        String code = "IT-" + tenantId.toString().substring(0, 8);
+        jdbcTemplate.update("INSERT INTO tenant (id, code, name) VALUES (?, ?, ?)", tenantId, code, "Tenant " + code);
+    }
+
+    public UUID tenantId() {
+        return tenantId;
+    }
+
+    public UUID person(LocalDate dateOfBirth) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return person(
+            "756.%04d.%04d.%02d".formatted(random.nextInt(10_000), random.nextInt(10_000), random.nextInt(100)),
+            dateOfBirth
+        );
+    }
+
+    public UUID person(String ahvNr, LocalDate dateOfBirth) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update(
+            """
+            INSERT INTO person (id, tenant_id, ahv_nr, last_name, first_name, date_of_birth, gender)
+            VALUES (?, ?, ?, 'Muster', 'Anna', ?, 'FEMALE')
+            """,
+            id,
+            tenantId,
+            ahvNr,
+            Date.valueOf(dateOfBirth)
+        );
+        return id;
+    }
+
+    /**
+     * An active product with one active tariff valid from 2026 to 2028.
+     */
+    public Product product(ProductType type) {
+        UUID productId = UUID.randomUUID();
+        UUID tariffId = UUID.randomUUID();
+        String code = type.name() + "-" + productId.toString().substring(0, 8);
+        jdbcTemplate.update(
+            """
+            INSERT INTO product (id, tenant_id, code, product_type, insurance_model, status, name_de)
+            VALUES (?, ?, ?, ?, ?, 'ACTIVE', ?)
+            """,
+            productId,
+            tenantId,
+            code,
+            type.name(),
+            type == ProductType.KVG ? "STANDARD" : null,
+            "Produkt " + code
+        );
+        jdbcTemplate.update(
+            """
+            INSERT INTO tariff (id, product_id, code, status, valid_from, valid_to)
+            VALUES (?, ?, ?, 'ACTIVE', DATE '2026-01-01', DATE '2028-12-31')
+            """,
+            tariffId,
+            productId,
+            code
+        );
+        return new Product(productId, tariffId);
+    }
+
+    public UUID policy(UUID policyholderId, PolicyStatus status, BillingFrequency billingFrequency) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update(
+            """
+            INSERT INTO policy (id, tenant_id, policy_number, policyholder_id, status, billing_frequency)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """,
+            id,
+            tenantId,
+            "P-" + id.toString().substring(0, 13),
+            policyholderId,
+            status.name(),
+            billingFrequency.name()
+        );
+        return id;
+    }
+
+    /**
+     * An active coverage in premium region Zürich 1 with franchise CHF 300,
+     * without accident cover.
+     */
+    public UUID coverage(
+        UUID policyId,
+        UUID insuredPersonId,
+        Product product,
+        LocalDate effectiveDate,
+        long monthlyPremium
+    ) {
+        return coverage(policyId, insuredPersonId, product, ZURICH_REGION_1, effectiveDate, monthlyPremium);
+    }
+
+    public UUID coverage(
+        UUID policyId,
+        UUID insuredPersonId,
+        Product product,
+        UUID premiumRegionId,
+        LocalDate effectiveDate,
+        long monthlyPremium
+    ) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update(
+            """
+            INSERT INTO coverage
+                (id, tenant_id, policy_id, insured_person_id, product_id, tariff_id, status, effective_date,
+                 franchise, with_accident, premium_region_id, age_group, monthly_premium)
+            VALUES (?, ?, ?, ?, ?, ?, 'ACTIVE', ?, 'CHF_300', FALSE, ?, 'ADULT', ?)
+            """,
+            id,
+            tenantId,
+            policyId,
+            insuredPersonId,
+            product.productId(),
+            product.tariffId(),
+            Date.valueOf(effectiveDate),
+            premiumRegionId,
+            Rappen.toNumeric(monthlyPremium)
+        );
+        return id;
+    }
+
+    /**
+     * Terminates a coverage; the termination date is its last day.
+     */
+    public void terminate(UUID coverageId, LocalDate terminationDate) {
+        jdbcTemplate.update(
+            "UPDATE coverage SET status = 'TERMINATED', termination_date = ? WHERE id = ?",
+            Date.valueOf(terminationDate),
+            coverageId
+        );
+    }
+
+    /**
+     * A running batch run, for the run ids recorded with batch results.
+     */
+    public UUID batchRun(String jobName) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update(
+            "INSERT INTO batch_run (id, job_name, run_key) VALUES (?, ?, ?)",
+            id,
+            jobName,
+            id.toString()
+        );
+        return id;
+    }
+
+    /**
+     * Ids of a product and its tariff.
+     */
+    public record Product(UUID productId, UUID tariffId) {
+    }
+}
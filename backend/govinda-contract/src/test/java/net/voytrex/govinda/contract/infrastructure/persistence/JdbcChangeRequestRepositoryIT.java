@@ -0,0 +1,298 @@
+/*
+ * Govinda ERP - JDBC Change Request Repository Integration Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.Money;
+import net.voytrex.govinda.contract.domain.model.ChangeRequest;
+import net.voytrex.govinda.contract.domain.model.ChangeRequestChannel;
+import net.voytrex.govinda.contract.domain.model.ChangeRequestStatus;
+import net.voytrex.govinda.contract.domain.model.CoverageMutationType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@SuppressWarnings("resource")
+@Testcontainers(disabledWithoutDocker = true)
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = JdbcChangeRequestRepository.class)
+@ActiveProfiles("test")
+@Tag("integration")
+@Tag("database")
+// CHECKSTYLE:OFF: MethodName - Test methods follow BDD naming convention (should_X_when_Y)
+class JdbcChangeRequestRepositoryIT {
+    private static final int MAX_ATTEMPTS = 3;
+    /** Older than anything else in the queue, so claims take the requests of the test first. */
+    private static final Instant SUBMITTED = Instant.parse("2000-01-01T08:00:00Z");
+
+    @Container
+    public static final PostgreSQLContainer<?> POSTGRES_CONTAINER = new PostgreSQLContainer<>("postgres:18-alpine")
+        .withDatabaseName("govinda")
+        .withUsername("govinda")
+        .withPassword("govinda")
+        .withReuse(true);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        // Always use Testcontainers-managed PostgreSQL for integration tests
+        registry.add("spring.datasource.url", POSTGRES_CONTAINER::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES_CONTAINER::getUsername);
+        registry.add("spring.datasource.password", POSTGRES_CONTAINER::getPassword);
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.flyway.locations", () -> "classpath:db/migration");
+        registry.add("spring.flyway.baseline-on-migrate", () -> "true");
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+    }
+
+    @Autowired
+    private JdbcChangeRequestRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final UUID tenantId = UUID.randomUUID();
+
+    @Nested
+    @DisplayName("Intake")
+    class Intake {
+
+        @Test
+        @DisplayName("should store a submitted request and find it within its tenant only")
+        void should_findTheRequest_when_inserted() {
+            ChangeRequest request = request(0);
+
+            repository.insert(request);
+
+            ChangeRequest found = repository.findById(tenantId, request.id()).orElseThrow();
+            assertThat(found).usingRecursiveComparison()
+                .ignoringFields("quotedMonthlyPremium")
+                .isEqualTo(request);
+            assertThat(found.quotedMonthlyPremium().getAmount()).isEqualByComparingTo("389.40");
+            assertThat(repository.findById(UUID.randomUUID(), request.id())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should count received and claimed requests as open")
+        void should_countOpenRequests_when_someAreFinished() {
+            long before = repository.countOpen();
+            repository.insert(request(0));
+            repository.insert(request(1));
+            repository.insert(request(2));
+            UUID finished = repository.claim(1, SUBMITTED, MAX_ATTEMPTS).get(0).id();
+            repository.accept(finished, UUID.randomUUID());
+
+            assertThat(repository.countOpen()).isEqualTo(before + 2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Claims")
+    class Claims {
+
+        @Test
+        @DisplayName("should claim received requests in arrival order up to the limit")
+        void should_claimOldestFirst_when_moreRequestsThanTheLimit() {
+            ChangeRequest second = request(1);
+            ChangeRequest first = request(0);
+            ChangeRequest third = request(2);
+            repository.insert(second);
+            repository.insert(first);
+            repository.insert(third);
+
+            List<ChangeRequest> claimed = repository.claim(2, SUBMITTED, MAX_ATTEMPTS);
+
+            assertThat(claimed).extracting(ChangeRequest::id).containsExactly(first.id(), second.id());
+            assertThat(claimed).extracting(ChangeRequest::status).containsOnly(ChangeRequestStatus.PROCESSING);
+            assertThat(attempts(first.id())).isEqualTo(1);
+            assertThat(repository.claim(2, SUBMITTED, MAX_ATTEMPTS).get(0).id()).isEqualTo(third.id());
+        }
+
+        @Test
+        @DisplayName("should claim a stale request again until its attempts are used up")
+        void should_reclaimStaleRequest_when_attemptsRemain() {
+            ChangeRequest request = request(0);
+            repository.insert(request);
+            repository.claim(1, SUBMITTED, MAX_ATTEMPTS);
+            Instant staleBefore = Instant.now().plusSeconds(60);
+
+            assertThat(repository.claim(1, staleBefore, 2)).extracting(ChangeRequest::id).containsExactly(request.id());
+            assertThat(attempts(request.id())).isEqualTo(2);
+            assertThat(repository.claim(1, staleBefore, 2)).extracting(ChangeRequest::id)
+                .doesNotContain(request.id());
+        }
+
+        @Test
+        @DisplayName("should fail stale requests whose attempts are used up")
+        void should_failStaleRequest_when_attemptsAreUsedUp() {
+            ChangeRequest exhausted = request(0);
+            ChangeRequest retried = request(1);
+            repository.insert(exhausted);
+            repository.insert(retried);
+            repository.claim(2, SUBMITTED, MAX_ATTEMPTS);
+            jdbcTemplate.update("UPDATE change_request SET attempts = ? WHERE id = ?", MAX_ATTEMPTS, exhausted.id());
+
+            int failed = repository.failStale(Instant.now().plusSeconds(60), MAX_ATTEMPTS, "worker lost");
+
+            assertThat(failed).isGreaterThanOrEqualTo(1);
+            assertThat(status(exhausted.id())).isEqualTo(ChangeRequestStatus.FAILED);
+            assertThat(status(retried.id())).isEqualTo(ChangeRequestStatus.PROCESSING);
+        }
+    }
+
+    @Nested
+    @DisplayName("Outcomes")
+    class Outcomes {
+
+        @Test
+        @DisplayName("should accept a claimed request with its mutation")
+        void should_recordTheMutation_when_accepted() {
+            ChangeRequest request = request(0);
+            repository.insert(request);
+            repository.claim(1, SUBMITTED, MAX_ATTEMPTS);
+            UUID mutationId = UUID.randomUUID();
+
+            repository.accept(request.id(), mutationId);
+
+            ChangeRequest accepted = repository.findById(tenantId, request.id()).orElseThrow();
+            assertThat(accepted.status()).isEqualTo(ChangeRequestStatus.ACCEPTED);
+            assertThat(accepted.mutationId()).isEqualTo(mutationId);
+            assertThat(accepted.processedAt()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("should only finish requests that are being processed")
+        void should_ignoreOutcome_when_requestIsNotClaimed() {
+            ChangeRequest request = request(0);
+            repository.insert(request);
+
+            repository.reject(request.id(), "too late");
+
+            assertThat(status(request.id())).isEqualTo(ChangeRequestStatus.RECEIVED);
+        }
+
+        @Test
+        @DisplayName("should cut the rejection reason to the column length")
+        void should_truncateReason_when_rejectionReasonIsTooLong() {
+            ChangeRequest request = request(0);
+            repository.insert(request);
+            repository.claim(1, SUBMITTED, MAX_ATTEMPTS);
+
+            repository.reject(request.id(), "x".repeat(1500));
+
+            ChangeRequest rejected = repository.findById(tenantId, request.id()).orElseThrow();
+            assertThat(rejected.status()).isEqualTo(ChangeRequestStatus.REJECTED);
+            assertThat(rejected.rejectionReason()).hasSize(1000);
+        }
+
+        @Test
+        @DisplayName("should fail a request only once its attempts are used up")
+        void should_failRequest_when_attemptsAreUsedUp() {
+            ChangeRequest request = request(0);
+            repository.insert(request);
+            repository.claim(1, SUBMITTED, MAX_ATTEMPTS);
+
+            assertThat(repository.failIfExhausted(request.id(), 2, "database down")).isFalse();
+            assertThat(repository.failIfExhausted(request.id(), 1, "database down")).isTrue();
+            assertThat(status(request.id())).isEqualTo(ChangeRequestStatus.FAILED);
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrent claims")
+    class ConcurrentClaims {
+
+        @AfterEach
+        void tearDown() {
+            jdbcTemplate.update("DELETE FROM change_request WHERE tenant_id = ?", tenantId);
+        }
+
+        @Test
+        @Transactional(propagation = Propagation.NOT_SUPPORTED)
+        @DisplayName("should skip requests claimed by a worker whose transaction is still open")
+        void should_skipLockedRequests_when_anotherWorkerHoldsThem() {
+            ChangeRequest first = request(0);
+            ChangeRequest second = request(1);
+            ChangeRequest third = request(2);
+            repository.insert(first);
+            repository.insert(second);
+            repository.insert(third);
+            TransactionTemplate worker = new TransactionTemplate(transactionManager);
+            TransactionTemplate otherWorker = new TransactionTemplate(transactionManager);
+            otherWorker.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+            worker.executeWithoutResult(status -> {
+                List<ChangeRequest> claimed = repository.claim(1, SUBMITTED, MAX_ATTEMPTS);
+                List<ChangeRequest> claimedByOther = otherWorker.execute(
+                    otherStatus -> repository.claim(2, SUBMITTED, MAX_ATTEMPTS)
+                );
+
+                assertThat(claimed).extracting(ChangeRequest::id).containsExactly(first.id());
+                assertThat(claimedByOther).extracting(ChangeRequest::id).containsExactly(second.id(), third.id());
+            });
+
+            assertThat(attempts(first.id())).isEqualTo(1);
+            assertThat(attempts(second.id())).isEqualTo(1);
+        }
+    }
+
+    private ChangeRequest request(int arrival) {
+        return new ChangeRequest(
+            UUID.randomUUID(),
+            tenantId,
+            UUID.randomUUID(),
+            CoverageMutationType.FRANCHISE_CHANGE,
+            "CHF_1500",
+            new Money(new BigDecimal("389.40")),
+            LocalDate.of(2027, 1, 1),
+            ChangeRequestChannel.PORTAL,
+            ChangeRequestStatus.RECEIVED,
+            null,
+            null,
+            UUID.randomUUID(),
+            SUBMITTED.minusSeconds(60 - arrival),
+            null
+        );
+    }
+
+    private int attempts(UUID id) {
+        return jdbcTemplate.queryForObject("SELECT attempts FROM change_request WHERE id = ?", Integer.class, id);
+    }
+
+    private ChangeRequestStatus status(UUID id) {
+        return ChangeRequestStatus.valueOf(
+            jdbcTemplate.queryForObject("SELECT status FROM change_request WHERE id = ?", String.class, id)
+        );
+    }
+}
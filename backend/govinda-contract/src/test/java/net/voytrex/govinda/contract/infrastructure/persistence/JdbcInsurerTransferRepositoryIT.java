@@ -0,0 +1,259 @@
+/*
+ * Govinda ERP - JDBC Insurer Transfer Repository Integration Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.contract.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.BillingFrequency;
+import net.voytrex.govinda.common.domain.model.PolicyStatus;
+import net.voytrex.govinda.common.domain.model.ProductType;
+import net.voytrex.govinda.contract.application.InsurerTransferJob;
+import net.voytrex.govinda.contract.domain.model.InsurerTransfer;
+import net.voytrex.govinda.contract.domain.model.TransferMessage;
+import net.voytrex.govinda.contract.domain.model.TransferOutcome;
+import net.voytrex.govinda.contract.domain.model.TransferParty;
+import net.voytrex.govinda.contract.domain.model.TransferReply;
+import net.voytrex.govinda.contract.domain.model.TransferStatus;
+import net.voytrex.govinda.contract.domain.model.TransferType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@SuppressWarnings("resource")
+@Testcontainers(disabledWithoutDocker = true)
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = JdbcInsurerTransferRepository.class)
+@ActiveProfiles("test")
+@Tag("integration")
+@Tag("database")
+// CHECKSTYLE:OFF: MethodName - Test methods follow BDD naming convention (should_X_when_Y)
+class JdbcInsurerTransferRepositoryIT {
+    private static final LocalDate JANUARY_FIRST = LocalDate.of(2027, 1, 1);
+    private static final String FILE_NAME = "transfers-2027-01.xml";
+
+    @Container
+    public static final PostgreSQLContainer<?> POSTGRES_CONTAINER = new PostgreSQLContainer<>("postgres:18-alpine")
+        .withDatabaseName("govinda")
+        .withUsername("govinda")
+        .withPassword("govinda")
+        .withReuse(true);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        // Always use Testcontainers-managed PostgreSQL for integration tests
+        registry.add("spring.datasource.url", POSTGRES_CONTAINER::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES_CONTAINER::getUsername);
+        registry.add("spring.datasource.password", POSTGRES_CONTAINER::getPassword);
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.flyway.locations", () -> "classpath:db/migration");
+        registry.add("spring.flyway.baseline-on-migrate", () -> "true");
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+    }
+
+    @Autowired
+    private JdbcInsurerTransferRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ContractFixture fixture;
+    private ContractFixture.Product basicInsurance;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new ContractFixture(jdbcTemplate);
+        basicInsurance = fixture.product(ProductType.KVG);
+    }
+
+    @Nested
+    @DisplayName("Reading parties")
+    class ReadingParties {
+
+        @Test
+        @DisplayName("should stream every person of the tenant with the basic insurance coverage not terminated")
+        void should_joinTheBasicInsuranceCoverage_when_notTerminated() {
+            UUID insured = fixture.person("756.1111.2222.33", LocalDate.of(1985, 3, 2));
+            UUID policyId = fixture.policy(insured, PolicyStatus.PENDING, BillingFrequency.MONTHLY);
+            UUID coverageId = fixture.coverage(policyId, insured, basicInsurance, JANUARY_FIRST, 41_255);
+            fixture.coverage(policyId, insured, fixture.product(ProductType.VVG), JANUARY_FIRST, 5_000);
+            UUID former = fixture.person("756.4444.5555.66", LocalDate.of(1990, 7, 9));
+            UUID formerPolicy = fixture.policy(former, PolicyStatus.ACTIVE, BillingFrequency.MONTHLY);
+            LocalDate lastYear = LocalDate.of(2026, 1, 1);
+            UUID formerCoverage = fixture.coverage(formerPolicy, former, basicInsurance, lastYear, 40_000);
+            fixture.terminate(formerCoverage, JANUARY_FIRST.minusDays(1));
+            new ContractFixture(jdbcTemplate).person("756.7777.8888.99", LocalDate.of(1970, 1, 1));
+
+            assertThat(parties()).containsExactlyInAnyOrder(
+                new TransferParty(
+                    "756.1111.2222.33", insured, coverageId, policyId, PolicyStatus.PENDING, JANUARY_FIRST, null
+                ),
+                new TransferParty("756.4444.5555.66", former, null, null, null, null, null)
+            );
+        }
+
+        private List<TransferParty> parties() {
+            List<TransferParty> parties = new ArrayList<>();
+            repository.forEachParty(fixture.tenantId(), parties::add);
+            return parties;
+        }
+    }
+
+    @Nested
+    @DisplayName("Recording transfers")
+    class RecordingTransfers {
+
+        @Test
+        @DisplayName("should record each message once and reply in record order")
+        void should_ignoreMessage_when_recordedBefore() {
+            UUID firstRun = fixture.batchRun(InsurerTransferJob.JOB_NAME);
+            UUID secondRun = fixture.batchRun(InsurerTransferJob.JOB_NAME);
+            InsurerTransfer entry = transfer("MSG-2", TransferType.ENTRY, 2, TransferOutcome.COMPLETED);
+            InsurerTransfer exit = transfer("MSG-1", TransferType.EXIT, 1, TransferOutcome.NO_COVERAGE);
+
+            repository.saveTransfers(firstRun, fixture.tenantId(), FILE_NAME, List.of(entry, exit));
+            repository.saveTransfers(
+                secondRun,
+                fixture.tenantId(),
+                FILE_NAME,
+                List.of(transfer("MSG-2", TransferType.ENTRY, 2, TransferOutcome.UNKNOWN_PERSON))
+            );
+
+            assertThat(repository.findRecorded(fixture.tenantId(), List.of("MSG-1", "MSG-2", "MSG-3")))
+                .isEqualTo(Set.of("MSG-1", "MSG-2"));
+            assertThat(repository.findRecorded(UUID.randomUUID(), List.of("MSG-1"))).isEmpty();
+            assertThat(replies()).containsExactly(
+                new TransferReply("MSG-1", TransferStatus.REJECTED, "NO_COVERAGE"),
+                new TransferReply("MSG-2", TransferStatus.COMPLETED, null)
+            );
+        }
+
+        @Test
+        @DisplayName("should store the insurer code as previous insurer of entries and next insurer of exits")
+        void should_storeInsurerCodeByDirection_when_savingTransfers() {
+            UUID runId = fixture.batchRun(InsurerTransferJob.JOB_NAME);
+
+            repository.saveTransfers(runId, fixture.tenantId(), FILE_NAME, List.of(
+                transfer("MSG-1", TransferType.ENTRY, 1, TransferOutcome.COMPLETED),
+                transfer("MSG-2", TransferType.EXIT, 2, TransferOutcome.COMPLETED)
+            ));
+
+            assertThat(jdbcTemplate.queryForList(
+                """
+                SELECT sasis_message_id, previous_insurer_code, next_insurer_code FROM insurer_transfer
+                WHERE tenant_id = ? ORDER BY record_number
+                """,
+                fixture.tenantId()
+            )).extracting(
+                row -> row.get("sasis_message_id"),
+                row -> row.get("previous_insurer_code"),
+                row -> row.get("next_insurer_code")
+            ).containsExactly(tuple("MSG-1", "1560", null), tuple("MSG-2", null, "1560"));
+        }
+
+        private List<TransferReply> replies() {
+            List<TransferReply> replies = new ArrayList<>();
+            repository.forEachReply(fixture.tenantId(), FILE_NAME, replies::add);
+            return replies;
+        }
+    }
+
+    @Nested
+    @DisplayName("Applying transfers")
+    class ApplyingTransfers {
+        private UUID personId;
+        private UUID policyId;
+
+        @BeforeEach
+        void setUp() {
+            personId = fixture.person(LocalDate.of(1985, 3, 2));
+            policyId = fixture.policy(personId, PolicyStatus.ACTIVE, BillingFrequency.MONTHLY);
+        }
+
+        @Test
+        @DisplayName("should end coverages in force on the last day with the previous insurer")
+        void should_terminateCoverages_when_exitIsCompleted() {
+            UUID inForce = fixture.coverage(policyId, personId, basicInsurance, LocalDate.of(2026, 1, 1), 40_000);
+            UUID startingLater = fixture.coverage(policyId, personId, basicInsurance, JANUARY_FIRST, 40_000);
+            InsurerTransfer exit = new InsurerTransfer(
+                message("MSG-1", TransferType.EXIT),
+                1,
+                TransferOutcome.COMPLETED,
+                personId,
+                policyId,
+                List.of(inForce, startingLater)
+            );
+
+            repository.terminateCoverages(List.of(exit));
+
+            assertThat(coverage(inForce))
+                .containsEntry("status", "TERMINATED")
+                .containsEntry("termination_date", Date.valueOf(LocalDate.of(2026, 12, 31)))
+                .containsEntry("version", 1L);
+            assertThat(coverage(startingLater))
+                .containsEntry("status", "ACTIVE")
+                .containsEntry("version", 0L);
+        }
+
+        @Test
+        @DisplayName("should activate pending policies only")
+        void should_activatePendingPolicy_when_entryIsCompleted() {
+            UUID pending = fixture.policy(personId, PolicyStatus.PENDING, BillingFrequency.MONTHLY);
+
+            repository.activatePolicies(List.of(pending, policyId));
+
+            assertThat(policy(pending)).containsEntry("status", "ACTIVE").containsEntry("version", 1L);
+            assertThat(policy(policyId)).containsEntry("status", "ACTIVE").containsEntry("version", 0L);
+            assertThat(policy(pending).get("activated_at")).isNotNull();
+        }
+
+        private Map<String, Object> coverage(UUID coverageId) {
+            return jdbcTemplate.queryForMap(
+                "SELECT status, termination_date, version FROM coverage WHERE id = ?",
+                coverageId
+            );
+        }
+
+        private Map<String, Object> policy(UUID id) {
+            return jdbcTemplate.queryForMap("SELECT status, activated_at, version FROM policy WHERE id = ?", id);
+        }
+    }
+
+    private static InsurerTransfer transfer(
+        String messageId,
+        TransferType type,
+        int recordNumber,
+        TransferOutcome outcome
+    ) {
+        return new InsurerTransfer(message(messageId, type), recordNumber, outcome, null, null, List.of());
+    }
+
+    private static TransferMessage message(String messageId, TransferType type) {
+        return new TransferMessage(messageId, type, "756.1111.2222.33", JANUARY_FIRST, "1560");
+    }
+}
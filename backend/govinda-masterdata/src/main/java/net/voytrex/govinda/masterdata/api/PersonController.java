@@ -16,6 +16,7 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Locale;
 import java.util.UUID;
+import net.voytrex.govinda.common.api.ETags;
 import net.voytrex.govinda.common.api.PageResponse;
 import net.voytrex.govinda.masterdata.application.ChangeMaritalStatusCommand;
 import net.voytrex.govinda.masterdata.application.ChangeNameCommand;
@@ -25,6 +26,7 @@ import net.voytrex.govinda.masterdata.application.PersonService;
 import net.voytrex.govinda.masterdata.application.UpdatePersonCommand;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -128,15 +130,25 @@ public class PersonController {
     @GetMapping("/{id}")
     @Operation(
         summary = "Get person",
-        description = "Returns a person by ID",
+        description = "Returns a person by ID. Supports If-None-Match with the returned ETag.",
         security = @SecurityRequirement(name = BEARER_AUTH)
     )
     @PreAuthorize(READ_AUTHORITY)
-    public PersonResponse getPerson(
+    public ResponseEntity<PersonResponse> getPerson(
         @RequestHeader(TENANT_HEADER) UUID tenantId,
-        @PathVariable UUID id
+        @PathVariable UUID id,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
-        return PersonMapper.toResponse(personService.getPerson(id, tenantId));
+        if (ifNoneMatch != null) {
+            String currentTag = ETags.of(id, personService.getPersonVersion(id, tenantId));
+            if (ETags.matchesAny(ifNoneMatch, currentTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentTag).build();
+            }
+        }
+        var person = personService.getPerson(id, tenantId);
+        return ResponseEntity.ok()
+            .eTag(ETags.of(person.getId(), person.getVersion()))
+            .body(PersonMapper.toResponse(person));
     }
 
     @PostMapping
@@ -170,22 +182,27 @@ public class PersonController {
     @PutMapping("/{id}")
     @Operation(
         summary = "Update person",
-        description = "Updates non-historical person data",
+        description = "Updates non-historical person data. Returns 412 if If-Match is stale.",
         security = @SecurityRequirement(name = BEARER_AUTH)
     )
     @PreAuthorize(WRITE_AUTHORITY)
-    public PersonResponse updatePerson(
+    public ResponseEntity<PersonResponse> updatePerson(
         @RequestHeader(TENANT_HEADER) UUID tenantId,
         @PathVariable UUID id,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
         @Valid @RequestBody UpdatePersonRequest request
     ) {
         var command = new UpdatePersonCommand(
             tenantId,
             id,
             request.nationality(),
-            request.preferredLanguage()
+            request.preferredLanguage(),
+            ETags.expectedVersion(ifMatch, id)
         );
-        return PersonMapper.toResponse(personService.updatePerson(command));
+        var person = personService.updatePerson(command);
+        return ResponseEntity.ok()
+            .eTag(ETags.of(person.getId(), person.getVersion()))
+            .body(PersonMapper.toResponse(person));
     }
 
     @PostMapping("/{id}/name-change")
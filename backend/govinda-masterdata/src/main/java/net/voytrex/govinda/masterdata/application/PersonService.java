@@ -12,6 +12,7 @@ import java.util.Optional;
 import java.util.UUID;
 import net.voytrex.govinda.common.domain.exception.DuplicateEntityException;
 import net.voytrex.govinda.common.domain.exception.EntityNotFoundException;
+import net.voytrex.govinda.common.domain.exception.PreconditionFailedException;
 import net.voytrex.govinda.common.domain.model.AhvNumber;
 import net.voytrex.govinda.common.domain.model.Language;
 import net.voytrex.govinda.masterdata.domain.model.Person;
@@ -68,6 +69,17 @@ public class PersonService {
             .orElseThrow(() -> new EntityNotFoundException("Person", id));
     }
 
+    /**
+     * Retrieves only the optimistic-lock version of a person.
+     *
+     * Used for conditional requests; does not load the entity or its addresses.
+     */
+    @Transactional(readOnly = true)
+    public long getPersonVersion(UUID id, UUID tenantId) {
+        return personRepository.findVersionByIdAndTenantId(id, tenantId)
+            .orElseThrow(() -> new EntityNotFoundException("Person", id));
+    }
+
     /**
      * Retrieves a person by AHV number.
      */
@@ -107,6 +119,10 @@ public class PersonService {
      */
     public Person updatePerson(UpdatePersonCommand command) {
         Person person = getPerson(command.personId(), command.tenantId());
+        Long expectedVersion = command.expectedVersion();
+        if (expectedVersion != null && expectedVersion != person.getVersion()) {
+            throw new PreconditionFailedException("Person", person.getId(), expectedVersion, person.getVersion());
+        }
 
         if (command.nationality() != null) {
             person.setNationality(command.nationality());
@@ -8,10 +8,22 @@ package net.voytrex.govinda.masterdata.application;
 
 import java.util.UUID;
 import net.voytrex.govinda.common.domain.model.Language;
+import org.springframework.lang.Nullable;
 
+/**
+ * Updates non-historical person data.
+ *
+ * If {@code expectedVersion} is set, the update is rejected unless the
+ * person is still at that version.
+ */
 public record UpdatePersonCommand(
     UUID tenantId,
     UUID personId,
     String nationality,
-    Language preferredLanguage
-) { }
+    Language preferredLanguage,
+    @Nullable Long expectedVersion
+) {
+    public UpdatePersonCommand(UUID tenantId, UUID personId, String nationality, Language preferredLanguage) {
+        this(tenantId, personId, nationality, preferredLanguage, null);
+    }
+}
@@ -24,6 +24,7 @@ public interface PersonRepository {
     Person save(Person person);
     Optional<Person> findById(UUID id);
     Optional<Person> findByIdAndTenantId(UUID id, UUID tenantId);
+    Optional<Long> findVersionByIdAndTenantId(UUID id, UUID tenantId);
     Optional<Person> findByAhvNr(AhvNumber ahvNr, UUID tenantId);
     Page<Person> findByTenantId(UUID tenantId, Pageable pageable);
     Page<Person> search(
@@ -48,6 +48,11 @@ public class JpaPersonRepositoryAdapter implements PersonRepository {
         return jpaPersonRepository.findByIdAndTenantId(id, tenantId);
     }
 
+    @Override
+    public Optional<Long> findVersionByIdAndTenantId(UUID id, UUID tenantId) {
+        return jpaPersonRepository.findVersionByIdAndTenantId(id, tenantId);
+    }
+
     @Override
     public Optional<Person> findByAhvNr(AhvNumber ahvNr, UUID tenantId) {
         return jpaPersonRepository.findByAhvNrAndTenantId(ahvNr, tenantId);
@@ -20,6 +20,9 @@ import org.springframework.lang.Nullable;
 
 public interface SpringDataPersonRepository extends JpaRepository<Person, UUID> {
     Optional<Person> findByIdAndTenantId(UUID id, UUID tenantId);
+    @Query("SELECT p.version FROM Person p WHERE p.id = :id AND p.tenantId = :tenantId")
+    Optional<Long> findVersionByIdAndTenantId(@Param("id") UUID id, @Param("tenantId") UUID tenantId);
+
     Optional<Person> findByAhvNrAndTenantId(AhvNumber ahvNr, UUID tenantId);
     Page<Person> findByTenantId(UUID tenantId, Pageable pageable);
     boolean existsByAhvNrAndTenantId(AhvNumber ahvNr, UUID tenantId);
@@ -20,6 +20,7 @@ import java.util.Optional;
 import java.util.UUID;
 import net.voytrex.govinda.common.domain.exception.DuplicateEntityException;
 import net.voytrex.govinda.common.domain.exception.EntityNotFoundException;
+import net.voytrex.govinda.common.domain.exception.PreconditionFailedException;
 import net.voytrex.govinda.common.domain.model.AhvNumber;
 import net.voytrex.govinda.common.domain.model.Gender;
 import net.voytrex.govinda.common.domain.model.Language;
@@ -341,6 +342,20 @@ class PersonServiceTest {
             assertThatThrownBy(() -> personService.updatePerson(command))
                 .isInstanceOf(EntityNotFoundException.class);
         }
+
+        @Test
+        @DisplayName("should reject update when expected version is stale")
+        void should_throwPreconditionFailed_when_expectedVersionIsStale() {
+            Person person = createTestPerson();
+            person.setVersion(4L);
+            when(personRepository.findByIdAndTenantId(personId, tenantId)).thenReturn(Optional.of(person));
+
+            UpdatePersonCommand command = new UpdatePersonCommand(tenantId, personId, "DEU", null, 3L);
+
+            assertThatThrownBy(() -> personService.updatePerson(command))
+                .isInstanceOf(PreconditionFailedException.class);
+            verify(personRepository, never()).save(any(Person.class));
+        }
     }
 
     @Nested
@@ -15,7 +15,11 @@ import java.util.List;
 import java.util.UUID;
 import net.voytrex.govinda.cases.application.CaseService;
 import net.voytrex.govinda.cases.application.CreateCaseCommand;
+import net.voytrex.govinda.common.api.ETags;
+import net.voytrex.govinda.common.domain.model.EntityVersion;
 import net.voytrex.govinda.portal.application.PortalIdentityService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -68,16 +72,27 @@ public class PortalCaseController {
     @GetMapping
     @Operation(
         summary = "List portal cases",
-        description = "Returns all cases for the authenticated portal user",
+        description = "Returns all cases for the authenticated portal user. Supports If-None-Match.",
         security = @SecurityRequirement(name = "bearerAuth")
     )
-    public List<PortalCaseResponse> listCases(
+    public ResponseEntity<List<PortalCaseResponse>> listCases(
         @RequestHeader("X-Tenant-Id") UUID tenantId,
-        @RequestHeader("X-Portal-Subject") String subject
+        @RequestHeader("X-Portal-Subject") String subject,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         var personId = portalIdentityService.resolvePersonId(tenantId, subject);
-        return caseService.listCases(tenantId, personId).stream()
-            .map(PortalCaseMapper::toResponse)
+        if (ifNoneMatch != null) {
+            String currentTag = ETags.ofAll(caseService.listCaseVersions(tenantId, personId));
+            if (ETags.matchesAny(ifNoneMatch, currentTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentTag).build();
+            }
+        }
+        var cases = caseService.listCases(tenantId, personId);
+        var versions = cases.stream()
+            .map(caseRecord -> new EntityVersion(caseRecord.getId(), caseRecord.getVersion()))
             .toList();
+        return ResponseEntity.ok()
+            .eTag(ETags.ofAll(versions))
+            .body(cases.stream().map(PortalCaseMapper::toResponse).toList());
     }
 }
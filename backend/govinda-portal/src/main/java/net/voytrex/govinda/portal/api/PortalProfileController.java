@@ -11,8 +11,12 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.util.UUID;
+import net.voytrex.govinda.common.api.ETags;
 import net.voytrex.govinda.portal.application.PortalIdentityService;
 import net.voytrex.govinda.portal.application.PortalProfileService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -38,27 +42,38 @@ public class PortalProfileController {
     @GetMapping
     @Operation(
         summary = "Get portal profile",
-        description = "Returns the profile for the authenticated portal user",
+        description = "Returns the profile for the authenticated portal user. Supports If-None-Match.",
         security = @SecurityRequirement(name = "bearerAuth")
     )
-    public PortalProfileResponse getProfile(
+    public ResponseEntity<PortalProfileResponse> getProfile(
         @RequestHeader("X-Tenant-Id") UUID tenantId,
-        @RequestHeader("X-Portal-Subject") String subject
+        @RequestHeader("X-Portal-Subject") String subject,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         var personId = portalIdentityService.resolvePersonId(tenantId, subject);
+        if (ifNoneMatch != null) {
+            String currentTag = ETags.of(personId, portalProfileService.getProfileVersion(tenantId, personId));
+            if (ETags.matchesAny(ifNoneMatch, currentTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentTag).build();
+            }
+        }
         var person = portalProfileService.getProfile(tenantId, personId);
-        return PortalProfileMapper.toResponse(person);
+        return ResponseEntity.ok()
+            .eTag(ETags.of(person.getId(), person.getVersion()))
+            .body(PortalProfileMapper.toResponse(person));
     }
 
     @PatchMapping
     @Operation(
         summary = "Update portal profile",
-        description = "Updates allowed profile fields for the authenticated portal user",
+        description = "Updates allowed profile fields for the authenticated portal user. "
+            + "Returns 412 if If-Match is stale.",
         security = @SecurityRequirement(name = "bearerAuth")
     )
-    public PortalProfileResponse updateProfile(
+    public ResponseEntity<PortalProfileResponse> updateProfile(
         @RequestHeader("X-Tenant-Id") UUID tenantId,
         @RequestHeader("X-Portal-Subject") String subject,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
         @Valid @RequestBody PortalProfileUpdateRequest request
     ) {
         var personId = portalIdentityService.resolvePersonId(tenantId, subject);
@@ -66,8 +81,11 @@ public class PortalProfileController {
             tenantId,
             personId,
             request.nationality(),
-            request.preferredLanguage()
+            request.preferredLanguage(),
+            ETags.expectedVersion(ifMatch, personId)
         );
-        return PortalProfileMapper.toResponse(person);
+        return ResponseEntity.ok()
+            .eTag(ETags.of(person.getId(), person.getVersion()))
+            .body(PortalProfileMapper.toResponse(person));
     }
 }
@@ -0,0 +1,58 @@
+/*
+ * Govinda ERP - Portal Quote REST Controller
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.portal.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDate;
+import java.util.UUID;
+import net.voytrex.govinda.portal.application.PortalIdentityService;
+import net.voytrex.govinda.portal.application.PortalQuoteService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/portal/v1/quotes")
+@Tag(name = "Portal Quotes", description = "Premium comparison for portal users")
+public class PortalQuoteController {
+    private final PortalQuoteService portalQuoteService;
+    private final PortalIdentityService portalIdentityService;
+
+    public PortalQuoteController(
+        PortalQuoteService portalQuoteService,
+        PortalIdentityService portalIdentityService
+    ) {
+        this.portalQuoteService = portalQuoteService;
+        this.portalIdentityService = portalIdentityService;
+    }
+
+    @GetMapping("/franchise-matrix")
+    @Operation(
+        summary = "Get franchise comparison matrix",
+        description = "Returns the franchise x insurance model premium grid for the authenticated portal user "
+            + "and, optionally, every current member of their household.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<PortalQuoteResponse> getFranchiseMatrix(
+        @RequestHeader("X-Tenant-Id") UUID tenantId,
+        @RequestHeader("X-Portal-Subject") String subject,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+        @RequestParam(defaultValue = "false") boolean withAccident,
+        @RequestParam(defaultValue = "true") boolean household
+    ) {
+        var personId = portalIdentityService.resolvePersonId(tenantId, subject);
+        LocalDate quoteDate = date != null ? date : LocalDate.now();
+        var quote = portalQuoteService.quote(tenantId, personId, quoteDate, withAccident, household);
+        return ResponseEntity.ok(PortalQuoteMapper.toResponse(quoteDate, quote));
+    }
+}
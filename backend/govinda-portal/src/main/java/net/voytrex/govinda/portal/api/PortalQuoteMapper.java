@@ -0,0 +1,59 @@
+/*
+ * Govinda ERP - Portal Quote Mapper
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.portal.api;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.common.domain.model.InsuranceModel;
+import net.voytrex.govinda.common.domain.model.Rappen;
+import net.voytrex.govinda.premium.domain.model.HouseholdQuote;
+import net.voytrex.govinda.premium.domain.model.QuoteMatrix;
+import net.voytrex.govinda.product.domain.model.PremiumTable;
+
+public final class PortalQuoteMapper {
+
+    private PortalQuoteMapper() {
+    }
+
+    public static PortalQuoteResponse toResponse(LocalDate date, HouseholdQuote quote) {
+        List<PortalQuoteResponse.MemberMatrix> members = new ArrayList<>(quote.members().size());
+        for (HouseholdQuote.MemberQuote member : quote.members()) {
+            members.add(toMemberMatrix(member));
+        }
+        List<PortalQuoteResponse.ModelTotal> totals = new ArrayList<>();
+        for (InsuranceModel model : InsuranceModel.values()) {
+            long total = quote.cheapestTotal(model);
+            if (total != PremiumTable.NO_PREMIUM) {
+                totals.add(new PortalQuoteResponse.ModelTotal(model, Rappen.toNumeric(total)));
+            }
+        }
+        return new PortalQuoteResponse(date, members, totals);
+    }
+
+    private static PortalQuoteResponse.MemberMatrix toMemberMatrix(HouseholdQuote.MemberQuote member) {
+        QuoteMatrix matrix = member.matrix();
+        List<PortalQuoteResponse.ModelRow> rows = new ArrayList<>(matrix.getModels().size());
+        for (InsuranceModel model : matrix.getModels()) {
+            List<BigDecimal> premiums = new ArrayList<>(matrix.getFranchises().size());
+            for (Franchise franchise : matrix.getFranchises()) {
+                long premium = matrix.premium(model, franchise);
+                premiums.add(premium == PremiumTable.NO_PREMIUM ? null : Rappen.toNumeric(premium));
+            }
+            rows.add(new PortalQuoteResponse.ModelRow(model, premiums));
+        }
+        return new PortalQuoteResponse.MemberMatrix(
+            member.personId(),
+            matrix.getAgeGroup(),
+            matrix.isWithAccident(),
+            matrix.getFranchises(),
+            rows
+        );
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Govinda ERP - Portal Quote Response
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.portal.api;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.AgeGroup;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.common.domain.model.InsuranceModel;
+
+public record PortalQuoteResponse(
+    LocalDate date,
+    List<MemberMatrix> members,
+    List<ModelTotal> householdTotals
+) {
+
+    /**
+     * Premium grid of one person; {@code monthlyPremiums} follow the order of
+     * {@code franchises} and are {@code null} where no premium exists.
+     */
+    public record MemberMatrix(
+        UUID personId,
+        AgeGroup ageGroup,
+        boolean withAccident,
+        List<Franchise> franchises,
+        List<ModelRow> models
+    ) { }
+
+    public record ModelRow(InsuranceModel model, List<BigDecimal> monthlyPremiums) { }
+
+    /**
+     * Monthly household total with every member at their cheapest franchise.
+     */
+    public record ModelTotal(InsuranceModel model, BigDecimal cheapestMonthlyTotal) { }
+}
@@ -28,14 +28,19 @@ public class PortalProfileService {
         return personService.getPerson(personId, tenantId);
     }
 
+    public long getProfileVersion(UUID tenantId, UUID personId) {
+        return personService.getPersonVersion(personId, tenantId);
+    }
+
     @Transactional
     public Person updateProfile(
         UUID tenantId,
         UUID personId,
         @Nullable String nationality,
-        @Nullable Language preferredLanguage
+        @Nullable Language preferredLanguage,
+        @Nullable Long expectedVersion
     ) {
-        var command = new UpdatePersonCommand(tenantId, personId, nationality, preferredLanguage);
+        var command = new UpdatePersonCommand(tenantId, personId, nationality, preferredLanguage, expectedVersion);
         return personService.updatePerson(command);
     }
 }
@@ -0,0 +1,84 @@
+/*
+ * Govinda ERP - Portal Quote Service
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.portal.application;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.exception.PremiumCalculationException;
+import net.voytrex.govinda.masterdata.application.PersonService;
+import net.voytrex.govinda.masterdata.domain.model.Address;
+import net.voytrex.govinda.masterdata.domain.model.HouseholdMember;
+import net.voytrex.govinda.masterdata.domain.model.Person;
+import net.voytrex.govinda.masterdata.domain.repository.HouseholdRepository;
+import net.voytrex.govinda.premium.application.QuoteMatrixService;
+import net.voytrex.govinda.premium.domain.model.HouseholdQuote;
+import net.voytrex.govinda.premium.domain.model.QuoteMember;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Franchise comparison quotes for portal users and their households.
+ *
+ * Quotes use the premium region of the user's main address on the quote
+ * date; every household member is quoted in that region with their own age
+ * group, in a single call to the quote matrix cache.
+ */
+@Service
+@Transactional(readOnly = true)
+public class PortalQuoteService {
+    private final PersonService personService;
+    private final HouseholdRepository householdRepository;
+    private final QuoteMatrixService quoteMatrixService;
+
+    public PortalQuoteService(
+        PersonService personService,
+        HouseholdRepository householdRepository,
+        QuoteMatrixService quoteMatrixService
+    ) {
+        this.personService = personService;
+        this.householdRepository = householdRepository;
+        this.quoteMatrixService = quoteMatrixService;
+    }
+
+    /**
+     * @param includeHousehold whether to quote the current members of the person's household too
+     * @throws PremiumCalculationException if the person has no main address on the date
+     */
+    public HouseholdQuote quote(
+        UUID tenantId,
+        UUID personId,
+        LocalDate date,
+        boolean withAccident,
+        boolean includeHousehold
+    ) {
+        Person person = personService.getPerson(personId, tenantId);
+        Address address = person.addressAt(date);
+        if (address == null) {
+            address = person.currentAddress();
+        }
+        if (address == null) {
+            throw new PremiumCalculationException("Person " + personId + " has no main address");
+        }
+
+        List<QuoteMember> members = new ArrayList<>();
+        members.add(new QuoteMember(personId, person.ageGroupAt(date), withAccident));
+        if (includeHousehold) {
+            var household = householdRepository.findByPersonId(personId, tenantId);
+            if (household.isPresent()) {
+                for (HouseholdMember member : household.get().currentMembers()) {
+                    if (!member.getPersonId().equals(personId)) {
+                        Person other = personService.getPerson(member.getPersonId(), tenantId);
+                        members.add(new QuoteMember(other.getId(), other.ageGroupAt(date), withAccident));
+                    }
+                }
+            }
+        }
+        return quoteMatrixService.household(tenantId, date, address.getPremiumRegionId(), members);
+    }
+}
@@ -10,6 +10,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -22,7 +24,9 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import java.util.List;
 import java.util.Locale;
 import java.util.UUID;
+import net.voytrex.govinda.common.api.ETags;
 import net.voytrex.govinda.common.api.GlobalExceptionHandler;
+import net.voytrex.govinda.common.domain.model.EntityVersion;
 import net.voytrex.govinda.cases.application.CaseService;
 import net.voytrex.govinda.portal.application.PortalIdentityService;
 import net.voytrex.govinda.cases.domain.model.Case;
@@ -149,7 +153,26 @@ class PortalCaseControllerTest {
                 )
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].id").value(caseId.toString()))
-                .andExpect(jsonPath("$[0].subject").value("Address change"));
+                .andExpect(jsonPath("$[0].subject").value("Address change"))
+                .andExpect(header().string("ETag", ETags.ofAll(List.of(new EntityVersion(caseId, 0L)))));
+        }
+
+        @Test
+        @DisplayName("should return 304 without loading cases when ETag matches")
+        void should_return304_when_ifNoneMatchIsCurrent() throws Exception {
+            var versions = List.of(new EntityVersion(UUID.randomUUID(), 2L));
+            when(portalIdentityService.resolvePersonId(eq(tenantId), eq(subject))).thenReturn(personId);
+            when(caseService.listCaseVersions(tenantId, personId)).thenReturn(versions);
+
+            mockMvc.perform(
+                    get("/api/portal/v1/cases")
+                        .header("X-Tenant-Id", tenantId.toString())
+                        .header("X-Portal-Subject", subject)
+                        .header("If-None-Match", ETags.ofAll(versions))
+                )
+                .andExpect(status().isNotModified());
+
+            verify(caseService, never()).listCases(any(), any());
         }
     }
 }
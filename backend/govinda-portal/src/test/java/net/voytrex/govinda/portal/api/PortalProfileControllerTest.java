@@ -9,10 +9,14 @@ package net.voytrex.govinda.portal.api;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -23,6 +27,7 @@ import java.util.Locale;
 import java.util.UUID;
 import net.voytrex.govinda.common.api.GlobalExceptionHandler;
 import net.voytrex.govinda.common.domain.exception.EntityNotFoundException;
+import net.voytrex.govinda.common.domain.exception.PreconditionFailedException;
 import net.voytrex.govinda.common.domain.model.AhvNumber;
 import net.voytrex.govinda.common.domain.model.Gender;
 import net.voytrex.govinda.common.domain.model.Language;
@@ -106,7 +111,44 @@ class PortalProfileControllerTest {
                 .andExpect(jsonPath("$.lastName").value("Müller"))
                 .andExpect(jsonPath("$.fullName").value("Hans Müller"))
                 .andExpect(jsonPath("$.preferredLanguage").value("DE"))
-                .andExpect(jsonPath("$.status").value("ACTIVE"));
+                .andExpect(jsonPath("$.status").value("ACTIVE"))
+                .andExpect(header().string("ETag", "\"" + personId + "-v0\""));
+        }
+
+        @Test
+        @DisplayName("should return 304 without loading the person when ETag matches")
+        void should_return304_when_ifNoneMatchIsCurrent() throws Exception {
+            when(portalIdentityService.resolvePersonId(eq(tenantId), eq(subject))).thenReturn(personId);
+            when(portalProfileService.getProfileVersion(tenantId, personId)).thenReturn(3L);
+
+            mockMvc.perform(
+                    get("/api/portal/v1/profile")
+                        .header("X-Tenant-Id", tenantId.toString())
+                        .header("X-Portal-Subject", subject)
+                        .header("If-None-Match", "\"" + personId + "-v3\"")
+                )
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"" + personId + "-v3\""));
+
+            verify(portalProfileService, never()).getProfile(any(), any());
+        }
+
+        @Test
+        @DisplayName("should return full profile when ETag is stale")
+        void should_returnProfile_when_ifNoneMatchIsStale() throws Exception {
+            var person = createTestPerson();
+            when(portalIdentityService.resolvePersonId(eq(tenantId), eq(subject))).thenReturn(personId);
+            when(portalProfileService.getProfileVersion(tenantId, personId)).thenReturn(0L);
+            when(portalProfileService.getProfile(eq(tenantId), eq(personId))).thenReturn(person);
+
+            mockMvc.perform(
+                    get("/api/portal/v1/profile")
+                        .header("X-Tenant-Id", tenantId.toString())
+                        .header("X-Portal-Subject", subject)
+                        .header("If-None-Match", "\"" + personId + "-v7\"")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(personId.toString()));
         }
 
         @Test
@@ -135,7 +177,7 @@ class PortalProfileControllerTest {
         void should_updateProfile_when_validRequest() throws Exception {
             var person = createUpdatedPerson();
             when(portalIdentityService.resolvePersonId(eq(tenantId), eq(subject))).thenReturn(personId);
-            when(portalProfileService.updateProfile(eq(tenantId), eq(personId), eq("DEU"), eq(Language.FR)))
+            when(portalProfileService.updateProfile(eq(tenantId), eq(personId), eq("DEU"), eq(Language.FR), isNull()))
                 .thenReturn(person);
 
             var request = new PortalProfileUpdateRequest("DEU", Language.FR);
@@ -152,6 +194,27 @@ class PortalProfileControllerTest {
                 .andExpect(jsonPath("$.preferredLanguage").value("FR"))
                 .andExpect(jsonPath("$.nationality").value("DEU"));
         }
+
+        @Test
+        @DisplayName("should return 412 when If-Match version is stale")
+        void should_return412_when_ifMatchIsStale() throws Exception {
+            when(portalIdentityService.resolvePersonId(eq(tenantId), eq(subject))).thenReturn(personId);
+            when(portalProfileService.updateProfile(eq(tenantId), eq(personId), eq("DEU"), eq(Language.FR), eq(2L)))
+                .thenThrow(new PreconditionFailedException("Person", personId, 2L, 5L));
+
+            var request = new PortalProfileUpdateRequest("DEU", Language.FR);
+
+            mockMvc.perform(
+                    patch("/api/portal/v1/profile")
+                        .header("X-Tenant-Id", tenantId.toString())
+                        .header("X-Portal-Subject", subject)
+                        .header("If-Match", "\"" + personId + "-v2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                )
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.errorCode").value("PRECONDITION_FAILED"));
+        }
     }
 
     private Person createTestPerson() {
@@ -84,7 +84,7 @@ class PortalProfileServiceTest {
 
         var service = new PortalProfileService(personService);
 
-        var result = service.updateProfile(tenantId, personId, "DEU", Language.FR);
+        var result = service.updateProfile(tenantId, personId, "DEU", Language.FR, null);
 
         assertThat(result).isEqualTo(person);
         var captor = ArgumentCaptor.forClass(UpdatePersonCommand.class);
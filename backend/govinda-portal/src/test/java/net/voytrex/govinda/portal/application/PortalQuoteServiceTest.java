@@ -0,0 +1,134 @@
+/*
+ * Govinda ERP - Portal Quote Service Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.portal.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.exception.PremiumCalculationException;
+import net.voytrex.govinda.common.domain.model.AddressType;
+import net.voytrex.govinda.common.domain.model.AgeGroup;
+import net.voytrex.govinda.common.domain.model.AhvNumber;
+import net.voytrex.govinda.common.domain.model.Canton;
+import net.voytrex.govinda.common.domain.model.Gender;
+import net.voytrex.govinda.common.domain.model.HouseholdRole;
+import net.voytrex.govinda.common.domain.model.Language;
+import net.voytrex.govinda.common.domain.model.MaritalStatus;
+import net.voytrex.govinda.masterdata.application.PersonService;
+import net.voytrex.govinda.masterdata.domain.model.Address;
+import net.voytrex.govinda.masterdata.domain.model.Household;
+import net.voytrex.govinda.masterdata.domain.model.Person;
+import net.voytrex.govinda.masterdata.domain.repository.HouseholdRepository;
+import net.voytrex.govinda.premium.application.QuoteMatrixService;
+import net.voytrex.govinda.premium.domain.model.HouseholdQuote;
+import net.voytrex.govinda.premium.domain.model.QuoteMember;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PortalQuoteServiceTest {
+    private static final LocalDate DATE = LocalDate.of(2027, 1, 1);
+
+    @Mock
+    private PersonService personService;
+
+    @Mock
+    private HouseholdRepository householdRepository;
+
+    @Mock
+    private QuoteMatrixService quoteMatrixService;
+
+    private final UUID tenantId = UUID.randomUUID();
+    private final UUID regionId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("should quote every current household member in the user's premium region")
+    @SuppressWarnings("unchecked")
+    void should_quoteHousehold_when_personHasHousehold() {
+        var parent = person("Anna", LocalDate.of(1985, 3, 15));
+        parent.addAddress(address(parent.getId()), null);
+        var child = person("Lea", LocalDate.of(2015, 6, 1));
+        var household = new Household(tenantId, "Muster");
+        household.addMember(parent.getId(), HouseholdRole.PRIMARY, LocalDate.of(2015, 1, 1));
+        household.addMember(child.getId(), HouseholdRole.CHILD, LocalDate.of(2015, 6, 1));
+        when(personService.getPerson(parent.getId(), tenantId)).thenReturn(parent);
+        when(personService.getPerson(child.getId(), tenantId)).thenReturn(child);
+        when(householdRepository.findByPersonId(parent.getId(), tenantId)).thenReturn(Optional.of(household));
+        when(quoteMatrixService.household(eq(tenantId), eq(DATE), eq(regionId), any()))
+            .thenReturn(new HouseholdQuote(List.of()));
+
+        var service = new PortalQuoteService(personService, householdRepository, quoteMatrixService);
+        service.quote(tenantId, parent.getId(), DATE, false, true);
+
+        ArgumentCaptor<List<QuoteMember>> members = ArgumentCaptor.forClass(List.class);
+        verify(quoteMatrixService).household(eq(tenantId), eq(DATE), eq(regionId), members.capture());
+        assertThat(members.getValue()).containsExactly(
+            new QuoteMember(parent.getId(), AgeGroup.ADULT, false),
+            new QuoteMember(child.getId(), AgeGroup.CHILD, false)
+        );
+    }
+
+    @Test
+    @DisplayName("should reject quote when person has no main address")
+    void should_reject_when_personHasNoAddress() {
+        var person = person("Anna", LocalDate.of(1985, 3, 15));
+        when(personService.getPerson(person.getId(), tenantId)).thenReturn(person);
+
+        var service = new PortalQuoteService(personService, householdRepository, quoteMatrixService);
+
+        assertThatThrownBy(() -> service.quote(tenantId, person.getId(), DATE, false, true))
+            .isInstanceOf(PremiumCalculationException.class);
+        verify(quoteMatrixService, never()).household(any(), any(), any(), any());
+    }
+
+    private Person person(String firstName, LocalDate dateOfBirth) {
+        var person = new Person(
+            tenantId,
+            new AhvNumber("756.1234.5678.97"),
+            "Muster",
+            firstName,
+            dateOfBirth,
+            Gender.FEMALE,
+            MaritalStatus.SINGLE,
+            "CHE",
+            Language.DE
+        );
+        person.setId(UUID.randomUUID());
+        return person;
+    }
+
+    private Address address(UUID personId) {
+        return new Address(
+            personId,
+            AddressType.MAIN,
+            "Bahnhofstrasse",
+            "1",
+            null,
+            "8001",
+            "Zürich",
+            Canton.ZH,
+            "CH",
+            regionId,
+            LocalDate.of(2010, 1, 1),
+            null,
+            UUID.randomUUID()
+        );
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Govinda ERP - Cantonal Subsidy Rules
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.application;
+
+import net.voytrex.govinda.common.domain.model.Canton;
+import net.voytrex.govinda.premium.domain.model.IncomePercentageSubsidyRule;
+import net.voytrex.govinda.premium.domain.model.SubsidyRule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Subsidy rules of cantons whose decision files carry income figures instead
+ * of granted amounts. Cantons without a rule must state the amount per decision.
+ */
+@Configuration
+public class CantonalSubsidyRules {
+
+    /**
+     * Zurich: personal contribution of 5.6% (singles) or 7.0% (married) of the relevant income.
+     */
+    @Bean
+    public SubsidyRule zurichSubsidyRule() {
+        return new IncomePercentageSubsidyRule(
+            Canton.ZH,
+            560,
+            700,
+            IncomePercentageSubsidyRule.NO_ASSET_LIMIT,
+            IncomePercentageSubsidyRule.NO_ASSET_LIMIT
+        );
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Govinda ERP - CSV Subsidy Decision Reader
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.application;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import net.voytrex.govinda.common.domain.exception.BusinessRuleViolationException;
+import net.voytrex.govinda.premium.domain.model.SubsidyDecision;
+import org.springframework.lang.Nullable;
+
+/**
+ * Reads decisions from a UTF-8 CSV file whose header names the columns in any
+ * order, separated by commas or semicolons. Blank lines are skipped.
+ */
+final class CsvSubsidyDecisionReader extends SubsidyDecisionReader {
+    private static final String INVALID_HEADER = "Subsidy file header must be valid";
+
+    private final BufferedReader reader;
+    private final Pattern separator;
+    private final Map<String, Integer> header = new HashMap<>();
+    private long lineNumber = 1;
+
+    CsvSubsidyDecisionReader(InputStream input, int maxReportedErrors) {
+        super(maxReportedErrors);
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        String headerLine = readLine();
+        if (headerLine == null || headerLine.isBlank()) {
+            throw new BusinessRuleViolationException(INVALID_HEADER, "file is empty");
+        }
+        String separatorChar = headerLine.indexOf(';') >= 0 && headerLine.indexOf(',') < 0 ? ";" : ",";
+        this.separator = Pattern.compile(Pattern.quote(separatorChar));
+        String[] names = separator.split(headerLine.strip(), -1);
+        for (int i = 0; i < names.length; i++) {
+            if (header.put(names[i].strip(), i) != null) {
+                throw new BusinessRuleViolationException(INVALID_HEADER, "duplicate column " + names[i].strip());
+            }
+        }
+        for (String column : REQUIRED) {
+            if (!header.containsKey(column)) {
+                throw new BusinessRuleViolationException(INVALID_HEADER, "missing column " + column);
+            }
+        }
+    }
+
+    @Override
+    @Nullable
+    SubsidyDecision next() {
+        for (String line = readLine(); line != null; line = readLine()) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            String[] fields = separator.split(line, -1);
+            if (fields.length != header.size()) {
+                reject("line " + lineNumber, "expected " + header.size() + " columns but found " + fields.length);
+                continue;
+            }
+            SubsidyDecision decision = decision("line " + lineNumber, name -> {
+                Integer column = header.get(name);
+                return column != null ? fields[column].strip() : "";
+            });
+            if (decision != null) {
+                return decision;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    @Nullable
+    private String readLine() {
+        try {
+            return reader.readLine();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not read subsidy file", ex);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Govinda ERP - Household Pricing Service
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.application;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import net.voytrex.govinda.common.domain.exception.EntityNotFoundException;
+import net.voytrex.govinda.common.domain.exception.PremiumCalculationException;
+import net.voytrex.govinda.common.domain.model.AgeGroup;
+import net.voytrex.govinda.common.domain.model.HouseholdRole;
+import net.voytrex.govinda.common.domain.model.ProductType;
+import net.voytrex.govinda.common.domain.model.Rappen;
+import net.voytrex.govinda.premium.domain.model.HouseholdMemberCoverage;
+import net.voytrex.govinda.premium.domain.model.HouseholdPremium;
+import net.voytrex.govinda.premium.domain.repository.HouseholdPricingRepository;
+import net.voytrex.govinda.product.domain.model.PremiumRegionIndex;
+import net.voytrex.govinda.product.domain.model.PremiumTable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Prices all current members of a household together, including child discounts.
+ *
+ * A household's members, their age, premium region and coverages are read
+ * with one query instead of loading the household, every member and every
+ * address separately. Tenant runs stream all households through one cursor
+ * and resolve the tariffs once.
+ *
+ * Child discounts are configured by rank ({@code govinda.premium.household.child-discounts},
+ * in percent): the n-th child of a household gets the n-th value, children
+ * beyond the list the last one. Only members in the {@link HouseholdRole#CHILD}
+ * role who are in the {@link AgeGroup#CHILD} age group are ranked, oldest
+ * first. Discounts are rounded to 5 Rappen.
+ */
+@Service
+@Transactional(readOnly = true)
+public class HouseholdPricingService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(HouseholdPricingService.class);
+
+    private final PremiumEngine premiumEngine;
+    private final HouseholdPricingRepository householdPricingRepository;
+    private final int[] childDiscountPercents;
+
+    public HouseholdPricingService(
+        PremiumEngine premiumEngine,
+        HouseholdPricingRepository householdPricingRepository,
+        @Value("${govinda.premium.household.child-discounts:0}") int[] childDiscountPercents
+    ) {
+        if (childDiscountPercents.length == 0) {
+            throw new IllegalArgumentException("At least one child discount is required");
+        }
+        for (int percent : childDiscountPercents) {
+            if (percent < 0 || percent > 100) {
+                throw new IllegalArgumentException("Child discounts must be between 0 and 100 percent");
+            }
+        }
+        this.premiumEngine = premiumEngine;
+        this.householdPricingRepository = householdPricingRepository;
+        this.childDiscountPercents = childDiscountPercents.clone();
+    }
+
+    /**
+     * Prices one household.
+     *
+     * @throws EntityNotFoundException if the household does not exist or has no current members
+     * @throws PremiumCalculationException if a product has more than one active tariff on the date
+     */
+    public HouseholdPremium price(UUID tenantId, UUID householdId, LocalDate date) {
+        List<HouseholdMemberCoverage> rows = householdPricingRepository.findHousehold(tenantId, householdId, date);
+        if (rows.isEmpty()) {
+            throw new EntityNotFoundException("Household", householdId);
+        }
+        return price(rows, date, premiumEngine.tablesByProduct(tenantId, date), premiumEngine.regions());
+    }
+
+    /**
+     * Prices every household of a tenant, handing each result to the action.
+     *
+     * @return the number of households priced
+     * @throws PremiumCalculationException if a product has more than one active tariff on the date
+     */
+    public long priceTenant(UUID tenantId, LocalDate date, Consumer<HouseholdPremium> action) {
+        long started = System.nanoTime();
+        Map<UUID, PremiumTable> tables = premiumEngine.tablesByProduct(tenantId, date);
+        PremiumRegionIndex regions = premiumEngine.regions();
+        long[] households = new long[1];
+        householdPricingRepository.forEachHousehold(tenantId, date, rows -> {
+            action.accept(price(rows, date, tables, regions));
+            households[0]++;
+        });
+        LOGGER.info(
+            "Priced {} households of tenant {} for {} in {} ms",
+            households[0],
+            tenantId,
+            date,
+            (System.nanoTime() - started) / 1_000_000
+        );
+        return households[0];
+    }
+
+    private HouseholdPremium price(
+        List<HouseholdMemberCoverage> rows,
+        LocalDate date,
+        Map<UUID, PremiumTable> tables,
+        PremiumRegionIndex regions
+    ) {
+        List<HouseholdPremium.MemberPremium> members = new ArrayList<>();
+        int childCount = 0;
+        int childRank = 0;
+        long gross = 0;
+        long discount = 0;
+        int start = 0;
+        while (start < rows.size()) {
+            HouseholdMemberCoverage member = rows.get(start);
+            int end = start + 1;
+            while (end < rows.size() && rows.get(end).personId().equals(member.personId())) {
+                end++;
+            }
+            AgeGroup ageGroup = AgeGroup.forAge(Period.between(member.dateOfBirth(), date).getYears());
+            int percent = 0;
+            if (member.role() == HouseholdRole.CHILD) {
+                childCount++;
+                if (ageGroup == AgeGroup.CHILD) {
+                    percent = childDiscountPercents[Math.min(childRank++, childDiscountPercents.length - 1)];
+                }
+            }
+            List<HouseholdPremium.CoveragePremium> coverages = new ArrayList<>(end - start);
+            for (int row = start; row < end; row++) {
+                HouseholdMemberCoverage coverage = rows.get(row);
+                UUID coverageId = coverage.coverageId();
+                UUID productId = coverage.productId();
+                if (coverageId == null || productId == null) {
+                    continue;
+                }
+                PremiumTable table = tables.get(productId);
+                long premium = table == null ? PremiumTable.NO_PREMIUM : lookup(table, coverage, regions, ageGroup);
+                long coverageDiscount = premium == PremiumTable.NO_PREMIUM || percent == 0
+                    ? 0
+                    : Rappen.roundTo5(Rappen.multiply(premium, percent, 100));
+                if (premium != PremiumTable.NO_PREMIUM) {
+                    gross = Math.addExact(gross, premium);
+                    discount = Math.addExact(discount, coverageDiscount);
+                }
+                coverages.add(new HouseholdPremium.CoveragePremium(
+                    coverageId, productId, table == null ? null : table.getTariffId(), premium, coverageDiscount
+                ));
+            }
+            members.add(new HouseholdPremium.MemberPremium(
+                member.personId(), member.role(), ageGroup, percent, coverages
+            ));
+            start = end;
+        }
+        return new HouseholdPremium(rows.get(0).householdId(), date, childCount, members, gross, discount);
+    }
+
+    private static long lookup(
+        PremiumTable table,
+        HouseholdMemberCoverage coverage,
+        PremiumRegionIndex regions,
+        AgeGroup ageGroup
+    ) {
+        UUID premiumRegionId = coverage.premiumRegionId();
+        int region = premiumRegionId == null ? PremiumRegionIndex.UNKNOWN : regions.indexOf(premiumRegionId);
+        if (region == PremiumRegionIndex.UNKNOWN) {
+            return PremiumTable.NO_PREMIUM;
+        }
+        if (table.getProductType() == ProductType.VVG) {
+            return table.premium(region, ageGroup, coverage.gender());
+        }
+        return coverage.franchise() == null
+            ? PremiumTable.NO_PREMIUM
+            : table.premium(region, ageGroup, coverage.franchise(), coverage.withAccident());
+    }
+}
@@ -0,0 +1,348 @@
+/*
+ * Govinda ERP - Portfolio Simulation Service
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.application;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import net.voytrex.govinda.common.domain.exception.EntityNotFoundException;
+import net.voytrex.govinda.common.domain.exception.PremiumCalculationException;
+import net.voytrex.govinda.common.domain.model.AgeGroup;
+import net.voytrex.govinda.common.domain.model.Canton;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.common.domain.model.InsuranceModel;
+import net.voytrex.govinda.common.domain.model.ProductType;
+import net.voytrex.govinda.premium.domain.model.PortfolioSimulation;
+import net.voytrex.govinda.premium.domain.model.PortfolioSnapshot;
+import net.voytrex.govinda.premium.domain.model.SimulationFigures;
+import net.voytrex.govinda.premium.domain.repository.PortfolioSnapshotRepository;
+import net.voytrex.govinda.product.domain.model.PremiumRegionIndex;
+import net.voytrex.govinda.product.domain.model.PremiumTable;
+import net.voytrex.govinda.product.domain.model.Product;
+import net.voytrex.govinda.product.domain.model.Tariff;
+import net.voytrex.govinda.product.domain.model.TariffStatus;
+import net.voytrex.govinda.product.domain.repository.TariffRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * What-if pricing of the insured portfolio with draft tariffs.
+ *
+ * A {@link PortfolioSnapshot} is loaded once per tenant, product set and date
+ * and can be priced against any number of scenarios. Pricing splits the
+ * snapshot with fork-join into ranges of {@value #SPLIT_THRESHOLD} coverages;
+ * each range sums its coverages into a small region × age group × model cube
+ * and the cubes are merged on the way back, so no per-coverage results are
+ * kept. Premium tables are compiled with {@link PremiumEngine#preview(Tariff)}
+ * and nothing is written to the database.
+ *
+ * Snapshots and tariffs are loaded in short read-only transactions; pricing
+ * runs outside of them, so it holds no database connection.
+ */
+@Service
+public class PortfolioSimulationService {
+    static final int SPLIT_THRESHOLD = 16_384;
+    private static final Logger LOGGER = LoggerFactory.getLogger(PortfolioSimulationService.class);
+    private static final AgeGroup[] AGE_GROUPS = AgeGroup.values();
+    private static final InsuranceModel[] MODELS = InsuranceModel.values();
+    /** Model slot of products without insurance model (VVG) or without scenario tariff. */
+    private static final int NO_MODEL = MODELS.length;
+
+    private final PremiumEngine premiumEngine;
+    private final TariffRepository tariffRepository;
+    private final PortfolioSnapshotRepository portfolioSnapshotRepository;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    public PortfolioSimulationService(
+        PremiumEngine premiumEngine,
+        TariffRepository tariffRepository,
+        PortfolioSnapshotRepository portfolioSnapshotRepository,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.premiumEngine = premiumEngine;
+        this.tariffRepository = tariffRepository;
+        this.portfolioSnapshotRepository = portfolioSnapshotRepository;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Simulates one draft tariff against the portfolio of its product on the tariff's first day.
+     *
+     * @throws EntityNotFoundException if the tariff does not exist
+     * @throws IllegalStateException if the tariff is not a DRAFT
+     */
+    public PortfolioSimulation simulate(UUID tariffId) {
+        PortfolioSnapshot snapshot = readOnlyTransactionTemplate.execute(status -> {
+            Tariff tariff = draftTariff(tariffId);
+            Product product = tariff.getProduct();
+            return snapshot(product.getTenantId(), List.of(product.getId()), tariff.getValidFrom());
+        });
+        return simulate(List.of(tariffId), snapshot);
+    }
+
+    /**
+     * Loads the coverages of the products in force on the date, with age groups as of that date.
+     */
+    public PortfolioSnapshot snapshot(UUID tenantId, Collection<UUID> productIds, LocalDate date) {
+        return readOnlyTransactionTemplate.execute(status -> load(tenantId, productIds, date));
+    }
+
+    private PortfolioSnapshot load(UUID tenantId, Collection<UUID> productIds, LocalDate date) {
+        long started = System.nanoTime();
+        List<UUID> products = List.copyOf(new LinkedHashSet<>(productIds));
+        Map<UUID, Integer> productIndex = new HashMap<>();
+        for (int i = 0; i < products.size(); i++) {
+            productIndex.put(products.get(i), i);
+        }
+        PremiumRegionIndex regions = premiumEngine.regions();
+        PortfolioSnapshot.Builder builder = PortfolioSnapshot.builder(tenantId, date, regions, products);
+        portfolioSnapshotRepository.forEachCoverage(tenantId, products, date, coverage -> builder.add(
+            productIndex.get(coverage.productId()),
+            regions.indexOf(coverage.premiumRegionId()),
+            AgeGroup.forAge(Period.between(coverage.dateOfBirth(), date).getYears()),
+            coverage.franchise(),
+            coverage.withAccident(),
+            coverage.gender(),
+            coverage.monthlyPremium()
+        ));
+        PortfolioSnapshot snapshot = builder.build();
+        LOGGER.info(
+            "Loaded portfolio snapshot of {} coverages for {} products on {} in {} ms",
+            snapshot.size(),
+            products.size(),
+            date,
+            (System.nanoTime() - started) / 1_000_000
+        );
+        return snapshot;
+    }
+
+    /**
+     * Prices a snapshot with the given draft tariffs, at most one per product. Coverages
+     * of snapshot products without a tariff in the scenario count as unpriced.
+     *
+     * @throws EntityNotFoundException if a tariff does not exist
+     * @throws IllegalStateException if a tariff is not a DRAFT
+     * @throws PremiumCalculationException if a tariff does not match the snapshot
+     */
+    public PortfolioSimulation simulate(Collection<UUID> tariffIds, PortfolioSnapshot snapshot) {
+        long started = System.nanoTime();
+        Scenario scenario = readOnlyTransactionTemplate.execute(status -> scenario(tariffIds, snapshot));
+        Cube cube = ForkJoinPool.commonPool().invoke(
+            new PricingTask(snapshot, scenario.tables(), scenario.models(), 0, snapshot.size())
+        );
+        PortfolioSimulation simulation = cube.toSimulation(snapshot, List.copyOf(tariffIds), started);
+        LOGGER.info(
+            "Simulated {} coverages with tariffs {} in {} ms: monthly delta {} Rappen",
+            snapshot.size(),
+            tariffIds,
+            simulation.elapsed().toMillis(),
+            simulation.total().delta()
+        );
+        return simulation;
+    }
+
+    /**
+     * Compiles the premium table and model slot of each snapshot product from the scenario's tariffs.
+     */
+    private Scenario scenario(Collection<UUID> tariffIds, PortfolioSnapshot snapshot) {
+        List<UUID> products = snapshot.getProductIds();
+        PremiumTable[] tables = new PremiumTable[products.size()];
+        int[] models = new int[products.size()];
+        Arrays.fill(models, NO_MODEL);
+        for (UUID tariffId : tariffIds) {
+            Tariff tariff = draftTariff(tariffId);
+            Product product = tariff.getProduct();
+            int index = products.indexOf(product.getId());
+            if (!product.getTenantId().equals(snapshot.getTenantId()) || index < 0) {
+                throw new PremiumCalculationException(
+                    "Portfolio snapshot does not contain product " + product.getCode()
+                        + " of tariff " + tariff.getCode()
+                );
+            }
+            if (tables[index] != null) {
+                throw new PremiumCalculationException("More than one tariff for product " + product.getCode());
+            }
+            tables[index] = premiumEngine.preview(tariff);
+            InsuranceModel model = product.getInsuranceModel();
+            models[index] = product.getProductType() == ProductType.KVG && model != null ? model.ordinal() : NO_MODEL;
+        }
+        return new Scenario(tables, models);
+    }
+
+    private Tariff draftTariff(UUID tariffId) {
+        Tariff tariff = tariffRepository.findById(tariffId)
+            .orElseThrow(() -> new EntityNotFoundException("Tariff", tariffId));
+        if (tariff.getStatus() != TariffStatus.DRAFT) {
+            throw new IllegalStateException("Only DRAFT tariffs can be simulated: " + tariff.getCode());
+        }
+        return tariff;
+    }
+
+    /**
+     * Premium table, or {@code null}, and model slot per snapshot product.
+     */
+    private record Scenario(PremiumTable[] tables, int[] models) {
+    }
+
+    /**
+     * Prices a range of snapshot rows, splitting it while it is larger than {@link #SPLIT_THRESHOLD}.
+     */
+    private static final class PricingTask extends RecursiveTask<Cube> {
+        private final PortfolioSnapshot snapshot;
+        private final PremiumTable[] tables;
+        private final int[] models;
+        private final int from;
+        private final int to;
+
+        PricingTask(PortfolioSnapshot snapshot, PremiumTable[] tables, int[] models, int from, int to) {
+            this.snapshot = snapshot;
+            this.tables = tables;
+            this.models = models;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Cube compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                Cube cube = new Cube(snapshot.getRegions().size());
+                for (int row = from; row < to; row++) {
+                    price(cube, row);
+                }
+                return cube;
+            }
+            int middle = (from + to) >>> 1;
+            PricingTask left = new PricingTask(snapshot, tables, models, from, middle);
+            left.fork();
+            Cube right = new PricingTask(snapshot, tables, models, middle, to).compute();
+            return left.join().merge(right);
+        }
+
+        private void price(Cube cube, int row) {
+            int product = snapshot.product(row);
+            PremiumTable table = tables[product];
+            int region = snapshot.region(row);
+            AgeGroup ageGroup = snapshot.ageGroup(row);
+            long premium = PremiumTable.NO_PREMIUM;
+            if (table != null && region != PremiumRegionIndex.UNKNOWN) {
+                if (table.getProductType() == ProductType.KVG) {
+                    Franchise franchise = snapshot.franchise(row);
+                    if (franchise != null) {
+                        premium = table.premium(region, ageGroup, franchise, snapshot.withAccident(row));
+                    }
+                } else {
+                    premium = table.premium(region, ageGroup, snapshot.gender(row));
+                }
+            }
+            cube.add(region, ageGroup.ordinal(), models[product], snapshot.currentPremium(row), premium);
+        }
+    }
+
+    /**
+     * Sums per region (plus one slot for unknown regions) × age group × model (plus {@link #NO_MODEL}).
+     */
+    private static final class Cube {
+        private final int regions;
+        private final long[] coverages;
+        private final long[] unpriced;
+        private final long[] current;
+        private final long[] simulated;
+
+        Cube(int regions) {
+            this.regions = regions;
+            int cells = (regions + 1) * AGE_GROUPS.length * (MODELS.length + 1);
+            this.coverages = new long[cells];
+            this.unpriced = new long[cells];
+            this.current = new long[cells];
+            this.simulated = new long[cells];
+        }
+
+        void add(int region, int ageGroup, int model, long currentPremium, long simulatedPremium) {
+            int cell = cell(region == PremiumRegionIndex.UNKNOWN ? regions : region, ageGroup, model);
+            coverages[cell]++;
+            if (simulatedPremium == PremiumTable.NO_PREMIUM) {
+                unpriced[cell]++;
+            } else {
+                current[cell] += currentPremium;
+                simulated[cell] += simulatedPremium;
+            }
+        }
+
+        Cube merge(Cube other) {
+            for (int cell = 0; cell < coverages.length; cell++) {
+                coverages[cell] += other.coverages[cell];
+                unpriced[cell] += other.unpriced[cell];
+                current[cell] += other.current[cell];
+                simulated[cell] += other.simulated[cell];
+            }
+            return this;
+        }
+
+        PortfolioSimulation toSimulation(PortfolioSnapshot snapshot, List<UUID> tariffIds, long started) {
+            PremiumRegionIndex regionIndex = snapshot.getRegions();
+            SimulationFigures total = SimulationFigures.EMPTY;
+            Map<Canton, SimulationFigures> byCanton = new EnumMap<>(Canton.class);
+            Map<UUID, SimulationFigures> byRegion = new LinkedHashMap<>();
+            Map<AgeGroup, SimulationFigures> byAgeGroup = new EnumMap<>(AgeGroup.class);
+            Map<InsuranceModel, SimulationFigures> byModel = new EnumMap<>(InsuranceModel.class);
+            for (int region = 0; region <= regions; region++) {
+                SimulationFigures regionFigures = SimulationFigures.EMPTY;
+                for (int ageGroup = 0; ageGroup < AGE_GROUPS.length; ageGroup++) {
+                    for (int model = 0; model <= MODELS.length; model++) {
+                        int cell = cell(region, ageGroup, model);
+                        if (coverages[cell] == 0) {
+                            continue;
+                        }
+                        SimulationFigures figures = new SimulationFigures(
+                            coverages[cell], unpriced[cell], current[cell], simulated[cell]
+                        );
+                        total = total.plus(figures);
+                        regionFigures = regionFigures.plus(figures);
+                        byAgeGroup.merge(AGE_GROUPS[ageGroup], figures, SimulationFigures::plus);
+                        if (model < MODELS.length) {
+                            byModel.merge(MODELS[model], figures, SimulationFigures::plus);
+                        }
+                    }
+                }
+                if (region < regions && regionFigures.coverages() > 0) {
+                    byRegion.put(regionIndex.regionId(region), regionFigures);
+                    byCanton.merge(regionIndex.canton(region), regionFigures, SimulationFigures::plus);
+                }
+            }
+            return new PortfolioSimulation(
+                snapshot.getTenantId(),
+                snapshot.getDate(),
+                tariffIds,
+                total,
+                byCanton,
+                byRegion,
+                byAgeGroup,
+                byModel,
+                Duration.ofNanos(System.nanoTime() - started)
+            );
+        }
+
+        private int cell(int region, int ageGroup, int model) {
+            return (region * AGE_GROUPS.length + ageGroup) * (MODELS.length + 1) + model;
+        }
+    }
+}
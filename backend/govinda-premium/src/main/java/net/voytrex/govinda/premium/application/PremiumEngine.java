@@ -0,0 +1,114 @@
+/*
+ * Govinda ERP - Premium Engine
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.application;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.exception.PremiumCalculationException;
+import net.voytrex.govinda.common.domain.model.InsuranceModel;
+import net.voytrex.govinda.common.domain.model.ProductType;
+import net.voytrex.govinda.premium.domain.model.PremiumBook;
+import net.voytrex.govinda.product.application.TariffRegistry;
+import net.voytrex.govinda.product.domain.model.PremiumRegionIndex;
+import net.voytrex.govinda.product.domain.model.PremiumTable;
+import net.voytrex.govinda.product.domain.model.Product;
+import net.voytrex.govinda.product.domain.model.Tariff;
+import net.voytrex.govinda.product.domain.model.TariffStatus;
+import net.voytrex.govinda.product.domain.repository.TariffRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Premium calculation engine backed by compiled, in-memory premium tables.
+ *
+ * Compiled tables come from the {@link TariffRegistry}, which compiles each
+ * active tariff once and swaps new tables in atomically on activation.
+ * Callers obtain a {@link PremiumBook} per tenant and date and quote against
+ * it without further database access.
+ */
+@Service
+public class PremiumEngine {
+    private final TariffRepository tariffRepository;
+    private final TariffRegistry tariffRegistry;
+
+    public PremiumEngine(TariffRepository tariffRepository, TariffRegistry tariffRegistry) {
+        this.tariffRepository = tariffRepository;
+        this.tariffRegistry = tariffRegistry;
+    }
+
+    /**
+     * Premium region dictionary shared by all compiled tables.
+     */
+    public PremiumRegionIndex regions() {
+        return tariffRegistry.regions();
+    }
+
+    /**
+     * Returns the compiled premium table of an active tariff, compiling it on first use.
+     */
+    public PremiumTable table(Tariff tariff) {
+        if (tariff.getStatus() != TariffStatus.ACTIVE) {
+            throw new PremiumCalculationException("Tariff " + tariff.getCode() + " is not active");
+        }
+        return tariffRegistry.table(tariff);
+    }
+
+    /**
+     * Compiles the premium table of a tariff in any status, e.g. a draft under
+     * simulation. The table is not cached because a draft's entries may still change.
+     */
+    public PremiumTable preview(Tariff tariff) {
+        return tariffRegistry.compile(tariff);
+    }
+
+    /**
+     * Builds the KVG premium book of a tenant for a date from its active tariffs.
+     *
+     * @throws PremiumCalculationException if two active tariffs cover the same insurance model
+     */
+    @Transactional(readOnly = true)
+    public PremiumBook kvgBook(UUID tenantId, LocalDate date) {
+        PremiumTable[] tablesByModel = new PremiumTable[InsuranceModel.values().length];
+        for (Tariff tariff : tariffRepository.findActiveOn(tenantId, ProductType.KVG, date)) {
+            Product product = tariff.getProduct();
+            InsuranceModel model = product.getInsuranceModel();
+            if (model == null) {
+                throw new PremiumCalculationException("KVG product " + product.getCode() + " has no insurance model");
+            }
+            if (tablesByModel[model.ordinal()] != null) {
+                throw new PremiumCalculationException(
+                    "More than one active KVG tariff for model " + model + " on " + date
+                );
+            }
+            tablesByModel[model.ordinal()] = table(tariff);
+        }
+        return new PremiumBook(tenantId, date, regions(), tablesByModel);
+    }
+
+    /**
+     * Compiled tables of a tenant's active tariffs on a date, by product id.
+     *
+     * @throws PremiumCalculationException if a product has more than one active tariff on the date
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, PremiumTable> tablesByProduct(UUID tenantId, LocalDate date) {
+        Map<UUID, PremiumTable> tables = new HashMap<>();
+        for (ProductType productType : ProductType.values()) {
+            for (Tariff tariff : tariffRepository.findActiveOn(tenantId, productType, date)) {
+                PremiumTable previous = tables.put(tariff.getProduct().getId(), table(tariff));
+                if (previous != null) {
+                    throw new PremiumCalculationException(
+                        "More than one active tariff for product " + tariff.getProduct().getCode() + " on " + date
+                    );
+                }
+            }
+        }
+        return tables;
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * Govinda ERP - Premium Recalculation Job
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.application;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.exception.PremiumCalculationException;
+import net.voytrex.govinda.common.domain.model.AgeGroup;
+import net.voytrex.govinda.common.domain.model.ProductType;
+import net.voytrex.govinda.common.infrastructure.batch.BatchCheckpoint;
+import net.voytrex.govinda.common.infrastructure.batch.BatchRun;
+import net.voytrex.govinda.common.infrastructure.batch.BatchRunStore;
+import net.voytrex.govinda.common.infrastructure.batch.ChunkedBatchRunner;
+import net.voytrex.govinda.premium.domain.model.CoverageSnapshot;
+import net.voytrex.govinda.premium.domain.model.PremiumRecalculationReport;
+import net.voytrex.govinda.premium.domain.model.RecalculatedPremium;
+import net.voytrex.govinda.premium.domain.model.RecalculationOutcome;
+import net.voytrex.govinda.premium.domain.model.RecalculationPartition;
+import net.voytrex.govinda.premium.domain.repository.PremiumRecalculationRepository;
+import net.voytrex.govinda.product.domain.model.PremiumRegionIndex;
+import net.voytrex.govinda.product.domain.model.PremiumTable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Annual premium update (PREMIUM_UPDATE): recalculates the premium of every
+ * coverage in force on the target date against the tariffs valid on that date.
+ *
+ * The portfolio is split into partitions of one tenant and premium region.
+ * Partitions run concurrently on virtual threads, at most
+ * {@code govinda.premium.recalculation.parallelism} at a time so the job never
+ * holds more connections than that. Each partition is read in keyset chunks;
+ * the results of a chunk and the partition checkpoint are committed in one
+ * transaction. Running the job again for the same target date resumes an
+ * interrupted or failed run from its last committed chunks.
+ *
+ * Results are staged in {@code premium_recalculation_result}; coverages are
+ * not modified until the update takes effect.
+ */
+@Service
+public class PremiumRecalculationJob {
+    public static final String JOB_NAME = "PREMIUM_UPDATE";
+    private static final Logger LOGGER = LoggerFactory.getLogger(PremiumRecalculationJob.class);
+    private static final RecalculationOutcome[] OUTCOMES = RecalculationOutcome.values();
+
+    private final PremiumEngine premiumEngine;
+    private final PremiumRecalculationRepository recalculationRepository;
+    private final BatchRunStore batchRunStore;
+    private final ChunkedBatchRunner runner;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    // CHECKSTYLE:OFF: ParameterNumber - Spring constructor injection
+    public PremiumRecalculationJob(
+        PremiumEngine premiumEngine,
+        PremiumRecalculationRepository recalculationRepository,
+        BatchRunStore batchRunStore,
+        PlatformTransactionManager transactionManager,
+        @Value("${govinda.premium.recalculation.parallelism:4}") int parallelism,
+        @Value("${govinda.premium.recalculation.chunk-size:1000}") int chunkSize
+    ) {
+        // CHECKSTYLE:ON: ParameterNumber
+        if (parallelism < 1 || chunkSize < 1) {
+            throw new IllegalArgumentException("parallelism and chunk size must be positive");
+        }
+        this.premiumEngine = premiumEngine;
+        this.recalculationRepository = recalculationRepository;
+        this.batchRunStore = batchRunStore;
+        this.runner = new ChunkedBatchRunner(batchRunStore, JOB_NAME, parallelism);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Recalculates all premiums for a target date, resuming an unfinished run for that date.
+     *
+     * @throws PremiumCalculationException if a product has more than one active tariff on the date
+     */
+    public PremiumRecalculationReport run(LocalDate targetDate) {
+        PremiumRecalculationReport report = runner.run(targetDate.toString(), run -> execute(run, targetDate));
+        LOGGER.info(
+            "Premium recalculation {} for {}: {} coverages ({} resumed) in {} partitions ({} skipped)"
+                + " in {} ms, {} coverages/s",
+            report.runId(),
+            targetDate,
+            report.processed(),
+            report.resumed(),
+            report.partitions(),
+            report.skippedPartitions(),
+            report.elapsed().toMillis(),
+            Math.round(report.coveragesPerSecond())
+        );
+        return report;
+    }
+
+    private PremiumRecalculationReport execute(BatchRun run, LocalDate targetDate) throws IOException {
+        long started = System.nanoTime();
+        List<RecalculationPartition> partitions = recalculationRepository.findPartitions(targetDate);
+        Map<UUID, Map<UUID, PremiumTable>> tablesByTenant = new HashMap<>();
+        for (RecalculationPartition partition : partitions) {
+            tablesByTenant.computeIfAbsent(
+                partition.tenantId(),
+                tenantId -> premiumEngine.tablesByProduct(tenantId, targetDate)
+            );
+        }
+        PremiumRegionIndex regions = premiumEngine.regions();
+
+        long[] outcomes = new long[OUTCOMES.length];
+        long[] processed = new long[1];
+        int[] skipped = new int[1];
+        runner.<RecalculationPartition, PartitionResult>process(
+            sink -> {
+                for (RecalculationPartition partition : partitions) {
+                    BatchCheckpoint checkpoint = run.checkpoint(partition.key());
+                    if (checkpoint.completed()) {
+                        skipped[0]++;
+                        processed[0] += checkpoint.processed();
+                    } else {
+                        sink.submit(partition.key(), partition);
+                    }
+                }
+            },
+            (key, partition) -> process(
+                run.checkpoint(key),
+                partition,
+                tablesByTenant.get(partition.tenantId()),
+                regions.indexOf(partition.premiumRegionId()),
+                targetDate
+            ),
+            result -> {
+                processed[0] += result.processed();
+                for (int i = 0; i < outcomes.length; i++) {
+                    outcomes[i] += result.outcomes()[i];
+                }
+            }
+        );
+
+        long executed = 0;
+        for (long count : outcomes) {
+            executed += count;
+        }
+        if (!run.checkpoints().isEmpty()) {
+            // Earlier executions committed results of this run; count them too
+            Map<RecalculationOutcome, Long> stored = recalculationRepository.countOutcomes(run.id());
+            for (RecalculationOutcome outcome : OUTCOMES) {
+                outcomes[outcome.ordinal()] = stored.getOrDefault(outcome, 0L);
+            }
+        }
+
+        batchRunStore.complete(run.id(), processed[0]);
+        return new PremiumRecalculationReport(
+            run.id(),
+            targetDate,
+            partitions.size(),
+            skipped[0],
+            outcomes[RecalculationOutcome.PRICED.ordinal()],
+            outcomes[RecalculationOutcome.NO_TARIFF.ordinal()],
+            outcomes[RecalculationOutcome.NO_PREMIUM.ordinal()],
+            processed[0] - executed,
+            Duration.ofNanos(System.nanoTime() - started)
+        );
+    }
+
+    // CHECKSTYLE:OFF: ParameterNumber - Partition context is passed explicitly to the worker
+    private PartitionResult process(
+        BatchCheckpoint start,
+        RecalculationPartition partition,
+        Map<UUID, PremiumTable> tables,
+        int region,
+        LocalDate targetDate
+    ) {
+        // CHECKSTYLE:ON: ParameterNumber
+        long[] outcomes = new long[OUTCOMES.length];
+        BatchCheckpoint checkpoint = start;
+        while (!checkpoint.completed()) {
+            List<CoverageSnapshot> chunk = recalculationRepository.findChunk(
+                partition, targetDate, checkpoint.lastKey(), chunkSize
+            );
+            List<RecalculatedPremium> results = new ArrayList<>(chunk.size());
+            for (CoverageSnapshot coverage : chunk) {
+                RecalculatedPremium result = price(coverage, tables, region, targetDate);
+                outcomes[result.outcome().ordinal()]++;
+                results.add(result);
+            }
+            BatchCheckpoint next = chunk.isEmpty()
+                ? checkpoint
+                : checkpoint.advance(chunk.get(chunk.size() - 1).coverageId(), chunk.size());
+            if (chunk.size() < chunkSize) {
+                next = next.complete();
+            }
+            BatchCheckpoint committed = next;
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!results.isEmpty()) {
+                    recalculationRepository.saveResults(start.runId(), partition.tenantId(), results);
+                }
+                batchRunStore.checkpoint(committed);
+            });
+            checkpoint = committed;
+        }
+        return new PartitionResult(checkpoint.processed(), outcomes);
+    }
+
+    /**
+     * Prices one coverage against the tariffs of its tenant.
+     *
+     * @param tables compiled table of the active tariff per product id
+     * @param region index of the coverage's premium region, or {@link PremiumRegionIndex#UNKNOWN}
+     */
+    static RecalculatedPremium price(
+        CoverageSnapshot coverage,
+        Map<UUID, PremiumTable> tables,
+        int region,
+        LocalDate targetDate
+    ) {
+        AgeGroup ageGroup = AgeGroup.forAge(Period.between(coverage.dateOfBirth(), targetDate).getYears());
+        PremiumTable table = tables.get(coverage.productId());
+        if (table == null) {
+            return new RecalculatedPremium(
+                coverage.coverageId(), null, ageGroup, null, coverage.monthlyPremium(), RecalculationOutcome.NO_TARIFF
+            );
+        }
+        long premium = lookup(table, coverage, region, ageGroup);
+        return premium == PremiumTable.NO_PREMIUM
+            ? new RecalculatedPremium(
+                coverage.coverageId(), table.getTariffId(), ageGroup, null, coverage.monthlyPremium(),
+                RecalculationOutcome.NO_PREMIUM
+            )
+            : new RecalculatedPremium(
+                coverage.coverageId(), table.getTariffId(), ageGroup, premium, coverage.monthlyPremium(),
+                RecalculationOutcome.PRICED
+            );
+    }
+
+    private static long lookup(PremiumTable table, CoverageSnapshot coverage, int region, AgeGroup ageGroup) {
+        if (region == PremiumRegionIndex.UNKNOWN) {
+            return PremiumTable.NO_PREMIUM;
+        }
+        if (table.getProductType() == ProductType.VVG) {
+            return table.premium(region, ageGroup, coverage.gender());
+        }
+        return coverage.franchise() == null
+            ? PremiumTable.NO_PREMIUM
+            : table.premium(region, ageGroup, coverage.franchise(), coverage.withAccident());
+    }
+
+    private record PartitionResult(long processed, long[] outcomes) {
+    }
+}
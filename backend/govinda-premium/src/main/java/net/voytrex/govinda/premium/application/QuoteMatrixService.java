@@ -0,0 +1,171 @@
+/*
+ * Govinda ERP - Quote Matrix Service
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.application;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.exception.PremiumCalculationException;
+import net.voytrex.govinda.common.domain.model.AgeGroup;
+import net.voytrex.govinda.common.domain.model.InsuranceModel;
+import net.voytrex.govinda.common.infrastructure.cache.CacheInvalidationBus;
+import net.voytrex.govinda.common.infrastructure.cache.LocalCache;
+import net.voytrex.govinda.premium.domain.model.HouseholdQuote;
+import net.voytrex.govinda.premium.domain.model.PremiumBook;
+import net.voytrex.govinda.premium.domain.model.QuoteGrid;
+import net.voytrex.govinda.premium.domain.model.QuoteMatrix;
+import net.voytrex.govinda.premium.domain.model.QuoteMember;
+import net.voytrex.govinda.product.application.TariffActivationListener;
+import net.voytrex.govinda.product.domain.model.EligibilityRules;
+import net.voytrex.govinda.product.domain.model.PremiumRegionIndex;
+import net.voytrex.govinda.product.domain.model.PremiumTable;
+import net.voytrex.govinda.product.domain.model.Tariff;
+import org.springframework.stereotype.Service;
+
+/**
+ * Franchise x insurance model quote matrices for the customer portal.
+ *
+ * Two caches keep every matrix request in memory:
+ * <ul>
+ *   <li>KVG premium books per tenant and date, i.e. which tariff applies to
+ *       which model. Activating or deactivating any tariff invalidates them.</li>
+ *   <li>Precomputed {@link QuoteGrid}s per tariff, region and age group. Their
+ *       premiums never change while the tariff is active; they are dropped on
+ *       deactivation.</li>
+ * </ul>
+ * Both caches are registered with the {@link CacheInvalidationBus}, so an
+ * activation on one node invalidates every node once it commits.
+ *
+ * A model is offered only if its tariff's {@link EligibilityRules} price a
+ * franchise for the age group in the region; tariffs that do not cover the
+ * region or age group get no row.
+ */
+@Service
+public class QuoteMatrixService implements TariffActivationListener {
+    static final String BOOK_CACHE = "premium.kvg-books";
+    static final String GRID_CACHE = "premium.quote-grids";
+    private static final InsuranceModel[] MODELS = InsuranceModel.values();
+
+    private final PremiumEngine premiumEngine;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final LocalCache<BookKey, PremiumBook> books;
+    private final LocalCache<GridKey, QuoteGrid> grids;
+
+    public QuoteMatrixService(PremiumEngine premiumEngine, CacheInvalidationBus cacheInvalidationBus) {
+        this.premiumEngine = premiumEngine;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.books = cacheInvalidationBus.register(new LocalCache<>(BOOK_CACHE, BookKey::parse));
+        this.grids = cacheInvalidationBus.register(new LocalCache<>(GRID_CACHE, GridKey::parse));
+    }
+
+    /**
+     * Quote matrix of one person.
+     *
+     * @throws PremiumCalculationException if the premium region is unknown
+     */
+    public QuoteMatrix matrix(UUID tenantId, LocalDate date, UUID premiumRegionId, AgeGroup ageGroup,
+        boolean withAccident) {
+        PremiumBook book = book(tenantId, date);
+        return matrix(book, region(book, premiumRegionId), premiumRegionId, ageGroup, withAccident);
+    }
+
+    /**
+     * Quote matrices of all household members living in the same premium region.
+     *
+     * @throws PremiumCalculationException if the premium region is unknown
+     */
+    public HouseholdQuote household(UUID tenantId, LocalDate date, UUID premiumRegionId, List<QuoteMember> members) {
+        PremiumBook book = book(tenantId, date);
+        int region = region(book, premiumRegionId);
+        List<HouseholdQuote.MemberQuote> quotes = new ArrayList<>(members.size());
+        for (QuoteMember member : members) {
+            quotes.add(new HouseholdQuote.MemberQuote(
+                member.personId(),
+                matrix(book, region, premiumRegionId, member.ageGroup(), member.withAccident())
+            ));
+        }
+        return new HouseholdQuote(quotes);
+    }
+
+    @Override
+    public void onTariffActivated(Tariff tariff) {
+        cacheInvalidationBus.invalidateAll(BOOK_CACHE);
+    }
+
+    @Override
+    public void onTariffDeactivated(Tariff tariff) {
+        cacheInvalidationBus.invalidateAll(BOOK_CACHE);
+        cacheInvalidationBus.invalidateAll(GRID_CACHE);
+    }
+
+    private QuoteMatrix matrix(PremiumBook book, int region, UUID premiumRegionId, AgeGroup ageGroup,
+        boolean withAccident) {
+        List<InsuranceModel> models = new ArrayList<>(MODELS.length);
+        List<QuoteGrid> rows = new ArrayList<>(MODELS.length);
+        for (InsuranceModel model : MODELS) {
+            PremiumTable table = book.table(model);
+            if (table != null && table.getEligibility().isEligible(region, ageGroup)) {
+                models.add(model);
+                rows.add(grids.get(
+                    new GridKey(table.getTariffId(), region, ageGroup),
+                    key -> QuoteGrid.of(table, region, ageGroup)
+                ));
+            }
+        }
+        int franchiseCount = QuoteGrid.franchises(ageGroup).size();
+        long[][] premiums = new long[rows.size()][franchiseCount];
+        for (int row = 0; row < rows.size(); row++) {
+            QuoteGrid grid = rows.get(row);
+            for (int column = 0; column < franchiseCount; column++) {
+                premiums[row][column] = grid.premium(column, withAccident);
+            }
+        }
+        return new QuoteMatrix(
+            premiumRegionId, ageGroup, withAccident, models, QuoteGrid.franchises(ageGroup), premiums
+        );
+    }
+
+    private PremiumBook book(UUID tenantId, LocalDate date) {
+        return books.get(new BookKey(tenantId, date), key -> premiumEngine.kvgBook(key.tenantId(), key.date()));
+    }
+
+    private static int region(PremiumBook book, UUID premiumRegionId) {
+        int region = book.getRegions().indexOf(premiumRegionId);
+        if (region == PremiumRegionIndex.UNKNOWN) {
+            throw new PremiumCalculationException("Unknown premium region " + premiumRegionId);
+        }
+        return region;
+    }
+
+    record BookKey(UUID tenantId, LocalDate date) {
+        static BookKey parse(String value) {
+            int separator = value.indexOf('/');
+            return new BookKey(
+                UUID.fromString(value.substring(0, separator)),
+                LocalDate.parse(value.substring(separator + 1))
+            );
+        }
+
+        @Override
+        public String toString() {
+            return tenantId + "/" + date;
+        }
+    }
+
+    record GridKey(UUID tariffId, int region, AgeGroup ageGroup) {
+        static GridKey parse(String value) {
+            String[] parts = value.split("/", 3);
+            return new GridKey(UUID.fromString(parts[0]), Integer.parseInt(parts[1]), AgeGroup.valueOf(parts[2]));
+        }
+
+        @Override
+        public String toString() {
+            return tariffId + "/" + region + "/" + ageGroup;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Govinda ERP - Subsidy Decision Reader
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.application;
+
+import java.io.Closeable;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.UnaryOperator;
+import net.voytrex.govinda.common.domain.exception.BusinessRuleViolationException;
+import net.voytrex.govinda.common.domain.model.AhvNumber;
+import net.voytrex.govinda.common.domain.model.Canton;
+import net.voytrex.govinda.common.domain.model.Rappen;
+import net.voytrex.govinda.premium.domain.model.SubsidyDecision;
+import org.springframework.lang.Nullable;
+
+/**
+ * Streams the decisions of a cantonal subsidy file one at a time, so files of
+ * any size are read in constant memory.
+ *
+ * Both formats use the same field names ({@code decisionNumber, ahvNumber,
+ * canton, validFrom, validTo, taxableIncome, assets, married, children,
+ * inEducation, monthlySubsidy}); amounts are in CHF. Every decision needs
+ * either {@code monthlySubsidy} or {@code taxableIncome}. Invalid decisions are
+ * counted and skipped; the first ones are reported.
+ */
+abstract class SubsidyDecisionReader implements Closeable {
+    static final String DECISION_NUMBER = "decisionNumber";
+    static final String AHV_NUMBER = "ahvNumber";
+    static final String CANTON = "canton";
+    static final String VALID_FROM = "validFrom";
+    static final String VALID_TO = "validTo";
+    static final String TAXABLE_INCOME = "taxableIncome";
+    static final String ASSETS = "assets";
+    static final String MARRIED = "married";
+    static final String CHILDREN = "children";
+    static final String IN_EDUCATION = "inEducation";
+    static final String MONTHLY_SUBSIDY = "monthlySubsidy";
+    static final List<String> REQUIRED = List.of(DECISION_NUMBER, AHV_NUMBER, CANTON, VALID_FROM, VALID_TO);
+    private static final int MAX_DECISION_NUMBER_LENGTH = 50;
+
+    private final int maxReportedErrors;
+    private final List<String> errors = new ArrayList<>();
+    private long invalid;
+
+    SubsidyDecisionReader(int maxReportedErrors) {
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    /**
+     * Opens a UTF-8 CSV or an XML file, chosen by the file name's extension.
+     *
+     * @throws BusinessRuleViolationException for other file types or an invalid CSV header
+     */
+    static SubsidyDecisionReader open(String fileName, InputStream input, int maxReportedErrors) {
+        String name = fileName.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".xml")) {
+            return new XmlSubsidyDecisionReader(input, maxReportedErrors);
+        }
+        if (name.endsWith(".csv") || name.endsWith(".txt")) {
+            return new CsvSubsidyDecisionReader(input, maxReportedErrors);
+        }
+        throw new BusinessRuleViolationException("Subsidy file must be CSV or XML", fileName);
+    }
+
+    /**
+     * Next valid decision, or {@code null} at the end of the file.
+     */
+    @Nullable
+    abstract SubsidyDecision next();
+
+    /**
+     * Number of decisions rejected so far.
+     */
+    long invalid() {
+        return invalid;
+    }
+
+    List<String> errors() {
+        return List.copyOf(errors);
+    }
+
+    /**
+     * Builds a decision from its fields, or rejects it.
+     *
+     * @param location line or decision number for error messages
+     * @param field    stripped value of a field, empty if absent
+     * @return the decision, or {@code null} if it was rejected
+     */
+    @Nullable
+    SubsidyDecision decision(String location, UnaryOperator<String> field) {
+        try {
+            String decisionNumber = field.apply(DECISION_NUMBER);
+            if (decisionNumber.isEmpty() || decisionNumber.length() > MAX_DECISION_NUMBER_LENGTH) {
+                return reject(location, "decision number must have 1 to " + MAX_DECISION_NUMBER_LENGTH + " characters");
+            }
+            String ahvNumber = field.apply(AHV_NUMBER);
+            if (AhvNumber.pack(ahvNumber) == AhvNumber.INVALID) {
+                return reject(location, "invalid AHV number " + ahvNumber);
+            }
+            LocalDate validFrom = LocalDate.parse(field.apply(VALID_FROM));
+            LocalDate validTo = LocalDate.parse(field.apply(VALID_TO));
+            if (validTo.isBefore(validFrom)) {
+                return reject(location, "validTo must not be before validFrom");
+            }
+            Long taxableIncome = amount(field.apply(TAXABLE_INCOME));
+            Long granted = amount(field.apply(MONTHLY_SUBSIDY));
+            if (taxableIncome == null && granted == null) {
+                return reject(location, "either monthlySubsidy or taxableIncome is required");
+            }
+            Long assets = amount(field.apply(ASSETS));
+            String children = field.apply(CHILDREN);
+            int childCount = children.isEmpty() ? 0 : Integer.parseInt(children);
+            if (childCount < 0) {
+                return reject(location, "children must not be negative");
+            }
+            return new SubsidyDecision(
+                decisionNumber,
+                ahvNumber,
+                Canton.fromCode(field.apply(CANTON)),
+                validFrom,
+                validTo,
+                taxableIncome,
+                assets != null ? assets : 0,
+                flag(field.apply(MARRIED)),
+                childCount,
+                flag(field.apply(IN_EDUCATION)),
+                granted
+            );
+        } catch (IllegalArgumentException | DateTimeException | ArithmeticException ex) {
+            return reject(location, "invalid value: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Counts a rejected decision and reports it while below the error limit.
+     *
+     * @return always {@code null}
+     */
+    @Nullable
+    SubsidyDecision reject(String location, String message) {
+        invalid++;
+        if (errors.size() < maxReportedErrors) {
+            errors.add(location + ": " + message);
+        }
+        return null;
+    }
+
+    @Nullable
+    private static Long amount(String value) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        long rappen = Rappen.requireNumeric12x2(Rappen.fromDecimal(new BigDecimal(value)));
+        if (rappen < 0) {
+            throw new IllegalArgumentException("amount must not be negative: " + value);
+        }
+        return rappen;
+    }
+
+    private static boolean flag(String value) {
+        if (value.isEmpty() || "false".equalsIgnoreCase(value)) {
+            return false;
+        }
+        if ("true".equalsIgnoreCase(value)) {
+            return true;
+        }
+        throw new IllegalArgumentException("expected true or false but found " + value);
+    }
+}
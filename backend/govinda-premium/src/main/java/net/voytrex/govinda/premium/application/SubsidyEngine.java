@@ -0,0 +1,80 @@
+/*
+ * Govinda ERP - Subsidy Engine
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.application;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import net.voytrex.govinda.common.domain.model.AgeGroup;
+import net.voytrex.govinda.common.domain.model.Canton;
+import net.voytrex.govinda.common.domain.model.Rappen;
+import net.voytrex.govinda.premium.domain.model.SubsidyDecision;
+import net.voytrex.govinda.premium.domain.model.SubsidyRule;
+import org.springframework.stereotype.Service;
+
+/**
+ * Calculates cantonal premium reductions (IPV) with the {@link SubsidyRule}
+ * registered for each canton.
+ *
+ * Amounts granted by the canton are taken as decided. For eligible persons the
+ * federal minimums apply (KVG Art. 65 para. 1bis): at least
+ * {@value #CHILD_MINIMUM_PERCENT}% of the premium for children and
+ * {@value #YOUNG_ADULT_MINIMUM_PERCENT}% for young adults in education. The
+ * reduction never exceeds the premium.
+ */
+@Service
+public class SubsidyEngine {
+    /**
+     * Result of {@link #monthlySubsidy} when the decision has no amount and the canton no rule.
+     */
+    public static final long NO_RULE = -1;
+    static final int CHILD_MINIMUM_PERCENT = 80;
+    static final int YOUNG_ADULT_MINIMUM_PERCENT = 50;
+
+    private final Map<Canton, SubsidyRule> rules = new EnumMap<>(Canton.class);
+
+    public SubsidyEngine(List<SubsidyRule> rules) {
+        for (SubsidyRule rule : rules) {
+            if (this.rules.put(rule.canton(), rule) != null) {
+                throw new IllegalStateException("More than one subsidy rule for canton " + rule.canton());
+            }
+        }
+    }
+
+    public boolean hasRule(Canton canton) {
+        return rules.containsKey(canton);
+    }
+
+    /**
+     * Monthly reduction in Rappen for a person's KVG premium.
+     *
+     * @param ageGroup       age group of the insured person at the start of the decision
+     * @param monthlyPremium monthly KVG premium in Rappen
+     * @return the reduction, 0 if not eligible, or {@link #NO_RULE}
+     */
+    public long monthlySubsidy(SubsidyDecision decision, AgeGroup ageGroup, long monthlyPremium) {
+        Long granted = decision.grantedMonthly();
+        if (granted != null) {
+            return Math.min(granted, monthlyPremium);
+        }
+        SubsidyRule rule = rules.get(decision.canton());
+        if (rule == null) {
+            return NO_RULE;
+        }
+        long subsidy = rule.monthlySubsidy(decision, monthlyPremium);
+        if (subsidy <= 0) {
+            return 0;
+        }
+        int minimumPercent = switch (ageGroup) {
+            case CHILD -> CHILD_MINIMUM_PERCENT;
+            case YOUNG_ADULT -> decision.inEducation() ? YOUNG_ADULT_MINIMUM_PERCENT : 0;
+            case ADULT -> 0;
+        };
+        long minimum = Rappen.multiply(monthlyPremium, minimumPercent, 100);
+        return Math.min(monthlyPremium, Rappen.roundTo5(Math.max(subsidy, minimum)));
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Govinda ERP - Subsidy Import Job
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.application;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.exception.BusinessRuleViolationException;
+import net.voytrex.govinda.common.domain.model.AgeGroup;
+import net.voytrex.govinda.common.infrastructure.batch.BatchCheckpoint;
+import net.voytrex.govinda.common.infrastructure.batch.BatchRun;
+import net.voytrex.govinda.common.infrastructure.batch.BatchRunStore;
+import net.voytrex.govinda.common.infrastructure.batch.ChunkedBatchRunner;
+import net.voytrex.govinda.common.infrastructure.batch.RecordChunks;
+import net.voytrex.govinda.premium.domain.model.PremiumSubsidy;
+import net.voytrex.govinda.premium.domain.model.SubsidyDecision;
+import net.voytrex.govinda.premium.domain.model.SubsidyImportReport;
+import net.voytrex.govinda.premium.domain.model.SubsidyOutcome;
+import net.voytrex.govinda.premium.domain.model.SubsidyRecipientIndex;
+import net.voytrex.govinda.premium.domain.repository.PremiumSubsidyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Cantonal premium reduction import (IPV): applies the decisions of a
+ * cantonal subsidy file to the KVG coverages of the tenant's insured persons.
+ *
+ * Before the file is read, every person of the tenant is loaded with one
+ * cursor query into a {@link SubsidyRecipientIndex} keyed by packed AHV
+ * number, so matching a decision is a hash lookup instead of a query. The
+ * file is then streamed in chunks of
+ * {@code govinda.premium.subsidy.chunk-size} decisions, which are applied
+ * concurrently on virtual threads. At most
+ * {@code govinda.premium.subsidy.parallelism} chunks are in flight; the
+ * reader waits for a free slot, which bounds both memory and connections.
+ * The reductions of a chunk and its checkpoint are committed in one
+ * transaction. Importing the same file again resumes an interrupted or failed
+ * run, skipping the decisions of committed chunks by their position in the
+ * file, also if the chunk size has changed in between; reductions are upserted per coverage and
+ * decision number, so re-applied decisions replace earlier ones.
+ */
+@Service
+public class SubsidyImportJob {
+    public static final String JOB_NAME = "PREMIUM_SUBSIDY_IMPORT";
+    static final int MAX_REPORTED_ERRORS = 20;
+    private static final Logger LOGGER = LoggerFactory.getLogger(SubsidyImportJob.class);
+    private static final SubsidyOutcome[] OUTCOMES = SubsidyOutcome.values();
+
+    private final SubsidyEngine subsidyEngine;
+    private final PremiumSubsidyRepository subsidyRepository;
+    private final BatchRunStore batchRunStore;
+    private final ChunkedBatchRunner runner;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final int chunkSize;
+
+    // CHECKSTYLE:OFF: ParameterNumber - Spring constructor injection
+    public SubsidyImportJob(
+        SubsidyEngine subsidyEngine,
+        PremiumSubsidyRepository subsidyRepository,
+        BatchRunStore batchRunStore,
+        PlatformTransactionManager transactionManager,
+        @Value("${govinda.premium.subsidy.parallelism:4}") int parallelism,
+        @Value("${govinda.premium.subsidy.chunk-size:1000}") int chunkSize
+    ) {
+        // CHECKSTYLE:ON: ParameterNumber
+        if (parallelism < 1 || chunkSize < 1) {
+            throw new IllegalArgumentException("parallelism and chunk size must be positive");
+        }
+        this.subsidyEngine = subsidyEngine;
+        this.subsidyRepository = subsidyRepository;
+        this.batchRunStore = batchRunStore;
+        this.runner = new ChunkedBatchRunner(batchRunStore, JOB_NAME, parallelism);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Imports a decision file (UTF-8 CSV or XML, by extension) for a tenant,
+     * resuming an unfinished run of the same file. The stream is closed.
+     *
+     * @param referenceDate date on which the KVG coverages to reduce must be in force
+     * @throws BusinessRuleViolationException if the file type or header is invalid or the XML is malformed
+     * @throws UncheckedIOException           if the file cannot be read
+     */
+    public SubsidyImportReport run(UUID tenantId, String fileName, InputStream input, LocalDate referenceDate) {
+        SubsidyImportReport report = runner.run(tenantId + "/" + fileName, run -> {
+            try (SubsidyDecisionReader reader = SubsidyDecisionReader.open(fileName, input, MAX_REPORTED_ERRORS)) {
+                return execute(run, tenantId, fileName, reader, referenceDate);
+            }
+        });
+        LOGGER.info(
+            "Subsidy import {} of {}: {} decisions in {} chunks ({} skipped), {} applied, {} invalid in {} ms, "
+                + "{} decisions/s",
+            report.runId(),
+            fileName,
+            report.processed(),
+            report.chunks(),
+            report.skippedChunks(),
+            report.applied(),
+            report.invalid(),
+            report.elapsed().toMillis(),
+            Math.round(report.decisionsPerSecond())
+        );
+        return report;
+    }
+
+    // CHECKSTYLE:OFF: ParameterNumber - Run context is passed explicitly
+    private SubsidyImportReport execute(
+        BatchRun run,
+        UUID tenantId,
+        String fileName,
+        SubsidyDecisionReader reader,
+        LocalDate referenceDate
+    ) throws IOException {
+        // CHECKSTYLE:ON: ParameterNumber
+        long started = System.nanoTime();
+        SubsidyRecipientIndex recipients = loadRecipients(tenantId, referenceDate);
+
+        long[] outcomes = new long[OUTCOMES.length];
+        long[] processed = new long[1];
+        RecordChunks<SubsidyDecision> chunks = new RecordChunks<>(run, chunkSize, reader::next);
+        runner.<RecordChunks.Chunk<SubsidyDecision>, long[]>process(
+            chunks,
+            (key, chunk) -> apply(run.checkpoint(key), tenantId, chunk.records(), recipients),
+            result -> {
+                for (int i = 0; i < outcomes.length; i++) {
+                    outcomes[i] += result[i];
+                    processed[0] += result[i];
+                }
+            }
+        );
+
+        processed[0] += chunks.skippedRecords();
+        batchRunStore.complete(run.id(), processed[0]);
+        return new SubsidyImportReport(
+            run.id(),
+            fileName,
+            chunks.chunks() + chunks.completedChunks(),
+            chunks.completedChunks(),
+            outcomes[SubsidyOutcome.APPLIED.ordinal()],
+            outcomes[SubsidyOutcome.UNKNOWN_PERSON.ordinal()],
+            outcomes[SubsidyOutcome.NO_COVERAGE.ordinal()],
+            outcomes[SubsidyOutcome.NO_RULE.ordinal()],
+            outcomes[SubsidyOutcome.NOT_ELIGIBLE.ordinal()],
+            reader.invalid(),
+            reader.errors(),
+            Duration.ofNanos(System.nanoTime() - started)
+        );
+    }
+
+    private SubsidyRecipientIndex loadRecipients(UUID tenantId, LocalDate referenceDate) {
+        SubsidyRecipientIndex recipients = new SubsidyRecipientIndex(0);
+        long[] malformed = new long[1];
+        readOnlyTransactionTemplate.executeWithoutResult(status -> subsidyRepository.forEachRecipient(
+            tenantId,
+            referenceDate,
+            recipient -> {
+                if (!recipients.add(recipient)) {
+                    malformed[0]++;
+                }
+            }
+        ));
+        if (malformed[0] > 0) {
+            LOGGER.warn("Ignored {} persons of tenant {} with malformed AHV number", malformed[0], tenantId);
+        }
+        return recipients;
+    }
+
+    private long[] apply(
+        BatchCheckpoint start,
+        UUID tenantId,
+        List<SubsidyDecision> decisions,
+        SubsidyRecipientIndex recipients
+    ) {
+        long[] outcomes = new long[OUTCOMES.length];
+        List<PremiumSubsidy> subsidies = new ArrayList<>(decisions.size());
+        for (SubsidyDecision decision : decisions) {
+            outcomes[apply(decision, recipients, subsidies).ordinal()]++;
+        }
+        BatchCheckpoint checkpoint = new BatchCheckpoint(
+            start.runId(), start.partitionKey(), null, decisions.size(), true
+        );
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!subsidies.isEmpty()) {
+                subsidyRepository.saveSubsidies(start.runId(), tenantId, subsidies);
+            }
+            batchRunStore.checkpoint(checkpoint);
+        });
+        return outcomes;
+    }
+
+    /**
+     * Applies one decision to the KVG coverages of its recipient. The reduction
+     * is calculated on the person's total KVG premium and allocated to the
+     * coverages up to their premium.
+     *
+     * @param subsidies receives the reduction per coverage
+     */
+    SubsidyOutcome apply(SubsidyDecision decision, SubsidyRecipientIndex recipients, List<PremiumSubsidy> subsidies) {
+        int person = recipients.person(decision.ahvNumber());
+        if (person == SubsidyRecipientIndex.NONE) {
+            return SubsidyOutcome.UNKNOWN_PERSON;
+        }
+        int first = recipients.firstCoverage(person);
+        if (first == SubsidyRecipientIndex.NONE) {
+            return SubsidyOutcome.NO_COVERAGE;
+        }
+        long premium = 0;
+        for (int coverage = first; coverage != SubsidyRecipientIndex.NONE;
+            coverage = recipients.nextCoverage(coverage)) {
+            premium += recipients.monthlyPremium(coverage);
+        }
+        int age = Math.max(0, Period.between(recipients.dateOfBirth(person), decision.validFrom()).getYears());
+        long subsidy = subsidyEngine.monthlySubsidy(decision, AgeGroup.forAge(age), premium);
+        if (subsidy == SubsidyEngine.NO_RULE) {
+            return SubsidyOutcome.NO_RULE;
+        }
+        if (subsidy == 0) {
+            return SubsidyOutcome.NOT_ELIGIBLE;
+        }
+        long remaining = subsidy;
+        for (int coverage = first; coverage != SubsidyRecipientIndex.NONE && remaining > 0;
+            coverage = recipients.nextCoverage(coverage)) {
+            long amount = Math.min(remaining, recipients.monthlyPremium(coverage));
+            if (amount > 0) {
+                subsidies.add(new PremiumSubsidy(
+                    recipients.personId(person),
+                    recipients.coverageId(coverage),
+                    decision.canton(),
+                    decision.validFrom(),
+                    decision.validTo(),
+                    amount,
+                    decision.decisionNumber()
+                ));
+                remaining -= amount;
+            }
+        }
+        return SubsidyOutcome.APPLIED;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Govinda ERP - XML Subsidy Decision Reader
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.application;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import net.voytrex.govinda.common.domain.exception.BusinessRuleViolationException;
+import net.voytrex.govinda.premium.domain.model.SubsidyDecision;
+import org.springframework.lang.Nullable;
+
+/**
+ * Reads decisions from an XML file with StAX: every {@code <decision>} element,
+ * at any depth, holds one child element per field. DTDs and external entities
+ * are rejected.
+ */
+final class XmlSubsidyDecisionReader extends SubsidyDecisionReader {
+    static final String DECISION = "decision";
+    private static final String MALFORMED = "Subsidy file must be well-formed XML";
+
+    private final InputStream input;
+    private final XMLStreamReader reader;
+    private final Map<String, String> fields = new HashMap<>();
+    private long decisionNumber;
+
+    XmlSubsidyDecisionReader(InputStream input, int maxReportedErrors) {
+        super(maxReportedErrors);
+        this.input = input;
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        try {
+            this.reader = factory.createXMLStreamReader(input);
+        } catch (XMLStreamException ex) {
+            throw new BusinessRuleViolationException(MALFORMED, ex.getMessage());
+        }
+    }
+
+    @Override
+    @Nullable
+    SubsidyDecision next() {
+        try {
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT && DECISION.equals(reader.getLocalName())) {
+                    decisionNumber++;
+                    readFields();
+                    SubsidyDecision decision = decision(
+                        "decision " + decisionNumber,
+                        name -> fields.getOrDefault(name, "")
+                    );
+                    if (decision != null) {
+                        return decision;
+                    }
+                }
+            }
+            return null;
+        } catch (XMLStreamException ex) {
+            throw new BusinessRuleViolationException(MALFORMED, ex.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            reader.close();
+        } catch (XMLStreamException ex) {
+            throw new IOException(ex);
+        } finally {
+            input.close();
+        }
+    }
+
+    /**
+     * Collects the child elements of the current {@code <decision>} up to its end tag.
+     */
+    private void readFields() throws XMLStreamException {
+        fields.clear();
+        while (true) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                fields.put(reader.getLocalName(), reader.getElementText().strip());
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                return;
+            }
+        }
+    }
+}
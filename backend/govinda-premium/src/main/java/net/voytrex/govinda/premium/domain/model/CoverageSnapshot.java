@@ -0,0 +1,30 @@
+/*
+ * Govinda ERP - Coverage Snapshot
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.domain.model;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.common.domain.model.Gender;
+import org.springframework.lang.Nullable;
+
+/**
+ * Premium-relevant columns of a coverage and its insured person, as read by batch jobs.
+ *
+ * @param monthlyPremium current monthly premium in Rappen
+ */
+public record CoverageSnapshot(
+    UUID coverageId,
+    UUID productId,
+    UUID premiumRegionId,
+    @Nullable Franchise franchise,
+    boolean withAccident,
+    LocalDate dateOfBirth,
+    Gender gender,
+    long monthlyPremium
+) {
+}
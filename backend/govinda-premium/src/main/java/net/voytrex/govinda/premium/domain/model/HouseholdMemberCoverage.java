@@ -0,0 +1,35 @@
+/*
+ * Govinda ERP - Household Member Coverage
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.domain.model;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.common.domain.model.Gender;
+import net.voytrex.govinda.common.domain.model.HouseholdRole;
+import org.springframework.lang.Nullable;
+
+/**
+ * One current household member with one of their coverages in force, as read
+ * for household pricing. Members without a coverage appear once with the
+ * coverage columns empty, so they still count for the household.
+ *
+ * @param premiumRegionId region of the member's main address, falling back to the coverage's
+ */
+public record HouseholdMemberCoverage(
+    UUID householdId,
+    UUID personId,
+    HouseholdRole role,
+    LocalDate dateOfBirth,
+    Gender gender,
+    @Nullable UUID premiumRegionId,
+    @Nullable UUID coverageId,
+    @Nullable UUID productId,
+    @Nullable Franchise franchise,
+    boolean withAccident
+) {
+}
@@ -0,0 +1,77 @@
+/*
+ * Govinda ERP - Household Premium
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.domain.model;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.AgeGroup;
+import net.voytrex.govinda.common.domain.model.HouseholdRole;
+import net.voytrex.govinda.product.domain.model.PremiumTable;
+import org.springframework.lang.Nullable;
+
+/**
+ * Monthly premiums of all current members of a household on a date, with the
+ * household's child discounts applied. Amounts are in Rappen.
+ *
+ * @param grossPremium sum of all priced coverages before discounts
+ * @param discount sum of all child discounts
+ */
+public record HouseholdPremium(
+    UUID householdId,
+    LocalDate date,
+    int childCount,
+    List<MemberPremium> members,
+    long grossPremium,
+    long discount
+) {
+
+    public HouseholdPremium {
+        members = List.copyOf(members);
+    }
+
+    public long netPremium() {
+        return grossPremium - discount;
+    }
+
+    /**
+     * @param discountPercent child discount granted to the member, 0 for none
+     */
+    public record MemberPremium(
+        UUID personId,
+        HouseholdRole role,
+        AgeGroup ageGroup,
+        int discountPercent,
+        List<CoveragePremium> coverages
+    ) {
+
+        public MemberPremium {
+            coverages = List.copyOf(coverages);
+        }
+    }
+
+    /**
+     * @param tariffId tariff that priced the coverage, {@code null} if the product has no active tariff
+     * @param premium monthly premium before discount, or {@link PremiumTable#NO_PREMIUM}
+     */
+    public record CoveragePremium(
+        UUID coverageId,
+        UUID productId,
+        @Nullable UUID tariffId,
+        long premium,
+        long discount
+    ) {
+
+        public boolean priced() {
+            return premium != PremiumTable.NO_PREMIUM;
+        }
+
+        public long netPremium() {
+            return priced() ? premium - discount : PremiumTable.NO_PREMIUM;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Govinda ERP - Household Quote
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.domain.model;
+
+import java.util.List;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.InsuranceModel;
+import net.voytrex.govinda.product.domain.model.PremiumTable;
+
+/**
+ * Quote matrices of all members of a household.
+ */
+public record HouseholdQuote(List<MemberQuote> members) {
+
+    public HouseholdQuote {
+        members = List.copyOf(members);
+    }
+
+    /**
+     * Household total per month in Rappen if every member chooses the model at
+     * their cheapest franchise, or {@link PremiumTable#NO_PREMIUM} if a member
+     * cannot be insured in that model.
+     */
+    public long cheapestTotal(InsuranceModel model) {
+        long total = 0;
+        for (MemberQuote member : members) {
+            long cheapest = member.matrix().cheapest(model);
+            if (cheapest == PremiumTable.NO_PREMIUM) {
+                return PremiumTable.NO_PREMIUM;
+            }
+            total = Math.addExact(total, cheapest);
+        }
+        return total;
+    }
+
+    public record MemberQuote(UUID personId, QuoteMatrix matrix) {
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Govinda ERP - Income Percentage Subsidy Rule
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.domain.model;
+
+import net.voytrex.govinda.common.domain.model.Canton;
+import net.voytrex.govinda.common.domain.model.Rappen;
+
+/**
+ * Percentage-of-income model used by most cantons: the insured person pays a
+ * personal contribution of a share of the relevant income, the canton pays the
+ * rest of the premium.
+ *
+ * {@code subsidy = MAX(0, premium - income × percentage / 12)}; nothing is
+ * granted above the asset limit. The actual premium stands in for the
+ * cantonal reference premium.
+ *
+ * @param singleBasisPoints      personal contribution of singles in 1/100 percent (560 = 5.6%)
+ * @param marriedBasisPoints     personal contribution of married couples in 1/100 percent
+ * @param assetLimit             maximum assets in Rappen without children, {@link #NO_ASSET_LIMIT} for none
+ * @param assetLimitWithChildren maximum assets in Rappen with children, {@link #NO_ASSET_LIMIT} for none
+ */
+public record IncomePercentageSubsidyRule(
+    Canton canton,
+    int singleBasisPoints,
+    int marriedBasisPoints,
+    long assetLimit,
+    long assetLimitWithChildren
+) implements SubsidyRule {
+    public static final long NO_ASSET_LIMIT = Long.MAX_VALUE;
+    private static final long BASIS_POINTS_PER_YEAR = 10_000L * 12;
+
+    public IncomePercentageSubsidyRule {
+        if (singleBasisPoints < 0 || marriedBasisPoints < 0 || assetLimit < 0 || assetLimitWithChildren < 0) {
+            throw new IllegalArgumentException("contribution percentages and asset limits must not be negative");
+        }
+    }
+
+    @Override
+    public long monthlySubsidy(SubsidyDecision decision, long monthlyPremium) {
+        Long income = decision.taxableIncome();
+        long limit = decision.children() > 0 ? assetLimitWithChildren : assetLimit;
+        if (income == null || decision.assets() > limit) {
+            return 0;
+        }
+        int basisPoints = decision.married() ? marriedBasisPoints : singleBasisPoints;
+        long contribution = Rappen.multiply(Math.max(0, income), basisPoints, BASIS_POINTS_PER_YEAR);
+        return Math.max(0, monthlyPremium - contribution);
+    }
+}
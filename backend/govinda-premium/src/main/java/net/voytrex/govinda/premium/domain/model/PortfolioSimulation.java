@@ -0,0 +1,39 @@
+/*
+ * Govinda ERP - Portfolio Simulation
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.domain.model;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.AgeGroup;
+import net.voytrex.govinda.common.domain.model.Canton;
+import net.voytrex.govinda.common.domain.model.InsuranceModel;
+
+/**
+ * Revenue impact of pricing a portfolio snapshot with a set of (draft) tariffs.
+ *
+ * Coverages with an unknown premium region are part of {@link #total()},
+ * {@link #byAgeGroup()} and {@link #byModel()} but not of the regional
+ * breakdowns; VVG coverages have no insurance model and are missing from
+ * {@link #byModel()}. Maps only contain groups with coverages.
+ *
+ * @param byRegion figures per premium region id
+ */
+public record PortfolioSimulation(
+    UUID tenantId,
+    LocalDate date,
+    List<UUID> tariffIds,
+    SimulationFigures total,
+    Map<Canton, SimulationFigures> byCanton,
+    Map<UUID, SimulationFigures> byRegion,
+    Map<AgeGroup, SimulationFigures> byAgeGroup,
+    Map<InsuranceModel, SimulationFigures> byModel,
+    Duration elapsed
+) {
+}
@@ -0,0 +1,194 @@
+/*
+ * Govinda ERP - Portfolio Snapshot
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.domain.model;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.AgeGroup;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.common.domain.model.Gender;
+import net.voytrex.govinda.product.domain.model.PremiumRegionIndex;
+import org.springframework.lang.Nullable;
+
+/**
+ * Immutable, column-wise copy of the coverages of some products in force on a date.
+ *
+ * Holds exactly what pricing needs (product, premium region index, age group
+ * on the snapshot date, franchise, accident cover, gender, current premium) in
+ * primitive arrays, so a portfolio of millions of coverages fits in a few
+ * dozen megabytes and can be priced against any number of scenarios without
+ * going back to the database. Rows are addressed by index in {@code [0, size())}.
+ */
+public final class PortfolioSnapshot {
+    private static final byte NONE = -1;
+    private static final AgeGroup[] AGE_GROUPS = AgeGroup.values();
+    private static final Franchise[] FRANCHISES = Franchise.values();
+    private static final Gender[] GENDERS = Gender.values();
+
+    private final UUID tenantId;
+    private final LocalDate date;
+    private final PremiumRegionIndex regions;
+    private final List<UUID> productIds;
+    private final int size;
+    private final short[] products;
+    private final int[] regionIndexes;
+    private final byte[] ageGroups;
+    private final byte[] franchises;
+    private final boolean[] accidents;
+    private final byte[] genders;
+    private final long[] currentPremiums;
+
+    private PortfolioSnapshot(Builder builder) {
+        this.tenantId = builder.tenantId;
+        this.date = builder.date;
+        this.regions = builder.regions;
+        this.productIds = builder.productIds;
+        this.size = builder.size;
+        this.products = Arrays.copyOf(builder.products, size);
+        this.regionIndexes = Arrays.copyOf(builder.regionIndexes, size);
+        this.ageGroups = Arrays.copyOf(builder.ageGroups, size);
+        this.franchises = Arrays.copyOf(builder.franchises, size);
+        this.accidents = Arrays.copyOf(builder.accidents, size);
+        this.genders = Arrays.copyOf(builder.genders, size);
+        this.currentPremiums = Arrays.copyOf(builder.currentPremiums, size);
+    }
+
+    /**
+     * Starts a snapshot of the given products; rows reference products by their position in the list.
+     */
+    public static Builder builder(UUID tenantId, LocalDate date, PremiumRegionIndex regions, List<UUID> productIds) {
+        return new Builder(tenantId, date, regions, productIds);
+    }
+
+    public UUID getTenantId() {
+        return tenantId;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public PremiumRegionIndex getRegions() {
+        return regions;
+    }
+
+    public List<UUID> getProductIds() {
+        return productIds;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Position of the row's product in {@link #getProductIds()}.
+     */
+    public int product(int row) {
+        return products[row];
+    }
+
+    /**
+     * Premium region index of the row, or {@link PremiumRegionIndex#UNKNOWN}.
+     */
+    public int region(int row) {
+        return regionIndexes[row];
+    }
+
+    public AgeGroup ageGroup(int row) {
+        return AGE_GROUPS[ageGroups[row]];
+    }
+
+    @Nullable
+    public Franchise franchise(int row) {
+        return franchises[row] == NONE ? null : FRANCHISES[franchises[row]];
+    }
+
+    public boolean withAccident(int row) {
+        return accidents[row];
+    }
+
+    public Gender gender(int row) {
+        return GENDERS[genders[row]];
+    }
+
+    /**
+     * Current monthly premium of the row in Rappen.
+     */
+    public long currentPremium(int row) {
+        return currentPremiums[row];
+    }
+
+    /**
+     * Collects rows; not thread-safe.
+     */
+    public static final class Builder {
+        private final UUID tenantId;
+        private final LocalDate date;
+        private final PremiumRegionIndex regions;
+        private final List<UUID> productIds;
+        private int size;
+        private short[] products = new short[1024];
+        private int[] regionIndexes = new int[1024];
+        private byte[] ageGroups = new byte[1024];
+        private byte[] franchises = new byte[1024];
+        private boolean[] accidents = new boolean[1024];
+        private byte[] genders = new byte[1024];
+        private long[] currentPremiums = new long[1024];
+
+        private Builder(UUID tenantId, LocalDate date, PremiumRegionIndex regions, List<UUID> productIds) {
+            if (productIds.size() > Short.MAX_VALUE) {
+                throw new IllegalArgumentException("Too many products for one snapshot: " + productIds.size());
+            }
+            this.tenantId = tenantId;
+            this.date = date;
+            this.regions = regions;
+            this.productIds = List.copyOf(productIds);
+        }
+
+        // CHECKSTYLE:OFF: ParameterNumber - One value per snapshot column
+        public Builder add(
+            int product,
+            int region,
+            AgeGroup ageGroup,
+            @Nullable Franchise franchise,
+            boolean withAccident,
+            Gender gender,
+            long currentPremium
+        ) {
+            // CHECKSTYLE:ON: ParameterNumber
+            if (size == products.length) {
+                grow();
+            }
+            products[size] = (short) product;
+            regionIndexes[size] = region;
+            ageGroups[size] = (byte) ageGroup.ordinal();
+            franchises[size] = franchise != null ? (byte) franchise.ordinal() : NONE;
+            accidents[size] = withAccident;
+            genders[size] = (byte) gender.ordinal();
+            currentPremiums[size] = currentPremium;
+            size++;
+            return this;
+        }
+
+        public PortfolioSnapshot build() {
+            return new PortfolioSnapshot(this);
+        }
+
+        private void grow() {
+            int capacity = products.length * 2;
+            products = Arrays.copyOf(products, capacity);
+            regionIndexes = Arrays.copyOf(regionIndexes, capacity);
+            ageGroups = Arrays.copyOf(ageGroups, capacity);
+            franchises = Arrays.copyOf(franchises, capacity);
+            accidents = Arrays.copyOf(accidents, capacity);
+            genders = Arrays.copyOf(genders, capacity);
+            currentPremiums = Arrays.copyOf(currentPremiums, capacity);
+        }
+    }
+}
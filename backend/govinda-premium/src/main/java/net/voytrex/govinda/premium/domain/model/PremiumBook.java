@@ -0,0 +1,78 @@
+/*
+ * Govinda ERP - Premium Book
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.domain.model;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.AgeGroup;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.common.domain.model.InsuranceModel;
+import net.voytrex.govinda.product.domain.model.PremiumRegionIndex;
+import net.voytrex.govinda.product.domain.model.PremiumTable;
+import org.springframework.lang.Nullable;
+
+/**
+ * A tenant's compiled KVG premium tables valid on one date, one per insurance model.
+ *
+ * Adds the insurance model as the outermost dimension on top of
+ * {@link PremiumTable}, so a quote for (model, region, age group, franchise,
+ * accident cover) is two array loads. Books are immutable and can be shared
+ * between threads and held for a whole batch run.
+ */
+public final class PremiumBook {
+    private final UUID tenantId;
+    private final LocalDate date;
+    private final PremiumRegionIndex regions;
+    private final PremiumTable[] tablesByModel;
+
+    public PremiumBook(UUID tenantId, LocalDate date, PremiumRegionIndex regions, PremiumTable[] tablesByModel) {
+        if (tablesByModel.length != InsuranceModel.values().length) {
+            throw new IllegalArgumentException("Expected one slot per insurance model");
+        }
+        this.tenantId = tenantId;
+        this.date = date;
+        this.regions = regions;
+        this.tablesByModel = tablesByModel.clone();
+    }
+
+    public UUID getTenantId() {
+        return tenantId;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public PremiumRegionIndex getRegions() {
+        return regions;
+    }
+
+    /**
+     * Compiled table of the model's tariff, or {@code null} if the tenant offers no such product.
+     */
+    @Nullable
+    public PremiumTable table(InsuranceModel model) {
+        return tablesByModel[model.ordinal()];
+    }
+
+    public boolean offers(InsuranceModel model) {
+        return tablesByModel[model.ordinal()] != null;
+    }
+
+    /**
+     * Monthly KVG premium in Rappen, or {@link PremiumTable#NO_PREMIUM}.
+     *
+     * @param region index from {@link PremiumRegionIndex#indexOf(UUID)}
+     */
+    public long premium(InsuranceModel model, int region, AgeGroup ageGroup, Franchise franchise, boolean withAccident) {
+        PremiumTable table = tablesByModel[model.ordinal()];
+        if (table == null) {
+            return PremiumTable.NO_PREMIUM;
+        }
+        return table.premium(region, ageGroup, franchise, withAccident);
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Govinda ERP - Premium Recalculation Report
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.domain.model;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Summary of a premium recalculation run.
+ *
+ * Outcome counts cover the whole run, including coverages committed by
+ * earlier, interrupted executions; those are also counted in
+ * {@code resumed}, and partitions they completed in
+ * {@code skippedPartitions}. Throughput covers this execution only.
+ */
+public record PremiumRecalculationReport(
+    UUID runId,
+    LocalDate targetDate,
+    int partitions,
+    int skippedPartitions,
+    long priced,
+    long withoutTariff,
+    long withoutPremium,
+    long resumed,
+    Duration elapsed
+) {
+
+    public long processed() {
+        return priced + withoutTariff + withoutPremium;
+    }
+
+    /**
+     * Coverages processed by this execution.
+     */
+    public long executed() {
+        return processed() - resumed;
+    }
+
+    public double coveragesPerSecond() {
+        long millis = elapsed.toMillis();
+        return millis == 0 ? executed() * 1000.0 : executed() * 1000.0 / millis;
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * Govinda ERP - Premium Subsidy
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.domain.model;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.Canton;
+
+/**
+ * Monthly premium reduction of one coverage granted by a cantonal decision.
+ *
+ * @param monthlyAmount reduction in Rappen, at most the coverage's monthly premium
+ */
+public record PremiumSubsidy(
+    UUID personId,
+    UUID coverageId,
+    Canton canton,
+    LocalDate validFrom,
+    LocalDate validTo,
+    long monthlyAmount,
+    String decisionNumber
+) {
+}
@@ -0,0 +1,89 @@
+/*
+ * Govinda ERP - Quote Grid
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.domain.model;
+
+import java.util.List;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.exception.PremiumCalculationException;
+import net.voytrex.govinda.common.domain.model.AgeGroup;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.common.domain.model.ProductType;
+import net.voytrex.govinda.product.domain.model.PremiumTable;
+
+/**
+ * Premiums of one KVG tariff for one region and age group across every
+ * franchise allowed for the age group, with and without accident cover.
+ *
+ * Grids are immutable: premiums of an active tariff cannot change, so a grid
+ * stays valid for as long as its tariff is active.
+ */
+public final class QuoteGrid {
+    private static final List<List<Franchise>> FRANCHISES_BY_AGE_GROUP = List.of(
+        Franchise.forAgeGroup(AgeGroup.CHILD),
+        Franchise.forAgeGroup(AgeGroup.YOUNG_ADULT),
+        Franchise.forAgeGroup(AgeGroup.ADULT)
+    );
+
+    private final UUID tariffId;
+    private final AgeGroup ageGroup;
+    private final List<Franchise> franchises;
+    /** Rappen per franchise, {@code [franchiseIndex * 2 + (withAccident ? 1 : 0)]}. */
+    private final long[] premiums;
+
+    private QuoteGrid(UUID tariffId, AgeGroup ageGroup, List<Franchise> franchises, long[] premiums) {
+        this.tariffId = tariffId;
+        this.ageGroup = ageGroup;
+        this.franchises = franchises;
+        this.premiums = premiums;
+    }
+
+    /**
+     * Reads the grid of a region and age group from a compiled KVG table.
+     *
+     * @param region index from {@link net.voytrex.govinda.product.domain.model.PremiumRegionIndex#indexOf(UUID)}
+     */
+    public static QuoteGrid of(PremiumTable table, int region, AgeGroup ageGroup) {
+        if (table.getProductType() != ProductType.KVG) {
+            throw new PremiumCalculationException("Franchise grids exist for KVG tariffs only");
+        }
+        List<Franchise> franchises = franchises(ageGroup);
+        long[] premiums = new long[franchises.size() * 2];
+        for (int i = 0; i < franchises.size(); i++) {
+            premiums[i * 2] = table.premium(region, ageGroup, franchises.get(i), false);
+            premiums[i * 2 + 1] = table.premium(region, ageGroup, franchises.get(i), true);
+        }
+        return new QuoteGrid(table.getTariffId(), ageGroup, franchises, premiums);
+    }
+
+    /**
+     * Franchises allowed for an age group, without allocating a new list per call.
+     */
+    public static List<Franchise> franchises(AgeGroup ageGroup) {
+        return FRANCHISES_BY_AGE_GROUP.get(ageGroup.ordinal());
+    }
+
+    public UUID getTariffId() {
+        return tariffId;
+    }
+
+    public AgeGroup getAgeGroup() {
+        return ageGroup;
+    }
+
+    public List<Franchise> getFranchises() {
+        return franchises;
+    }
+
+    /**
+     * Monthly premium in Rappen, or {@link PremiumTable#NO_PREMIUM}.
+     *
+     * @param franchiseIndex index into {@link #getFranchises()}
+     */
+    public long premium(int franchiseIndex, boolean withAccident) {
+        return premiums[franchiseIndex * 2 + (withAccident ? 1 : 0)];
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Govinda ERP - Quote Matrix
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.domain.model;
+
+import java.util.List;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.AgeGroup;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.common.domain.model.InsuranceModel;
+import net.voytrex.govinda.product.domain.model.PremiumTable;
+
+/**
+ * Franchise x insurance model premium grid for one region and age group.
+ *
+ * Rows are the insurance models offered on the quote date, columns the
+ * franchises allowed for the age group.
+ */
+public final class QuoteMatrix {
+    private final UUID premiumRegionId;
+    private final AgeGroup ageGroup;
+    private final boolean withAccident;
+    private final List<InsuranceModel> models;
+    private final List<Franchise> franchises;
+    /** Rappen, {@code [model row][franchise column]}. */
+    private final long[][] premiums;
+
+    public QuoteMatrix(
+        UUID premiumRegionId,
+        AgeGroup ageGroup,
+        boolean withAccident,
+        List<InsuranceModel> models,
+        List<Franchise> franchises,
+        long[][] premiums
+    ) {
+        if (premiums.length != models.size()) {
+            throw new IllegalArgumentException("Expected one premium row per model");
+        }
+        this.premiumRegionId = premiumRegionId;
+        this.ageGroup = ageGroup;
+        this.withAccident = withAccident;
+        this.models = List.copyOf(models);
+        this.franchises = List.copyOf(franchises);
+        this.premiums = premiums;
+    }
+
+    public UUID getPremiumRegionId() {
+        return premiumRegionId;
+    }
+
+    public AgeGroup getAgeGroup() {
+        return ageGroup;
+    }
+
+    public boolean isWithAccident() {
+        return withAccident;
+    }
+
+    public List<InsuranceModel> getModels() {
+        return models;
+    }
+
+    public List<Franchise> getFranchises() {
+        return franchises;
+    }
+
+    /**
+     * Monthly premium in Rappen, or {@link PremiumTable#NO_PREMIUM} if the
+     * model is not offered or the franchise is not allowed.
+     */
+    public long premium(InsuranceModel model, Franchise franchise) {
+        int row = models.indexOf(model);
+        int column = franchises.indexOf(franchise);
+        return row < 0 || column < 0 ? PremiumTable.NO_PREMIUM : premiums[row][column];
+    }
+
+    /**
+     * Lowest premium of a model across all franchises, or {@link PremiumTable#NO_PREMIUM}.
+     */
+    public long cheapest(InsuranceModel model) {
+        int row = models.indexOf(model);
+        if (row < 0) {
+            return PremiumTable.NO_PREMIUM;
+        }
+        long cheapest = PremiumTable.NO_PREMIUM;
+        for (long premium : premiums[row]) {
+            if (premium != PremiumTable.NO_PREMIUM && (cheapest == PremiumTable.NO_PREMIUM || premium < cheapest)) {
+                cheapest = premium;
+            }
+        }
+        return cheapest;
+    }
+}
@@ -0,0 +1,16 @@
+/*
+ * Govinda ERP - Quote Member
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.domain.model;
+
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.AgeGroup;
+
+/**
+ * Household member to quote, with the age group on the quote date.
+ */
+public record QuoteMember(UUID personId, AgeGroup ageGroup, boolean withAccident) {
+}
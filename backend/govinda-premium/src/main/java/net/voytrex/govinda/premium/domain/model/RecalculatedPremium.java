@@ -0,0 +1,28 @@
+/*
+ * Govinda ERP - Recalculated Premium
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.domain.model;
+
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.AgeGroup;
+import org.springframework.lang.Nullable;
+
+/**
+ * New premium of a coverage as of the recalculation target date.
+ *
+ * @param tariffId        tariff used; {@code null} for {@link RecalculationOutcome#NO_TARIFF}
+ * @param monthlyPremium  new monthly premium in Rappen; {@code null} unless {@link RecalculationOutcome#PRICED}
+ * @param previousPremium monthly premium before the recalculation, in Rappen
+ */
+public record RecalculatedPremium(
+    UUID coverageId,
+    @Nullable UUID tariffId,
+    AgeGroup ageGroup,
+    @Nullable Long monthlyPremium,
+    long previousPremium,
+    RecalculationOutcome outcome
+) {
+}
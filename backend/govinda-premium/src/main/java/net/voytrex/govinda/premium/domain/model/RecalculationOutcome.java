@@ -0,0 +1,19 @@
+/*
+ * Govinda ERP - Recalculation Outcome
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.domain.model;
+
+/**
+ * Result of recalculating the premium of one coverage.
+ */
+public enum RecalculationOutcome {
+    /** New premium found */
+    PRICED,
+    /** The product has no active tariff on the target date */
+    NO_TARIFF,
+    /** The tariff has no premium for the coverage's parameters */
+    NO_PREMIUM
+}
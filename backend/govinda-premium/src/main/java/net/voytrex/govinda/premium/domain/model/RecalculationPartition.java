@@ -0,0 +1,23 @@
+/*
+ * Govinda ERP - Recalculation Partition
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.domain.model;
+
+import java.util.UUID;
+
+/**
+ * Unit of parallel work of the premium recalculation: the coverages of one
+ * tenant in one premium region.
+ */
+public record RecalculationPartition(UUID tenantId, UUID premiumRegionId) {
+
+    /**
+     * Stable key used for checkpoints.
+     */
+    public String key() {
+        return tenantId + "/" + premiumRegionId;
+    }
+}
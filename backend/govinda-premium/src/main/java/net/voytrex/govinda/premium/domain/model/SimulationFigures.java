@@ -0,0 +1,49 @@
+/*
+ * Govinda ERP - Simulation Figures
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.domain.model;
+
+/**
+ * Aggregated outcome of a portfolio simulation for one group of coverages.
+ *
+ * Premium sums are monthly amounts in Rappen and only include priced
+ * coverages, so {@link #delta()} compares like with like.
+ *
+ * @param coverages coverages in the group
+ * @param unpriced coverages the scenario has no premium for (unknown region or missing entry)
+ * @param currentPremium current monthly premiums of the priced coverages
+ * @param simulatedPremium simulated monthly premiums of the priced coverages
+ */
+public record SimulationFigures(long coverages, long unpriced, long currentPremium, long simulatedPremium) {
+    public static final SimulationFigures EMPTY = new SimulationFigures(0, 0, 0, 0);
+
+    public long priced() {
+        return coverages - unpriced;
+    }
+
+    /**
+     * Monthly revenue impact in Rappen.
+     */
+    public long delta() {
+        return simulatedPremium - currentPremium;
+    }
+
+    /**
+     * Relative premium change, e.g. {@code 0.042} for +4.2%; {@code 0} without priced coverages.
+     */
+    public double changeRatio() {
+        return currentPremium == 0 ? 0 : (double) delta() / currentPremium;
+    }
+
+    public SimulationFigures plus(SimulationFigures other) {
+        return new SimulationFigures(
+            coverages + other.coverages,
+            unpriced + other.unpriced,
+            currentPremium + other.currentPremium,
+            simulatedPremium + other.simulatedPremium
+        );
+    }
+}
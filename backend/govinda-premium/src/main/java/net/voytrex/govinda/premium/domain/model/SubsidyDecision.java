@@ -0,0 +1,41 @@
+/*
+ * Govinda ERP - Subsidy Decision
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.domain.model;
+
+import java.time.LocalDate;
+import net.voytrex.govinda.common.domain.model.Canton;
+import org.springframework.lang.Nullable;
+
+/**
+ * One row of a cantonal premium reduction (IPV) decision file: the canton's
+ * decision for one insured person. Amounts are in Rappen.
+ *
+ * Cantons either state the granted monthly reduction themselves or deliver the
+ * income figures and leave the calculation to the insurer's
+ * {@link SubsidyRule} for the canton.
+ *
+ * @param ahvNumber      AHV number as delivered, formatted or unformatted
+ * @param taxableIncome  relevant annual income; {@code null} if {@code grantedMonthly} is given
+ * @param assets         taxable assets
+ * @param children       number of dependent children in the household
+ * @param inEducation    whether a young adult is in education (federal minimum of 50%)
+ * @param grantedMonthly monthly reduction decided by the canton, or {@code null} to calculate it
+ */
+public record SubsidyDecision(
+    String decisionNumber,
+    String ahvNumber,
+    Canton canton,
+    LocalDate validFrom,
+    LocalDate validTo,
+    @Nullable Long taxableIncome,
+    long assets,
+    boolean married,
+    int children,
+    boolean inEducation,
+    @Nullable Long grantedMonthly
+) {
+}
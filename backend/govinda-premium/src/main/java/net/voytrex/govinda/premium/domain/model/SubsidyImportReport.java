@@ -0,0 +1,45 @@
+/*
+ * Govinda ERP - Subsidy Import Report
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.domain.model;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Summary of importing one cantonal subsidy decision file.
+ *
+ * Outcome counts cover the decisions applied by this execution only; chunks
+ * committed by an earlier, interrupted execution are counted in
+ * {@code skippedChunks}. Invalid rows are counted over the whole file.
+ *
+ * @param errors first rejected rows with line (CSV) or decision (XML) number
+ */
+public record SubsidyImportReport(
+    UUID runId,
+    String fileName,
+    int chunks,
+    int skippedChunks,
+    long applied,
+    long unknownPersons,
+    long withoutCoverage,
+    long withoutRule,
+    long notEligible,
+    long invalid,
+    List<String> errors,
+    Duration elapsed
+) {
+
+    public long processed() {
+        return applied + unknownPersons + withoutCoverage + withoutRule + notEligible;
+    }
+
+    public double decisionsPerSecond() {
+        long millis = elapsed.toMillis();
+        return millis == 0 ? processed() * 1000.0 : processed() * 1000.0 / millis;
+    }
+}
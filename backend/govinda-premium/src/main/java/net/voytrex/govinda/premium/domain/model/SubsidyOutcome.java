@@ -0,0 +1,23 @@
+/*
+ * Govinda ERP - Subsidy Outcome
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.domain.model;
+
+/**
+ * Result of applying one cantonal subsidy decision.
+ */
+public enum SubsidyOutcome {
+    /** The reduction was stored for the person's KVG coverages */
+    APPLIED,
+    /** No person of the tenant has the decision's AHV number */
+    UNKNOWN_PERSON,
+    /** The person has no KVG coverage in force */
+    NO_COVERAGE,
+    /** The canton states no amount and has no subsidy rule */
+    NO_RULE,
+    /** The rule grants no reduction */
+    NOT_ELIGIBLE
+}
@@ -0,0 +1,27 @@
+/*
+ * Govinda ERP - Subsidy Recipient
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.domain.model;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import org.springframework.lang.Nullable;
+
+/**
+ * A person of the tenant that may receive a premium subsidy, with one of their
+ * KVG coverages in force.
+ *
+ * @param coverageId     {@code null} if the person has no KVG coverage in force
+ * @param monthlyPremium premium of the coverage in Rappen, 0 without coverage
+ */
+public record SubsidyRecipient(
+    String ahvNumber,
+    UUID personId,
+    LocalDate dateOfBirth,
+    @Nullable UUID coverageId,
+    long monthlyPremium
+) {
+}
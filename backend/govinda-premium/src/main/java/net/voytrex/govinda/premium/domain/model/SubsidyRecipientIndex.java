@@ -0,0 +1,148 @@
+/*
+ * Govinda ERP - Subsidy Recipient Index
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.domain.model;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.AhvIndex;
+import net.voytrex.govinda.common.domain.model.AhvNumber;
+
+/**
+ * In-memory lookup of the persons of a tenant by AHV number, with their KVG
+ * coverages in force, for matching cantonal subsidy decisions.
+ *
+ * Persons and coverages are stored column-wise in primitive arrays addressed
+ * by int handles; a person's coverages form a linked list, in the order they
+ * were added, through {@link #nextCoverage(int)}. Filled by one thread, then
+ * shared read-only by the workers applying decision chunks.
+ */
+public final class SubsidyRecipientIndex {
+    public static final int NONE = -1;
+
+    private final AhvIndex persons;
+    private UUID[] personIds;
+    private int[] birthDays;
+    private int[] firstCoverage;
+    private int[] lastCoverage;
+    private int personCount;
+    private UUID[] coverageIds;
+    private long[] premiums;
+    private int[] next;
+    private int coverageCount;
+
+    public SubsidyRecipientIndex(int expectedPersons) {
+        int capacity = Math.max(16, expectedPersons);
+        this.persons = new AhvIndex(capacity);
+        this.personIds = new UUID[capacity];
+        this.birthDays = new int[capacity];
+        this.firstCoverage = new int[capacity];
+        this.lastCoverage = new int[capacity];
+        this.coverageIds = new UUID[capacity];
+        this.premiums = new long[capacity];
+        this.next = new int[capacity];
+    }
+
+    /**
+     * Adds a recipient row; rows of the same person add further coverages.
+     *
+     * @return {@code false} if the AHV number is malformed and the row was ignored
+     */
+    public boolean add(SubsidyRecipient recipient) {
+        long ahv = AhvNumber.pack(recipient.ahvNumber());
+        if (ahv == AhvNumber.INVALID) {
+            return false;
+        }
+        int person = persons.putIfAbsent(ahv, personCount);
+        if (person == AhvIndex.NOT_FOUND) {
+            person = addPerson(recipient);
+        }
+        if (recipient.coverageId() != null) {
+            addCoverage(person, recipient.coverageId(), recipient.monthlyPremium());
+        }
+        return true;
+    }
+
+    /**
+     * Handle of the person with an AHV number (formatted or not), or {@link #NONE}.
+     */
+    public int person(String ahvNumber) {
+        int person = persons.get(AhvNumber.pack(ahvNumber));
+        return person == AhvIndex.NOT_FOUND ? NONE : person;
+    }
+
+    public UUID personId(int person) {
+        return personIds[person];
+    }
+
+    public LocalDate dateOfBirth(int person) {
+        return LocalDate.ofEpochDay(birthDays[person]);
+    }
+
+    /**
+     * First KVG coverage handle of a person, or {@link #NONE}.
+     */
+    public int firstCoverage(int person) {
+        return firstCoverage[person];
+    }
+
+    /**
+     * Next KVG coverage handle of the same person, or {@link #NONE}.
+     */
+    public int nextCoverage(int coverage) {
+        return next[coverage];
+    }
+
+    public UUID coverageId(int coverage) {
+        return coverageIds[coverage];
+    }
+
+    public long monthlyPremium(int coverage) {
+        return premiums[coverage];
+    }
+
+    public int persons() {
+        return personCount;
+    }
+
+    public int coverages() {
+        return coverageCount;
+    }
+
+    private int addPerson(SubsidyRecipient recipient) {
+        if (personCount == personIds.length) {
+            int capacity = personCount << 1;
+            personIds = Arrays.copyOf(personIds, capacity);
+            birthDays = Arrays.copyOf(birthDays, capacity);
+            firstCoverage = Arrays.copyOf(firstCoverage, capacity);
+            lastCoverage = Arrays.copyOf(lastCoverage, capacity);
+        }
+        personIds[personCount] = recipient.personId();
+        birthDays[personCount] = Math.toIntExact(recipient.dateOfBirth().toEpochDay());
+        firstCoverage[personCount] = NONE;
+        lastCoverage[personCount] = NONE;
+        return personCount++;
+    }
+
+    private void addCoverage(int person, UUID coverageId, long monthlyPremium) {
+        if (coverageCount == coverageIds.length) {
+            int capacity = coverageCount << 1;
+            coverageIds = Arrays.copyOf(coverageIds, capacity);
+            premiums = Arrays.copyOf(premiums, capacity);
+            next = Arrays.copyOf(next, capacity);
+        }
+        coverageIds[coverageCount] = coverageId;
+        premiums[coverageCount] = monthlyPremium;
+        next[coverageCount] = NONE;
+        if (firstCoverage[person] == NONE) {
+            firstCoverage[person] = coverageCount;
+        } else {
+            next[lastCoverage[person]] = coverageCount;
+        }
+        lastCoverage[person] = coverageCount++;
+    }
+}
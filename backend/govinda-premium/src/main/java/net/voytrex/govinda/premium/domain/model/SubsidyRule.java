@@ -0,0 +1,26 @@
+/*
+ * Govinda ERP - Subsidy Rule
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.domain.model;
+
+import net.voytrex.govinda.common.domain.model.Canton;
+
+/**
+ * Cantonal rule calculating the premium reduction (IPV) of decisions that do
+ * not state a granted amount. Register one Spring bean per canton; the federal
+ * minimums for children and young adults are applied by the subsidy engine.
+ */
+public interface SubsidyRule {
+
+    Canton canton();
+
+    /**
+     * Monthly reduction in Rappen before federal minimums and capping, 0 if not eligible.
+     *
+     * @param monthlyPremium monthly KVG premium of the insured person in Rappen
+     */
+    long monthlySubsidy(SubsidyDecision decision, long monthlyPremium);
+}
@@ -0,0 +1,6 @@
+@NonNullApi
+@NonNullFields
+package net.voytrex.govinda.premium.domain.model;
+
+import org.springframework.lang.NonNullApi;
+import org.springframework.lang.NonNullFields;
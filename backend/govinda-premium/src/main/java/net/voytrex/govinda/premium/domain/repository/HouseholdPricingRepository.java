@@ -0,0 +1,35 @@
+/*
+ * Govinda ERP - Household Pricing Repository
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.domain.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import net.voytrex.govinda.premium.domain.model.HouseholdMemberCoverage;
+
+/**
+ * Set-based access to households and their members' pricing data.
+ *
+ * Members are current on the date, their coverages in force on the date.
+ * Rows of a household are ordered by date of birth (oldest first), then by
+ * person, so child ranks can be assigned in one pass.
+ */
+public interface HouseholdPricingRepository {
+
+    /**
+     * All rows of one household, read with a single query. Empty if the
+     * household does not exist or has no current members.
+     */
+    List<HouseholdMemberCoverage> findHousehold(UUID tenantId, UUID householdId, LocalDate date);
+
+    /**
+     * Streams the rows of every household of a tenant with a single query,
+     * handing over one household at a time. Must run in a transaction.
+     */
+    void forEachHousehold(UUID tenantId, LocalDate date, Consumer<List<HouseholdMemberCoverage>> action);
+}
@@ -0,0 +1,26 @@
+/*
+ * Govinda ERP - Portfolio Snapshot Repository
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.domain.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.Consumer;
+import net.voytrex.govinda.premium.domain.model.CoverageSnapshot;
+
+/**
+ * Read-only bulk access to the insured portfolio for simulations.
+ */
+public interface PortfolioSnapshotRepository {
+
+    /**
+     * Streams every coverage of the products in force on the date. The premium
+     * region is taken from the insured person's main address valid on the date,
+     * falling back to the region stored on the coverage. Must run in a transaction.
+     */
+    void forEachCoverage(UUID tenantId, Collection<UUID> productIds, LocalDate date, Consumer<CoverageSnapshot> action);
+}
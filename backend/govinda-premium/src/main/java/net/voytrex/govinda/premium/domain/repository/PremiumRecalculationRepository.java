@@ -0,0 +1,45 @@
+/*
+ * Govinda ERP - Premium Recalculation Repository
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.domain.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import net.voytrex.govinda.premium.domain.model.CoverageSnapshot;
+import net.voytrex.govinda.premium.domain.model.RecalculatedPremium;
+import net.voytrex.govinda.premium.domain.model.RecalculationOutcome;
+import net.voytrex.govinda.premium.domain.model.RecalculationPartition;
+import org.springframework.lang.Nullable;
+
+/**
+ * Bulk access to coverages and recalculation results for the annual premium update.
+ */
+public interface PremiumRecalculationRepository {
+
+    /**
+     * Tenant and premium region combinations with coverages in force on the date.
+     */
+    List<RecalculationPartition> findPartitions(LocalDate date);
+
+    /**
+     * Next chunk of coverages of a partition in force on the date, ordered by id.
+     *
+     * @param afterId keyset position; {@code null} for the first chunk
+     */
+    List<CoverageSnapshot> findChunk(RecalculationPartition partition, LocalDate date, @Nullable UUID afterId, int limit);
+
+    /**
+     * Stores results of a run; storing a coverage again replaces its result.
+     */
+    void saveResults(UUID runId, UUID tenantId, List<RecalculatedPremium> results);
+
+    /**
+     * Number of stored results of a run per outcome; outcomes without results are absent.
+     */
+    Map<RecalculationOutcome, Long> countOutcomes(UUID runId);
+}
@@ -0,0 +1,31 @@
+/*
+ * Govinda ERP - Premium Subsidy Repository
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.domain.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import net.voytrex.govinda.premium.domain.model.PremiumSubsidy;
+import net.voytrex.govinda.premium.domain.model.SubsidyRecipient;
+
+/**
+ * Bulk access to subsidy recipients and granted premium reductions (IPV).
+ */
+public interface PremiumSubsidyRepository {
+
+    /**
+     * Streams every person of the tenant, once per KVG coverage in force on the
+     * date, or once without coverage. Must run in a transaction.
+     */
+    void forEachRecipient(UUID tenantId, LocalDate date, Consumer<SubsidyRecipient> action);
+
+    /**
+     * Stores reductions; storing a decision for a coverage again replaces it.
+     */
+    void saveSubsidies(UUID runId, UUID tenantId, List<PremiumSubsidy> subsidies);
+}
@@ -0,0 +1,134 @@
+/*
+ * Govinda ERP - JDBC Household Pricing Repository
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.infrastructure.persistence;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.common.domain.model.Gender;
+import net.voytrex.govinda.common.domain.model.HouseholdRole;
+import net.voytrex.govinda.premium.domain.model.HouseholdMemberCoverage;
+import net.voytrex.govinda.premium.domain.repository.HouseholdPricingRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Plain JDBC implementation joining household, members, persons, main
+ * addresses and coverages in one statement, instead of loading each member
+ * and address separately. Tenant runs read through a server-side cursor
+ * ({@value #FETCH_SIZE} rows per round trip).
+ */
+@Repository
+public class JdbcHouseholdPricingRepository implements HouseholdPricingRepository {
+    static final int FETCH_SIZE = 10_000;
+
+    private static final String SELECT = """
+        SELECT hm.household_id, hm.person_id, hm.role, p.date_of_birth, p.gender,
+               COALESCE(a.premium_region_id, c.premium_region_id) AS premium_region_id,
+               c.id AS coverage_id, c.product_id, c.franchise, c.with_accident
+        FROM household h
+        JOIN household_member hm ON hm.household_id = h.id
+            AND hm.valid_from <= ? AND (hm.valid_to IS NULL OR hm.valid_to >= ?)
+        JOIN person p ON p.id = hm.person_id
+        LEFT JOIN LATERAL (
+            SELECT ad.premium_region_id
+            FROM address ad
+            WHERE ad.person_id = p.id
+            AND ad.address_type = 'MAIN'
+            AND ad.superseded_at IS NULL
+            AND ad.valid_from <= ?
+            AND (ad.valid_to IS NULL OR ad.valid_to >= ?)
+            ORDER BY ad.valid_from DESC
+            LIMIT 1
+        ) a ON TRUE
+        LEFT JOIN coverage c ON c.insured_person_id = p.id
+            AND c.tenant_id = h.tenant_id
+            AND c.status <> 'TERMINATED'
+            AND c.effective_date <= ?
+            AND (c.termination_date IS NULL OR c.termination_date >= ?)
+        WHERE h.tenant_id = ?
+        """;
+    private static final String ORDER = "ORDER BY hm.household_id, p.date_of_birth, hm.person_id, c.id";
+    private static final String FIND_HOUSEHOLD = SELECT + "AND h.id = ?\n" + ORDER;
+    private static final String FIND_TENANT = SELECT + ORDER;
+    private static final int DATE_PARAMETERS = 6;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcHouseholdPricingRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<HouseholdMemberCoverage> findHousehold(UUID tenantId, UUID householdId, LocalDate date) {
+        return jdbcTemplate.query(
+            connection -> {
+                PreparedStatement statement = connection.prepareStatement(FIND_HOUSEHOLD);
+                int index = bind(statement, tenantId, date);
+                statement.setObject(index, householdId);
+                return statement;
+            },
+            (resultSet, rowNum) -> map(resultSet)
+        );
+    }
+
+    @Override
+    public void forEachHousehold(UUID tenantId, LocalDate date, Consumer<List<HouseholdMemberCoverage>> action) {
+        List<HouseholdMemberCoverage> household = new ArrayList<>();
+        jdbcTemplate.query(
+            connection -> {
+                PreparedStatement statement = connection.prepareStatement(FIND_TENANT);
+                statement.setFetchSize(FETCH_SIZE);
+                bind(statement, tenantId, date);
+                return statement;
+            },
+            resultSet -> {
+                HouseholdMemberCoverage row = map(resultSet);
+                if (!household.isEmpty() && !household.get(0).householdId().equals(row.householdId())) {
+                    action.accept(List.copyOf(household));
+                    household.clear();
+                }
+                household.add(row);
+            }
+        );
+        if (!household.isEmpty()) {
+            action.accept(List.copyOf(household));
+        }
+    }
+
+    private static int bind(PreparedStatement statement, UUID tenantId, LocalDate date) throws SQLException {
+        Date sqlDate = Date.valueOf(date);
+        for (int index = 1; index <= DATE_PARAMETERS; index++) {
+            statement.setDate(index, sqlDate);
+        }
+        statement.setObject(DATE_PARAMETERS + 1, tenantId);
+        return DATE_PARAMETERS + 2;
+    }
+
+    private static HouseholdMemberCoverage map(ResultSet resultSet) throws SQLException {
+        String franchise = resultSet.getString("franchise");
+        return new HouseholdMemberCoverage(
+            resultSet.getObject("household_id", UUID.class),
+            resultSet.getObject("person_id", UUID.class),
+            HouseholdRole.valueOf(resultSet.getString("role")),
+            resultSet.getObject("date_of_birth", LocalDate.class),
+            Gender.valueOf(resultSet.getString("gender")),
+            resultSet.getObject("premium_region_id", UUID.class),
+            resultSet.getObject("coverage_id", UUID.class),
+            resultSet.getObject("product_id", UUID.class),
+            franchise != null ? Franchise.valueOf(franchise) : null,
+            resultSet.getBoolean("with_accident")
+        );
+    }
+}
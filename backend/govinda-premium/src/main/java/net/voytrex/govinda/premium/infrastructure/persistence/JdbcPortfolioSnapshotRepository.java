@@ -0,0 +1,95 @@
+/*
+ * Govinda ERP - JDBC Portfolio Snapshot Repository
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.infrastructure.persistence;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.Consumer;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.common.domain.model.Gender;
+import net.voytrex.govinda.common.domain.model.Rappen;
+import net.voytrex.govinda.premium.domain.model.CoverageSnapshot;
+import net.voytrex.govinda.premium.domain.repository.PortfolioSnapshotRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Plain JDBC implementation reading the portfolio through a server-side cursor
+ * ({@value #FETCH_SIZE} rows per round trip), so memory use does not depend on
+ * the portfolio size until the caller keeps the rows.
+ */
+@Repository
+public class JdbcPortfolioSnapshotRepository implements PortfolioSnapshotRepository {
+    static final int FETCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcPortfolioSnapshotRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void forEachCoverage(
+        UUID tenantId,
+        Collection<UUID> productIds,
+        LocalDate date,
+        Consumer<CoverageSnapshot> action
+    ) {
+        Date sqlDate = Date.valueOf(date);
+        jdbcTemplate.query(
+            connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                    """
+                    SELECT c.id, c.product_id, COALESCE(a.premium_region_id, c.premium_region_id) AS premium_region_id,
+                           c.franchise, c.with_accident, c.monthly_premium, p.date_of_birth, p.gender
+                    FROM coverage c
+                    JOIN person p ON p.id = c.insured_person_id
+                    LEFT JOIN LATERAL (
+                        SELECT ad.premium_region_id
+                        FROM address ad
+                        WHERE ad.person_id = p.id
+                        AND ad.address_type = 'MAIN'
+                        AND ad.superseded_at IS NULL
+                        AND ad.valid_from <= ?
+                        AND (ad.valid_to IS NULL OR ad.valid_to >= ?)
+                        ORDER BY ad.valid_from DESC
+                        LIMIT 1
+                    ) a ON TRUE
+                    WHERE c.tenant_id = ? AND c.product_id = ANY (?)
+                    AND c.status <> 'TERMINATED'
+                    AND c.effective_date <= ?
+                    AND (c.termination_date IS NULL OR c.termination_date >= ?)
+                    """
+                );
+                statement.setFetchSize(FETCH_SIZE);
+                statement.setDate(1, sqlDate);
+                statement.setDate(2, sqlDate);
+                statement.setObject(3, tenantId);
+                statement.setArray(4, connection.createArrayOf("uuid", productIds.toArray()));
+                statement.setDate(5, sqlDate);
+                statement.setDate(6, sqlDate);
+                return statement;
+            },
+            resultSet -> {
+                String franchise = resultSet.getString("franchise");
+                action.accept(new CoverageSnapshot(
+                    resultSet.getObject("id", UUID.class),
+                    resultSet.getObject("product_id", UUID.class),
+                    resultSet.getObject("premium_region_id", UUID.class),
+                    franchise != null ? Franchise.valueOf(franchise) : null,
+                    resultSet.getBoolean("with_accident"),
+                    resultSet.getObject("date_of_birth", LocalDate.class),
+                    Gender.valueOf(resultSet.getString("gender")),
+                    Rappen.fromDecimal(resultSet.getBigDecimal("monthly_premium"))
+                ));
+            }
+        );
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Govinda ERP - JDBC Premium Recalculation Repository
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.infrastructure.persistence;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.common.domain.model.Gender;
+import net.voytrex.govinda.common.domain.model.Rappen;
+import net.voytrex.govinda.premium.domain.model.CoverageSnapshot;
+import net.voytrex.govinda.premium.domain.model.RecalculatedPremium;
+import net.voytrex.govinda.premium.domain.model.RecalculationOutcome;
+import net.voytrex.govinda.premium.domain.model.RecalculationPartition;
+import net.voytrex.govinda.premium.domain.repository.PremiumRecalculationRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Plain JDBC implementation: chunks are read with keyset pagination on the
+ * partial index {@code idx_coverage_partition} and results are written with
+ * one batched upsert per chunk. Entities are not loaded, so the persistence
+ * context stays empty however many coverages a run touches.
+ */
+@Repository
+public class JdbcPremiumRecalculationRepository implements PremiumRecalculationRepository {
+    private static final String IN_FORCE = """
+        c.status <> 'TERMINATED'
+        AND c.effective_date <= ?
+        AND (c.termination_date IS NULL OR c.termination_date >= ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcPremiumRecalculationRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<RecalculationPartition> findPartitions(LocalDate date) {
+        Date sqlDate = Date.valueOf(date);
+        return jdbcTemplate.query(
+            "SELECT DISTINCT c.tenant_id, c.premium_region_id FROM coverage c WHERE " + IN_FORCE
+                + " ORDER BY c.tenant_id, c.premium_region_id",
+            (resultSet, rowNum) -> new RecalculationPartition(
+                resultSet.getObject("tenant_id", UUID.class),
+                resultSet.getObject("premium_region_id", UUID.class)
+            ),
+            sqlDate,
+            sqlDate
+        );
+    }
+
+    @Override
+    public List<CoverageSnapshot> findChunk(
+        RecalculationPartition partition,
+        LocalDate date,
+        @Nullable UUID afterId,
+        int limit
+    ) {
+        Date sqlDate = Date.valueOf(date);
+        return jdbcTemplate.query(
+            """
+            SELECT c.id, c.product_id, c.premium_region_id, c.franchise, c.with_accident,
+                   c.monthly_premium, p.date_of_birth, p.gender
+            FROM coverage c
+            JOIN person p ON p.id = c.insured_person_id
+            WHERE c.tenant_id = ? AND c.premium_region_id = ?
+            AND c.id > COALESCE(CAST(? AS UUID), '00000000-0000-0000-0000-000000000000'::uuid)
+            AND """ + IN_FORCE + """
+            ORDER BY c.id
+            LIMIT ?
+            """,
+            (resultSet, rowNum) -> {
+                String franchise = resultSet.getString("franchise");
+                return new CoverageSnapshot(
+                    resultSet.getObject("id", UUID.class),
+                    resultSet.getObject("product_id", UUID.class),
+                    resultSet.getObject("premium_region_id", UUID.class),
+                    franchise != null ? Franchise.valueOf(franchise) : null,
+                    resultSet.getBoolean("with_accident"),
+                    resultSet.getObject("date_of_birth", LocalDate.class),
+                    Gender.valueOf(resultSet.getString("gender")),
+                    Rappen.fromDecimal(resultSet.getBigDecimal("monthly_premium"))
+                );
+            },
+            partition.tenantId(),
+            partition.premiumRegionId(),
+            afterId,
+            sqlDate,
+            sqlDate,
+            limit
+        );
+    }
+
+    @Override
+    public void saveResults(UUID runId, UUID tenantId, List<RecalculatedPremium> results) {
+        jdbcTemplate.batchUpdate(
+            """
+            INSERT INTO premium_recalculation_result
+                (run_id, coverage_id, tenant_id, tariff_id, age_group, monthly_premium, previous_premium, outcome)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (run_id, coverage_id) DO UPDATE
+            SET tariff_id = EXCLUDED.tariff_id,
+                age_group = EXCLUDED.age_group,
+                monthly_premium = EXCLUDED.monthly_premium,
+                previous_premium = EXCLUDED.previous_premium,
+                outcome = EXCLUDED.outcome
+            """,
+            results,
+            results.size(),
+            (statement, result) -> {
+                Long premium = result.monthlyPremium();
+                statement.setObject(1, runId);
+                statement.setObject(2, result.coverageId());
+                statement.setObject(3, tenantId);
+                statement.setObject(4, result.tariffId());
+                statement.setString(5, result.ageGroup().name());
+                statement.setBigDecimal(6, premium != null ? Rappen.toNumeric(premium) : null);
+                statement.setBigDecimal(7, Rappen.toNumeric(result.previousPremium()));
+                statement.setString(8, result.outcome().name());
+            }
+        );
+    }
+
+    @Override
+    public Map<RecalculationOutcome, Long> countOutcomes(UUID runId) {
+        Map<RecalculationOutcome, Long> counts = new EnumMap<>(RecalculationOutcome.class);
+        jdbcTemplate.query(
+            "SELECT outcome, COUNT(*) AS results FROM premium_recalculation_result WHERE run_id = ? GROUP BY outcome",
+            resultSet -> {
+                counts.put(RecalculationOutcome.valueOf(resultSet.getString("outcome")), resultSet.getLong("results"));
+            },
+            runId
+        );
+        return counts;
+    }
+}
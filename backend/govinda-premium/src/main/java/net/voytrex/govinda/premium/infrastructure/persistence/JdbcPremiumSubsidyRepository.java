@@ -0,0 +1,105 @@
+/*
+ * Govinda ERP - JDBC Premium Subsidy Repository
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.infrastructure.persistence;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import net.voytrex.govinda.common.domain.model.Rappen;
+import net.voytrex.govinda.premium.domain.model.PremiumSubsidy;
+import net.voytrex.govinda.premium.domain.model.SubsidyRecipient;
+import net.voytrex.govinda.premium.domain.repository.PremiumSubsidyRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Plain JDBC implementation: recipients are read in one query through a
+ * server-side cursor ({@value #FETCH_SIZE} rows per round trip) and
+ * reductions are written with one batched upsert per chunk.
+ */
+@Repository
+public class JdbcPremiumSubsidyRepository implements PremiumSubsidyRepository {
+    static final int FETCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcPremiumSubsidyRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void forEachRecipient(UUID tenantId, LocalDate date, Consumer<SubsidyRecipient> action) {
+        Date sqlDate = Date.valueOf(date);
+        jdbcTemplate.query(
+            connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                    """
+                    SELECT p.id, p.ahv_nr, p.date_of_birth, c.id AS coverage_id, c.monthly_premium
+                    FROM person p
+                    LEFT JOIN coverage c ON c.insured_person_id = p.id
+                        AND c.status <> 'TERMINATED'
+                        AND c.effective_date <= ?
+                        AND (c.termination_date IS NULL OR c.termination_date >= ?)
+                        AND EXISTS (
+                            SELECT 1 FROM product pr WHERE pr.id = c.product_id AND pr.product_type = 'KVG'
+                        )
+                    WHERE p.tenant_id = ?
+                    """
+                );
+                statement.setFetchSize(FETCH_SIZE);
+                statement.setDate(1, sqlDate);
+                statement.setDate(2, sqlDate);
+                statement.setObject(3, tenantId);
+                return statement;
+            },
+            resultSet -> {
+                UUID coverageId = resultSet.getObject("coverage_id", UUID.class);
+                action.accept(new SubsidyRecipient(
+                    resultSet.getString("ahv_nr"),
+                    resultSet.getObject("id", UUID.class),
+                    resultSet.getObject("date_of_birth", LocalDate.class),
+                    coverageId,
+                    coverageId != null ? Rappen.fromDecimal(resultSet.getBigDecimal("monthly_premium")) : 0
+                ));
+            }
+        );
+    }
+
+    @Override
+    public void saveSubsidies(UUID runId, UUID tenantId, List<PremiumSubsidy> subsidies) {
+        jdbcTemplate.batchUpdate(
+            """
+            INSERT INTO premium_subsidy
+                (tenant_id, person_id, coverage_id, canton, decision_number, valid_from, valid_to,
+                 monthly_amount, run_id)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (coverage_id, decision_number) DO UPDATE
+            SET valid_from = EXCLUDED.valid_from,
+                valid_to = EXCLUDED.valid_to,
+                monthly_amount = EXCLUDED.monthly_amount,
+                run_id = EXCLUDED.run_id,
+                updated_at = NOW()
+            """,
+            subsidies,
+            subsidies.size(),
+            (statement, subsidy) -> {
+                statement.setObject(1, tenantId);
+                statement.setObject(2, subsidy.personId());
+                statement.setObject(3, subsidy.coverageId());
+                statement.setString(4, subsidy.canton().getCode());
+                statement.setString(5, subsidy.decisionNumber());
+                statement.setDate(6, Date.valueOf(subsidy.validFrom()));
+                statement.setDate(7, Date.valueOf(subsidy.validTo()));
+                statement.setBigDecimal(8, Rappen.toNumeric(subsidy.monthlyAmount()));
+                statement.setObject(9, runId);
+            }
+        );
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Govinda ERP - Premium Recalculation Result Migration
+ * Version: V035
+ * Description: Creates the staging table of the annual premium recalculation
+ */
+
+-- ═══════════════════════════════════════════════════════════════
+-- PREMIUM RECALCULATION RESULT
+-- ═══════════════════════════════════════════════════════════════
+-- One row per coverage and run. No foreign key to coverage: rows are written
+-- in bulk and only applied to coverages on the effective date.
+CREATE TABLE premium_recalculation_result (
+    run_id              UUID NOT NULL REFERENCES batch_run(id) ON DELETE CASCADE,
+    coverage_id         UUID NOT NULL,
+    tenant_id           UUID NOT NULL REFERENCES tenant(id),
+
+    tariff_id           UUID,
+    age_group           VARCHAR(20) NOT NULL,
+    monthly_premium     NUMERIC(12, 2),
+    previous_premium    NUMERIC(12, 2) NOT NULL,
+    outcome             VARCHAR(20) NOT NULL,
+
+    created_at          TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+
+    PRIMARY KEY (run_id, coverage_id),
+    CONSTRAINT chk_recalc_age CHECK (age_group IN ('CHILD', 'YOUNG_ADULT', 'ADULT')),
+    CONSTRAINT chk_recalc_outcome CHECK (outcome IN ('PRICED', 'NO_TARIFF', 'NO_PREMIUM'))
+);
+
+CREATE INDEX idx_recalc_outcome ON premium_recalculation_result(run_id, outcome) WHERE outcome <> 'PRICED';
+
+COMMENT ON TABLE premium_recalculation_result IS 'New premiums computed by the annual premium update (PREMIUM_UPDATE)';
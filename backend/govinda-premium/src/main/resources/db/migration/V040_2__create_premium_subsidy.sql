@@ -0,0 +1,36 @@
+/*
+ * Govinda ERP - Premium Subsidy Migration
+ * Version: V040_2
+ * Description: Creates the table of cantonal premium reductions (IPV)
+ */
+
+-- ═══════════════════════════════════════════════════════════════
+-- PREMIUM SUBSIDY
+-- ═══════════════════════════════════════════════════════════════
+-- One row per coverage and cantonal decision, written in bulk by the subsidy
+-- import. No foreign key to coverage (created by the contract module later).
+CREATE TABLE premium_subsidy (
+    id                  UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    tenant_id           UUID NOT NULL REFERENCES tenant(id),
+    person_id           UUID NOT NULL,
+    coverage_id         UUID NOT NULL,
+
+    canton              VARCHAR(2) NOT NULL,
+    decision_number     VARCHAR(50) NOT NULL,
+    valid_from          DATE NOT NULL,
+    valid_to            DATE NOT NULL,
+    monthly_amount      NUMERIC(12, 2) NOT NULL,
+    run_id              UUID REFERENCES batch_run(id) ON DELETE SET NULL,
+
+    created_at          TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    updated_at          TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+
+    CONSTRAINT uk_premium_subsidy_decision UNIQUE (coverage_id, decision_number),
+    CONSTRAINT chk_subsidy_period CHECK (valid_to >= valid_from),
+    CONSTRAINT chk_subsidy_amount CHECK (monthly_amount >= 0)
+);
+
+CREATE INDEX idx_premium_subsidy_coverage ON premium_subsidy(coverage_id, valid_from);
+CREATE INDEX idx_premium_subsidy_person ON premium_subsidy(person_id);
+
+COMMENT ON TABLE premium_subsidy IS 'Cantonal premium reductions (IPV) per coverage and decision';
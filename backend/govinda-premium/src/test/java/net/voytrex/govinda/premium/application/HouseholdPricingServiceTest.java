@@ -0,0 +1,212 @@
+/*
+ * Govinda ERP - Household Pricing Service Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import net.voytrex.govinda.common.domain.exception.EntityNotFoundException;
+import net.voytrex.govinda.common.domain.model.AgeGroup;
+import net.voytrex.govinda.common.domain.model.Canton;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.common.domain.model.Gender;
+import net.voytrex.govinda.common.domain.model.HouseholdRole;
+import net.voytrex.govinda.common.domain.model.InsuranceModel;
+import net.voytrex.govinda.common.domain.model.LocalizedText;
+import net.voytrex.govinda.common.domain.model.ProductType;
+import net.voytrex.govinda.common.infrastructure.cache.CacheInvalidationBus;
+import net.voytrex.govinda.premium.domain.model.HouseholdMemberCoverage;
+import net.voytrex.govinda.premium.domain.model.HouseholdPremium;
+import net.voytrex.govinda.premium.domain.repository.HouseholdPricingRepository;
+import net.voytrex.govinda.product.application.TariffRegistry;
+import net.voytrex.govinda.product.domain.model.PremiumRate;
+import net.voytrex.govinda.product.domain.model.PremiumRegion;
+import net.voytrex.govinda.product.domain.model.PremiumTable;
+import net.voytrex.govinda.product.domain.model.Product;
+import net.voytrex.govinda.product.domain.model.Tariff;
+import net.voytrex.govinda.product.domain.repository.PremiumEntryRepository;
+import net.voytrex.govinda.product.domain.repository.PremiumRegionRepository;
+import net.voytrex.govinda.product.domain.repository.PremiumTableSnapshotStore;
+import net.voytrex.govinda.product.domain.repository.TariffRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Tag("unit")
+@Tag("fast")
+class HouseholdPricingServiceTest {
+    private static final UUID TENANT_ID = UUID.randomUUID();
+    private static final LocalDate DATE = LocalDate.of(2026, 3, 1);
+    private static final PremiumRegion ZH_1 = new PremiumRegion(UUID.randomUUID(), Canton.ZH, 1, "Zürich 1");
+
+    private final TariffRepository tariffRepository = mock(TariffRepository.class);
+    private final PremiumEntryRepository premiumEntryRepository = mock(PremiumEntryRepository.class);
+    private final PremiumRegionRepository premiumRegionRepository = mock(PremiumRegionRepository.class);
+    private final HouseholdPricingRepository householdPricingRepository = mock(HouseholdPricingRepository.class);
+    private final HouseholdPricingService service = new HouseholdPricingService(
+        new PremiumEngine(
+            tariffRepository,
+            new TariffRegistry(
+                tariffRepository,
+                premiumEntryRepository,
+                premiumRegionRepository,
+                mock(PremiumTableSnapshotStore.class),
+                new CacheInvalidationBus(mock(JdbcTemplate.class), "govinda_cache_invalidation")
+            )
+        ),
+        householdPricingRepository,
+        new int[] {0, 25, 50}
+    );
+    private final UUID householdId = UUID.randomUUID();
+    private Tariff tariff;
+
+    @BeforeEach
+    void setUp() {
+        when(premiumRegionRepository.findAll()).thenReturn(List.of(ZH_1));
+        Product product = new Product(TENANT_ID, "KVG_STD", ProductType.KVG, InsuranceModel.STANDARD, name());
+        tariff = new Tariff(product, "2026-V1", LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31));
+        tariff.activate();
+        when(tariffRepository.findActiveOn(TENANT_ID, ProductType.KVG, DATE)).thenReturn(List.of(tariff));
+        when(premiumEntryRepository.findRatesByTariffId(tariff.getId())).thenReturn(List.of(
+            rate(AgeGroup.ADULT, Franchise.CHF_300, "450.00"),
+            rate(AgeGroup.YOUNG_ADULT, Franchise.CHF_300, "320.00"),
+            rate(AgeGroup.CHILD, Franchise.CHF_0, "110.30")
+        ));
+    }
+
+    @Test
+    void shouldApplyChildDiscountsByRankOldestFirst() {
+        List<HouseholdMemberCoverage> rows = List.of(
+            covered(HouseholdRole.PRIMARY, LocalDate.of(1980, 1, 1), Franchise.CHF_300),
+            covered(HouseholdRole.CHILD, LocalDate.of(2003, 1, 1), Franchise.CHF_300),
+            covered(HouseholdRole.CHILD, LocalDate.of(2014, 1, 1), Franchise.CHF_0),
+            covered(HouseholdRole.CHILD, LocalDate.of(2017, 1, 1), Franchise.CHF_0),
+            covered(HouseholdRole.CHILD, LocalDate.of(2020, 1, 1), Franchise.CHF_0)
+        );
+        when(householdPricingRepository.findHousehold(TENANT_ID, householdId, DATE)).thenReturn(rows);
+
+        HouseholdPremium premium = service.price(TENANT_ID, householdId, DATE);
+
+        assertThat(premium.childCount()).isEqualTo(4);
+        assertThat(premium.members()).extracting(HouseholdPremium.MemberPremium::discountPercent)
+            .containsExactly(0, 0, 0, 25, 50);
+        assertThat(premium.members().get(1).ageGroup()).isEqualTo(AgeGroup.YOUNG_ADULT);
+        // 110.30 * 25% = 27.575 -> 27.60, 110.30 * 50% = 55.15
+        assertThat(premium.members().get(3).coverages().get(0).discount()).isEqualTo(2_760L);
+        assertThat(premium.members().get(4).coverages().get(0).netPremium()).isEqualTo(5_515L);
+        assertThat(premium.grossPremium()).isEqualTo(45_000L + 32_000L + 3 * 11_030L);
+        assertThat(premium.discount()).isEqualTo(2_760L + 5_515L);
+        assertThat(premium.netPremium()).isEqualTo(premium.grossPremium() - premium.discount());
+    }
+
+    @Test
+    void shouldCountUncoveredMembersAndLeaveUnpricedCoveragesOutOfTotals() {
+        List<HouseholdMemberCoverage> rows = List.of(
+            covered(HouseholdRole.PRIMARY, LocalDate.of(1980, 1, 1), Franchise.CHF_300),
+            covered(HouseholdRole.PARTNER, LocalDate.of(1982, 1, 1), Franchise.CHF_2500),
+            new HouseholdMemberCoverage(
+                householdId, UUID.randomUUID(), HouseholdRole.CHILD, LocalDate.of(2016, 1, 1), Gender.MALE,
+                ZH_1.getId(), null, null, null, false
+            )
+        );
+        when(householdPricingRepository.findHousehold(TENANT_ID, householdId, DATE)).thenReturn(rows);
+
+        HouseholdPremium premium = service.price(TENANT_ID, householdId, DATE);
+
+        assertThat(premium.childCount()).isEqualTo(1);
+        assertThat(premium.members()).hasSize(3);
+        assertThat(premium.members().get(1).coverages().get(0).priced()).isFalse();
+        assertThat(premium.members().get(2).coverages()).isEmpty();
+        assertThat(premium.grossPremium()).isEqualTo(45_000L);
+    }
+
+    @Test
+    void shouldPriceMemberWithSeveralCoverages() {
+        UUID personId = UUID.randomUUID();
+        List<HouseholdMemberCoverage> rows = List.of(
+            coverage(personId, HouseholdRole.PRIMARY, LocalDate.of(1980, 1, 1), tariff.getProduct().getId()),
+            coverage(personId, HouseholdRole.PRIMARY, LocalDate.of(1980, 1, 1), UUID.randomUUID())
+        );
+        when(householdPricingRepository.findHousehold(TENANT_ID, householdId, DATE)).thenReturn(rows);
+
+        HouseholdPremium premium = service.price(TENANT_ID, householdId, DATE);
+
+        assertThat(premium.members()).hasSize(1);
+        assertThat(premium.members().get(0).coverages()).extracting(HouseholdPremium.CoveragePremium::tariffId)
+            .containsExactly(tariff.getId(), null);
+        assertThat(premium.grossPremium()).isEqualTo(45_000L);
+    }
+
+    @Test
+    void shouldRejectUnknownHousehold() {
+        assertThatThrownBy(() -> service.price(TENANT_ID, householdId, DATE))
+            .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    void shouldPriceWholeTenantWithTariffsResolvedOnce() {
+        List<List<HouseholdMemberCoverage>> households = List.of(
+            List.of(covered(HouseholdRole.PRIMARY, LocalDate.of(1980, 1, 1), Franchise.CHF_300)),
+            List.of(covered(HouseholdRole.PRIMARY, LocalDate.of(1990, 1, 1), Franchise.CHF_300))
+        );
+        doAnswer(invocation -> {
+            households.forEach(invocation.<Consumer<List<HouseholdMemberCoverage>>>getArgument(2));
+            return null;
+        }).when(householdPricingRepository).forEachHousehold(eq(TENANT_ID), eq(DATE), any());
+        List<HouseholdPremium> priced = new ArrayList<>();
+
+        long count = service.priceTenant(TENANT_ID, DATE, priced::add);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(priced).extracting(HouseholdPremium::grossPremium).containsExactly(45_000L, 45_000L);
+        verify(tariffRepository, times(1)).findActiveOn(TENANT_ID, ProductType.KVG, DATE);
+        verify(premiumEntryRepository, times(1)).findRatesByTariffId(tariff.getId());
+    }
+
+    @Test
+    void shouldRejectInvalidDiscountConfiguration() {
+        assertThatThrownBy(() -> new HouseholdPricingService(
+            mock(PremiumEngine.class), householdPricingRepository, new int[] {0, 120}
+        )).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private HouseholdMemberCoverage covered(HouseholdRole role, LocalDate dateOfBirth, Franchise franchise) {
+        return new HouseholdMemberCoverage(
+            householdId, UUID.randomUUID(), role, dateOfBirth, Gender.FEMALE,
+            ZH_1.getId(), UUID.randomUUID(), tariff.getProduct().getId(), franchise, false
+        );
+    }
+
+    private HouseholdMemberCoverage coverage(UUID personId, HouseholdRole role, LocalDate dateOfBirth, UUID productId) {
+        return new HouseholdMemberCoverage(
+            householdId, personId, role, dateOfBirth, Gender.FEMALE,
+            ZH_1.getId(), UUID.randomUUID(), productId, Franchise.CHF_300, false
+        );
+    }
+
+    private static PremiumRate rate(AgeGroup ageGroup, Franchise franchise, String amount) {
+        return new PremiumRate(ZH_1.getId(), ageGroup, franchise, false, null, new BigDecimal(amount));
+    }
+
+    private static LocalizedText name() {
+        return new LocalizedText("Grundversicherung", "Assurance de base", "Assicurazione di base", "Basic insurance");
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Govinda ERP - Portfolio Simulation Service Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import net.voytrex.govinda.common.domain.exception.PremiumCalculationException;
+import net.voytrex.govinda.common.domain.model.AgeGroup;
+import net.voytrex.govinda.common.domain.model.Canton;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.common.domain.model.Gender;
+import net.voytrex.govinda.common.domain.model.InsuranceModel;
+import net.voytrex.govinda.common.domain.model.LocalizedText;
+import net.voytrex.govinda.common.domain.model.ProductType;
+import net.voytrex.govinda.common.infrastructure.cache.CacheInvalidationBus;
+import net.voytrex.govinda.premium.domain.model.CoverageSnapshot;
+import net.voytrex.govinda.premium.domain.model.PortfolioSimulation;
+import net.voytrex.govinda.premium.domain.model.PortfolioSnapshot;
+import net.voytrex.govinda.premium.domain.model.SimulationFigures;
+import net.voytrex.govinda.premium.domain.repository.PortfolioSnapshotRepository;
+import net.voytrex.govinda.product.application.TariffRegistry;
+import net.voytrex.govinda.product.domain.model.PremiumRate;
+import net.voytrex.govinda.product.domain.model.PremiumRegion;
+import net.voytrex.govinda.product.domain.model.Product;
+import net.voytrex.govinda.product.domain.model.Tariff;
+import net.voytrex.govinda.product.domain.repository.PremiumEntryRepository;
+import net.voytrex.govinda.product.domain.repository.PremiumRegionRepository;
+import net.voytrex.govinda.product.domain.repository.PremiumTableSnapshotStore;
+import net.voytrex.govinda.product.domain.repository.TariffRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Tag("unit")
+@Tag("fast")
+class PortfolioSimulationServiceTest {
+    private static final UUID TENANT_ID = UUID.randomUUID();
+    private static final LocalDate DATE = LocalDate.of(2027, 1, 1);
+    private static final PremiumRegion ZH_1 = new PremiumRegion(UUID.randomUUID(), Canton.ZH, 1, "Zürich 1");
+    private static final PremiumRegion ZH_2 = new PremiumRegion(UUID.randomUUID(), Canton.ZH, 2, "Zürich 2");
+    private static final PremiumRegion BE_1 = new PremiumRegion(UUID.randomUUID(), Canton.BE, 1, "Bern 1");
+
+    private final TariffRepository tariffRepository = mock(TariffRepository.class);
+    private final PremiumEntryRepository premiumEntryRepository = mock(PremiumEntryRepository.class);
+    private final PremiumRegionRepository premiumRegionRepository = mock(PremiumRegionRepository.class);
+    private final PortfolioSnapshotRepository portfolioSnapshotRepository = mock(PortfolioSnapshotRepository.class);
+    private final PortfolioSimulationService service = new PortfolioSimulationService(
+        new PremiumEngine(
+            tariffRepository,
+            new TariffRegistry(
+                tariffRepository,
+                premiumEntryRepository,
+                premiumRegionRepository,
+                mock(PremiumTableSnapshotStore.class),
+                bus()
+            )
+        ),
+        tariffRepository,
+        portfolioSnapshotRepository,
+        mock(PlatformTransactionManager.class)
+    );
+    private final List<CoverageSnapshot> portfolio = new ArrayList<>();
+    private Tariff draft;
+
+    @BeforeEach
+    void setUp() {
+        when(premiumRegionRepository.findAll()).thenReturn(List.of(ZH_1, ZH_2, BE_1));
+        draft = draftTariff(InsuranceModel.HMO, List.of(
+            rate(ZH_1, AgeGroup.ADULT, Franchise.CHF_300, false, "420.00"),
+            rate(ZH_2, AgeGroup.ADULT, Franchise.CHF_300, false, "400.00"),
+            rate(BE_1, AgeGroup.ADULT, Franchise.CHF_300, false, "380.00"),
+            rate(BE_1, AgeGroup.CHILD, Franchise.CHF_0, false, "100.00")
+        ));
+        doAnswer(invocation -> {
+            portfolio.forEach(invocation.<Consumer<CoverageSnapshot>>getArgument(3));
+            return null;
+        }).when(portfolioSnapshotRepository).forEachCoverage(eq(TENANT_ID), any(), eq(DATE), any());
+    }
+
+    @Test
+    void shouldAggregateByCantonRegionAgeGroupAndModel() {
+        portfolio.add(coverage(ZH_1, LocalDate.of(1980, 5, 1), Franchise.CHF_300, "400.00"));
+        portfolio.add(coverage(ZH_2, LocalDate.of(1970, 5, 1), Franchise.CHF_300, "390.00"));
+        portfolio.add(coverage(BE_1, LocalDate.of(1990, 5, 1), Franchise.CHF_300, "370.00"));
+        portfolio.add(coverage(BE_1, LocalDate.of(2020, 5, 1), Franchise.CHF_0, "95.00"));
+
+        PortfolioSimulation simulation = service.simulate(draft.getId());
+
+        assertThat(simulation.total()).isEqualTo(new SimulationFigures(4, 0, 125_500, 130_000));
+        assertThat(simulation.total().delta()).isEqualTo(4_500);
+        assertThat(simulation.byCanton()).containsOnlyKeys(Canton.ZH, Canton.BE);
+        assertThat(simulation.byCanton().get(Canton.ZH)).isEqualTo(new SimulationFigures(2, 0, 79_000, 82_000));
+        assertThat(simulation.byRegion().get(BE_1.getId())).isEqualTo(new SimulationFigures(2, 0, 46_500, 48_000));
+        assertThat(simulation.byAgeGroup().get(AgeGroup.CHILD)).isEqualTo(new SimulationFigures(1, 0, 9_500, 10_000));
+        assertThat(simulation.byModel()).containsOnlyKeys(InsuranceModel.HMO);
+        assertThat(simulation.byModel().get(InsuranceModel.HMO)).isEqualTo(simulation.total());
+    }
+
+    @Test
+    void shouldCountCoveragesWithoutPremiumAsUnpriced() {
+        portfolio.add(coverage(ZH_1, LocalDate.of(1980, 5, 1), Franchise.CHF_300, "400.00"));
+        portfolio.add(coverage(ZH_1, LocalDate.of(1980, 5, 1), Franchise.CHF_2500, "300.00"));
+        portfolio.add(new CoverageSnapshot(
+            UUID.randomUUID(), draft.getProduct().getId(), UUID.randomUUID(), Franchise.CHF_300, false,
+            LocalDate.of(1980, 5, 1), Gender.FEMALE, 40_000
+        ));
+
+        PortfolioSimulation simulation = service.simulate(draft.getId());
+
+        assertThat(simulation.total()).isEqualTo(new SimulationFigures(3, 2, 40_000, 42_000));
+        assertThat(simulation.byRegion().get(ZH_1.getId())).isEqualTo(new SimulationFigures(2, 1, 40_000, 42_000));
+        assertThat(simulation.byAgeGroup().get(AgeGroup.ADULT).coverages()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldSplitLargePortfoliosWithoutLosingCoverages() {
+        int size = PortfolioSimulationService.SPLIT_THRESHOLD * 5 + 7;
+        for (int i = 0; i < size; i++) {
+            portfolio.add(coverage(i % 2 == 0 ? ZH_1 : BE_1, LocalDate.of(1980, 5, 1), Franchise.CHF_300, "400.00"));
+        }
+        PortfolioSnapshot snapshot = service.snapshot(TENANT_ID, List.of(draft.getProduct().getId()), DATE);
+
+        PortfolioSimulation simulation = service.simulate(List.of(draft.getId()), snapshot);
+
+        assertThat(snapshot.size()).isEqualTo(size);
+        assertThat(simulation.total().coverages()).isEqualTo(size);
+        assertThat(simulation.byRegion().get(ZH_1.getId()).simulatedPremium()).isEqualTo((size + 1) / 2 * 42_000L);
+        assertThat(simulation.byRegion().get(BE_1.getId()).simulatedPremium()).isEqualTo(size / 2 * 38_000L);
+    }
+
+    @Test
+    void shouldRejectTariffOfProductOutsideSnapshot() {
+        PortfolioSnapshot snapshot = service.snapshot(TENANT_ID, List.of(UUID.randomUUID()), DATE);
+
+        assertThatThrownBy(() -> service.simulate(List.of(draft.getId()), snapshot))
+            .isInstanceOf(PremiumCalculationException.class);
+    }
+
+    @Test
+    void shouldRejectTariffThatIsNoLongerDraft() {
+        draft.activate();
+
+        assertThatThrownBy(() -> service.simulate(draft.getId()))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("DRAFT");
+    }
+
+    private Tariff draftTariff(InsuranceModel model, List<PremiumRate> rates) {
+        Product product = new Product(
+            TENANT_ID,
+            "KVG_" + model,
+            ProductType.KVG,
+            model,
+            new LocalizedText("Grundversicherung", "Assurance de base", "Assicurazione di base", "Basic insurance")
+        );
+        Tariff tariff = new Tariff(product, "2027-V1", DATE, LocalDate.of(2027, 12, 31));
+        when(tariffRepository.findById(tariff.getId())).thenReturn(Optional.of(tariff));
+        when(premiumEntryRepository.findRatesByTariffId(tariff.getId())).thenReturn(rates);
+        return tariff;
+    }
+
+    private CoverageSnapshot coverage(PremiumRegion region, LocalDate dateOfBirth, Franchise franchise, String premium) {
+        return new CoverageSnapshot(
+            UUID.randomUUID(),
+            draft.getProduct().getId(),
+            region.getId(),
+            franchise,
+            false,
+            dateOfBirth,
+            Gender.FEMALE,
+            new BigDecimal(premium).movePointRight(2).longValueExact()
+        );
+    }
+
+    private static CacheInvalidationBus bus() {
+        return new CacheInvalidationBus(mock(JdbcTemplate.class), "govinda_cache_invalidation");
+    }
+
+    private static PremiumRate rate(
+        PremiumRegion region,
+        AgeGroup ageGroup,
+        Franchise franchise,
+        boolean withAccident,
+        String amount
+    ) {
+        return new PremiumRate(region.getId(), ageGroup, franchise, withAccident, null, new BigDecimal(amount));
+    }
+}
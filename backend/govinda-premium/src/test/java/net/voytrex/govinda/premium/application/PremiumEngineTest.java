@@ -0,0 +1,145 @@
+/*
+ * Govinda ERP - Premium Engine Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.exception.PremiumCalculationException;
+import net.voytrex.govinda.common.domain.model.AgeGroup;
+import net.voytrex.govinda.common.domain.model.Canton;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.common.domain.model.InsuranceModel;
+import net.voytrex.govinda.common.domain.model.LocalizedText;
+import net.voytrex.govinda.common.domain.model.ProductType;
+import net.voytrex.govinda.common.infrastructure.cache.CacheInvalidationBus;
+import net.voytrex.govinda.premium.domain.model.PremiumBook;
+import net.voytrex.govinda.product.application.TariffRegistry;
+import net.voytrex.govinda.product.domain.model.PremiumRate;
+import net.voytrex.govinda.product.domain.model.PremiumRegion;
+import net.voytrex.govinda.product.domain.model.PremiumTable;
+import net.voytrex.govinda.product.domain.model.Product;
+import net.voytrex.govinda.product.domain.model.Tariff;
+import net.voytrex.govinda.product.domain.repository.PremiumEntryRepository;
+import net.voytrex.govinda.product.domain.repository.PremiumRegionRepository;
+import net.voytrex.govinda.product.domain.repository.PremiumTableSnapshotStore;
+import net.voytrex.govinda.product.domain.repository.TariffRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Tag("unit")
+@Tag("fast")
+class PremiumEngineTest {
+    private static final UUID TENANT_ID = UUID.randomUUID();
+    private static final LocalDate DATE = LocalDate.of(2026, 3, 1);
+    private static final PremiumRegion ZH_1 = new PremiumRegion(UUID.randomUUID(), Canton.ZH, 1, "Zürich 1");
+
+    private final TariffRepository tariffRepository = mock(TariffRepository.class);
+    private final PremiumEntryRepository premiumEntryRepository = mock(PremiumEntryRepository.class);
+    private final PremiumRegionRepository premiumRegionRepository = mock(PremiumRegionRepository.class);
+    private final TariffRegistry tariffRegistry = new TariffRegistry(
+        tariffRepository,
+        premiumEntryRepository,
+        premiumRegionRepository,
+        mock(PremiumTableSnapshotStore.class),
+        new CacheInvalidationBus(mock(JdbcTemplate.class), "govinda_cache_invalidation")
+    );
+    private final PremiumEngine engine = new PremiumEngine(tariffRepository, tariffRegistry);
+
+    @BeforeEach
+    void setUp() {
+        when(premiumRegionRepository.findAll()).thenReturn(List.of(ZH_1));
+    }
+
+    @Nested
+    @DisplayName("KVG book")
+    class KvgBook {
+
+        @Test
+        void shouldQuotePerInsuranceModel() {
+            Tariff standard = activeTariff(InsuranceModel.STANDARD, "450.00");
+            Tariff hmo = activeTariff(InsuranceModel.HMO, "380.50");
+            when(tariffRepository.findActiveOn(TENANT_ID, ProductType.KVG, DATE)).thenReturn(List.of(standard, hmo));
+
+            PremiumBook book = engine.kvgBook(TENANT_ID, DATE);
+            int region = book.getRegions().indexOf(ZH_1.getId());
+
+            assertThat(book.premium(InsuranceModel.STANDARD, region, AgeGroup.ADULT, Franchise.CHF_300, false))
+                .isEqualTo(45_000L);
+            assertThat(book.premium(InsuranceModel.HMO, region, AgeGroup.ADULT, Franchise.CHF_300, false))
+                .isEqualTo(38_050L);
+            assertThat(book.offers(InsuranceModel.TELMED)).isFalse();
+            assertThat(book.premium(InsuranceModel.TELMED, region, AgeGroup.ADULT, Franchise.CHF_300, false))
+                .isEqualTo(PremiumTable.NO_PREMIUM);
+        }
+
+        @Test
+        void shouldRejectTwoActiveTariffsForSameModel() {
+            Tariff first = activeTariff(InsuranceModel.HMO, "380.50");
+            Tariff second = activeTariff(InsuranceModel.HMO, "390.00");
+            when(tariffRepository.findActiveOn(TENANT_ID, ProductType.KVG, DATE)).thenReturn(List.of(first, second));
+
+            assertThatThrownBy(() -> engine.kvgBook(TENANT_ID, DATE))
+                .isInstanceOf(PremiumCalculationException.class)
+                .hasMessageContaining("HMO");
+        }
+    }
+
+    @Nested
+    @DisplayName("Table cache")
+    class TableCache {
+
+        @Test
+        void shouldCompileEachTariffOnceUntilDeactivated() {
+            Tariff tariff = activeTariff(InsuranceModel.STANDARD, "450.00");
+
+            PremiumTable first = engine.table(tariff);
+            PremiumTable second = engine.table(tariff);
+            tariffRegistry.onTariffDeactivated(tariff);
+            PremiumTable third = engine.table(tariff);
+
+            assertThat(second).isSameAs(first);
+            assertThat(third).isNotSameAs(first);
+            verify(premiumEntryRepository, times(2)).findRatesByTariffId(tariff.getId());
+            verify(premiumRegionRepository, times(1)).findAll();
+        }
+
+        @Test
+        void shouldRejectDraftTariff() {
+            Product product = new Product(TENANT_ID, "KVG_STD", ProductType.KVG, InsuranceModel.STANDARD, name());
+            Tariff draft = new Tariff(product, "2026-V1", LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31));
+
+            assertThatThrownBy(() -> engine.table(draft)).isInstanceOf(PremiumCalculationException.class);
+        }
+    }
+
+    private Tariff activeTariff(InsuranceModel model, String adultPremium) {
+        Product product = new Product(TENANT_ID, "KVG_" + model, ProductType.KVG, model, name());
+        Tariff tariff = new Tariff(product, "2026-V1", LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31));
+        tariff.activate();
+        when(premiumEntryRepository.findRatesByTariffId(tariff.getId())).thenReturn(List.of(
+            new PremiumRate(ZH_1.getId(), AgeGroup.ADULT, Franchise.CHF_300, false, null, new BigDecimal(adultPremium))
+        ));
+        return tariff;
+    }
+
+    private static LocalizedText name() {
+        return new LocalizedText("Grundversicherung", "Assurance de base", "Assicurazione di base", "Basic insurance");
+    }
+}
@@ -0,0 +1,304 @@
+/*
+ * Govinda ERP - Premium Recalculation Job Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import net.voytrex.govinda.common.domain.model.AgeGroup;
+import net.voytrex.govinda.common.domain.model.Canton;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.common.domain.model.Gender;
+import net.voytrex.govinda.common.domain.model.InsuranceModel;
+import net.voytrex.govinda.common.domain.model.LocalizedText;
+import net.voytrex.govinda.common.domain.model.ProductType;
+import net.voytrex.govinda.common.infrastructure.batch.BatchCheckpoint;
+import net.voytrex.govinda.common.infrastructure.batch.BatchRun;
+import net.voytrex.govinda.common.infrastructure.batch.BatchRunStore;
+import net.voytrex.govinda.common.infrastructure.batch.BatchRunStoreFixture;
+import net.voytrex.govinda.common.infrastructure.cache.CacheInvalidationBus;
+import net.voytrex.govinda.premium.domain.model.CoverageSnapshot;
+import net.voytrex.govinda.premium.domain.model.PremiumRecalculationReport;
+import net.voytrex.govinda.premium.domain.model.RecalculatedPremium;
+import net.voytrex.govinda.premium.domain.model.RecalculationOutcome;
+import net.voytrex.govinda.premium.domain.model.RecalculationPartition;
+import net.voytrex.govinda.premium.domain.repository.PremiumRecalculationRepository;
+import net.voytrex.govinda.product.application.TariffRegistry;
+import net.voytrex.govinda.product.domain.model.PremiumRate;
+import net.voytrex.govinda.product.domain.model.PremiumRegion;
+import net.voytrex.govinda.product.domain.model.Product;
+import net.voytrex.govinda.product.domain.model.Tariff;
+import net.voytrex.govinda.product.domain.repository.PremiumEntryRepository;
+import net.voytrex.govinda.product.domain.repository.PremiumRegionRepository;
+import net.voytrex.govinda.product.domain.repository.PremiumTableSnapshotStore;
+import net.voytrex.govinda.product.domain.repository.TariffRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Tag("unit")
+@Tag("fast")
+class PremiumRecalculationJobTest {
+    private static final UUID TENANT_ID = UUID.randomUUID();
+    private static final LocalDate TARGET = LocalDate.of(2027, 1, 1);
+    private static final PremiumRegion ZH_1 = new PremiumRegion(UUID.randomUUID(), Canton.ZH, 1, "Zürich 1");
+    private static final PremiumRegion BE_1 = new PremiumRegion(UUID.randomUUID(), Canton.BE, 1, "Bern 1");
+    private static final RecalculationPartition ZH = new RecalculationPartition(TENANT_ID, ZH_1.getId());
+    private static final RecalculationPartition BE = new RecalculationPartition(TENANT_ID, BE_1.getId());
+
+    private final TariffRepository tariffRepository = mock(TariffRepository.class);
+    private final PremiumEntryRepository premiumEntryRepository = mock(PremiumEntryRepository.class);
+    private final PremiumRegionRepository premiumRegionRepository = mock(PremiumRegionRepository.class);
+    private final UUID runId = UUID.randomUUID();
+    private final BatchRunStore batchRunStore = BatchRunStoreFixture.newRuns(runId);
+    private final InMemoryRecalculationRepository repository = new InMemoryRecalculationRepository();
+    private final PremiumEngine engine = new PremiumEngine(
+        tariffRepository,
+        new TariffRegistry(
+            tariffRepository,
+            premiumEntryRepository,
+            premiumRegionRepository,
+            mock(PremiumTableSnapshotStore.class),
+            new CacheInvalidationBus(mock(JdbcTemplate.class), "govinda_cache_invalidation")
+        )
+    );
+    private Tariff tariff;
+
+    @BeforeEach
+    void setUp() {
+        when(premiumRegionRepository.findAll()).thenReturn(List.of(ZH_1, BE_1));
+        Product product = new Product(TENANT_ID, "KVG_STD", ProductType.KVG, InsuranceModel.STANDARD, name());
+        tariff = new Tariff(product, "2027-V1", TARGET, LocalDate.of(2027, 12, 31));
+        tariff.activate();
+        when(premiumEntryRepository.findRatesByTariffId(tariff.getId())).thenReturn(List.of(
+            rate(ZH_1, AgeGroup.YOUNG_ADULT, "300.00"),
+            rate(ZH_1, AgeGroup.ADULT, "450.00"),
+            rate(BE_1, AgeGroup.ADULT, "420.00")
+        ));
+        when(tariffRepository.findActiveOn(TENANT_ID, ProductType.KVG, TARGET)).thenReturn(List.of(tariff));
+        when(tariffRepository.findActiveOn(TENANT_ID, ProductType.VVG, TARGET)).thenReturn(List.of());
+    }
+
+    @Nested
+    @DisplayName("Pricing")
+    class Pricing {
+
+        @Test
+        void shouldPriceWithAgeGroupOnTargetDate() {
+            CoverageSnapshot turning26 = coverage(tariff.getProduct().getId(), LocalDate.of(2000, 12, 31));
+            CoverageSnapshot youngAdult = coverage(tariff.getProduct().getId(), LocalDate.of(2001, 1, 2));
+            CoverageSnapshot otherProduct = coverage(UUID.randomUUID(), LocalDate.of(1980, 5, 1));
+            repository.add(ZH, turning26, youngAdult, otherProduct);
+
+            PremiumRecalculationReport report = job(10).run(TARGET);
+
+            assertThat(repository.result(turning26).ageGroup()).isEqualTo(AgeGroup.ADULT);
+            assertThat(repository.result(turning26).monthlyPremium()).isEqualTo(45_000L);
+            assertThat(repository.result(youngAdult).monthlyPremium()).isEqualTo(30_000L);
+            assertThat(repository.result(otherProduct).outcome()).isEqualTo(RecalculationOutcome.NO_TARIFF);
+            assertThat(report.priced()).isEqualTo(2);
+            assertThat(report.withoutTariff()).isEqualTo(1);
+            assertThat(report.processed()).isEqualTo(3);
+            verify(batchRunStore).complete(runId, 3);
+        }
+
+        @Test
+        void shouldReportMissingPremiumForUnpricedParameters() {
+            CoverageSnapshot child = coverage(tariff.getProduct().getId(), LocalDate.of(2015, 1, 1));
+
+            RecalculatedPremium result = PremiumRecalculationJob.price(
+                child, Map.of(tariff.getProduct().getId(), engine.table(tariff)), 0, TARGET
+            );
+
+            assertThat(result.outcome()).isEqualTo(RecalculationOutcome.NO_PREMIUM);
+            assertThat(result.tariffId()).isEqualTo(tariff.getId());
+            assertThat(result.previousPremium()).isEqualTo(40_000L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Chunks and checkpoints")
+    class Checkpoints {
+
+        @Test
+        void shouldCommitCheckpointPerChunkAndCompletePartitions() {
+            for (int i = 0; i < 5; i++) {
+                repository.add(ZH, coverage(tariff.getProduct().getId(), LocalDate.of(1970, 1, 1)));
+            }
+            repository.add(BE, coverage(tariff.getProduct().getId(), LocalDate.of(1970, 1, 1)));
+
+            PremiumRecalculationReport report = job(2).run(TARGET);
+
+            assertThat(report.priced()).isEqualTo(6);
+            assertThat(repository.chunkReads.get(ZH.key())).isEqualTo(3);
+            verify(batchRunStore).checkpoint(new BatchCheckpoint(runId, ZH.key(), repository.lastId(ZH), 5, true));
+            verify(batchRunStore).checkpoint(new BatchCheckpoint(runId, BE.key(), repository.lastId(BE), 1, true));
+        }
+
+        @Test
+        void shouldResumeFromCheckpointsOfUnfinishedRun() {
+            List<CoverageSnapshot> zh = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                zh.add(coverage(tariff.getProduct().getId(), LocalDate.of(1970, 1, 1)));
+            }
+            repository.add(ZH, zh.toArray(CoverageSnapshot[]::new));
+            repository.add(BE, coverage(tariff.getProduct().getId(), LocalDate.of(1970, 1, 1)));
+            UUID resumeAfter = repository.sorted(ZH).get(1).coverageId();
+            repository.saveResults(runId, TENANT_ID, List.of(
+                PremiumRecalculationJob.price(repository.sorted(ZH).get(0), Map.of(), 0, TARGET),
+                new RecalculatedPremium(
+                    resumeAfter, tariff.getId(), AgeGroup.ADULT, null, 40_000L, RecalculationOutcome.NO_PREMIUM
+                ),
+                PremiumRecalculationJob.price(repository.sorted(BE).get(0), Map.of(), 0, TARGET)
+            ));
+            when(batchRunStore.startOrResume(PremiumRecalculationJob.JOB_NAME, TARGET.toString())).thenReturn(
+                new BatchRun(runId, PremiumRecalculationJob.JOB_NAME, TARGET.toString(), Map.of(
+                    BE.key(), new BatchCheckpoint(runId, BE.key(), repository.lastId(BE), 1, true),
+                    ZH.key(), new BatchCheckpoint(runId, ZH.key(), resumeAfter, 2, false)
+                ))
+            );
+
+            PremiumRecalculationReport report = job(10).run(TARGET);
+
+            assertThat(report.skippedPartitions()).isEqualTo(1);
+            assertThat(report.processed()).isEqualTo(5);
+            assertThat(report.resumed()).isEqualTo(3);
+            assertThat(report.executed()).isEqualTo(2);
+            assertThat(report.priced()).isEqualTo(2);
+            assertThat(report.withoutTariff()).isEqualTo(2);
+            assertThat(report.withoutPremium()).isEqualTo(1);
+            assertThat(repository.results).hasSize(5);
+            assertThat(repository.chunkReads).doesNotContainKey(BE.key());
+            verify(batchRunStore).complete(runId, 5);
+        }
+
+        @Test
+        void shouldMarkRunFailedButKeepCompletedPartitions() {
+            repository.add(ZH, coverage(tariff.getProduct().getId(), LocalDate.of(1970, 1, 1)));
+            repository.add(BE, coverage(tariff.getProduct().getId(), LocalDate.of(1970, 1, 1)));
+            repository.failingTenantRegion = BE_1.getId();
+
+            assertThatThrownBy(() -> job(10).run(TARGET))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("database down");
+
+            verify(batchRunStore).checkpoint(new BatchCheckpoint(runId, ZH.key(), repository.lastId(ZH), 1, true));
+            verify(batchRunStore).fail(eq(runId), anyString());
+            verify(batchRunStore, never()).complete(any(), any(Long.class));
+        }
+    }
+
+
+    private PremiumRecalculationJob job(int chunkSize) {
+        return new PremiumRecalculationJob(
+            engine,
+            repository,
+            batchRunStore,
+            mock(PlatformTransactionManager.class),
+            2,
+            chunkSize
+        );
+    }
+
+    private static CoverageSnapshot coverage(UUID productId, LocalDate dateOfBirth) {
+        return new CoverageSnapshot(
+            UUID.randomUUID(), productId, ZH_1.getId(), Franchise.CHF_300, false, dateOfBirth, Gender.FEMALE, 40_000L
+        );
+    }
+
+    private static PremiumRate rate(PremiumRegion region, AgeGroup ageGroup, String amount) {
+        return new PremiumRate(region.getId(), ageGroup, Franchise.CHF_300, false, null, new BigDecimal(amount));
+    }
+
+    private static LocalizedText name() {
+        return new LocalizedText("Grundversicherung", "Assurance de base", "Assicurazione di base", "Basic insurance");
+    }
+
+    private static final class InMemoryRecalculationRepository implements PremiumRecalculationRepository {
+        private final Map<RecalculationPartition, List<CoverageSnapshot>> coverages = new ConcurrentHashMap<>();
+        private final Map<UUID, RecalculatedPremium> results = new ConcurrentHashMap<>();
+        private final Map<String, Integer> chunkReads = new ConcurrentHashMap<>();
+        @Nullable
+        private volatile UUID failingTenantRegion;
+
+        void add(RecalculationPartition partition, CoverageSnapshot... snapshots) {
+            coverages.computeIfAbsent(partition, key -> new CopyOnWriteArrayList<>()).addAll(List.of(snapshots));
+        }
+
+        List<CoverageSnapshot> sorted(RecalculationPartition partition) {
+            return coverages.get(partition).stream()
+                .sorted(Comparator.comparing(CoverageSnapshot::coverageId))
+                .toList();
+        }
+
+        UUID lastId(RecalculationPartition partition) {
+            List<CoverageSnapshot> sorted = sorted(partition);
+            return sorted.get(sorted.size() - 1).coverageId();
+        }
+
+        RecalculatedPremium result(CoverageSnapshot coverage) {
+            return results.get(coverage.coverageId());
+        }
+
+        @Override
+        public List<RecalculationPartition> findPartitions(LocalDate date) {
+            return coverages.keySet().stream().sorted(Comparator.comparing(RecalculationPartition::key)).toList();
+        }
+
+        @Override
+        public List<CoverageSnapshot> findChunk(
+            RecalculationPartition partition,
+            LocalDate date,
+            @Nullable UUID afterId,
+            int limit
+        ) {
+            chunkReads.merge(partition.key(), 1, Integer::sum);
+            return sorted(partition).stream()
+                .filter(coverage -> afterId == null || coverage.coverageId().compareTo(afterId) > 0)
+                .limit(limit)
+                .toList();
+        }
+
+        @Override
+        public void saveResults(UUID runId, UUID tenantId, List<RecalculatedPremium> chunk) {
+            if (failingTenantRegion != null
+                && coverages.get(new RecalculationPartition(tenantId, failingTenantRegion)).stream()
+                    .anyMatch(coverage -> coverage.coverageId().equals(chunk.get(0).coverageId()))) {
+                throw new IllegalStateException("database down");
+            }
+            chunk.forEach(result -> results.put(result.coverageId(), result));
+        }
+
+        @Override
+        public Map<RecalculationOutcome, Long> countOutcomes(UUID runId) {
+            return results.values().stream()
+                .collect(Collectors.groupingBy(RecalculatedPremium::outcome, Collectors.counting()));
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Govinda ERP - Quote Matrix Service Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.exception.PremiumCalculationException;
+import net.voytrex.govinda.common.domain.model.AgeGroup;
+import net.voytrex.govinda.common.domain.model.Canton;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.common.domain.model.InsuranceModel;
+import net.voytrex.govinda.common.domain.model.LocalizedText;
+import net.voytrex.govinda.common.domain.model.ProductType;
+import net.voytrex.govinda.common.infrastructure.cache.CacheInvalidationBus;
+import net.voytrex.govinda.premium.domain.model.HouseholdQuote;
+import net.voytrex.govinda.premium.domain.model.QuoteMatrix;
+import net.voytrex.govinda.premium.domain.model.QuoteMember;
+import net.voytrex.govinda.product.application.TariffRegistry;
+import net.voytrex.govinda.product.domain.model.PremiumRate;
+import net.voytrex.govinda.product.domain.model.PremiumRegion;
+import net.voytrex.govinda.product.domain.model.PremiumTable;
+import net.voytrex.govinda.product.domain.model.Product;
+import net.voytrex.govinda.product.domain.model.Tariff;
+import net.voytrex.govinda.product.domain.repository.PremiumEntryRepository;
+import net.voytrex.govinda.product.domain.repository.PremiumRegionRepository;
+import net.voytrex.govinda.product.domain.repository.PremiumTableSnapshotStore;
+import net.voytrex.govinda.product.domain.repository.TariffRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Tag("unit")
+@Tag("fast")
+class QuoteMatrixServiceTest {
+    private static final UUID TENANT_ID = UUID.randomUUID();
+    private static final LocalDate DATE = LocalDate.of(2027, 1, 1);
+    private static final PremiumRegion ZH_1 = new PremiumRegion(UUID.randomUUID(), Canton.ZH, 1, "Zürich 1");
+
+    private final TariffRepository tariffRepository = mock(TariffRepository.class);
+    private final PremiumEntryRepository premiumEntryRepository = mock(PremiumEntryRepository.class);
+    private final PremiumRegionRepository premiumRegionRepository = mock(PremiumRegionRepository.class);
+    private final CacheInvalidationBus cacheInvalidationBus =
+        new CacheInvalidationBus(mock(JdbcTemplate.class), "govinda_cache_invalidation");
+    private final QuoteMatrixService service = new QuoteMatrixService(
+        new PremiumEngine(
+            tariffRepository,
+            new TariffRegistry(
+                tariffRepository,
+                premiumEntryRepository,
+                premiumRegionRepository,
+                mock(PremiumTableSnapshotStore.class),
+                cacheInvalidationBus
+            )
+        ),
+        cacheInvalidationBus
+    );
+    private Tariff standard;
+
+    @BeforeEach
+    void setUp() {
+        when(premiumRegionRepository.findAll()).thenReturn(List.of(ZH_1));
+        standard = activeTariff(InsuranceModel.STANDARD, List.of(
+            rate(AgeGroup.ADULT, Franchise.CHF_300, false, "450.00"),
+            rate(AgeGroup.ADULT, Franchise.CHF_300, true, "480.00"),
+            rate(AgeGroup.ADULT, Franchise.CHF_2500, false, "330.00"),
+            rate(AgeGroup.CHILD, Franchise.CHF_0, true, "110.00")
+        ));
+        Tariff hmo = activeTariff(InsuranceModel.HMO, List.of(
+            rate(AgeGroup.ADULT, Franchise.CHF_300, false, "400.00"),
+            rate(AgeGroup.ADULT, Franchise.CHF_2500, false, "290.00")
+        ));
+        when(tariffRepository.findActiveOn(TENANT_ID, ProductType.KVG, DATE)).thenReturn(List.of(standard, hmo));
+    }
+
+    @Nested
+    @DisplayName("Matrix")
+    class Matrix {
+
+        @Test
+        void shouldReturnOfferedModelsAcrossAllowedFranchises() {
+            QuoteMatrix matrix = service.matrix(TENANT_ID, DATE, ZH_1.getId(), AgeGroup.ADULT, false);
+
+            assertThat(matrix.getModels()).containsExactly(InsuranceModel.STANDARD, InsuranceModel.HMO);
+            assertThat(matrix.getFranchises()).isEqualTo(Franchise.forAgeGroup(AgeGroup.ADULT));
+            assertThat(matrix.premium(InsuranceModel.STANDARD, Franchise.CHF_300)).isEqualTo(45_000L);
+            assertThat(matrix.premium(InsuranceModel.HMO, Franchise.CHF_2500)).isEqualTo(29_000L);
+            assertThat(matrix.premium(InsuranceModel.HMO, Franchise.CHF_1000)).isEqualTo(PremiumTable.NO_PREMIUM);
+            assertThat(matrix.premium(InsuranceModel.TELMED, Franchise.CHF_300)).isEqualTo(PremiumTable.NO_PREMIUM);
+            assertThat(matrix.cheapest(InsuranceModel.STANDARD)).isEqualTo(33_000L);
+        }
+
+        @Test
+        void shouldOfferOnlyModelsPricedForTheAgeGroup() {
+            QuoteMatrix matrix = service.matrix(TENANT_ID, DATE, ZH_1.getId(), AgeGroup.CHILD, true);
+
+            assertThat(matrix.getModels()).containsExactly(InsuranceModel.STANDARD);
+            assertThat(matrix.premium(InsuranceModel.STANDARD, Franchise.CHF_0)).isEqualTo(11_000L);
+        }
+
+        @Test
+        void shouldSelectAccidentColumn() {
+            QuoteMatrix matrix = service.matrix(TENANT_ID, DATE, ZH_1.getId(), AgeGroup.ADULT, true);
+
+            assertThat(matrix.premium(InsuranceModel.STANDARD, Franchise.CHF_300)).isEqualTo(48_000L);
+        }
+
+        @Test
+        void shouldRejectUnknownRegion() {
+            assertThatThrownBy(() -> service.matrix(TENANT_ID, DATE, UUID.randomUUID(), AgeGroup.ADULT, false))
+                .isInstanceOf(PremiumCalculationException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Household")
+    class Household {
+
+        @Test
+        void shouldQuoteEveryMemberAndTotalCheapestPerModel() {
+            UUID parent = UUID.randomUUID();
+            UUID child = UUID.randomUUID();
+
+            HouseholdQuote quote = service.household(TENANT_ID, DATE, ZH_1.getId(), List.of(
+                new QuoteMember(parent, AgeGroup.ADULT, false),
+                new QuoteMember(child, AgeGroup.CHILD, true)
+            ));
+
+            assertThat(quote.members()).extracting(HouseholdQuote.MemberQuote::personId).containsExactly(parent, child);
+            assertThat(quote.members().get(1).matrix().getFranchises())
+                .isEqualTo(Franchise.forAgeGroup(AgeGroup.CHILD));
+            assertThat(quote.cheapestTotal(InsuranceModel.STANDARD)).isEqualTo(33_000L + 11_000L);
+            assertThat(quote.cheapestTotal(InsuranceModel.HMO)).isEqualTo(PremiumTable.NO_PREMIUM);
+        }
+    }
+
+    @Nested
+    @DisplayName("Caching")
+    class Caching {
+
+        @Test
+        void shouldServeRepeatedQuotesFromMemory() {
+            service.matrix(TENANT_ID, DATE, ZH_1.getId(), AgeGroup.ADULT, false);
+            service.matrix(TENANT_ID, DATE, ZH_1.getId(), AgeGroup.ADULT, true);
+            service.matrix(TENANT_ID, DATE, ZH_1.getId(), AgeGroup.YOUNG_ADULT, false);
+
+            verify(tariffRepository, times(1)).findActiveOn(TENANT_ID, ProductType.KVG, DATE);
+            verify(premiumEntryRepository, times(1)).findRatesByTariffId(standard.getId());
+        }
+
+        @Test
+        void shouldReloadActiveTariffsAfterActivation() {
+            service.matrix(TENANT_ID, DATE, ZH_1.getId(), AgeGroup.ADULT, false);
+
+            service.onTariffActivated(standard);
+            service.matrix(TENANT_ID, DATE, ZH_1.getId(), AgeGroup.ADULT, false);
+
+            verify(tariffRepository, times(2)).findActiveOn(TENANT_ID, ProductType.KVG, DATE);
+            verify(premiumEntryRepository, times(1)).findRatesByTariffId(standard.getId());
+        }
+    }
+
+    private Tariff activeTariff(InsuranceModel model, List<PremiumRate> rates) {
+        Product product = new Product(TENANT_ID, "KVG_" + model, ProductType.KVG, model, name());
+        Tariff tariff = new Tariff(product, "2027-V1", DATE, LocalDate.of(2027, 12, 31));
+        tariff.activate();
+        when(premiumEntryRepository.findRatesByTariffId(tariff.getId())).thenReturn(rates);
+        return tariff;
+    }
+
+    private static PremiumRate rate(AgeGroup ageGroup, Franchise franchise, boolean withAccident, String amount) {
+        return new PremiumRate(ZH_1.getId(), ageGroup, franchise, withAccident, null, new BigDecimal(amount));
+    }
+
+    private static LocalizedText name() {
+        return new LocalizedText("Grundversicherung", "Assurance de base", "Assicurazione di base", "Basic insurance");
+    }
+}
@@ -0,0 +1,343 @@
+/*
+ * Govinda ERP - Subsidy Import Job Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import net.voytrex.govinda.common.domain.exception.BusinessRuleViolationException;
+import net.voytrex.govinda.common.domain.model.AgeGroup;
+import net.voytrex.govinda.common.domain.model.Canton;
+import net.voytrex.govinda.common.infrastructure.batch.BatchCheckpoint;
+import net.voytrex.govinda.common.infrastructure.batch.BatchRun;
+import net.voytrex.govinda.common.infrastructure.batch.BatchRunStore;
+import net.voytrex.govinda.common.infrastructure.batch.BatchRunStoreFixture;
+import net.voytrex.govinda.premium.domain.model.IncomePercentageSubsidyRule;
+import net.voytrex.govinda.premium.domain.model.PremiumSubsidy;
+import net.voytrex.govinda.premium.domain.model.SubsidyDecision;
+import net.voytrex.govinda.premium.domain.model.SubsidyImportReport;
+import net.voytrex.govinda.premium.domain.model.SubsidyRecipient;
+import net.voytrex.govinda.premium.domain.repository.PremiumSubsidyRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Tag("unit")
+@Tag("fast")
+class SubsidyImportJobTest {
+    private static final UUID TENANT_ID = UUID.randomUUID();
+    private static final LocalDate REFERENCE = LocalDate.of(2027, 1, 1);
+    private static final String HEADER =
+        "decisionNumber;ahvNumber;canton;validFrom;validTo;taxableIncome;monthlySubsidy";
+
+    private final SubsidyEngine engine = new SubsidyEngine(List.of(new CantonalSubsidyRules().zurichSubsidyRule()));
+    private final UUID runId = UUID.randomUUID();
+    private final BatchRunStore batchRunStore = BatchRunStoreFixture.newRuns(runId);
+    private final InMemorySubsidyRepository repository = new InMemorySubsidyRepository();
+
+    @Nested
+    @DisplayName("Decision files")
+    class DecisionFiles {
+
+        @Test
+        void shouldStreamCsvAndReportInvalidLines() throws Exception {
+            String csv = HEADER + "\n"
+                + "ZH-1;756.0000.0000.01;ZH;2027-01-01;2027-12-31;60000.00;\n"
+                + "\n"
+                + "ZH-2;7560000000002;zh;2027-01-01;2027-12-31;;150.50\n"
+                + "ZH-3;756.1111;ZH;2027-01-01;2027-12-31;;150.00\n"
+                + "ZH-4;756.0000.0000.04;ZH;2027-01-01;2027-12-31;;\n"
+                + "ZH-5;756.0000.0000.05;ZH\n";
+
+            try (SubsidyDecisionReader reader = SubsidyDecisionReader.open("zh.csv", stream(csv), 2)) {
+                SubsidyDecision first = reader.next();
+                SubsidyDecision second = reader.next();
+
+                assertThat(first.taxableIncome()).isEqualTo(6_000_000L);
+                assertThat(first.grantedMonthly()).isNull();
+                assertThat(second.canton()).isEqualTo(Canton.ZH);
+                assertThat(second.grantedMonthly()).isEqualTo(15_050L);
+                assertThat(reader.next()).isNull();
+                assertThat(reader.invalid()).isEqualTo(3);
+                assertThat(reader.errors()).containsExactly(
+                    "line 5: invalid AHV number 756.1111",
+                    "line 6: either monthlySubsidy or taxableIncome is required"
+                );
+            }
+        }
+
+        @Test
+        void shouldStreamXmlDecisions() throws Exception {
+            String xml = """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <decisions canton="SG">
+                  <decision>
+                    <decisionNumber>SG-1</decisionNumber>
+                    <ahvNumber>756.0000.0000.01</ahvNumber>
+                    <canton>SG</canton>
+                    <validFrom>2027-01-01</validFrom>
+                    <validTo>2027-06-30</validTo>
+                    <monthlySubsidy>120.00</monthlySubsidy>
+                    <married>true</married>
+                    <children>2</children>
+                  </decision>
+                  <decision>
+                    <decisionNumber>SG-2</decisionNumber>
+                    <canton>XX</canton>
+                  </decision>
+                </decisions>
+                """;
+
+            try (SubsidyDecisionReader reader = SubsidyDecisionReader.open("sg.XML", stream(xml), 10)) {
+                SubsidyDecision decision = reader.next();
+
+                assertThat(decision.decisionNumber()).isEqualTo("SG-1");
+                assertThat(decision.canton()).isEqualTo(Canton.SG);
+                assertThat(decision.validTo()).isEqualTo(LocalDate.of(2027, 6, 30));
+                assertThat(decision.married()).isTrue();
+                assertThat(decision.children()).isEqualTo(2);
+                assertThat(reader.next()).isNull();
+                assertThat(reader.errors()).singleElement().asString().startsWith("decision 2:");
+            }
+        }
+
+        @Test
+        void shouldRejectUnsupportedFilesAndHeaders() {
+            assertThatThrownBy(() -> SubsidyDecisionReader.open("zh.pdf", stream(""), 10))
+                .isInstanceOf(BusinessRuleViolationException.class);
+            assertThatThrownBy(() -> SubsidyDecisionReader.open("zh.csv", stream("decisionNumber;canton\n"), 10))
+                .isInstanceOf(BusinessRuleViolationException.class)
+                .hasMessageContaining("missing column ahvNumber");
+        }
+    }
+
+    @Nested
+    @DisplayName("Subsidy calculation")
+    class Calculation {
+
+        @Test
+        void shouldDeductPersonalContributionFromPremium() {
+            SubsidyDecision single = decision(Canton.ZH, 6_000_000L, null, false);
+
+            assertThat(engine.monthlySubsidy(single, AgeGroup.ADULT, 40_000)).isEqualTo(12_000);
+            assertThat(engine.monthlySubsidy(single, AgeGroup.ADULT, 20_000)).isZero();
+        }
+
+        @Test
+        void shouldApplyFederalMinimumsToEligiblePersonsOnly() {
+            SubsidyDecision lowIncome = decision(Canton.ZH, 2_000_000L, null, true);
+            SubsidyDecision highIncome = decision(Canton.ZH, 3_000_000L, null, true);
+
+            assertThat(engine.monthlySubsidy(lowIncome, AgeGroup.CHILD, 10_000)).isEqualTo(8_000);
+            assertThat(engine.monthlySubsidy(lowIncome, AgeGroup.YOUNG_ADULT, 20_000)).isEqualTo(10_665);
+            assertThat(engine.monthlySubsidy(highIncome, AgeGroup.CHILD, 10_000)).isZero();
+        }
+
+        @Test
+        void shouldTakeGrantedAmountUpToPremiumAndRequireRuleOtherwise() {
+            assertThat(engine.monthlySubsidy(decision(Canton.BE, null, 50_000L, false), AgeGroup.ADULT, 40_000))
+                .isEqualTo(40_000);
+            assertThat(engine.monthlySubsidy(decision(Canton.BE, 1_000_000L, null, false), AgeGroup.ADULT, 40_000))
+                .isEqualTo(SubsidyEngine.NO_RULE);
+        }
+
+        @Test
+        void shouldRefuseSubsidiesAboveAssetLimit() {
+            IncomePercentageSubsidyRule rule = new IncomePercentageSubsidyRule(
+                Canton.SG, 600, 600, 10_000_000L, 15_000_000L
+            );
+            SubsidyDecision rich = new SubsidyDecision(
+                "SG-1", "756.0000.0000.01", Canton.SG, REFERENCE, REFERENCE.plusYears(1).minusDays(1),
+                1_000_000L, 12_000_000L, false, 1, false, null
+            );
+
+            assertThat(rule.monthlySubsidy(rich, 40_000)).isEqualTo(35_000);
+            assertThat(rule.monthlySubsidy(withoutChildren(rich), 40_000)).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Import runs")
+    class ImportRuns {
+
+        @Test
+        void shouldMatchByAhvNumberAndCommitChunks() {
+            UUID adult = repository.person("756.0000.0000.01", LocalDate.of(1980, 1, 1), 40_000L, 10_000L);
+            repository.person("756.0000.0000.02", LocalDate.of(1980, 1, 1));
+            repository.person("756.0000.0000.03", LocalDate.of(1980, 1, 1), 40_000L);
+            UUID child = repository.person("756.0000.0000.04", LocalDate.of(2020, 1, 1), 10_000L);
+            String csv = HEADER + "\n"
+                + "ZH-1;756.0000.0000.01;ZH;2027-01-01;2027-12-31;;450.00\n"
+                + "ZH-2;756.0000.0000.02;ZH;2027-01-01;2027-12-31;;100.00\n"
+                + "ZH-3;756.0000.0000.03;ZH;2027-01-01;2027-12-31;200000.00;\n"
+                + "ZH-4;756.0000.0000.04;ZH;2027-01-01;2027-12-31;20000.00;\n"
+                + "ZH-9;756.0000.0000.09;ZH;2027-01-01;2027-12-31;;100.00\n";
+
+            SubsidyImportReport report = job(2).run(TENANT_ID, "zh.csv", stream(csv), REFERENCE);
+
+            assertThat(report.chunks()).isEqualTo(3);
+            assertThat(report.applied()).isEqualTo(2);
+            assertThat(report.withoutCoverage()).isEqualTo(1);
+            assertThat(report.notEligible()).isEqualTo(1);
+            assertThat(report.unknownPersons()).isEqualTo(1);
+            assertThat(repository.amountsOf(adult)).containsExactlyInAnyOrder(40_000L, 5_000L);
+            assertThat(repository.amountsOf(child)).containsExactly(8_000L);
+            verify(batchRunStore).checkpoint(new BatchCheckpoint(runId, "records-5-5", null, 1, true));
+            verify(batchRunStore).complete(runId, 5);
+        }
+
+        @Test
+        void shouldSkipChunksCommittedByUnfinishedRun() {
+            UUID person = repository.person("756.0000.0000.01", LocalDate.of(1980, 1, 1), 40_000L);
+            String runKey = TENANT_ID + "/zh.csv";
+            when(batchRunStore.startOrResume(SubsidyImportJob.JOB_NAME, runKey)).thenReturn(
+                new BatchRun(runId, SubsidyImportJob.JOB_NAME, runKey, Map.of(
+                    "records-1-1", new BatchCheckpoint(runId, "records-1-1", null, 1, true)
+                ))
+            );
+            String csv = HEADER + "\n"
+                + "ZH-1;756.0000.0000.01;ZH;2027-01-01;2027-06-30;;100.00\n"
+                + "ZH-2;756.0000.0000.01;ZH;2027-07-01;2027-12-31;;120.00\n";
+
+            SubsidyImportReport report = job(1).run(TENANT_ID, "zh.csv", stream(csv), REFERENCE);
+
+            assertThat(report.skippedChunks()).isEqualTo(1);
+            assertThat(report.applied()).isEqualTo(1);
+            assertThat(repository.amountsOf(person)).containsExactly(12_000L);
+            verify(batchRunStore).complete(runId, 2);
+        }
+
+        @Test
+        void shouldSkipCommittedDecisionsWhenTheChunkSizeChanged() {
+            UUID first = repository.person("756.0000.0000.01", LocalDate.of(1980, 1, 1), 40_000L);
+            UUID second = repository.person("756.0000.0000.02", LocalDate.of(1980, 1, 1), 40_000L);
+            UUID third = repository.person("756.0000.0000.03", LocalDate.of(1980, 1, 1), 40_000L);
+            UUID fourth = repository.person("756.0000.0000.04", LocalDate.of(1980, 1, 1), 40_000L);
+            String runKey = TENANT_ID + "/zh.csv";
+            when(batchRunStore.startOrResume(SubsidyImportJob.JOB_NAME, runKey)).thenReturn(
+                new BatchRun(runId, SubsidyImportJob.JOB_NAME, runKey, Map.of(
+                    "records-1-2", new BatchCheckpoint(runId, "records-1-2", null, 2, true)
+                ))
+            );
+            String csv = HEADER + "\n"
+                + "ZH-1;756.0000.0000.01;ZH;2027-01-01;2027-12-31;;100.00\n"
+                + "ZH-2;756.0000.0000.02;ZH;2027-01-01;2027-12-31;;100.00\n"
+                + "ZH-3;756.0000.0000.03;ZH;2027-01-01;2027-12-31;;100.00\n"
+                + "ZH-4;756.0000.0000.04;ZH;2027-01-01;2027-12-31;;100.00\n";
+
+            SubsidyImportReport report = job(3).run(TENANT_ID, "zh.csv", stream(csv), REFERENCE);
+
+            assertThat(report.skippedChunks()).isEqualTo(1);
+            assertThat(report.applied()).isEqualTo(2);
+            assertThat(repository.amountsOf(first)).isEmpty();
+            assertThat(repository.amountsOf(second)).isEmpty();
+            assertThat(repository.amountsOf(third)).containsExactly(10_000L);
+            assertThat(repository.amountsOf(fourth)).containsExactly(10_000L);
+            verify(batchRunStore).checkpoint(new BatchCheckpoint(runId, "records-3-4", null, 2, true));
+            verify(batchRunStore).complete(runId, 4);
+        }
+
+        @Test
+        void shouldMarkRunFailedWhenChunkCannotBeStored() {
+            repository.person("756.0000.0000.01", LocalDate.of(1980, 1, 1), 40_000L);
+            repository.failing = true;
+            String csv = HEADER + "\nZH-1;756.0000.0000.01;ZH;2027-01-01;2027-12-31;;100.00\n";
+
+            assertThatThrownBy(() -> job(10).run(TENANT_ID, "zh.csv", stream(csv), REFERENCE))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("database down");
+
+            verify(batchRunStore).fail(any(), any());
+            verify(batchRunStore, never()).complete(any(), any(Long.class));
+        }
+    }
+
+
+    private SubsidyImportJob job(int chunkSize) {
+        return new SubsidyImportJob(
+            engine,
+            repository,
+            batchRunStore,
+            mock(PlatformTransactionManager.class),
+            2,
+            chunkSize
+        );
+    }
+
+    private static SubsidyDecision decision(Canton canton, Long income, Long granted, boolean inEducation) {
+        return new SubsidyDecision(
+            canton + "-1", "756.0000.0000.01", canton, REFERENCE, REFERENCE.plusYears(1).minusDays(1),
+            income, 0, false, 0, inEducation, granted
+        );
+    }
+
+    private static SubsidyDecision withoutChildren(SubsidyDecision decision) {
+        return new SubsidyDecision(
+            decision.decisionNumber(), decision.ahvNumber(), decision.canton(), decision.validFrom(),
+            decision.validTo(), decision.taxableIncome(), decision.assets(), decision.married(), 0,
+            decision.inEducation(), decision.grantedMonthly()
+        );
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final class InMemorySubsidyRepository implements PremiumSubsidyRepository {
+        private final List<SubsidyRecipient> recipients = new ArrayList<>();
+        private final Map<String, PremiumSubsidy> subsidies = new ConcurrentHashMap<>();
+        private volatile boolean failing;
+
+        UUID person(String ahvNumber, LocalDate dateOfBirth, long... coveragePremiums) {
+            UUID personId = UUID.randomUUID();
+            if (coveragePremiums.length == 0) {
+                recipients.add(new SubsidyRecipient(ahvNumber, personId, dateOfBirth, null, 0));
+            }
+            for (long premium : coveragePremiums) {
+                recipients.add(new SubsidyRecipient(ahvNumber, personId, dateOfBirth, UUID.randomUUID(), premium));
+            }
+            return personId;
+        }
+
+        List<Long> amountsOf(UUID personId) {
+            return subsidies.values().stream()
+                .filter(subsidy -> subsidy.personId().equals(personId))
+                .map(PremiumSubsidy::monthlyAmount)
+                .toList();
+        }
+
+        @Override
+        public void forEachRecipient(UUID tenantId, LocalDate date, Consumer<SubsidyRecipient> action) {
+            recipients.forEach(action);
+        }
+
+        @Override
+        public void saveSubsidies(UUID runId, UUID tenantId, List<PremiumSubsidy> chunk) {
+            if (failing) {
+                throw new IllegalStateException("database down");
+            }
+            chunk.forEach(subsidy -> subsidies.put(subsidy.coverageId() + "/" + subsidy.decisionNumber(), subsidy));
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Govinda ERP - Premium Engine Benchmark
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import net.voytrex.govinda.common.domain.model.AgeGroup;
+import net.voytrex.govinda.common.domain.model.Canton;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.common.domain.model.InsuranceModel;
+import net.voytrex.govinda.common.domain.model.ProductType;
+import net.voytrex.govinda.premium.domain.model.PremiumBook;
+import net.voytrex.govinda.product.domain.model.PremiumRate;
+import net.voytrex.govinda.product.domain.model.PremiumRegion;
+import net.voytrex.govinda.product.domain.model.PremiumRegionIndex;
+import net.voytrex.govinda.product.domain.model.PremiumTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Single-quote latency and portfolio throughput of {@link PremiumBook}.
+ *
+ * Uses a full synthetic KVG book: three regions per canton, every age group,
+ * allowed franchise and accident option, for all four insurance models. The
+ * {@code entryScan} baseline is the lookup described in the product docs,
+ * filtering a tariff's premium entries with a stream.
+ *
+ * Run from {@code backend/} after {@code mvn -pl govinda-premium -am test-compile}:
+ * <pre>
+ * java -cp "govinda-premium/target/test-classes:govinda-premium/target/classes:$(mvn -q -pl govinda-premium \
+ *     dependency:build-classpath -Dmdep.outputFile=/dev/stdout -Dmdep.includeScope=test)" \
+ *     net.voytrex.govinda.premium.benchmark.PremiumEngineBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PremiumEngineBenchmark {
+    private static final int PORTFOLIO_SIZE = 1_000_000;
+    /** Quotes per invocation of the single-quote benchmarks, to amortize harness overhead. */
+    private static final int BATCH = 1024;
+    private static final AgeGroup[] AGE_GROUPS = AgeGroup.values();
+    private static final Franchise[] FRANCHISES = Franchise.values();
+    private static final InsuranceModel[] MODELS = InsuranceModel.values();
+
+    private PremiumBook book;
+    private List<List<PremiumRate>> ratesByModel;
+    private int[] regions;
+    private byte[] ageGroups;
+    private byte[] franchises;
+    private byte[] models;
+    private boolean[] accidents;
+
+    @Setup
+    public void setUp() {
+        List<PremiumRegion> regionList = new ArrayList<>();
+        for (Canton canton : Canton.values()) {
+            for (int number = 1; number <= 3; number++) {
+                regionList.add(new PremiumRegion(UUID.randomUUID(), canton, number, canton + " " + number));
+            }
+        }
+        PremiumRegionIndex regionIndex = PremiumRegionIndex.of(regionList);
+
+        ratesByModel = new ArrayList<>();
+        PremiumTable[] tables = new PremiumTable[MODELS.length];
+        for (InsuranceModel model : MODELS) {
+            List<PremiumRate> rates = new ArrayList<>();
+            for (PremiumRegion region : regionList) {
+                for (AgeGroup ageGroup : AGE_GROUPS) {
+                    for (Franchise franchise : Franchise.forAgeGroup(ageGroup)) {
+                        for (boolean accident : new boolean[]{false, true}) {
+                            long rappen = 30_000L + region.getRegionNumber() * 1_500L + ageGroup.ordinal() * 7_000L
+                                - franchise.getAmount() * 4L + (accident ? 2_000L : 0L) - model.ordinal() * 2_500L;
+                            rates.add(new PremiumRate(
+                                region.getId(), ageGroup, franchise, accident, null, BigDecimal.valueOf(rappen, 2)
+                            ));
+                        }
+                    }
+                }
+            }
+            ratesByModel.add(rates);
+            tables[model.ordinal()] = PremiumTable.compile(UUID.randomUUID(), ProductType.KVG, regionIndex, rates);
+        }
+        book = new PremiumBook(UUID.randomUUID(), LocalDate.of(2026, 1, 1), regionIndex, tables);
+
+        var random = new SplittableRandom(2026);
+        regions = new int[PORTFOLIO_SIZE];
+        ageGroups = new byte[PORTFOLIO_SIZE];
+        franchises = new byte[PORTFOLIO_SIZE];
+        models = new byte[PORTFOLIO_SIZE];
+        accidents = new boolean[PORTFOLIO_SIZE];
+        for (int i = 0; i < PORTFOLIO_SIZE; i++) {
+            AgeGroup ageGroup = AGE_GROUPS[random.nextInt(AGE_GROUPS.length)];
+            List<Franchise> allowed = Franchise.forAgeGroup(ageGroup);
+            regions[i] = random.nextInt(regionIndex.size());
+            ageGroups[i] = (byte) ageGroup.ordinal();
+            franchises[i] = (byte) allowed.get(random.nextInt(allowed.size())).ordinal();
+            models[i] = (byte) random.nextInt(MODELS.length);
+            accidents[i] = random.nextBoolean();
+        }
+        verifyEquivalence();
+    }
+
+    /**
+     * Average time per single quote.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public long quote() {
+        long total = 0;
+        for (int i = 0; i < BATCH; i++) {
+            total += quote(i);
+        }
+        return total;
+    }
+
+    /**
+     * Average time per single quote with the documented stream lookup.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public long entryScan() {
+        long total = 0;
+        for (int i = 0; i < BATCH; i++) {
+            total += entryScan(i);
+        }
+        return total;
+    }
+
+    /**
+     * Prices the whole portfolio; throughput is {@value #PORTFOLIO_SIZE} quotes per operation.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public long portfolio() {
+        long total = 0;
+        for (int i = 0; i < PORTFOLIO_SIZE; i++) {
+            total += quote(i);
+        }
+        return total;
+    }
+
+    private long quote(int i) {
+        return book.premium(
+            MODELS[models[i]], regions[i], AGE_GROUPS[ageGroups[i]], FRANCHISES[franchises[i]], accidents[i]
+        );
+    }
+
+    private long entryScan(int i) {
+        UUID regionId = book.getRegions().regionId(regions[i]);
+        AgeGroup ageGroup = AGE_GROUPS[ageGroups[i]];
+        Franchise franchise = FRANCHISES[franchises[i]];
+        boolean accident = accidents[i];
+        return ratesByModel.get(models[i]).stream()
+            .filter(rate -> rate.premiumRegionId().equals(regionId))
+            .filter(rate -> rate.ageGroup() == ageGroup)
+            .filter(rate -> rate.franchise() == franchise)
+            .filter(rate -> rate.withAccident() == accident)
+            .findFirst()
+            .map(rate -> rate.monthlyAmount().movePointRight(2).longValueExact())
+            .orElse(PremiumTable.NO_PREMIUM);
+    }
+
+    private void verifyEquivalence() {
+        for (int i = 0; i < BATCH; i++) {
+            if (quote(i) != entryScan(i) || quote(i) == PremiumTable.NO_PREMIUM) {
+                throw new IllegalStateException("Quote " + i + " differs: " + quote(i) + " vs " + entryScan(i));
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(PremiumEngineBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Govinda ERP - JDBC Premium Recalculation Repository Integration Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.AgeGroup;
+import net.voytrex.govinda.common.domain.model.BillingFrequency;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.common.domain.model.Gender;
+import net.voytrex.govinda.common.domain.model.PolicyStatus;
+import net.voytrex.govinda.common.domain.model.ProductType;
+import net.voytrex.govinda.contract.infrastructure.persistence.ContractFixture;
+import net.voytrex.govinda.premium.domain.model.CoverageSnapshot;
+import net.voytrex.govinda.premium.domain.model.RecalculatedPremium;
+import net.voytrex.govinda.premium.domain.model.RecalculationOutcome;
+import net.voytrex.govinda.premium.domain.model.RecalculationPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@SuppressWarnings("resource")
+@Testcontainers(disabledWithoutDocker = true)
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = JdbcPremiumRecalculationRepository.class)
+@ActiveProfiles("test")
+@Tag("integration")
+@Tag("database")
+// CHECKSTYLE:OFF: MethodName - Test methods follow BDD naming convention (should_X_when_Y)
+class JdbcPremiumRecalculationRepositoryIT {
+    private static final LocalDate JANUARY_FIRST = LocalDate.of(2027, 1, 1);
+
+    @Container
+    public static final PostgreSQLContainer<?> POSTGRES_CONTAINER = new PostgreSQLContainer<>("postgres:18-alpine")
+        .withDatabaseName("govinda")
+        .withUsername("govinda")
+        .withPassword("govinda")
+        .withReuse(true);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        // Always use Testcontainers-managed PostgreSQL for integration tests
+        registry.add("spring.datasource.url", POSTGRES_CONTAINER::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES_CONTAINER::getUsername);
+        registry.add("spring.datasource.password", POSTGRES_CONTAINER::getPassword);
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.flyway.locations", () -> "classpath:db/migration");
+        registry.add("spring.flyway.baseline-on-migrate", () -> "true");
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+    }
+
+    @Autowired
+    private JdbcPremiumRecalculationRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ContractFixture fixture;
+    private ContractFixture.Product product;
+    private UUID policyId;
+    private UUID personId;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new ContractFixture(jdbcTemplate);
+        product = fixture.product(ProductType.KVG);
+        personId = fixture.person(LocalDate.of(1980, 5, 17));
+        policyId = fixture.policy(personId, PolicyStatus.ACTIVE, BillingFrequency.MONTHLY);
+    }
+
+    @Nested
+    @DisplayName("Reading coverages")
+    class ReadingCoverages {
+
+        @Test
+        @DisplayName("should partition coverages in force by tenant and premium region")
+        void should_returnOnePartitionPerRegion_when_coveragesAreInForce() {
+            fixture.coverage(policyId, personId, product, ContractFixture.ZURICH_REGION_1, JANUARY_FIRST, 40_000);
+            fixture.coverage(policyId, personId, product, ContractFixture.ZURICH_REGION_1, JANUARY_FIRST, 40_000);
+            fixture.coverage(policyId, personId, product, ContractFixture.ZURICH_REGION_2, JANUARY_FIRST, 38_000);
+
+            List<RecalculationPartition> partitions = repository.findPartitions(JANUARY_FIRST);
+
+            assertThat(partitions.stream().filter(partition -> partition.tenantId().equals(fixture.tenantId())))
+                .containsExactly(
+                    new RecalculationPartition(fixture.tenantId(), ContractFixture.ZURICH_REGION_1),
+                    new RecalculationPartition(fixture.tenantId(), ContractFixture.ZURICH_REGION_2)
+                );
+        }
+
+        @Test
+        @DisplayName("should skip coverages not yet in force or terminated before the date")
+        void should_skipCoverages_when_notInForceOnTheDate() {
+            UUID inForce = fixture.coverage(policyId, personId, product, JANUARY_FIRST, 40_000);
+            fixture.coverage(policyId, personId, product, JANUARY_FIRST.plusMonths(1), 40_000);
+            UUID endingOnTheDate = fixture.coverage(policyId, personId, product, LocalDate.of(2026, 1, 1), 40_000);
+            UUID ended = fixture.coverage(policyId, personId, product, LocalDate.of(2026, 1, 1), 40_000);
+            jdbcTemplate.update(
+                "UPDATE coverage SET termination_date = ? WHERE id = ?",
+                Date.valueOf(JANUARY_FIRST),
+                endingOnTheDate
+            );
+            fixture.terminate(ended, JANUARY_FIRST.minusDays(1));
+
+            List<CoverageSnapshot> chunk = repository.findChunk(partition(), JANUARY_FIRST, null, 10);
+
+            assertThat(chunk).extracting(CoverageSnapshot::coverageId)
+                .containsExactlyInAnyOrder(inForce, endingOnTheDate);
+        }
+
+        @Test
+        @DisplayName("should page through a partition by coverage id")
+        void should_continueAfterTheLastId_when_readingTheNextChunk() {
+            List<UUID> coverageIds = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                coverageIds.add(fixture.coverage(policyId, personId, product, JANUARY_FIRST, 40_000));
+            }
+
+            List<UUID> read = new ArrayList<>();
+            UUID afterId = null;
+            for (List<CoverageSnapshot> chunk = repository.findChunk(partition(), JANUARY_FIRST, afterId, 2);
+                 !chunk.isEmpty();
+                 chunk = repository.findChunk(partition(), JANUARY_FIRST, afterId, 2)) {
+                assertThat(chunk).hasSizeLessThanOrEqualTo(2);
+                chunk.forEach(snapshot -> read.add(snapshot.coverageId()));
+                afterId = chunk.get(chunk.size() - 1).coverageId();
+            }
+
+            assertThat(read).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(coverageIds);
+        }
+
+        @Test
+        @DisplayName("should read the tariff inputs of coverage and insured person")
+        void should_mapSnapshot_when_readingAChunk() {
+            UUID coverageId = fixture.coverage(policyId, personId, product, JANUARY_FIRST, 41_255);
+
+            CoverageSnapshot snapshot = repository.findChunk(partition(), JANUARY_FIRST, null, 1).get(0);
+
+            assertThat(snapshot).isEqualTo(new CoverageSnapshot(
+                coverageId,
+                product.productId(),
+                ContractFixture.ZURICH_REGION_1,
+                Franchise.CHF_300,
+                false,
+                LocalDate.of(1980, 5, 17),
+                Gender.FEMALE,
+                41_255
+            ));
+        }
+    }
+
+    @Nested
+    @DisplayName("Writing results")
+    class WritingResults {
+
+        @Test
+        @DisplayName("should replace the result of a coverage written again in the same run")
+        void should_overwriteResult_when_coverageIsRecalculatedAgain() {
+            UUID runId = fixture.batchRun("PREMIUM_UPDATE");
+            UUID coverageId = fixture.coverage(policyId, personId, product, JANUARY_FIRST, 40_000);
+
+            repository.saveResults(runId, fixture.tenantId(), List.of(new RecalculatedPremium(
+                coverageId, null, AgeGroup.ADULT, null, 40_000, RecalculationOutcome.NO_TARIFF
+            )));
+            repository.saveResults(runId, fixture.tenantId(), List.of(new RecalculatedPremium(
+                coverageId, product.tariffId(), AgeGroup.ADULT, 42_150L, 40_000, RecalculationOutcome.PRICED
+            )));
+
+            Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT tariff_id, monthly_premium, previous_premium, outcome FROM premium_recalculation_result"
+                    + " WHERE run_id = ? AND coverage_id = ?",
+                runId,
+                coverageId
+            );
+            assertThat(row).containsEntry("tariff_id", product.tariffId())
+                .containsEntry("monthly_premium", new BigDecimal("421.50"))
+                .containsEntry("previous_premium", new BigDecimal("400.00"))
+                .containsEntry("outcome", "PRICED");
+        }
+
+        @Test
+        @DisplayName("should count the stored outcomes of a run")
+        void should_countOutcomesOfTheRunOnly_when_otherRunsHaveResults() {
+            UUID runId = fixture.batchRun("PREMIUM_UPDATE");
+            UUID otherRunId = fixture.batchRun("PREMIUM_UPDATE");
+            UUID priced = fixture.coverage(policyId, personId, product, JANUARY_FIRST, 40_000);
+            UUID alsoPriced = fixture.coverage(policyId, personId, product, JANUARY_FIRST, 40_000);
+            UUID unpriced = fixture.coverage(policyId, personId, product, JANUARY_FIRST, 40_000);
+            repository.saveResults(runId, fixture.tenantId(), List.of(
+                priced(priced),
+                priced(alsoPriced),
+                new RecalculatedPremium(unpriced, null, AgeGroup.ADULT, null, 40_000, RecalculationOutcome.NO_TARIFF)
+            ));
+            repository.saveResults(otherRunId, fixture.tenantId(), List.of(priced(unpriced)));
+
+            assertThat(repository.countOutcomes(runId)).containsExactlyInAnyOrderEntriesOf(Map.of(
+                RecalculationOutcome.PRICED, 2L,
+                RecalculationOutcome.NO_TARIFF, 1L
+            ));
+        }
+
+        private RecalculatedPremium priced(UUID coverageId) {
+            return new RecalculatedPremium(
+                coverageId, product.tariffId(), AgeGroup.ADULT, 41_000L, 40_000, RecalculationOutcome.PRICED
+            );
+        }
+    }
+
+    private RecalculationPartition partition() {
+        return new RecalculationPartition(fixture.tenantId(), ContractFixture.ZURICH_REGION_1);
+    }
+}
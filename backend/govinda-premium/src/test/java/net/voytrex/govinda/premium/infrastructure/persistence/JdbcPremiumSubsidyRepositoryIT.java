@@ -0,0 +1,196 @@
+/*
+ * Govinda ERP - JDBC Premium Subsidy Repository Integration Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.premium.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.BillingFrequency;
+import net.voytrex.govinda.common.domain.model.Canton;
+import net.voytrex.govinda.common.domain.model.PolicyStatus;
+import net.voytrex.govinda.common.domain.model.ProductType;
+import net.voytrex.govinda.contract.infrastructure.persistence.ContractFixture;
+import net.voytrex.govinda.premium.application.SubsidyImportJob;
+import net.voytrex.govinda.premium.domain.model.PremiumSubsidy;
+import net.voytrex.govinda.premium.domain.model.SubsidyRecipient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@SuppressWarnings("resource")
+@Testcontainers(disabledWithoutDocker = true)
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = JdbcPremiumSubsidyRepository.class)
+@ActiveProfiles("test")
+@Tag("integration")
+@Tag("database")
+// CHECKSTYLE:OFF: MethodName - Test methods follow BDD naming convention (should_X_when_Y)
+class JdbcPremiumSubsidyRepositoryIT {
+    private static final LocalDate JANUARY_FIRST = LocalDate.of(2027, 1, 1);
+
+    @Container
+    public static final PostgreSQLContainer<?> POSTGRES_CONTAINER = new PostgreSQLContainer<>("postgres:18-alpine")
+        .withDatabaseName("govinda")
+        .withUsername("govinda")
+        .withPassword("govinda")
+        .withReuse(true);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        // Always use Testcontainers-managed PostgreSQL for integration tests
+        registry.add("spring.datasource.url", POSTGRES_CONTAINER::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES_CONTAINER::getUsername);
+        registry.add("spring.datasource.password", POSTGRES_CONTAINER::getPassword);
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.flyway.locations", () -> "classpath:db/migration");
+        registry.add("spring.flyway.baseline-on-migrate", () -> "true");
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+    }
+
+    @Autowired
+    private JdbcPremiumSubsidyRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ContractFixture fixture;
+    private ContractFixture.Product basicInsurance;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new ContractFixture(jdbcTemplate);
+        basicInsurance = fixture.product(ProductType.KVG);
+    }
+
+    @Nested
+    @DisplayName("Reading recipients")
+    class ReadingRecipients {
+
+        @Test
+        @DisplayName("should stream every person of the tenant with the basic insurance coverage in force")
+        void should_joinTheBasicInsuranceCoverage_when_oneIsInForce() {
+            UUID insured = fixture.person("756.1111.2222.33", LocalDate.of(1985, 3, 2));
+            UUID policyId = fixture.policy(insured, PolicyStatus.ACTIVE, BillingFrequency.MONTHLY);
+            UUID coverageId = fixture.coverage(policyId, insured, basicInsurance, JANUARY_FIRST, 41_255);
+            fixture.coverage(policyId, insured, fixture.product(ProductType.VVG), JANUARY_FIRST, 5_000);
+            UUID uninsured = fixture.person("756.4444.5555.66", LocalDate.of(1990, 7, 9));
+            new ContractFixture(jdbcTemplate).person("756.7777.8888.99", LocalDate.of(1970, 1, 1));
+
+            assertThat(recipients(JANUARY_FIRST)).containsExactlyInAnyOrder(
+                new SubsidyRecipient("756.1111.2222.33", insured, LocalDate.of(1985, 3, 2), coverageId, 41_255),
+                new SubsidyRecipient("756.4444.5555.66", uninsured, LocalDate.of(1990, 7, 9), null, 0)
+            );
+        }
+
+        @Test
+        @DisplayName("should stream a person without coverage when the basic insurance is not in force on the date")
+        void should_returnNoCoverage_when_basicInsuranceIsNotInForce() {
+            UUID later = fixture.person(LocalDate.of(1985, 3, 2));
+            UUID laterPolicy = fixture.policy(later, PolicyStatus.ACTIVE, BillingFrequency.MONTHLY);
+            fixture.coverage(laterPolicy, later, basicInsurance, JANUARY_FIRST.plusMonths(1), 41_255);
+            UUID ended = fixture.person(LocalDate.of(1985, 3, 2));
+            UUID endedPolicy = fixture.policy(ended, PolicyStatus.ACTIVE, BillingFrequency.MONTHLY);
+            UUID endedCoverage = fixture.coverage(endedPolicy, ended, basicInsurance, LocalDate.of(2026, 1, 1), 40_000);
+            fixture.terminate(endedCoverage, JANUARY_FIRST.minusDays(1));
+
+            assertThat(recipients(JANUARY_FIRST))
+                .extracting(SubsidyRecipient::personId, SubsidyRecipient::coverageId)
+                .containsExactlyInAnyOrder(
+                    tuple(later, null),
+                    tuple(ended, null)
+                );
+        }
+
+        private List<SubsidyRecipient> recipients(LocalDate date) {
+            List<SubsidyRecipient> recipients = new ArrayList<>();
+            repository.forEachRecipient(fixture.tenantId(), date, recipients::add);
+            return recipients;
+        }
+    }
+
+    @Nested
+    @DisplayName("Writing subsidies")
+    class WritingSubsidies {
+        private UUID personId;
+        private UUID coverageId;
+
+        @BeforeEach
+        void setUp() {
+            personId = fixture.person(LocalDate.of(1985, 3, 2));
+            UUID policyId = fixture.policy(personId, PolicyStatus.ACTIVE, BillingFrequency.MONTHLY);
+            coverageId = fixture.coverage(policyId, personId, basicInsurance, JANUARY_FIRST, 41_255);
+        }
+
+        @Test
+        @DisplayName("should update the subsidy of a decision delivered again")
+        void should_replaceTheSubsidy_when_decisionIsDeliveredAgain() {
+            UUID firstRun = fixture.batchRun(SubsidyImportJob.JOB_NAME);
+            UUID secondRun = fixture.batchRun(SubsidyImportJob.JOB_NAME);
+
+            repository.saveSubsidies(firstRun, fixture.tenantId(), List.of(subsidy("ZH-2027-1", 12_000)));
+            repository.saveSubsidies(secondRun, fixture.tenantId(), List.of(subsidy("ZH-2027-1", 15_050)));
+
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT decision_number, monthly_amount, run_id FROM premium_subsidy WHERE coverage_id = ?",
+                coverageId
+            );
+            assertThat(rows).singleElement().satisfies(row -> assertThat(row)
+                .containsEntry("decision_number", "ZH-2027-1")
+                .containsEntry("monthly_amount", new BigDecimal("150.50"))
+                .containsEntry("run_id", secondRun));
+        }
+
+        @Test
+        @DisplayName("should keep one subsidy per decision of a coverage")
+        void should_addASubsidy_when_decisionNumberDiffers() {
+            UUID runId = fixture.batchRun(SubsidyImportJob.JOB_NAME);
+
+            repository.saveSubsidies(runId, fixture.tenantId(), List.of(
+                subsidy("ZH-2027-1", 12_000),
+                subsidy("ZH-2027-2", 3_000)
+            ));
+
+            assertThat(jdbcTemplate.queryForList(
+                "SELECT decision_number FROM premium_subsidy WHERE coverage_id = ? ORDER BY decision_number",
+                String.class,
+                coverageId
+            )).containsExactly("ZH-2027-1", "ZH-2027-2");
+        }
+
+        private PremiumSubsidy subsidy(String decisionNumber, long monthlyAmount) {
+            return new PremiumSubsidy(
+                personId,
+                coverageId,
+                Canton.ZH,
+                JANUARY_FIRST,
+                LocalDate.of(2027, 12, 31),
+                monthlyAmount,
+                decisionNumber
+            );
+        }
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Govinda ERP - Premium CSV Parser
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.application;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+import net.voytrex.govinda.common.domain.exception.BusinessRuleViolationException;
+import net.voytrex.govinda.common.domain.model.AgeGroup;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.common.domain.model.Gender;
+import net.voytrex.govinda.common.domain.model.ProductType;
+import net.voytrex.govinda.common.domain.model.Rappen;
+import net.voytrex.govinda.product.domain.model.PremiumImportBatch;
+import net.voytrex.govinda.product.domain.model.PremiumRegionIndex;
+import net.voytrex.govinda.product.domain.model.PremiumTableLayout;
+
+/**
+ * Parses and validates chunks of premium table CSV lines.
+ *
+ * The header names the columns ({@code premiumRegionCode, ageGroup, franchise,
+ * withAccident, gender, monthlyAmount}) in any order, separated by commas or
+ * semicolons. KVG files need a franchise, given as enum name ({@code CHF_300})
+ * or amount ({@code 300}), and the accident flag; VVG files with a gender
+ * column are priced per gender. Instances are immutable and shared by the
+ * threads parsing different chunks.
+ */
+final class PremiumCsvParser {
+    static final String REGION = "premiumRegionCode";
+    static final String AGE_GROUP = "ageGroup";
+    static final String FRANCHISE = "franchise";
+    static final String WITH_ACCIDENT = "withAccident";
+    static final String GENDER = "gender";
+    static final String MONTHLY_AMOUNT = "monthlyAmount";
+    private static final String INVALID_HEADER = "Premium table header must be valid";
+
+    private final Pattern separator;
+    private final int columns;
+    private final int region;
+    private final int ageGroup;
+    private final int franchise;
+    private final int withAccident;
+    private final int gender;
+    private final int monthlyAmount;
+    private final PremiumTableLayout layout;
+    private final PremiumRegionIndex regions;
+    private final int maxReportedErrors;
+
+    private PremiumCsvParser(
+        String separator,
+        Map<String, Integer> header,
+        PremiumTableLayout layout,
+        PremiumRegionIndex regions,
+        int maxReportedErrors
+    ) {
+        this.separator = Pattern.compile(Pattern.quote(separator));
+        this.columns = header.size();
+        this.region = header.get(REGION);
+        this.ageGroup = header.get(AGE_GROUP);
+        this.franchise = header.getOrDefault(FRANCHISE, -1);
+        this.withAccident = header.getOrDefault(WITH_ACCIDENT, -1);
+        this.gender = header.getOrDefault(GENDER, -1);
+        this.monthlyAmount = header.get(MONTHLY_AMOUNT);
+        this.layout = layout;
+        this.regions = regions;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    /**
+     * Creates a parser for a file's header line.
+     *
+     * @throws BusinessRuleViolationException if a column required for the product type is missing
+     */
+    static PremiumCsvParser forHeader(
+        String headerLine,
+        ProductType productType,
+        PremiumRegionIndex regions,
+        int maxReportedErrors
+    ) {
+        String separator = headerLine.indexOf(';') >= 0 && headerLine.indexOf(',') < 0 ? ";" : ",";
+        Map<String, Integer> header = new HashMap<>();
+        String[] names = headerLine.strip().split(Pattern.quote(separator), -1);
+        for (int i = 0; i < names.length; i++) {
+            if (header.put(names[i].strip(), i) != null) {
+                throw new BusinessRuleViolationException(INVALID_HEADER, "duplicate column " + names[i].strip());
+            }
+        }
+        List<String> required = productType == ProductType.KVG
+            ? List.of(REGION, AGE_GROUP, FRANCHISE, WITH_ACCIDENT, MONTHLY_AMOUNT)
+            : List.of(REGION, AGE_GROUP, MONTHLY_AMOUNT);
+        for (String column : required) {
+            if (!header.containsKey(column)) {
+                throw new BusinessRuleViolationException(INVALID_HEADER, "missing column " + column);
+            }
+        }
+        PremiumTableLayout layout = productType == ProductType.KVG
+            ? PremiumTableLayout.kvg(regions.size())
+            : PremiumTableLayout.vvg(regions.size(), header.containsKey(GENDER));
+        return new PremiumCsvParser(separator, header, layout, regions, maxReportedErrors);
+    }
+
+    PremiumTableLayout layout() {
+        return layout;
+    }
+
+    /**
+     * Parses consecutive lines starting at file line {@code firstLine}. Blank lines are skipped.
+     */
+    PremiumImportBatch parse(long firstLine, List<String> lines) {
+        PremiumImportBatch batch = new PremiumImportBatch(lines.size(), maxReportedErrors);
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (!line.isBlank()) {
+                parseLine(batch, firstLine + i, line);
+            }
+        }
+        return batch;
+    }
+
+    private void parseLine(PremiumImportBatch batch, long lineNumber, String line) {
+        String[] fields = separator.split(line, -1);
+        if (fields.length != columns) {
+            batch.reject(lineNumber, "expected " + columns + " columns but found " + fields.length);
+            return;
+        }
+        try {
+            String regionCode = fields[region].strip();
+            int regionIndex = regions.indexOfCode(regionCode);
+            if (regionIndex == PremiumRegionIndex.UNKNOWN) {
+                batch.reject(lineNumber, "unknown premium region " + regionCode);
+                return;
+            }
+            AgeGroup rowAgeGroup = AgeGroup.valueOf(fields[ageGroup].strip().toUpperCase(Locale.ROOT));
+            long rappen = Rappen.requireNumeric12x2(Rappen.fromDecimal(new BigDecimal(fields[monthlyAmount].strip())));
+            if (rappen < 0) {
+                batch.reject(lineNumber, "premium must not be negative");
+                return;
+            }
+            if (layout.getProductType() == ProductType.KVG) {
+                addKvg(batch, lineNumber, fields, regionIndex, rowAgeGroup, rappen);
+            } else {
+                addVvg(batch, lineNumber, fields, regionIndex, rowAgeGroup, rappen);
+            }
+        } catch (IllegalArgumentException | ArithmeticException ex) {
+            batch.reject(lineNumber, "invalid value: " + ex.getMessage());
+        }
+    }
+
+    // CHECKSTYLE:OFF: ParameterNumber - Row context is passed explicitly
+    private void addKvg(
+        PremiumImportBatch batch,
+        long lineNumber,
+        String[] fields,
+        int regionIndex,
+        AgeGroup rowAgeGroup,
+        long rappen
+    ) {
+        // CHECKSTYLE:ON: ParameterNumber
+        Franchise rowFranchise = franchise(fields[franchise].strip());
+        String accident = fields[withAccident].strip();
+        if (!"true".equalsIgnoreCase(accident) && !"false".equalsIgnoreCase(accident)) {
+            batch.reject(lineNumber, "withAccident must be true or false");
+            return;
+        }
+        if (gender >= 0 && !fields[gender].isBlank()) {
+            batch.reject(lineNumber, "KVG premiums must not depend on gender");
+            return;
+        }
+        boolean rowAccident = Boolean.parseBoolean(accident);
+        int slot = layout.kvgSlot(regionIndex, rowAgeGroup, rowFranchise, rowAccident);
+        if (!layout.isRequired(slot)) {
+            batch.reject(lineNumber, "franchise " + rowFranchise + " is not allowed for " + rowAgeGroup);
+        } else if (!batch.add(slot, regionIndex, rowAgeGroup, rowFranchise, rowAccident, null, rappen)) {
+            batch.reject(lineNumber, "duplicate entry " + layout.describe(slot, regions));
+        }
+    }
+
+    // CHECKSTYLE:OFF: ParameterNumber - Row context is passed explicitly
+    private void addVvg(
+        PremiumImportBatch batch,
+        long lineNumber,
+        String[] fields,
+        int regionIndex,
+        AgeGroup rowAgeGroup,
+        long rappen
+    ) {
+        // CHECKSTYLE:ON: ParameterNumber
+        if (franchise >= 0 && !fields[franchise].isBlank()) {
+            batch.reject(lineNumber, "VVG premiums must not have a franchise");
+            return;
+        }
+        Gender rowGender = null;
+        if (layout.isGenderBased()) {
+            rowGender = Gender.valueOf(fields[gender].strip().toUpperCase(Locale.ROOT));
+        }
+        int slot = layout.vvgSlot(regionIndex, rowAgeGroup, rowGender);
+        if (!batch.add(slot, regionIndex, rowAgeGroup, null, false, rowGender, rappen)) {
+            batch.reject(lineNumber, "duplicate entry " + layout.describe(slot, regions));
+        }
+    }
+
+    private static Franchise franchise(String value) {
+        if (!value.isEmpty() && Character.isDigit(value.charAt(0))) {
+            return Franchise.fromAmount(Integer.parseInt(value));
+        }
+        return Franchise.valueOf(value.toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Govinda ERP - Premium Table Import Service
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.application;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import net.voytrex.govinda.common.domain.exception.BusinessRuleViolationException;
+import net.voytrex.govinda.common.domain.exception.EntityNotFoundException;
+import net.voytrex.govinda.common.domain.model.ProductType;
+import net.voytrex.govinda.product.domain.model.PremiumImportBatch;
+import net.voytrex.govinda.product.domain.model.PremiumImportResult;
+import net.voytrex.govinda.product.domain.model.PremiumRegionIndex;
+import net.voytrex.govinda.product.domain.model.PremiumTableLayout;
+import net.voytrex.govinda.product.domain.model.Tariff;
+import net.voytrex.govinda.product.domain.repository.PremiumImportRepository;
+import net.voytrex.govinda.product.domain.repository.PremiumRegionRepository;
+import net.voytrex.govinda.product.domain.repository.TariffRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Bulk import of a DRAFT tariff's premium table from CSV (all-or-nothing).
+ *
+ * The file is streamed in chunks of {@value #CHUNK_LINES} lines that are
+ * parsed and validated concurrently. Each chunk records the layout slots it
+ * fills in a bitset; merging the bitsets detects duplicates across chunks and,
+ * compared with {@link PremiumTableLayout#required()}, every missing
+ * region × age group × franchise × accident combination in one pass. Only a
+ * complete, valid table is written: rows are COPYed into a staging table and
+ * then swapped into the tariff in one short transaction, so readers never see
+ * a partial table.
+ */
+@Service
+public class PremiumTableImportService {
+    static final int CHUNK_LINES = 8192;
+    static final int MAX_REPORTED_ERRORS = 20;
+    private static final Logger LOGGER = LoggerFactory.getLogger(PremiumTableImportService.class);
+
+    private final TariffRepository tariffRepository;
+    private final PremiumRegionRepository premiumRegionRepository;
+    private final PremiumImportRepository premiumImportRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    public PremiumTableImportService(
+        TariffRepository tariffRepository,
+        PremiumRegionRepository premiumRegionRepository,
+        PremiumImportRepository premiumImportRepository,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.tariffRepository = tariffRepository;
+        this.premiumRegionRepository = premiumRegionRepository;
+        this.premiumImportRepository = premiumImportRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Replaces the premium table of a DRAFT tariff with the rows of a UTF-8 CSV file.
+     *
+     * @throws EntityNotFoundException if the tariff does not exist
+     * @throws IllegalStateException if the tariff is not a DRAFT
+     * @throws BusinessRuleViolationException if rows are invalid or the table is incomplete
+     */
+    public PremiumImportResult importCsv(UUID tariffId, InputStream csv) {
+        long started = System.nanoTime();
+        ProductType productType = readOnlyTransactionTemplate.execute(status -> {
+            Tariff tariff = tariffRepository.findById(tariffId)
+                .orElseThrow(() -> new EntityNotFoundException("Tariff", tariffId));
+            tariff.requireDraft();
+            return tariff.getProduct().getProductType();
+        });
+        PremiumRegionIndex regions = PremiumRegionIndex.of(premiumRegionRepository.findAll());
+
+        List<PremiumImportBatch> batches = new ArrayList<>();
+        PremiumTableLayout layout = parse(csv, productType, regions, batches);
+        validate(layout, regions, batches);
+
+        UUID importId = UUID.randomUUID();
+        int imported;
+        try {
+            transactionTemplate.executeWithoutResult(
+                status -> premiumImportRepository.stage(importId, tariffId, regions, batches)
+            );
+            imported = transactionTemplate.execute(status -> premiumImportRepository.swap(importId, tariffId));
+        } catch (RuntimeException ex) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> premiumImportRepository.discard(importId));
+            } catch (RuntimeException discardFailure) {
+                ex.addSuppressed(discardFailure);
+            }
+            throw ex;
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+        LOGGER.info("Imported {} premium entries into tariff {} in {} ms", imported, tariffId, elapsed.toMillis());
+        return new PremiumImportResult(tariffId, imported, elapsed);
+    }
+
+    private static PremiumTableLayout parse(
+        InputStream csv,
+        ProductType productType,
+        PremiumRegionIndex regions,
+        List<PremiumImportBatch> batches
+    ) {
+        List<Future<PremiumImportBatch>> pending = new ArrayList<>();
+        try (
+            BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8));
+            ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()
+        ) {
+            String header = reader.readLine();
+            if (header == null) {
+                throw new BusinessRuleViolationException("Premium table header must be valid", "file is empty");
+            }
+            PremiumCsvParser parser = PremiumCsvParser.forHeader(
+                header.startsWith("\uFEFF") ? header.substring(1) : header, productType, regions, MAX_REPORTED_ERRORS
+            );
+            long firstLine = 2;
+            List<String> chunk = new ArrayList<>(CHUNK_LINES);
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                chunk.add(line);
+                if (chunk.size() == CHUNK_LINES) {
+                    pending.add(submit(executor, parser, firstLine, chunk));
+                    firstLine += CHUNK_LINES;
+                    chunk = new ArrayList<>(CHUNK_LINES);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                pending.add(submit(executor, parser, firstLine, chunk));
+            }
+            for (Future<PremiumImportBatch> future : pending) {
+                batches.add(future.get());
+            }
+            return parser.layout();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read premium table", ex);
+        } catch (ExecutionException ex) {
+            throw ex.getCause() instanceof RuntimeException cause
+                ? cause
+                : new IllegalStateException("Failed to parse premium table", ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Premium table import interrupted", ex);
+        }
+    }
+
+    private static Future<PremiumImportBatch> submit(
+        ExecutorService executor,
+        PremiumCsvParser parser,
+        long firstLine,
+        List<String> chunk
+    ) {
+        return executor.submit(() -> parser.parse(firstLine, chunk));
+    }
+
+    /**
+     * Merges the chunk bitsets and checks the table against the layout.
+     */
+    private static void validate(
+        PremiumTableLayout layout,
+        PremiumRegionIndex regions,
+        List<PremiumImportBatch> batches
+    ) {
+        List<String> errors = new ArrayList<>();
+        int errorCount = 0;
+        BitSet filled = new BitSet(layout.size());
+        for (PremiumImportBatch batch : batches) {
+            errorCount += batch.errorCount();
+            batch.errors().stream().limit(MAX_REPORTED_ERRORS - errors.size()).forEach(errors::add);
+            if (filled.intersects(batch.slots())) {
+                BitSet duplicates = (BitSet) batch.slots().clone();
+                duplicates.and(filled);
+                errorCount += duplicates.cardinality();
+                duplicates.stream()
+                    .limit(MAX_REPORTED_ERRORS - errors.size())
+                    .forEach(slot -> errors.add("duplicate entry " + layout.describe(slot, regions)));
+            }
+            filled.or(batch.slots());
+        }
+        if (errorCount > 0) {
+            throw new BusinessRuleViolationException(
+                "Premium table rows must be valid",
+                errorCount + " invalid rows: " + String.join("; ", errors)
+            );
+        }
+
+        BitSet missing = layout.required();
+        missing.andNot(filled);
+        if (!missing.isEmpty()) {
+            List<String> examples = missing.stream()
+                .limit(MAX_REPORTED_ERRORS)
+                .mapToObj(slot -> layout.describe(slot, regions))
+                .toList();
+            throw new BusinessRuleViolationException(
+                "Premium table must be complete",
+                missing.cardinality() + " of " + layout.requiredCount() + " entries missing: "
+                    + String.join("; ", examples)
+            );
+        }
+    }
+}
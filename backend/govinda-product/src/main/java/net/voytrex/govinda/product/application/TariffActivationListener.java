@@ -0,0 +1,28 @@
+/*
+ * Govinda ERP - Tariff Activation Listener
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.application;
+
+import net.voytrex.govinda.product.domain.model.Tariff;
+
+/**
+ * Callback for components that keep state derived from the set of active tariffs.
+ *
+ * Implementations are Spring beans picked up by {@link TariffService}. They are
+ * called inside the activating transaction. Work done there, such as the
+ * {@link TariffRegistry} compiling the activated tariff's premium table,
+ * delays the commit, and state derived from it must only become visible once
+ * the transaction commits. Other listeners should only schedule invalidations,
+ * e.g. through the cache invalidation bus.
+ */
+public interface TariffActivationListener {
+
+    void onTariffActivated(Tariff tariff);
+
+    default void onTariffDeactivated(Tariff tariff) {
+        onTariffActivated(tariff);
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * Govinda ERP - Tariff Registry
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.application;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import net.voytrex.govinda.common.infrastructure.cache.CacheInvalidationBus;
+import net.voytrex.govinda.common.infrastructure.cache.CacheInvalidationTarget;
+import net.voytrex.govinda.product.domain.model.PremiumRegionIndex;
+import net.voytrex.govinda.product.domain.model.PremiumTable;
+import net.voytrex.govinda.product.domain.model.Tariff;
+import net.voytrex.govinda.product.domain.model.TariffSnapshot;
+import net.voytrex.govinda.product.domain.repository.PremiumEntryRepository;
+import net.voytrex.govinda.product.domain.repository.PremiumRegionRepository;
+import net.voytrex.govinda.product.domain.repository.PremiumTableSnapshotStore;
+import net.voytrex.govinda.product.domain.repository.TariffRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Copy-on-write registry of compiled premium tables of active tariffs.
+ *
+ * The current {@link TariffSnapshot} sits behind a single atomic reference.
+ * Reads are one volatile load without locking; writers build a new snapshot
+ * and swap it in with compare-and-set, so readers either see the complete
+ * old or the complete new set of tables, never a half-loaded one.
+ *
+ * Activating a tariff compiles its table and eligibility rules inside the
+ * activating transaction and publishes them once that transaction commits,
+ * so the first quote after an activation does not pay for the compilation.
+ * Tables restored from snapshots compile their rules on first use. Deactivation drops the table on
+ * every node through the {@link CacheInvalidationBus}. Other nodes compile a
+ * newly activated tariff on first use. Every eviction advances a generation
+ * and records it for the evicted tariff, or for all tariffs on
+ * {@link #evictAll()}. A table restored or compiled while its own tariff was
+ * evicted is withdrawn again after publishing, so an evicted tariff cannot be
+ * republished from a read that predates the eviction; evictions of other
+ * tariffs leave it published.
+ *
+ * Compiled tables are also written to the {@link PremiumTableSnapshotStore}.
+ * {@link #preload()} restores every active tariff from there at startup and
+ * only compiles from the database what has no valid snapshot.
+ */
+@Service
+public class TariffRegistry implements TariffActivationListener, CacheInvalidationTarget {
+    static final String NAME = "product.tariff-registry";
+    private static final Logger LOGGER = LoggerFactory.getLogger(TariffRegistry.class);
+
+    private final TariffRepository tariffRepository;
+    private final PremiumEntryRepository premiumEntryRepository;
+    private final PremiumRegionRepository premiumRegionRepository;
+    private final PremiumTableSnapshotStore snapshotStore;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final AtomicReference<TariffSnapshot> snapshot = new AtomicReference<>(TariffSnapshot.EMPTY);
+    private final AtomicReference<PremiumRegionIndex> regions = new AtomicReference<>();
+    private final AtomicLong evictions = new AtomicLong();
+    /** Generation of the last eviction per tariff, kept only where newer than {@link #clearedAt}. */
+    private final Map<UUID, Long> evictedAt = new ConcurrentHashMap<>();
+    private final AtomicLong clearedAt = new AtomicLong();
+
+    public TariffRegistry(
+        TariffRepository tariffRepository,
+        PremiumEntryRepository premiumEntryRepository,
+        PremiumRegionRepository premiumRegionRepository,
+        PremiumTableSnapshotStore snapshotStore,
+        CacheInvalidationBus cacheInvalidationBus
+    ) {
+        this.tariffRepository = tariffRepository;
+        this.premiumEntryRepository = premiumEntryRepository;
+        this.premiumRegionRepository = premiumRegionRepository;
+        this.snapshotStore = snapshotStore;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        cacheInvalidationBus.register(this);
+    }
+
+    /**
+     * The snapshot currently published. Hold on to it for the duration of a
+     * quote to price every member against the same tables.
+     */
+    public TariffSnapshot current() {
+        return snapshot.get();
+    }
+
+    /**
+     * Premium region dictionary shared by all compiled tables, loaded on first
+     * use and again after {@link #evictAll()}. Concurrent first calls may both
+     * read the regions; the first index published wins.
+     */
+    public PremiumRegionIndex regions() {
+        PremiumRegionIndex current = regions.get();
+        if (current != null) {
+            return current;
+        }
+        PremiumRegionIndex loaded = PremiumRegionIndex.of(premiumRegionRepository.findAll());
+        if (regions.compareAndSet(null, loaded)) {
+            return loaded;
+        }
+        current = regions.get();
+        return current != null ? current : loaded;
+    }
+
+    /**
+     * Returns the compiled table of a tariff, restoring or compiling and
+     * publishing it if this node has not seen the tariff yet. The caller
+     * checks the status.
+     */
+    public PremiumTable table(Tariff tariff) {
+        PremiumTable table = snapshot.get().table(tariff.getId());
+        if (table != null) {
+            return table;
+        }
+        long generation = evictions.get();
+        PremiumTable loaded = restoreOrCompile(tariff);
+        TariffSnapshot published = snapshot.updateAndGet(
+            current -> current.contains(loaded.getTariffId()) ? current : current.with(loaded)
+        );
+        withdrawIfEvicted(generation, List.of(loaded));
+        return published.table(tariff.getId());
+    }
+
+    /**
+     * Publishes the tables of all active tariffs in one swap, restoring them
+     * from snapshots where possible.
+     *
+     * @return the number of tables published
+     */
+    public int preload() {
+        long started = System.nanoTime();
+        long generation = evictions.get();
+        List<Tariff> tariffs = tariffRepository.findAllActive();
+        List<PremiumTable> tables = new ArrayList<>(tariffs.size());
+        for (Tariff tariff : tariffs) {
+            tables.add(restoreOrCompile(tariff));
+        }
+        TariffSnapshot published = snapshot.updateAndGet(current -> current.merge(tables));
+        withdrawIfEvicted(generation, tables);
+        LOGGER.info(
+            "Preloaded {} active tariffs as registry version {} in {} ms",
+            tables.size(),
+            published.getVersion(),
+            (System.nanoTime() - started) / 1_000_000
+        );
+        return tables.size();
+    }
+
+    /**
+     * Compiles the premium table of a tariff in any status without publishing it.
+     */
+    public PremiumTable compile(Tariff tariff) {
+        long started = System.nanoTime();
+        PremiumTable table = PremiumTable.compile(
+            tariff.getId(),
+            tariff.getProduct().getProductType(),
+            regions(),
+            premiumEntryRepository.findRatesByTariffId(tariff.getId())
+        );
+        LOGGER.info(
+            "Compiled premium table of tariff {} ({} entries) in {} ms",
+            tariff.getId(),
+            table.getEntryCount(),
+            (System.nanoTime() - started) / 1_000_000
+        );
+        return table;
+    }
+
+    @Override
+    public void onTariffActivated(Tariff tariff) {
+        long generation = evictions.get();
+        PremiumTable compiled = compile(tariff);
+        compiled.getEligibility();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(compiled, generation);
+                }
+            });
+        } else {
+            publish(compiled, generation);
+        }
+    }
+
+    @Override
+    public void onTariffDeactivated(Tariff tariff) {
+        cacheInvalidationBus.invalidate(NAME, tariff.getId());
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void evictSerializedKey(String serializedKey) {
+        UUID tariffId = UUID.fromString(serializedKey);
+        evictedAt.merge(tariffId, evictions.incrementAndGet(), Math::max);
+        snapshot.updateAndGet(current -> current.without(tariffId));
+        snapshotStore.delete(tariffId);
+    }
+
+    @Override
+    public void evictAll() {
+        long cleared = clearedAt.accumulateAndGet(evictions.incrementAndGet(), Math::max);
+        evictedAt.values().removeIf(generation -> generation <= cleared);
+        regions.set(null);
+        snapshot.updateAndGet(TariffSnapshot::cleared);
+    }
+
+    private PremiumTable restoreOrCompile(Tariff tariff) {
+        Optional<PremiumTable> restored = snapshotStore.load(tariff.getId(), regions());
+        if (restored.isPresent()) {
+            return restored.get();
+        }
+        PremiumTable compiled = compile(tariff);
+        snapshotStore.save(compiled);
+        return compiled;
+    }
+
+    private void publish(PremiumTable table, long generation) {
+        TariffSnapshot published = snapshot.updateAndGet(current -> current.with(table));
+        LOGGER.info("Published tariff {} as registry version {}", table.getTariffId(), published.getVersion());
+        snapshotStore.save(table);
+        withdrawIfEvicted(generation, List.of(table));
+    }
+
+    /**
+     * Removes just published tables again if their tariff was evicted since
+     * their generation was read; an eviction that ran before the tables were
+     * published may not have seen them. Tables replaced in the meantime stay.
+     */
+    private void withdrawIfEvicted(long generation, Collection<PremiumTable> tables) {
+        if (evictions.get() == generation) {
+            return;
+        }
+        boolean cleared = clearedAt.get() > generation;
+        snapshot.updateAndGet(current -> {
+            TariffSnapshot next = current;
+            for (PremiumTable table : tables) {
+                UUID tariffId = table.getTariffId();
+                boolean evicted = cleared || evictedAt.getOrDefault(tariffId, 0L) > generation;
+                if (evicted && next.table(tariffId) == table) {
+                    next = next.without(tariffId);
+                }
+            }
+            return next;
+        });
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Govinda ERP - Tariff Registry Preloader
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.application;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills the {@link TariffRegistry} before the web server accepts requests,
+ * so the first quotes after a restart do not compile premium tables.
+ *
+ * A failed preload is logged and does not prevent startup; tables are then
+ * loaded on first use.
+ */
+@Component
+public class TariffRegistryPreloader implements SmartLifecycle {
+    /** Ahead of the web server, which starts in a late phase. */
+    static final int PHASE = 0;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TariffRegistryPreloader.class);
+
+    private final TariffRegistry tariffRegistry;
+    private volatile boolean running;
+
+    public TariffRegistryPreloader(TariffRegistry tariffRegistry) {
+        this.tariffRegistry = tariffRegistry;
+    }
+
+    @Override
+    public void start() {
+        try {
+            tariffRegistry.preload();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Could not preload the tariff registry, loading tables on first use", e);
+        }
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Govinda ERP - Tariff Service
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.application;
+
+import java.util.List;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.exception.EntityNotFoundException;
+import net.voytrex.govinda.product.domain.model.Tariff;
+import net.voytrex.govinda.product.domain.repository.TariffRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Tariff lifecycle: activation and deactivation notify every
+ * {@link TariffActivationListener} so that derived caches are invalidated.
+ */
+@Service
+@Transactional(readOnly = true)
+public class TariffService {
+    private final TariffRepository tariffRepository;
+    private final List<TariffActivationListener> listeners;
+
+    public TariffService(TariffRepository tariffRepository, List<TariffActivationListener> listeners) {
+        this.tariffRepository = tariffRepository;
+        this.listeners = List.copyOf(listeners);
+    }
+
+    public Tariff getTariff(UUID id) {
+        return tariffRepository.findById(id)
+            .orElseThrow(() -> new EntityNotFoundException("Tariff", id));
+    }
+
+    @Transactional
+    public Tariff activate(UUID id) {
+        Tariff tariff = getTariff(id);
+        tariff.activate();
+        Tariff saved = tariffRepository.save(tariff);
+        listeners.forEach(listener -> listener.onTariffActivated(saved));
+        return saved;
+    }
+
+    @Transactional
+    public Tariff deactivate(UUID id) {
+        Tariff tariff = getTariff(id);
+        tariff.deactivate();
+        Tariff saved = tariffRepository.save(tariff);
+        listeners.forEach(listener -> listener.onTariffDeactivated(saved));
+        return saved;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Govinda ERP - Eligibility Rules
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.domain.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import net.voytrex.govinda.common.domain.model.AgeGroup;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.common.domain.model.Gender;
+import net.voytrex.govinda.common.domain.model.ProductType;
+
+/**
+ * Compiled eligibility decision table of a tariff.
+ *
+ * A combination is eligible if the tariff prices it and, for KVG, the
+ * franchise is allowed for the age group. VVG tariffs express their age
+ * limits by the age groups they price. The rules are compiled once per
+ * {@link PremiumTable} into one bit mask per region and age group, holding
+ * the eligible franchises by ordinal for KVG and a single bit for VVG, so a
+ * check is one array load and a shift, and never allocates.
+ */
+public final class EligibilityRules {
+    private static final AgeGroup[] AGE_GROUPS = AgeGroup.values();
+    private static final Franchise[] FRANCHISES = Franchise.values();
+    private static final Gender[] GENDERS = Gender.values();
+    private static final int PRICED = 1;
+
+    private final ProductType productType;
+    private final int regionCount;
+    private final int[] masks;
+    private final boolean[] offered;
+    private final List<Set<Franchise>> franchises;
+
+    private EligibilityRules(ProductType productType, int regionCount, int[] masks) {
+        this.productType = productType;
+        this.regionCount = regionCount;
+        this.masks = masks;
+        this.offered = new boolean[regionCount];
+        Map<Integer, Set<Franchise>> shared = new HashMap<>();
+        List<Set<Franchise>> sets = new ArrayList<>(masks.length);
+        for (int cell = 0; cell < masks.length; cell++) {
+            if (masks[cell] != 0) {
+                offered[cell / AGE_GROUPS.length] = true;
+            }
+            int mask = productType == ProductType.KVG ? masks[cell] : 0;
+            sets.add(shared.computeIfAbsent(mask, EligibilityRules::franchiseSet));
+        }
+        this.franchises = List.copyOf(sets);
+    }
+
+    /**
+     * Compiles the rules from the combinations a premium table prices.
+     */
+    public static EligibilityRules compile(PremiumTable table) {
+        int regionCount = table.getRegions().size();
+        int[] masks = new int[regionCount * AGE_GROUPS.length];
+        for (int region = 0; region < regionCount; region++) {
+            for (AgeGroup ageGroup : AGE_GROUPS) {
+                int cell = region * AGE_GROUPS.length + ageGroup.ordinal();
+                masks[cell] = table.getProductType() == ProductType.KVG
+                    ? kvgMask(table, region, ageGroup)
+                    : vvgMask(table, region, ageGroup);
+            }
+        }
+        return new EligibilityRules(table.getProductType(), regionCount, masks);
+    }
+
+    public ProductType getProductType() {
+        return productType;
+    }
+
+    /**
+     * Whether the tariff prices anything in a region.
+     *
+     * @param region index from {@link PremiumRegionIndex#indexOf(java.util.UUID)}
+     */
+    public boolean isOffered(int region) {
+        return inRange(region) && offered[region];
+    }
+
+    /**
+     * Whether the age group can be insured in a region, with at least one franchise for KVG.
+     */
+    public boolean isEligible(int region, AgeGroup ageGroup) {
+        return inRange(region) && masks[cell(region, ageGroup)] != 0;
+    }
+
+    /**
+     * Whether the KVG franchise can be chosen by the age group in a region.
+     */
+    public boolean isEligible(int region, AgeGroup ageGroup, Franchise franchise) {
+        return productType == ProductType.KVG
+            && inRange(region)
+            && (masks[cell(region, ageGroup)] & 1 << franchise.ordinal()) != 0;
+    }
+
+    /**
+     * Eligible KVG franchises of the age group in a region, as a shared,
+     * unmodifiable set; empty for VVG and unknown regions.
+     */
+    public Set<Franchise> franchises(int region, AgeGroup ageGroup) {
+        return inRange(region) ? franchises.get(cell(region, ageGroup)) : Set.of();
+    }
+
+    private boolean inRange(int region) {
+        return region >= 0 && region < regionCount;
+    }
+
+    private static int cell(int region, AgeGroup ageGroup) {
+        return region * AGE_GROUPS.length + ageGroup.ordinal();
+    }
+
+    private static int kvgMask(PremiumTable table, int region, AgeGroup ageGroup) {
+        int mask = 0;
+        for (Franchise franchise : FRANCHISES) {
+            boolean priced = table.premium(region, ageGroup, franchise, false) != PremiumTable.NO_PREMIUM
+                || table.premium(region, ageGroup, franchise, true) != PremiumTable.NO_PREMIUM;
+            if (priced && franchise.isAllowedFor(ageGroup)) {
+                mask |= 1 << franchise.ordinal();
+            }
+        }
+        return mask;
+    }
+
+    private static int vvgMask(PremiumTable table, int region, AgeGroup ageGroup) {
+        if (table.premium(region, ageGroup, null) != PremiumTable.NO_PREMIUM) {
+            return PRICED;
+        }
+        for (Gender gender : GENDERS) {
+            if (table.premium(region, ageGroup, gender) != PremiumTable.NO_PREMIUM) {
+                return PRICED;
+            }
+        }
+        return 0;
+    }
+
+    private static Set<Franchise> franchiseSet(int mask) {
+        EnumSet<Franchise> set = EnumSet.noneOf(Franchise.class);
+        for (Franchise franchise : FRANCHISES) {
+            if ((mask & 1 << franchise.ordinal()) != 0) {
+                set.add(franchise);
+            }
+        }
+        return Collections.unmodifiableSet(set);
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Govinda ERP - Premium Entry Entity
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.domain.model;
+
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.AttributeOverrides;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.AgeGroup;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.common.domain.model.Gender;
+import net.voytrex.govinda.common.domain.model.Money;
+import org.springframework.lang.Nullable;
+
+/**
+ * One row of a tariff's premium table.
+ *
+ * KVG entries are keyed by region, age group, franchise and accident cover;
+ * VVG entries by region, age group and optionally gender.
+ */
+@Entity
+@Table(name = "premium_entry")
+public class PremiumEntry {
+    @Id
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id = UUID.randomUUID();
+
+    @Column(name = "tariff_id", updatable = false, nullable = false)
+    private UUID tariffId;
+
+    @Column(name = "premium_region_id", nullable = false)
+    private UUID premiumRegionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "age_group", length = 20, nullable = false)
+    private AgeGroup ageGroup;
+
+    @Nullable
+    @Enumerated(EnumType.STRING)
+    @Column(name = "franchise", length = 10)
+    private Franchise franchise;
+
+    @Nullable
+    @Column(name = "with_accident")
+    private Boolean withAccident;
+
+    @Nullable
+    @Enumerated(EnumType.STRING)
+    @Column(name = "gender", length = 10)
+    private Gender gender;
+
+    @Embedded
+    @AttributeOverrides({
+        @AttributeOverride(name = "amount", column = @Column(name = "monthly_amount", precision = 12, scale = 2)),
+        @AttributeOverride(name = "currency", column = @Column(name = "currency", length = 3))
+    })
+    private Money monthlyAmount;
+
+    @Column(name = "created_at", updatable = false, nullable = false)
+    private Instant createdAt = Instant.now();
+
+    protected PremiumEntry() {
+    }
+
+    /**
+     * Creates a KVG premium entry.
+     */
+    public static PremiumEntry kvg(
+        UUID tariffId,
+        UUID premiumRegionId,
+        AgeGroup ageGroup,
+        Franchise franchise,
+        boolean withAccident,
+        Money monthlyAmount
+    ) {
+        return new PremiumEntry(tariffId, premiumRegionId, ageGroup, franchise, withAccident, null, monthlyAmount);
+    }
+
+    /**
+     * Creates a VVG premium entry; {@code gender} is {@code null} for unisex products.
+     */
+    public static PremiumEntry vvg(
+        UUID tariffId,
+        UUID premiumRegionId,
+        AgeGroup ageGroup,
+        @Nullable Gender gender,
+        Money monthlyAmount
+    ) {
+        return new PremiumEntry(tariffId, premiumRegionId, ageGroup, null, null, gender, monthlyAmount);
+    }
+
+    // CHECKSTYLE:OFF: ParameterNumber - Premium table key has up to five dimensions
+    private PremiumEntry(
+        UUID tariffId,
+        UUID premiumRegionId,
+        AgeGroup ageGroup,
+        @Nullable Franchise franchise,
+        @Nullable Boolean withAccident,
+        @Nullable Gender gender,
+        Money monthlyAmount
+    ) {
+        // CHECKSTYLE:ON: ParameterNumber
+        if (monthlyAmount.isNegative()) {
+            throw new IllegalArgumentException("Premium must not be negative");
+        }
+        this.tariffId = tariffId;
+        this.premiumRegionId = premiumRegionId;
+        this.ageGroup = ageGroup;
+        this.franchise = franchise;
+        this.withAccident = withAccident;
+        this.gender = gender;
+        this.monthlyAmount = monthlyAmount;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getTariffId() {
+        return tariffId;
+    }
+
+    public UUID getPremiumRegionId() {
+        return premiumRegionId;
+    }
+
+    public AgeGroup getAgeGroup() {
+        return ageGroup;
+    }
+
+    @Nullable
+    public Franchise getFranchise() {
+        return franchise;
+    }
+
+    @Nullable
+    public Boolean getWithAccident() {
+        return withAccident;
+    }
+
+    @Nullable
+    public Gender getGender() {
+        return gender;
+    }
+
+    public Money getMonthlyAmount() {
+        return monthlyAmount;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Returns the rate view of this entry used to compile premium tables.
+     */
+    public PremiumRate toRate() {
+        return new PremiumRate(
+            premiumRegionId,
+            ageGroup,
+            franchise,
+            Boolean.TRUE.equals(withAccident),
+            gender,
+            monthlyAmount.getAmount()
+        );
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        PremiumEntry entry = (PremiumEntry) other;
+        return Objects.equals(id, entry.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Govinda ERP - Premium Import Batch
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.domain.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import net.voytrex.govinda.common.domain.model.AgeGroup;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.common.domain.model.Gender;
+import org.springframework.lang.Nullable;
+
+/**
+ * Validated rows of one chunk of a premium table import.
+ *
+ * Rows are stored column-wise in primitive arrays (region index, enum
+ * ordinals, Rappen) so that a national tariff with hundreds of thousands of
+ * rows stays compact until it is copied to the database. {@link #slots()}
+ * holds the {@link PremiumTableLayout} slot of every row; rejected rows are
+ * not stored and only counted in {@link #errorCount()}.
+ */
+public final class PremiumImportBatch {
+    private static final byte NONE = -1;
+    private static final AgeGroup[] AGE_GROUPS = AgeGroup.values();
+    private static final Franchise[] FRANCHISES = Franchise.values();
+    private static final Gender[] GENDERS = Gender.values();
+
+    private final int maxReportedErrors;
+    private final BitSet slots = new BitSet();
+    private final List<String> errors = new ArrayList<>();
+    private int errorCount;
+    private int size;
+    private int[] regions;
+    private byte[] ageGroups;
+    private byte[] franchises;
+    private boolean[] accidents;
+    private byte[] genders;
+    private long[] rappen;
+
+    public PremiumImportBatch(int capacity, int maxReportedErrors) {
+        this.maxReportedErrors = maxReportedErrors;
+        this.regions = new int[capacity];
+        this.ageGroups = new byte[capacity];
+        this.franchises = new byte[capacity];
+        this.accidents = new boolean[capacity];
+        this.genders = new byte[capacity];
+        this.rappen = new long[capacity];
+    }
+
+    /**
+     * Adds a row unless its slot is already taken within this batch.
+     *
+     * @return {@code false} for a duplicate row
+     */
+    // CHECKSTYLE:OFF: ParameterNumber - Premium table key has up to five dimensions
+    public boolean add(
+        int slot,
+        int region,
+        AgeGroup ageGroup,
+        @Nullable Franchise franchise,
+        boolean withAccident,
+        @Nullable Gender gender,
+        long monthlyRappen
+    ) {
+        // CHECKSTYLE:ON: ParameterNumber
+        if (slots.get(slot)) {
+            return false;
+        }
+        slots.set(slot);
+        if (size == regions.length) {
+            grow();
+        }
+        regions[size] = region;
+        ageGroups[size] = (byte) ageGroup.ordinal();
+        franchises[size] = franchise != null ? (byte) franchise.ordinal() : NONE;
+        accidents[size] = withAccident;
+        genders[size] = gender != null ? (byte) gender.ordinal() : NONE;
+        rappen[size] = monthlyRappen;
+        size++;
+        return true;
+    }
+
+    /**
+     * Records a rejected row; only the first messages are kept.
+     */
+    public void reject(long line, String message) {
+        errorCount++;
+        if (errors.size() < maxReportedErrors) {
+            errors.add("line " + line + ": " + message);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Layout slots of the accepted rows. Returns the live set; callers must not modify it.
+     */
+    public BitSet slots() {
+        return slots;
+    }
+
+    public int errorCount() {
+        return errorCount;
+    }
+
+    public List<String> errors() {
+        return List.copyOf(errors);
+    }
+
+    public int region(int row) {
+        return regions[row];
+    }
+
+    public AgeGroup ageGroup(int row) {
+        return AGE_GROUPS[ageGroups[row]];
+    }
+
+    @Nullable
+    public Franchise franchise(int row) {
+        return franchises[row] == NONE ? null : FRANCHISES[franchises[row]];
+    }
+
+    public boolean withAccident(int row) {
+        return accidents[row];
+    }
+
+    @Nullable
+    public Gender gender(int row) {
+        return genders[row] == NONE ? null : GENDERS[genders[row]];
+    }
+
+    public long monthlyRappen(int row) {
+        return rappen[row];
+    }
+
+    private void grow() {
+        int capacity = Math.max(16, regions.length * 2);
+        regions = Arrays.copyOf(regions, capacity);
+        ageGroups = Arrays.copyOf(ageGroups, capacity);
+        franchises = Arrays.copyOf(franchises, capacity);
+        accidents = Arrays.copyOf(accidents, capacity);
+        genders = Arrays.copyOf(genders, capacity);
+        rappen = Arrays.copyOf(rappen, capacity);
+    }
+}
@@ -0,0 +1,18 @@
+/*
+ * Govinda ERP - Premium Import Result
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.domain.model;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Summary of a premium table import.
+ *
+ * @param imported number of premium entries now stored for the tariff
+ */
+public record PremiumImportResult(UUID tariffId, int imported, Duration elapsed) {
+}
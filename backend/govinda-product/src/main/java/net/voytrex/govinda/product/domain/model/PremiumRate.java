@@ -0,0 +1,30 @@
+/*
+ * Govinda ERP - Premium Rate
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.domain.model;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.AgeGroup;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.common.domain.model.Gender;
+import org.springframework.lang.Nullable;
+
+/**
+ * Read-only premium table row, as loaded in bulk to compile a {@link PremiumTable}.
+ *
+ * @param franchise KVG franchise, {@code null} for VVG
+ * @param gender VVG gender for gender-based pricing, {@code null} otherwise
+ */
+public record PremiumRate(
+    UUID premiumRegionId,
+    AgeGroup ageGroup,
+    @Nullable Franchise franchise,
+    boolean withAccident,
+    @Nullable Gender gender,
+    BigDecimal monthlyAmount
+) {
+}
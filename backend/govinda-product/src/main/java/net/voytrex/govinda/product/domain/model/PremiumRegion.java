@@ -0,0 +1,100 @@
+/*
+ * Govinda ERP - Premium Region Entity
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.util.Objects;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.Canton;
+import org.hibernate.annotations.Immutable;
+import org.springframework.lang.Nullable;
+
+/**
+ * BAG premium region (Prämienregion), read-only reference data.
+ */
+@Entity
+@Immutable
+@Table(name = "premium_region")
+public class PremiumRegion {
+    @Id
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "canton_code", length = 2, nullable = false)
+    private Canton canton;
+
+    @Column(name = "region_number", nullable = false)
+    private int regionNumber;
+
+    @Column(name = "name_de", length = 200, nullable = false)
+    private String nameDe;
+
+    @Nullable
+    @Column(name = "name_fr", length = 200)
+    private String nameFr;
+
+    protected PremiumRegion() {
+    }
+
+    public PremiumRegion(UUID id, Canton canton, int regionNumber, String nameDe) {
+        this.id = id;
+        this.canton = canton;
+        this.regionNumber = regionNumber;
+        this.nameDe = nameDe;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public Canton getCanton() {
+        return canton;
+    }
+
+    public int getRegionNumber() {
+        return regionNumber;
+    }
+
+    /**
+     * Region code as used in BAG tariff files, e.g. {@code ZH-1}.
+     */
+    public String getCode() {
+        return canton.getCode() + "-" + regionNumber;
+    }
+
+    public String getNameDe() {
+        return nameDe;
+    }
+
+    @Nullable
+    public String getNameFr() {
+        return nameFr;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        PremiumRegion region = (PremiumRegion) other;
+        return Objects.equals(id, region.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
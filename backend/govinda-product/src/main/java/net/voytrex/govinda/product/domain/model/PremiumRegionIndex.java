@@ -0,0 +1,91 @@
+/*
+ * Govinda ERP - Premium Region Index
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.domain.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.Canton;
+
+/**
+ * Dense dictionary of premium regions.
+ *
+ * Assigns every premium region a stable index in {@code [0, size())}, ordered
+ * by canton and region number, so compiled premium tables can address regions
+ * by array offset. Resolve a person's region id once with {@link #indexOf(UUID)}
+ * and pass the index to the quote methods.
+ */
+public final class PremiumRegionIndex {
+    /** Returned by the lookup methods for unknown regions. */
+    public static final int UNKNOWN = -1;
+
+    private final UUID[] ids;
+    private final Canton[] cantons;
+    private final String[] codes;
+    private final Map<UUID, Integer> indexById;
+    private final Map<String, Integer> indexByCode;
+
+    private PremiumRegionIndex(List<PremiumRegion> regions) {
+        int size = regions.size();
+        this.ids = new UUID[size];
+        this.cantons = new Canton[size];
+        this.codes = new String[size];
+        this.indexById = new HashMap<>(size * 2);
+        this.indexByCode = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            PremiumRegion region = regions.get(i);
+            ids[i] = region.getId();
+            cantons[i] = region.getCanton();
+            codes[i] = region.getCode();
+            if (indexById.put(ids[i], i) != null || indexByCode.put(codes[i], i) != null) {
+                throw new IllegalArgumentException("Duplicate premium region " + codes[i]);
+            }
+        }
+    }
+
+    public static PremiumRegionIndex of(Collection<PremiumRegion> regions) {
+        List<PremiumRegion> sorted = new ArrayList<>(regions);
+        sorted.sort(Comparator.comparing(PremiumRegion::getCanton).thenComparingInt(PremiumRegion::getRegionNumber));
+        return new PremiumRegionIndex(sorted);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Index of a region id, or {@link #UNKNOWN}.
+     */
+    public int indexOf(UUID regionId) {
+        Integer index = indexById.get(regionId);
+        return index != null ? index : UNKNOWN;
+    }
+
+    /**
+     * Index of a region code such as {@code ZH-1}, or {@link #UNKNOWN}.
+     */
+    public int indexOfCode(String code) {
+        Integer index = indexByCode.get(code);
+        return index != null ? index : UNKNOWN;
+    }
+
+    public UUID regionId(int index) {
+        return ids[index];
+    }
+
+    public Canton canton(int index) {
+        return cantons[index];
+    }
+
+    public String code(int index) {
+        return codes[index];
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Govinda ERP - Compiled Premium Table
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.domain.model;
+
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.exception.PremiumCalculationException;
+import net.voytrex.govinda.common.domain.model.AgeGroup;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.common.domain.model.Gender;
+import net.voytrex.govinda.common.domain.model.ProductType;
+import net.voytrex.govinda.common.domain.model.Rappen;
+import org.springframework.lang.Nullable;
+
+/**
+ * Read-optimized, immutable form of a tariff's premium table.
+ *
+ * Monthly premiums are stored as Rappen in one dense {@code long[]} addressed
+ * by enum ordinals and the {@link PremiumRegionIndex}:
+ * <ul>
+ *   <li>KVG: region × age group × franchise × accident cover</li>
+ *   <li>VVG: region × age group × (unisex, gender)</li>
+ * </ul>
+ * A lookup is a few multiplications and one array load; it neither allocates
+ * nor touches the database. Missing combinations hold {@link #NO_PREMIUM},
+ * and lookups for a region outside the index, such as
+ * {@link PremiumRegionIndex#UNKNOWN}, return it. Premiums are never negative,
+ * so the marker cannot be mistaken for a rate.
+ *
+ * Its {@link EligibilityRules} are compiled on first use, not with the
+ * table, so restoring a snapshot does not scan the buffer.
+ *
+ * The array is held as a {@link LongBuffer}, so a table restored from a
+ * snapshot file can be served straight from a memory-mapped buffer.
+ */
+public final class PremiumTable {
+    /** Marker for combinations without a premium entry. */
+    public static final long NO_PREMIUM = -1L;
+
+    private static final int AGE_GROUPS = AgeGroup.values().length;
+    private static final int FRANCHISES = Franchise.values().length;
+    private static final int ACCIDENT_OPTIONS = 2;
+    /** Slot 0 holds the unisex premium, slot {@code ordinal + 1} the gender-specific one. */
+    private static final int GENDER_SLOTS = Gender.values().length + 1;
+
+    private final UUID tariffId;
+    private final ProductType productType;
+    private final PremiumRegionIndex regions;
+    private final int regionCount;
+    private final LongBuffer rappen;
+    private final int entryCount;
+    private volatile EligibilityRules eligibility;
+
+    private PremiumTable(
+        UUID tariffId,
+        ProductType productType,
+        PremiumRegionIndex regions,
+        LongBuffer rappen,
+        int entryCount
+    ) {
+        this.tariffId = tariffId;
+        this.productType = productType;
+        this.regions = regions;
+        this.regionCount = regions.size();
+        this.rappen = rappen;
+        this.entryCount = entryCount;
+    }
+
+    /**
+     * Compiles premium rates into a dense table.
+     *
+     * @throws PremiumCalculationException if a rate references an unknown region,
+     *     lacks the dimensions required by the product type, is negative or is duplicated
+     */
+    public static PremiumTable compile(
+        UUID tariffId,
+        ProductType productType,
+        PremiumRegionIndex regions,
+        Iterable<PremiumRate> rates
+    ) {
+        long[] rappen = new long[slotCount(productType, regions)];
+        Arrays.fill(rappen, NO_PREMIUM);
+        int entryCount = 0;
+        for (PremiumRate rate : rates) {
+            int region = regions.indexOf(rate.premiumRegionId());
+            if (region == PremiumRegionIndex.UNKNOWN) {
+                throw new PremiumCalculationException(
+                    "Tariff " + tariffId + " references unknown premium region " + rate.premiumRegionId()
+                );
+            }
+            int offset = offset(productType, region, rate, tariffId);
+            if (rappen[offset] != NO_PREMIUM) {
+                throw new PremiumCalculationException("Tariff " + tariffId + " has a duplicate premium entry " + rate);
+            }
+            if (rate.monthlyAmount().signum() < 0) {
+                throw new PremiumCalculationException("Tariff " + tariffId + " has a negative premium " + rate);
+            }
+            rappen[offset] = Rappen.requireNumeric12x2(Rappen.fromDecimal(rate.monthlyAmount()));
+            entryCount++;
+        }
+        return new PremiumTable(tariffId, productType, regions, LongBuffer.wrap(rappen), entryCount);
+    }
+
+    /**
+     * Wraps premiums previously taken from {@link #getRappen()}, e.g. a
+     * memory-mapped snapshot. The buffer is used as is, not copied.
+     *
+     * @throws PremiumCalculationException if the buffer does not fit the regions and product type
+     */
+    public static PremiumTable restore(
+        UUID tariffId,
+        ProductType productType,
+        PremiumRegionIndex regions,
+        LongBuffer rappen,
+        int entryCount
+    ) {
+        int expected = slotCount(productType, regions);
+        if (rappen.remaining() != expected) {
+            throw new PremiumCalculationException(
+                "Premium table of tariff " + tariffId + " has " + rappen.remaining() + " slots, expected " + expected
+            );
+        }
+        return new PremiumTable(tariffId, productType, regions, rappen.slice(), entryCount);
+    }
+
+    /**
+     * Number of premium slots for a product type and region dictionary.
+     */
+    public static int slotCount(ProductType productType, PremiumRegionIndex regions) {
+        return regions.size() * AGE_GROUPS * slotsPerAgeGroup(productType);
+    }
+
+    public UUID getTariffId() {
+        return tariffId;
+    }
+
+    public ProductType getProductType() {
+        return productType;
+    }
+
+    public PremiumRegionIndex getRegions() {
+        return regions;
+    }
+
+    /**
+     * Number of premium entries compiled into the table.
+     */
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * Eligibility rules compiled from the priced combinations on first use.
+     * Concurrent first calls may both compile; the rules are immutable, so
+     * either result is kept.
+     */
+    public EligibilityRules getEligibility() {
+        EligibilityRules rules = eligibility;
+        if (rules == null) {
+            rules = EligibilityRules.compile(this);
+            eligibility = rules;
+        }
+        return rules;
+    }
+
+    /**
+     * Read-only view of all premium slots in Rappen, in table order.
+     */
+    public LongBuffer getRappen() {
+        return rappen.asReadOnlyBuffer();
+    }
+
+    /**
+     * Monthly KVG premium in Rappen, or {@link #NO_PREMIUM}.
+     *
+     * @param region index from {@link PremiumRegionIndex#indexOf(UUID)}
+     */
+    public long premium(int region, AgeGroup ageGroup, Franchise franchise, boolean withAccident) {
+        if (!contains(region)) {
+            return NO_PREMIUM;
+        }
+        return rappen.get(kvgOffset(region, ageGroup.ordinal(), franchise.ordinal(), withAccident));
+    }
+
+    /**
+     * Monthly VVG premium in Rappen, or {@link #NO_PREMIUM}. Gender-specific
+     * entries take precedence over unisex entries.
+     *
+     * @param region index from {@link PremiumRegionIndex#indexOf(UUID)}
+     */
+    public long premium(int region, AgeGroup ageGroup, @Nullable Gender gender) {
+        if (!contains(region)) {
+            return NO_PREMIUM;
+        }
+        int base = (region * AGE_GROUPS + ageGroup.ordinal()) * GENDER_SLOTS;
+        if (gender != null) {
+            long specific = rappen.get(base + gender.ordinal() + 1);
+            if (specific != NO_PREMIUM) {
+                return specific;
+            }
+        }
+        return rappen.get(base);
+    }
+
+    private boolean contains(int region) {
+        return region >= 0 && region < regionCount;
+    }
+
+    private static int slotsPerAgeGroup(ProductType productType) {
+        return productType == ProductType.KVG ? FRANCHISES * ACCIDENT_OPTIONS : GENDER_SLOTS;
+    }
+
+    private static int kvgOffset(int region, int ageGroup, int franchise, boolean withAccident) {
+        return ((region * AGE_GROUPS + ageGroup) * FRANCHISES + franchise) * ACCIDENT_OPTIONS + (withAccident ? 1 : 0);
+    }
+
+    private static int offset(ProductType productType, int region, PremiumRate rate, UUID tariffId) {
+        int ageGroup = rate.ageGroup().ordinal();
+        if (productType == ProductType.KVG) {
+            Franchise franchise = rate.franchise();
+            if (franchise == null || rate.gender() != null) {
+                throw new PremiumCalculationException(
+                    "KVG tariff " + tariffId + " requires a franchise and no gender: " + rate
+                );
+            }
+            return kvgOffset(region, ageGroup, franchise.ordinal(), rate.withAccident());
+        }
+        if (rate.franchise() != null) {
+            throw new PremiumCalculationException("VVG tariff " + tariffId + " must not have a franchise: " + rate);
+        }
+        Gender gender = rate.gender();
+        return (region * AGE_GROUPS + ageGroup) * GENDER_SLOTS + (gender != null ? gender.ordinal() + 1 : 0);
+    }
+}
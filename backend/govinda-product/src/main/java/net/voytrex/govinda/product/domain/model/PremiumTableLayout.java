@@ -0,0 +1,148 @@
+/*
+ * Govinda ERP - Premium Table Layout
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.domain.model;
+
+import java.util.BitSet;
+import net.voytrex.govinda.common.domain.model.AgeGroup;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.common.domain.model.Gender;
+import net.voytrex.govinda.common.domain.model.ProductType;
+import org.springframework.lang.Nullable;
+
+/**
+ * Dense slot numbering of a premium table, used to check completeness with bitsets.
+ *
+ * Every combination of the table's dimensions maps to one slot in
+ * {@code [0, size())}, with the dimensions nested as in {@link PremiumTable}:
+ * <ul>
+ *   <li>KVG: region × age group × franchise × accident cover</li>
+ *   <li>VVG unisex: region × age group</li>
+ *   <li>VVG gender-based: region × age group × gender</li>
+ * </ul>
+ * {@link #required()} marks the slots a complete table must fill: for KVG only
+ * the franchises allowed for each age group, for gender-based VVG male and female.
+ */
+public final class PremiumTableLayout {
+    private static final AgeGroup[] AGE_GROUPS = AgeGroup.values();
+    private static final Franchise[] FRANCHISES = Franchise.values();
+    private static final Gender[] GENDERS = Gender.values();
+    /** Genders a gender-based table must price; {@link Gender#OTHER} is optional. */
+    private static final Gender[] REQUIRED_GENDERS = {Gender.MALE, Gender.FEMALE};
+    private static final int ACCIDENT_OPTIONS = 2;
+
+    private final ProductType productType;
+    private final boolean genderBased;
+    private final int regions;
+    private final int slotsPerAgeGroup;
+    private final BitSet required;
+
+    private PremiumTableLayout(ProductType productType, boolean genderBased, int regions) {
+        this.productType = productType;
+        this.genderBased = genderBased;
+        this.regions = regions;
+        this.slotsPerAgeGroup = productType == ProductType.KVG
+            ? FRANCHISES.length * ACCIDENT_OPTIONS
+            : genderBased ? GENDERS.length : 1;
+        this.required = requiredSlots();
+    }
+
+    /**
+     * Layout of a KVG table over {@code regions} premium regions.
+     */
+    public static PremiumTableLayout kvg(int regions) {
+        return new PremiumTableLayout(ProductType.KVG, false, regions);
+    }
+
+    /**
+     * Layout of a VVG table over {@code regions} premium regions.
+     */
+    public static PremiumTableLayout vvg(int regions, boolean genderBased) {
+        return new PremiumTableLayout(ProductType.VVG, genderBased, regions);
+    }
+
+    public ProductType getProductType() {
+        return productType;
+    }
+
+    public boolean isGenderBased() {
+        return genderBased;
+    }
+
+    /**
+     * Number of slots, including combinations that are never required.
+     */
+    public int size() {
+        return regions * AGE_GROUPS.length * slotsPerAgeGroup;
+    }
+
+    /**
+     * Number of entries in a complete table.
+     */
+    public int requiredCount() {
+        return required.cardinality();
+    }
+
+    /**
+     * Slots a complete table must fill. Returns a copy.
+     */
+    public BitSet required() {
+        return (BitSet) required.clone();
+    }
+
+    public boolean isRequired(int slot) {
+        return required.get(slot);
+    }
+
+    public int kvgSlot(int region, AgeGroup ageGroup, Franchise franchise, boolean withAccident) {
+        return ((region * AGE_GROUPS.length + ageGroup.ordinal()) * FRANCHISES.length + franchise.ordinal())
+            * ACCIDENT_OPTIONS + (withAccident ? 1 : 0);
+    }
+
+    /**
+     * VVG slot; {@code gender} must be {@code null} for unisex layouts and set for gender-based ones.
+     */
+    public int vvgSlot(int region, AgeGroup ageGroup, @Nullable Gender gender) {
+        int base = (region * AGE_GROUPS.length + ageGroup.ordinal()) * slotsPerAgeGroup;
+        return gender != null ? base + gender.ordinal() : base;
+    }
+
+    /**
+     * Human-readable key of a slot, e.g. {@code ZH-1/ADULT/CHF_300/with accident}.
+     */
+    public String describe(int slot, PremiumRegionIndex regionIndex) {
+        int perRegion = AGE_GROUPS.length * slotsPerAgeGroup;
+        String region = regionIndex.code(slot / perRegion);
+        AgeGroup ageGroup = AGE_GROUPS[slot % perRegion / slotsPerAgeGroup];
+        int rest = slot % slotsPerAgeGroup;
+        if (productType == ProductType.KVG) {
+            return region + "/" + ageGroup + "/" + FRANCHISES[rest / ACCIDENT_OPTIONS]
+                + (rest % ACCIDENT_OPTIONS == 1 ? "/with accident" : "/without accident");
+        }
+        return genderBased ? region + "/" + ageGroup + "/" + GENDERS[rest] : region + "/" + ageGroup;
+    }
+
+    private BitSet requiredSlots() {
+        BitSet slots = new BitSet(size());
+        for (int region = 0; region < regions; region++) {
+            for (AgeGroup ageGroup : AGE_GROUPS) {
+                if (productType == ProductType.KVG) {
+                    for (Franchise franchise : Franchise.forAgeGroup(ageGroup)) {
+                        slots.set(kvgSlot(region, ageGroup, franchise, false));
+                        slots.set(kvgSlot(region, ageGroup, franchise, true));
+                    }
+                } else if (genderBased) {
+                    for (Gender gender : REQUIRED_GENDERS) {
+                        slots.set(vvgSlot(region, ageGroup, gender));
+                    }
+                } else {
+                    slots.set(vvgSlot(region, ageGroup, null));
+                }
+            }
+        }
+        return slots;
+    }
+}
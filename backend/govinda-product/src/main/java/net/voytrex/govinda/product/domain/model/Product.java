@@ -0,0 +1,185 @@
+/*
+ * Govinda ERP - Product Entity
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.domain.model;
+
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.AttributeOverrides;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.InsuranceModel;
+import net.voytrex.govinda.common.domain.model.LocalizedText;
+import net.voytrex.govinda.common.domain.model.ProductType;
+import org.springframework.lang.Nullable;
+
+/**
+ * Insurance product offered by a tenant.
+ *
+ * A product has one tariff per validity period; the tariff carries the
+ * premium table. KVG products are offered in exactly one insurance model.
+ */
+@Entity
+@Table(name = "product")
+public class Product {
+    @Id
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id = UUID.randomUUID();
+
+    @Column(name = "tenant_id", updatable = false, nullable = false)
+    private UUID tenantId;
+
+    @Column(name = "code", length = 50, nullable = false)
+    private String code;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "product_type", length = 3, nullable = false)
+    private ProductType productType;
+
+    @Nullable
+    @Enumerated(EnumType.STRING)
+    @Column(name = "insurance_model", length = 10)
+    private InsuranceModel insuranceModel;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private ProductStatus status = ProductStatus.INACTIVE;
+
+    @Embedded
+    @AttributeOverrides({
+        @AttributeOverride(name = "de", column = @Column(name = "name_de", length = 200, nullable = false)),
+        @AttributeOverride(name = "fr", column = @Column(name = "name_fr", length = 200)),
+        @AttributeOverride(name = "it", column = @Column(name = "name_it", length = 200)),
+        @AttributeOverride(name = "en", column = @Column(name = "name_en", length = 200))
+    })
+    private LocalizedText name;
+
+    @Column(name = "created_at", updatable = false, nullable = false)
+    private Instant createdAt = Instant.now();
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt = Instant.now();
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version = 0L;
+
+    protected Product() {
+    }
+
+    public Product(
+        UUID tenantId,
+        String code,
+        ProductType productType,
+        @Nullable InsuranceModel insuranceModel,
+        LocalizedText name
+    ) {
+        if (code == null || code.isBlank()) {
+            throw new IllegalArgumentException("Product code must not be blank");
+        }
+        if (productType == ProductType.KVG && insuranceModel == null) {
+            throw new IllegalArgumentException("KVG products require an insurance model");
+        }
+        if (productType == ProductType.VVG && insuranceModel != null) {
+            throw new IllegalArgumentException("VVG products have no insurance model");
+        }
+        this.tenantId = tenantId;
+        this.code = code;
+        this.productType = productType;
+        this.insuranceModel = insuranceModel;
+        this.name = name;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getTenantId() {
+        return tenantId;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public ProductType getProductType() {
+        return productType;
+    }
+
+    @Nullable
+    public InsuranceModel getInsuranceModel() {
+        return insuranceModel;
+    }
+
+    public ProductStatus getStatus() {
+        return status;
+    }
+
+    public LocalizedText getName() {
+        return name;
+    }
+
+    public void setName(LocalizedText name) {
+        this.name = name;
+        this.updatedAt = Instant.now();
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void activate() {
+        this.status = ProductStatus.ACTIVE;
+        this.updatedAt = Instant.now();
+    }
+
+    public void deactivate() {
+        this.status = ProductStatus.INACTIVE;
+        this.updatedAt = Instant.now();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        Product product = (Product) other;
+        return Objects.equals(id, product.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "Product(id=" + id + ", code='" + code + "')";
+    }
+}
@@ -0,0 +1,17 @@
+/*
+ * Govinda ERP - Product Status
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.domain.model;
+
+/**
+ * Product availability status.
+ */
+public enum ProductStatus {
+    /** Offered, has an active tariff */
+    ACTIVE,
+    /** Not offered */
+    INACTIVE
+}
@@ -0,0 +1,186 @@
+/*
+ * Govinda ERP - Tariff Entity
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.UUID;
+import org.springframework.lang.Nullable;
+
+/**
+ * Version of a product with a validity period and a premium table.
+ *
+ * Premium entries are not mapped as a collection: a KVG table has thousands
+ * of rows and is read in bulk through
+ * {@link net.voytrex.govinda.product.domain.repository.PremiumEntryRepository}.
+ */
+@Entity
+@Table(name = "tariff")
+public class Tariff {
+    @Id
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id = UUID.randomUUID();
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "product_id", updatable = false, nullable = false)
+    private Product product;
+
+    @Column(name = "code", length = 50, nullable = false)
+    private String code;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private TariffStatus status = TariffStatus.DRAFT;
+
+    @Column(name = "valid_from", nullable = false)
+    private LocalDate validFrom;
+
+    @Column(name = "valid_to", nullable = false)
+    private LocalDate validTo;
+
+    @Nullable
+    @Column(name = "activated_at")
+    private Instant activatedAt;
+
+    @Column(name = "created_at", updatable = false, nullable = false)
+    private Instant createdAt = Instant.now();
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt = Instant.now();
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version = 0L;
+
+    protected Tariff() {
+    }
+
+    public Tariff(Product product, String code, LocalDate validFrom, LocalDate validTo) {
+        if (code == null || code.isBlank()) {
+            throw new IllegalArgumentException("Tariff code must not be blank");
+        }
+        if (validFrom.isAfter(validTo)) {
+            throw new IllegalArgumentException("validFrom must not be after validTo");
+        }
+        this.product = product;
+        this.code = code;
+        this.validFrom = validFrom;
+        this.validTo = validTo;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public Product getProduct() {
+        return product;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public TariffStatus getStatus() {
+        return status;
+    }
+
+    public LocalDate getValidFrom() {
+        return validFrom;
+    }
+
+    public LocalDate getValidTo() {
+        return validTo;
+    }
+
+    @Nullable
+    public Instant getActivatedAt() {
+        return activatedAt;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public boolean isValidOn(LocalDate date) {
+        return !date.isBefore(validFrom) && !date.isAfter(validTo);
+    }
+
+    /**
+     * Activates a draft tariff. Only DRAFT tariffs can be activated.
+     */
+    public void activate() {
+        if (status != TariffStatus.DRAFT) {
+            throw new IllegalStateException("Only DRAFT tariffs can be activated");
+        }
+        Instant now = Instant.now();
+        this.status = TariffStatus.ACTIVE;
+        this.activatedAt = now;
+        this.updatedAt = now;
+    }
+
+    public void deactivate() {
+        if (status == TariffStatus.INACTIVE) {
+            return;
+        }
+        this.status = TariffStatus.INACTIVE;
+        this.updatedAt = Instant.now();
+    }
+
+    /**
+     * Ensures the premium table may still be modified.
+     */
+    public void requireDraft() {
+        if (status != TariffStatus.DRAFT) {
+            throw new IllegalStateException("Cannot modify non-DRAFT tariff " + code);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        Tariff tariff = (Tariff) other;
+        return Objects.equals(id, tariff.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "Tariff(id=" + id + ", code='" + code + "', status=" + status + ")";
+    }
+}
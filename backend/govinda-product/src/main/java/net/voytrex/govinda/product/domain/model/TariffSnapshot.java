@@ -0,0 +1,94 @@
+/*
+ * Govinda ERP - Tariff Snapshot
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.domain.model;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.lang.Nullable;
+
+/**
+ * Immutable, versioned set of compiled premium tables.
+ *
+ * Snapshots are never modified; {@link #with(PremiumTable)},
+ * {@link #merge(Collection)}, {@link #without(UUID)} and {@link #cleared()}
+ * return a copy with the next version. A reader holding a snapshot therefore
+ * keeps a consistent view of every table in it, no matter how many tariffs
+ * are activated or deactivated in the meantime.
+ */
+public final class TariffSnapshot {
+    public static final TariffSnapshot EMPTY = new TariffSnapshot(0, Map.of());
+
+    private final long version;
+    private final Map<UUID, PremiumTable> tables;
+
+    private TariffSnapshot(long version, Map<UUID, PremiumTable> tables) {
+        this.version = version;
+        this.tables = tables;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    @Nullable
+    public PremiumTable table(UUID tariffId) {
+        return tables.get(tariffId);
+    }
+
+    public boolean contains(UUID tariffId) {
+        return tables.containsKey(tariffId);
+    }
+
+    public int size() {
+        return tables.size();
+    }
+
+    /**
+     * Copy containing the table, replacing an earlier table of the same tariff.
+     */
+    public TariffSnapshot with(PremiumTable table) {
+        Map<UUID, PremiumTable> copy = new HashMap<>(tables);
+        copy.put(table.getTariffId(), table);
+        return new TariffSnapshot(version + 1, Map.copyOf(copy));
+    }
+
+    /**
+     * Copy adding the tables of tariffs this snapshot does not contain yet;
+     * tables already published take precedence.
+     */
+    public TariffSnapshot merge(Collection<PremiumTable> additions) {
+        Map<UUID, PremiumTable> copy = new HashMap<>(tables);
+        additions.forEach(table -> copy.putIfAbsent(table.getTariffId(), table));
+        return new TariffSnapshot(version + 1, Map.copyOf(copy));
+    }
+
+    /**
+     * Copy without the table of the tariff, or this snapshot if it has none.
+     */
+    public TariffSnapshot without(UUID tariffId) {
+        if (!tables.containsKey(tariffId)) {
+            return this;
+        }
+        Map<UUID, PremiumTable> copy = new HashMap<>(tables);
+        copy.remove(tariffId);
+        return new TariffSnapshot(version + 1, Map.copyOf(copy));
+    }
+
+    /**
+     * Empty copy with the next version.
+     */
+    public TariffSnapshot cleared() {
+        return new TariffSnapshot(version + 1, Map.of());
+    }
+
+    @Override
+    public String toString() {
+        return "TariffSnapshot(version=" + version + ", tables=" + tables.size() + ")";
+    }
+}
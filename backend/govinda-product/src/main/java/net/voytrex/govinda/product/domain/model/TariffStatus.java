@@ -0,0 +1,19 @@
+/*
+ * Govinda ERP - Tariff Status
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.domain.model;
+
+/**
+ * Tariff lifecycle status.
+ */
+public enum TariffStatus {
+    /** Being prepared, premium entries can be edited */
+    DRAFT,
+    /** Live, used for premium calculation */
+    ACTIVE,
+    /** Archived, kept for existing coverages */
+    INACTIVE
+}
@@ -0,0 +1,27 @@
+/*
+ * Govinda ERP - Premium Entry Repository
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.domain.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import net.voytrex.govinda.product.domain.model.PremiumEntry;
+import net.voytrex.govinda.product.domain.model.PremiumRate;
+
+/**
+ * Repository interface for premium table rows.
+ */
+public interface PremiumEntryRepository {
+    List<PremiumEntry> saveAll(Collection<PremiumEntry> entries);
+
+    /**
+     * Loads the whole premium table of a tariff as read-only rates.
+     */
+    List<PremiumRate> findRatesByTariffId(UUID tariffId);
+
+    long countByTariffId(UUID tariffId);
+}
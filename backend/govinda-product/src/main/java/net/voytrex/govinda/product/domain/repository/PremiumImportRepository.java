@@ -0,0 +1,38 @@
+/*
+ * Govinda ERP - Premium Import Repository
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.domain.repository;
+
+import java.util.List;
+import java.util.UUID;
+import net.voytrex.govinda.product.domain.model.PremiumImportBatch;
+import net.voytrex.govinda.product.domain.model.PremiumRegionIndex;
+
+/**
+ * Bulk load path for premium table imports: rows are staged first and then
+ * swapped into the tariff's premium table in one short transaction.
+ */
+public interface PremiumImportRepository {
+
+    /**
+     * Bulk-loads validated rows into the staging area under {@code importId}.
+     */
+    void stage(UUID importId, UUID tariffId, PremiumRegionIndex regions, List<PremiumImportBatch> batches);
+
+    /**
+     * Replaces the premium table of a DRAFT tariff with the staged rows and
+     * removes them from the staging area. Must run in a transaction.
+     *
+     * @return number of premium entries inserted
+     * @throws IllegalStateException if the tariff is no longer a DRAFT
+     */
+    int swap(UUID importId, UUID tariffId);
+
+    /**
+     * Removes staged rows of an import that was not swapped in.
+     */
+    void discard(UUID importId);
+}
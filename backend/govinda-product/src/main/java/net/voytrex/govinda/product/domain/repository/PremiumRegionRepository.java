@@ -0,0 +1,17 @@
+/*
+ * Govinda ERP - Premium Region Repository
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.domain.repository;
+
+import java.util.List;
+import net.voytrex.govinda.product.domain.model.PremiumRegion;
+
+/**
+ * Repository interface for premium region reference data.
+ */
+public interface PremiumRegionRepository {
+    List<PremiumRegion> findAll();
+}
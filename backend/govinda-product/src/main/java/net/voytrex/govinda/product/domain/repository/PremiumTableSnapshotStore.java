@@ -0,0 +1,32 @@
+/*
+ * Govinda ERP - Premium Table Snapshot Store
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.domain.repository;
+
+import java.util.Optional;
+import java.util.UUID;
+import net.voytrex.govinda.product.domain.model.PremiumRegionIndex;
+import net.voytrex.govinda.product.domain.model.PremiumTable;
+
+/**
+ * Node-local store of compiled premium tables, so a restarting node does not
+ * have to recompile every active tariff from the database.
+ *
+ * The store is a cache: failures are logged, never thrown, and callers fall
+ * back to compiling from the premium entries.
+ */
+public interface PremiumTableSnapshotStore {
+
+    /**
+     * Loads the snapshot of a tariff. Empty if there is none, or if it is
+     * corrupt or was compiled against other regions or dimensions.
+     */
+    Optional<PremiumTable> load(UUID tariffId, PremiumRegionIndex regions);
+
+    void save(PremiumTable table);
+
+    void delete(UUID tariffId);
+}
@@ -0,0 +1,20 @@
+/*
+ * Govinda ERP - Product Repository
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.domain.repository;
+
+import java.util.Optional;
+import java.util.UUID;
+import net.voytrex.govinda.product.domain.model.Product;
+
+/**
+ * Repository interface for Product aggregate.
+ */
+public interface ProductRepository {
+    Product save(Product product);
+    Optional<Product> findByIdAndTenantId(UUID id, UUID tenantId);
+    Optional<Product> findByCodeAndTenantId(String code, UUID tenantId);
+}
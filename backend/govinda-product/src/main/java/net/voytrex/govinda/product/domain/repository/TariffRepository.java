@@ -0,0 +1,33 @@
+/*
+ * Govinda ERP - Tariff Repository
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.domain.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.ProductType;
+import net.voytrex.govinda.product.domain.model.Tariff;
+
+/**
+ * Repository interface for Tariff entities.
+ */
+public interface TariffRepository {
+    Tariff save(Tariff tariff);
+    Optional<Tariff> findById(UUID id);
+
+    /**
+     * Active tariffs of a tenant's products of the given type valid on a date,
+     * with their product loaded.
+     */
+    List<Tariff> findActiveOn(UUID tenantId, ProductType productType, LocalDate date);
+
+    /**
+     * Every active tariff of all tenants, with its product loaded.
+     */
+    List<Tariff> findAllActive();
+}
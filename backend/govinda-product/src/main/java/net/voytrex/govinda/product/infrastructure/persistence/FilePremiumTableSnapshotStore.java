@@ -0,0 +1,239 @@
+/*
+ * Govinda ERP - File Premium Table Snapshot Store
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.infrastructure.persistence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+import net.voytrex.govinda.common.domain.model.AgeGroup;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.common.domain.model.Gender;
+import net.voytrex.govinda.common.domain.model.ProductType;
+import net.voytrex.govinda.product.domain.model.PremiumRegionIndex;
+import net.voytrex.govinda.product.domain.model.PremiumTable;
+import net.voytrex.govinda.product.domain.repository.PremiumTableSnapshotStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Stores each compiled premium table as one binary file and maps it back with
+ * {@link FileChannel#map}, so a restored table is served from the page cache
+ * without being copied onto the heap.
+ *
+ * File layout, little-endian:
+ * <pre>
+ *   header      magic "GVPT", format version, tariff id, entry count,
+ *               slot count, region count, dictionary length
+ *   regions     region ids in {@link PremiumRegionIndex} order
+ *   dictionary  names of the product type, age groups, franchises and genders
+ *   padding     up to the next multiple of 8
+ *   rappen      slot count x fixed-width long, in {@link PremiumTable} order
+ *   checksum    CRC32C of everything before, as long
+ * </pre>
+ * A snapshot is only used if the checksum matches and the region ids and enum
+ * names equal the running code's, so reordered enums or a changed region
+ * dictionary invalidate it instead of shifting premiums to the wrong slots.
+ * Files are written to a temporary name and moved into place, so existing
+ * mappings and concurrent readers never see a partial file.
+ */
+@Repository
+public class FilePremiumTableSnapshotStore implements PremiumTableSnapshotStore {
+    static final int MAGIC = 0x54505647;
+    static final int FORMAT_VERSION = 1;
+    static final String SUFFIX = ".premium";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FilePremiumTableSnapshotStore.class);
+    private static final int HEADER_BYTES = 40;
+    private static final int REGION_BYTES = 16;
+    private static final int CHECKSUM_BYTES = Long.BYTES;
+
+    private final Path directory;
+
+    public FilePremiumTableSnapshotStore(
+        @Value("${govinda.premium.snapshot.directory:${java.io.tmpdir}/govinda/premium-tables}") Path directory
+    ) {
+        this.directory = directory;
+    }
+
+    @Override
+    public Optional<PremiumTable> load(UUID tariffId, PremiumRegionIndex regions) {
+        Path file = file(tariffId);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            PremiumTable table = decode(mapped.order(ByteOrder.LITTLE_ENDIAN), tariffId, regions);
+            if (table == null) {
+                LOGGER.warn("Ignoring invalid premium table snapshot {}", file);
+            }
+            return Optional.ofNullable(table);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Could not read premium table snapshot {}", file, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void save(PremiumTable table) {
+        Path file = file(table.getTariffId());
+        try {
+            Files.createDirectories(directory);
+            Path temporary = Files.createTempFile(directory, table.getTariffId().toString(), ".tmp");
+            try {
+                try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                    ByteBuffer encoded = encode(table);
+                    while (encoded.hasRemaining()) {
+                        channel.write(encoded);
+                    }
+                    channel.force(false);
+                }
+                Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Could not write premium table snapshot {}", file, e);
+        }
+    }
+
+    @Override
+    public void delete(UUID tariffId) {
+        try {
+            Files.deleteIfExists(file(tariffId));
+        } catch (IOException e) {
+            LOGGER.warn("Could not delete premium table snapshot of tariff {}", tariffId, e);
+        }
+    }
+
+    Path file(UUID tariffId) {
+        return directory.resolve(tariffId + SUFFIX);
+    }
+
+    static ByteBuffer encode(PremiumTable table) {
+        PremiumRegionIndex regions = table.getRegions();
+        byte[] dictionary = dictionary(table.getProductType());
+        LongBuffer rappen = table.getRappen();
+        int rappenOffset = align(HEADER_BYTES + regions.size() * REGION_BYTES + dictionary.length);
+        ByteBuffer buffer = ByteBuffer.allocate(rappenOffset + rappen.remaining() * Long.BYTES + CHECKSUM_BYTES)
+            .order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC)
+            .putInt(FORMAT_VERSION)
+            .putLong(table.getTariffId().getMostSignificantBits())
+            .putLong(table.getTariffId().getLeastSignificantBits())
+            .putInt(table.getEntryCount())
+            .putInt(rappen.remaining())
+            .putInt(regions.size())
+            .putInt(dictionary.length);
+        for (int region = 0; region < regions.size(); region++) {
+            UUID regionId = regions.regionId(region);
+            buffer.putLong(regionId.getMostSignificantBits()).putLong(regionId.getLeastSignificantBits());
+        }
+        buffer.put(dictionary).position(rappenOffset);
+        buffer.asLongBuffer().put(rappen);
+        buffer.position(buffer.capacity() - CHECKSUM_BYTES);
+        buffer.putLong(checksum(buffer, buffer.capacity() - CHECKSUM_BYTES));
+        return buffer.flip();
+    }
+
+    /**
+     * Restores a table from an encoded snapshot, or {@code null} if the
+     * snapshot is not valid for the tariff and region dictionary.
+     */
+    @Nullable
+    static PremiumTable decode(ByteBuffer buffer, UUID tariffId, PremiumRegionIndex regions) {
+        int size = buffer.limit();
+        if (size < HEADER_BYTES + CHECKSUM_BYTES
+            || buffer.getLong(size - CHECKSUM_BYTES) != checksum(buffer, size - CHECKSUM_BYTES)
+            || buffer.getInt(0) != MAGIC
+            || buffer.getInt(4) != FORMAT_VERSION
+            || buffer.getLong(8) != tariffId.getMostSignificantBits()
+            || buffer.getLong(16) != tariffId.getLeastSignificantBits()) {
+            return null;
+        }
+        int entryCount = buffer.getInt(24);
+        int slotCount = buffer.getInt(28);
+        int regionCount = buffer.getInt(32);
+        int dictionaryLength = buffer.getInt(36);
+        if (regionCount != regions.size()) {
+            return null;
+        }
+        for (int region = 0; region < regionCount; region++) {
+            int offset = HEADER_BYTES + region * REGION_BYTES;
+            UUID regionId = regions.regionId(region);
+            if (buffer.getLong(offset) != regionId.getMostSignificantBits()
+                || buffer.getLong(offset + Long.BYTES) != regionId.getLeastSignificantBits()) {
+                return null;
+            }
+        }
+        int dictionaryOffset = HEADER_BYTES + regionCount * REGION_BYTES;
+        ProductType productType = productType(buffer.slice(dictionaryOffset, dictionaryLength));
+        int rappenOffset = align(dictionaryOffset + dictionaryLength);
+        if (productType == null
+            || slotCount != PremiumTable.slotCount(productType, regions)
+            || rappenOffset + (long) slotCount * Long.BYTES + CHECKSUM_BYTES != size) {
+            return null;
+        }
+        LongBuffer rappen = buffer.slice(rappenOffset, slotCount * Long.BYTES)
+            .order(ByteOrder.LITTLE_ENDIAN)
+            .asLongBuffer();
+        return PremiumTable.restore(tariffId, productType, regions, rappen, entryCount);
+    }
+
+    @Nullable
+    private static ProductType productType(ByteBuffer dictionary) {
+        for (ProductType productType : ProductType.values()) {
+            if (dictionary.equals(ByteBuffer.wrap(dictionary(productType)))) {
+                return productType;
+            }
+        }
+        return null;
+    }
+
+    private static byte[] dictionary(ProductType productType) {
+        ByteBuffer buffer = ByteBuffer.allocate(1024).order(ByteOrder.LITTLE_ENDIAN);
+        putNames(buffer, new Enum<?>[] {productType});
+        putNames(buffer, AgeGroup.values());
+        putNames(buffer, Franchise.values());
+        putNames(buffer, Gender.values());
+        byte[] dictionary = new byte[buffer.position()];
+        buffer.flip().get(dictionary);
+        return dictionary;
+    }
+
+    private static void putNames(ByteBuffer buffer, Enum<?>[] values) {
+        buffer.putShort((short) values.length);
+        for (Enum<?> value : values) {
+            byte[] name = value.name().getBytes(StandardCharsets.US_ASCII);
+            buffer.put((byte) name.length).put(name);
+        }
+    }
+
+    private static long checksum(ByteBuffer buffer, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(0, length));
+        return crc.getValue();
+    }
+
+    private static int align(int offset) {
+        return (offset + Long.BYTES - 1) & -Long.BYTES;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Govinda ERP - JDBC Premium Import Repository
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.infrastructure.persistence;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.common.domain.model.Gender;
+import net.voytrex.govinda.common.domain.model.Rappen;
+import net.voytrex.govinda.product.domain.model.PremiumImportBatch;
+import net.voytrex.govinda.product.domain.model.PremiumRegionIndex;
+import net.voytrex.govinda.product.domain.model.TariffStatus;
+import net.voytrex.govinda.product.domain.repository.PremiumImportRepository;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * PostgreSQL implementation: staged rows are streamed with {@code COPY ... FROM STDIN}
+ * into the unlogged {@code premium_entry_staging} table, one buffer per batch,
+ * and moved into {@code premium_entry} with a single {@code INSERT ... SELECT}.
+ */
+@Repository
+public class JdbcPremiumImportRepository implements PremiumImportRepository {
+    private static final String COPY_STAGING = """
+        COPY premium_entry_staging
+            (import_id, tariff_id, premium_region_id, age_group, franchise, with_accident, gender, monthly_amount)
+        FROM STDIN
+        """;
+    private static final String NULL = "\\N";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcPremiumImportRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void stage(UUID importId, UUID tariffId, PremiumRegionIndex regions, List<PremiumImportBatch> batches) {
+        String prefix = importId + "\t" + tariffId + "\t";
+        jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            CopyIn copy = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_STAGING);
+            try {
+                ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+                StringBuilder line = new StringBuilder(128);
+                for (PremiumImportBatch batch : batches) {
+                    buffer.reset();
+                    for (int row = 0; row < batch.size(); row++) {
+                        line.setLength(0);
+                        appendRow(line.append(prefix), regions, batch, row);
+                        buffer.writeBytes(line.toString().getBytes(StandardCharsets.UTF_8));
+                    }
+                    copy.writeToCopy(buffer.toByteArray(), 0, buffer.size());
+                }
+                return copy.endCopy();
+            } finally {
+                if (copy.isActive()) {
+                    cancel(copy);
+                }
+            }
+        });
+    }
+
+    @Override
+    public int swap(UUID importId, UUID tariffId) {
+        String status = jdbcTemplate.queryForObject(
+            "SELECT status FROM tariff WHERE id = ? FOR UPDATE", String.class, tariffId
+        );
+        if (!TariffStatus.DRAFT.name().equals(status)) {
+            throw new IllegalStateException("Cannot import premiums into non-DRAFT tariff " + tariffId);
+        }
+        jdbcTemplate.update("DELETE FROM premium_entry WHERE tariff_id = ?", tariffId);
+        int inserted = jdbcTemplate.update(
+            """
+            INSERT INTO premium_entry
+                (tariff_id, premium_region_id, age_group, franchise, with_accident, gender, monthly_amount)
+            SELECT tariff_id, premium_region_id, age_group, franchise, with_accident, gender, monthly_amount
+            FROM premium_entry_staging
+            WHERE import_id = ? AND tariff_id = ?
+            """,
+            importId,
+            tariffId
+        );
+        discard(importId);
+        return inserted;
+    }
+
+    @Override
+    public void discard(UUID importId) {
+        jdbcTemplate.update("DELETE FROM premium_entry_staging WHERE import_id = ?", importId);
+    }
+
+    private static void appendRow(StringBuilder line, PremiumRegionIndex regions, PremiumImportBatch batch, int row) {
+        Franchise franchise = batch.franchise(row);
+        Gender gender = batch.gender(row);
+        line.append(regions.regionId(batch.region(row))).append('\t')
+            .append(batch.ageGroup(row).name()).append('\t')
+            .append(franchise != null ? franchise.name() : NULL).append('\t')
+            .append(franchise != null ? (batch.withAccident(row) ? "t" : "f") : NULL).append('\t')
+            .append(gender != null ? gender.name() : NULL).append('\t')
+            .append(Rappen.toPlainString(batch.monthlyRappen(row))).append('\n');
+    }
+
+    private static void cancel(CopyIn copy) {
+        try {
+            copy.cancelCopy();
+        } catch (SQLException ignored) {
+            // The original failure is more relevant than a failed cancel
+        }
+    }
+}
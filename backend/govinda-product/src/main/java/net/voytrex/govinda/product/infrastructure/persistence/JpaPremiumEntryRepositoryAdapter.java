@@ -0,0 +1,39 @@
+/*
+ * Govinda ERP - JPA Premium Entry Repository Implementation
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.infrastructure.persistence;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import net.voytrex.govinda.product.domain.model.PremiumEntry;
+import net.voytrex.govinda.product.domain.model.PremiumRate;
+import net.voytrex.govinda.product.domain.repository.PremiumEntryRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class JpaPremiumEntryRepositoryAdapter implements PremiumEntryRepository {
+    private final SpringDataPremiumEntryRepository jpaPremiumEntryRepository;
+
+    public JpaPremiumEntryRepositoryAdapter(SpringDataPremiumEntryRepository jpaPremiumEntryRepository) {
+        this.jpaPremiumEntryRepository = jpaPremiumEntryRepository;
+    }
+
+    @Override
+    public List<PremiumEntry> saveAll(Collection<PremiumEntry> entries) {
+        return jpaPremiumEntryRepository.saveAll(entries);
+    }
+
+    @Override
+    public List<PremiumRate> findRatesByTariffId(UUID tariffId) {
+        return jpaPremiumEntryRepository.findRatesByTariffId(tariffId);
+    }
+
+    @Override
+    public long countByTariffId(UUID tariffId) {
+        return jpaPremiumEntryRepository.countByTariffId(tariffId);
+    }
+}
@@ -0,0 +1,26 @@
+/*
+ * Govinda ERP - JPA Premium Region Repository Implementation
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.infrastructure.persistence;
+
+import java.util.List;
+import net.voytrex.govinda.product.domain.model.PremiumRegion;
+import net.voytrex.govinda.product.domain.repository.PremiumRegionRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class JpaPremiumRegionRepositoryAdapter implements PremiumRegionRepository {
+    private final SpringDataPremiumRegionRepository jpaPremiumRegionRepository;
+
+    public JpaPremiumRegionRepositoryAdapter(SpringDataPremiumRegionRepository jpaPremiumRegionRepository) {
+        this.jpaPremiumRegionRepository = jpaPremiumRegionRepository;
+    }
+
+    @Override
+    public List<PremiumRegion> findAll() {
+        return jpaPremiumRegionRepository.findAll();
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Govinda ERP - JPA Product Repository Implementation
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.infrastructure.persistence;
+
+import java.util.Optional;
+import java.util.UUID;
+import net.voytrex.govinda.product.domain.model.Product;
+import net.voytrex.govinda.product.domain.repository.ProductRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class JpaProductRepositoryAdapter implements ProductRepository {
+    private final SpringDataProductRepository jpaProductRepository;
+
+    public JpaProductRepositoryAdapter(SpringDataProductRepository jpaProductRepository) {
+        this.jpaProductRepository = jpaProductRepository;
+    }
+
+    @Override
+    public Product save(Product product) {
+        return jpaProductRepository.save(product);
+    }
+
+    @Override
+    public Optional<Product> findByIdAndTenantId(UUID id, UUID tenantId) {
+        return jpaProductRepository.findByIdAndTenantId(id, tenantId);
+    }
+
+    @Override
+    public Optional<Product> findByCodeAndTenantId(String code, UUID tenantId) {
+        return jpaProductRepository.findByCodeAndTenantId(code, tenantId);
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Govinda ERP - JPA Tariff Repository Implementation
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.infrastructure.persistence;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.ProductType;
+import net.voytrex.govinda.product.domain.model.Tariff;
+import net.voytrex.govinda.product.domain.model.TariffStatus;
+import net.voytrex.govinda.product.domain.repository.TariffRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class JpaTariffRepositoryAdapter implements TariffRepository {
+    private final SpringDataTariffRepository jpaTariffRepository;
+
+    public JpaTariffRepositoryAdapter(SpringDataTariffRepository jpaTariffRepository) {
+        this.jpaTariffRepository = jpaTariffRepository;
+    }
+
+    @Override
+    public Tariff save(Tariff tariff) {
+        return jpaTariffRepository.save(tariff);
+    }
+
+    @Override
+    public Optional<Tariff> findById(UUID id) {
+        return jpaTariffRepository.findById(id);
+    }
+
+    @Override
+    public List<Tariff> findActiveOn(UUID tenantId, ProductType productType, LocalDate date) {
+        return jpaTariffRepository.findByStatusOn(tenantId, productType, TariffStatus.ACTIVE, date);
+    }
+
+    @Override
+    public List<Tariff> findAllActive() {
+        return jpaTariffRepository.findByStatus(TariffStatus.ACTIVE);
+    }
+}
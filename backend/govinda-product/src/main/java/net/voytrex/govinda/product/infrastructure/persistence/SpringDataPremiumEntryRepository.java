@@ -0,0 +1,30 @@
+/*
+ * Govinda ERP - Spring Data Premium Entry Repository
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.infrastructure.persistence;
+
+import java.util.List;
+import java.util.UUID;
+import net.voytrex.govinda.product.domain.model.PremiumEntry;
+import net.voytrex.govinda.product.domain.model.PremiumRate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SpringDataPremiumEntryRepository extends JpaRepository<PremiumEntry, UUID> {
+
+    @Query("""
+        SELECT new net.voytrex.govinda.product.domain.model.PremiumRate(
+            e.premiumRegionId, e.ageGroup, e.franchise, COALESCE(e.withAccident, FALSE), e.gender,
+            e.monthlyAmount.amount
+        )
+        FROM PremiumEntry e
+        WHERE e.tariffId = :tariffId
+        """)
+    List<PremiumRate> findRatesByTariffId(@Param("tariffId") UUID tariffId);
+
+    long countByTariffId(UUID tariffId);
+}
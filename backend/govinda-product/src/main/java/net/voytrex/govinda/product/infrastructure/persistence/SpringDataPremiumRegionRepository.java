@@ -0,0 +1,14 @@
+/*
+ * Govinda ERP - Spring Data Premium Region Repository
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.infrastructure.persistence;
+
+import java.util.UUID;
+import net.voytrex.govinda.product.domain.model.PremiumRegion;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface SpringDataPremiumRegionRepository extends JpaRepository<PremiumRegion, UUID> {
+}
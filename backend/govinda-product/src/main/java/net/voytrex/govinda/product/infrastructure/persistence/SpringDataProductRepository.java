@@ -0,0 +1,17 @@
+/*
+ * Govinda ERP - Spring Data Product Repository
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.infrastructure.persistence;
+
+import java.util.Optional;
+import java.util.UUID;
+import net.voytrex.govinda.product.domain.model.Product;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface SpringDataProductRepository extends JpaRepository<Product, UUID> {
+    Optional<Product> findByIdAndTenantId(UUID id, UUID tenantId);
+    Optional<Product> findByCodeAndTenantId(String code, UUID tenantId);
+}
@@ -0,0 +1,39 @@
+/*
+ * Govinda ERP - Spring Data Tariff Repository
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.infrastructure.persistence;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.ProductType;
+import net.voytrex.govinda.product.domain.model.Tariff;
+import net.voytrex.govinda.product.domain.model.TariffStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SpringDataTariffRepository extends JpaRepository<Tariff, UUID> {
+
+    @Query("""
+        SELECT t FROM Tariff t
+        JOIN FETCH t.product p
+        WHERE p.tenantId = :tenantId
+        AND p.productType = :productType
+        AND t.status = :status
+        AND t.validFrom <= :date
+        AND t.validTo >= :date
+        """)
+    List<Tariff> findByStatusOn(
+        @Param("tenantId") UUID tenantId,
+        @Param("productType") ProductType productType,
+        @Param("status") TariffStatus status,
+        @Param("date") LocalDate date
+    );
+
+    @Query("SELECT t FROM Tariff t JOIN FETCH t.product WHERE t.status = :status")
+    List<Tariff> findByStatus(@Param("status") TariffStatus status);
+}
@@ -0,0 +1,94 @@
+/*
+ * Govinda ERP - Product Tables Migration
+ * Version: V030
+ * Description: Creates product, tariff and premium entry tables
+ */
+
+-- ═══════════════════════════════════════════════════════════════
+-- PRODUCT
+-- ═══════════════════════════════════════════════════════════════
+CREATE TABLE product (
+    id                  UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    tenant_id           UUID NOT NULL REFERENCES tenant(id),
+
+    code                VARCHAR(50) NOT NULL,
+    product_type        VARCHAR(3) NOT NULL,
+    insurance_model     VARCHAR(10),
+    status              VARCHAR(20) NOT NULL DEFAULT 'INACTIVE',
+
+    name_de             VARCHAR(200) NOT NULL,
+    name_fr             VARCHAR(200),
+    name_it             VARCHAR(200),
+    name_en             VARCHAR(200),
+
+    -- Metadata
+    created_at          TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    updated_at          TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    version             BIGINT NOT NULL DEFAULT 0,
+
+    CONSTRAINT uk_product_code UNIQUE (tenant_id, code),
+    CONSTRAINT chk_product_type CHECK (product_type IN ('KVG', 'VVG')),
+    CONSTRAINT chk_product_model CHECK (insurance_model IS NULL OR insurance_model IN ('STANDARD', 'HMO', 'HAUSARZT', 'TELMED')),
+    CONSTRAINT chk_product_status CHECK (status IN ('ACTIVE', 'INACTIVE'))
+);
+
+CREATE INDEX idx_product_tenant ON product(tenant_id);
+
+COMMENT ON TABLE product IS 'Insurance products (Produkte)';
+
+-- ═══════════════════════════════════════════════════════════════
+-- TARIFF
+-- ═══════════════════════════════════════════════════════════════
+CREATE TABLE tariff (
+    id                  UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    product_id          UUID NOT NULL REFERENCES product(id),
+
+    code                VARCHAR(50) NOT NULL,
+    status              VARCHAR(20) NOT NULL DEFAULT 'DRAFT',
+    valid_from          DATE NOT NULL,
+    valid_to            DATE NOT NULL,
+    activated_at        TIMESTAMP WITH TIME ZONE,
+
+    -- Metadata
+    created_at          TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    updated_at          TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    version             BIGINT NOT NULL DEFAULT 0,
+
+    CONSTRAINT uk_tariff_code UNIQUE (product_id, code),
+    CONSTRAINT chk_tariff_status CHECK (status IN ('DRAFT', 'ACTIVE', 'INACTIVE')),
+    CONSTRAINT chk_tariff_valid CHECK (valid_to >= valid_from)
+);
+
+CREATE INDEX idx_tariff_product ON tariff(product_id);
+CREATE INDEX idx_tariff_active ON tariff(product_id, valid_from, valid_to) WHERE status = 'ACTIVE';
+
+COMMENT ON TABLE tariff IS 'Product versions with validity period (Tarife)';
+
+-- ═══════════════════════════════════════════════════════════════
+-- PREMIUM ENTRY
+-- ═══════════════════════════════════════════════════════════════
+CREATE TABLE premium_entry (
+    id                  UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    tariff_id           UUID NOT NULL REFERENCES tariff(id) ON DELETE CASCADE,
+
+    premium_region_id   UUID NOT NULL REFERENCES premium_region(id),
+    age_group           VARCHAR(20) NOT NULL,
+    franchise           VARCHAR(10),        -- KVG only
+    with_accident       BOOLEAN,            -- KVG only
+    gender              VARCHAR(10),        -- VVG gender-based pricing only
+
+    monthly_amount      NUMERIC(12, 2) NOT NULL,
+    currency            VARCHAR(3) NOT NULL DEFAULT 'CHF',
+
+    created_at          TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+
+    CONSTRAINT chk_premium_entry_age CHECK (age_group IN ('CHILD', 'YOUNG_ADULT', 'ADULT')),
+    CONSTRAINT chk_premium_entry_amount CHECK (monthly_amount >= 0)
+);
+
+CREATE UNIQUE INDEX uk_premium_entry_key ON premium_entry(
+    tariff_id, premium_region_id, age_group,
+    COALESCE(franchise, ''), COALESCE(with_accident, FALSE), COALESCE(gender, '')
+);
+
+COMMENT ON TABLE premium_entry IS 'Premium table rows per tariff (Prämientabelle)';
@@ -0,0 +1,28 @@
+/*
+ * Govinda ERP - Premium Entry Staging Migration
+ * Version: V040_1
+ * Description: Creates the staging table for bulk premium table imports
+ */
+
+-- ═══════════════════════════════════════════════════════════════
+-- PREMIUM ENTRY STAGING
+-- ═══════════════════════════════════════════════════════════════
+-- Imports COPY validated rows here and then swap them into premium_entry in
+-- one transaction. The table is UNLOGGED and has no foreign keys so that the
+-- bulk load is cheap; rows only live until their import is swapped or discarded.
+CREATE UNLOGGED TABLE premium_entry_staging (
+    import_id           UUID NOT NULL,
+    tariff_id           UUID NOT NULL,
+
+    premium_region_id   UUID NOT NULL,
+    age_group           VARCHAR(20) NOT NULL,
+    franchise           VARCHAR(10),
+    with_accident       BOOLEAN,
+    gender              VARCHAR(10),
+
+    monthly_amount      NUMERIC(12, 2) NOT NULL
+);
+
+CREATE INDEX idx_premium_entry_staging_import ON premium_entry_staging(import_id);
+
+COMMENT ON TABLE premium_entry_staging IS 'Staged rows of running premium table imports';
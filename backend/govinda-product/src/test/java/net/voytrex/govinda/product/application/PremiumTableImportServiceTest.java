@@ -0,0 +1,231 @@
+/*
+ * Govinda ERP - Premium Table Import Service Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.exception.BusinessRuleViolationException;
+import net.voytrex.govinda.common.domain.model.AgeGroup;
+import net.voytrex.govinda.common.domain.model.Canton;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.common.domain.model.Gender;
+import net.voytrex.govinda.common.domain.model.InsuranceModel;
+import net.voytrex.govinda.common.domain.model.LocalizedText;
+import net.voytrex.govinda.common.domain.model.ProductType;
+import net.voytrex.govinda.product.domain.model.PremiumImportBatch;
+import net.voytrex.govinda.product.domain.model.PremiumImportResult;
+import net.voytrex.govinda.product.domain.model.PremiumRegion;
+import net.voytrex.govinda.product.domain.model.Product;
+import net.voytrex.govinda.product.domain.model.Tariff;
+import net.voytrex.govinda.product.domain.repository.PremiumImportRepository;
+import net.voytrex.govinda.product.domain.repository.PremiumRegionRepository;
+import net.voytrex.govinda.product.domain.repository.TariffRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Tag("unit")
+@Tag("fast")
+class PremiumTableImportServiceTest {
+    private static final String KVG_HEADER = "premiumRegionCode,ageGroup,franchise,withAccident,monthlyAmount";
+    private static final List<PremiumRegion> REGIONS = List.of(
+        new PremiumRegion(UUID.randomUUID(), Canton.ZH, 1, "Zürich 1"),
+        new PremiumRegion(UUID.randomUUID(), Canton.ZH, 2, "Zürich 2"),
+        new PremiumRegion(UUID.randomUUID(), Canton.BE, 1, "Bern 1")
+    );
+
+    private final TariffRepository tariffRepository = mock(TariffRepository.class);
+    private final PremiumRegionRepository premiumRegionRepository = mock(PremiumRegionRepository.class);
+    private final PremiumImportRepository premiumImportRepository = mock(PremiumImportRepository.class);
+    private final PremiumTableImportService service = new PremiumTableImportService(
+        tariffRepository,
+        premiumRegionRepository,
+        premiumImportRepository,
+        mock(PlatformTransactionManager.class)
+    );
+    private final List<PremiumImportBatch> staged = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(premiumRegionRepository.findAll()).thenReturn(REGIONS);
+        doAnswer(invocation -> staged.addAll(invocation.getArgument(3)))
+            .when(premiumImportRepository).stage(any(), any(), any(), any());
+        when(premiumImportRepository.swap(any(), any()))
+            .thenAnswer(invocation -> staged.stream().mapToInt(PremiumImportBatch::size).sum());
+    }
+
+    @Nested
+    @DisplayName("KVG")
+    class Kvg {
+
+        @Test
+        void shouldStageAndSwapCompleteTable() {
+            Tariff tariff = draftTariff(ProductType.KVG);
+
+            PremiumImportResult result = service.importCsv(tariff.getId(), csv(KVG_HEADER, kvgRows()));
+
+            // 3 regions x (6 child + 6 young adult + 6 adult franchises) x 2 accident options
+            assertThat(result.imported()).isEqualTo(3 * 18 * 2);
+            verify(premiumImportRepository).swap(any(), eq(tariff.getId()));
+            PremiumImportBatch batch = staged.get(0);
+            assertThat(batch.ageGroup(0)).isEqualTo(AgeGroup.CHILD);
+            assertThat(batch.franchise(0)).isEqualTo(Franchise.CHF_0);
+            assertThat(batch.monthlyRappen(0)).isEqualTo(10_000L);
+        }
+
+        @Test
+        void shouldAcceptSemicolonsAndFranchiseAmounts() {
+            Tariff tariff = draftTariff(ProductType.KVG);
+            List<String> rows = kvgRows().stream()
+                .map(row -> row.replace(',', ';').replace("CHF_", ""))
+                .toList();
+
+            PremiumImportResult result = service.importCsv(tariff.getId(), csv(KVG_HEADER.replace(',', ';'), rows));
+
+            assertThat(result.imported()).isEqualTo(108);
+        }
+
+        @Test
+        void shouldReportMissingCombinations() {
+            Tariff tariff = draftTariff(ProductType.KVG);
+            List<String> rows = new ArrayList<>(kvgRows());
+            rows.remove("BE-1,ADULT,CHF_2500,true,100.00");
+
+            assertThatThrownBy(() -> service.importCsv(tariff.getId(), csv(KVG_HEADER, rows)))
+                .isInstanceOf(BusinessRuleViolationException.class)
+                .hasMessageContaining("1 of 108 entries missing")
+                .hasMessageContaining("BE-1/ADULT/CHF_2500/with accident");
+            verify(premiumImportRepository, never()).stage(any(), any(), any(), any());
+        }
+
+        @Test
+        void shouldRejectDuplicatesAndInvalidRowsWithLineNumbers() {
+            Tariff tariff = draftTariff(ProductType.KVG);
+            List<String> rows = new ArrayList<>(kvgRows());
+            rows.add("ZH-1,ADULT,CHF_300,false,99.00");
+            rows.add("ZH-1,CHILD,CHF_2500,false,10.00");
+            rows.add("GE-1,ADULT,CHF_300,false,10.00");
+            rows.add("ZH-1,ADULT,CHF_300,maybe,10.00");
+
+            assertThatThrownBy(() -> service.importCsv(tariff.getId(), csv(KVG_HEADER, rows)))
+                .isInstanceOf(BusinessRuleViolationException.class)
+                .hasMessageContaining("4 invalid rows")
+                .hasMessageContaining("line 110: duplicate entry ZH-1/ADULT/CHF_300/without accident")
+                .hasMessageContaining("line 111: franchise CHF_2500 is not allowed for CHILD")
+                .hasMessageContaining("line 112: unknown premium region GE-1")
+                .hasMessageContaining("line 113: withAccident must be true or false");
+            verify(premiumImportRepository, never()).stage(any(), any(), any(), any());
+        }
+
+        @Test
+        void shouldRejectMissingColumn() {
+            Tariff tariff = draftTariff(ProductType.KVG);
+
+            assertThatThrownBy(() -> service.importCsv(
+                tariff.getId(), csv("premiumRegionCode,ageGroup,franchise,monthlyAmount", List.of())
+            ))
+                .isInstanceOf(BusinessRuleViolationException.class)
+                .hasMessageContaining("missing column withAccident");
+        }
+    }
+
+    @Nested
+    @DisplayName("VVG")
+    class Vvg {
+
+        @Test
+        void shouldRequireMaleAndFemaleForGenderBasedTable() {
+            Tariff tariff = draftTariff(ProductType.VVG);
+            List<String> rows = new ArrayList<>();
+            for (PremiumRegion region : REGIONS) {
+                for (AgeGroup ageGroup : AgeGroup.values()) {
+                    rows.add(region.getCode() + "," + ageGroup + ",MALE,30.00");
+                    rows.add(region.getCode() + "," + ageGroup + ",FEMALE,32.50");
+                }
+            }
+
+            PremiumImportResult result = service.importCsv(
+                tariff.getId(), csv("premiumRegionCode,ageGroup,gender,monthlyAmount", rows)
+            );
+
+            assertThat(result.imported()).isEqualTo(18);
+            assertThat(staged.get(0).gender(1)).isEqualTo(Gender.FEMALE);
+        }
+    }
+
+    @Test
+    void shouldRejectImportIntoActiveTariff() {
+        Tariff tariff = draftTariff(ProductType.KVG);
+        tariff.activate();
+
+        assertThatThrownBy(() -> service.importCsv(tariff.getId(), csv(KVG_HEADER, kvgRows())))
+            .isInstanceOf(IllegalStateException.class);
+        verify(premiumImportRepository, never()).stage(any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldDiscardStagedRowsWhenSwapFails() {
+        Tariff tariff = draftTariff(ProductType.KVG);
+        when(premiumImportRepository.swap(any(), any())).thenThrow(new IllegalStateException("activated meanwhile"));
+
+        assertThatThrownBy(() -> service.importCsv(tariff.getId(), csv(KVG_HEADER, kvgRows())))
+            .isInstanceOf(IllegalStateException.class);
+        verify(premiumImportRepository).discard(any());
+    }
+
+    private Tariff draftTariff(ProductType productType) {
+        Product product = new Product(
+            UUID.randomUUID(),
+            productType + "_BASIC",
+            productType,
+            productType == ProductType.KVG ? InsuranceModel.STANDARD : null,
+            new LocalizedText("Produkt", "Produit", "Prodotto", "Product")
+        );
+        Tariff tariff = new Tariff(product, "2027-V1", LocalDate.of(2027, 1, 1), LocalDate.of(2027, 12, 31));
+        when(tariffRepository.findById(tariff.getId())).thenReturn(Optional.of(tariff));
+        return tariff;
+    }
+
+    private static List<String> kvgRows() {
+        List<String> rows = new ArrayList<>();
+        for (PremiumRegion region : REGIONS) {
+            for (AgeGroup ageGroup : AgeGroup.values()) {
+                for (Franchise franchise : Franchise.forAgeGroup(ageGroup)) {
+                    for (boolean accident : new boolean[]{false, true}) {
+                        rows.add(region.getCode() + "," + ageGroup + "," + franchise + "," + accident + ",100.00");
+                    }
+                }
+            }
+        }
+        return rows;
+    }
+
+    private static InputStream csv(String header, List<String> rows) {
+        return new ByteArrayInputStream(
+            (header + "\n" + String.join("\n", rows) + "\n").getBytes(StandardCharsets.UTF_8)
+        );
+    }
+}
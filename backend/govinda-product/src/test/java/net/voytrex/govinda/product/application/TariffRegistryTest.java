@@ -0,0 +1,274 @@
+/*
+ * Govinda ERP - Tariff Registry Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.AgeGroup;
+import net.voytrex.govinda.common.domain.model.Canton;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.common.domain.model.InsuranceModel;
+import net.voytrex.govinda.common.domain.model.LocalizedText;
+import net.voytrex.govinda.common.domain.model.ProductType;
+import net.voytrex.govinda.common.infrastructure.cache.CacheInvalidationBus;
+import net.voytrex.govinda.product.domain.model.PremiumRate;
+import net.voytrex.govinda.product.domain.model.PremiumRegion;
+import net.voytrex.govinda.product.domain.model.PremiumRegionIndex;
+import net.voytrex.govinda.product.domain.model.PremiumTable;
+import net.voytrex.govinda.product.domain.model.Product;
+import net.voytrex.govinda.product.domain.model.Tariff;
+import net.voytrex.govinda.product.domain.model.TariffSnapshot;
+import net.voytrex.govinda.product.domain.repository.PremiumEntryRepository;
+import net.voytrex.govinda.product.domain.repository.PremiumRegionRepository;
+import net.voytrex.govinda.product.domain.repository.PremiumTableSnapshotStore;
+import net.voytrex.govinda.product.domain.repository.TariffRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Tag("unit")
+@Tag("fast")
+class TariffRegistryTest {
+    private static final PremiumRegion ZH_1 = new PremiumRegion(UUID.randomUUID(), Canton.ZH, 1, "Zürich 1");
+
+    private final TariffRepository tariffRepository = mock(TariffRepository.class);
+    private final PremiumEntryRepository premiumEntryRepository = mock(PremiumEntryRepository.class);
+    private final PremiumRegionRepository premiumRegionRepository = mock(PremiumRegionRepository.class);
+    private final PremiumTableSnapshotStore snapshotStore = mock(PremiumTableSnapshotStore.class);
+    private final CacheInvalidationBus cacheInvalidationBus =
+        new CacheInvalidationBus(mock(JdbcTemplate.class), "govinda_cache_invalidation");
+    private final TariffRegistry registry = new TariffRegistry(
+        tariffRepository, premiumEntryRepository, premiumRegionRepository, snapshotStore, cacheInvalidationBus
+    );
+
+    @BeforeEach
+    void setUp() {
+        when(premiumRegionRepository.findAll()).thenReturn(List.of(ZH_1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Nested
+    @DisplayName("Activation")
+    class Activation {
+
+        @Test
+        void shouldPublishCompiledTableOnlyAfterCommit() {
+            Tariff tariff = activeTariff("450.00");
+            TransactionSynchronizationManager.initSynchronization();
+
+            registry.onTariffActivated(tariff);
+            TariffSnapshot beforeCommit = registry.current();
+            commit();
+
+            assertThat(beforeCommit.contains(tariff.getId())).isFalse();
+            assertThat(registry.current().contains(tariff.getId())).isTrue();
+            assertThat(registry.current().getVersion()).isGreaterThan(beforeCommit.getVersion());
+            verify(premiumEntryRepository, times(1)).findRatesByTariffId(tariff.getId());
+            verify(snapshotStore).save(registry.current().table(tariff.getId()));
+        }
+
+        @Test
+        void shouldLeaveSnapshotsHeldByReadersUnchanged() {
+            Tariff first = activeTariff("450.00");
+            registry.onTariffActivated(first);
+            TariffSnapshot held = registry.current();
+            Tariff second = activeTariff("380.50");
+
+            registry.onTariffActivated(second);
+
+            assertThat(held.size()).isEqualTo(1);
+            assertThat(held.contains(second.getId())).isFalse();
+            assertThat(registry.current().size()).isEqualTo(2);
+            assertThat(registry.current().table(first.getId())).isSameAs(held.table(first.getId()));
+        }
+
+        @Test
+        void shouldServeActivatedTableWithoutCompilingAgain() {
+            Tariff tariff = activeTariff("450.00");
+            registry.onTariffActivated(tariff);
+
+            PremiumTable table = registry.table(tariff);
+
+            int region = table.getRegions().indexOf(ZH_1.getId());
+            assertThat(table.premium(region, AgeGroup.ADULT, Franchise.CHF_300, false)).isEqualTo(45_000L);
+            verify(premiumEntryRepository, times(1)).findRatesByTariffId(tariff.getId());
+        }
+    }
+
+    @Nested
+    @DisplayName("Eviction")
+    class Eviction {
+
+        @Test
+        void shouldDropTableOnDeactivation() {
+            Tariff tariff = activeTariff("450.00");
+            registry.onTariffActivated(tariff);
+
+            registry.onTariffDeactivated(tariff);
+
+            assertThat(registry.current().contains(tariff.getId())).isFalse();
+            verify(snapshotStore).delete(tariff.getId());
+        }
+
+        @Test
+        void shouldCompileOnFirstUseAfterEvictingAll() {
+            Tariff tariff = activeTariff("450.00");
+            registry.onTariffActivated(tariff);
+            long version = registry.current().getVersion();
+
+            cacheInvalidationBus.evictAllLocally();
+            PremiumTable table = registry.table(tariff);
+
+            assertThat(table.getTariffId()).isEqualTo(tariff.getId());
+            assertThat(registry.current().getVersion()).isEqualTo(version + 2);
+            verify(premiumEntryRepository, times(2)).findRatesByTariffId(tariff.getId());
+        }
+
+        @Test
+        void shouldNotPublishTableEvictedWhileCompiling() {
+            Tariff tariff = activeTariff("450.00");
+            List<PremiumRate> rates = premiumEntryRepository.findRatesByTariffId(tariff.getId());
+            when(premiumEntryRepository.findRatesByTariffId(tariff.getId())).thenAnswer(invocation -> {
+                registry.evictSerializedKey(tariff.getId().toString());
+                return rates;
+            });
+
+            PremiumTable table = registry.table(tariff);
+
+            assertThat(table.getTariffId()).isEqualTo(tariff.getId());
+            assertThat(registry.current().contains(tariff.getId())).isFalse();
+        }
+
+        @Test
+        void shouldKeepTableActivatedWhileAnotherTariffWasEvicted() {
+            Tariff other = activeTariff("380.50");
+            registry.onTariffActivated(other);
+            Tariff tariff = activeTariff("450.00");
+            TransactionSynchronizationManager.initSynchronization();
+
+            registry.onTariffActivated(tariff);
+            registry.evictSerializedKey(other.getId().toString());
+            commit();
+
+            assertThat(registry.current().contains(tariff.getId())).isTrue();
+            assertThat(registry.current().contains(other.getId())).isFalse();
+            verify(premiumEntryRepository, times(1)).findRatesByTariffId(tariff.getId());
+        }
+
+        @Test
+        void shouldWithdrawTableActivatedWhileAllWereEvicted() {
+            Tariff tariff = activeTariff("450.00");
+            TransactionSynchronizationManager.initSynchronization();
+
+            registry.onTariffActivated(tariff);
+            cacheInvalidationBus.evictAllLocally();
+            commit();
+
+            assertThat(registry.current().contains(tariff.getId())).isFalse();
+        }
+
+        @Test
+        void shouldReloadRegionsAfterEvictingAll() {
+            PremiumRegion zh2 = new PremiumRegion(UUID.randomUUID(), Canton.ZH, 2, "Zürich 2");
+            assertThat(registry.regions().size()).isEqualTo(1);
+            when(premiumRegionRepository.findAll()).thenReturn(List.of(ZH_1, zh2));
+
+            cacheInvalidationBus.evictAllLocally();
+
+            assertThat(registry.regions().indexOf(zh2.getId())).isNotEqualTo(PremiumRegionIndex.UNKNOWN);
+            verify(premiumRegionRepository, times(2)).findAll();
+        }
+    }
+
+    @Nested
+    @DisplayName("Preload")
+    class Preload {
+
+        @Test
+        void shouldRestoreSnapshotsWithoutReadingPremiumEntries() {
+            Tariff tariff = activeTariff("450.00");
+            PremiumTable stored = registry.compile(tariff);
+            when(tariffRepository.findAllActive()).thenReturn(List.of(tariff));
+            when(snapshotStore.load(tariff.getId(), registry.regions())).thenReturn(Optional.of(stored));
+
+            int preloaded = registry.preload();
+
+            assertThat(preloaded).isEqualTo(1);
+            assertThat(registry.table(tariff)).isSameAs(stored);
+            verify(premiumEntryRepository, times(1)).findRatesByTariffId(tariff.getId());
+            verify(snapshotStore, never()).save(any());
+        }
+
+        @Test
+        void shouldCompileAndStoreTariffsWithoutValidSnapshot() {
+            Tariff tariff = activeTariff("450.00");
+            when(tariffRepository.findAllActive()).thenReturn(List.of(tariff));
+
+            registry.preload();
+
+            PremiumTable table = registry.current().table(tariff.getId());
+            assertThat(table).isNotNull();
+            verify(snapshotStore).save(table);
+        }
+
+        @Test
+        void shouldKeepTablesPublishedBeforePreload() {
+            Tariff tariff = activeTariff("450.00");
+            PremiumTable published = registry.table(tariff);
+            when(tariffRepository.findAllActive()).thenReturn(List.of(tariff));
+
+            registry.preload();
+
+            assertThat(registry.current().table(tariff.getId())).isSameAs(published);
+        }
+    }
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+    }
+
+    private Tariff activeTariff(String adultPremium) {
+        Product product = new Product(
+            UUID.randomUUID(),
+            "KVG_STD",
+            ProductType.KVG,
+            InsuranceModel.STANDARD,
+            new LocalizedText("Grundversicherung", "Assurance de base", "Assicurazione di base", "Basic insurance")
+        );
+        Tariff tariff = new Tariff(product, "2026-V1", LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31));
+        tariff.activate();
+        when(premiumEntryRepository.findRatesByTariffId(tariff.getId())).thenReturn(List.of(
+            new PremiumRate(ZH_1.getId(), AgeGroup.ADULT, Franchise.CHF_300, false, null, new BigDecimal(adultPremium))
+        ));
+        return tariff;
+    }
+}
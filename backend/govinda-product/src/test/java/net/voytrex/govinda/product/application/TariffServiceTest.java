@@ -0,0 +1,88 @@
+/*
+ * Govinda ERP - Tariff Service Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.exception.EntityNotFoundException;
+import net.voytrex.govinda.common.domain.model.InsuranceModel;
+import net.voytrex.govinda.common.domain.model.LocalizedText;
+import net.voytrex.govinda.common.domain.model.ProductType;
+import net.voytrex.govinda.product.domain.model.Product;
+import net.voytrex.govinda.product.domain.model.Tariff;
+import net.voytrex.govinda.product.domain.model.TariffStatus;
+import net.voytrex.govinda.product.domain.repository.TariffRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@Tag("fast")
+class TariffServiceTest {
+    private final TariffRepository tariffRepository = mock(TariffRepository.class);
+    private final TariffActivationListener listener = mock(TariffActivationListener.class);
+    private final TariffService service = new TariffService(tariffRepository, List.of(listener));
+
+    @Test
+    void shouldActivateAndNotifyListeners() {
+        Tariff tariff = draftTariff();
+        when(tariffRepository.findById(tariff.getId())).thenReturn(Optional.of(tariff));
+        when(tariffRepository.save(tariff)).thenReturn(tariff);
+
+        Tariff activated = service.activate(tariff.getId());
+
+        assertThat(activated.getStatus()).isEqualTo(TariffStatus.ACTIVE);
+        verify(listener).onTariffActivated(tariff);
+    }
+
+    @Test
+    void shouldNotNotifyWhenActivationIsRejected() {
+        Tariff tariff = draftTariff();
+        tariff.activate();
+        when(tariffRepository.findById(tariff.getId())).thenReturn(Optional.of(tariff));
+
+        assertThatThrownBy(() -> service.activate(tariff.getId())).isInstanceOf(IllegalStateException.class);
+        verify(listener, never()).onTariffActivated(any());
+    }
+
+    @Test
+    void shouldNotifyDeactivation() {
+        Tariff tariff = draftTariff();
+        tariff.activate();
+        when(tariffRepository.findById(tariff.getId())).thenReturn(Optional.of(tariff));
+        when(tariffRepository.save(tariff)).thenReturn(tariff);
+
+        service.deactivate(tariff.getId());
+
+        verify(listener).onTariffDeactivated(tariff);
+    }
+
+    @Test
+    void shouldThrowForUnknownTariff() {
+        UUID id = UUID.randomUUID();
+        when(tariffRepository.findById(id)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.activate(id)).isInstanceOf(EntityNotFoundException.class);
+    }
+
+    private static Tariff draftTariff() {
+        Product product = new Product(
+            UUID.randomUUID(), "KVG_STD", ProductType.KVG, InsuranceModel.STANDARD,
+            new LocalizedText("Standard", "Standard", "Standard", "Standard")
+        );
+        return new Tariff(product, "2027-V1", LocalDate.of(2027, 1, 1), LocalDate.of(2027, 12, 31));
+    }
+}
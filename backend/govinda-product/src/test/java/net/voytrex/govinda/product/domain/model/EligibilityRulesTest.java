@@ -0,0 +1,81 @@
+/*
+ * Govinda ERP - Eligibility Rules Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.AgeGroup;
+import net.voytrex.govinda.common.domain.model.Canton;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.common.domain.model.Gender;
+import net.voytrex.govinda.common.domain.model.ProductType;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@Tag("fast")
+class EligibilityRulesTest {
+    private static final PremiumRegion ZH_1 = new PremiumRegion(UUID.randomUUID(), Canton.ZH, 1, "Zürich 1");
+    private static final PremiumRegion BE_1 = new PremiumRegion(UUID.randomUUID(), Canton.BE, 1, "Bern 1");
+
+    private final PremiumRegionIndex regions = PremiumRegionIndex.of(List.of(ZH_1, BE_1));
+    private final int zh = regions.indexOf(ZH_1.getId());
+    private final int be = regions.indexOf(BE_1.getId());
+
+    @Test
+    void shouldAllowPricedKvgFranchisesPermittedForTheAgeGroup() {
+        EligibilityRules rules = PremiumTable.compile(UUID.randomUUID(), ProductType.KVG, regions, List.of(
+            kvgRate(AgeGroup.ADULT, Franchise.CHF_300),
+            kvgRate(AgeGroup.ADULT, Franchise.CHF_2500),
+            kvgRate(AgeGroup.ADULT, Franchise.CHF_0),
+            kvgRate(AgeGroup.CHILD, Franchise.CHF_0)
+        )).getEligibility();
+
+        assertThat(rules.franchises(zh, AgeGroup.ADULT)).containsExactly(Franchise.CHF_300, Franchise.CHF_2500);
+        assertThat(rules.isEligible(zh, AgeGroup.ADULT, Franchise.CHF_0)).isFalse();
+        assertThat(rules.isEligible(zh, AgeGroup.CHILD, Franchise.CHF_0)).isTrue();
+        assertThat(rules.isEligible(zh, AgeGroup.YOUNG_ADULT)).isFalse();
+        assertThat(rules.isOffered(zh)).isTrue();
+        assertThat(rules.isOffered(be)).isFalse();
+        assertThat(rules.isEligible(PremiumRegionIndex.UNKNOWN, AgeGroup.ADULT)).isFalse();
+        assertThat(rules.franchises(be, AgeGroup.ADULT)).isEmpty();
+    }
+
+    @Test
+    void shouldDeriveVvgAgeLimitsFromPricedAgeGroups() {
+        EligibilityRules rules = PremiumTable.compile(UUID.randomUUID(), ProductType.VVG, regions, List.of(
+            new PremiumRate(ZH_1.getId(), AgeGroup.CHILD, null, false, Gender.FEMALE, new BigDecimal("20.00")),
+            new PremiumRate(ZH_1.getId(), AgeGroup.YOUNG_ADULT, null, false, null, new BigDecimal("40.00"))
+        )).getEligibility();
+
+        assertThat(rules.isEligible(zh, AgeGroup.CHILD)).isTrue();
+        assertThat(rules.isEligible(zh, AgeGroup.YOUNG_ADULT)).isTrue();
+        assertThat(rules.isEligible(zh, AgeGroup.ADULT)).isFalse();
+        assertThat(rules.isEligible(zh, AgeGroup.CHILD, Franchise.CHF_0)).isFalse();
+    }
+
+    @Test
+    void shouldTellInWhichRegionsTheTariffIsOffered() {
+        PremiumTable table = PremiumTable.compile(UUID.randomUUID(), ProductType.KVG, regions, List.of(
+            kvgRate(AgeGroup.ADULT, Franchise.CHF_300)
+        ));
+
+        EligibilityRules rules = table.getEligibility();
+
+        assertThat(rules.isOffered(zh)).isTrue();
+        assertThat(rules.isOffered(be)).isFalse();
+        assertThat(rules.isOffered(PremiumRegionIndex.UNKNOWN)).isFalse();
+        assertThat(table.getEligibility()).isSameAs(rules);
+    }
+
+    private static PremiumRate kvgRate(AgeGroup ageGroup, Franchise franchise) {
+        return new PremiumRate(ZH_1.getId(), ageGroup, franchise, false, null, new BigDecimal("300.00"));
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Govinda ERP - Premium Table Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.exception.PremiumCalculationException;
+import net.voytrex.govinda.common.domain.model.AgeGroup;
+import net.voytrex.govinda.common.domain.model.Canton;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.common.domain.model.Gender;
+import net.voytrex.govinda.common.domain.model.ProductType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@Tag("fast")
+class PremiumTableTest {
+    private static final UUID TARIFF_ID = UUID.randomUUID();
+    private static final PremiumRegion ZH_1 = new PremiumRegion(UUID.randomUUID(), Canton.ZH, 1, "Zürich 1");
+    private static final PremiumRegion ZH_2 = new PremiumRegion(UUID.randomUUID(), Canton.ZH, 2, "Zürich 2");
+    private static final PremiumRegion BE_1 = new PremiumRegion(UUID.randomUUID(), Canton.BE, 1, "Bern 1");
+
+    private final PremiumRegionIndex regions = PremiumRegionIndex.of(List.of(BE_1, ZH_2, ZH_1));
+
+    @Nested
+    @DisplayName("Region index")
+    class RegionIndex {
+
+        @Test
+        void shouldOrderRegionsByCantonAndNumber() {
+            assertThat(regions.size()).isEqualTo(3);
+            assertThat(regions.code(0)).isEqualTo("ZH-1");
+            assertThat(regions.code(1)).isEqualTo("ZH-2");
+            assertThat(regions.code(2)).isEqualTo("BE-1");
+            assertThat(regions.indexOf(BE_1.getId())).isEqualTo(2);
+            assertThat(regions.indexOfCode("ZH-2")).isEqualTo(1);
+            assertThat(regions.canton(2)).isEqualTo(Canton.BE);
+        }
+
+        @Test
+        void shouldReturnUnknownForMissingRegion() {
+            assertThat(regions.indexOf(UUID.randomUUID())).isEqualTo(PremiumRegionIndex.UNKNOWN);
+            assertThat(regions.indexOfCode("GE-1")).isEqualTo(PremiumRegionIndex.UNKNOWN);
+        }
+    }
+
+    @Nested
+    @DisplayName("KVG")
+    class Kvg {
+
+        @Test
+        void shouldLookUpEveryCompiledCombination() {
+            List<PremiumRate> rates = new ArrayList<>();
+            for (PremiumRegion region : List.of(ZH_1, ZH_2, BE_1)) {
+                for (AgeGroup ageGroup : AgeGroup.values()) {
+                    for (Franchise franchise : Franchise.forAgeGroup(ageGroup)) {
+                        for (boolean accident : new boolean[]{false, true}) {
+                            rates.add(kvgRate(region, ageGroup, franchise, accident, amount(region, ageGroup, franchise, accident)));
+                        }
+                    }
+                }
+            }
+
+            PremiumTable table = PremiumTable.compile(TARIFF_ID, ProductType.KVG, regions, rates);
+
+            assertThat(table.getEntryCount()).isEqualTo(rates.size());
+            for (PremiumRate rate : rates) {
+                int region = regions.indexOf(rate.premiumRegionId());
+                assertThat(table.premium(region, rate.ageGroup(), rate.franchise(), rate.withAccident()))
+                    .isEqualTo(rate.monthlyAmount().movePointRight(2).longValueExact());
+            }
+        }
+
+        @Test
+        void shouldReturnNoPremiumForMissingCombination() {
+            PremiumTable table = PremiumTable.compile(
+                TARIFF_ID, ProductType.KVG, regions,
+                List.of(kvgRate(ZH_1, AgeGroup.ADULT, Franchise.CHF_300, true, new BigDecimal("485.20")))
+            );
+
+            assertThat(table.premium(0, AgeGroup.ADULT, Franchise.CHF_300, true)).isEqualTo(48_520L);
+            assertThat(table.premium(0, AgeGroup.ADULT, Franchise.CHF_300, false)).isEqualTo(PremiumTable.NO_PREMIUM);
+            assertThat(table.premium(1, AgeGroup.ADULT, Franchise.CHF_300, true)).isEqualTo(PremiumTable.NO_PREMIUM);
+        }
+
+        @Test
+        void shouldReturnNoPremiumForRegionsOutsideTheIndex() {
+            PremiumTable table = PremiumTable.compile(
+                TARIFF_ID, ProductType.KVG, regions,
+                List.of(kvgRate(ZH_1, AgeGroup.ADULT, Franchise.CHF_300, true, new BigDecimal("485.20")))
+            );
+
+            assertThat(table.premium(PremiumRegionIndex.UNKNOWN, AgeGroup.ADULT, Franchise.CHF_300, true))
+                .isEqualTo(PremiumTable.NO_PREMIUM);
+            assertThat(table.premium(regions.size(), AgeGroup.ADULT, Franchise.CHF_300, true))
+                .isEqualTo(PremiumTable.NO_PREMIUM);
+            assertThat(table.premium(PremiumRegionIndex.UNKNOWN, AgeGroup.ADULT, Gender.FEMALE))
+                .isEqualTo(PremiumTable.NO_PREMIUM);
+        }
+
+        @Test
+        void shouldRejectNegativePremiums() {
+            PremiumRate refund = kvgRate(ZH_1, AgeGroup.ADULT, Franchise.CHF_300, true, new BigDecimal("-0.01"));
+
+            assertThatThrownBy(() -> PremiumTable.compile(TARIFF_ID, ProductType.KVG, regions, List.of(refund)))
+                .isInstanceOf(PremiumCalculationException.class)
+                .hasMessageContaining("negative premium");
+        }
+
+        @Test
+        void shouldRejectDuplicatesUnknownRegionsAndMissingFranchise() {
+            PremiumRate rate = kvgRate(ZH_1, AgeGroup.ADULT, Franchise.CHF_300, true, BigDecimal.TEN);
+            PremiumRate unknownRegion = new PremiumRate(
+                UUID.randomUUID(), AgeGroup.ADULT, Franchise.CHF_300, true, null, BigDecimal.TEN
+            );
+            PremiumRate noFranchise = new PremiumRate(ZH_1.getId(), AgeGroup.ADULT, null, true, null, BigDecimal.TEN);
+
+            assertThatThrownBy(() -> PremiumTable.compile(TARIFF_ID, ProductType.KVG, regions, List.of(rate, rate)))
+                .isInstanceOf(PremiumCalculationException.class)
+                .hasMessageContaining("duplicate");
+            assertThatThrownBy(() -> PremiumTable.compile(TARIFF_ID, ProductType.KVG, regions, List.of(unknownRegion)))
+                .isInstanceOf(PremiumCalculationException.class)
+                .hasMessageContaining("unknown premium region");
+            assertThatThrownBy(() -> PremiumTable.compile(TARIFF_ID, ProductType.KVG, regions, List.of(noFranchise)))
+                .isInstanceOf(PremiumCalculationException.class)
+                .hasMessageContaining("requires a franchise");
+        }
+    }
+
+    @Nested
+    @DisplayName("VVG")
+    class Vvg {
+
+        @Test
+        void shouldPreferGenderSpecificOverUnisexPremium() {
+            PremiumTable table = PremiumTable.compile(
+                TARIFF_ID, ProductType.VVG, regions,
+                List.of(
+                    new PremiumRate(ZH_1.getId(), AgeGroup.ADULT, null, false, null, new BigDecimal("85.00")),
+                    new PremiumRate(ZH_1.getId(), AgeGroup.ADULT, null, false, Gender.FEMALE, new BigDecimal("92.00"))
+                )
+            );
+
+            assertThat(table.premium(0, AgeGroup.ADULT, Gender.FEMALE)).isEqualTo(9_200L);
+            assertThat(table.premium(0, AgeGroup.ADULT, Gender.MALE)).isEqualTo(8_500L);
+            assertThat(table.premium(0, AgeGroup.ADULT, null)).isEqualTo(8_500L);
+            assertThat(table.premium(0, AgeGroup.CHILD, null)).isEqualTo(PremiumTable.NO_PREMIUM);
+        }
+
+        @Test
+        void shouldRejectFranchiseOnVvgRate() {
+            PremiumRate rate = kvgRate(ZH_1, AgeGroup.ADULT, Franchise.CHF_300, false, BigDecimal.ONE);
+
+            assertThatThrownBy(() -> PremiumTable.compile(TARIFF_ID, ProductType.VVG, regions, List.of(rate)))
+                .isInstanceOf(PremiumCalculationException.class);
+        }
+    }
+
+    private static PremiumRate kvgRate(
+        PremiumRegion region,
+        AgeGroup ageGroup,
+        Franchise franchise,
+        boolean withAccident,
+        BigDecimal amount
+    ) {
+        return new PremiumRate(region.getId(), ageGroup, franchise, withAccident, null, amount);
+    }
+
+    private static BigDecimal amount(PremiumRegion region, AgeGroup ageGroup, Franchise franchise, boolean accident) {
+        long rappen = 20_000L + region.getRegionNumber() * 1_000L + ageGroup.ordinal() * 5_000L
+            - franchise.getAmount() * 5L + (accident ? 2_500L : 0L);
+        return BigDecimal.valueOf(rappen, 2);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Govinda ERP - Tariff Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.InsuranceModel;
+import net.voytrex.govinda.common.domain.model.LocalizedText;
+import net.voytrex.govinda.common.domain.model.ProductType;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@Tag("fast")
+class TariffTest {
+    private final Product product = new Product(
+        UUID.randomUUID(),
+        "KVG_HMO",
+        ProductType.KVG,
+        InsuranceModel.HMO,
+        new LocalizedText("HMO", "HMO", "HMO", "HMO")
+    );
+
+    @Test
+    void shouldMoveThroughLifecycle() {
+        Tariff tariff = new Tariff(product, "2026-V1", LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31));
+
+        tariff.requireDraft();
+        tariff.activate();
+
+        assertThat(tariff.getStatus()).isEqualTo(TariffStatus.ACTIVE);
+        assertThat(tariff.getActivatedAt()).isNotNull();
+        assertThatThrownBy(tariff::activate).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(tariff::requireDraft).isInstanceOf(IllegalStateException.class);
+
+        tariff.deactivate();
+        assertThat(tariff.getStatus()).isEqualTo(TariffStatus.INACTIVE);
+        assertThatThrownBy(tariff::activate).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldCheckValidityInclusively() {
+        Tariff tariff = new Tariff(product, "2026-V1", LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31));
+
+        assertThat(tariff.isValidOn(LocalDate.of(2026, 1, 1))).isTrue();
+        assertThat(tariff.isValidOn(LocalDate.of(2026, 12, 31))).isTrue();
+        assertThat(tariff.isValidOn(LocalDate.of(2027, 1, 1))).isFalse();
+    }
+
+    @Test
+    void shouldRequireModelForKvgProducts() {
+        LocalizedText name = new LocalizedText("X", "X", "X", "X");
+
+        assertThatThrownBy(() -> new Product(UUID.randomUUID(), "KVG", ProductType.KVG, null, name))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new Product(UUID.randomUUID(), "VVG", ProductType.VVG, InsuranceModel.HMO, name))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Govinda ERP - File Premium Table Snapshot Store Tests
+ * Copyright 2026 Voytrex
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.voytrex.govinda.product.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import net.voytrex.govinda.common.domain.model.AgeGroup;
+import net.voytrex.govinda.common.domain.model.Canton;
+import net.voytrex.govinda.common.domain.model.Franchise;
+import net.voytrex.govinda.common.domain.model.Gender;
+import net.voytrex.govinda.common.domain.model.ProductType;
+import net.voytrex.govinda.product.domain.model.PremiumRate;
+import net.voytrex.govinda.product.domain.model.PremiumRegion;
+import net.voytrex.govinda.product.domain.model.PremiumRegionIndex;
+import net.voytrex.govinda.product.domain.model.PremiumTable;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@Tag("unit")
+@Tag("fast")
+class FilePremiumTableSnapshotStoreTest {
+    private static final PremiumRegion ZH_1 = new PremiumRegion(UUID.randomUUID(), Canton.ZH, 1, "Zürich 1");
+    private static final PremiumRegion BE_1 = new PremiumRegion(UUID.randomUUID(), Canton.BE, 1, "Bern 1");
+    private static final PremiumRegionIndex REGIONS = PremiumRegionIndex.of(List.of(ZH_1, BE_1));
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldRestoreKvgTableFromMappedSnapshot() {
+        FilePremiumTableSnapshotStore store = new FilePremiumTableSnapshotStore(directory);
+        PremiumTable table = kvgTable();
+
+        store.save(table);
+        Optional<PremiumTable> restored = store.load(table.getTariffId(), REGIONS);
+
+        assertThat(restored).isPresent();
+        PremiumTable loaded = restored.get();
+        int be = REGIONS.indexOf(BE_1.getId());
+        assertThat(loaded.getProductType()).isEqualTo(ProductType.KVG);
+        assertThat(loaded.getEntryCount()).isEqualTo(2);
+        assertThat(loaded.premium(be, AgeGroup.ADULT, Franchise.CHF_300, true)).isEqualTo(41_025L);
+        assertThat(loaded.premium(be, AgeGroup.CHILD, Franchise.CHF_0, false)).isEqualTo(9_990L);
+        assertThat(loaded.premium(be, AgeGroup.ADULT, Franchise.CHF_300, false)).isEqualTo(PremiumTable.NO_PREMIUM);
+        assertThat(loaded.getRappen()).isEqualTo(table.getRappen());
+    }
+
+    @Test
+    void shouldRestoreVvgTable() {
+        FilePremiumTableSnapshotStore store = new FilePremiumTableSnapshotStore(directory);
+        UUID tariffId = UUID.randomUUID();
+        PremiumTable table = PremiumTable.compile(tariffId, ProductType.VVG, REGIONS, List.of(
+            new PremiumRate(ZH_1.getId(), AgeGroup.ADULT, null, false, Gender.FEMALE, new BigDecimal("55.10"))
+        ));
+
+        store.save(table);
+
+        PremiumTable loaded = store.load(tariffId, REGIONS).orElseThrow();
+        assertThat(loaded.getProductType()).isEqualTo(ProductType.VVG);
+        assertThat(loaded.premium(REGIONS.indexOf(ZH_1.getId()), AgeGroup.ADULT, Gender.FEMALE)).isEqualTo(5_510L);
+    }
+
+    @Test
+    void shouldRejectCorruptedSnapshot() throws IOException {
+        FilePremiumTableSnapshotStore store = new FilePremiumTableSnapshotStore(directory);
+        PremiumTable table = kvgTable();
+        store.save(table);
+        Path file = store.file(table.getTariffId());
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length / 2] ^= 0x01;
+        Files.write(file, bytes);
+
+        assertThat(store.load(table.getTariffId(), REGIONS)).isEmpty();
+    }
+
+    @Test
+    void shouldRejectSnapshotOfOtherRegionDictionary() {
+        FilePremiumTableSnapshotStore store = new FilePremiumTableSnapshotStore(directory);
+        PremiumTable table = kvgTable();
+        store.save(table);
+        PremiumRegion zh2 = new PremiumRegion(UUID.randomUUID(), Canton.ZH, 2, "Zürich 2");
+
+        assertThat(store.load(table.getTariffId(), PremiumRegionIndex.of(List.of(ZH_1, zh2, BE_1)))).isEmpty();
+    }
+
+    @Test
+    void shouldReturnEmptyForMissingOrDeletedSnapshot() {
+        FilePremiumTableSnapshotStore store = new FilePremiumTableSnapshotStore(directory);
+        PremiumTable table = kvgTable();
+        store.save(table);
+
+        store.delete(table.getTariffId());
+
+        assertThat(store.load(table.getTariffId(), REGIONS)).isEmpty();
+        assertThat(store.load(UUID.randomUUID(), REGIONS)).isEmpty();
+    }
+
+    private static PremiumTable kvgTable() {
+        return PremiumTable.compile(UUID.randomUUID(), ProductType.KVG, REGIONS, List.of(
+            new PremiumRate(BE_1.getId(), AgeGroup.ADULT, Franchise.CHF_300, true, null, new BigDecimal("410.25")),
+            new PremiumRate(BE_1.getId(), AgeGroup.CHILD, Franchise.CHF_0, false, null, new BigDecimal("99.90"))
+        ));
+    }
+}
@@ -0,0 +1,145 @@
+#!/bin/bash
+# Portal load test - compares platform-thread and virtual-thread request execution
+#
+# Starts the app twice against the local docker-compose PostgreSQL, once with
+# VIRTUAL_THREADS_ENABLED=false and once with true, and drives the portal
+# profile and case endpoints with `hey` at increasing concurrency.
+#
+# Requires: hey (https://github.com/rakyll/hey), curl, a built app jar.
+#
+# Usage:
+#   ./scripts/load-test-portal.sh --tenant <uuid> --subject <portal-subject> --token <jwt>
+#   ./scripts/load-test-portal.sh ... --concurrency "50 200 1000" --duration 30s
+
+set -e  # Exit on error
+
+echo "=========================================="
+echo "Govinda ERP - Portal Load Test"
+echo "=========================================="
+echo ""
+
+# Parse arguments
+TENANT_ID=""
+SUBJECT=""
+TOKEN=""
+CONCURRENCY="50 200 1000"
+DURATION="30s"
+PORT=8080
+JAR=$(ls backend/govinda-app/target/govinda-app-*.jar 2>/dev/null | grep -v original | head -1)
+RESULTS_DIR="target/load-test/$(date +%Y%m%d-%H%M%S)"
+
+while [[ $# -gt 0 ]]; do
+    case $1 in
+        --tenant)
+            TENANT_ID="$2"
+            shift 2
+            ;;
+        --subject)
+            SUBJECT="$2"
+            shift 2
+            ;;
+        --token)
+            TOKEN="$2"
+            shift 2
+            ;;
+        --concurrency)
+            CONCURRENCY="$2"
+            shift 2
+            ;;
+        --duration)
+            DURATION="$2"
+            shift 2
+            ;;
+        --jar)
+            JAR="$2"
+            shift 2
+            ;;
+        *)
+            echo "Unknown option: $1"
+            exit 1
+            ;;
+    esac
+done
+
+if [[ -z "$TENANT_ID" || -z "$SUBJECT" || -z "$TOKEN" ]]; then
+    echo "❌ --tenant, --subject and --token are required"
+    exit 1
+fi
+if ! command -v hey > /dev/null; then
+    echo "❌ hey not found (go install github.com/rakyll/hey@latest)"
+    exit 1
+fi
+if [[ -z "$JAR" ]]; then
+    echo "❌ App jar not found; run: mvn -pl backend/govinda-app -am package -DskipTests"
+    exit 1
+fi
+
+mkdir -p "$RESULTS_DIR"
+
+# Stop a started app on any exit, including a failed health wait under set -e
+APP_PID=""
+trap '[[ -n "$APP_PID" ]] && kill "$APP_PID" 2> /dev/null' EXIT
+
+wait_for_app() {
+    for _ in $(seq 1 60); do
+        if curl -sf "http://localhost:${PORT}/actuator/health" > /dev/null; then
+            return 0
+        fi
+        sleep 1
+    done
+    echo "❌ App did not become healthy"
+    return 1
+}
+
+run_mode() {
+    local mode=$1
+    local virtual=$2
+
+    echo "→ Starting app (virtual threads: ${virtual})..."
+    VIRTUAL_THREADS_ENABLED=$virtual java -jar "$JAR" --server.port=$PORT > "$RESULTS_DIR/app-${mode}.log" 2>&1 &
+    APP_PID=$!
+    wait_for_app
+
+    for endpoint in profile cases; do
+        for c in $CONCURRENCY; do
+            echo "   ${mode} /${endpoint} c=${c}"
+            hey -z "$DURATION" -c "$c" \
+                -H "Authorization: Bearer ${TOKEN}" \
+                -H "X-Tenant-Id: ${TENANT_ID}" \
+                -H "X-Portal-Subject: ${SUBJECT}" \
+                "http://localhost:${PORT}/api/portal/v1/${endpoint}" \
+                > "$RESULTS_DIR/${mode}-${endpoint}-c${c}.txt"
+        done
+    done
+
+    for metric in govinda.virtual-threads.pinned govinda.datasource.permits.waiting; do
+        curl -s "http://localhost:${PORT}/actuator/metrics/${metric}" \
+            > "$RESULTS_DIR/${mode}-${metric}.json" || true
+    done
+
+    kill "$APP_PID"
+    wait "$APP_PID" 2> /dev/null || true
+    APP_PID=""
+    echo "✅ ${mode} done"
+    echo ""
+}
+
+run_mode platform false
+run_mode virtual true
+
+echo "=========================================="
+echo "Results (requests/sec, p99 latency)"
+echo "=========================================="
+printf "%-10s %-8s %-10s %-14s %-14s\n" "endpoint" "conc." "mode" "req/s" "p99"
+for endpoint in profile cases; do
+    for c in $CONCURRENCY; do
+        for mode in platform virtual; do
+            file="$RESULTS_DIR/${mode}-${endpoint}-c${c}.txt"
+            rps=$(grep "Requests/sec" "$file" | awk '{print $2}')
+            p99=$(grep "99% in" "$file" | awk '{print $3 " " $4}')
+            printf "%-10s %-8s %-10s %-14s %-14s\n" "$endpoint" "$c" "$mode" "$rps" "$p99"
+        done
+    done
+done
+echo ""
+echo "Raw output: $RESULTS_DIR"